@@ -0,0 +1,111 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.benchmark;
+
+import com.speedment.benchmark.model.City;
+import com.speedment.benchmark.model.CitySqlAdapter;
+import com.speedment.benchmark.support.BenchmarkDatabase;
+import com.speedment.runtime.core.db.SqlFunction;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures how long it takes to map a {@link ResultSet} to entities using a
+ * {@code SqlAdapter}. The {@link #readColumns(Blackhole)} baseline reads the
+ * same columns without creating any entities, so the difference between the
+ * two is the cost of the mapping. The {@link #reusingEntityMapper(Blackhole)}
+ * benchmark refills a single entity instead of creating one per row.
+ *
+ * @since   3.1.5
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityMappingBenchmark {
+
+    private BenchmarkDatabase database;
+    private PreparedStatement statement;
+    private SqlFunction<ResultSet, City> mapper;
+    private SqlFunction<ResultSet, City> reusingMapper;
+
+    @Setup
+    public void setup() throws SQLException {
+        database  = new BenchmarkDatabase(100, 1_000);
+        statement = database.connection().prepareStatement(
+            "SELECT \"id\",\"name\",\"population\",\"country_id\",\"last_update\" "
+            + "FROM \"bench\".\"city\""
+        );
+        final CitySqlAdapter adapter = database.speedment()
+            .getOrThrow(CitySqlAdapter.class);
+        mapper        = adapter.entityMapper();
+        reusingMapper = adapter.reusingEntityMapper();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        statement.close();
+        database.close();
+    }
+
+    @Benchmark
+    public void readColumns(Blackhole blackhole) throws SQLException {
+        try (final ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getInt(1));
+                blackhole.consume(rs.getString(2));
+                blackhole.consume(rs.getInt(3));
+                blackhole.consume(rs.getInt(4));
+                blackhole.consume(rs.getTimestamp(5));
+            }
+        }
+    }
+
+    @Benchmark
+    public void entityMapper(Blackhole blackhole) throws SQLException {
+        try (final ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(mapper.apply(rs));
+            }
+        }
+    }
+
+    @Benchmark
+    public void reusingEntityMapper(Blackhole blackhole) throws SQLException {
+        try (final ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(reusingMapper.apply(rs));
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.benchmark;
+
+import com.speedment.benchmark.model.City;
+import com.speedment.runtime.connector.mysql.internal.MySqlSpeedmentPredicateView;
+import com.speedment.runtime.connector.postgres.internal.PostgresSpeedmentPredicateView;
+import com.speedment.runtime.core.db.FieldPredicateView;
+import com.speedment.runtime.field.Field;
+import com.speedment.runtime.field.predicate.FieldPredicate;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures how long it takes to render field predicates as SQL using the
+ * {@link FieldPredicateView} of the MySQL and the PostgreSQL connectors.
+ *
+ * @since   3.1.5
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldPredicateBenchmark {
+
+    private final Function<Field<City>, String> columnNamer =
+        f -> "\"" + f.identifier().getColumnId() + "\"";
+
+    private final Function<Field<City>, Class<?>> columnDbType =
+        f -> f == City.NAME ? String.class : Integer.class;
+
+    private FieldPredicateView mySql;
+    private FieldPredicateView postgres;
+
+    private FieldPredicate<City> equal;
+    private FieldPredicate<City> between;
+    private FieldPredicate<City> in;
+    private FieldPredicate<City> startsWith;
+
+    @Setup
+    public void setup() {
+        mySql    = new MySqlSpeedmentPredicateView();
+        postgres = new PostgresSpeedmentPredicateView();
+
+        equal      = (FieldPredicate<City>) City.ID.equal(42);
+        between    = (FieldPredicate<City>) City.POPULATION.between(100_000, 200_000);
+        in         = (FieldPredicate<City>) City.NAME.in("City 1", "City 2", "City 3");
+        startsWith = (FieldPredicate<City>) City.NAME.startsWith("City 1");
+    }
+
+    @Benchmark
+    public void mySql(Blackhole blackhole) {
+        render(mySql, blackhole);
+    }
+
+    @Benchmark
+    public void postgres(Blackhole blackhole) {
+        render(postgres, blackhole);
+    }
+
+    private void render(FieldPredicateView view, Blackhole blackhole) {
+        blackhole.consume(view.transform(columnNamer, columnDbType, equal).getSql());
+        blackhole.consume(view.transform(columnNamer, columnDbType, between).getSql());
+        blackhole.consume(view.transform(columnNamer, columnDbType, in).getSql());
+        blackhole.consume(view.transform(columnNamer, columnDbType, startsWith).getSql());
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.benchmark;
+
+import com.speedment.benchmark.model.City;
+import com.speedment.benchmark.model.CityManager;
+import com.speedment.benchmark.model.Country;
+import com.speedment.benchmark.support.BenchmarkDatabase;
+import com.speedment.common.tuple.Tuple2;
+import com.speedment.common.tuple.Tuples;
+import com.speedment.runtime.join.Join;
+import com.speedment.runtime.join.JoinComponent;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures how long it takes to build a join and to stream the tuples that it
+ * creates.
+ *
+ * @since   3.1.5
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JoinBenchmark {
+
+    private BenchmarkDatabase database;
+    private JoinComponent joinComponent;
+    private Join<Tuple2<City, Country>> join;
+
+    @Setup
+    public void setup() {
+        database      = new BenchmarkDatabase(100, 1_000);
+        joinComponent = database.speedment().getOrThrow(JoinComponent.class);
+        join          = build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public Join<Tuple2<City, Country>> buildJoin() {
+        return build();
+    }
+
+    @Benchmark
+    public void streamTuples(Blackhole blackhole) {
+        join.stream().forEach(blackhole::consume);
+    }
+
+    private Join<Tuple2<City, Country>> build() {
+        return joinComponent.from(CityManager.IDENTIFIER)
+            .innerJoinOn(Country.ID).equal(City.COUNTRY_ID)
+            .build(Tuples::of);
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.benchmark;
+
+import com.speedment.benchmark.model.City;
+import com.speedment.benchmark.model.CityManager;
+import com.speedment.benchmark.support.BenchmarkDatabase;
+import com.speedment.plugins.json.JsonComponent;
+import com.speedment.plugins.json.JsonEncoder;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Measures how long it takes to encode entities as JSON using a
+ * {@link JsonEncoder}. The entities are loaded before the benchmark starts
+ * so that no queries are measured.
+ *
+ * @since   3.1.5
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonEncoderBenchmark {
+
+    private BenchmarkDatabase database;
+    private JsonEncoder<City> encoder;
+    private List<City> loaded;
+
+    @Setup
+    public void setup() {
+        database = new BenchmarkDatabase(100, 1_000);
+
+        final CityManager cities = database.speedment()
+            .getOrThrow(CityManager.class);
+
+        encoder = database.speedment()
+            .getOrThrow(JsonComponent.class)
+            .allOf(cities);
+
+        loaded = cities.stream().collect(toList());
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public void encodeEach(Blackhole blackhole) {
+        for (final City city : loaded) {
+            blackhole.consume(encoder.apply(city));
+        }
+    }
+
+    @Benchmark
+    public String collect() {
+        return loaded.stream().collect(encoder.collector());
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.benchmark;
+
+import com.speedment.benchmark.support.BenchmarkMetadata;
+import com.speedment.common.json.Json;
+import com.speedment.common.json.JsonReader;
+import com.speedment.common.json.JsonToken;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the different ways of parsing the project configuration: the
+ * {@code String}-based {@link Json#fromJson(String)}, the byte-based
+ * {@link Json#fromJson(byte[])} and a reusable {@link JsonReader} that only
+ * visits the tokens.
+ *
+ * @since   3.1.5
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonParserBenchmark {
+
+    private String text;
+    private byte[] bytes;
+    private JsonReader reader;
+
+    @Setup
+    public void setup() {
+        text   = BenchmarkMetadata.readResource(BenchmarkMetadata.RESOURCE);
+        bytes  = text.getBytes(StandardCharsets.UTF_8);
+        reader = JsonReader.of(bytes);
+    }
+
+    @Benchmark
+    public Object fromString() {
+        return Json.fromJson(text);
+    }
+
+    @Benchmark
+    public Object fromBytes() {
+        return Json.fromJson(bytes);
+    }
+
+    @Benchmark
+    public int pullTokens() {
+        reader.reset(bytes);
+        int tokens = 0;
+        while (reader.next() != JsonToken.END_DOCUMENT) {
+            tokens++;
+        }
+        return tokens;
+    }
+}
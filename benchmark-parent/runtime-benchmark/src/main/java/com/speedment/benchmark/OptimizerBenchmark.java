@@ -0,0 +1,130 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.benchmark;
+
+import com.speedment.benchmark.model.City;
+import com.speedment.benchmark.support.BenchmarkDatabase;
+import com.speedment.runtime.core.component.DbmsHandlerComponent;
+import com.speedment.runtime.core.component.sql.SqlStreamOptimizerInfo;
+import com.speedment.runtime.core.db.AsynchronousQueryResult;
+import com.speedment.runtime.core.db.DbmsType;
+import com.speedment.runtime.core.internal.component.sql.optimizer.FilterSortedSkipOptimizer;
+import com.speedment.runtime.core.internal.db.AsynchronousQueryResultImpl;
+import com.speedment.runtime.core.internal.stream.builder.action.reference.FilterAction;
+import com.speedment.runtime.core.internal.stream.builder.action.reference.LimitAction;
+import com.speedment.runtime.core.internal.stream.builder.action.reference.SkipAction;
+import com.speedment.runtime.core.internal.stream.builder.action.reference.SortedComparatorAction;
+import com.speedment.runtime.core.internal.stream.builder.pipeline.PipelineImpl;
+import com.speedment.runtime.core.stream.Pipeline;
+import com.speedment.runtime.core.stream.parallel.ParallelStrategy;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long it takes for the {@link FilterSortedSkipOptimizer} to
+ * rate and rewrite a pipeline into SQL. Since the optimizer consumes the
+ * pipeline, the {@link #newPipeline()} baseline measures how much of the time
+ * that is spent creating the pipeline.
+ *
+ * @since   3.1.5
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OptimizerBenchmark {
+
+    private static final String SQL_SELECT =
+        "SELECT \"id\",\"name\",\"population\",\"country_id\",\"last_update\" "
+        + "FROM \"bench\".\"city\"";
+
+    private FilterSortedSkipOptimizer<City> optimizer;
+    private SqlStreamOptimizerInfo<City> info;
+    private DbmsType dbmsType;
+
+    @Setup
+    public void setup() {
+        // Only the DbmsType is needed, so the database can be closed again.
+        try (final BenchmarkDatabase database = new BenchmarkDatabase(1, 1)) {
+            dbmsType = database.speedment()
+                .getOrThrow(DbmsHandlerComponent.class)
+                .findByName("PostgreSQL")
+                .orElseThrow(IllegalStateException::new);
+        }
+
+        optimizer = new FilterSortedSkipOptimizer<>();
+        info = SqlStreamOptimizerInfo.of(
+            dbmsType,
+            SQL_SELECT,
+            "SELECT COUNT(*) FROM \"bench\".\"city\"",
+            (sql, values) -> 0L,
+            f -> "\"" + f.identifier().getColumnId() + "\"",
+            f -> f.identifier().getColumnId().equals("name")
+                ? String.class : Integer.class
+        );
+    }
+
+    @Benchmark
+    public Pipeline newPipeline() {
+        return pipeline();
+    }
+
+    @Benchmark
+    public Object metrics() {
+        return optimizer.metrics(pipeline(), dbmsType);
+    }
+
+    @Benchmark
+    public Pipeline optimize() {
+        return optimizer.optimize(pipeline(), info, query());
+    }
+
+    private static Pipeline pipeline() {
+        final PipelineImpl<City> pipeline = new PipelineImpl<>(Stream::empty);
+        pipeline.addLast(new FilterAction<>(City.POPULATION.greaterThan(500_000)));
+        pipeline.addLast(new FilterAction<>(City.COUNTRY_ID.equal(7)));
+        pipeline.addLast(new SortedComparatorAction<>(City.NAME.comparator()));
+        pipeline.addLast(new SkipAction<>(10));
+        pipeline.addLast(new LimitAction<>(100));
+        return pipeline;
+    }
+
+    private static AsynchronousQueryResult<City> query() {
+        return new AsynchronousQueryResultImpl<>(
+            SQL_SELECT,
+            new ArrayList<>(),
+            rs -> null,
+            () -> null,
+            ParallelStrategy.computeIntensityDefault(),
+            ps -> {},
+            rs -> {}
+        );
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.benchmark;
+
+import com.speedment.benchmark.model.City;
+import com.speedment.benchmark.model.CityImpl;
+import com.speedment.benchmark.model.CityManager;
+import com.speedment.benchmark.support.BenchmarkDatabase;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long it takes to persist and update a single entity using
+ * the {@code SqlPersistence} of a manager.
+ *
+ * @since   3.1.5
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistenceBenchmark {
+
+    private static final int CITIES = 1_000;
+
+    private BenchmarkDatabase database;
+    private CityManager cities;
+    private City existing;
+    private Timestamp timestamp;
+    private int population;
+
+    @Setup
+    public void setup() {
+        database  = new BenchmarkDatabase(100, CITIES);
+        cities    = database.speedment().getOrThrow(CityManager.class);
+        existing  = cities.stream().filter(City.ID.equal(1)).findAny().get();
+        timestamp = new Timestamp(System.currentTimeMillis());
+    }
+
+    @TearDown(Level.Iteration)
+    public void removePersisted() throws SQLException {
+        try (final Statement statement = database.connection().createStatement()) {
+            statement.executeUpdate(
+                "DELETE FROM \"bench\".\"city\" WHERE \"id\" > " + CITIES
+            );
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public City persist() {
+        return cities.persist(new CityImpl()
+            .setName("Persisted")
+            .setPopulation(1)
+            .setCountryId(1)
+            .setLastUpdate(timestamp)
+        );
+    }
+
+    @Benchmark
+    public City update() {
+        return cities.update(existing.setPopulation(++population));
+    }
+}
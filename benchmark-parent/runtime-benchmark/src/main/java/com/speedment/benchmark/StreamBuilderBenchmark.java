@@ -0,0 +1,95 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.benchmark;
+
+import com.speedment.benchmark.model.City;
+import com.speedment.benchmark.model.CityManager;
+import com.speedment.benchmark.support.BenchmarkDatabase;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Measures how long it takes to build a stream pipeline using the
+ * {@code AbstractStreamBuilder}, and how long it takes to execute a typical
+ * filtered and sorted query end-to-end.
+ *
+ * @since   3.1.5
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamBuilderBenchmark {
+
+    private BenchmarkDatabase database;
+    private CityManager cities;
+
+    @Setup
+    public void setup() {
+        database = new BenchmarkDatabase(100, 10_000);
+        cities   = database.speedment().getOrThrow(CityManager.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public Stream<String> buildPipeline() {
+        // The stream is never terminated, so no query is sent.
+        return cities.stream()
+            .filter(City.POPULATION.greaterThan(500_000))
+            .sorted(City.NAME.comparator())
+            .skip(10)
+            .limit(100)
+            .map(City::getName);
+    }
+
+    @Benchmark
+    public List<City> filterSortedSkipLimit() {
+        return cities.stream()
+            .filter(City.POPULATION.greaterThan(500_000))
+            .sorted(City.NAME.comparator())
+            .skip(10)
+            .limit(100)
+            .collect(toList());
+    }
+
+    @Benchmark
+    public long count() {
+        return cities.stream()
+            .filter(City.POPULATION.between(100_000, 200_000))
+            .count();
+    }
+}
@@ -0,0 +1,163 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.benchmark.model;
+
+import com.speedment.runtime.config.identifier.ColumnIdentifier;
+import com.speedment.runtime.config.identifier.TableIdentifier;
+import com.speedment.runtime.field.ComparableField;
+import com.speedment.runtime.field.IntField;
+import com.speedment.runtime.field.IntForeignKeyField;
+import com.speedment.runtime.field.StringField;
+import com.speedment.runtime.typemapper.TypeMapper;
+import java.sql.Timestamp;
+
+/**
+ * Entity representing a row in the {@code city}-table of the benchmark
+ * database. The class has the same shape as the code that the Speedment
+ * generator would produce for the table.
+ *
+ * @since   3.1.5
+ */
+public interface City {
+
+    /**
+     * This Field corresponds to the {@link City} field that can be obtained
+     * using the {@link City#getId()} method.
+     */
+    IntField<City, Integer> ID = IntField.create(
+        Identifier.ID,
+        City::getId,
+        City::setId,
+        TypeMapper.primitive(),
+        true
+    );
+
+    /**
+     * This Field corresponds to the {@link City} field that can be obtained
+     * using the {@link City#getName()} method.
+     */
+    StringField<City, String> NAME = StringField.create(
+        Identifier.NAME,
+        City::getName,
+        City::setName,
+        TypeMapper.identity(),
+        false
+    );
+
+    /**
+     * This Field corresponds to the {@link City} field that can be obtained
+     * using the {@link City#getPopulation()} method.
+     */
+    IntField<City, Integer> POPULATION = IntField.create(
+        Identifier.POPULATION,
+        City::getPopulation,
+        City::setPopulation,
+        TypeMapper.primitive(),
+        false
+    );
+
+    /**
+     * This Field corresponds to the {@link City} field that can be obtained
+     * using the {@link City#getCountryId()} method.
+     */
+    IntForeignKeyField<City, Integer, Country> COUNTRY_ID = IntForeignKeyField.create(
+        Identifier.COUNTRY_ID,
+        City::getCountryId,
+        City::setCountryId,
+        Country.ID,
+        TypeMapper.primitive(),
+        false
+    );
+
+    /**
+     * This Field corresponds to the {@link City} field that can be obtained
+     * using the {@link City#getLastUpdate()} method.
+     */
+    ComparableField<City, Timestamp, Timestamp> LAST_UPDATE = ComparableField.create(
+        Identifier.LAST_UPDATE,
+        City::getLastUpdate,
+        City::setLastUpdate,
+        TypeMapper.identity(),
+        false
+    );
+
+    int getId();
+
+    String getName();
+
+    int getPopulation();
+
+    int getCountryId();
+
+    Timestamp getLastUpdate();
+
+    City setId(int id);
+
+    City setName(String name);
+
+    City setPopulation(int population);
+
+    City setCountryId(int countryId);
+
+    City setLastUpdate(Timestamp lastUpdate);
+
+    enum Identifier implements ColumnIdentifier<City> {
+
+        ID          ("id"),
+        NAME        ("name"),
+        POPULATION  ("population"),
+        COUNTRY_ID  ("country_id"),
+        LAST_UPDATE ("last_update");
+
+        private final String columnId;
+        private final TableIdentifier<City> tableIdentifier;
+
+        Identifier(String columnId) {
+            this.columnId        = columnId;
+            this.tableIdentifier = TableIdentifier.of(
+                getDbmsId(),
+                getSchemaId(),
+                getTableId()
+            );
+        }
+
+        @Override
+        public String getDbmsId() {
+            return "db0";
+        }
+
+        @Override
+        public String getSchemaId() {
+            return "bench";
+        }
+
+        @Override
+        public String getTableId() {
+            return "city";
+        }
+
+        @Override
+        public String getColumnId() {
+            return this.columnId;
+        }
+
+        @Override
+        public TableIdentifier<City> asTableIdentifier() {
+            return this.tableIdentifier;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.benchmark.model;
+
+import java.sql.Timestamp;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * The default implementation of the {@link City}-interface.
+ *
+ * @since   3.1.5
+ */
+public final class CityImpl implements City {
+
+    private int id;
+    private String name;
+    private int population;
+    private int countryId;
+    private Timestamp lastUpdate;
+
+    @Override
+    public int getId() {
+        return id;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getPopulation() {
+        return population;
+    }
+
+    @Override
+    public int getCountryId() {
+        return countryId;
+    }
+
+    @Override
+    public Timestamp getLastUpdate() {
+        return lastUpdate;
+    }
+
+    @Override
+    public City setId(int id) {
+        this.id = id;
+        return this;
+    }
+
+    @Override
+    public City setName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    @Override
+    public City setPopulation(int population) {
+        this.population = population;
+        return this;
+    }
+
+    @Override
+    public City setCountryId(int countryId) {
+        this.countryId = countryId;
+        return this;
+    }
+
+    @Override
+    public City setLastUpdate(Timestamp lastUpdate) {
+        this.lastUpdate = lastUpdate;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        final StringJoiner sj = new StringJoiner(", ", "{ ", " }");
+        sj.add("id = "         + Objects.toString(getId()));
+        sj.add("name = "       + Objects.toString(getName()));
+        sj.add("population = " + Objects.toString(getPopulation()));
+        sj.add("countryId = "  + Objects.toString(getCountryId()));
+        sj.add("lastUpdate = " + Objects.toString(getLastUpdate()));
+        return "CityImpl " + sj.toString();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) { return true; }
+        if (!(that instanceof City)) { return false; }
+        final City thatCity = (City) that;
+        if (this.getId() != thatCity.getId()) { return false; }
+        if (!Objects.equals(this.getName(), thatCity.getName())) { return false; }
+        if (this.getPopulation() != thatCity.getPopulation()) { return false; }
+        if (this.getCountryId() != thatCity.getCountryId()) { return false; }
+        return Objects.equals(this.getLastUpdate(), thatCity.getLastUpdate());
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 31 * hash + Integer.hashCode(getId());
+        hash = 31 * hash + Objects.hashCode(getName());
+        hash = 31 * hash + Integer.hashCode(getPopulation());
+        hash = 31 * hash + Integer.hashCode(getCountryId());
+        hash = 31 * hash + Objects.hashCode(getLastUpdate());
+        return hash;
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.benchmark.model;
+
+import com.speedment.runtime.config.identifier.TableIdentifier;
+import com.speedment.runtime.core.component.SqlAdapter;
+import com.speedment.runtime.core.db.SqlFunction;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * The {@link SqlAdapter} that maps rows of the {@code city}-table to
+ * {@link City} entities.
+ *
+ * @since   3.1.5
+ */
+public final class CitySqlAdapter implements SqlAdapter<City> {
+
+    private City apply(ResultSet resultSet, int offset) throws SQLException {
+        return apply(resultSet, offset, new CityImpl());
+    }
+
+    private City apply(ResultSet resultSet, int offset, City entity) throws SQLException {
+        return entity
+            .setId(         resultSet.getInt(1 + offset))
+            .setName(       resultSet.getString(2 + offset))
+            .setPopulation( resultSet.getInt(3 + offset))
+            .setCountryId(  resultSet.getInt(4 + offset))
+            .setLastUpdate( resultSet.getTimestamp(5 + offset));
+    }
+
+    @Override
+    public TableIdentifier<City> identifier() {
+        return CityManager.IDENTIFIER;
+    }
+
+    @Override
+    public SqlFunction<ResultSet, City> entityMapper() {
+        return entityMapper(0);
+    }
+
+    @Override
+    public SqlFunction<ResultSet, City> entityMapper(int offset) {
+        return rs -> apply(rs, offset);
+    }
+
+    @Override
+    public SqlFunction<ResultSet, City> reusingEntityMapper() {
+        final City entity = new CityImpl();
+        return rs -> apply(rs, 0, entity);
+    }
+}
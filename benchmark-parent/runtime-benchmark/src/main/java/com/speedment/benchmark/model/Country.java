@@ -0,0 +1,108 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.benchmark.model;
+
+import com.speedment.runtime.config.identifier.ColumnIdentifier;
+import com.speedment.runtime.config.identifier.TableIdentifier;
+import com.speedment.runtime.field.IntField;
+import com.speedment.runtime.field.StringField;
+import com.speedment.runtime.typemapper.TypeMapper;
+
+/**
+ * Entity representing a row in the {@code country}-table of the benchmark
+ * database. The class has the same shape as the code that the Speedment
+ * generator would produce for the table.
+ *
+ * @since   3.1.5
+ */
+public interface Country {
+
+    /**
+     * This Field corresponds to the {@link Country} field that can be obtained
+     * using the {@link Country#getId()} method.
+     */
+    IntField<Country, Integer> ID = IntField.create(
+        Identifier.ID,
+        Country::getId,
+        Country::setId,
+        TypeMapper.primitive(),
+        true
+    );
+
+    /**
+     * This Field corresponds to the {@link Country} field that can be obtained
+     * using the {@link Country#getName()} method.
+     */
+    StringField<Country, String> NAME = StringField.create(
+        Identifier.NAME,
+        Country::getName,
+        Country::setName,
+        TypeMapper.identity(),
+        false
+    );
+
+    int getId();
+
+    String getName();
+
+    Country setId(int id);
+
+    Country setName(String name);
+
+    enum Identifier implements ColumnIdentifier<Country> {
+
+        ID   ("id"),
+        NAME ("name");
+
+        private final String columnId;
+        private final TableIdentifier<Country> tableIdentifier;
+
+        Identifier(String columnId) {
+            this.columnId        = columnId;
+            this.tableIdentifier = TableIdentifier.of(
+                getDbmsId(),
+                getSchemaId(),
+                getTableId()
+            );
+        }
+
+        @Override
+        public String getDbmsId() {
+            return "db0";
+        }
+
+        @Override
+        public String getSchemaId() {
+            return "bench";
+        }
+
+        @Override
+        public String getTableId() {
+            return "country";
+        }
+
+        @Override
+        public String getColumnId() {
+            return this.columnId;
+        }
+
+        @Override
+        public TableIdentifier<Country> asTableIdentifier() {
+            return this.tableIdentifier;
+        }
+    }
+}
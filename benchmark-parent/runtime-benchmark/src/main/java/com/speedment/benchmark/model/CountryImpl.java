@@ -0,0 +1,78 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.benchmark.model;
+
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * The default implementation of the {@link Country}-interface.
+ *
+ * @since   3.1.5
+ */
+public final class CountryImpl implements Country {
+
+    private int id;
+    private String name;
+
+    @Override
+    public int getId() {
+        return id;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Country setId(int id) {
+        this.id = id;
+        return this;
+    }
+
+    @Override
+    public Country setName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        final StringJoiner sj = new StringJoiner(", ", "{ ", " }");
+        sj.add("id = "   + Objects.toString(getId()));
+        sj.add("name = " + Objects.toString(getName()));
+        return "CountryImpl " + sj.toString();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) { return true; }
+        if (!(that instanceof Country)) { return false; }
+        final Country thatCountry = (Country) that;
+        if (this.getId() != thatCountry.getId()) { return false; }
+        return Objects.equals(this.getName(), thatCountry.getName());
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 31 * hash + Integer.hashCode(getId());
+        hash = 31 * hash + Objects.hashCode(getName());
+        return hash;
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.benchmark.model;
+
+import com.speedment.runtime.config.identifier.TableIdentifier;
+import com.speedment.runtime.core.manager.Manager;
+import com.speedment.runtime.field.Field;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * The manager of every {@link Country} entity.
+ *
+ * @since   3.1.5
+ */
+public interface CountryManager extends Manager<Country> {
+
+    TableIdentifier<Country> IDENTIFIER = TableIdentifier.of(
+        "db0",
+        "bench",
+        "country"
+    );
+
+    List<Field<Country>> FIELDS = unmodifiableList(asList(
+        Country.ID,
+        Country.NAME
+    ));
+
+    @Override
+    default Class<Country> getEntityClass() {
+        return Country.class;
+    }
+}
@@ -0,0 +1,47 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.benchmark.model;
+
+import com.speedment.runtime.config.identifier.TableIdentifier;
+import com.speedment.runtime.core.manager.AbstractManager;
+import com.speedment.runtime.field.Field;
+import java.util.stream.Stream;
+
+/**
+ * The default implementation of the {@link CountryManager}.
+ *
+ * @since   3.1.5
+ */
+public final class CountryManagerImpl
+extends AbstractManager<Country>
+implements CountryManager {
+
+    @Override
+    public TableIdentifier<Country> getTableIdentifier() {
+        return IDENTIFIER;
+    }
+
+    @Override
+    public Stream<Field<Country>> fields() {
+        return FIELDS.stream();
+    }
+
+    @Override
+    public Stream<Field<Country>> primaryKeyFields() {
+        return Stream.of(Country.ID);
+    }
+}
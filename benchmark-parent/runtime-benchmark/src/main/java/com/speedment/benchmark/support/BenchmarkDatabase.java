@@ -0,0 +1,170 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.benchmark.support;
+
+import com.speedment.benchmark.model.CityManagerImpl;
+import com.speedment.benchmark.model.CitySqlAdapter;
+import com.speedment.benchmark.model.CountryManagerImpl;
+import com.speedment.benchmark.model.CountrySqlAdapter;
+import com.speedment.plugins.json.JsonBundle;
+import com.speedment.runtime.application.ApplicationBuilders;
+import com.speedment.runtime.core.Speedment;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An in-memory H2 database populated with the {@code country} and
+ * {@code city} tables, together with a {@link Speedment} application that is
+ * connected to it. H2 runs in PostgreSQL mode so that the regular PostgreSQL
+ * {@code DbmsType} can be used without modifications.
+ * <p>
+ * Every instance uses a database of its own. The database is dropped when
+ * the instance is closed.
+ *
+ * @since   3.1.5
+ */
+public final class BenchmarkDatabase implements AutoCloseable {
+
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+    private static final String USERNAME = "sa";
+
+    private final String url;
+    private final Connection connection;
+    private final Speedment speedment;
+
+    /**
+     * Creates a new database with the specified number of countries and
+     * cities and starts a Speedment application that is connected to it.
+     *
+     * @param countries  the number of rows in the {@code country}-table
+     * @param cities     the number of rows in the {@code city}-table
+     */
+    public BenchmarkDatabase(int countries, int cities) {
+        this.url = "jdbc:h2:mem:bench" + COUNTER.incrementAndGet()
+            + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+
+        try {
+            // The connection keeps the database alive until closed.
+            this.connection = DriverManager.getConnection(url, USERNAME, "");
+            populate(countries, cities);
+        } catch (final SQLException ex) {
+            throw new IllegalStateException(
+                "Could not create benchmark database.", ex
+            );
+        }
+
+        this.speedment = ApplicationBuilders.create(BenchmarkMetadata.class)
+            .withManager(CountryManagerImpl.class)
+            .withManager(CityManagerImpl.class)
+            .withComponent(CountrySqlAdapter.class)
+            .withComponent(CitySqlAdapter.class)
+            .withComponent(SilentStatisticsReporterComponent.class)
+            .withBundle(JsonBundle.class)
+            .withConnectionUrl(url)
+            .withUsername(USERNAME)
+            .withPassword("")
+            .withSkipCheckDatabaseConnectivity()
+            // The PostgreSQL driver is not on the classpath since H2 is used.
+            .withSkipValidateRuntimeConfig()
+            .withSkipLogoPrintout()
+            .build();
+    }
+
+    /**
+     * Returns the started application.
+     *
+     * @return  the application
+     */
+    public Speedment speedment() {
+        return speedment;
+    }
+
+    /**
+     * Returns a plain JDBC connection to the database. The connection is
+     * closed when this database is closed.
+     *
+     * @return  the connection
+     */
+    public Connection connection() {
+        return connection;
+    }
+
+    @Override
+    public void close() {
+        speedment.close();
+        try (final Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        } catch (final SQLException ex) {
+            throw new IllegalStateException(
+                "Could not drop benchmark database.", ex
+            );
+        } finally {
+            try {
+                connection.close();
+            } catch (final SQLException ignored) {
+                // The database is already gone.
+            }
+        }
+    }
+
+    private void populate(int countries, int cities) throws SQLException {
+        try (final Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA \"bench\"");
+            statement.execute(
+                "CREATE TABLE \"bench\".\"country\" ("
+                + "\"id\" INT AUTO_INCREMENT PRIMARY KEY, "
+                + "\"name\" VARCHAR(64) NOT NULL)"
+            );
+            statement.execute(
+                "CREATE TABLE \"bench\".\"city\" ("
+                + "\"id\" INT AUTO_INCREMENT PRIMARY KEY, "
+                + "\"name\" VARCHAR(64) NOT NULL, "
+                + "\"population\" INT NOT NULL, "
+                + "\"country_id\" INT NOT NULL REFERENCES \"bench\".\"country\" (\"id\"), "
+                + "\"last_update\" TIMESTAMP NOT NULL)"
+            );
+        }
+
+        try (final PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO \"bench\".\"country\" (\"name\") VALUES (?)")) {
+            for (int i = 0; i < countries; i++) {
+                ps.setString(1, "Country " + i);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+
+        final Timestamp now = new Timestamp(System.currentTimeMillis());
+        try (final PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO \"bench\".\"city\" (\"name\", \"population\", "
+                + "\"country_id\", \"last_update\") VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < cities; i++) {
+                ps.setString(1, "City " + i);
+                ps.setInt(2, (i * 7919) % 1_000_000);
+                ps.setInt(3, 1 + i % countries);
+                ps.setTimestamp(4, now);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+}
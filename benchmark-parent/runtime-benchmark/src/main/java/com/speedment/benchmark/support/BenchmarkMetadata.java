@@ -0,0 +1,73 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.benchmark.support;
+
+import com.speedment.runtime.application.AbstractApplicationMetadata;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * Application metadata that loads the configuration of the benchmark database
+ * from the {@code speedment.json} resource.
+ *
+ * @since   3.1.5
+ */
+public final class BenchmarkMetadata extends AbstractApplicationMetadata {
+
+    /**
+     * The name of the classpath resource that holds the configuration.
+     */
+    public static final String RESOURCE = "/speedment.json";
+
+    private static final String METADATA = readResource(RESOURCE);
+
+    @Override
+    protected Optional<String> getMetadata() {
+        return Optional.of(METADATA);
+    }
+
+    /**
+     * Reads the classpath resource with the specified name as a UTF-8 string.
+     *
+     * @param name  the name of the resource
+     * @return      the content
+     */
+    public static String readResource(String name) {
+        try (final InputStream in = BenchmarkMetadata.class.getResourceAsStream(name)) {
+            if (in == null) {
+                throw new IllegalStateException(
+                    "Could not find resource '" + name + "'."
+                );
+            }
+
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -22,10 +22,12 @@ import com.speedment.generator.translator.TranslatorManager;
 import com.speedment.maven.parameter.ConfigParam;
 import com.speedment.maven.typemapper.Mapping;
 import com.speedment.runtime.config.Project;
+import com.speedment.runtime.config.util.BinaryDocumentTranscoder;
 import com.speedment.runtime.core.ApplicationBuilder;
 import com.speedment.runtime.core.Speedment;
 import com.speedment.runtime.core.component.ProjectComponent;
 
+import java.nio.file.Path;
 import java.util.function.Consumer;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
@@ -67,6 +69,12 @@ public abstract class AbstractGenerateMojo extends AbstractSpeedmentMojo {
                 final Project project = speedment.getOrThrow(ProjectComponent.class).getProject();
                 speedment.getOrThrow(TranslatorManager.class).accept(project);
 
+                // write a binary snapshot next to the json-file that can be
+                // memory-mapped at startup instead of parsing the json
+                final Path snapshot = BinaryDocumentTranscoder.snapshotLocation(configLocation());
+                BinaryDocumentTranscoder.save(project, snapshot);
+                getLog().info("Wrote binary configuration snapshot: '" + snapshot.toAbsolutePath() + "'.");
+
                 // after generating the speedment code, the package location needs to be added as a source folder
                 if (!mavenProject.getCompileSourceRoots().contains(mavenProject.getBasedir().getAbsolutePath() + "/" + project.getPackageLocation())) {
                     System.out.println("adding new source location");
@@ -23,6 +23,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 
 /**
@@ -148,6 +149,53 @@ public final class Json {
         }
     }
 
+    /**
+     * Parses the specified UTF-8 encoded JSON array into a java object. The 
+     * result is the same as for {@link #fromJson(String)}, but the bytes are
+     * parsed directly without first being decoded into a string. For large
+     * documents that do not have to be materialized at once, consider using a
+     * {@link JsonReader} instead.
+     * 
+     * @param json  the json to parse
+     * @return      the created object
+     * 
+     * @throws JsonSyntaxException  if the specified json is malformed
+     * @since  1.1.0
+     */
+    public static Object fromJson(byte[] json) throws JsonSyntaxException {
+        try (final JsonReader reader = JsonReader.of(json)) {
+            return readDocument(reader);
+        }
+    }
+    
+    /**
+     * Parses the remaining bytes of the specified UTF-8 encoded JSON buffer
+     * into a java object. The position of the buffer is not modified. The
+     * result is the same as for {@link #fromJson(String)}.
+     * 
+     * @param json  the json to parse
+     * @return      the created object
+     * 
+     * @throws JsonSyntaxException  if the specified json is malformed
+     * @since  1.1.0
+     */
+    public static Object fromJson(ByteBuffer json) throws JsonSyntaxException {
+        try (final JsonReader reader = JsonReader.of(json)) {
+            return readDocument(reader);
+        }
+    }
+    
+    private static Object readDocument(JsonReader reader) {
+        reader.next();
+        final Object result = reader.readValue();
+        if (reader.next() != JsonToken.END_DOCUMENT) {
+            throw new JsonSyntaxException(
+                "Expected end of document but found " + reader.current() + "."
+            );
+        }
+        return result;
+    }
+
     /**
      * Utility classes should never be instantiated.
      */
@@ -0,0 +1,225 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.json;
+
+import com.speedment.common.json.internal.JsonReaderImpl;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * A pull parser that reads UTF-8 encoded JSON one token at a time. Unlike
+ * {@link Json#fromJson(String)}, the reader does not have to materialize the
+ * whole document, which makes it suitable for large inputs. Strings and
+ * numbers are read into an internal buffer that is reused between tokens, and
+ * numbers are only decoded when one of the number accessors is called.
+ * <p>
+ * A reader can be reused for several documents by calling one of the
+ * {@code reset}-methods, in which case the internal buffers are kept.
+ * <p>
+ * Values returned by the accessors are only valid until the next call to
+ * {@link #next()}. Instances are not thread-safe.
+ *
+ * @since  1.1.0
+ */
+public interface JsonReader extends AutoCloseable {
+
+    /**
+     * Resets this reader so that it reads from the specified array.
+     *
+     * @param json  the UTF-8 encoded json
+     * @return      this reader
+     */
+    default JsonReader reset(byte[] json) {
+        return reset(json, 0, json.length);
+    }
+
+    /**
+     * Resets this reader so that it reads from the specified range of the
+     * specified array.
+     *
+     * @param json    the UTF-8 encoded json
+     * @param offset  the first byte to read
+     * @param length  the number of bytes to read
+     * @return        this reader
+     */
+    JsonReader reset(byte[] json, int offset, int length);
+
+    /**
+     * Resets this reader so that it reads the remaining bytes of the specified
+     * buffer. The position of the buffer is not modified.
+     *
+     * @param json  the UTF-8 encoded json
+     * @return      this reader
+     */
+    JsonReader reset(ByteBuffer json);
+
+    /**
+     * Resets this reader so that it reads from the specified stream. The
+     * stream is closed when this reader is closed.
+     *
+     * @param json  the UTF-8 encoded json
+     * @return      this reader
+     */
+    JsonReader reset(InputStream json);
+
+    /**
+     * Advances to the next token and returns it. When the end of the input is
+     * reached, {@link JsonToken#END_DOCUMENT} is returned.
+     *
+     * @return  the next token
+     *
+     * @throws JsonSyntaxException      if the input is malformed
+     * @throws java.io.UncheckedIOException  if the input could not be read
+     */
+    JsonToken next() throws JsonSyntaxException;
+
+    /**
+     * Returns the token that was last returned by {@link #next()}, or
+     * {@code null} if {@link #next()} has not been called yet.
+     *
+     * @return  the current token
+     */
+    JsonToken current();
+
+    /**
+     * Returns the number of objects and arrays that currently are open.
+     *
+     * @return  the current depth
+     */
+    int depth();
+
+    /**
+     * Returns the name of the current {@link JsonToken#NAME} token.
+     *
+     * @return  the name
+     *
+     * @throws IllegalStateException  if the current token is not a name
+     */
+    String name();
+
+    /**
+     * Returns the text of the current {@link JsonToken#STRING},
+     * {@link JsonToken#NAME} or {@link JsonToken#NUMBER} token.
+     *
+     * @return  the text
+     *
+     * @throws IllegalStateException  if the current token has no text
+     */
+    String string();
+
+    /**
+     * Returns {@code true} if the current {@link JsonToken#NUMBER} has neither
+     * a decimal sign nor an exponent.
+     *
+     * @return  if the current number is integral
+     *
+     * @throws IllegalStateException  if the current token is not a number
+     */
+    boolean isIntegral();
+
+    /**
+     * Decodes the current {@link JsonToken#NUMBER} as a {@code long}.
+     * Non-integral numbers are truncated.
+     *
+     * @return  the number
+     *
+     * @throws IllegalStateException  if the current token is not a number
+     */
+    long longValue();
+
+    /**
+     * Decodes the current {@link JsonToken#NUMBER} as a {@code double}.
+     *
+     * @return  the number
+     *
+     * @throws IllegalStateException  if the current token is not a number
+     */
+    double doubleValue();
+
+    /**
+     * Decodes the current {@link JsonToken#NUMBER} as a {@code Long} if it is
+     * integral and as a {@code Double} otherwise. This is the same
+     * representation as is used by {@link Json#fromJson(String)}.
+     *
+     * @return  the number
+     *
+     * @throws IllegalStateException  if the current token is not a number
+     */
+    Number number();
+
+    /**
+     * Skips the value that the current token begins. If the current token is
+     * {@link JsonToken#BEGIN_OBJECT} or {@link JsonToken#BEGIN_ARRAY}, this
+     * reader is advanced to the matching end token. If the current token is a
+     * {@link JsonToken#NAME}, the value of that entry is skipped. For other
+     * tokens, this method does nothing.
+     *
+     * @throws JsonSyntaxException  if the input is malformed
+     */
+    void skipValue() throws JsonSyntaxException;
+
+    /**
+     * Materializes the value that the current token begins, using the same
+     * representation as {@link Json#fromJson(String)}. If the current token is
+     * a {@link JsonToken#NAME}, the value of that entry is read. When this
+     * method returns, the current token is the last token of the value.
+     *
+     * @return  the value
+     *
+     * @throws JsonSyntaxException    if the input is malformed
+     * @throws IllegalStateException  if the current token does not begin a
+     *                                value
+     */
+    Object readValue() throws JsonSyntaxException;
+
+    /**
+     * Closes the underlying stream, if any.
+     */
+    @Override
+    void close();
+
+    /**
+     * Creates a new reader that reads from the specified array.
+     *
+     * @param json  the UTF-8 encoded json
+     * @return      the new reader
+     */
+    static JsonReader of(byte[] json) {
+        return new JsonReaderImpl().reset(json);
+    }
+
+    /**
+     * Creates a new reader that reads the remaining bytes of the specified
+     * buffer. The position of the buffer is not modified.
+     *
+     * @param json  the UTF-8 encoded json
+     * @return      the new reader
+     */
+    static JsonReader of(ByteBuffer json) {
+        return new JsonReaderImpl().reset(json);
+    }
+
+    /**
+     * Creates a new reader that reads from the specified stream.
+     *
+     * @param json  the UTF-8 encoded json
+     * @return      the new reader
+     */
+    static JsonReader of(InputStream json) {
+        return new JsonReaderImpl().reset(json);
+    }
+}
@@ -58,6 +58,12 @@ public final class JsonSyntaxException extends RuntimeException {
         this.col = col.get();
     }
     
+    public JsonSyntaxException(long row, long col, String message) {
+        super(message);
+        this.row = row;
+        this.col = col;
+    }
+    
     public JsonSyntaxException(AtomicLong row, AtomicLong col, String message, Throwable cause) {
         super(message, cause);
         this.row = row.get();
@@ -0,0 +1,80 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.json;
+
+/**
+ * The different kinds of tokens that a {@link JsonReader} can produce.
+ * 
+ * @since  1.1.0
+ */
+public enum JsonToken {
+    
+    /**
+     * The opening brace of a JSON object.
+     */
+    BEGIN_OBJECT,
+    
+    /**
+     * The closing brace of a JSON object.
+     */
+    END_OBJECT,
+    
+    /**
+     * The opening bracket of a JSON array.
+     */
+    BEGIN_ARRAY,
+    
+    /**
+     * The closing bracket of a JSON array.
+     */
+    END_ARRAY,
+    
+    /**
+     * The name of an entry in a JSON object.
+     */
+    NAME,
+    
+    /**
+     * A JSON string value.
+     */
+    STRING,
+    
+    /**
+     * A JSON number value.
+     */
+    NUMBER,
+    
+    /**
+     * The literal {@code true}.
+     */
+    TRUE,
+    
+    /**
+     * The literal {@code false}.
+     */
+    FALSE,
+    
+    /**
+     * The literal {@code null}.
+     */
+    NULL,
+    
+    /**
+     * The end of the input.
+     */
+    END_DOCUMENT
+}
@@ -0,0 +1,707 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.json.internal;
+
+import com.speedment.common.json.JsonReader;
+import com.speedment.common.json.JsonSyntaxException;
+import com.speedment.common.json.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Internal implementation of the {@link JsonReader} interface. The reader
+ * operates directly on UTF-8 encoded bytes. If the input is an array (or an
+ * array-backed buffer), no copying takes place. Streams and direct buffers are
+ * read in chunks into a buffer that is kept between calls to {@code reset}.
+ *
+ * @since  1.1.0
+ */
+public final class JsonReaderImpl implements JsonReader {
+
+    private final static int CHUNK_SIZE = 8192;
+
+    // States of the scopes on the stack
+    private final static int
+        EMPTY_DOCUMENT    = 0,
+        NONEMPTY_DOCUMENT = 1,
+        EMPTY_OBJECT      = 2,
+        DANGLING_NAME     = 3,
+        NONEMPTY_OBJECT   = 4,
+        EMPTY_ARRAY       = 5,
+        NONEMPTY_ARRAY    = 6;
+
+    // Parts of a number, in the order they may appear
+    private final static int
+        NUMBER_INTEGER        = 0,
+        NUMBER_FRACTION       = 1,
+        NUMBER_EXPONENT_START = 2,
+        NUMBER_EXPONENT_SIGN  = 3,
+        NUMBER_EXPONENT       = 4;
+
+    // Input
+    private byte[] buffer;
+    private byte[] chunk;
+    private int pos, limit;
+    private InputStream stream;
+    private ByteBuffer source;
+
+    // Position tracking for error messages
+    private long consumed;
+    private long row;
+    private long rowStart;
+
+    // Scopes
+    private int[] stack;
+    private int depth;
+
+    // The text of the current string, name or number
+    private char[] text;
+    private int textLength;
+    private boolean integral;
+
+    private JsonToken current;
+
+    public JsonReaderImpl() {
+        this.text  = new char[64];
+        this.stack = new int[32];
+    }
+
+    @Override
+    public JsonReader reset(byte[] json, int offset, int length) {
+        requireNonNull(json);
+        if (offset < 0 || length < 0 || offset + length > json.length) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        resetState();
+        this.buffer = json;
+        this.pos    = offset;
+        this.limit  = offset + length;
+        this.consumed = -offset;
+        return this;
+    }
+
+    @Override
+    public JsonReader reset(ByteBuffer json) {
+        requireNonNull(json);
+        if (json.hasArray()) {
+            return reset(
+                json.array(),
+                json.arrayOffset() + json.position(),
+                json.remaining()
+            );
+        }
+
+        resetState();
+        this.source = json.duplicate();
+        useChunk();
+        return this;
+    }
+
+    @Override
+    public JsonReader reset(InputStream json) {
+        requireNonNull(json);
+        resetState();
+        this.stream = json;
+        useChunk();
+        return this;
+    }
+
+    private void resetState() {
+        closeStream();
+        this.source     = null;
+        this.consumed   = 0;
+        this.row        = 0;
+        this.rowStart   = 0;
+        this.depth      = 1;
+        this.stack[0]   = EMPTY_DOCUMENT;
+        this.textLength = 0;
+        this.current    = null;
+    }
+
+    private void useChunk() {
+        if (chunk == null) {
+            chunk = new byte[CHUNK_SIZE];
+        }
+
+        this.buffer = chunk;
+        this.pos    = 0;
+        this.limit  = 0;
+    }
+
+    @Override
+    public JsonToken next() {
+        final int c;
+        switch (stack[depth - 1]) {
+            case EMPTY_DOCUMENT :
+                stack[depth - 1] = NONEMPTY_DOCUMENT;
+                return current = beginValue(nextNonBlankspace());
+
+            case NONEMPTY_DOCUMENT :
+                c = nextNonBlankspaceOrEnd();
+                if (c == -1) {
+                    return current = JsonToken.END_DOCUMENT;
+                } else {
+                    throw unexpectedCharacterException(c);
+                }
+
+            case EMPTY_OBJECT :
+                c = nextNonBlankspace();
+                if (c == 0x7D) { // }
+                    depth--;
+                    return current = JsonToken.END_OBJECT;
+                } else {
+                    return current = beginName(c);
+                }
+
+            case NONEMPTY_OBJECT :
+                c = nextNonBlankspace();
+                switch (c) {
+                    case 0x7D : // }
+                        depth--;
+                        return current = JsonToken.END_OBJECT;
+                    case 0x2C : // ,
+                        return current = beginName(nextNonBlankspace());
+                    default :
+                        throw unexpectedCharacterException(c);
+                }
+
+            case DANGLING_NAME :
+                stack[depth - 1] = NONEMPTY_OBJECT;
+                return current = beginValue(nextNonBlankspace());
+
+            case EMPTY_ARRAY :
+                c = nextNonBlankspace();
+                if (c == 0x5D) { // ]
+                    depth--;
+                    return current = JsonToken.END_ARRAY;
+                } else {
+                    stack[depth - 1] = NONEMPTY_ARRAY;
+                    return current = beginValue(c);
+                }
+
+            case NONEMPTY_ARRAY :
+                c = nextNonBlankspace();
+                switch (c) {
+                    case 0x5D : // ]
+                        depth--;
+                        return current = JsonToken.END_ARRAY;
+                    case 0x2C : // ,
+                        return current = beginValue(nextNonBlankspace());
+                    default :
+                        throw unexpectedCharacterException(c);
+                }
+
+            default : throw new IllegalStateException(
+                "Unknown scope " + stack[depth - 1] + "."
+            );
+        }
+    }
+
+    @Override
+    public JsonToken current() {
+        return current;
+    }
+
+    @Override
+    public int depth() {
+        return depth - 1;
+    }
+
+    @Override
+    public String name() {
+        require(JsonToken.NAME);
+        return new String(text, 0, textLength);
+    }
+
+    @Override
+    public String string() {
+        if (current != JsonToken.STRING
+        &&  current != JsonToken.NAME
+        &&  current != JsonToken.NUMBER) {
+            throw new IllegalStateException(
+                "Expected a string, name or number but was " + current + "."
+            );
+        }
+
+        return new String(text, 0, textLength);
+    }
+
+    @Override
+    public boolean isIntegral() {
+        require(JsonToken.NUMBER);
+        return integral;
+    }
+
+    @Override
+    public long longValue() {
+        require(JsonToken.NUMBER);
+        if (!integral) {
+            return (long) doubleValue();
+        }
+
+        // Numbers with at most 18 digits always fit in a long
+        final boolean negative = text[0] == '-';
+        final int start = negative ? 1 : 0;
+        if (textLength - start <= 18) {
+            long result = 0;
+            for (int i = start; i < textLength; i++) {
+                result = result * 10 + (text[i] - '0');
+            }
+            return negative ? -result : result;
+        } else {
+            return Long.parseLong(new String(text, 0, textLength));
+        }
+    }
+
+    @Override
+    public double doubleValue() {
+        require(JsonToken.NUMBER);
+        return Double.parseDouble(new String(text, 0, textLength));
+    }
+
+    @Override
+    public Number number() {
+        return isIntegral() ? (Number) longValue() : (Number) doubleValue();
+    }
+
+    @Override
+    public void skipValue() {
+        if (current == JsonToken.NAME) {
+            next();
+        }
+
+        if (current == JsonToken.BEGIN_OBJECT
+        ||  current == JsonToken.BEGIN_ARRAY) {
+            final int target = depth - 1;
+            while (depth > target) {
+                next();
+            }
+        }
+    }
+
+    @Override
+    public Object readValue() {
+        if (current == JsonToken.NAME) {
+            next();
+        }
+
+        if (current == null) {
+            throw new IllegalStateException(
+                "The method next() must be called before readValue()."
+            );
+        }
+
+        switch (current) {
+            case BEGIN_OBJECT : {
+                final Map<String, Object> object = new LinkedHashMap<>();
+                while (next() == JsonToken.NAME) {
+                    final String key = name();
+                    next();
+                    if (object.containsKey(key)) {
+                        throw syntaxException("Duplicate key '" + key + "'");
+                    }
+                    object.put(key, readValue());
+                }
+                return object;
+            }
+            case BEGIN_ARRAY : {
+                final List<Object> list = new ArrayList<>();
+                while (next() != JsonToken.END_ARRAY) {
+                    list.add(readValue());
+                }
+                return list;
+            }
+            case STRING : return string();
+            case NUMBER : return number();
+            case TRUE   : return Boolean.TRUE;
+            case FALSE  : return Boolean.FALSE;
+            case NULL   : return null;
+            default : throw new IllegalStateException(
+                "Token " + current + " does not begin a value."
+            );
+        }
+    }
+
+    @Override
+    public void close() {
+        closeStream();
+    }
+
+    private void closeStream() {
+        if (stream != null) {
+            try {
+                stream.close();
+            } catch (final IOException ex) {
+                throw new RuntimeException("Failed to safely close stream.", ex);
+            } finally {
+                stream = null;
+            }
+        }
+    }
+
+    private void require(JsonToken expected) {
+        if (current != expected) {
+            throw new IllegalStateException(
+                "Expected " + expected + " but was " + current + "."
+            );
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    //                                Tokens                                  //
+    ////////////////////////////////////////////////////////////////////////////
+
+    private JsonToken beginName(int c) {
+        if (c != 0x22) { // "
+            throw unexpectedCharacterException(c);
+        }
+
+        readString();
+
+        final int assign = nextNonBlankspace();
+        if (assign != 0x3A) { // :
+            throw unexpectedCharacterException(assign);
+        }
+
+        stack[depth - 1] = DANGLING_NAME;
+        return JsonToken.NAME;
+    }
+
+    private JsonToken beginValue(int c) {
+        switch (c) {
+            case 0x7B : // {
+                push(EMPTY_OBJECT);
+                return JsonToken.BEGIN_OBJECT;
+            case 0x5B : // [
+                push(EMPTY_ARRAY);
+                return JsonToken.BEGIN_ARRAY;
+            case 0x22 : // "
+                readString();
+                return JsonToken.STRING;
+            case 0x74 : // t
+                expectLiteral("rue");
+                return JsonToken.TRUE;
+            case 0x66 : // f
+                expectLiteral("alse");
+                return JsonToken.FALSE;
+            case 0x6E : // n
+                expectLiteral("ull");
+                return JsonToken.NULL;
+
+            // Digit '0 - 9'
+            case 0x30 : case 0x31 : case 0x32 : case 0x33 : case 0x34 :
+            case 0x35 : case 0x36 : case 0x37 : case 0x38 : case 0x39 :
+            case 0x2E : // . (decimal sign)
+            case 0x2D : // - (minus sign)
+                readNumber(c);
+                return JsonToken.NUMBER;
+
+            default : throw unexpectedCharacterException(c);
+        }
+    }
+
+    private void push(int scope) {
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+        }
+        stack[depth++] = scope;
+    }
+
+    private void expectLiteral(String rest) {
+        for (int i = 0; i < rest.length(); i++) {
+            final int c = nextOrEnd();
+            if (c != rest.charAt(i)) {
+                throw unexpectedCharacterException(c);
+            }
+        }
+    }
+
+    private void readNumber(int first) {
+        textLength = 0;
+        integral   = true;
+        appendText((char) first);
+
+        // The mantissa may start with a decimal sign and may have leading
+        // zeros, which is more lenient than the JSON grammar but matches the
+        // behaviour of the previous parser.
+        int state = NUMBER_INTEGER;
+        boolean digits = first >= 0x30 && first <= 0x39;
+        if (first == 0x2E) {
+            state    = NUMBER_FRACTION;
+            integral = false;
+        }
+
+        while (pos < limit || fill()) {
+            final int c = buffer[pos];
+            switch (c) {
+                case 0x30 : case 0x31 : case 0x32 : case 0x33 : case 0x34 :
+                case 0x35 : case 0x36 : case 0x37 : case 0x38 : case 0x39 :
+                    if (state == NUMBER_EXPONENT_START
+                    ||  state == NUMBER_EXPONENT_SIGN) {
+                        state = NUMBER_EXPONENT;
+                    } else if (state != NUMBER_EXPONENT) {
+                        digits = true;
+                    }
+                    break;
+                case 0x2E : // .
+                    if (state != NUMBER_INTEGER) {
+                        throw unexpectedNumberCharacterException(c);
+                    }
+                    state    = NUMBER_FRACTION;
+                    integral = false;
+                    break;
+                case 0x65 : // e
+                case 0x45 : // E
+                    if (!digits || state > NUMBER_FRACTION) {
+                        throw unexpectedNumberCharacterException(c);
+                    }
+                    state    = NUMBER_EXPONENT_START;
+                    integral = false;
+                    break;
+                case 0x2B : // +
+                case 0x2D : // -
+                    if (state != NUMBER_EXPONENT_START) {
+                        throw unexpectedNumberCharacterException(c);
+                    }
+                    state = NUMBER_EXPONENT_SIGN;
+                    break;
+                default :
+                    if (!digits || state == NUMBER_EXPONENT_START
+                    ||  state == NUMBER_EXPONENT_SIGN) {
+                        throw unexpectedNumberCharacterException(c);
+                    }
+                    return;
+            }
+
+            appendText((char) c);
+            pos++;
+        }
+
+        if (!digits || state == NUMBER_EXPONENT_START
+        ||  state == NUMBER_EXPONENT_SIGN) {
+            throw unexpectedEndOfStreamException();
+        }
+    }
+
+    private void readString() {
+        textLength = 0;
+
+        while (true) {
+            // Fast path for unescaped ASCII characters
+            while (pos < limit) {
+                final byte b = buffer[pos];
+                if (b == 0x22 || b == 0x5C || b < 0) { // ", backslash or non-ASCII
+                    break;
+                }
+                appendText((char) b);
+                pos++;
+            }
+
+            final int c = nextOrEnd();
+            switch (c) {
+                case -1 :
+                    throw unexpectedEndOfStreamException();
+                case 0x22 : // "
+                    return;
+                case 0x5C : // backslash
+                    readEscape();
+                    break;
+                default :
+                    if (c < 0x80) { // the fast path ended at a chunk boundary
+                        appendText((char) c);
+                    } else {
+                        readMultiByte(c);
+                    }
+            }
+        }
+    }
+
+    private void readEscape() {
+        final int n = nextOrEnd();
+        switch (n) {
+            case 0x22 : appendText('"');  break; // \"
+            case 0x5C : appendText('\\'); break; // \\
+            case 0x2F : appendText('/');  break; // \/
+            case 0x62 : appendText('\b'); break; // \b
+            case 0x66 : appendText('\f'); break; // \f
+            case 0x6E : appendText('\n'); break; // \n
+            case 0x72 : appendText('\r'); break; // \r
+            case 0x74 : appendText('\t'); break; // \t
+            case 0x75 : { // \\uXXXX
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    final int h = nextOrEnd();
+                    final int digit = Character.digit(h, 16);
+                    if (digit < 0) {
+                        throw unexpectedCharacterException(h);
+                    }
+                    value = (value << 4) | digit;
+                }
+                appendText((char) value);
+                break;
+            }
+            case -1 : throw unexpectedEndOfStreamException();
+
+            // Unknown escape sequences are kept as they are
+            default :
+                appendText('\\');
+                if (n < 0x80) {
+                    appendText((char) n);
+                } else {
+                    readMultiByte(n);
+                }
+        }
+    }
+
+    private void readMultiByte(int first) {
+        final int codePoint;
+        if ((first & 0xE0) == 0xC0) {
+            codePoint = ((first & 0x1F) << 6) | continuation();
+        } else if ((first & 0xF0) == 0xE0) {
+            codePoint = ((first & 0x0F) << 12) | (continuation() << 6) | continuation();
+        } else if ((first & 0xF8) == 0xF0) {
+            codePoint = ((first & 0x07) << 18) | (continuation() << 12)
+                      | (continuation() << 6) | continuation();
+        } else {
+            throw syntaxException("Malformed UTF-8 byte " + first);
+        }
+
+        if (Character.isBmpCodePoint(codePoint)) {
+            appendText((char) codePoint);
+        } else {
+            appendText(Character.highSurrogate(codePoint));
+            appendText(Character.lowSurrogate(codePoint));
+        }
+    }
+
+    private int continuation() {
+        final int c = nextOrEnd();
+        if ((c & 0xC0) != 0x80) {
+            throw syntaxException("Malformed UTF-8 byte " + c);
+        }
+        return c & 0x3F;
+    }
+
+    private void appendText(char c) {
+        if (textLength == text.length) {
+            text = Arrays.copyOf(text, textLength * 2);
+        }
+        text[textLength++] = c;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    //                                 Input                                  //
+    ////////////////////////////////////////////////////////////////////////////
+
+    private int nextNonBlankspace() {
+        final int c = nextNonBlankspaceOrEnd();
+        if (c == -1) {
+            throw unexpectedEndOfStreamException();
+        }
+        return c;
+    }
+
+    private int nextNonBlankspaceOrEnd() {
+        while (pos < limit || fill()) {
+            final int c = buffer[pos++] & 0xFF;
+            switch (c) {
+                case 0x0A : // new line
+                    row++;
+                    rowStart = consumed + pos;
+                    continue;
+                case 0x09 : // tab
+                case 0x20 : // space
+                case 0x0D : // return (ignore)
+                    continue;
+                default :
+                    return c;
+            }
+        }
+
+        return -1;
+    }
+
+    private int nextOrEnd() {
+        if (pos < limit || fill()) {
+            return buffer[pos++] & 0xFF;
+        } else {
+            return -1;
+        }
+    }
+
+    private boolean fill() {
+        if (stream == null && source == null) {
+            return false;
+        }
+
+        consumed += limit;
+        pos   = 0;
+        limit = 0;
+
+        if (source != null) {
+            final int count = Math.min(buffer.length, source.remaining());
+            source.get(buffer, 0, count);
+            limit = count;
+        } else {
+            try {
+                final int count = stream.read(buffer, 0, buffer.length);
+                limit = Math.max(count, 0);
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        return limit > 0;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    //                                Errors                                  //
+    ////////////////////////////////////////////////////////////////////////////
+
+    private JsonSyntaxException unexpectedCharacterException(int c) {
+        if (c == -1) {
+            return unexpectedEndOfStreamException();
+        } else {
+            return syntaxException(
+                "Unexpected character '" + (char) c + "' (Byte: " + c + ")"
+            );
+        }
+    }
+
+    private JsonSyntaxException unexpectedNumberCharacterException(int c) {
+        pos++; // Report the offset of the offending character
+        return unexpectedCharacterException(c);
+    }
+
+    private JsonSyntaxException unexpectedEndOfStreamException() {
+        return syntaxException("Unexpected end of stream");
+    }
+
+    private JsonSyntaxException syntaxException(String message) {
+        return new JsonSyntaxException(row, consumed + pos - rowStart, message);
+    }
+}
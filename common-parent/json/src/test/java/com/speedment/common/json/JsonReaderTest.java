@@ -0,0 +1,247 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.json;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @since 1.1.0
+ */
+public class JsonReaderTest {
+    
+    private static final String DOCUMENT = 
+        "{\n" +
+        "  \"name\" : \"Speedment\",\n" +
+        "  \"version\" : 3,\n" +
+        "  \"ratio\" : -0.25,\n" +
+        "  \"big\" : 1.5e3,\n" +
+        "  \"enabled\" : true,\n" +
+        "  \"disabled\" : false,\n" +
+        "  \"nothing\" : null,\n" +
+        "  \"list\" : [1, \"two\", [], {}],\n" +
+        "  \"escaped\" : \"a\\\"b\\\\c\\/d\\n\\u00e5\",\n" +
+        "  \"unicode\" : \"åäö € 😀\"\n" +
+        "}";
+    
+    @Test
+    public void testTokens() {
+        final JsonReader reader = JsonReader.of(bytes("{\"a\":[1,2.5,\"x\"],\"b\":{}}"));
+        assertEquals(JsonToken.BEGIN_OBJECT, reader.next());
+        assertEquals(1, reader.depth());
+        assertEquals(JsonToken.NAME, reader.next());
+        assertEquals("a", reader.name());
+        assertEquals(JsonToken.BEGIN_ARRAY, reader.next());
+        assertEquals(JsonToken.NUMBER, reader.next());
+        assertTrue(reader.isIntegral());
+        assertEquals(1L, reader.longValue());
+        assertEquals(JsonToken.NUMBER, reader.next());
+        assertFalse(reader.isIntegral());
+        assertEquals(2.5, reader.doubleValue(), 0);
+        assertEquals(JsonToken.STRING, reader.next());
+        assertEquals("x", reader.string());
+        assertEquals(JsonToken.END_ARRAY, reader.next());
+        assertEquals(JsonToken.NAME, reader.next());
+        assertEquals("b", reader.name());
+        assertEquals(JsonToken.BEGIN_OBJECT, reader.next());
+        assertEquals(JsonToken.END_OBJECT, reader.next());
+        assertEquals(JsonToken.END_OBJECT, reader.next());
+        assertEquals(0, reader.depth());
+        assertEquals(JsonToken.END_DOCUMENT, reader.next());
+    }
+    
+    @Test
+    public void testReadValue() {
+        @SuppressWarnings("unchecked")
+        final Map<String, Object> map = (Map<String, Object>) Json.fromJson(bytes(DOCUMENT));
+        
+        assertEquals("Speedment", map.get("name"));
+        assertEquals(3L, map.get("version"));
+        assertEquals(-0.25, map.get("ratio"));
+        assertEquals(1500.0, map.get("big"));
+        assertEquals(Boolean.TRUE, map.get("enabled"));
+        assertEquals(Boolean.FALSE, map.get("disabled"));
+        assertTrue(map.containsKey("nothing"));
+        assertNull(map.get("nothing"));
+        assertEquals(Arrays.asList(1L, "two", Arrays.asList(), new LinkedHashMap<>()), map.get("list"));
+        assertEquals("a\"b\\c/d\nå", map.get("escaped"));
+        assertEquals("åäö € 😀", map.get("unicode"));
+    }
+    
+    @Test
+    public void testSameAsLegacyParser() {
+        final String json = "{\"id\" : 5678, \"list\" : [-1, 0.5, \"a\", true, null], \"nested\" : {\"x\" : {}}}";
+        assertEquals(Json.fromJson(json), Json.fromJson(bytes(json)));
+    }
+    
+    @Test
+    public void testSources() {
+        final Object expected = Json.fromJson(bytes(DOCUMENT));
+        
+        final ByteBuffer heap = ByteBuffer.wrap(bytes("xx" + DOCUMENT));
+        heap.position(2);
+        assertEquals(expected, Json.fromJson(heap));
+        assertEquals(2, heap.position());
+        
+        final byte[] content = bytes(DOCUMENT);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(content.length);
+        direct.put(content).flip();
+        assertEquals(expected, Json.fromJson(direct));
+        
+        try (final JsonReader reader = JsonReader.of(new ByteArrayInputStream(content))) {
+            reader.next();
+            assertEquals(expected, reader.readValue());
+            assertEquals(JsonToken.END_DOCUMENT, reader.next());
+        }
+    }
+    
+    @Test
+    public void testLargeStream() {
+        final StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 10_000; i++) {
+            if (i > 0) json.append(',');
+            json.append("{\"id\":").append(i).append(",\"name\":\"näme ").append(i).append("\"}");
+        }
+        json.append(']');
+        
+        long sum = 0;
+        int count = 0;
+        try (final JsonReader reader = JsonReader.of(new ByteArrayInputStream(bytes(json.toString())))) {
+            assertEquals(JsonToken.BEGIN_ARRAY, reader.next());
+            while (reader.next() == JsonToken.BEGIN_OBJECT) {
+                while (reader.next() == JsonToken.NAME) {
+                    if ("id".equals(reader.name())) {
+                        reader.next();
+                        sum += reader.longValue();
+                    } else {
+                        reader.next();
+                        assertTrue(reader.string().startsWith("näme "));
+                    }
+                }
+                count++;
+            }
+        }
+        
+        assertEquals(10_000, count);
+        assertEquals(9_999L * 10_000 / 2, sum);
+    }
+    
+    @Test
+    public void testSkipValue() {
+        final JsonReader reader = JsonReader.of(bytes("{\"skip\":{\"a\":[1,{\"b\":2}]},\"keep\":7}"));
+        reader.next();
+        reader.next();
+        assertEquals("skip", reader.name());
+        reader.skipValue();
+        assertEquals(JsonToken.END_OBJECT, reader.current());
+        assertEquals(JsonToken.NAME, reader.next());
+        assertEquals("keep", reader.name());
+        reader.next();
+        assertEquals(7L, reader.number());
+    }
+    
+    @Test
+    public void testReuse() {
+        final JsonReader reader = JsonReader.of(bytes("[1]"));
+        reader.next();
+        assertEquals(Arrays.asList(1L), reader.readValue());
+        
+        reader.reset(bytes("{\"a\":\"b\"}"));
+        reader.next();
+        final Object value = reader.readValue();
+        assertTrue(value instanceof Map);
+        assertEquals("b", ((Map<?, ?>) value).get("a"));
+    }
+    
+    @Test
+    public void testLongNumbers() {
+        final List<?> list = (List<?>) Json.fromJson(bytes(
+            "[" + Long.MAX_VALUE + "," + Long.MIN_VALUE + ",123456789012345678]"
+        ));
+        assertEquals(Arrays.asList(Long.MAX_VALUE, Long.MIN_VALUE, 123456789012345678L), list);
+    }
+    
+    @Test
+    public void testMalformed() {
+        for (final String json : Arrays.asList(
+            "{", "[1,]", "{\"a\" 1}", "{\"a\":1,}", "[1 2]", "tru", "-", "\"abc", "{} {}", "{\"a\":1,\"a\":2}"
+        )) {
+            try {
+                Json.fromJson(bytes(json));
+                fail("Expected " + json + " to be rejected.");
+            } catch (final JsonSyntaxException ex) {
+                // Expected
+            }
+        }
+    }
+    
+    @Test
+    public void testNumbers() {
+        assertEquals(
+            Arrays.asList(0L, -12L, 1.5, -0.25, 0.5, 1e3, 2.5E-2, -1e+2),
+            Json.fromJson(bytes("[0,-12,1.5,-0.25,.5,1e3,2.5E-2,-1e+2]"))
+        );
+    }
+
+    @Test
+    public void testMalformedNumbers() {
+        for (final String json : Arrays.asList(
+            "[1.2.3]", "[1.5-3]", "[1-2]", "[1e2e3]", "[1e2.5]", "[1e]",
+            "[1e+]", "[1e+-2]", "[-e5]", "[.e5]", "[+1]", "[1+2]", "1e", "-."
+        )) {
+            try {
+                Json.fromJson(bytes(json));
+                fail("Expected " + json + " to be rejected.");
+            } catch (final JsonSyntaxException ex) {
+                // Expected
+            }
+        }
+    }
+
+    @Test
+    public void testMalformedNumberPosition() {
+        try {
+            Json.fromJson(bytes("{\"a\":1.2.3}"));
+            fail("Expected exception.");
+        } catch (final JsonSyntaxException ex) {
+            assertTrue(ex.getMessage(), ex.getMessage().contains("Unexpected character '.'"));
+            assertTrue(ex.getMessage(), ex.getMessage().endsWith("on row 0 col 9."));
+        }
+    }
+
+    @Test
+    public void testErrorPosition() {
+        try {
+            Json.fromJson(bytes("{\n  \"a\" : x\n}"));
+            fail("Expected exception.");
+        } catch (final JsonSyntaxException ex) {
+            assertTrue(ex.getMessage(), ex.getMessage().endsWith("on row 1 col 9."));
+        }
+    }
+    
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
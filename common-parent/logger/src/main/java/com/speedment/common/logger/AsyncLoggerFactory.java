@@ -0,0 +1,152 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.logger;
+
+import com.speedment.common.logger.internal.AsyncLoggerFactoryImpl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * A {@link LoggerFactory} that produces loggers that do not format or write
+ * messages in the logging thread. Instead, the format string and the
+ * arguments of every message are put in a bounded ring buffer and formatted on
+ * a background thread that writes them to a channel. The ring buffer and the
+ * buffers used for formatting are allocated once and reused.
+ * <p>
+ * Since arguments are formatted later, they should not be modified after
+ * they have been passed to a logger. Loggers that have
+ * {@link LoggerEventListener listeners} installed format messages in the
+ * logging thread, since the listeners expect a formatted message.
+ * <p>
+ * To use it, set the factory before any loggers are created:
+ * <pre>{@code
+ *     LoggerManager.setFactory(AsyncLoggerFactory.create(Paths.get("speedment.log")));
+ * }</pre>
+ *
+ * @since  1.1.0
+ */
+public interface AsyncLoggerFactory extends LoggerFactory, AutoCloseable {
+
+    /**
+     * The default number of events that the ring buffer can hold.
+     */
+    int DEFAULT_CAPACITY = 8192;
+
+    /**
+     * Decides what happens when a message is logged and the ring buffer is
+     * full.
+     */
+    enum OverflowPolicy {
+
+        /**
+         * The logging thread waits until there is room in the buffer. No
+         * messages are lost.
+         */
+        BLOCK,
+
+        /**
+         * The message is discarded. The number of discarded messages is
+         * reported in the log once there is room again.
+         */
+        DROP,
+
+        /**
+         * Messages with a level lower than {@link Level#WARN} are discarded
+         * and other messages wait until there is room in the buffer.
+         */
+        DROP_BELOW_WARN
+    }
+
+    /**
+     * Returns the number of messages that have been discarded because the
+     * ring buffer was full.
+     *
+     * @return  the number of discarded messages
+     */
+    long getDroppedCount();
+
+    /**
+     * Blocks until every message that was logged before this method was
+     * called has been written to the channel.
+     */
+    void flush();
+
+    /**
+     * Writes all remaining messages, stops the background thread and closes
+     * the channel. Messages logged after this method has been called are
+     * discarded.
+     */
+    @Override
+    void close();
+
+    /**
+     * Creates a new factory that appends messages to the specified file
+     * using the {@link #DEFAULT_CAPACITY default capacity} and the
+     * {@link OverflowPolicy#BLOCK} policy.
+     *
+     * @param file  the file to append to
+     * @return      the new factory
+     *
+     * @throws UncheckedIOException  if the file could not be opened
+     */
+    static AsyncLoggerFactory create(Path file) {
+        return create(file, DEFAULT_CAPACITY, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Creates a new factory that appends messages to the specified file.
+     *
+     * @param file      the file to append to
+     * @param capacity  the number of messages that the ring buffer can hold,
+     *                  rounded up to the closest power of two
+     * @param policy    what to do when the ring buffer is full
+     * @return          the new factory
+     *
+     * @throws UncheckedIOException  if the file could not be opened
+     */
+    static AsyncLoggerFactory create(Path file, int capacity, OverflowPolicy policy) {
+        try {
+            return create(FileChannel.open(file, CREATE, WRITE, APPEND), capacity, policy);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(
+                "Could not open log file '" + file + "'.", ex
+            );
+        }
+    }
+
+    /**
+     * Creates a new factory that writes messages to the specified channel.
+     * The channel is closed when the factory is closed.
+     *
+     * @param channel   the channel to write to
+     * @param capacity  the number of messages that the ring buffer can hold,
+     *                  rounded up to the closest power of two
+     * @param policy    what to do when the ring buffer is full
+     * @return          the new factory
+     */
+    static AsyncLoggerFactory create(WritableByteChannel channel, int capacity, OverflowPolicy policy) {
+        return new AsyncLoggerFactoryImpl(channel, capacity, policy);
+    }
+}
@@ -88,6 +88,10 @@ abstract class AbstractLogger implements Logger {
         listeners.remove(listener);
     }
 
+    protected boolean hasListeners() {
+        return !listeners.isEmpty();
+    }
+
     @Override
     public void trace(String message) {
         log(Level.TRACE, NO_THROWABLE, message);
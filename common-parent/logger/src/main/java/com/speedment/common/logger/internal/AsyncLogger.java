@@ -0,0 +1,105 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.logger.internal;
+
+import com.speedment.common.logger.Level;
+import com.speedment.common.logger.LoggerFormatter;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A logger that hands over the format and the arguments of every message to
+ * an {@link AsyncLoggerFactoryImpl} instead of formatting it. If listeners are
+ * installed, the message is formatted in the calling thread so that the
+ * listeners can be notified.
+ *
+ * @since  1.1.0
+ */
+public final class AsyncLogger extends AbstractLogger {
+
+    private final AsyncLoggerFactoryImpl factory;
+
+    AsyncLogger(String name, LoggerFormatter formatter, AsyncLoggerFactoryImpl factory) {
+        super(name, formatter);
+        this.factory = requireNonNull(factory);
+    }
+
+    @Override
+    protected void output(String message) {
+        // Only called when there are listeners
+        factory.publishFormatted(message);
+    }
+
+    @Override
+    protected void log(Level level, Throwable throwable, String message) {
+        if (isEnabled(level)) {
+            if (hasListeners()) {
+                super.log(level, throwable, message);
+            } else {
+                factory.publish(this, level, throwable, message, 0, null, null, null, null);
+            }
+        }
+    }
+
+    @Override
+    protected void log(Level level, Throwable throwable, String message, Object arg) {
+        if (isEnabled(level)) {
+            if (hasListeners()) {
+                super.log(level, throwable, message, arg);
+            } else {
+                factory.publish(this, level, throwable, message, 1, arg, null, null, null);
+            }
+        }
+    }
+
+    @Override
+    protected void log(Level level, Throwable throwable, String message, Object arg1, Object arg2) {
+        if (isEnabled(level)) {
+            if (hasListeners()) {
+                super.log(level, throwable, message, arg1, arg2);
+            } else {
+                factory.publish(this, level, throwable, message, 2, arg1, arg2, null, null);
+            }
+        }
+    }
+
+    @Override
+    protected void log(Level level, Throwable throwable, String message, Object arg1, Object arg2, Object arg3) {
+        if (isEnabled(level)) {
+            if (hasListeners()) {
+                super.log(level, throwable, message, arg1, arg2, arg3);
+            } else {
+                factory.publish(this, level, throwable, message, 3, arg1, arg2, arg3, null);
+            }
+        }
+    }
+
+    @Override
+    protected void log(Level level, Throwable throwable, String message, Object arg1, Object arg2, Object arg3, Object... args) {
+        if (isEnabled(level)) {
+            if (hasListeners()) {
+                super.log(level, throwable, message, arg1, arg2, arg3, args);
+            } else {
+                factory.publish(this, level, throwable, message, 3 + args.length, arg1, arg2, arg3, args);
+            }
+        }
+    }
+
+    private boolean isEnabled(Level level) {
+        return level.isEqualOrHigherThan(getLevel());
+    }
+}
@@ -0,0 +1,239 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.logger.internal;
+
+import com.speedment.common.logger.AsyncLoggerFactory;
+import com.speedment.common.logger.Level;
+import com.speedment.common.logger.LoggerFormatter;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Default implementation of the {@link AsyncLoggerFactory} interface. Loggers
+ * publish events to a {@link LogRingBuffer} that is drained by a single
+ * daemon thread. When there is nothing to write, the thread parks for a short
+ * while instead of being woken up by every message, so that logging a message
+ * never involves a system call in the logging thread.
+ *
+ * @since  1.1.0
+ */
+public final class AsyncLoggerFactoryImpl extends AbstractLoggerFactory
+implements AsyncLoggerFactory {
+
+    private static final String NAME = "AsyncLoggerFactory";
+
+    private static final long IDLE_PARK_NANOS  = 1_000_000;
+    private static final long FULL_PARK_NANOS  = 10_000;
+    private static final long FLUSH_PARK_NANOS = 100_000;
+
+    private final WritableByteChannel channel;
+    private final OverflowPolicy policy;
+    private final LogRingBuffer ring;
+    private final LogWriter writer;
+    private final AtomicLong dropped;
+    private final Thread thread;
+    private final Thread shutdownHook;
+
+    private volatile boolean closed;
+    private volatile long written;
+
+    public AsyncLoggerFactoryImpl(
+            final WritableByteChannel channel,
+            final int capacity,
+            final OverflowPolicy policy) {
+
+        this.channel = requireNonNull(channel);
+        this.policy  = requireNonNull(policy);
+        this.ring    = new LogRingBuffer(capacity);
+        this.writer  = new LogWriter(channel);
+        this.dropped = new AtomicLong();
+
+        this.thread = new Thread(this::run, "speedment-async-logger");
+        this.thread.setDaemon(true);
+        this.thread.start();
+
+        // Make sure buffered messages are written if the JVM exits
+        this.shutdownHook = new Thread(this::close, "speedment-async-logger-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    @Override
+    public AsyncLogger make(String binding, LoggerFormatter formatter) {
+        return new AsyncLogger(binding, formatter, this);
+    }
+
+    @Override
+    public Class<AsyncLogger> loggerClass() {
+        return AsyncLogger.class;
+    }
+
+    @Override
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    @Override
+    public void flush() {
+        final long target = ring.claimed();
+        while (written < target && thread.isAlive()) {
+            LockSupport.unpark(thread);
+            LockSupport.parkNanos(this, FLUSH_PARK_NANOS);
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            channel.close();
+        } catch (final IOException ex) {
+            System.err.println("Could not close log channel: " + ex.getMessage());
+        }
+
+        if (Thread.currentThread() != shutdownHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (final IllegalStateException ex) {
+                // The JVM is already shutting down
+            }
+        }
+    }
+
+    void publish(
+            final AsyncLogger logger,
+            final Level level,
+            final Throwable throwable,
+            final String format,
+            final int argCount,
+            final Object arg1,
+            final Object arg2,
+            final Object arg3,
+            final Object[] rest) {
+
+        final long sequence = claim(level);
+        if (sequence >= 0) {
+            final LogEvent event = ring.get(sequence);
+            event.timestamp  = System.currentTimeMillis();
+            event.threadName = Thread.currentThread().getName();
+            event.loggerName = logger.getName();
+            event.formatter  = logger.getFormatter();
+            event.level      = level;
+            event.throwable  = throwable;
+            event.format     = format;
+            event.argCount   = argCount;
+            event.arg1       = arg1;
+            event.arg2       = arg2;
+            event.arg3       = arg3;
+            event.rest       = rest;
+            ring.publish(sequence);
+        }
+    }
+
+    void publishFormatted(String message) {
+        // The level of a formatted message is not known. Treat it as a
+        // warning so that it is not dropped by DROP_BELOW_WARN.
+        final long sequence = claim(Level.WARN);
+        if (sequence >= 0) {
+            ring.get(sequence).formatted = message;
+            ring.publish(sequence);
+        }
+    }
+
+    private long claim(Level level) {
+        if (closed) {
+            dropped.incrementAndGet();
+            return -1;
+        }
+
+        long sequence = ring.claim();
+        if (sequence >= 0) {
+            return sequence;
+        }
+
+        if (policy == OverflowPolicy.DROP
+        || (policy == OverflowPolicy.DROP_BELOW_WARN && !level.isEqualOrHigherThan(Level.WARN))
+        // The background thread would wait for itself
+        || Thread.currentThread() == thread) {
+            dropped.incrementAndGet();
+            return -1;
+        }
+
+        while ((sequence = ring.claim()) < 0) {
+            if (closed) {
+                dropped.incrementAndGet();
+                return -1;
+            }
+            LockSupport.unpark(thread);
+            LockSupport.parkNanos(this, FULL_PARK_NANOS);
+        }
+
+        return sequence;
+    }
+
+    private void run() {
+        long reportedDropped = 0;
+        while (true) {
+            boolean idle = true;
+
+            LogEvent event;
+            while ((event = ring.peek()) != null) {
+                idle = false;
+                try {
+                    writer.write(event);
+                } catch (final RuntimeException ex) {
+                    // A formatter or a toString()-method failed
+                    System.err.println("Could not format log message: " + ex);
+                } finally {
+                    ring.release();
+                }
+            }
+
+            final long droppedNow = dropped.get();
+            if (droppedNow != reportedDropped) {
+                writer.writeDropped(System.currentTimeMillis(), NAME, droppedNow - reportedDropped);
+                reportedDropped = droppedNow;
+            }
+
+            writer.flush();
+            written = ring.released();
+
+            if (closed && ring.released() == ring.claimed()) {
+                return;
+            } else if (idle) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+    }
+}
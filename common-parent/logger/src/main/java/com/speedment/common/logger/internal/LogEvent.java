@@ -0,0 +1,89 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.logger.internal;
+
+import com.speedment.common.logger.Level;
+import com.speedment.common.logger.LoggerFormatter;
+
+/**
+ * A mutable slot in a {@link LogRingBuffer}. Slots are allocated once and
+ * reused for every message that passes through the buffer. A message is
+ * either pre-parameterized, in which case the format and up to three
+ * arguments (and an array with the remaining arguments) are stored, or
+ * already formatted.
+ *
+ * @since  1.1.0
+ */
+final class LogEvent {
+
+    long timestamp;
+    String threadName;
+    String loggerName;
+    LoggerFormatter formatter;
+    Level level;
+    Throwable throwable;
+
+    String format;
+    int argCount; // Including the ones in rest
+    Object arg1, arg2, arg3;
+    Object[] rest;
+
+    String formatted;
+
+    void clear() {
+        threadName = null;
+        loggerName = null;
+        formatter  = null;
+        level      = null;
+        throwable  = null;
+        format     = null;
+        arg1       = null;
+        arg2       = null;
+        arg3       = null;
+        rest       = null;
+        formatted  = null;
+    }
+
+    /**
+     * Returns all the arguments of this event as a new array.
+     *
+     * @return  the arguments
+     */
+    Object[] arguments() {
+        final Object[] result = new Object[argCount];
+        for (int i = 0; i < argCount; i++) {
+            result[i] = argument(i);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the argument with the specified index, where the index must be
+     * less than {@link #argCount}.
+     *
+     * @param index  the index
+     * @return       the argument
+     */
+    Object argument(int index) {
+        switch (index) {
+            case 0  : return arg1;
+            case 1  : return arg2;
+            case 2  : return arg3;
+            default : return rest[index - 3];
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.logger.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded, lock-free ring buffer of {@link LogEvent LogEvents} with many
+ * producers and a single consumer. Every slot has a sequence number that
+ * tells whether the slot is free to be claimed by a producer or ready to be
+ * consumed.
+ * <p>
+ * A producer calls {@link #claim()}, fills in the returned slot and then
+ * calls {@link #publish(long)}. The consumer calls {@link #peek()} and,
+ * once it is done with the slot, {@link #release()}.
+ *
+ * @since  1.1.0
+ */
+final class LogRingBuffer {
+
+    private final LogEvent[] events;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail;
+    private volatile long head; // Only written by the consumer
+
+    LogRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(
+                "Capacity must be positive, was " + capacity + "."
+            );
+        }
+
+        int actualSize = 1;
+        while (actualSize < capacity && actualSize < (1 << 30)) {
+            actualSize <<= 1;
+        }
+
+        this.events    = new LogEvent[actualSize];
+        this.sequences = new AtomicLongArray(actualSize);
+        this.mask      = actualSize - 1;
+        this.tail      = new AtomicLong();
+
+        for (int i = 0; i < actualSize; i++) {
+            events[i] = new LogEvent();
+            sequences.set(i, i);
+        }
+    }
+
+    int capacity() {
+        return events.length;
+    }
+
+    /**
+     * Claims the next free slot in the buffer and returns its sequence
+     * number, or {@code -1} if the buffer is full.
+     *
+     * @return  the sequence number or {@code -1}
+     */
+    long claim() {
+        long pos = tail.get();
+        while (true) {
+            final long dif = sequences.get((int) pos & mask) - pos;
+            if (dif == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    return pos;
+                }
+                pos = tail.get();
+            } else if (dif < 0) {
+                return -1;
+            } else {
+                pos = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Returns the slot with the specified sequence number.
+     *
+     * @param sequence  the sequence number returned by {@link #claim()}
+     * @return          the slot
+     */
+    LogEvent get(long sequence) {
+        return events[(int) sequence & mask];
+    }
+
+    /**
+     * Makes the claimed slot with the specified sequence number visible to
+     * the consumer.
+     *
+     * @param sequence  the sequence number returned by {@link #claim()}
+     */
+    void publish(long sequence) {
+        sequences.lazySet((int) sequence & mask, sequence + 1);
+    }
+
+    /**
+     * Returns the next published slot, or {@code null} if there is no
+     * published slot. May only be called by the consumer.
+     *
+     * @return  the next slot or {@code null}
+     */
+    LogEvent peek() {
+        final long pos = head;
+        if (sequences.get((int) pos & mask) == pos + 1) {
+            return events[(int) pos & mask];
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the slot last returned by {@link #peek()} to the producers. May
+     * only be called by the consumer.
+     */
+    void release() {
+        final long pos = head;
+        final int index = (int) pos & mask;
+        events[index].clear();
+        sequences.lazySet(index, pos + events.length);
+        head = pos + 1;
+    }
+
+    /**
+     * Returns the number of slots that have been claimed so far.
+     *
+     * @return  the number of claimed slots
+     */
+    long claimed() {
+        return tail.get();
+    }
+
+    /**
+     * Returns the number of slots that have been released so far.
+     *
+     * @return  the number of released slots
+     */
+    long released() {
+        return head;
+    }
+}
@@ -0,0 +1,319 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.logger.internal;
+
+import com.speedment.common.logger.Level;
+import com.speedment.common.logger.internal.formatter.StandardFormatters;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Formats {@link LogEvent LogEvents} and writes them to a channel. The
+ * buffers used for formatting and encoding are reused between events, and
+ * the encoded bytes are only written to the channel once the byte buffer is
+ * full or {@link #flush()} is called.
+ * <p>
+ * If an event uses the standard plain formatter, the event is formatted
+ * directly into the reused buffer. The format strings {@code %s}, {@code %d},
+ * {@code %n} and {@code %%} are handled without creating intermediate
+ * strings. Any other format string is handled by
+ * {@link String#format(String, Object...)}.
+ * <p>
+ * Instances are not thread-safe and are only used by the background thread.
+ *
+ * @since  1.1.0
+ */
+final class LogWriter {
+
+    private static final int BYTE_BUFFER_SIZE = 64 * 1024;
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private final WritableByteChannel channel;
+    private final StringBuilder line;
+    private final StringBuilder message;
+    private final CharsetEncoder encoder;
+    private final ByteBuffer bytes;
+    private char[] chars;
+    private CharBuffer charBuffer;
+    private boolean failed;
+
+    LogWriter(WritableByteChannel channel) {
+        this.channel = requireNonNull(channel);
+        this.line    = new StringBuilder(256);
+        this.message = new StringBuilder(256);
+        this.encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.bytes      = ByteBuffer.allocateDirect(BYTE_BUFFER_SIZE);
+        this.chars      = new char[256];
+        this.charBuffer = CharBuffer.wrap(chars);
+    }
+
+    /**
+     * Formats the specified event and adds it to the byte buffer, writing the
+     * byte buffer to the channel if it becomes full.
+     *
+     * @param event  the event to write
+     */
+    void write(LogEvent event) {
+        line.setLength(0);
+
+        if (event.formatted != null) {
+            line.append(event.formatted);
+        } else if (event.formatter == StandardFormatters.PLAIN_FORMATTER) {
+            appendPrefix(event.timestamp, event.level, event.threadName, event.loggerName);
+            appendMessage(line, event);
+            appendThrowable(event.throwable);
+        } else {
+            message.setLength(0);
+            appendMessage(message, event);
+            line.append(event.formatter.apply(event.level, event.loggerName, message.toString()));
+            appendThrowable(event.throwable);
+        }
+
+        line.append(LINE_SEPARATOR);
+        encode();
+    }
+
+    /**
+     * Writes a warning that the specified number of messages were discarded.
+     *
+     * @param timestamp   the time in milliseconds since the epoch
+     * @param loggerName  the name of the reporting logger
+     * @param count       the number of discarded messages
+     */
+    void writeDropped(long timestamp, String loggerName, long count) {
+        line.setLength(0);
+        appendPrefix(timestamp, Level.WARN, Thread.currentThread().getName(), loggerName);
+        line.append(count)
+            .append(" log messages were discarded since the buffer was full.")
+            .append(LINE_SEPARATOR);
+        encode();
+    }
+
+    /**
+     * Writes everything in the byte buffer to the channel.
+     */
+    void flush() {
+        bytes.flip();
+        try {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        } catch (final IOException ex) {
+            if (!failed) {
+                // There is no logger left to report this to
+                failed = true;
+                System.err.println("Could not write to log channel: " + ex.getMessage());
+            }
+        } finally {
+            bytes.clear();
+        }
+    }
+
+    private void appendPrefix(long timestamp, Level level, String threadName, String loggerName) {
+        appendInstant(timestamp);
+        line.append(' ')
+            .append(level.toText())
+            .append(" [")
+            .append(threadName)
+            .append("] (")
+            .append(loggerName)
+            .append(") - ");
+    }
+
+    private void appendThrowable(Throwable throwable) {
+        if (throwable != null) {
+            final StringWriter writer = new StringWriter();
+            throwable.printStackTrace(new PrintWriter(writer));
+            line.append('\n').append(writer.getBuffer());
+        }
+    }
+
+    private void encode() {
+        final int length = line.length();
+        if (chars.length < length) {
+            chars = new char[Math.max(length, chars.length * 2)];
+            charBuffer = CharBuffer.wrap(chars);
+        }
+
+        line.getChars(0, length, chars, 0);
+        charBuffer.clear();
+        charBuffer.limit(length);
+        encoder.reset();
+
+        CoderResult result;
+        do {
+            result = encoder.encode(charBuffer, bytes, true);
+            if (result.isOverflow()) {
+                flush();
+            }
+        } while (result.isOverflow());
+
+        while (encoder.flush(bytes).isOverflow()) {
+            flush();
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    //                               Formatting                               //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Appends the message of the specified event to the builder. If the
+     * format can not be handled without allocating, {@link String#format}
+     * is used instead. Invalid formats never cause an exception since there
+     * is no caller to report it to. Instead the format is written as it is.
+     *
+     * @param sb     the builder to append to
+     * @param event  the event
+     */
+    static void appendMessage(StringBuilder sb, LogEvent event) {
+        final String format = event.format;
+        if (format == null) {
+            sb.append("null");
+            return;
+        } else if (event.argCount == 0) {
+            sb.append(format);
+            return;
+        }
+
+        final int start = sb.length();
+        if (!appendSimple(sb, format, event)) {
+            sb.setLength(start);
+            try {
+                sb.append(String.format(format, event.arguments()));
+            } catch (final RuntimeException ex) {
+                sb.append(format)
+                    .append(" (invalid format: ")
+                    .append(ex.getClass().getSimpleName())
+                    .append(')');
+            }
+        }
+    }
+
+    private static boolean appendSimple(StringBuilder sb, String format, LogEvent event) {
+        final int length = format.length();
+        int arg = 0;
+        int from = 0;
+        for (int i = 0; i < length; i++) {
+            if (format.charAt(i) != '%') {
+                continue;
+            } else if (i + 1 == length) {
+                return false;
+            }
+
+            sb.append(format, from, i);
+            final char conversion = format.charAt(++i);
+            switch (conversion) {
+                case '%' : sb.append('%'); break;
+                case 'n' : sb.append(LINE_SEPARATOR); break;
+                case 's' : {
+                    if (arg == event.argCount) return false;
+                    final Object value = event.argument(arg++);
+                    if (isIntegral(value)) {
+                        sb.append(((Number) value).longValue());
+                    } else {
+                        sb.append(value);
+                    }
+                    break;
+                }
+                case 'd' : {
+                    if (arg == event.argCount) return false;
+                    final Object value = event.argument(arg++);
+                    if (isIntegral(value)) {
+                        sb.append(((Number) value).longValue());
+                    } else if (value == null || value instanceof BigInteger) {
+                        sb.append(value);
+                    } else {
+                        return false;
+                    }
+                    break;
+                }
+                default : return false;
+            }
+            from = i + 1;
+        }
+        sb.append(format, from, length);
+        return true;
+    }
+
+    private static boolean isIntegral(Object value) {
+        return value instanceof Long
+            || value instanceof Integer
+            || value instanceof Short
+            || value instanceof Byte;
+    }
+
+    /**
+     * Appends the specified time as an ISO-8601 instant with millisecond
+     * precision, for an example {@code 2018-01-31T13:37:00.123Z}.
+     *
+     * @param epochMillis  the number of milliseconds since the epoch
+     */
+    private void appendInstant(long epochMillis) {
+        final long epochDay = Math.floorDiv(epochMillis, 86_400_000L);
+        final int millisOfDay = (int) Math.floorMod(epochMillis, 86_400_000L);
+
+        // Converts the epoch day to a civil date using the algorithm
+        // described in http://howardhinnant.github.io/date_algorithms.html
+        final long z = epochDay + 719_468;
+        final long era = Math.floorDiv(z, 146_097);
+        final long doe = z - era * 146_097;
+        final long yoe = (doe - doe / 1_460 + doe / 36_524 - doe / 146_096) / 365;
+        final long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        final long mp = (5 * doy + 2) / 153;
+        final int day = (int) (doy - (153 * mp + 2) / 5 + 1);
+        final int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        final long year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+
+        line.append(year).append('-');
+        appendPadded(month, 2);
+        line.append('-');
+        appendPadded(day, 2);
+        line.append('T');
+        appendPadded(millisOfDay / 3_600_000, 2);
+        line.append(':');
+        appendPadded(millisOfDay / 60_000 % 60, 2);
+        line.append(':');
+        appendPadded(millisOfDay / 1_000 % 60, 2);
+        line.append('.');
+        appendPadded(millisOfDay % 1_000, 3);
+        line.append('Z');
+    }
+
+    private void appendPadded(int value, int digits) {
+        for (int limit = 10, i = 1; i < digits; i++, limit *= 10) {
+            if (value < limit) {
+                line.append('0');
+            }
+        }
+        line.append(value);
+    }
+}
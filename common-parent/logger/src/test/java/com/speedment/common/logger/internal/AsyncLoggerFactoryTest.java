@@ -0,0 +1,165 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.logger.internal;
+
+import com.speedment.common.logger.AsyncLoggerFactory;
+import com.speedment.common.logger.AsyncLoggerFactory.OverflowPolicy;
+import com.speedment.common.logger.Level;
+import com.speedment.common.logger.Logger;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import static org.junit.Assert.*;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * @since 1.1.0
+ */
+public class AsyncLoggerFactoryTest {
+
+    private Path file;
+    private AsyncLoggerFactory factory;
+
+    @Before
+    public void setUp() throws IOException {
+        file = Files.createTempFile("async-logger", ".log");
+        factory = AsyncLoggerFactory.create(file, 16, OverflowPolicy.BLOCK);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        factory.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testWritesFormattedMessages() throws IOException {
+        final Logger logger = factory.create("test");
+        logger.info("Plain message");
+        logger.info("Value is %d", 42);
+        logger.warn("%s and %s", "a", null);
+        logger.error("%s, %s, %s, %s", 1, 2L, "three", 4.0);
+        logger.info("Padded %5d|%-3s|", 7, "x");
+        logger.debug("Not written");
+        factory.flush();
+
+        final List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(5, lines.size());
+        assertTrue(lines.get(0).endsWith("INFO  [" + Thread.currentThread().getName() + "] (test) - Plain message"));
+        assertTrue(lines.get(1).endsWith(" - Value is 42"));
+        assertTrue(lines.get(2).contains("WARN "));
+        assertTrue(lines.get(2).endsWith(" - a and null"));
+        assertTrue(lines.get(3).endsWith(" - 1, 2, three, 4.0"));
+        assertTrue(lines.get(4).endsWith(" - Padded     7|x  |"));
+    }
+
+    @Test
+    public void testTimestamp() throws IOException {
+        final Instant before = Instant.now().minusMillis(1);
+        factory.create("test").info("Time");
+        factory.flush();
+        final Instant after = Instant.now().plusMillis(1);
+
+        final String line = Files.readAllLines(file, StandardCharsets.UTF_8).get(0);
+        final Instant logged = Instant.parse(line.substring(0, line.indexOf(' ')));
+        assertFalse(logged.isBefore(before));
+        assertFalse(logged.isAfter(after));
+    }
+
+    @Test
+    public void testManyThreads() throws IOException {
+        final Logger logger = factory.create("test");
+        final List<Thread> threads = new ArrayList<>();
+        IntStream.range(0, 4).forEach(t -> {
+            final Thread thread = new Thread(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    logger.info("Thread %d message %d", t, i);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        });
+        for (final Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (final InterruptedException ex) {
+                throw new RuntimeException(ex);
+            }
+        }
+        factory.flush();
+
+        assertEquals(4_000, Files.readAllLines(file, StandardCharsets.UTF_8).size());
+        assertEquals(0, factory.getDroppedCount());
+    }
+
+    @Test
+    public void testInvalidFormat() throws IOException {
+        factory.create("test").info("Missing %s %s", "one");
+        factory.flush();
+        final String line = Files.readAllLines(file, StandardCharsets.UTF_8).get(0);
+        assertTrue(line.contains("Missing %s %s"));
+    }
+
+    @Test
+    public void testThrowable() throws IOException {
+        factory.create("test").error(new IllegalStateException("Oops"), "Failed");
+        factory.flush();
+        final List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertTrue(lines.get(0).endsWith(" - Failed"));
+        assertTrue(lines.get(1).contains("IllegalStateException: Oops"));
+    }
+
+    @Test
+    public void testListenersReceiveFormattedMessage() throws IOException {
+        final List<String> messages = new ArrayList<>();
+        final Logger logger = factory.create("test");
+        logger.addListener(e -> messages.add(e.getMessage()));
+        logger.setLevel(Level.DEBUG);
+        logger.debug("Hello %s", "world");
+        factory.flush();
+
+        assertEquals(1, messages.size());
+        assertTrue(messages.get(0).endsWith("Hello world"));
+        assertEquals(messages, Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testRingBufferIsBounded() {
+        final LogRingBuffer ring = new LogRingBuffer(3);
+        assertEquals(4, ring.capacity());
+        for (int i = 0; i < 4; i++) {
+            final long sequence = ring.claim();
+            assertEquals(i, sequence);
+            ring.get(sequence).format = "message " + i;
+            ring.publish(sequence);
+        }
+        assertEquals(-1, ring.claim());
+
+        assertEquals("message 0", ring.peek().format);
+        ring.release();
+        assertEquals(4, ring.claim());
+        assertEquals("message 1", ring.peek().format);
+    }
+}
@@ -0,0 +1,323 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.mapstream;
+
+import java.util.Map;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.DoubleStream;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A stream of keys associated with primitive {@code double} values, for an
+ * example the result of summing or averaging elements by key. Unlike a
+ * {@link MapStream}, the pairs are never materialized as {@code Map.Entry}
+ * objects and the values are never boxed unless explicitly requested by
+ * {@link #boxed()} or {@link #toMap()}.
+ * <p>
+ * Internally, the stream is an {@code IntStream} over the slots of an
+ * {@link ObjDoubleMap}. Operations on the values are composed into a function
+ * that is applied to the slot when the value is needed.
+ *
+ * @param <K>  the key type
+ *
+ * @since  2.4.0
+ */
+public final class DoubleMapStream<K> {
+
+    /**
+     * A predicate that takes a key and a {@code double} value.
+     *
+     * @param <K>  the key type
+     */
+    @FunctionalInterface
+    public interface EntryPredicate<K> {
+        boolean test(K key, double value);
+    }
+
+    /**
+     * A function that takes a key and a {@code double} value.
+     *
+     * @param <K>  the key type
+     * @param <R>  the result type
+     */
+    @FunctionalInterface
+    public interface EntryFunction<K, R> {
+        R apply(K key, double value);
+    }
+
+    private final ObjDoubleMap<K> map;
+    private final IntStream slots;
+    private final IntToDoubleFunction value;
+
+    /**
+     * Creates a new stream over the keys and values of the specified map.
+     *
+     * @param <K>  the key type
+     * @param map  the map to stream over
+     * @return     the new stream
+     */
+    public static <K> DoubleMapStream<K> of(ObjDoubleMap<K> map) {
+        requireNonNull(map);
+        return new DoubleMapStream<>(
+            map,
+            IntStream.range(0, map.capacity()).filter(map::isOccupied),
+            map::valueAt
+        );
+    }
+
+    /**
+     * Creates a new, empty stream.
+     *
+     * @param <K>  the key type
+     * @return     an empty stream
+     */
+    public static <K> DoubleMapStream<K> empty() {
+        return of(new ObjDoubleMap<>(0));
+    }
+
+    private DoubleMapStream(ObjDoubleMap<K> map, IntStream slots, IntToDoubleFunction value) {
+        this.map   = map;
+        this.slots = slots;
+        this.value = value;
+    }
+
+    /**
+     * Returns a stream consisting of the pairs that match the predicate.
+     *
+     * @param predicate  the predicate
+     * @return           the new stream
+     */
+    public DoubleMapStream<K> filter(EntryPredicate<? super K> predicate) {
+        requireNonNull(predicate);
+        return with(slots.filter(i -> predicate.test(map.keyAt(i), value.applyAsDouble(i))));
+    }
+
+    /**
+     * Returns a stream consisting of the pairs where the key matches the
+     * predicate.
+     *
+     * @param predicate  the predicate
+     * @return           the new stream
+     */
+    public DoubleMapStream<K> filterKey(Predicate<? super K> predicate) {
+        requireNonNull(predicate);
+        return with(slots.filter(i -> predicate.test(map.keyAt(i))));
+    }
+
+    /**
+     * Returns a stream consisting of the pairs where the value matches the
+     * predicate.
+     *
+     * @param predicate  the predicate
+     * @return           the new stream
+     */
+    public DoubleMapStream<K> filterValue(DoublePredicate predicate) {
+        requireNonNull(predicate);
+        return with(slots.filter(i -> predicate.test(value.applyAsDouble(i))));
+    }
+
+    /**
+     * Returns a stream with the same keys where every value has been replaced
+     * by the result of the operator.
+     *
+     * @param mapper  the operator to apply to each value
+     * @return        the new stream
+     */
+    public DoubleMapStream<K> mapValue(DoubleUnaryOperator mapper) {
+        requireNonNull(mapper);
+        final IntToDoubleFunction previous = value;
+        return new DoubleMapStream<>(map, slots, i -> mapper.applyAsDouble(previous.applyAsDouble(i)));
+    }
+
+    /**
+     * Returns a stream of the results of applying the function to every pair.
+     *
+     * @param <R>     the element type of the new stream
+     * @param mapper  the function
+     * @return        the new stream
+     */
+    public <R> Stream<R> map(EntryFunction<? super K, ? extends R> mapper) {
+        requireNonNull(mapper);
+        return slots.mapToObj(i -> mapper.apply(map.keyAt(i), value.applyAsDouble(i)));
+    }
+
+    /**
+     * Returns a stream where the pairs are sorted by value in ascending
+     * order.
+     *
+     * @return  the new stream
+     */
+    public DoubleMapStream<K> sortedByValue() {
+        return with(slots.boxed()
+            .sorted((a, b) -> Double.compare(value.applyAsDouble(a), value.applyAsDouble(b)))
+            .mapToInt(Integer::intValue)
+        );
+    }
+
+    /**
+     * Returns a stream where the pairs are sorted by value in descending
+     * order.
+     *
+     * @return  the new stream
+     */
+    public DoubleMapStream<K> sortedByValueDescending() {
+        return with(slots.boxed()
+            .sorted((a, b) -> Double.compare(value.applyAsDouble(b), value.applyAsDouble(a)))
+            .mapToInt(Integer::intValue)
+        );
+    }
+
+    /**
+     * Returns a stream of at most the specified number of pairs.
+     *
+     * @param maxSize  the maximum number of pairs
+     * @return         the new stream
+     */
+    public DoubleMapStream<K> limit(long maxSize) {
+        return with(slots.limit(maxSize));
+    }
+
+    /**
+     * Returns a stream without the specified number of leading pairs.
+     *
+     * @param n  the number of pairs to skip
+     * @return   the new stream
+     */
+    public DoubleMapStream<K> skip(long n) {
+        return with(slots.skip(n));
+    }
+
+    /**
+     * Returns an equivalent stream that is parallel.
+     *
+     * @return  a parallel stream
+     */
+    public DoubleMapStream<K> parallel() {
+        return with(slots.parallel());
+    }
+
+    /**
+     * Returns an equivalent stream that is sequential.
+     *
+     * @return  a sequential stream
+     */
+    public DoubleMapStream<K> sequential() {
+        return with(slots.sequential());
+    }
+
+    /**
+     * Returns {@code true} if this stream would execute in parallel.
+     *
+     * @return  {@code true} if parallel
+     */
+    public boolean isParallel() {
+        return slots.isParallel();
+    }
+
+    /**
+     * Returns a stream of the keys.
+     *
+     * @return  the keys
+     */
+    public Stream<K> keys() {
+        return slots.mapToObj(map::keyAt);
+    }
+
+    /**
+     * Returns a stream of the values.
+     *
+     * @return  the values
+     */
+    public DoubleStream values() {
+        return slots.mapToDouble(value);
+    }
+
+    /**
+     * Returns a {@link MapStream} where the values have been boxed.
+     *
+     * @return  a boxed stream
+     */
+    public MapStream<K, Double> boxed() {
+        return MapStream.fromStream(
+            slots.boxed(),
+            map::keyAt,
+            i -> value.applyAsDouble(i)
+        );
+    }
+
+    /**
+     * Calls the consumer once for every pair in this stream.
+     *
+     * @param action  the consumer
+     */
+    public void forEach(ObjDoubleConsumer<? super K> action) {
+        requireNonNull(action);
+        slots.forEach(i -> action.accept(map.keyAt(i), value.applyAsDouble(i)));
+    }
+
+    /**
+     * Returns the number of pairs in this stream.
+     *
+     * @return  the number of pairs
+     */
+    public long count() {
+        return slots.count();
+    }
+
+    /**
+     * Returns the sum of all the values in this stream.
+     *
+     * @return  the sum
+     */
+    public double sum() {
+        return slots.mapToDouble(value).sum();
+    }
+
+    /**
+     * Collects the pairs into a new {@link ObjDoubleMap}.
+     *
+     * @return  the new map
+     */
+    public ObjDoubleMap<K> toObjDoubleMap() {
+        // The keys are unique, so partial results never overlap
+        return slots.collect(
+            ObjDoubleMap::new,
+            (result, i) -> result.put(map.keyAt(i), value.applyAsDouble(i)),
+            (a, b) -> a.mergeAll(b, (x, y) -> y)
+        );
+    }
+
+    /**
+     * Collects the pairs into a new {@code Map} with boxed values.
+     *
+     * @return  the new map
+     */
+    public Map<K, Double> toMap() {
+        return toObjDoubleMap().toMap();
+    }
+
+    private DoubleMapStream<K> with(IntStream newSlots) {
+        return new DoubleMapStream<>(map, newSlots, value);
+    }
+}
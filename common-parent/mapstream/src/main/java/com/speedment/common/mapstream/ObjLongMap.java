@@ -0,0 +1,310 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.mapstream;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongBinaryOperator;
+import java.util.function.ObjLongConsumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A hash map from keys to primitive {@code long} values. The keys and the
+ * values are stored in two parallel arrays using open addressing with linear
+ * probing, so adding a value to an existing key neither allocates an entry
+ * nor boxes the value.
+ * <p>
+ * The map is intended for aggregations, so keys can be added or updated but
+ * never removed. {@code null} is a valid key. Instances are not thread-safe;
+ * partial results produced in parallel are combined using
+ * {@link #mergeAll(ObjLongMap, LongBinaryOperator)}.
+ *
+ * @param <K>  the key type
+ *
+ * @since  2.4.0
+ */
+public final class ObjLongMap<K> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final Object NULL_KEY = new Object();
+
+    private Object[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+    private int threshold;
+
+    /**
+     * Creates a new, empty map.
+     */
+    public ObjLongMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new, empty map that can hold the specified number of keys
+     * without having to be resized.
+     *
+     * @param expectedSize  the expected number of keys
+     */
+    public ObjLongMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException(
+                "Expected size must not be negative, was " + expectedSize + "."
+            );
+        }
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Returns the number of keys in this map.
+     *
+     * @return  the number of keys
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if this map has no keys.
+     *
+     * @return  {@code true} if empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns {@code true} if the specified key has a value in this map.
+     *
+     * @param key  the key
+     * @return     {@code true} if the key is present
+     */
+    public boolean containsKey(K key) {
+        return keys[indexOf(mask(key))] != null;
+    }
+
+    /**
+     * Returns the value of the specified key, or the default value if the
+     * key is not present.
+     *
+     * @param key           the key
+     * @param defaultValue  value to return if the key is not present
+     * @return              the value or the default value
+     */
+    public long getOrDefault(K key, long defaultValue) {
+        final int index = indexOf(mask(key));
+        return keys[index] == null ? defaultValue : values[index];
+    }
+
+    /**
+     * Sets the value of the specified key, replacing any existing value.
+     *
+     * @param key    the key
+     * @param value  the new value
+     */
+    public void put(K key, long value) {
+        final Object masked = mask(key);
+        final int index = indexOf(masked);
+        values[index] = value;
+        if (keys[index] == null) {
+            insert(index, masked);
+        }
+    }
+
+    /**
+     * Adds the specified amount to the value of the specified key. If the key
+     * is not present, it is added with the amount as its value.
+     *
+     * @param key     the key
+     * @param amount  the amount to add
+     */
+    public void add(K key, long amount) {
+        final Object masked = mask(key);
+        final int index = indexOf(masked);
+        if (keys[index] == null) {
+            values[index] = amount;
+            insert(index, masked);
+        } else {
+            values[index] += amount;
+        }
+    }
+
+    /**
+     * Combines the specified value with the value of the specified key using
+     * the specified operator. If the key is not present, it is added with the
+     * specified value.
+     *
+     * @param key       the key
+     * @param value     the value to merge
+     * @param operator  operator that receives the old and the new value
+     */
+    public void merge(K key, long value, LongBinaryOperator operator) {
+        final Object masked = mask(key);
+        final int index = indexOf(masked);
+        if (keys[index] == null) {
+            values[index] = value;
+            insert(index, masked);
+        } else {
+            values[index] = operator.applyAsLong(values[index], value);
+        }
+    }
+
+    /**
+     * Merges every key of the other map into this map. If a key is present in
+     * both maps, the values are combined using the specified operator with
+     * the value of this map as the first argument.
+     *
+     * @param other     the map to merge into this one
+     * @param operator  operator used for keys present in both maps
+     * @return          this map
+     */
+    public ObjLongMap<K> mergeAll(ObjLongMap<K> other, LongBinaryOperator operator) {
+        requireNonNull(operator);
+        final Object[] otherKeys = other.keys;
+        final long[] otherValues = other.values;
+        for (int i = 0; i < otherKeys.length; i++) {
+            final Object masked = otherKeys[i];
+            if (masked != null) {
+                final int index = indexOf(masked);
+                if (keys[index] == null) {
+                    values[index] = otherValues[i];
+                    insert(index, masked);
+                } else {
+                    values[index] = operator.applyAsLong(values[index], otherValues[i]);
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Calls the specified consumer once for every key and value in this map.
+     *
+     * @param action  the consumer
+     */
+    public void forEach(ObjLongConsumer<? super K> action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                action.accept(keyAt(i), values[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns a {@link LongMapStream} over the keys and values of this map.
+     * The map must not be modified while the stream is being consumed.
+     *
+     * @return  a stream over this map
+     */
+    public LongMapStream<K> stream() {
+        return LongMapStream.of(this);
+    }
+
+    /**
+     * Returns a new {@code Map} with the same keys and the values boxed.
+     *
+     * @return  a boxed copy of this map
+     */
+    public Map<K, Long> toMap() {
+        final Map<K, Long> result = new HashMap<>(Math.max(16, (int) (size / .75f) + 1));
+        forEach(result::put);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+
+    int capacity() {
+        return keys.length;
+    }
+
+    boolean isOccupied(int slot) {
+        return keys[slot] != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    K keyAt(int slot) {
+        final Object key = keys[slot];
+        return key == NULL_KEY ? null : (K) key;
+    }
+
+    long valueAt(int slot) {
+        return values[slot];
+    }
+
+    private int indexOf(Object masked) {
+        int index = hash(masked) & mask;
+        Object existing;
+        while ((existing = keys[index]) != null && !existing.equals(masked)) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void insert(int index, Object masked) {
+        keys[index] = masked;
+        if (++size > threshold) {
+            resize();
+        }
+    }
+
+    private void resize() {
+        final Object[] oldKeys = keys;
+        final long[] oldValues = values;
+        allocate(oldKeys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            final Object masked = oldKeys[i];
+            if (masked != null) {
+                int index = hash(masked) & mask;
+                while (keys[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = masked;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys      = new Object[capacity];
+        values    = new long[capacity];
+        mask      = capacity - 1;
+        threshold = (capacity >> 1) + (capacity >> 2); // 75 %
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity - (capacity >> 2) <= expectedSize && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static Object mask(Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    private static int hash(Object masked) {
+        // Spread the bits since the table is indexed using the lowest bits
+        final int h = masked.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
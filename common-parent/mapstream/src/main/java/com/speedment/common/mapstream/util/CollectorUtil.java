@@ -16,16 +16,26 @@
  */
 package com.speedment.common.mapstream.util;
 
+import com.speedment.common.mapstream.DoubleMapStream;
+import com.speedment.common.mapstream.LongMapStream;
 import com.speedment.common.mapstream.MapStream;
+import com.speedment.common.mapstream.ObjDoubleMap;
+import com.speedment.common.mapstream.ObjLongMap;
 
 import java.util.*;
 import java.util.function.BiConsumer;
 import java.util.function.BinaryOperator;
+import java.util.function.DoubleBinaryOperator;
 import java.util.function.Function;
+import java.util.function.LongBinaryOperator;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collector;
 
 import static com.speedment.common.mapstream.util.StaticClassUtil.instanceNotAllowed;
+import static java.util.Objects.requireNonNull;
 
 /**
  * Utility methods for collecting Speedment streams in various ways.
@@ -36,6 +46,9 @@ import static com.speedment.common.mapstream.util.StaticClassUtil.instanceNotAll
  */
 public final class CollectorUtil {
 
+    private static final Set<Collector.Characteristics> UNORDERED =
+        Collections.unmodifiableSet(EnumSet.of(Collector.Characteristics.UNORDERED));
+
     /**
      * Returns a new {@link MapStream} where the elements have been grouped together using
      * the specified function.
@@ -87,6 +100,153 @@ public final class CollectorUtil {
         }
     }
 
+    /**
+     * Returns a new {@link LongMapStream} with the number of elements for
+     * every key returned by the classifier. The counts are stored in an
+     * {@link ObjLongMap}, so no {@code Long} is created for every element.
+     * <p>
+     * Since a {@code Field} is a function of the entity, a field (or its
+     * getter) can be used as the classifier.
+     *
+     * @param <T>         the stream element type
+     * @param <K>         the type of the key to group by
+     * @param classifier  the function to use for grouping
+     * @return            a {@link LongMapStream} with the count of each key
+     */
+    public static <T, K> Collector<T, ?, LongMapStream<K>> groupByCounting(
+            Function<? super T, ? extends K> classifier) {
+
+        requireNonNull(classifier);
+        return new CollectorImpl<>(
+            ObjLongMap<K>::new,
+            (map, t) -> map.add(classifier.apply(t), 1),
+            (a, b) -> a.mergeAll(b, Long::sum),
+            ObjLongMap::stream,
+            UNORDERED
+        );
+    }
+
+    /**
+     * Returns a new {@link LongMapStream} with the sum of the {@code int}
+     * values of the elements for every key returned by the classifier. The
+     * values are summed as {@code long} so that the sums do not overflow.
+     *
+     * @param <T>         the stream element type
+     * @param <K>         the type of the key to group by
+     * @param classifier  the function to use for grouping
+     * @param mapper      the function that extracts the value to sum
+     * @return            a {@link LongMapStream} with the sum of each key
+     */
+    public static <T, K> Collector<T, ?, LongMapStream<K>> groupBySummingInt(
+            Function<? super T, ? extends K> classifier,
+            ToIntFunction<? super T> mapper) {
+
+        requireNonNull(classifier);
+        requireNonNull(mapper);
+        return new CollectorImpl<>(
+            ObjLongMap<K>::new,
+            (map, t) -> map.add(classifier.apply(t), mapper.applyAsInt(t)),
+            (a, b) -> a.mergeAll(b, Long::sum),
+            ObjLongMap::stream,
+            UNORDERED
+        );
+    }
+
+    /**
+     * Returns a new {@link LongMapStream} with the sum of the {@code long}
+     * values of the elements for every key returned by the classifier.
+     *
+     * @param <T>         the stream element type
+     * @param <K>         the type of the key to group by
+     * @param classifier  the function to use for grouping
+     * @param mapper      the function that extracts the value to sum
+     * @return            a {@link LongMapStream} with the sum of each key
+     */
+    public static <T, K> Collector<T, ?, LongMapStream<K>> groupBySummingLong(
+            Function<? super T, ? extends K> classifier,
+            ToLongFunction<? super T> mapper) {
+
+        return groupByReducingLong(classifier, mapper, Long::sum);
+    }
+
+    /**
+     * Returns a new {@link LongMapStream} where the {@code long} values of
+     * the elements with the same key have been combined using the operator,
+     * for an example {@code Math::max}. The operator must be associative and
+     * commutative since the elements might be combined in any order.
+     *
+     * @param <T>         the stream element type
+     * @param <K>         the type of the key to group by
+     * @param classifier  the function to use for grouping
+     * @param mapper      the function that extracts the value
+     * @param operator    the operator used to combine two values
+     * @return            a {@link LongMapStream} with the result of each key
+     */
+    public static <T, K> Collector<T, ?, LongMapStream<K>> groupByReducingLong(
+            Function<? super T, ? extends K> classifier,
+            ToLongFunction<? super T> mapper,
+            LongBinaryOperator operator) {
+
+        requireNonNull(classifier);
+        requireNonNull(mapper);
+        requireNonNull(operator);
+        return new CollectorImpl<>(
+            ObjLongMap<K>::new,
+            (map, t) -> map.merge(classifier.apply(t), mapper.applyAsLong(t), operator),
+            (a, b) -> a.mergeAll(b, operator),
+            ObjLongMap::stream,
+            UNORDERED
+        );
+    }
+
+    /**
+     * Returns a new {@link DoubleMapStream} with the sum of the
+     * {@code double} values of the elements for every key returned by the
+     * classifier.
+     *
+     * @param <T>         the stream element type
+     * @param <K>         the type of the key to group by
+     * @param classifier  the function to use for grouping
+     * @param mapper      the function that extracts the value to sum
+     * @return            a {@link DoubleMapStream} with the sum of each key
+     */
+    public static <T, K> Collector<T, ?, DoubleMapStream<K>> groupBySummingDouble(
+            Function<? super T, ? extends K> classifier,
+            ToDoubleFunction<? super T> mapper) {
+
+        return groupByReducingDouble(classifier, mapper, Double::sum);
+    }
+
+    /**
+     * Returns a new {@link DoubleMapStream} where the {@code double} values
+     * of the elements with the same key have been combined using the
+     * operator. The operator must be associative and commutative since the
+     * elements might be combined in any order.
+     *
+     * @param <T>         the stream element type
+     * @param <K>         the type of the key to group by
+     * @param classifier  the function to use for grouping
+     * @param mapper      the function that extracts the value
+     * @param operator    the operator used to combine two values
+     * @return            a {@link DoubleMapStream} with the result of each key
+     */
+    public static <T, K> Collector<T, ?, DoubleMapStream<K>> groupByReducingDouble(
+            Function<? super T, ? extends K> classifier,
+            ToDoubleFunction<? super T> mapper,
+            DoubleBinaryOperator operator) {
+
+        requireNonNull(classifier);
+        requireNonNull(mapper);
+        requireNonNull(operator);
+        return new CollectorImpl<>(
+            ObjDoubleMap<K>::new,
+            (map, t) -> map.merge(classifier.apply(t), mapper.applyAsDouble(t), operator),
+            (a, b) -> a.mergeAll(b, operator),
+            ObjDoubleMap::stream,
+            UNORDERED
+        );
+    }
+
     /**
      * Simple implementation class for {@code Collector}.
      *
@@ -0,0 +1,110 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.mapstream;
+
+import com.speedment.common.mapstream.util.CollectorUtil;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @since 2.4.0
+ */
+public class ObjLongMapTest {
+
+    @Test
+    public void testAddAndResize() {
+        final ObjLongMap<Integer> map = new ObjLongMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            map.add(i % 1_000, i);
+        }
+        map.add(null, 7);
+
+        assertEquals(1_001, map.size());
+        assertEquals(7, map.getOrDefault(null, -1));
+        assertEquals(-1, map.getOrDefault(1_000, -1));
+        assertTrue(map.containsKey(999));
+
+        final Map<Integer, Long> expected = new HashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            expected.merge(i % 1_000, (long) i, Long::sum);
+        }
+        expected.put(null, 7L);
+        assertEquals(expected, map.toMap());
+    }
+
+    @Test
+    public void testMergeAll() {
+        final ObjLongMap<String> a = new ObjLongMap<>();
+        a.put("x", 3);
+        a.put("y", 8);
+        final ObjLongMap<String> b = new ObjLongMap<>();
+        b.put("y", 5);
+        b.put("z", 1);
+
+        a.mergeAll(b, Math::max);
+        assertEquals(3, a.size());
+        assertEquals(8, a.getOrDefault("y", 0));
+        assertEquals(1, a.getOrDefault("z", 0));
+    }
+
+    @Test
+    public void testGroupByCountingInParallel() {
+        final Map<Integer, Long> counts = IntStream.range(0, 100_000).boxed()
+            .parallel()
+            .collect(CollectorUtil.groupByCounting(i -> i % 7))
+            .toMap();
+
+        final Map<Integer, Long> expected = IntStream.range(0, 100_000).boxed()
+            .collect(Collectors.groupingBy(i -> i % 7, Collectors.counting()));
+
+        assertEquals(expected, counts);
+    }
+
+    @Test
+    public void testStreamOperations() {
+        final List<String> words = Arrays.asList("a", "bb", "a", "ccc", "bb", "a");
+        final LongMapStream<String> stream = words.stream()
+            .collect(CollectorUtil.groupBySummingInt(s -> s, String::length));
+
+        assertEquals(
+            Arrays.asList("ccc=3", "bb=4"),
+            stream.filterKey(s -> !"a".equals(s))
+                .mapValue(v -> v)
+                .sortedByValue()
+                .map((k, v) -> k + "=" + v)
+                .collect(Collectors.toList())
+        );
+    }
+
+    @Test
+    public void testGroupBySummingDouble() {
+        final ObjDoubleMap<Boolean> sums = IntStream.rangeClosed(1, 10).boxed()
+            .collect(CollectorUtil.groupBySummingDouble(i -> i % 2 == 0, i -> i / 2.0))
+            .toObjDoubleMap();
+
+        assertEquals(15.0, sums.getOrDefault(true, 0), 0.0);
+        assertEquals(12.5, sums.getOrDefault(false, 0), 0.0);
+        assertEquals(27.5, sums.stream().sum(), 0.0);
+    }
+}
@@ -18,6 +18,7 @@ package com.speedment.common.mutablestream.internal.action;
 
 import com.speedment.common.mutablestream.HasNext;
 import com.speedment.common.mutablestream.action.Action;
+import com.speedment.common.mutablestream.internal.parallel.ParallelExecutor;
 import com.speedment.common.mutablestream.terminate.Terminator;
 import static java.util.Objects.requireNonNull;
 import java.util.stream.BaseStream;
@@ -48,6 +49,6 @@ abstract class AbstractAction<
 
     @Override
     public <X> X execute(Terminator<R, RS, X> terminator) {
-        return terminator.execute();
+        return ParallelExecutor.execute(this, terminator);
     }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.mutablestream.internal.parallel;
+
+/**
+ * The last stage of a pipeline, holding the partial result of a terminator
+ * for one chunk of the source. Partial results of neighbouring chunks are
+ * combined using {@link #combine(Accumulator)}.
+ *
+ * @param <R>  the result type
+ *
+ * @since   1.1.0
+ */
+abstract class Accumulator<R> extends Sink {
+
+    /**
+     * Merges the partial result of the chunk directly following this one
+     * into this accumulator.
+     *
+     * @param next  the accumulator of the following chunk
+     */
+    abstract void combine(Accumulator<R> next);
+
+    /**
+     * Returns the final result of the terminator.
+     *
+     * @return  the result
+     */
+    abstract R result();
+}
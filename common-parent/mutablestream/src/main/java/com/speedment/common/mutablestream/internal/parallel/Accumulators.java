@@ -0,0 +1,541 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.mutablestream.internal.parallel;
+
+import com.speedment.common.mutablestream.terminate.*;
+import java.util.Comparator;
+import java.util.DoubleSummaryStatistics;
+import java.util.IntSummaryStatistics;
+import java.util.LongSummaryStatistics;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.function.*;
+import java.util.stream.Collector;
+
+/**
+ * Creates {@link Accumulator accumulators} for the terminators that can be
+ * computed chunk by chunk and then merged. Terminators that need to see the
+ * elements in order, like {@code findFirst} or {@code iterator}, or that can
+ * short-circuit, like {@code anyMatch}, are not supported.
+ *
+ * @since   1.1.0
+ */
+final class Accumulators {
+
+    /**
+     * Returns a factory for accumulators computing the result of the
+     * specified terminator, or {@code null} if the terminator can not be
+     * computed in chunks.
+     *
+     * @param <R>         the result type
+     * @param terminator  the terminator
+     * @return            accumulator factory or {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    static <R> Supplier<Accumulator<R>> forTerminator(Terminator<?, ?, R> terminator) {
+        final Supplier<? extends Accumulator<?>> supplier = create(terminator);
+        return (Supplier<Accumulator<R>>) supplier;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<? extends Accumulator<?>> create(Terminator<?, ?, ?> terminator) {
+
+        // Count and average works on all stream types
+        if (terminator instanceof CountTerminator) {
+            return Count::new;
+        } else if (terminator instanceof AverageTerminator) {
+            return Average::new;
+
+        // Sums
+        } else if (terminator instanceof SumIntTerminator) {
+            return SumInt::new;
+        } else if (terminator instanceof SumLongTerminator) {
+            return SumLong::new;
+        } else if (terminator instanceof SumDoubleTerminator) {
+            return DoubleStatistics::sum;
+
+        // Min, max and reduce
+        } else if (terminator instanceof MinIntTerminator) {
+            return () -> new ReduceInt(null, Math::min);
+        } else if (terminator instanceof MaxIntTerminator) {
+            return () -> new ReduceInt(null, Math::max);
+        } else if (terminator instanceof ReduceIntTerminator) {
+            final ReduceIntTerminator reduce = (ReduceIntTerminator) terminator;
+            return () -> new ReduceInt(reduce.getInitialValue(), reduce.getCombiner());
+        } else if (terminator instanceof MinLongTerminator) {
+            return () -> new ReduceLong(null, Math::min);
+        } else if (terminator instanceof MaxLongTerminator) {
+            return () -> new ReduceLong(null, Math::max);
+        } else if (terminator instanceof ReduceLongTerminator) {
+            final ReduceLongTerminator reduce = (ReduceLongTerminator) terminator;
+            return () -> new ReduceLong(reduce.getInitialValue(), reduce.getCombiner());
+        } else if (terminator instanceof MinDoubleTerminator) {
+            return () -> new ReduceDouble(null, Math::min);
+        } else if (terminator instanceof MaxDoubleTerminator) {
+            return () -> new ReduceDouble(null, Math::max);
+        } else if (terminator instanceof ReduceDoubleTerminator) {
+            final ReduceDoubleTerminator reduce = (ReduceDoubleTerminator) terminator;
+            return () -> new ReduceDouble(reduce.getInitialValue(), reduce.getCombiner());
+        } else if (terminator instanceof MinTerminator) {
+            final Comparator<Object> comparator = ((MinTerminator<Object>) terminator).getComparator();
+            return () -> new Reduce(BinaryOperator.minBy(comparator));
+        } else if (terminator instanceof MaxTerminator) {
+            final Comparator<Object> comparator = ((MaxTerminator<Object>) terminator).getComparator();
+            return () -> new Reduce(BinaryOperator.maxBy(comparator));
+
+        // Collect
+        } else if (terminator instanceof CollectTerminator) {
+            final Collector<Object, Object, Object> collector =
+                ((CollectTerminator<Object, Object, Object>) terminator).getCollector();
+            return () -> new Collect(collector);
+        } else if (terminator instanceof CollectIntTerminator) {
+            final CollectIntTerminator<Object> collect = (CollectIntTerminator<Object>) terminator;
+            final ObjIntConsumer<Object> accumulator = collect.getAccumulator();
+            return () -> new CollectPrimitive(collect.getSupplier().get(), collect.getCombiner()) {
+                @Override void acceptInt(int value) {
+                    accumulator.accept(container, value);
+                }
+            };
+        } else if (terminator instanceof CollectLongTerminator) {
+            final CollectLongTerminator<Object> collect = (CollectLongTerminator<Object>) terminator;
+            final ObjLongConsumer<Object> accumulator = collect.getAccumulator();
+            return () -> new CollectPrimitive(collect.getSupplier().get(), collect.getCombiner()) {
+                @Override void acceptLong(long value) {
+                    accumulator.accept(container, value);
+                }
+            };
+        } else if (terminator instanceof CollectDoubleTerminator) {
+            final CollectDoubleTerminator<Object> collect = (CollectDoubleTerminator<Object>) terminator;
+            final ObjDoubleConsumer<Object> accumulator = collect.getAccumulator();
+            return () -> new CollectPrimitive(collect.getSupplier().get(), collect.getCombiner()) {
+                @Override void acceptDouble(double value) {
+                    accumulator.accept(container, value);
+                }
+            };
+
+        // Summary statistics
+        } else if (terminator instanceof IntSummaryStatisticsTerminator) {
+            return IntStatistics::new;
+        } else if (terminator instanceof LongSummaryStatisticsTerminator) {
+            return LongStatistics::new;
+        } else if (terminator instanceof DoubleSummaryStatisticsTerminator) {
+            return DoubleStatistics::statistics;
+
+        // Unordered for each
+        } else if (terminator instanceof ForEachTerminator) {
+            final Consumer<Object> consumer = ((ForEachTerminator<Object>) terminator).getConsumer();
+            return () -> new ForEach() {
+                @Override void accept(Object value) {
+                    consumer.accept(value);
+                }
+            };
+        } else if (terminator instanceof ForEachIntTerminator) {
+            final IntConsumer consumer = ((ForEachIntTerminator) terminator).getConsumer();
+            return () -> new ForEach() {
+                @Override void acceptInt(int value) {
+                    consumer.accept(value);
+                }
+            };
+        } else if (terminator instanceof ForEachLongTerminator) {
+            final LongConsumer consumer = ((ForEachLongTerminator) terminator).getConsumer();
+            return () -> new ForEach() {
+                @Override void acceptLong(long value) {
+                    consumer.accept(value);
+                }
+            };
+        } else if (terminator instanceof ForEachDoubleTerminator) {
+            final DoubleConsumer consumer = ((ForEachDoubleTerminator) terminator).getConsumer();
+            return () -> new ForEach() {
+                @Override void acceptDouble(double value) {
+                    consumer.accept(value);
+                }
+            };
+        }
+
+        return null;
+    }
+
+    private static final class Count extends Accumulator<Long> {
+        private long count;
+
+        @Override void accept(Object value) { count++; }
+        @Override void acceptInt(int value) { count++; }
+        @Override void acceptLong(long value) { count++; }
+        @Override void acceptDouble(double value) { count++; }
+
+        @Override
+        void combine(Accumulator<Long> next) {
+            count += ((Count) next).count;
+        }
+
+        @Override
+        Long result() {
+            return count;
+        }
+    }
+
+    private static final class Average extends Accumulator<OptionalDouble> {
+        // Ints and longs are summed as longs, just like IntStream.average()
+        private long count;
+        private long sum;
+        private DoubleSummaryStatistics doubles;
+
+        @Override void acceptInt(int value) { count++; sum += value; }
+        @Override void acceptLong(long value) { count++; sum += value; }
+
+        @Override
+        void acceptDouble(double value) {
+            if (doubles == null) {
+                doubles = new DoubleSummaryStatistics();
+            }
+            doubles.accept(value);
+        }
+
+        @Override
+        void combine(Accumulator<OptionalDouble> next) {
+            final Average other = (Average) next;
+            count += other.count;
+            sum += other.sum;
+            if (other.doubles != null) {
+                if (doubles == null) {
+                    doubles = other.doubles;
+                } else {
+                    doubles.combine(other.doubles);
+                }
+            }
+        }
+
+        @Override
+        OptionalDouble result() {
+            if (doubles != null) {
+                return OptionalDouble.of(doubles.getAverage());
+            } else if (count > 0) {
+                return OptionalDouble.of((double) sum / count);
+            } else {
+                return OptionalDouble.empty();
+            }
+        }
+    }
+
+    private static final class SumInt extends Accumulator<Integer> {
+        private int sum;
+
+        @Override void acceptInt(int value) { sum += value; }
+
+        @Override
+        void combine(Accumulator<Integer> next) {
+            sum += ((SumInt) next).sum;
+        }
+
+        @Override
+        Integer result() {
+            return sum;
+        }
+    }
+
+    private static final class SumLong extends Accumulator<Long> {
+        private long sum;
+
+        @Override void acceptLong(long value) { sum += value; }
+
+        @Override
+        void combine(Accumulator<Long> next) {
+            sum += ((SumLong) next).sum;
+        }
+
+        @Override
+        Long result() {
+            return sum;
+        }
+    }
+
+    private static final class ReduceInt extends Accumulator<OptionalInt> {
+        private final IntBinaryOperator combiner;
+        private boolean present;
+        private int value;
+
+        ReduceInt(OptionalInt identity, IntBinaryOperator combiner) {
+            this.combiner = combiner;
+            if (identity != null && identity.isPresent()) {
+                this.present = true;
+                this.value   = identity.getAsInt();
+            }
+        }
+
+        @Override
+        void acceptInt(int next) {
+            if (present) {
+                value = combiner.applyAsInt(value, next);
+            } else {
+                present = true;
+                value   = next;
+            }
+        }
+
+        @Override
+        void combine(Accumulator<OptionalInt> next) {
+            final ReduceInt other = (ReduceInt) next;
+            if (other.present) {
+                acceptInt(other.value);
+            }
+        }
+
+        @Override
+        OptionalInt result() {
+            return present ? OptionalInt.of(value) : OptionalInt.empty();
+        }
+    }
+
+    private static final class ReduceLong extends Accumulator<OptionalLong> {
+        private final LongBinaryOperator combiner;
+        private boolean present;
+        private long value;
+
+        ReduceLong(OptionalLong identity, LongBinaryOperator combiner) {
+            this.combiner = combiner;
+            if (identity != null && identity.isPresent()) {
+                this.present = true;
+                this.value   = identity.getAsLong();
+            }
+        }
+
+        @Override
+        void acceptLong(long next) {
+            if (present) {
+                value = combiner.applyAsLong(value, next);
+            } else {
+                present = true;
+                value   = next;
+            }
+        }
+
+        @Override
+        void combine(Accumulator<OptionalLong> next) {
+            final ReduceLong other = (ReduceLong) next;
+            if (other.present) {
+                acceptLong(other.value);
+            }
+        }
+
+        @Override
+        OptionalLong result() {
+            return present ? OptionalLong.of(value) : OptionalLong.empty();
+        }
+    }
+
+    private static final class ReduceDouble extends Accumulator<OptionalDouble> {
+        private final DoubleBinaryOperator combiner;
+        private boolean present;
+        private double value;
+
+        ReduceDouble(OptionalDouble identity, DoubleBinaryOperator combiner) {
+            this.combiner = combiner;
+            if (identity != null && identity.isPresent()) {
+                this.present = true;
+                this.value   = identity.getAsDouble();
+            }
+        }
+
+        @Override
+        void acceptDouble(double next) {
+            if (present) {
+                value = combiner.applyAsDouble(value, next);
+            } else {
+                present = true;
+                value   = next;
+            }
+        }
+
+        @Override
+        void combine(Accumulator<OptionalDouble> next) {
+            final ReduceDouble other = (ReduceDouble) next;
+            if (other.present) {
+                acceptDouble(other.value);
+            }
+        }
+
+        @Override
+        OptionalDouble result() {
+            return present ? OptionalDouble.of(value) : OptionalDouble.empty();
+        }
+    }
+
+    private static final class Reduce extends Accumulator<Optional<Object>> {
+        private final BinaryOperator<Object> combiner;
+        private boolean present;
+        private Object value;
+
+        Reduce(BinaryOperator<Object> combiner) {
+            this.combiner = combiner;
+        }
+
+        @Override
+        void accept(Object next) {
+            if (present) {
+                value = combiner.apply(value, next);
+            } else {
+                present = true;
+                value   = next;
+            }
+        }
+
+        @Override
+        void combine(Accumulator<Optional<Object>> next) {
+            final Reduce other = (Reduce) next;
+            if (other.present) {
+                accept(other.value);
+            }
+        }
+
+        @Override
+        Optional<Object> result() {
+            return present ? Optional.of(value) : Optional.empty();
+        }
+    }
+
+    private static final class Collect extends Accumulator<Object> {
+        private final Collector<Object, Object, Object> collector;
+        private final BiConsumer<Object, Object> accumulator;
+        private Object container;
+
+        Collect(Collector<Object, Object, Object> collector) {
+            this.collector   = collector;
+            this.accumulator = collector.accumulator();
+            this.container   = collector.supplier().get();
+        }
+
+        @Override
+        void accept(Object value) {
+            accumulator.accept(container, value);
+        }
+
+        @Override
+        void combine(Accumulator<Object> next) {
+            container = collector.combiner().apply(container, ((Collect) next).container);
+        }
+
+        @Override
+        Object result() {
+            return collector.characteristics()
+                .contains(Collector.Characteristics.IDENTITY_FINISH)
+                ? container
+                : collector.finisher().apply(container);
+        }
+    }
+
+    private abstract static class CollectPrimitive extends Accumulator<Object> {
+        private final BiConsumer<Object, Object> combiner;
+        final Object container;
+
+        CollectPrimitive(Object container, BiConsumer<Object, Object> combiner) {
+            this.container = container;
+            this.combiner  = combiner;
+        }
+
+        @Override
+        final void combine(Accumulator<Object> next) {
+            combiner.accept(container, ((CollectPrimitive) next).container);
+        }
+
+        @Override
+        final Object result() {
+            return container;
+        }
+    }
+
+    private static final class IntStatistics extends Accumulator<IntSummaryStatistics> {
+        private final IntSummaryStatistics statistics = new IntSummaryStatistics();
+
+        @Override void acceptInt(int value) { statistics.accept(value); }
+
+        @Override
+        void combine(Accumulator<IntSummaryStatistics> next) {
+            statistics.combine(((IntStatistics) next).statistics);
+        }
+
+        @Override
+        IntSummaryStatistics result() {
+            return statistics;
+        }
+    }
+
+    private static final class LongStatistics extends Accumulator<LongSummaryStatistics> {
+        private final LongSummaryStatistics statistics = new LongSummaryStatistics();
+
+        @Override void acceptLong(long value) { statistics.accept(value); }
+
+        @Override
+        void combine(Accumulator<LongSummaryStatistics> next) {
+            statistics.combine(((LongStatistics) next).statistics);
+        }
+
+        @Override
+        LongSummaryStatistics result() {
+            return statistics;
+        }
+    }
+
+    /**
+     * Used both for summary statistics and for sums, since the sum of a
+     * {@code DoubleSummaryStatistics} is computed using compensated
+     * summation just like {@code DoubleStream.sum()}.
+     *
+     * @param <R>  the result type
+     */
+    private static final class DoubleStatistics<R> extends Accumulator<R> {
+        private final DoubleSummaryStatistics statistics = new DoubleSummaryStatistics();
+        private final Function<DoubleSummaryStatistics, R> finisher;
+
+        static DoubleStatistics<Double> sum() {
+            return new DoubleStatistics<>(DoubleSummaryStatistics::getSum);
+        }
+
+        static DoubleStatistics<DoubleSummaryStatistics> statistics() {
+            return new DoubleStatistics<>(Function.identity());
+        }
+
+        private DoubleStatistics(Function<DoubleSummaryStatistics, R> finisher) {
+            this.finisher = finisher;
+        }
+
+        @Override void acceptDouble(double value) { statistics.accept(value); }
+
+        @Override
+        void combine(Accumulator<R> next) {
+            statistics.combine(((DoubleStatistics<R>) next).statistics);
+        }
+
+        @Override
+        R result() {
+            return finisher.apply(statistics);
+        }
+    }
+
+    private abstract static class ForEach extends Accumulator<Void> {
+        @Override
+        final void combine(Accumulator<Void> next) {}
+
+        @Override
+        final Void result() {
+            return null;
+        }
+    }
+
+    private Accumulators() {}
+}
@@ -0,0 +1,189 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.mutablestream.internal.parallel;
+
+import com.speedment.common.mutablestream.HasNext;
+import com.speedment.common.mutablestream.action.Action;
+import com.speedment.common.mutablestream.source.CollectionSource;
+import com.speedment.common.mutablestream.terminate.Terminator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+import java.util.stream.BaseStream;
+
+/**
+ * Executes parallel pipelines that start with a {@link CollectionSource}
+ * without building a {@code java.util.stream} pipeline. The source is split
+ * into ranges of indexes that are processed on the common fork-join pool.
+ * Each range is pushed through the actions of the pipeline into an
+ * {@link Accumulator} of its own, and the accumulators are then combined in
+ * the order of the ranges.
+ * <p>
+ * If the pipeline contains a stateful action, if the terminator can not be
+ * combined or if the source is too small to be worth splitting, the
+ * terminator is executed as usual instead.
+ *
+ * @since   1.1.0
+ */
+public final class ParallelExecutor {
+
+    /**
+     * The smallest number of elements processed by a single task.
+     */
+    static final int MIN_CHUNK_SIZE = 1 << 10;
+
+    /**
+     * Executes the specified terminator on the pipeline ending with the
+     * specified action. If the pipeline can not be executed by this class,
+     * {@link Terminator#execute()} is called instead.
+     *
+     * @param <T>         the type of the last action
+     * @param <TS>        the stream type of the last action
+     * @param <X>         the result type
+     * @param last        the last action of the pipeline
+     * @param terminator  the terminator
+     * @return            the result
+     */
+    public static <T, TS extends BaseStream<T, TS>, X> X execute(
+            HasNext<T, TS> last,
+            Terminator<T, TS, X> terminator) {
+
+        if (!terminator.isParallel()) {
+            return terminator.execute();
+        }
+
+        final Supplier<Accumulator<X>> accumulators = Accumulators.forTerminator(terminator);
+        if (accumulators == null) {
+            return terminator.execute();
+        }
+
+        // The actions are collected from the terminator back to the source
+        final List<Action<?, ?, ?, ?>> actions = new ArrayList<>();
+        HasNext<?, ?> node = last;
+        while (node instanceof Action) {
+            final Action<?, ?, ?, ?> action = (Action<?, ?, ?, ?>) node;
+            if (!Stages.isSupported(action)) {
+                return terminator.execute();
+            }
+            actions.add(action);
+            node = action.previous();
+        }
+
+        if (!(node instanceof CollectionSource)) {
+            return terminator.execute();
+        }
+
+        final Collection<?> collection = ((CollectionSource<?>) node).getCollection();
+        final int size = collection.size();
+        if (size < 2 * MIN_CHUNK_SIZE) {
+            return terminator.execute();
+        }
+
+        final Plan<X> plan = new Plan<>(
+            elementsOf(collection),
+            actions,
+            accumulators,
+            Math.max(MIN_CHUNK_SIZE, size / (4 * ForkJoinPool.getCommonPoolParallelism()))
+        );
+
+        return ForkJoinPool.commonPool()
+            .invoke(new ChunkTask<>(plan, 0, plan.elements.size()))
+            .result();
+    }
+
+    private static List<?> elementsOf(Collection<?> collection) {
+        if (collection instanceof List && collection instanceof RandomAccess) {
+            return (List<?>) collection;
+        } else {
+            // Other collections are copied once so that they can be split
+            // into ranges of equal size.
+            final List<Object> copy = new ArrayList<>(collection.size());
+            copy.addAll(collection);
+            return copy;
+        }
+    }
+
+    private static final class Plan<X> {
+
+        private final List<?> elements;
+        private final List<Action<?, ?, ?, ?>> actions;
+        private final Supplier<Accumulator<X>> accumulators;
+        private final int chunkSize;
+
+        Plan(List<?> elements,
+             List<Action<?, ?, ?, ?>> actions,
+             Supplier<Accumulator<X>> accumulators,
+             int chunkSize) {
+
+            this.elements     = elements;
+            this.actions      = actions;
+            this.accumulators = accumulators;
+            this.chunkSize    = chunkSize;
+        }
+
+        Accumulator<X> run(int from, int to) {
+            final Accumulator<X> accumulator = accumulators.get();
+
+            Sink sink = accumulator;
+            for (final Action<?, ?, ?, ?> action : actions) {
+                sink = Stages.wrap(action, sink);
+            }
+
+            for (int i = from; i < to; i++) {
+                sink.accept(elements.get(i));
+            }
+
+            return accumulator;
+        }
+    }
+
+    private static final class ChunkTask<X> extends RecursiveTask<Accumulator<X>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Plan<X> plan;
+        private final int from, to;
+
+        ChunkTask(Plan<X> plan, int from, int to) {
+            this.plan = plan;
+            this.from = from;
+            this.to   = to;
+        }
+
+        @Override
+        protected Accumulator<X> compute() {
+            if (to - from <= plan.chunkSize) {
+                return plan.run(from, to);
+            }
+
+            final int middle = (from + to) >>> 1;
+            final ChunkTask<X> left = new ChunkTask<>(plan, from, middle);
+            left.fork();
+
+            final Accumulator<X> right = new ChunkTask<>(plan, middle, to).compute();
+            final Accumulator<X> result = left.join();
+            result.combine(right);
+            return result;
+        }
+    }
+
+    private ParallelExecutor() {}
+}
@@ -0,0 +1,49 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.mutablestream.internal.parallel;
+
+/**
+ * A stage in a push-based pipeline that receives elements one at a time. A
+ * stage only overrides the methods for the element types it can receive, so
+ * primitive values are passed along without being boxed.
+ *
+ * @since   1.1.0
+ */
+abstract class Sink {
+
+    void accept(Object value) {
+        throw unexpected("an object");
+    }
+
+    void acceptInt(int value) {
+        throw unexpected("an int");
+    }
+
+    void acceptLong(long value) {
+        throw unexpected("a long");
+    }
+
+    void acceptDouble(double value) {
+        throw unexpected("a double");
+    }
+
+    private IllegalStateException unexpected(String type) {
+        return new IllegalStateException(
+            getClass().getSimpleName() + " did not expect " + type + "."
+        );
+    }
+}
@@ -0,0 +1,306 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.mutablestream.internal.parallel;
+
+import com.speedment.common.mutablestream.action.*;
+import java.util.function.*;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Converts stateless pipeline actions into {@link Sink} stages. Stateful
+ * actions like {@code distinct}, {@code sorted}, {@code skip} and
+ * {@code limit} depend on elements in other chunks and are not supported.
+ *
+ * @since   1.1.0
+ */
+final class Stages {
+
+    /**
+     * Returns {@code true} if the specified action can be converted into a
+     * stage using {@link #wrap(Action, Sink)}.
+     *
+     * @param action  the action
+     * @return        {@code true} if it is supported
+     */
+    static boolean isSupported(Action<?, ?, ?, ?> action) {
+        return action instanceof FilterAction
+            || action instanceof IntFilterAction
+            || action instanceof LongFilterAction
+            || action instanceof DoubleFilterAction
+            || action instanceof MapAction
+            || action instanceof MapToIntAction
+            || action instanceof MapToLongAction
+            || action instanceof MapToDoubleAction
+            || action instanceof MapIntAction
+            || action instanceof MapIntToIntAction
+            || action instanceof MapIntToLongAction
+            || action instanceof MapIntToDoubleAction
+            || action instanceof MapLongAction
+            || action instanceof MapLongToIntAction
+            || action instanceof MapLongToLongAction
+            || action instanceof MapLongToDoubleAction
+            || action instanceof MapDoubleAction
+            || action instanceof MapDoubleToIntAction
+            || action instanceof MapDoubleToLongAction
+            || action instanceof MapDoubleToDoubleAction
+            || action instanceof FlatMapAction
+            || action instanceof FlatMapToIntAction
+            || action instanceof FlatMapToLongAction
+            || action instanceof FlatMapToDoubleAction
+            || action instanceof FlatMapIntAction
+            || action instanceof FlatMapLongAction
+            || action instanceof FlatMapDoubleAction;
+    }
+
+    /**
+     * Returns a stage that performs the specified action and passes the
+     * result on to the downstream stage.
+     *
+     * @param action  the action, {@link #isSupported(Action) supported}
+     * @param down    the downstream stage
+     * @return        the new stage
+     */
+    @SuppressWarnings("unchecked")
+    static Sink wrap(Action<?, ?, ?, ?> action, Sink down) {
+
+        // Filters
+        if (action instanceof FilterAction) {
+            final Predicate<Object> predicate = ((FilterAction<Object>) action).getPredicate();
+            return new Sink() {
+                @Override void accept(Object value) {
+                    if (predicate.test(value)) down.accept(value);
+                }
+            };
+        } else if (action instanceof IntFilterAction) {
+            final IntPredicate predicate = ((IntFilterAction) action).getPredicate();
+            return new Sink() {
+                @Override void acceptInt(int value) {
+                    if (predicate.test(value)) down.acceptInt(value);
+                }
+            };
+        } else if (action instanceof LongFilterAction) {
+            final LongPredicate predicate = ((LongFilterAction) action).getPredicate();
+            return new Sink() {
+                @Override void acceptLong(long value) {
+                    if (predicate.test(value)) down.acceptLong(value);
+                }
+            };
+        } else if (action instanceof DoubleFilterAction) {
+            final DoublePredicate predicate = ((DoubleFilterAction) action).getPredicate();
+            return new Sink() {
+                @Override void acceptDouble(double value) {
+                    if (predicate.test(value)) down.acceptDouble(value);
+                }
+            };
+
+        // Maps from objects
+        } else if (action instanceof MapAction) {
+            final Function<Object, Object> mapper = ((MapAction<Object, Object>) action).getMapper();
+            return new Sink() {
+                @Override void accept(Object value) {
+                    down.accept(mapper.apply(value));
+                }
+            };
+        } else if (action instanceof MapToIntAction) {
+            final ToIntFunction<Object> mapper = ((MapToIntAction<Object>) action).getMapper();
+            return new Sink() {
+                @Override void accept(Object value) {
+                    down.acceptInt(mapper.applyAsInt(value));
+                }
+            };
+        } else if (action instanceof MapToLongAction) {
+            final ToLongFunction<Object> mapper = ((MapToLongAction<Object>) action).getMapper();
+            return new Sink() {
+                @Override void accept(Object value) {
+                    down.acceptLong(mapper.applyAsLong(value));
+                }
+            };
+        } else if (action instanceof MapToDoubleAction) {
+            final ToDoubleFunction<Object> mapper = ((MapToDoubleAction<Object>) action).getMapper();
+            return new Sink() {
+                @Override void accept(Object value) {
+                    down.acceptDouble(mapper.applyAsDouble(value));
+                }
+            };
+
+        // Maps from ints
+        } else if (action instanceof MapIntAction) {
+            final IntFunction<Object> mapper = ((MapIntAction<Object>) action).getMapper();
+            return new Sink() {
+                @Override void acceptInt(int value) {
+                    down.accept(mapper.apply(value));
+                }
+            };
+        } else if (action instanceof MapIntToIntAction) {
+            final IntUnaryOperator mapper = ((MapIntToIntAction) action).getMapper();
+            return new Sink() {
+                @Override void acceptInt(int value) {
+                    down.acceptInt(mapper.applyAsInt(value));
+                }
+            };
+        } else if (action instanceof MapIntToLongAction) {
+            final IntToLongFunction mapper = ((MapIntToLongAction) action).getMapper();
+            return new Sink() {
+                @Override void acceptInt(int value) {
+                    down.acceptLong(mapper.applyAsLong(value));
+                }
+            };
+        } else if (action instanceof MapIntToDoubleAction) {
+            final IntToDoubleFunction mapper = ((MapIntToDoubleAction) action).getMapper();
+            return new Sink() {
+                @Override void acceptInt(int value) {
+                    down.acceptDouble(mapper.applyAsDouble(value));
+                }
+            };
+
+        // Maps from longs
+        } else if (action instanceof MapLongAction) {
+            final LongFunction<Object> mapper = ((MapLongAction<Object>) action).getMapper();
+            return new Sink() {
+                @Override void acceptLong(long value) {
+                    down.accept(mapper.apply(value));
+                }
+            };
+        } else if (action instanceof MapLongToIntAction) {
+            final LongToIntFunction mapper = ((MapLongToIntAction) action).getMapper();
+            return new Sink() {
+                @Override void acceptLong(long value) {
+                    down.acceptInt(mapper.applyAsInt(value));
+                }
+            };
+        } else if (action instanceof MapLongToLongAction) {
+            final LongUnaryOperator mapper = ((MapLongToLongAction) action).getMapper();
+            return new Sink() {
+                @Override void acceptLong(long value) {
+                    down.acceptLong(mapper.applyAsLong(value));
+                }
+            };
+        } else if (action instanceof MapLongToDoubleAction) {
+            final LongToDoubleFunction mapper = ((MapLongToDoubleAction) action).getMapper();
+            return new Sink() {
+                @Override void acceptLong(long value) {
+                    down.acceptDouble(mapper.applyAsDouble(value));
+                }
+            };
+
+        // Maps from doubles
+        } else if (action instanceof MapDoubleAction) {
+            final DoubleFunction<Object> mapper = ((MapDoubleAction<Object>) action).getMapper();
+            return new Sink() {
+                @Override void acceptDouble(double value) {
+                    down.accept(mapper.apply(value));
+                }
+            };
+        } else if (action instanceof MapDoubleToIntAction) {
+            final DoubleToIntFunction mapper = ((MapDoubleToIntAction) action).getMapper();
+            return new Sink() {
+                @Override void acceptDouble(double value) {
+                    down.acceptInt(mapper.applyAsInt(value));
+                }
+            };
+        } else if (action instanceof MapDoubleToLongAction) {
+            final DoubleToLongFunction mapper = ((MapDoubleToLongAction) action).getMapper();
+            return new Sink() {
+                @Override void acceptDouble(double value) {
+                    down.acceptLong(mapper.applyAsLong(value));
+                }
+            };
+        } else if (action instanceof MapDoubleToDoubleAction) {
+            final DoubleUnaryOperator mapper = ((MapDoubleToDoubleAction) action).getMapper();
+            return new Sink() {
+                @Override void acceptDouble(double value) {
+                    down.acceptDouble(mapper.applyAsDouble(value));
+                }
+            };
+
+        // Flat maps. The streams returned by the mapper are consumed
+        // sequentially, just like java.util.stream does.
+        } else if (action instanceof FlatMapAction) {
+            final Function<Object, Stream<Object>> mapper = ((FlatMapAction<Object, Object>) action).getMapper();
+            return new Sink() {
+                @Override void accept(Object value) {
+                    try (final Stream<Object> stream = mapper.apply(value)) {
+                        if (stream != null) stream.sequential().forEach(down::accept);
+                    }
+                }
+            };
+        } else if (action instanceof FlatMapToIntAction) {
+            final Function<Object, IntStream> mapper = ((FlatMapToIntAction<Object>) action).getMapper();
+            return new Sink() {
+                @Override void accept(Object value) {
+                    try (final IntStream stream = mapper.apply(value)) {
+                        if (stream != null) stream.sequential().forEach(down::acceptInt);
+                    }
+                }
+            };
+        } else if (action instanceof FlatMapToLongAction) {
+            final Function<Object, LongStream> mapper = ((FlatMapToLongAction<Object>) action).getMapper();
+            return new Sink() {
+                @Override void accept(Object value) {
+                    try (final LongStream stream = mapper.apply(value)) {
+                        if (stream != null) stream.sequential().forEach(down::acceptLong);
+                    }
+                }
+            };
+        } else if (action instanceof FlatMapToDoubleAction) {
+            final Function<Object, DoubleStream> mapper = ((FlatMapToDoubleAction<Object>) action).getMapper();
+            return new Sink() {
+                @Override void accept(Object value) {
+                    try (final DoubleStream stream = mapper.apply(value)) {
+                        if (stream != null) stream.sequential().forEach(down::acceptDouble);
+                    }
+                }
+            };
+        } else if (action instanceof FlatMapIntAction) {
+            final IntFunction<IntStream> mapper = ((FlatMapIntAction) action).getMapper();
+            return new Sink() {
+                @Override void acceptInt(int value) {
+                    try (final IntStream stream = mapper.apply(value)) {
+                        if (stream != null) stream.sequential().forEach(down::acceptInt);
+                    }
+                }
+            };
+        } else if (action instanceof FlatMapLongAction) {
+            final LongFunction<LongStream> mapper = ((FlatMapLongAction) action).getMapper();
+            return new Sink() {
+                @Override void acceptLong(long value) {
+                    try (final LongStream stream = mapper.apply(value)) {
+                        if (stream != null) stream.sequential().forEach(down::acceptLong);
+                    }
+                }
+            };
+        } else if (action instanceof FlatMapDoubleAction) {
+            final DoubleFunction<DoubleStream> mapper = ((FlatMapDoubleAction) action).getMapper();
+            return new Sink() {
+                @Override void acceptDouble(double value) {
+                    try (final DoubleStream stream = mapper.apply(value)) {
+                        if (stream != null) stream.sequential().forEach(down::acceptDouble);
+                    }
+                }
+            };
+        }
+
+        throw new UnsupportedOperationException(
+            "Action " + action.getClass().getSimpleName() + " can not be executed in parallel."
+        );
+    }
+
+    private Stages() {}
+}
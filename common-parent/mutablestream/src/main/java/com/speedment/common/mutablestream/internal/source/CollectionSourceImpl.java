@@ -21,6 +21,7 @@ import java.util.Collection;
 import java.util.stream.Stream;
 import com.speedment.common.mutablestream.HasNext;
 import com.speedment.common.mutablestream.action.Action;
+import com.speedment.common.mutablestream.internal.parallel.ParallelExecutor;
 import com.speedment.common.mutablestream.terminate.Terminator;
 import java.util.stream.BaseStream;
 import static java.util.Objects.requireNonNull;
@@ -40,6 +41,11 @@ public final class CollectionSourceImpl<T> implements CollectionSource<T> {
         this.collection = requireNonNull(collection);
     }
 
+    @Override
+    public Collection<T> getCollection() {
+        return collection;
+    }
+
     @Override
     public <Q, QS extends BaseStream<Q, QS>> HasNext<Q, QS> append(Action<T, Stream<T>, Q, QS> next) {
         return next;
@@ -47,7 +53,7 @@ public final class CollectionSourceImpl<T> implements CollectionSource<T> {
 
     @Override
     public <X> X execute(Terminator<T, Stream<T>, X> terminator) {
-        return terminator.execute();
+        return ParallelExecutor.execute(this, terminator);
     }
 
     @Override
@@ -34,4 +34,11 @@ public interface CollectionSource<T> extends HasNext<T, Stream<T>> {
         return new CollectionSourceImpl<>(collection);
     }
     
+    /**
+     * Returns the collection that is streamed over.
+     * 
+     * @return  the source collection
+     */
+    Collection<T> getCollection();
+    
 }
\ No newline at end of file
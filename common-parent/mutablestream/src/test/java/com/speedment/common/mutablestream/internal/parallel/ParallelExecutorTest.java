@@ -0,0 +1,114 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.mutablestream.internal.parallel;
+
+import com.speedment.common.mutablestream.MutableStream;
+import com.speedment.common.mutablestream.source.CollectionSource;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @since 1.1.0
+ */
+public class ParallelExecutorTest {
+
+    private static final int SIZE = 100_000;
+
+    private final List<Integer> list = IntStream.range(0, SIZE).boxed()
+        .collect(Collectors.toList());
+
+    private Stream<Integer> parallel() {
+        return MutableStream.wrap(CollectionSource.create(list)).parallel();
+    }
+
+    @Test
+    public void testSumAndCount() {
+        assertEquals(
+            list.stream().filter(i -> i % 3 == 0).mapToLong(i -> i * 2L).sum(),
+            parallel().filter(i -> i % 3 == 0).mapToLong(i -> i * 2L).sum()
+        );
+        assertEquals(
+            list.stream().mapToInt(i -> i).filter(i -> i % 7 == 0).count(),
+            parallel().mapToInt(i -> i).filter(i -> i % 7 == 0).count()
+        );
+    }
+
+    @Test
+    public void testMinMaxAndStatistics() {
+        assertEquals(SIZE - 1, parallel().mapToInt(i -> i).max().getAsInt());
+        assertEquals(0L, parallel().mapToLong(i -> i).min().getAsLong());
+        assertEquals(
+            Integer.valueOf(SIZE - 1),
+            parallel().max(Integer::compare).get()
+        );
+
+        final IntSummaryStatistics expected = list.stream()
+            .mapToInt(i -> i).summaryStatistics();
+        final IntSummaryStatistics actual = parallel()
+            .mapToInt(i -> i).summaryStatistics();
+        assertEquals(expected.toString(), actual.toString());
+
+        assertEquals(
+            list.stream().mapToDouble(i -> i / 3.0).average().getAsDouble(),
+            parallel().mapToDouble(i -> i / 3.0).average().getAsDouble(),
+            1e-6
+        );
+    }
+
+    @Test
+    public void testCollectKeepsOrder() {
+        assertEquals(
+            list.stream().map(i -> i + 1).collect(Collectors.toList()),
+            parallel().map(i -> i + 1).collect(Collectors.toList())
+        );
+        assertEquals(
+            list.stream().flatMapToInt(i -> IntStream.of(i, -i)).boxed()
+                .collect(Collectors.toList()),
+            parallel().flatMapToInt(i -> IntStream.of(i, -i))
+                .collect(ArrayList::new, ArrayList::add, ArrayList::addAll)
+        );
+    }
+
+    @Test
+    public void testForEachAndNonListSource() {
+        final Set<Integer> set = new HashSet<>(list);
+        final LongAdder sum = new LongAdder();
+        MutableStream.wrap(CollectionSource.create(set)).parallel()
+            .mapToLong(i -> i)
+            .forEach(sum::add);
+        assertEquals((long) SIZE * (SIZE - 1) / 2, sum.sum());
+    }
+
+    @Test
+    public void testStatefulActionFallsBack() {
+        assertEquals(
+            list.stream().skip(10).limit(100).mapToInt(i -> i).sum(),
+            parallel().skip(10).limit(100).mapToInt(i -> i).sum()
+        );
+        assertEquals(10, parallel().map(i -> i % 10).distinct().count());
+    }
+}
@@ -0,0 +1,177 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.rest;
+
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Rest} client that reuses connections between requests and sends
+ * requests on threads of its own instead of the common fork-join pool. The
+ * number of connections that are open at the same time is bounded. Responses
+ * can also be streamed using {@link #stream(Method, String, Option...)}
+ * instead of being read into memory.
+ * <p>
+ * Usage:
+ * <pre>
+ *     try (PooledRest rest = PooledRest.builder("127.0.0.1")
+ *             .withPort(8080)
+ *             .withMaxConnections(4)
+ *             .build()) {
+ *
+ *         try (StreamingResponse response = rest.stream(Method.GET, "user").get()) {
+ *             response.lines().forEach(System.out::println);
+ *         }
+ *     }
+ * </pre>
+ * Idle connections are kept alive by the {@code HttpURLConnection} of the
+ * JDK, which keeps at most {@code http.maxConnections} idle connections for
+ * each host.
+ *
+ * @since   1.1.0
+ */
+public interface PooledRest extends Rest, AutoCloseable {
+
+    /**
+     * Sends a request without a body and returns the response once the
+     * status and the headers have been received. The connection is held
+     * until the returned response is closed.
+     *
+     * @param method  the method
+     * @param path    the path
+     * @param option  the parameters and headers
+     * @return        future response
+     */
+    CompletableFuture<StreamingResponse> stream(Method method, String path, Option... option);
+
+    /**
+     * Sends a request with the specified body and returns the response once
+     * the status and the headers have been received. The connection is held
+     * until the returned response is closed.
+     *
+     * @param method  the method
+     * @param path    the path
+     * @param body    the body of the request
+     * @param option  the parameters and headers
+     * @return        future response
+     */
+    CompletableFuture<StreamingResponse> stream(Method method, String path, InputStream body, Option... option);
+
+    /**
+     * Stops the threads of this client once the requests that have already
+     * been sent are completed.
+     */
+    @Override
+    void close();
+
+    /**
+     * Returns a builder for a client of the specified host.
+     *
+     * @param host  the host
+     * @return      the builder
+     */
+    static Builder builder(String host) {
+        return new Builder(host);
+    }
+
+    /**
+     * Builder for a {@link PooledRest}.
+     */
+    final class Builder {
+
+        private final String host;
+        private Protocol protocol;
+        private int port;
+        private String username;
+        private String password;
+        private int maxConnections;
+        private int connectTimeout;
+        private int readTimeout;
+
+        private Builder(String host) {
+            this.host           = requireNonNull(host);
+            this.protocol       = Protocol.HTTP;
+            this.maxConnections = 8;
+        }
+
+        public Builder withProtocol(Protocol protocol) {
+            this.protocol = requireNonNull(protocol);
+            return this;
+        }
+
+        public Builder withPort(int port) {
+            this.port = port;
+            return this;
+        }
+
+        public Builder withCredentials(String username, String password) {
+            this.username = requireNonNull(username);
+            this.password = requireNonNull(password);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of requests that are sent at the same time,
+         * including streamed responses that have not been closed yet.
+         *
+         * @param maxConnections  the maximum number of connections
+         * @return                this builder
+         */
+        public Builder withMaxConnections(int maxConnections) {
+            if (maxConnections <= 0) {
+                throw new IllegalArgumentException(
+                    "Maximum number of connections must be positive."
+                );
+            }
+            this.maxConnections = maxConnections;
+            return this;
+        }
+
+        /**
+         * Sets the timeout in milliseconds for establishing a connection. A
+         * timeout of zero means no timeout.
+         *
+         * @param connectTimeout  timeout in milliseconds
+         * @return                this builder
+         */
+        public Builder withConnectTimeout(int connectTimeout) {
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        /**
+         * Sets the timeout in milliseconds for reading from a connection. A
+         * timeout of zero means no timeout.
+         *
+         * @param readTimeout  timeout in milliseconds
+         * @return             this builder
+         */
+        public Builder withReadTimeout(int readTimeout) {
+            this.readTimeout = readTimeout;
+            return this;
+        }
+
+        public PooledRest build() {
+            return new PooledRestImpl(
+                protocol, host, port, username, password,
+                maxConnections, connectTimeout, readTimeout
+            );
+        }
+    }
+}
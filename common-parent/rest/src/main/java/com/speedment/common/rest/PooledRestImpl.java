@@ -0,0 +1,142 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.rest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Default implementation of the {@link PooledRest}-interface.
+ * <p>
+ * Requests are sent using {@code HttpURLConnection} on a fixed number of
+ * daemon threads. The connections are never disconnected explicitly. Instead
+ * the response body is always read until the end and closed, which lets the
+ * JDK reuse the connection for the next request to the same host.
+ *
+ * @since   1.1.0
+ */
+final class PooledRestImpl extends RestImpl implements PooledRest {
+
+    private final ExecutorService executor;
+    private final Semaphore connections;
+    private final int connectTimeout;
+    private final int readTimeout;
+
+    PooledRestImpl(
+            Protocol protocol,
+            String host,
+            int port,
+            String username,
+            String password,
+            int maxConnections,
+            int connectTimeout,
+            int readTimeout) {
+
+        super(protocol, host, port, username, password);
+        this.connections    = new Semaphore(maxConnections, true);
+        this.connectTimeout = connectTimeout;
+        this.readTimeout    = readTimeout;
+
+        final AtomicInteger threadNumber = new AtomicInteger();
+        final ThreadPoolExecutor pool = new ThreadPoolExecutor(
+            maxConnections, maxConnections,
+            60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            r -> {
+                final Thread thread = new Thread(r,
+                    "rest-" + host + "-" + threadNumber.incrementAndGet()
+                );
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+
+        pool.allowCoreThreadTimeOut(true);
+        this.executor = pool;
+    }
+
+    @Override
+    public CompletableFuture<StreamingResponse> stream(Method method, String path, Option... option) {
+        return CompletableFuture.supplyAsync(
+            () -> execute(method, path, option, StreamConsumer.IGNORE),
+            executor
+        );
+    }
+
+    @Override
+    public CompletableFuture<StreamingResponse> stream(Method method, String path, InputStream body, Option... option) {
+        return CompletableFuture.supplyAsync(
+            () -> execute(method, path, option, stream(body)),
+            executor
+        );
+    }
+
+    @Override
+    CompletableFuture<Response> send(Method method, String path, Option[] options, StreamConsumer outStreamConsumer) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (final StreamingResponse response = execute(method, path, options, outStreamConsumer)) {
+                return new Response(
+                    response.getStatus(),
+                    response.getText(),
+                    response.getHeaders()
+                );
+            }
+        }, executor);
+    }
+
+    @Override
+    void configure(HttpURLConnection conn) {
+        conn.setConnectTimeout(connectTimeout);
+        conn.setReadTimeout(readTimeout);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private StreamingResponse execute(Method method, String path, Option[] options, StreamConsumer outStreamConsumer) {
+        try {
+            connections.acquire();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a connection.", ex);
+        }
+
+        try {
+            final HttpURLConnection conn = open(method, path, options, outStreamConsumer);
+            final int status = getResponseCodeFrom(conn);
+            final InputStream body = status >= 400
+                ? conn.getErrorStream()
+                : conn.getInputStream();
+
+            return new StreamingResponse(
+                status,
+                conn.getHeaderFields(),
+                body == null ? new ByteArrayInputStream(new byte[0]) : body,
+                connections::release
+            );
+        } catch (final IOException | RuntimeException ex) {
+            connections.release();
+            throw new RuntimeException("Could not send " + method.name() + "-command.", ex);
+        }
+    }
+}
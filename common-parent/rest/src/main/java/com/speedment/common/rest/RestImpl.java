@@ -204,7 +204,7 @@ class RestImpl implements Rest {
     }
     
     private final static int BUFFER_SIZE = 1024;
-    private StreamConsumer stream(InputStream in) {
+    static StreamConsumer stream(InputStream in) {
         return out -> {
             final byte[] buffer = new byte[BUFFER_SIZE];
             int len;
@@ -230,53 +230,11 @@ class RestImpl implements Rest {
         }
     }
     
-    private CompletableFuture<Response> send(Method method, String path, Option[] options, StreamConsumer outStreamConsumer) {
+    CompletableFuture<Response> send(Method method, String path, Option[] options, StreamConsumer outStreamConsumer) {
         return CompletableFuture.supplyAsync(() -> {
-            final Param[] params = Stream.of(options).filter(o -> o.getType() == PARAM).toArray(Param[]::new);
-            final Header[] headers = Stream.of(options).filter(o -> o.getType() == HEADER).toArray(Header[]::new);
-            
-            final URL url = getUrl(path, params);
-            
             HttpURLConnection conn = null;
             try {
-                conn = (HttpURLConnection) url.openConnection();
-                
-                switch (method) {
-                    case POST    : conn.setRequestMethod("POST"); break;
-                    case GET     : conn.setRequestMethod("GET"); break;
-                    case DELETE  : conn.setRequestMethod("DELETE"); break;
-                    case OPTIONS : conn.setRequestMethod("OPTIONS"); break;
-                    case PUT     : conn.setRequestMethod("PUT"); break;
-                    default : throw new UnsupportedOperationException(
-                        "Unknown enum constant '" + method + "'."
-                    );
-                }
-                
-                if (username != null && password != null) {
-                    final byte[] authentication = (username + ":" + password).getBytes();
-                    final String encoding = Base64.getEncoder().encodeToString(authentication);
-                    conn.setRequestProperty("Authorization", "Basic " + encoding);
-                }
-                
-                for (final Header header : headers) {
-                    conn.setRequestProperty(
-                        header.getKey(), 
-                        header.getValue());
-                }
-                
-                conn.setUseCaches(false);
-                conn.setAllowUserInteraction(false);
-                
-                final boolean doOutput = outStreamConsumer != StreamConsumer.IGNORE;
-                conn.setDoOutput(doOutput);
-                
-                conn.connect();
-                if (doOutput) {
-                    try (final OutputStream out = conn.getOutputStream()) {
-                        outStreamConsumer.writeTo(out);
-                        out.flush();
-                    }
-                }
+                conn = open(method, path, options, outStreamConsumer);
 
                 int status = getResponseCodeFrom(conn);
                 final String text;
@@ -306,7 +264,74 @@ class RestImpl implements Rest {
         });
     }
     
-    private static int getResponseCodeFrom(HttpURLConnection conn) throws IOException {
+    /**
+     * Opens a connection for the specified request and sends the headers and
+     * the body of it.
+     *
+     * @param method             the method
+     * @param path               the path
+     * @param options            the parameters and headers
+     * @param outStreamConsumer  writes the body, or {@link StreamConsumer#IGNORE}
+     * @return                   the connection, ready to read the response of
+     *
+     * @throws IOException  if the request could not be sent
+     */
+    final HttpURLConnection open(Method method, String path, Option[] options, StreamConsumer outStreamConsumer) throws IOException {
+        final Param[] params = Stream.of(options).filter(o -> o.getType() == PARAM).toArray(Param[]::new);
+        final Header[] headers = Stream.of(options).filter(o -> o.getType() == HEADER).toArray(Header[]::new);
+
+        final URL url = getUrl(path, params);
+        final HttpURLConnection conn = (HttpURLConnection) url.openConnection();
+
+        switch (method) {
+            case POST    : conn.setRequestMethod("POST"); break;
+            case GET     : conn.setRequestMethod("GET"); break;
+            case DELETE  : conn.setRequestMethod("DELETE"); break;
+            case OPTIONS : conn.setRequestMethod("OPTIONS"); break;
+            case PUT     : conn.setRequestMethod("PUT"); break;
+            default : throw new UnsupportedOperationException(
+                "Unknown enum constant '" + method + "'."
+            );
+        }
+
+        if (username != null && password != null) {
+            final byte[] authentication = (username + ":" + password).getBytes();
+            final String encoding = Base64.getEncoder().encodeToString(authentication);
+            conn.setRequestProperty("Authorization", "Basic " + encoding);
+        }
+
+        for (final Header header : headers) {
+            conn.setRequestProperty(
+                header.getKey(), 
+                header.getValue());
+        }
+
+        conn.setUseCaches(false);
+        conn.setAllowUserInteraction(false);
+        configure(conn);
+
+        final boolean doOutput = outStreamConsumer != StreamConsumer.IGNORE;
+        conn.setDoOutput(doOutput);
+
+        conn.connect();
+        if (doOutput) {
+            try (final OutputStream out = conn.getOutputStream()) {
+                outStreamConsumer.writeTo(out);
+                out.flush();
+            }
+        }
+
+        return conn;
+    }
+
+    /**
+     * Lets subclasses configure the connection before it is connected.
+     *
+     * @param conn  the connection
+     */
+    void configure(HttpURLConnection conn) {}
+
+    static int getResponseCodeFrom(HttpURLConnection conn) throws IOException {
         try {
             return conn.getResponseCode();
         } catch (final FileNotFoundException ex) {
@@ -349,7 +374,7 @@ class RestImpl implements Rest {
     }
     
     @FunctionalInterface
-    private interface StreamConsumer {
+    interface StreamConsumer {
         StreamConsumer IGNORE = o -> {};
         void writeTo(OutputStream out) throws IOException;
     }
@@ -0,0 +1,138 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.rest;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A response from the server where the body has not been read yet. The body
+ * can be read as a stream of bytes using {@link #getBody()}, or as a stream
+ * of lines using {@link #lines()}.
+ * <p>
+ * The response must be closed once the body has been read, either by closing
+ * it or by closing the stream returned by one of the methods above. This
+ * returns the connection to the pool of the {@link PooledRest} that sent the
+ * request.
+ *
+ * @since   1.1.0
+ */
+public final class StreamingResponse implements AutoCloseable {
+
+    private final int status;
+    private final Map<String, List<String>> headers;
+    private final InputStream body;
+
+    StreamingResponse(int status, Map<String, List<String>> headers, InputStream body, Runnable onClose) {
+        this.status  = status;
+        this.headers = requireNonNull(headers);
+        this.body    = new ClosingInputStream(requireNonNull(body), requireNonNull(onClose));
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    public boolean success() {
+        return status >= 200 && status <= 206;
+    }
+
+    /**
+     * Returns the body of the response. Closing the returned stream closes
+     * this response.
+     *
+     * @return  the body
+     */
+    public InputStream getBody() {
+        return body;
+    }
+
+    /**
+     * Returns a stream of the lines of the body, decoded as UTF-8. The lines
+     * are read as the stream is consumed. Closing the returned stream closes
+     * this response.
+     *
+     * @return  stream of lines
+     */
+    public Stream<String> lines() {
+        final BufferedReader reader = new BufferedReader(
+            new InputStreamReader(body, StandardCharsets.UTF_8)
+        );
+
+        return reader.lines().onClose(this::close);
+    }
+
+    /**
+     * Reads the remaining body, decoded as UTF-8, and closes this response.
+     *
+     * @return  the body as text
+     */
+    public String getText() {
+        try (final InputStream in = body) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[4096];
+            int len;
+            while ((len = in.read(buffer)) != -1) {
+                out.write(buffer, 0, len);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Error reading response body.", ex);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            body.close();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Error closing response body.", ex);
+        }
+    }
+
+    private static final class ClosingInputStream extends FilterInputStream {
+
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final Runnable onClose;
+
+        private ClosingInputStream(InputStream in, Runnable onClose) {
+            super(in);
+            this.onClose = onClose;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed.compareAndSet(false, true)) {
+                try {
+                    super.close();
+                } finally {
+                    onClose.run();
+                }
+            }
+        }
+    }
+}
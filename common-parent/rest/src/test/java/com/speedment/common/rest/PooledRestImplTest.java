@@ -0,0 +1,175 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.rest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @since 1.1.0
+ */
+public class PooledRestImplTest {
+
+    private static final int LINES = 10_000;
+
+    private HttpServer server;
+    private PooledRest rest;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+
+        server.createContext("/hello", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            respond(exchange, 200, "hello\nworld");
+        });
+
+        server.createContext("/echo", exchange -> {
+            final String query = exchange.getRequestURI().getQuery();
+            final String body = read(exchange.getRequestBody());
+            respond(exchange, 200, exchange.getRequestMethod() + " " + query + " " + body);
+        });
+
+        server.createContext("/lines", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            try (final OutputStream out = exchange.getResponseBody()) {
+                for (int i = 0; i < LINES; i++) {
+                    out.write((i + "\n").getBytes(StandardCharsets.UTF_8));
+                }
+            }
+        });
+
+        server.createContext("/missing", exchange -> respond(exchange, 404, "not found"));
+
+        server.setExecutor(Executors.newFixedThreadPool(8));
+        server.start();
+
+        rest = PooledRest.builder("127.0.0.1")
+            .withPort(server.getAddress().getPort())
+            .withMaxConnections(4)
+            .withReadTimeout(10_000)
+            .build();
+    }
+
+    @After
+    public void tearDown() {
+        rest.close();
+        server.stop(0);
+    }
+
+    @Test
+    public void testGetKeepsBody() throws Exception {
+        final Response response = rest.get("hello").get();
+        assertEquals(200, response.getStatus());
+        assertTrue(response.success());
+        assertEquals("hello\nworld", response.getText());
+    }
+
+    @Test
+    public void testPostWithParamsAndBody() throws Exception {
+        final Response response = rest.post("echo", "the body", Param.param("a", "b c")).get();
+        assertEquals("POST a=b+c the body", response.getText());
+    }
+
+    @Test
+    public void testErrorStatus() throws Exception {
+        final Response response = rest.get("missing").get();
+        assertEquals(404, response.getStatus());
+        assertFalse(response.success());
+        assertEquals("not found", response.getText());
+    }
+
+    @Test
+    public void testStreamLines() throws Exception {
+        try (final StreamingResponse response = rest.stream(Rest.Method.GET, "lines").get()) {
+            assertEquals(200, response.getStatus());
+            assertEquals(
+                (long) LINES * (LINES - 1) / 2,
+                response.lines().mapToLong(Long::parseLong).sum()
+            );
+        }
+    }
+
+    @Test
+    public void testStreamWithBody() throws Exception {
+        final InputStream body = new ByteArrayInputStream("x".getBytes(StandardCharsets.UTF_8));
+        try (final StreamingResponse response = rest.stream(Rest.Method.PUT, "echo", body).get()) {
+            assertEquals("PUT null x", response.getText());
+        }
+    }
+
+    @Test
+    public void testConnectionsAreReused() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            assertEquals("hello\nworld", rest.get("hello").get().getText());
+        }
+        assertTrue(
+            "Expected connections to be reused, but " + clientPorts.size() + " were opened.",
+            clientPorts.size() < 20
+        );
+    }
+
+    @Test
+    public void testManyParallelRequests() {
+        final List<CompletableFuture<Response>> futures = IntStream.range(0, 200)
+            .mapToObj(i -> rest.get("echo", Param.param("i", Integer.toString(i))))
+            .collect(Collectors.toList());
+
+        for (int i = 0; i < futures.size(); i++) {
+            assertEquals("GET i=" + i + " ", futures.get(i).join().getText());
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String text) throws IOException {
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (final OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String read(InputStream in) throws IOException {
+        final StringBuilder sb = new StringBuilder();
+        final byte[] buffer = new byte[1024];
+        int len;
+        while ((len = in.read(buffer)) != -1) {
+            sb.append(new String(buffer, 0, len, StandardCharsets.UTF_8));
+        }
+        return sb.toString();
+    }
+}
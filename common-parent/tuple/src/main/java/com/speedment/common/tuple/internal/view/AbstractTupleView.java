@@ -0,0 +1,74 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.tuple.internal.view;
+
+import com.speedment.common.tuple.view.RowBuffer;
+import com.speedment.common.tuple.view.TupleView;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Base class for {@link TupleView} implementations.
+ *
+ * @since  1.1.0
+ */
+public abstract class AbstractTupleView implements TupleView {
+
+    protected final RowBuffer buffer;
+
+    protected AbstractTupleView(RowBuffer buffer, int degree) {
+        this.buffer = requireNonNull(buffer);
+        if (buffer.degree() != degree) {
+            throw new IllegalArgumentException(
+                "A view of degree " + degree + " can not view a buffer of degree "
+                + buffer.degree() + "."
+            );
+        }
+    }
+
+    @Override
+    public Optional<Object> get(int index) {
+        if (index < 0 || index >= buffer.degree()) {
+            throw new IndexOutOfBoundsException("index " + index + " is illegal. The degree of this Tuple is " + buffer.degree() + ".");
+        }
+        return Optional.ofNullable(buffer.get(index));
+    }
+
+    @Override
+    public <C> Stream<C> streamOf(Class<C> clazz) {
+        requireNonNull(clazz);
+        return IntStream.range(0, buffer.degree())
+            .mapToObj(buffer::get)
+            .filter(clazz::isInstance)
+            .map(clazz::cast);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " "
+            + IntStream.range(0, buffer.degree())
+                .mapToObj(buffer::get)
+                .map(Objects::toString)
+                .collect(joining(", ", "{", "}"));
+    }
+}
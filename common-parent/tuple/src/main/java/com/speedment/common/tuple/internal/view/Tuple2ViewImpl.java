@@ -0,0 +1,68 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.tuple.internal.view;
+
+import com.speedment.common.tuple.TuplesOfNullables;
+import com.speedment.common.tuple.nullable.Tuple2OfNullables;
+import com.speedment.common.tuple.view.RowBuffer;
+import com.speedment.common.tuple.view.Tuple2View;
+
+import java.util.Optional;
+
+/**
+ * An implementation class of a {@link Tuple2View}.
+ * 
+ * @param <T0> type of element 0
+ * @param <T1> type of element 1
+ * 
+ * @since  1.1.0
+ */
+public final class Tuple2ViewImpl<T0, T1> 
+extends AbstractTupleView 
+implements Tuple2View<T0, T1> {
+    
+    public Tuple2ViewImpl(RowBuffer buffer) {
+        super(buffer, 2);
+    }
+    
+    @Override
+    public Optional<T0> get0() {
+        return Optional.ofNullable(getOrNull0());
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public T0 getOrNull0() {
+        return (T0) buffer.get(0);
+    }
+    
+    @Override
+    public Optional<T1> get1() {
+        return Optional.ofNullable(getOrNull1());
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public T1 getOrNull1() {
+        return (T1) buffer.get(1);
+    }
+    
+    @Override
+    public Tuple2OfNullables<T0, T1> copy() {
+        return TuplesOfNullables.ofNullables(getOrNull0(), getOrNull1());
+    }
+}
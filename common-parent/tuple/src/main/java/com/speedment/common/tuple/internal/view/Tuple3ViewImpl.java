@@ -0,0 +1,80 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.tuple.internal.view;
+
+import com.speedment.common.tuple.TuplesOfNullables;
+import com.speedment.common.tuple.nullable.Tuple3OfNullables;
+import com.speedment.common.tuple.view.RowBuffer;
+import com.speedment.common.tuple.view.Tuple3View;
+
+import java.util.Optional;
+
+/**
+ * An implementation class of a {@link Tuple3View}.
+ * 
+ * @param <T0> type of element 0
+ * @param <T1> type of element 1
+ * @param <T2> type of element 2
+ * 
+ * @since  1.1.0
+ */
+public final class Tuple3ViewImpl<T0, T1, T2> 
+extends AbstractTupleView 
+implements Tuple3View<T0, T1, T2> {
+    
+    public Tuple3ViewImpl(RowBuffer buffer) {
+        super(buffer, 3);
+    }
+    
+    @Override
+    public Optional<T0> get0() {
+        return Optional.ofNullable(getOrNull0());
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public T0 getOrNull0() {
+        return (T0) buffer.get(0);
+    }
+    
+    @Override
+    public Optional<T1> get1() {
+        return Optional.ofNullable(getOrNull1());
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public T1 getOrNull1() {
+        return (T1) buffer.get(1);
+    }
+    
+    @Override
+    public Optional<T2> get2() {
+        return Optional.ofNullable(getOrNull2());
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public T2 getOrNull2() {
+        return (T2) buffer.get(2);
+    }
+    
+    @Override
+    public Tuple3OfNullables<T0, T1, T2> copy() {
+        return TuplesOfNullables.ofNullables(getOrNull0(), getOrNull1(), getOrNull2());
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.tuple.internal.view;
+
+import com.speedment.common.tuple.TuplesOfNullables;
+import com.speedment.common.tuple.nullable.Tuple7OfNullables;
+import com.speedment.common.tuple.view.RowBuffer;
+import com.speedment.common.tuple.view.Tuple7View;
+
+import java.util.Optional;
+
+/**
+ * An implementation class of a {@link Tuple7View}.
+ * 
+ * @param <T0> type of element 0
+ * @param <T1> type of element 1
+ * @param <T2> type of element 2
+ * @param <T3> type of element 3
+ * @param <T4> type of element 4
+ * @param <T5> type of element 5
+ * @param <T6> type of element 6
+ * 
+ * @since  1.1.0
+ */
+public final class Tuple7ViewImpl<T0, T1, T2, T3, T4, T5, T6> 
+extends AbstractTupleView 
+implements Tuple7View<T0, T1, T2, T3, T4, T5, T6> {
+    
+    public Tuple7ViewImpl(RowBuffer buffer) {
+        super(buffer, 7);
+    }
+    
+    @Override
+    public Optional<T0> get0() {
+        return Optional.ofNullable(getOrNull0());
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public T0 getOrNull0() {
+        return (T0) buffer.get(0);
+    }
+    
+    @Override
+    public Optional<T1> get1() {
+        return Optional.ofNullable(getOrNull1());
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public T1 getOrNull1() {
+        return (T1) buffer.get(1);
+    }
+    
+    @Override
+    public Optional<T2> get2() {
+        return Optional.ofNullable(getOrNull2());
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public T2 getOrNull2() {
+        return (T2) buffer.get(2);
+    }
+    
+    @Override
+    public Optional<T3> get3() {
+        return Optional.ofNullable(getOrNull3());
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public T3 getOrNull3() {
+        return (T3) buffer.get(3);
+    }
+    
+    @Override
+    public Optional<T4> get4() {
+        return Optional.ofNullable(getOrNull4());
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public T4 getOrNull4() {
+        return (T4) buffer.get(4);
+    }
+    
+    @Override
+    public Optional<T5> get5() {
+        return Optional.ofNullable(getOrNull5());
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public T5 getOrNull5() {
+        return (T5) buffer.get(5);
+    }
+    
+    @Override
+    public Optional<T6> get6() {
+        return Optional.ofNullable(getOrNull6());
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public T6 getOrNull6() {
+        return (T6) buffer.get(6);
+    }
+    
+    @Override
+    public Tuple7OfNullables<T0, T1, T2, T3, T4, T5, T6> copy() {
+        return TuplesOfNullables.ofNullables(getOrNull0(), getOrNull1(), getOrNull2(), getOrNull3(), getOrNull4(), getOrNull5(), getOrNull6());
+    }
+}
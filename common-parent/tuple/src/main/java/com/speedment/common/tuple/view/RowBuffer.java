@@ -0,0 +1,107 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.tuple.view;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A reusable buffer with one slot for every element of a row. The elements
+ * of the current row are only loaded when they are first requested, and are
+ * then kept in the slot until the buffer is {@link #advance() advanced} to
+ * the next row.
+ * <p>
+ * A buffer is typically viewed by a single {@link TupleView} that is reused
+ * for every row. Since the view reflects whatever row is current, it must not
+ * be retained once the buffer has been advanced. Use {@link TupleView#copy()}
+ * to retain the elements of a row.
+ * <p>
+ * Instances are not thread-safe.
+ *
+ * @since  1.1.0
+ */
+public final class RowBuffer {
+
+    /**
+     * Loads the element at the specified index of the current row.
+     */
+    @FunctionalInterface
+    public interface Loader {
+
+        /**
+         * Loads the element at the specified index of the current row.
+         *
+         * @param index  the index of the element
+         * @return       the element, may be {@code null}
+         */
+        Object load(int index);
+    }
+
+    private final Object[] slots;
+    private final long[] loadedAt;
+    private final Loader loader;
+    private long row;
+
+    /**
+     * Creates a new buffer.
+     *
+     * @param degree  the number of elements in each row
+     * @param loader  loader for the elements of the current row
+     */
+    public RowBuffer(int degree, Loader loader) {
+        if (degree < 0) {
+            throw new IllegalArgumentException(
+                "Degree must not be negative, was " + degree + "."
+            );
+        }
+        this.slots    = new Object[degree];
+        this.loadedAt = new long[degree];
+        this.loader   = requireNonNull(loader);
+        this.row      = 1; // Zero means that a slot has never been loaded
+    }
+
+    /**
+     * Returns the number of elements in each row.
+     *
+     * @return  the degree
+     */
+    public int degree() {
+        return slots.length;
+    }
+
+    /**
+     * Moves the buffer to the next row. This invalidates every slot without
+     * touching it, so this is a constant time operation.
+     */
+    public void advance() {
+        row++;
+    }
+
+    /**
+     * Returns the element at the specified index of the current row, loading
+     * it if it has not already been loaded.
+     *
+     * @param index  the index of the element
+     * @return       the element, may be {@code null}
+     */
+    public Object get(int index) {
+        if (loadedAt[index] != row) {
+            slots[index]    = loader.load(index);
+            loadedAt[index] = row;
+        }
+        return slots[index];
+    }
+}
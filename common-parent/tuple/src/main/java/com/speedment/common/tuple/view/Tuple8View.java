@@ -0,0 +1,60 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.tuple.view;
+
+import com.speedment.common.tuple.internal.view.Tuple8ViewImpl;
+import com.speedment.common.tuple.nullable.Tuple8OfNullables;
+
+/**
+ * A {@link Tuple8OfNullables} that is a view of the current row of a
+ * {@link RowBuffer}.
+ * 
+ * @param <T0> type of element 0
+ * @param <T1> type of element 1
+ * @param <T2> type of element 2
+ * @param <T3> type of element 3
+ * @param <T4> type of element 4
+ * @param <T5> type of element 5
+ * @param <T6> type of element 6
+ * @param <T7> type of element 7
+ * 
+ * @since  1.1.0
+ */
+public interface Tuple8View<T0, T1, T2, T3, T4, T5, T6, T7> extends Tuple8OfNullables<T0, T1, T2, T3, T4, T5, T6, T7>, TupleView {
+    
+    @Override
+    Tuple8OfNullables<T0, T1, T2, T3, T4, T5, T6, T7> copy();
+    
+    /**
+     * Creates a new view of the current row of the specified buffer. The
+     * buffer must have a degree of 8.
+     * 
+     * @param <T0> type of element 0
+     * @param <T1> type of element 1
+     * @param <T2> type of element 2
+     * @param <T3> type of element 3
+     * @param <T4> type of element 4
+     * @param <T5> type of element 5
+     * @param <T6> type of element 6
+     * @param <T7> type of element 7
+     * @param buffer the buffer to view
+     * @return       a new view
+     */
+    static <T0, T1, T2, T3, T4, T5, T6, T7> Tuple8View<T0, T1, T2, T3, T4, T5, T6, T7> of(RowBuffer buffer) {
+        return new Tuple8ViewImpl<>(buffer);
+    }
+}
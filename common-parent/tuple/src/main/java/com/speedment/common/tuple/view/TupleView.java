@@ -0,0 +1,42 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.tuple.view;
+
+import com.speedment.common.tuple.TupleOfNullables;
+
+/**
+ * A {@link TupleOfNullables} that is a view of the current row of a
+ * {@link RowBuffer} rather than a container of its own elements. The same
+ * view instance is typically used for every row, so a view must not be
+ * retained after the next row has been requested. Views do not override
+ * {@code equals} and {@code hashCode} for the same reason.
+ * <p>
+ * Call {@link #copy()} to obtain an ordinary, immutable tuple with the
+ * elements of the current row.
+ *
+ * @since  1.1.0
+ */
+public interface TupleView extends TupleOfNullables {
+
+    /**
+     * Returns an immutable tuple with the elements of the current row.
+     *
+     * @return  a copy of the current row
+     */
+    TupleOfNullables copy();
+
+}
@@ -0,0 +1,76 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.common.tuple.view;
+
+import com.speedment.common.tuple.TuplesOfNullables;
+import com.speedment.common.tuple.nullable.Tuple3OfNullables;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @since 1.1.0
+ */
+public class TupleViewTest {
+
+    @Test
+    public void testLoadsLazilyOncePerRow() {
+        final AtomicInteger row = new AtomicInteger();
+        final AtomicInteger loads = new AtomicInteger();
+        final RowBuffer buffer = new RowBuffer(3, index -> {
+            loads.incrementAndGet();
+            return index == 1 ? null : "r" + row.get() + "c" + index;
+        });
+        final Tuple3View<String, String, String> view = Tuple3View.of(buffer);
+
+        assertEquals(3, view.degree());
+        assertEquals(0, loads.get());
+        assertEquals("r0c0", view.getOrNull0());
+        assertEquals(Optional.of("r0c0"), view.get0());
+        assertEquals(1, loads.get());
+        assertFalse(view.get1().isPresent());
+        assertEquals(2, loads.get());
+
+        row.incrementAndGet();
+        buffer.advance();
+        assertEquals("r1c2", view.getOrNull2());
+        assertEquals(Optional.of("r1c0"), view.get(0));
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    public void testCopy() {
+        final AtomicInteger row = new AtomicInteger();
+        final RowBuffer buffer = new RowBuffer(3, index -> row.get() * 10 + index);
+        final Tuple3View<Integer, Integer, Integer> view = Tuple3View.of(buffer);
+
+        final Tuple3OfNullables<Integer, Integer, Integer> copy = view.copy();
+        row.incrementAndGet();
+        buffer.advance();
+
+        assertEquals(TuplesOfNullables.ofNullables(0, 1, 2), copy);
+        assertEquals(Integer.valueOf(10), view.getOrNull0());
+        assertEquals(3, view.streamOf(Integer.class).count());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDegreeMismatch() {
+        Tuple3View.of(new RowBuffer(2, index -> null));
+    }
+}
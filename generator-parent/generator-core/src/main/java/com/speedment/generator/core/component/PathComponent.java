@@ -47,5 +47,28 @@ public interface PathComponent {
      * @return  the generated package location
      */
     Path packageLocation();
+
+    /**
+     * Returns the root folder where generated resources will be put. Files in
+     * this folder should end up on the classpath of the generated
+     * application.
+     * <p>
+     * By default, if the package location is a folder named {@code java} (as
+     * in the standard {@code src/main/java}), this is the {@code resources}
+     * folder next to it. Otherwise it is {@code src/main/resources} in the
+     * {@link #baseDir() base directory}.
+     *
+     * @return  the generated resource location
+     * @since   3.1.5
+     */
+    default Path resourceLocation() {
+        final Path packageLocation = packageLocation();
+        final Path fileName = packageLocation.getFileName();
+        if (fileName != null && "java".equals(fileName.toString())) {
+            return packageLocation.resolveSibling("resources");
+        } else {
+            return baseDir().resolve("src").resolve("main").resolve("resources");
+        }
+    }
     
 }
\ No newline at end of file
@@ -31,6 +31,7 @@ import com.speedment.generator.core.event.AfterGenerate;
 import com.speedment.generator.core.event.BeforeGenerate;
 import com.speedment.generator.core.event.FileGenerated;
 import com.speedment.generator.core.internal.util.HashUtil;
+import com.speedment.generator.translator.HasResources;
 import com.speedment.generator.translator.Translator;
 import com.speedment.generator.translator.TranslatorManager;
 import com.speedment.generator.translator.component.CodeGenerationComponent;
@@ -47,6 +48,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
@@ -147,6 +149,16 @@ public final class TranslatorManagerHelper {
             delegator.writeToFile(project, meta, true);
         });
 
+        // Write any resources produced by the write-always translators.
+        writeAlwaysTranslators.stream()
+            .filter(HasResources.class::isInstance)
+            .map(HasResources.class::cast)
+            .flatMap(t -> t.resources().entrySet().stream())
+            .forEachOrdered(e -> delegator.writeResource(
+                paths.resourceLocation().resolve(Paths.get("", e.getKey().split("/"))),
+                e.getValue()
+            ));
+
         System.out.println();
         LOGGER.info("Wrote %d files in %s", getFilesCreated(), paths.packageLocation());
 
@@ -0,0 +1,66 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.generator;
+
+import com.speedment.common.codegen.model.Class;
+import com.speedment.generator.standard.StandardTranslatorKey;
+import com.speedment.generator.translator.HasResources;
+import com.speedment.generator.translator.Translator;
+import com.speedment.generator.translator.component.CodeGenerationComponent;
+import com.speedment.runtime.config.Project;
+import com.speedment.runtime.config.util.BinaryDocumentTranscoder;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.zip.CRC32;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @since 3.1.5
+ */
+public class GeneratedMetadataTranslatorTest extends SimpleModel {
+
+    @Test
+    public void testSnapshotResource() {
+        final Translator<Project, Class> translator = speedment.getOrThrow(CodeGenerationComponent.class)
+            .findTranslator(project, StandardTranslatorKey.GENERATED_METADATA);
+
+        final String code = translator.toCode();
+        final Map<String, byte[]> resources = ((HasResources) translator).resources();
+        assertEquals(1, resources.size());
+
+        final Map.Entry<String, byte[]> resource = resources.entrySet().iterator().next();
+        final String name = resource.getKey().substring(resource.getKey().lastIndexOf('/') + 1);
+        assertTrue(resource.getKey().endsWith("/generated/" + name));
+        assertTrue(code.contains("return Optional.of(\"" + name + "\");"));
+
+        final CRC32 crc = new CRC32();
+        crc.update(resource.getValue());
+        assertTrue(code.contains("return OptionalLong.of(" + crc.getValue() + "L);"));
+
+        final Project loaded = BinaryDocumentTranscoder.load(ByteBuffer.wrap(resource.getValue()));
+        assertEquals(project.getName(), loaded.getName());
+        assertEquals(project.getAppId(), loaded.getAppId());
+        assertEquals(
+            project.dbmses().flatMap(d -> d.schemas()).flatMap(s -> s.tables()).count(),
+            loaded.dbmses().flatMap(d -> d.schemas()).flatMap(s -> s.tables()).count()
+        );
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.generator;
+
+import com.speedment.common.codegen.model.Class;
+import com.speedment.generator.standard.StandardTranslatorKey;
+import com.speedment.generator.translator.Translator;
+import com.speedment.generator.translator.component.CodeGenerationComponent;
+import com.speedment.runtime.config.Table;
+import org.junit.Test;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @since 3.1.5
+ */
+public class GeneratedSqlAdapterTranslatorTest extends SimpleModel {
+
+    @Test
+    public void testReusingEntityMapper() {
+        final Translator<Table, Class> translator = speedment.getOrThrow(CodeGenerationComponent.class)
+            .findTranslator(table, StandardTranslatorKey.GENERATED_SQL_ADAPTER);
+
+        final String code = translator.toCode().replaceAll("\\s+", " ");
+
+        // The entity is filled in place instead of being created per row
+        assertTrue(code.contains(
+            "protected User apply( ResultSet resultSet, int offset, User entity) "
+            + "throws SQLException { return entity .setFirstName( resultSet.getString(1 + offset))"
+        ));
+
+        // The mapper creates its single entity once, outside of the lambda
+        assertTrue(code.contains(
+            "public SqlFunction<ResultSet, User> reusingEntityMapper() { "
+            + "final UserImpl entity = createEntity(); "
+            + "return rs -> apply(rs, 0, entity); }"
+        ));
+    }
+}
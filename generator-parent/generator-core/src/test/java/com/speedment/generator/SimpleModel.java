@@ -68,6 +68,9 @@ public abstract class SimpleModel {
         @Override
         public void writeToFile(Path location, String content, boolean overwriteExisting) {}
 
+        @Override
+        public void writeResource(Path location, byte[] content) {}
+
         @Override
         public int getFilesCreated() {return 0;}
     }
@@ -101,10 +101,22 @@ public final class GenerateMethodBodyUtil {
         File file,
         Supplier<Stream<? extends Column>> columnsSupplier) {
 
+        return generateApplyResultSetBody(
+            readFromResultSet, support, file, columnsSupplier, "createEntity()"
+        );
+    }
+
+    public static String[] generateApplyResultSetBody(
+        ReadFromResultSet readFromResultSet,
+        TranslatorSupport<Table> support,
+        File file,
+        Supplier<Stream<? extends Column>> columnsSupplier,
+        String target) {
+
         file.add(Import.of(SQLException.class));
 
         final List<String> rows = new LinkedList<>();
-        rows.add("return createEntity()");
+        rows.add("return " + target);
 
         final Stream.Builder<String> streamBuilder = Stream.builder();
 
@@ -23,15 +23,21 @@ import com.speedment.common.codegen.model.*;
 import com.speedment.common.injector.annotation.Inject;
 import com.speedment.common.json.Json;
 import com.speedment.generator.translator.AbstractJavaClassTranslator;
+import com.speedment.generator.translator.HasResources;
 import com.speedment.runtime.config.Project;
 import com.speedment.runtime.config.mutator.ProjectMutator;
+import com.speedment.runtime.config.util.BinaryDocumentTranscoder;
 import com.speedment.runtime.config.util.DocumentTranscoder;
 import com.speedment.runtime.core.ApplicationMetadata;
 import com.speedment.runtime.core.component.InfoComponent;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
 import java.util.stream.Stream;
+import java.util.zip.CRC32;
 
 import static com.speedment.common.codegen.constant.DefaultAnnotationUsage.OVERRIDE;
 import static com.speedment.common.codegen.constant.DefaultJavadocTag.AUTHOR;
@@ -41,10 +47,16 @@ import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 
 /**
+ * Generates the {@link ApplicationMetadata} of the project. The metadata is
+ * embedded as JSON in the class and is also produced as a binary snapshot
+ * resource (see {@link BinaryDocumentTranscoder}) that is preferred at
+ * runtime.
  *
  * @author Per Minborg
  */
-public final class GeneratedMetadataTranslator extends AbstractJavaClassTranslator<Project, Class> {
+public final class GeneratedMetadataTranslator
+extends AbstractJavaClassTranslator<Project, Class>
+implements HasResources {
 
     private static final int LINES_PER_METHOD = 100;
     private static final String INIT_PART_METHOD_NAME = "initPart";
@@ -54,6 +66,8 @@ public final class GeneratedMetadataTranslator extends AbstractJavaClassTranslat
 
     private @Inject InfoComponent infoComponent;
 
+    private Map<String, byte[]> resources = Collections.emptyMap();
+
     public GeneratedMetadataTranslator(Project doc) {
         super(doc, Class::of);
     }
@@ -79,6 +93,25 @@ public final class GeneratedMetadataTranslator extends AbstractJavaClassTranslat
 
         project.setSpeedmentVersion(infoComponent.getEditionAndVersionString());
 
+        final byte[] snapshot = BinaryDocumentTranscoder.save(project.document());
+        final CRC32 crc = new CRC32();
+        crc.update(snapshot);
+
+        final String fileName = file.getName();
+        final String packagePath = fileName.substring(0, fileName.lastIndexOf('/') + 1);
+        final String snapshotName = getClassOrInterfaceName() + BinaryDocumentTranscoder.EXTENSION;
+        resources = Collections.singletonMap(packagePath + snapshotName, snapshot);
+
+        final Method getSnapshotResource = Method.of("getSnapshotResource", DefaultType.optional(String.class))
+            .protected_()
+            .add(OVERRIDE)
+            .add("return Optional.of(\"" + snapshotName + "\");");
+
+        final Method getSnapshotChecksum = Method.of("getSnapshotChecksum", OptionalLong.class)
+            .protected_()
+            .add(OVERRIDE)
+            .add("return OptionalLong.of(" + crc.getValue() + "L);");
+
         final List<String> lines = Stream.of(
             DocumentTranscoder.save(project.document(), Json::toJson)
                 .split("\\R")).collect(toList());
@@ -130,12 +163,19 @@ public final class GeneratedMetadataTranslator extends AbstractJavaClassTranslat
                     .setSupertype(AbstractApplicationMetadata.class)
                     .add(metadataField)
                     .add(initializer)
-                    .add(getMetadata);
+                    .add(getMetadata)
+                    .add(getSnapshotResource)
+                    .add(getSnapshotChecksum);
 
                 subInitializers.forEach(clazz::add);
             }).build();
     }
 
+    @Override
+    public Map<String, byte[]> resources() {
+        return resources;
+    }
+
     private Method addNewSubMethod(List<Method> methods) {
         final Method m = Method.of(INIT_PART_METHOD_NAME + methods.size(), void.class).private_().static_()
             .add(Field.of(STRING_BUILDER_NAME, StringBuilder.class));
@@ -136,6 +136,7 @@ public final class GeneratedSqlAdapterTranslator
                     //                        .add("persistenceComponent.install(tableIdentifier);")
                     //                    )
                     .add(generateApplyResultSet(getSupport(), file, table::columns))
+                    .add(generateApplyResultSetTo(getSupport(), file, table::columns))
                     .add(generateCreateEntity(file))
                     .add(
                         Method.of("identifier", tableIdentifierType)
@@ -156,6 +157,13 @@ public final class GeneratedSqlAdapterTranslator
                             .add(Field.of(OFFSET_PARAMETER_NAME, int.class))
                             .add("return rs -> apply(rs, offset);")
                     )
+                    .add(
+                        Method.of("reusingEntityMapper", SimpleParameterizedType.create(SqlFunction.class, ResultSet.class, getSupport().entityType()))
+                            .public_()
+                            .add(OVERRIDE)
+                            .add("final " + getSupport().entityImplName() + " entity = createEntity();")
+                            .add("return rs -> apply(rs, 0, entity);")
+                    )
                     .call(() -> {
                         //file.add(Import.of(State.class).setStaticMember("RESOLVED").static_());
 
@@ -248,6 +256,22 @@ public final class GeneratedSqlAdapterTranslator
             ));
     }
 
+    private Method generateApplyResultSetTo(
+        TranslatorSupport<Table> support,
+        File file,
+        Supplier<Stream<? extends Column>> columnsSupplier) {
+
+        return Method.of("apply", support.entityType())
+            .protected_()
+            .add(SQLException.class)
+            .add(Field.of("resultSet", ResultSet.class))
+            .add(Field.of(OFFSET_PARAMETER_NAME, int.class))
+            .add(Field.of("entity", support.entityType()))
+            .add(generateApplyResultSetBody(
+                this::readFromResultSet, support, file, columnsSupplier, "entity"
+            ));
+    }
+
     private static Set<java.lang.Class<?>> NULL_AWARE_GETTERS = Stream.of(
         String.class,
         BigDecimal.class,
@@ -0,0 +1,39 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.generator.translator;
+
+import java.util.Map;
+
+/**
+ * Trait for a {@link Translator} that, in addition to its source file,
+ * produces resources that should be put on the classpath of the generated
+ * application.
+ *
+ * @since  3.1.5
+ */
+public interface HasResources {
+
+    /**
+     * Returns the resources produced by the last invocation of
+     * {@link Translator#get()}. The keys are paths relative to the resource
+     * root, using {@code /} as separator, for example
+     * {@code com/company/generated/GeneratedMetadata.bin}.
+     *
+     * @return  the resources mapped by their relative path
+     */
+    Map<String, byte[]> resources();
+}
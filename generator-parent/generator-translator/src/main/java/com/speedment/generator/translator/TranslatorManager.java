@@ -20,6 +20,9 @@ import com.speedment.common.codegen.Meta;
 import com.speedment.common.codegen.model.File;
 import com.speedment.common.injector.annotation.InjectKey;
 import com.speedment.runtime.config.Project;
+import com.speedment.runtime.core.exception.SpeedmentException;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 /**
@@ -41,6 +44,30 @@ public interface TranslatorManager {
     void writeToFile(Project project, String filename, String content, boolean overwriteExisting);
     
     void writeToFile(Path location, String content, boolean overwriteExisting);
+
+    /**
+     * Writes a binary resource produced by a {@link HasResources} translator
+     * to the specified location, replacing any existing file.
+     *
+     * @param location  the file to write
+     * @param content   the content of the file
+     *
+     * @throws SpeedmentException  if the file could not be written
+     * @since  3.1.5
+     */
+    default void writeResource(Path location, byte[] content) {
+        try {
+            final Path parent = location.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(location, content);
+        } catch (final IOException ex) {
+            throw new SpeedmentException(
+                "Error! Could not write resource '" + location + "'.", ex
+            );
+        }
+    }
     
     int getFilesCreated();
 }
\ No newline at end of file
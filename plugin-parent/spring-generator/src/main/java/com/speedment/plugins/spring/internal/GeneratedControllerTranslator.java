@@ -16,6 +16,7 @@
  */
 package com.speedment.plugins.spring.internal;
 
+import com.speedment.common.codegen.constant.SimpleParameterizedType;
 import com.speedment.common.codegen.constant.SimpleType;
 import com.speedment.common.codegen.model.*;
 import com.speedment.common.codegen.model.Class;
@@ -23,17 +24,39 @@ import com.speedment.common.injector.Injector;
 import com.speedment.common.injector.annotation.Inject;
 import com.speedment.generator.translator.AbstractJavaClassTranslator;
 import com.speedment.generator.translator.TranslatorSupport;
+import com.speedment.generator.translator.component.TypeMapperComponent;
+import com.speedment.runtime.config.Column;
+import com.speedment.runtime.config.PrimaryKeyColumn;
 import com.speedment.runtime.config.Project;
 import com.speedment.runtime.config.Table;
+import com.speedment.runtime.config.trait.HasEnabled;
+import com.speedment.runtime.field.StringField;
+import com.speedment.runtime.field.comparator.FieldComparator;
+import com.speedment.runtime.field.trait.HasBooleanOperators;
+import com.speedment.runtime.field.trait.HasComparableOperators;
+import com.speedment.runtime.typemapper.TypeMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Type;
+import java.time.DateTimeException;
+import java.util.*;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.speedment.common.codegen.constant.DefaultType.list;
+import static java.util.Comparator.comparing;
 
 /**
  *
@@ -42,7 +65,42 @@ import static com.speedment.common.codegen.constant.DefaultType.list;
  */
 public final class GeneratedControllerTranslator extends AbstractJavaClassTranslator<Table, Class> {
 
+    private static final Type OBJECT_MAPPER =
+        SimpleType.create("com.fasterxml.jackson.databind.ObjectMapper");
+    private static final Type JSON_GENERATOR =
+        SimpleType.create("com.fasterxml.jackson.core.JsonGenerator");
+    private static final String INVALID_PARAMETER = "InvalidParameterException";
+    private static final Type STREAMING_RESPONSE_BODY =
+        SimpleType.create("org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody");
+
+    /**
+     * Parsers for the comparable java types that can be used in filters,
+     * with {@code %s} being the string to parse.
+     */
+    private static final Map<String, String> PARSERS = new HashMap<>();
+
+    static {
+        PARSERS.put("java.lang.String", "%s");
+        PARSERS.put("java.lang.Byte", "Byte.valueOf(%s)");
+        PARSERS.put("java.lang.Short", "Short.valueOf(%s)");
+        PARSERS.put("java.lang.Integer", "Integer.valueOf(%s)");
+        PARSERS.put("java.lang.Long", "Long.valueOf(%s)");
+        PARSERS.put("java.lang.Float", "Float.valueOf(%s)");
+        PARSERS.put("java.lang.Double", "Double.valueOf(%s)");
+        PARSERS.put("java.lang.Boolean", "Boolean.valueOf(%s)");
+        PARSERS.put("java.math.BigDecimal", "new java.math.BigDecimal(%s)");
+        PARSERS.put("java.math.BigInteger", "new java.math.BigInteger(%s)");
+        PARSERS.put("java.sql.Date", "java.sql.Date.valueOf(%s)");
+        PARSERS.put("java.sql.Time", "java.sql.Time.valueOf(%s)");
+        PARSERS.put("java.sql.Timestamp", "java.sql.Timestamp.valueOf(%s)");
+        PARSERS.put("java.time.Instant", "java.time.Instant.parse(%s)");
+        PARSERS.put("java.time.LocalDate", "java.time.LocalDate.parse(%s)");
+        PARSERS.put("java.time.LocalDateTime", "java.time.LocalDateTime.parse(%s)");
+        PARSERS.put("java.time.LocalTime", "java.time.LocalTime.parse(%s)");
+    }
+
     private @Inject Injector injector;
+    private @Inject TypeMapperComponent typeMappers;
     
     public GeneratedControllerTranslator(Table document) {
         super(document, Class::of);
@@ -72,9 +130,19 @@ public final class GeneratedControllerTranslator extends AbstractJavaClassTransl
                     .protected_()
                     .add(AnnotationUsage.of(Autowired.class))
                 );
+
+                // Only needed by the streaming endpoint, so an application
+                // without an ObjectMapper bean can still start
+                clazz.add(Field.of("jsonMapper", OBJECT_MAPPER)
+                    .protected_()
+                    .add(AnnotationUsage.of(Autowired.class)
+                        .put("required", Value.ofBoolean(false))
+                    )
+                );
                 
                 file.add(Import.of(RequestMethod.class).static_().setStaticMember("GET"));
                 file.add(Import.of(Collectors.class).static_().setStaticMember("toList"));
+                file.add(Import.of(getSupport().entityType()));
                 
                 clazz.add(Method.of("get", list(getSupport().entityType()))
                     .public_()
@@ -101,8 +169,494 @@ public final class GeneratedControllerTranslator extends AbstractJavaClassTransl
                         "    .collect(toList());"
                     )
                 );
+
+                addStreamingMethods(file, clazz, table);
             }).build();
     }
+
+    /**
+     * Adds an endpoint that streams the entities matching typed filters in
+     * the requested order, without collecting them into a list first. The
+     * filters and the order are expressed using fields so that they are
+     * executed by the database.
+     *
+     * @param file   the file
+     * @param clazz  the controller class
+     * @param table  the table
+     */
+    private void addStreamingMethods(File file, Class clazz, Table table) {
+        final Type entityType = getSupport().entityType();
+        final String entityName = getSupport().entityName();
+
+        final List<Column> columns = table.columns()
+            .filter(HasEnabled::test)
+            .sorted(comparing(Column::getOrdinalPosition))
+            .collect(Collectors.toList());
+
+        // Keyset paging is only possible if rows are uniquely identified by
+        // a single column that can be parsed from a request parameter.
+        final List<Column> primaryKeys = table.primaryKeyColumns()
+            .filter(HasEnabled::test)
+            .map(PrimaryKeyColumn::findColumn)
+            .filter(Optional::isPresent)
+            .map(Optional::get)
+            .collect(Collectors.toList());
+
+        final Optional<Column> keyset = primaryKeys.size() == 1
+            && parserOf(primaryKeys.get(0)).isPresent()
+            && isComparable(primaryKeys.get(0))
+            ? Optional.of(primaryKeys.get(0))
+            : Optional.empty();
+
+        file.add(Import.of(Predicate.class));
+        file.add(Import.of(Comparator.class));
+        file.add(Import.of(ArrayList.class));
+        file.add(Import.of(Collections.class));
+        file.add(Import.of(Stream.class));
+        file.add(Import.of(OutputStream.class));
+        file.add(Import.of(IOException.class));
+        file.add(Import.of(UncheckedIOException.class));
+        file.add(Import.of(JSON_GENERATOR));
+        file.add(Import.of(OBJECT_MAPPER));
+        file.add(Import.of(STREAMING_RESPONSE_BODY));
+        file.add(Import.of(ResponseEntity.class));
+        file.add(Import.of(MediaType.class));
+        file.add(Import.of(HttpStatus.class));
+        file.add(Import.of(DateTimeException.class));
+        file.add(Import.of(FieldComparator.class));
+
+        final Method stream = Method.of("stream",
+                SimpleParameterizedType.create(ResponseEntity.class, STREAMING_RESPONSE_BODY))
+            .public_()
+            .set(Javadoc.of(
+                "Streams the {@link " + entityName + "} entities matching all " +
+                "the specified filters as a JSON array or, if the format is " +
+                "{@code ndjson}, as one JSON object per line. Filters are on " +
+                "the form {@code column:operator:value}, where the operator is " +
+                "one of {@code eq}, {@code ne}, {@code lt}, {@code le}, " +
+                "{@code gt} and {@code ge}, or for strings also {@code contains}, " +
+                "{@code startsWith} and {@code endsWith}. The order is given as " +
+                "{@code column} or {@code column:desc}." +
+                keyset.map(pk ->
+                    " Unless another order is requested, entities are " +
+                    "ordered by {@code " + getSupport().variableName(pk) + "}. " +
+                    "The next page is then requested by setting {@code after} to " +
+                    "the {@code " + getSupport().variableName(pk) + "} of the last " +
+                    "entity of the previous page."
+                ).orElse("")
+            ))
+            .add(AnnotationUsage.of(RequestMapping.class)
+                .put("value", Value.ofText("/" + getSupport().variableName() + "/stream"))
+                .put("method", Value.ofReference("GET"))
+            )
+            .add(Field.of("filters", list(String.class))
+                .add(AnnotationUsage.of(RequestParam.class)
+                    .put("value", Value.ofText("filter"))
+                    .put("required", Value.ofBoolean(false))
+                )
+            )
+            .add(Field.of("sorters", list(String.class))
+                .add(AnnotationUsage.of(RequestParam.class)
+                    .put("value", Value.ofText("sort"))
+                    .put("required", Value.ofBoolean(false))
+                )
+            );
+
+        keyset.ifPresent(pk -> stream.add(Field.of("after", String.class)
+            .add(AnnotationUsage.of(RequestParam.class)
+                .put("value", Value.ofText("after"))
+                .put("required", Value.ofBoolean(false))
+            )
+        ));
+
+        stream
+            .add(Field.of("limit", Long.class)
+                .add(AnnotationUsage.of(RequestParam.class)
+                    .put("value", Value.ofText("limit"))
+                    .put("required", Value.ofBoolean(false))
+                )
+            )
+            .add(Field.of("format", String.class)
+                .add(AnnotationUsage.of(RequestParam.class)
+                    .put("value", Value.ofText("format"))
+                    .put("defaultValue", Value.ofText("json"))
+                )
+            )
+            .add(
+                "final boolean ndjson;",
+                "final List<Predicate<" + entityName + ">> predicates = new ArrayList<>();",
+                "final Comparator<" + entityName + "> order;",
+                "",
+                "// Only errors in the parameters are reported as bad requests",
+                "try {",
+                "    switch (format) {",
+                "        case \"json\"   : ndjson = false; break;",
+                "        case \"ndjson\" : ndjson = true;  break;",
+                "        default : throw new IllegalArgumentException(\"Unknown format '\" + format + \"'.\");",
+                "    }",
+                "",
+                "    for (final String filter : filters == null ? Collections.<String>emptyList() : filters) {",
+                "        predicates.add(parseFilter(filter));",
+                "    }",
+                "",
+                "    final boolean sorted = sorters != null && !sorters.isEmpty();"
+            );
+
+        keyset.ifPresent(pk -> stream.add(
+            "    if (after != null) {",
+            "        if (sorted) {",
+            "            throw new IllegalArgumentException(\"Parameter 'after' can not be combined with 'sort'.\");",
+            "        }",
+            "        predicates.add(" + fieldOf(pk) + ".greaterThan(" + parse(pk, "after") + "));",
+            "    }"
+        ));
+
+        stream.add(
+            "",
+            "    order = parseSort(sorted ? sorters : Collections.<String>emptyList());",
+            "} catch (final IllegalArgumentException | DateTimeException ex) {",
+            "    throw new InvalidParameterException(ex.getMessage(), ex);",
+            "}",
+            "",
+            "final StreamingResponseBody body = out -> write(out, predicates, order, limit, ndjson);",
+            "",
+            "return ResponseEntity.ok()",
+            "    .contentType(ndjson ? MediaType.parseMediaType(\"application/x-ndjson\") : MediaType.APPLICATION_JSON_UTF8)",
+            "    .body(body);"
+        );
+
+        clazz.add(stream);
+
+        clazz.add(Method.of("write", void.class)
+            .protected_()
+            .add(Field.of("out", OutputStream.class))
+            .add(Field.of("predicates", list(
+                SimpleParameterizedType.create(Predicate.class, entityType))))
+            .add(Field.of("order", SimpleParameterizedType.create(Comparator.class, entityType)))
+            .add(Field.of("limit", Long.class))
+            .add(Field.of("ndjson", boolean.class))
+            .throwing(IOException.class)
+            .add(
+                "Stream<" + entityName + "> stream = manager.stream();",
+                "for (final Predicate<" + entityName + "> predicate : predicates) {",
+                "    stream = stream.filter(predicate);",
+                "}",
+                "if (order != null) {",
+                "    stream = stream.sorted(order);",
+                "}",
+                "if (limit != null) {",
+                "    stream = stream.limit(limit);",
+                "}",
+                "",
+                "final ObjectMapper mapper = jsonMapper == null ? new ObjectMapper() : jsonMapper;",
+                "try (final Stream<" + entityName + "> entities = stream;",
+                "     final JsonGenerator json = mapper.getFactory().createGenerator(out)) {",
+                "",
+                "    json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);",
+                "    if (!ndjson) {",
+                "        json.writeStartArray();",
+                "    }",
+                "",
+                "    entities.forEachOrdered(entity -> {",
+                "        try {",
+                "            json.writeObject(entity);",
+                "            if (ndjson) {",
+                "                json.writeRaw('\\n');",
+                "            }",
+                "        } catch (final IOException ex) {",
+                "            throw new UncheckedIOException(ex);",
+                "        }",
+                "    });",
+                "",
+                "    if (!ndjson) {",
+                "        json.writeEndArray();",
+                "    }",
+                "} catch (final UncheckedIOException ex) {",
+                "    throw ex.getCause();",
+                "}"
+            )
+        );
+
+        // Filters
+        final Method parseFilter = Method.of("parseFilter",
+                SimpleParameterizedType.create(Predicate.class, entityType))
+            .protected_()
+            .add(Field.of("filter", String.class))
+            .add(
+                "final String[] parts = filter.split(\":\", 3);",
+                "if (parts.length != 3) {",
+                "    throw new IllegalArgumentException(",
+                "        \"Filter '\" + filter + \"' is not on the form column:operator:value.\"",
+                "    );",
+                "}",
+                "",
+                "final String operator = parts[1], value = parts[2];",
+                "switch (parts[0]) {"
+            );
+
+        final Set<String> helpers = new HashSet<>();
+        keyset.filter(pk -> typeMappers.categoryOf(pk) == TypeMapper.Category.CHAR)
+            .ifPresent(pk -> helpers.add("parseChar"));
+
+        for (final Column col : columns) {
+            final TypeMapper.Category category = typeMappers.categoryOf(col);
+            final String helper;
+            switch (category) {
+                case STRING  : helper = "compareString"; break;
+                case BOOLEAN : helper = "compareBoolean"; break;
+                default      : helper = "compare"; break;
+            }
+
+            parserOf(col).ifPresent(parser -> {
+                helpers.add(helper);
+                if (category == TypeMapper.Category.CHAR) {
+                    helpers.add("parseChar");
+                }
+
+                parseFilter.add("    case \"" + getSupport().variableName(col) + "\" : " +
+                    "return " + helper + "(" + fieldOf(col) + ", operator, " +
+                    parse(col, "value") + ");"
+                );
+            });
+        }
+
+        parseFilter.add(
+            "    default : throw new IllegalArgumentException(",
+            "        \"Column '\" + parts[0] + \"' can not be filtered on.\"",
+            "    );",
+            "}"
+        );
+
+        clazz.add(parseFilter);
+
+        // Order
+        final Method parseSort = Method.of("parseSort",
+                SimpleParameterizedType.create(Comparator.class, entityType))
+            .protected_()
+            .add(Field.of("sorters", list(String.class)))
+            .add(
+                "Comparator<" + entityName + "> order = null;",
+                "for (final String sorter : sorters) {",
+                "    final String[] parts = sorter.split(\":\", 2);",
+                "    final boolean reversed = parts.length == 2 && \"desc\".equals(parts[1]);",
+                "    if (parts.length == 2 && !reversed && !\"asc\".equals(parts[1])) {",
+                "        throw new IllegalArgumentException(\"Unknown order '\" + parts[1] + \"'.\");",
+                "    }",
+                "",
+                "    final FieldComparator<" + entityName + "> comparator;",
+                "    switch (parts[0]) {"
+            );
+
+        for (final Column col : columns) {
+            comparatorOf(col).ifPresent(comparator -> parseSort.add(
+                "        case \"" + getSupport().variableName(col) + "\" : " +
+                "comparator = " + comparator + "; break;"
+            ));
+        }
+
+        parseSort.add(
+            "        default : throw new IllegalArgumentException(",
+            "            \"Column '\" + parts[0] + \"' can not be sorted on.\"",
+            "        );",
+            "    }",
+            "",
+            "    final Comparator<" + entityName + "> next = reversed ? comparator.reversed() : comparator;",
+            "    order = order == null ? next : order.thenComparing(next);",
+            "}",
+            ""
+        );
+
+        if (keyset.isPresent()) {
+            final String pk = comparatorOf(keyset.get()).get();
+            parseSort.add(
+                "// The primary key makes the order total so that pages do not overlap",
+                "return order == null ? " + pk + " : order.thenComparing(" + pk + ");"
+            );
+        } else {
+            parseSort.add("return order;");
+        }
+
+        clazz.add(parseSort);
+
+        // Helpers
+        if (helpers.contains("compare")) {
+            clazz.add(Method.of("compare", SimpleParameterizedType.create(Predicate.class, entityType))
+                .protected_().static_()
+                .add(Generic.of("V").add(SimpleType.create("Comparable<? super V>")))
+                .add(Field.of("field", SimpleParameterizedType.create(
+                    HasComparableOperators.class, entityType, SimpleType.create("V"))))
+                .add(Field.of("operator", String.class))
+                .add(Field.of("value", SimpleType.create("V")))
+                .add(comparisonSwitch())
+                .add(unknownOperator())
+            );
+            file.add(Import.of(HasComparableOperators.class));
+        }
+
+        if (helpers.contains("compareString")) {
+            clazz.add(Method.of("compareString", SimpleParameterizedType.create(Predicate.class, entityType))
+                .protected_().static_()
+                .add(Field.of("field", SimpleParameterizedType.create(
+                    StringField.class, entityType, SimpleType.create("?"))))
+                .add(Field.of("operator", String.class))
+                .add(Field.of("value", String.class))
+                .add(comparisonSwitch())
+                .add(
+                    "    case \"contains\"   : return field.contains(value);",
+                    "    case \"startsWith\" : return field.startsWith(value);",
+                    "    case \"endsWith\"   : return field.endsWith(value);"
+                )
+                .add(unknownOperator())
+            );
+            file.add(Import.of(StringField.class));
+        }
+
+        if (helpers.contains("compareBoolean")) {
+            clazz.add(Method.of("compareBoolean", SimpleParameterizedType.create(Predicate.class, entityType))
+                .protected_().static_()
+                .add(Field.of("field", SimpleParameterizedType.create(
+                    HasBooleanOperators.class, entityType)))
+                .add(Field.of("operator", String.class))
+                .add(Field.of("value", boolean.class))
+                .add(
+                    "switch (operator) {",
+                    "    case \"eq\" : return field.equal(value);",
+                    "    case \"ne\" : return field.notEqual(value);"
+                )
+                .add(unknownOperator())
+            );
+            file.add(Import.of(HasBooleanOperators.class));
+        }
+
+        if (helpers.contains("parseChar")) {
+            clazz.add(Method.of("parseChar", char.class)
+                .protected_().static_()
+                .add(Field.of("value", String.class))
+                .add(
+                    "if (value.length() != 1) {",
+                    "    throw new IllegalArgumentException(\"Value '\" + value + \"' is not a single character.\");",
+                    "}",
+                    "return value.charAt(0);"
+                )
+            );
+        }
+
+        clazz.add(Method.of("handleInvalidParameter", String.class)
+            .public_()
+            .add(AnnotationUsage.of(ExceptionHandler.class)
+                .put("value", Value.ofReference(INVALID_PARAMETER + ".class"))
+            )
+            .add(AnnotationUsage.of(ResponseStatus.class)
+                .put("value", Value.ofReference("HttpStatus.BAD_REQUEST"))
+            )
+            .add(Field.of("ex", SimpleType.create(INVALID_PARAMETER)))
+            .add("return ex.getMessage();")
+        );
+
+        clazz.add(Class.of(INVALID_PARAMETER)
+            .set(Javadoc.of(
+                "Thrown when a request parameter of this controller can not " +
+                "be parsed. It is reported as {@code 400 Bad Request}."
+            ))
+            .protected_().static_().final_()
+            .setSupertype(RuntimeException.class)
+            .add(Field.of("serialVersionUID", long.class)
+                .private_().static_().final_()
+                .set(Value.ofNumber(1L))
+            )
+            .add(Constructor.of()
+                .protected_()
+                .add(Field.of("message", String.class))
+                .add(Field.of("cause", Throwable.class))
+                .add("super(message, cause);")
+            )
+        );
+    }
+
+    private static String[] comparisonSwitch() {
+        return new String[] {
+            "switch (operator) {",
+            "    case \"eq\" : return field.equal(value);",
+            "    case \"ne\" : return field.notEqual(value);",
+            "    case \"lt\" : return field.lessThan(value);",
+            "    case \"le\" : return field.lessOrEqual(value);",
+            "    case \"gt\" : return field.greaterThan(value);",
+            "    case \"ge\" : return field.greaterOrEqual(value);"
+        };
+    }
+
+    private static String[] unknownOperator() {
+        return new String[] {
+            "    default : throw new IllegalArgumentException(",
+            "        \"Unknown operator '\" + operator + \"'.\"",
+            "    );",
+            "}"
+        };
+    }
+
+    private String fieldOf(Column col) {
+        return getSupport().entityName() + "." +
+            getSupport().namer().javaStaticFieldName(col.getJavaName());
+    }
+
+    private String parse(Column col, String variable) {
+        return String.format(parserOf(col).orElseThrow(() ->
+            new IllegalArgumentException(
+                "Column '" + col.getId() + "' can not be parsed."
+            )
+        ), variable);
+    }
+
+    /**
+     * Returns an expression that parses the value of the specified column
+     * from a string, or an empty {@code Optional} if the column can not be
+     * filtered on.
+     *
+     * @param col  the column
+     * @return     expression with {@code %s} in place of the string
+     */
+    private Optional<String> parserOf(Column col) {
+        switch (typeMappers.categoryOf(col)) {
+            case STRING  : return Optional.of("%s");
+            case BYTE    : return Optional.of("Byte.parseByte(%s)");
+            case SHORT   : return Optional.of("Short.parseShort(%s)");
+            case INT     : return Optional.of("Integer.parseInt(%s)");
+            case LONG    : return Optional.of("Long.parseLong(%s)");
+            case FLOAT   : return Optional.of("Float.parseFloat(%s)");
+            case DOUBLE  : return Optional.of("Double.parseDouble(%s)");
+            case CHAR    : return Optional.of("parseChar(%s)");
+            case BOOLEAN : return Optional.of("Boolean.parseBoolean(%s)");
+            case ENUM    : return Optional.of(fieldOf(col) + ".stringToEnum().apply(%s)");
+            case COMPARABLE :
+                return Optional.ofNullable(
+                    PARSERS.get(typeMappers.typeOf(col).getTypeName())
+                );
+            default : return Optional.empty();
+        }
+    }
+
+    private boolean isComparable(Column col) {
+        switch (typeMappers.categoryOf(col)) {
+            case BOOLEAN : case REFERENCE : return false;
+            default : return true;
+        }
+    }
+
+    /**
+     * Returns an expression for a {@code FieldComparator} that orders by
+     * the specified column, or an empty {@code Optional} if the column can
+     * not be sorted on.
+     *
+     * @param col  the column
+     * @return     expression of the comparator
+     */
+    private Optional<String> comparatorOf(Column col) {
+        switch (typeMappers.categoryOf(col)) {
+            case BOOLEAN   : return Optional.of(fieldOf(col));
+            case REFERENCE : return Optional.empty();
+            default        : return Optional.of(fieldOf(col) + ".comparator()");
+        }
+    }
     
     @Override
     protected String getClassOrInterfaceName() {
@@ -118,4 +672,4 @@ public final class GeneratedControllerTranslator extends AbstractJavaClassTransl
     public boolean isInGeneratedPackage() {
         return true;
     }
-}
\ No newline at end of file
+}
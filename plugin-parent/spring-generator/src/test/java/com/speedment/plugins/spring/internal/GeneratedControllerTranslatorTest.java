@@ -0,0 +1,254 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.plugins.spring.internal;
+
+import com.speedment.common.codegen.model.Class;
+import com.speedment.generator.core.GeneratorBundle;
+import com.speedment.generator.translator.Translator;
+import com.speedment.generator.translator.component.CodeGenerationComponent;
+import com.speedment.plugins.spring.SpringGeneratorBundle;
+import com.speedment.runtime.application.AbstractApplicationMetadata;
+import com.speedment.runtime.application.internal.DefaultApplicationBuilder;
+import com.speedment.runtime.config.Project;
+import com.speedment.runtime.config.Table;
+import com.speedment.runtime.core.Speedment;
+import com.speedment.runtime.core.component.ProjectComponent;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeNotNull;
+
+/**
+ *
+ * @since 3.1.5
+ */
+public class GeneratedControllerTranslatorTest {
+
+    /**
+     * Minimal versions of the classes of optional dependencies that the
+     * generated controller uses, for when they are not on the test
+     * classpath. Only the members used by the generated code are included.
+     */
+    private static final Map<String, String> STUBS = new LinkedHashMap<>();
+
+    static {
+        STUBS.put("com.fasterxml.jackson.databind.ObjectMapper",
+            "package com.fasterxml.jackson.databind;\n"
+            + "public class ObjectMapper {\n"
+            + "    public com.fasterxml.jackson.core.JsonFactory getFactory() {\n"
+            + "        return new com.fasterxml.jackson.core.JsonFactory();\n"
+            + "    }\n"
+            + "}\n");
+        STUBS.put("com.fasterxml.jackson.core.JsonFactory",
+            "package com.fasterxml.jackson.core;\n"
+            + "public class JsonFactory {\n"
+            + "    public JsonGenerator createGenerator(java.io.OutputStream out) throws java.io.IOException {\n"
+            + "        throw new UnsupportedOperationException();\n"
+            + "    }\n"
+            + "}\n");
+        STUBS.put("com.fasterxml.jackson.core.JsonGenerator",
+            "package com.fasterxml.jackson.core;\n"
+            + "public abstract class JsonGenerator implements java.io.Closeable {\n"
+            + "    public enum Feature { AUTO_CLOSE_TARGET }\n"
+            + "    public abstract JsonGenerator disable(Feature feature);\n"
+            + "    public abstract void writeStartArray() throws java.io.IOException;\n"
+            + "    public abstract void writeEndArray() throws java.io.IOException;\n"
+            + "    public abstract void writeObject(Object value) throws java.io.IOException;\n"
+            + "    public abstract void writeRaw(char c) throws java.io.IOException;\n"
+            + "}\n");
+        STUBS.put("org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody",
+            "package org.springframework.web.servlet.mvc.method.annotation;\n"
+            + "public interface StreamingResponseBody {\n"
+            + "    void writeTo(java.io.OutputStream out) throws java.io.IOException;\n"
+            + "}\n");
+    }
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private Speedment speedment;
+    private Project project;
+    private Table table;
+
+    @Before
+    public void setUp() {
+        speedment = new DefaultApplicationBuilder(HareMetadata.class)
+            .withBundle(GeneratorBundle.class)
+            .withBundle(SpringGeneratorBundle.class)
+            .withSkipCheckDatabaseConnectivity()
+            .withSkipValidateRuntimeConfig()
+            .build();
+
+        project = speedment.getOrThrow(ProjectComponent.class).getProject();
+        table = project.dbmses()
+            .flatMap(d -> d.schemas())
+            .flatMap(s -> s.tables())
+            .findFirst().get();
+    }
+
+    @After
+    public void tearDown() {
+        speedment.close();
+    }
+
+    @Test
+    public void testParameterErrorsOnly() {
+        final String code = controllerCode().replaceAll("\\s+", " ");
+
+        assertTrue(code.contains("protected @Autowired(required = false) ObjectMapper jsonMapper;"));
+        assertTrue(code.contains("@ExceptionHandler(value = InvalidParameterException.class)"));
+        assertFalse(code.contains("IllegalArgumentException.class"));
+        assertTrue(code.contains(
+            "} catch (final IllegalArgumentException | DateTimeException ex) { "
+            + "throw new InvalidParameterException(ex.getMessage(), ex); }"
+        ));
+    }
+
+    @Test
+    public void testGeneratedCodeCompiles() throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assumeNotNull(compiler);
+
+        final Path sources = folder.newFolder("src").toPath();
+        final Path classes = folder.newFolder("classes").toPath();
+        final List<File> files = new ArrayList<>();
+
+        final CodeGenerationComponent codeGen = speedment.getOrThrow(CodeGenerationComponent.class);
+        codeGen.translators(project).forEach(t -> files.add(write(sources, t)));
+        codeGen.translators(table).forEach(t -> files.add(write(sources, t)));
+
+        for (final Map.Entry<String, String> stub : STUBS.entrySet()) {
+            if (!isOnClasspath(stub.getKey())) {
+                files.add(write(sources,
+                    stub.getKey().replace('.', '/') + ".java", stub.getValue()
+                ));
+            }
+        }
+
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (final StandardJavaFileManager fileManager =
+                compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+
+            final boolean success = compiler.getTask(
+                null,
+                fileManager,
+                diagnostics,
+                Arrays.asList(
+                    "-proc:none",
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-d", classes.toString()
+                ),
+                null,
+                fileManager.getJavaFileObjectsFromFiles(files)
+            ).call();
+
+            assertTrue(
+                diagnostics.getDiagnostics().stream()
+                    .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                    .map(Object::toString)
+                    .collect(joining("\n")),
+                success
+            );
+        }
+
+        final String controller = "GeneratedHareController.class";
+        try (final Stream<Path> compiled = Files.walk(classes)) {
+            assertTrue(compiled.map(p -> p.getFileName().toString())
+                .collect(toList())
+                .contains(controller)
+            );
+        }
+    }
+
+    private String controllerCode() {
+        final Translator<Table, Class> translator = speedment.getOrThrow(CodeGenerationComponent.class)
+            .findTranslator(table, SpringTranslatorKey.GENERATED_CONTROLLER);
+        return translator.toCode();
+    }
+
+    private static File write(Path root, Translator<?, ?> translator) {
+        return write(root, translator.get().getName(), translator.toCode());
+    }
+
+    private static File write(Path root, String name, String code) {
+        final Path path = root.resolve(name);
+        try {
+            Files.createDirectories(path.getParent());
+            Files.write(path, code.getBytes(StandardCharsets.UTF_8));
+        } catch (final IOException ex) {
+            throw new AssertionError(ex);
+        }
+        return path.toFile();
+    }
+
+    private static boolean isOnClasspath(String className) {
+        try {
+            java.lang.Class.forName(className, false, GeneratedControllerTranslatorTest.class.getClassLoader());
+            return true;
+        } catch (final ClassNotFoundException ex) {
+            return false;
+        }
+    }
+
+    public static final class HareMetadata extends AbstractApplicationMetadata {
+
+        @Override
+        public Optional<String> getMetadata() {
+            return Optional.of(
+                "{\"config\" : {\"name\" : \"zoo\", \"dbmses\" : [{"
+                + "\"name\" : \"db0\", \"typeName\" : \"MySQL\", \"schemas\" : [{"
+                + "\"name\" : \"zoo\", \"tables\" : [{"
+                + "\"name\" : \"hare\", \"columns\" : ["
+                + column("id", Integer.class) + ", "
+                + column("name", String.class) + ", "
+                + column("born", java.sql.Timestamp.class) + ", "
+                + column("active", Boolean.class)
+                + "], \"primaryKeyColumns\" : [{\"name\" : \"id\"}]"
+                + "}]}]}]}}"
+            );
+        }
+
+        private static String column(String name, java.lang.Class<?> type) {
+            return "{\"name\" : \"" + name + "\", \"databaseType\" : \"" + type.getName() + "\"}";
+        }
+    }
+}
@@ -17,24 +17,44 @@
 package com.speedment.runtime.application;
 
 import com.speedment.common.json.Json;
+import com.speedment.common.logger.Logger;
+import com.speedment.common.logger.LoggerManager;
 import com.speedment.runtime.config.Project;
+import com.speedment.runtime.config.exception.SpeedmentConfigException;
 import com.speedment.runtime.config.internal.ProjectImpl;
 import com.speedment.runtime.config.trait.HasName;
+import com.speedment.runtime.config.util.BinaryDocumentTranscoder;
 import com.speedment.runtime.config.util.DocumentTranscoder;
 import com.speedment.runtime.core.ApplicationMetadata;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
 
 /**
+ * Base class for the generated {@link ApplicationMetadata}.
+ * <p>
+ * If the implementation names a binary snapshot resource (as created by
+ * {@link BinaryDocumentTranscoder}), the project is loaded from that
+ * resource and decoded lazily. If the resource is missing, does not match
+ * the expected checksum or can not be loaded, the JSON returned by
+ * {@link #getMetadata()} is parsed instead.
  *
  * @author  Emil Forslund
  * @since   3.0.0
  */
 public abstract class AbstractApplicationMetadata implements ApplicationMetadata {
 
+    private static final Logger LOGGER =
+        LoggerManager.getLogger(AbstractApplicationMetadata.class);
+
     protected AbstractApplicationMetadata() {}
     
     /**
@@ -45,9 +65,42 @@ public abstract class AbstractApplicationMetadata implements ApplicationMetadata
      * @return the meta data or empty if none exists for this session
      */
     protected abstract Optional<String> getMetadata();
+
+    /**
+     * Returns the name of a classpath resource holding a binary snapshot of
+     * the same meta data as {@link #getMetadata()}. The name is resolved
+     * relative to the class of this instance. If empty is returned, the meta
+     * data is always parsed from JSON.
+     *
+     * @return  the snapshot resource name or empty if there is none
+     * @since   3.1.5
+     */
+    protected Optional<String> getSnapshotResource() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the expected {@link CRC32} checksum of the resource returned by
+     * {@link #getSnapshotResource()}. A snapshot with a different checksum is
+     * considered stale and is ignored. If empty is returned, the snapshot is
+     * not verified.
+     *
+     * @return  the expected checksum or empty if it should not be verified
+     * @since   3.1.5
+     */
+    protected OptionalLong getSnapshotChecksum() {
+        return OptionalLong.empty();
+    }
     
     @Override
     public Project makeProject() {
+        final Optional<Project> snapshot = getSnapshotResource()
+            .flatMap(this::loadSnapshot);
+
+        if (snapshot.isPresent()) {
+            return snapshot.get();
+        }
+
         return getMetadata()
             .map(json -> DocumentTranscoder.load(json, this::fromJson)).orElseGet(() -> {
             final Map<String, Object> data = new ConcurrentHashMap<>();
@@ -57,6 +110,41 @@ public abstract class AbstractApplicationMetadata implements ApplicationMetadata
         });
     }
     
+    private Optional<Project> loadSnapshot(String resource) {
+        try (final InputStream in = getClass().getResourceAsStream(resource)) {
+            if (in == null) {
+                LOGGER.debug("Binary snapshot '%s' not found. Parsing JSON instead.", resource);
+                return Optional.empty();
+            }
+
+            final byte[] bytes = readFully(in);
+            final OptionalLong checksum = getSnapshotChecksum();
+            if (checksum.isPresent()) {
+                final CRC32 crc = new CRC32();
+                crc.update(bytes);
+                if (crc.getValue() != checksum.getAsLong()) {
+                    LOGGER.warn("Binary snapshot '%s' does not match the generated code. Parsing JSON instead.", resource);
+                    return Optional.empty();
+                }
+            }
+
+            return Optional.of(BinaryDocumentTranscoder.load(ByteBuffer.wrap(bytes)));
+        } catch (final IOException | SpeedmentConfigException ex) {
+            LOGGER.warn(ex, "Could not load binary snapshot '%s'. Parsing JSON instead.", resource);
+            return Optional.empty();
+        }
+    }
+
+    private static byte[] readFully(InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+    
     private Map<String, Object> fromJson(String json) {
         @SuppressWarnings("unchecked")
         final Map<String, Object> parsed =
@@ -30,7 +30,10 @@ import com.speedment.runtime.core.internal.component.PasswordComponentImpl;
 import com.speedment.runtime.core.internal.component.ProjectComponentImpl;
 import com.speedment.runtime.core.internal.component.StatisticsReporterComponentImpl;
 import com.speedment.runtime.core.internal.component.StatisticsReporterSchedulerComponentImpl;
+import com.speedment.runtime.core.internal.component.changefeed.ChangeFeedComponentImpl;
+import com.speedment.runtime.core.internal.component.statistics.TableStatisticsComponentImpl;
 import com.speedment.runtime.core.internal.component.resultset.ResultSetMapperComponentImpl;
+import com.speedment.runtime.core.internal.component.sql.QueryResultCacheComponentImpl;
 import com.speedment.runtime.core.internal.component.sql.SqlPersistanceComponentImpl;
 import com.speedment.runtime.core.internal.component.sql.SqlStreamOptimizerComponentImpl;
 import com.speedment.runtime.core.internal.component.sql.SqlStreamSupplierComponentImpl;
@@ -52,12 +55,14 @@ public class RuntimeBundle implements InjectBundle {
     public Stream<Class<?>> injectables() {
         return InjectBundle.of(
             InfoComponentImpl.class,
+            ChangeFeedComponentImpl.class,
             ConnectionPoolComponentImpl.class,
             DbmsHandlerComponentImpl.class,
             EntityManagerImpl.class,
             ManagerComponentImpl.class,
             PasswordComponentImpl.class,
             ProjectComponentImpl.class,
+            QueryResultCacheComponentImpl.class,
             ResultSetMapperComponentImpl.class,
             SqlStreamSupplierComponentImpl.class,
             SqlPersistanceComponentImpl.class,
@@ -65,6 +70,7 @@ public class RuntimeBundle implements InjectBundle {
             StatisticsReporterSchedulerComponentImpl.class,
             SqlStreamOptimizerComponentImpl.class,
             SqlStreamTerminatorComponentImpl.class,
+            TableStatisticsComponentImpl.class,
             TransactionComponentImpl.class
 
         )
@@ -20,6 +20,7 @@ import com.speedment.common.injector.Injector;
 import com.speedment.common.injector.annotation.Config;
 import com.speedment.common.json.Json;
 import com.speedment.runtime.config.Project;
+import com.speedment.runtime.config.util.BinaryDocumentTranscoder;
 import com.speedment.runtime.config.util.DocumentTranscoder;
 import com.speedment.runtime.core.ApplicationMetadata;
 
@@ -32,6 +33,10 @@ import java.util.Map;
  * of the file is {@code src/main/json/speedment.json}, but a custom path
  * can be separated by setting the {@link #METADATA_LOCATION} param in the
  * {@link Injector}.
+ * <p>
+ * If a binary snapshot (as created by {@link BinaryDocumentTranscoder}) is
+ * located next to the .json-file and is not older than it, the snapshot is
+ * memory-mapped and used instead of parsing the .json-file.
  * 
  * @author  Emil Forslund
  * @since   3.0.0
@@ -56,7 +61,21 @@ public final class DefaultApplicationMetadata implements ApplicationMetadata {
 
     @Override
     public Project makeProject() {
-        return DocumentTranscoder.load(metadataLocation.toPath(), this::fromJson);
+        final File snapshotLocation = BinaryDocumentTranscoder
+            .snapshotLocation(metadataLocation.toPath()).toFile();
+        
+        if (isUpToDate(snapshotLocation)) {
+            return BinaryDocumentTranscoder.load(snapshotLocation.toPath());
+        } else {
+            return DocumentTranscoder.load(metadataLocation.toPath(), this::fromJson);
+        }
+    }
+    
+    private boolean isUpToDate(File snapshotLocation) {
+        return snapshotLocation.isFile() && (
+            !metadataLocation.exists() ||
+            snapshotLocation.lastModified() >= metadataLocation.lastModified()
+        );
     }
     
     private Map<String, Object> fromJson(String json) {
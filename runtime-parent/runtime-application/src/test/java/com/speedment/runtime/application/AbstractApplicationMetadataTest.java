@@ -0,0 +1,133 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.application;
+
+import com.speedment.runtime.config.Project;
+import com.speedment.runtime.config.internal.ProjectImpl;
+import com.speedment.runtime.config.trait.HasName;
+import com.speedment.runtime.config.util.BinaryDocumentTranscoder;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.zip.CRC32;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests how a generated {@link AbstractApplicationMetadata} chooses between
+ * the binary snapshot resource and the embedded JSON.
+ *
+ * @since 3.1.5
+ */
+public class AbstractApplicationMetadataTest {
+
+    private static final String RESOURCE = "AbstractApplicationMetadataTest.bin";
+    private static final String JSON = "{\"config\" : {\"name\" : \"fromJson\"}}";
+
+    private Path resource;
+    private long checksum;
+
+    @Before
+    public void setUp() throws IOException, URISyntaxException {
+        final Map<String, Object> data = new LinkedHashMap<>();
+        data.put(HasName.NAME, "fromSnapshot");
+        data.put(Project.APP_ID, "3b2e0a18-8a3f-4bbf-9d33-5c77fa2d3a01");
+        final byte[] snapshot = BinaryDocumentTranscoder.save(new ProjectImpl(data));
+
+        final CRC32 crc = new CRC32();
+        crc.update(snapshot);
+        checksum = crc.getValue();
+
+        resource = Paths.get(getClass().getResource("").toURI()).resolve(RESOURCE);
+        Files.write(resource, snapshot);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(resource);
+    }
+
+    @Test
+    public void testLoadsSnapshot() {
+        final Project project = new GeneratedMetadata(RESOURCE, OptionalLong.of(checksum)).makeProject();
+        assertEquals("fromSnapshot", project.getName());
+        assertEquals("3b2e0a18-8a3f-4bbf-9d33-5c77fa2d3a01", project.getAppId());
+    }
+
+    @Test
+    public void testLoadsSnapshotWithoutChecksum() {
+        final Project project = new GeneratedMetadata(RESOURCE, OptionalLong.empty()).makeProject();
+        assertEquals("fromSnapshot", project.getName());
+    }
+
+    @Test
+    public void testFallsBackOnStaleSnapshot() {
+        final Project project = new GeneratedMetadata(RESOURCE, OptionalLong.of(checksum + 1)).makeProject();
+        assertEquals("fromJson", project.getName());
+    }
+
+    @Test
+    public void testFallsBackOnMissingSnapshot() {
+        final Project project = new GeneratedMetadata("Missing.bin", OptionalLong.of(checksum)).makeProject();
+        assertEquals("fromJson", project.getName());
+    }
+
+    @Test
+    public void testFallsBackOnCorruptSnapshot() throws IOException {
+        Files.write(resource, new byte[] {1, 2, 3});
+        final Project project = new GeneratedMetadata(RESOURCE, OptionalLong.empty()).makeProject();
+        assertEquals("fromJson", project.getName());
+    }
+
+    /**
+     * Mirrors the class emitted by the generator.
+     */
+    private static final class GeneratedMetadata extends AbstractApplicationMetadata {
+
+        private final String snapshotResource;
+        private final OptionalLong snapshotChecksum;
+
+        private GeneratedMetadata(String snapshotResource, OptionalLong snapshotChecksum) {
+            this.snapshotResource = snapshotResource;
+            this.snapshotChecksum = snapshotChecksum;
+        }
+
+        @Override
+        protected Optional<String> getMetadata() {
+            return Optional.of(JSON);
+        }
+
+        @Override
+        protected Optional<String> getSnapshotResource() {
+            return Optional.of(snapshotResource);
+        }
+
+        @Override
+        protected OptionalLong getSnapshotChecksum() {
+            return snapshotChecksum;
+        }
+    }
+}
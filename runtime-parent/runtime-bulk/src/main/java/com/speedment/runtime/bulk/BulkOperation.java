@@ -81,6 +81,18 @@ public interface BulkOperation {
         BulkOperation build();
 
         interface Persist<ENTITY> extends HasValues<ENTITY, Builder> {
+
+            /**
+             * Specifies that the values of the operation should be persisted
+             * using {@link Manager#bulkLoad(Stream)} rather than one entity
+             * at a time. This is much faster for large amounts of entities
+             * but the entities will not be updated with the values of auto
+             * generated columns.
+             *
+             * @return a builder where bulk loading has been selected
+             * @since 3.1.5
+             */
+            Persist<ENTITY> bulkLoad();
         }
 
         interface Update<ENTITY> extends Builder, HasWhere<ENTITY, Update<ENTITY>>, HasSet<ENTITY, Update<ENTITY>> {
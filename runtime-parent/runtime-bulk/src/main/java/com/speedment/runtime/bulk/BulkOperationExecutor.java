@@ -0,0 +1,190 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.bulk;
+
+import com.speedment.runtime.bulk.internal.BulkOperationExecutorBuilder;
+import com.speedment.runtime.config.Project;
+import com.speedment.runtime.core.component.transaction.TransactionHandler;
+import com.speedment.runtime.core.exception.SpeedmentException;
+import java.util.function.Consumer;
+
+/**
+ * Executes the operations of a {@link BulkOperation} concurrently.
+ * <p>
+ * The entities of each operation are read once and split into chunks of
+ * consecutive entities. The chunks are written by a number of worker
+ * threads, each using its own pooled connection, so that a large migration
+ * can use more than one database session. At most two chunks per worker are
+ * in flight at any time so that the reading of entities never gets too far
+ * ahead of the writing. If a {@link Builder#withTransactionHandler
+ * TransactionHandler} is given, a chunk that fails can be retried a number of
+ * times before the execution is aborted.
+ * <p>
+ * Operations on the same table, or on tables that are related by a foreign
+ * key in the {@link Builder#withProject(Project) project}, are executed in the
+ * order they were added to the {@code BulkOperation}, so parent tables should
+ * be added before their children. Other operations are executed
+ * concurrently. If no project is given, the operations are executed one
+ * after another.
+ * <p>
+ * Example:
+ * <pre>{@code
+ *     BulkOperationExecutor.builder()
+ *         .withProject(app.getOrThrow(ProjectComponent.class).getProject())
+ *         .withTransactionHandler(app.createTransactionHandler())
+ *         .withParallelism(8)
+ *         .build()
+ *         .execute(bulkOperation);
+ * }</pre>
+ *
+ * @since 3.1.5
+ */
+public interface BulkOperationExecutor {
+
+    /**
+     * Executes all the operations of the specified {@code BulkOperation} and
+     * returns the total number of persisted, updated and removed entities.
+     * This method blocks until all operations have completed.
+     *
+     * @param bulkOperation to execute
+     * @return the total number of affected entities
+     *
+     * @throws SpeedmentException if a chunk still failed after all retries,
+     * in which case operations that have not started are skipped
+     */
+    long execute(BulkOperation bulkOperation) throws SpeedmentException;
+
+    /**
+     * Creates and returns a new builder for a {@code BulkOperationExecutor}.
+     *
+     * @return a new builder
+     */
+    static Builder builder() {
+        return new BulkOperationExecutorBuilder();
+    }
+
+    interface Builder {
+
+        /**
+         * Sets the number of worker threads that write chunks concurrently.
+         * The default value is the number of available processors.
+         *
+         * @param parallelism the number of worker threads
+         * @return this builder
+         */
+        Builder withParallelism(int parallelism);
+
+        /**
+         * Sets the maximum number of entities in each chunk. The default
+         * value is 1 000.
+         *
+         * @param chunkSize the maximum number of entities in a chunk
+         * @return this builder
+         */
+        Builder withChunkSize(int chunkSize);
+
+        /**
+         * Sets the number of times a failed chunk is retried before the
+         * execution is aborted. The default value is 0.
+         * <p>
+         * Chunks are only retried if a {@link #withTransactionHandler
+         * TransactionHandler} is set, since a chunk that failed half-way
+         * would otherwise be written twice in part. Failures caused by a
+         * {@code SQLNonTransientException}, like a constraint violation, are
+         * never retried since they would fail again.
+         *
+         * @param maxRetries the number of retries of a chunk
+         * @return this builder
+         */
+        Builder withMaxRetries(int maxRetries);
+
+        /**
+         * Sets the project that holds the foreign keys between the tables of
+         * the operations. Operations on unrelated tables are only executed
+         * concurrently if a project is given.
+         *
+         * @param project the project of the managers
+         * @return this builder
+         */
+        Builder withProject(Project project);
+
+        /**
+         * Sets a {@code TransactionHandler} that is used to write each chunk
+         * in a transaction of its own. Without it, a chunk that fails might
+         * have been partially written, and is therefore never retried.
+         *
+         * @param transactionHandler to use for each chunk
+         * @return this builder
+         */
+        Builder withTransactionHandler(TransactionHandler transactionHandler);
+
+        /**
+         * Sets a listener that is notified each time a chunk has been
+         * written. The listener is called from the worker threads and must
+         * therefore be thread safe.
+         *
+         * @param listener to notify
+         * @return this builder
+         */
+        Builder withProgressListener(Consumer<? super Progress> listener);
+
+        /**
+         * Creates and returns a new {@code BulkOperationExecutor} with the
+         * settings of this builder.
+         *
+         * @return a new {@code BulkOperationExecutor}
+         */
+        BulkOperationExecutor build();
+    }
+
+    /**
+     * The progress of an operation at the time a chunk was written.
+     */
+    interface Progress {
+
+        /**
+         * Returns the operation.
+         *
+         * @return the operation
+         */
+        Operation<?> operation();
+
+        /**
+         * Returns the number of chunks of the operation that have been
+         * written so far.
+         *
+         * @return the number of written chunks
+         */
+        long getCompletedChunks();
+
+        /**
+         * Returns the number of entities of the operation that have been
+         * persisted, updated or removed so far.
+         *
+         * @return the number of affected entities
+         */
+        long getProcessedEntities();
+
+        /**
+         * Returns the number of times a chunk of the operation has been
+         * retried so far.
+         *
+         * @return the number of retries
+         */
+        long getRetries();
+    }
+}
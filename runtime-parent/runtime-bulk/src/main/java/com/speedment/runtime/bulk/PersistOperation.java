@@ -24,4 +24,14 @@ import com.speedment.runtime.bulk.trait.HasGeneratorSuppliers;
  * @param <ENTITY> type
  */
 public interface PersistOperation<ENTITY> extends Operation<ENTITY>, HasGeneratorSuppliers<ENTITY> {
+
+    /**
+     * Returns if the entities should be persisted using
+     * {@link com.speedment.runtime.core.manager.Manager#bulkLoad(java.util.stream.Stream)}
+     * rather than one at a time.
+     *
+     * @return if the entities should be bulk loaded
+     * @since 3.1.5
+     */
+    boolean isBulkLoad();
 }
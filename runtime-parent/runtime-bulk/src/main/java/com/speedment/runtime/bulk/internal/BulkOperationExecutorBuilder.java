@@ -0,0 +1,95 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.bulk.internal;
+
+import com.speedment.runtime.bulk.BulkOperationExecutor;
+import com.speedment.runtime.config.Project;
+import com.speedment.runtime.core.component.transaction.TransactionHandler;
+import java.util.function.Consumer;
+import static com.speedment.common.invariant.IntRangeUtil.requireNonNegative;
+import static com.speedment.common.invariant.IntRangeUtil.requirePositive;
+import static java.util.Objects.requireNonNull;
+
+/**
+ *
+ * @since 3.1.5
+ */
+public final class BulkOperationExecutorBuilder implements BulkOperationExecutor.Builder {
+
+    private int parallelism;
+    private int chunkSize;
+    private int maxRetries;
+    private Project project;
+    private TransactionHandler transactionHandler;
+    private Consumer<? super BulkOperationExecutor.Progress> progressListener;
+
+    public BulkOperationExecutorBuilder() {
+        this.parallelism = Runtime.getRuntime().availableProcessors();
+        this.chunkSize = 1_000;
+        this.maxRetries = 0;
+        this.progressListener = progress -> {};
+    }
+
+    @Override
+    public BulkOperationExecutor.Builder withParallelism(int parallelism) {
+        this.parallelism = requirePositive(parallelism);
+        return this;
+    }
+
+    @Override
+    public BulkOperationExecutor.Builder withChunkSize(int chunkSize) {
+        this.chunkSize = requirePositive(chunkSize);
+        return this;
+    }
+
+    @Override
+    public BulkOperationExecutor.Builder withMaxRetries(int maxRetries) {
+        this.maxRetries = requireNonNegative(maxRetries);
+        return this;
+    }
+
+    @Override
+    public BulkOperationExecutor.Builder withProject(Project project) {
+        this.project = requireNonNull(project);
+        return this;
+    }
+
+    @Override
+    public BulkOperationExecutor.Builder withTransactionHandler(TransactionHandler transactionHandler) {
+        this.transactionHandler = requireNonNull(transactionHandler);
+        return this;
+    }
+
+    @Override
+    public BulkOperationExecutor.Builder withProgressListener(Consumer<? super BulkOperationExecutor.Progress> listener) {
+        this.progressListener = requireNonNull(listener);
+        return this;
+    }
+
+    @Override
+    public BulkOperationExecutor build() {
+        return new BulkOperationExecutorImpl(
+            parallelism,
+            chunkSize,
+            maxRetries,
+            project,
+            transactionHandler,
+            progressListener
+        );
+    }
+
+}
@@ -0,0 +1,479 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.bulk.internal;
+
+import com.speedment.runtime.bulk.BulkOperation;
+import com.speedment.runtime.bulk.BulkOperationExecutor;
+import com.speedment.runtime.bulk.Operation;
+import com.speedment.runtime.bulk.PersistOperation;
+import com.speedment.runtime.bulk.RemoveOperation;
+import com.speedment.runtime.bulk.UpdateOperation;
+import com.speedment.runtime.config.Project;
+import com.speedment.runtime.config.Schema;
+import com.speedment.runtime.config.Table;
+import com.speedment.runtime.config.identifier.TableIdentifier;
+import com.speedment.runtime.config.util.DocumentDbUtil;
+import com.speedment.runtime.core.component.transaction.TransactionHandler;
+import com.speedment.runtime.core.exception.SpeedmentException;
+import com.speedment.runtime.core.manager.BulkLoader;
+import com.speedment.runtime.core.manager.Manager;
+import com.speedment.runtime.core.manager.Persister;
+import com.speedment.runtime.core.manager.Remover;
+import com.speedment.runtime.core.manager.Updater;
+import java.sql.SQLNonTransientException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import static com.speedment.common.invariant.IntRangeUtil.requireNonNegative;
+import static com.speedment.common.invariant.IntRangeUtil.requirePositive;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * Default implementation of the {@link BulkOperationExecutor} interface.
+ * <p>
+ * Each operation is read by a thread of its own that splits the entities
+ * into chunks and hands them to a fixed pool of worker threads. A semaphore
+ * shared by all operations bounds the number of chunks in flight.
+ *
+ * @since 3.1.5
+ */
+final class BulkOperationExecutorImpl implements BulkOperationExecutor {
+
+    private final int parallelism;
+    private final int chunkSize;
+    private final int maxRetries;
+    private final Project project; // Nullable
+    private final TransactionHandler transactionHandler; // Nullable
+    private final Consumer<? super Progress> progressListener;
+
+    BulkOperationExecutorImpl(
+        final int parallelism,
+        final int chunkSize,
+        final int maxRetries,
+        final Project project,
+        final TransactionHandler transactionHandler,
+        final Consumer<? super Progress> progressListener
+    ) {
+        this.parallelism = requirePositive(parallelism);
+        this.chunkSize = requirePositive(chunkSize);
+        this.maxRetries = requireNonNegative(maxRetries);
+        this.project = project;
+        this.transactionHandler = transactionHandler;
+        this.progressListener = requireNonNull(progressListener);
+    }
+
+    @Override
+    public long execute(BulkOperation bulkOperation) throws SpeedmentException {
+        final List<Operation<?>> operations = bulkOperation.operations()
+            .collect(toList());
+        final List<Tables> tables = operations.stream()
+            .map(this::tables)
+            .collect(toList());
+
+        final ExecutorService readers = Executors.newCachedThreadPool(threadFactory("speedment-bulk-reader-"));
+        final ExecutorService workers = Executors.newFixedThreadPool(parallelism, threadFactory("speedment-bulk-worker-"));
+        final Execution execution = new Execution(workers);
+        try {
+            final List<CompletableFuture<Long>> futures = new ArrayList<>(operations.size());
+            for (int i = 0; i < operations.size(); i++) {
+                final Operation<?> operation = operations.get(i);
+                final Tables current = tables.get(i);
+
+                // Wait for all previous operations on related tables
+                final CompletableFuture<?>[] dependencies = IntStream.range(0, i)
+                    .filter(j -> tables.get(j).isRelatedTo(current))
+                    .mapToObj(futures::get)
+                    .toArray(CompletableFuture<?>[]::new);
+
+                futures.add(CompletableFuture.allOf(dependencies)
+                    .thenApplyAsync(v -> execution.execute(operation), readers)
+                );
+            }
+
+            try {
+                CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+            } catch (final CompletionException ex) {
+                throw execution.failure(ex.getCause());
+            }
+
+            return futures.stream().mapToLong(CompletableFuture::join).sum();
+        } finally {
+            readers.shutdownNow();
+            workers.shutdownNow();
+        }
+    }
+
+    private Tables tables(Operation<?> operation) {
+        if (project == null) {
+            return Tables.ALL;
+        }
+
+        final TableIdentifier<?> identifier = operation.manager().getTableIdentifier();
+        final Set<String> references = DocumentDbUtil.referencedTableIfPresent(
+            project,
+            identifier.getDbmsId(),
+            identifier.getSchemaId(),
+            identifier.getTableId()
+        ).map(table -> table.foreignKeys()
+            .flatMap(fk -> fk.foreignKeyColumns())
+            .map(fkc -> fkc.findForeignTable())
+            .filter(ft -> ft.isPresent())
+            .map(ft -> key(ft.get()))
+            .collect(toSet())
+        ).orElse(Collections.emptySet());
+
+        return new Tables(key(identifier), references);
+    }
+
+    private static String key(TableIdentifier<?> identifier) {
+        return identifier.getDbmsId()
+            + "." + identifier.getSchemaId()
+            + "." + identifier.getTableId();
+    }
+
+    private static String key(Table table) {
+        final Schema schema = table.getParentOrThrow();
+        return schema.getParentOrThrow().getId()
+            + "." + schema.getId()
+            + "." + table.getId();
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        final AtomicInteger count = new AtomicInteger();
+        return r -> {
+            final Thread t = new Thread(r, prefix + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    /**
+     * The table of an operation and the tables it references using foreign
+     * keys.
+     */
+    private static final class Tables {
+
+        private static final Tables ALL = new Tables(null, Collections.emptySet());
+
+        private final String table; // Null if unknown
+        private final Set<String> references;
+
+        private Tables(String table, Set<String> references) {
+            this.table = table;
+            this.references = references;
+        }
+
+        private boolean isRelatedTo(Tables other) {
+            return table == null
+                || other.table == null
+                || table.equals(other.table)
+                || references.contains(other.table)
+                || other.references.contains(table);
+        }
+    }
+
+    /**
+     * The state of a single call to {@link #execute(BulkOperation)}.
+     */
+    private final class Execution {
+
+        private final ExecutorService workers;
+        private final Semaphore inFlight;
+        private final AtomicReference<Throwable> failure;
+
+        private Execution(ExecutorService workers) {
+            this.workers = requireNonNull(workers);
+            this.inFlight = new Semaphore(2 * parallelism);
+            this.failure = new AtomicReference<>();
+        }
+
+        @SuppressWarnings("unchecked")
+        private <ENTITY> long execute(Operation<ENTITY> operation) {
+            final Manager<ENTITY> manager = operation.manager();
+            switch (operation.type()) {
+                case PERSIST: {
+                    final PersistOperation<ENTITY> persist = (PersistOperation<ENTITY>) operation;
+                    final Stream<ENTITY> source = persist.generatorSuppliers()
+                        .flatMap(supplier -> supplier.get());
+
+                    if (persist.isBulkLoad()) {
+                        final BulkLoader<ENTITY> bulkLoader = manager.bulkLoader();
+                        return execute(operation, source, UnaryOperator.identity(),
+                            chunk -> bulkLoader.apply(chunk.stream()).getLoadedRows()
+                        );
+                    } else {
+                        final Persister<ENTITY> persister = manager.persister();
+                        return execute(operation, source, UnaryOperator.identity(),
+                            chunk -> apply(chunk, persister)
+                        );
+                    }
+                }
+                case UPDATE: {
+                    final UpdateOperation<ENTITY> update = (UpdateOperation<ENTITY>) operation;
+                    final List<Consumer<? super ENTITY>> consumers = update.consumers().collect(toList());
+                    final List<Function<? super ENTITY, ? extends ENTITY>> mappers = update.mappers().collect(toList());
+                    final Updater<ENTITY> updater = manager.updater();
+
+                    // The entities are only modified once even if the chunk
+                    // is retried.
+                    return execute(operation, filtered(manager, update.predicates()),
+                        chunk -> chunk.stream()
+                            .map(entity -> modify(entity, consumers, mappers))
+                            .collect(toList()),
+                        chunk -> apply(chunk, updater)
+                    );
+                }
+                case REMOVE: {
+                    final RemoveOperation<ENTITY> remove = (RemoveOperation<ENTITY>) operation;
+                    final Remover<ENTITY> remover = manager.remover();
+                    return execute(operation, filtered(manager, remove.predicates()),
+                        UnaryOperator.identity(),
+                        chunk -> apply(chunk, remover)
+                    );
+                }
+                default: throw new UnsupportedOperationException(
+                    "Unknown operation type " + operation.type() + "."
+                );
+            }
+        }
+
+        private <ENTITY> long execute(
+            final Operation<ENTITY> operation,
+            final Stream<ENTITY> source,
+            final UnaryOperator<List<ENTITY>> preparer,
+            final ToLongFunction<List<ENTITY>> writer
+        ) {
+            final Counters counters = new Counters(operation);
+            final List<CompletableFuture<?>> pending = new ArrayList<>();
+
+            try (final Stream<ENTITY> entities = source) {
+                final Iterator<ENTITY> iterator = entities.iterator();
+                while (failure.get() == null && iterator.hasNext()) {
+                    final List<ENTITY> chunk = new ArrayList<>(chunkSize);
+                    while (chunk.size() < chunkSize && iterator.hasNext()) {
+                        chunk.add(iterator.next());
+                    }
+
+                    try {
+                        inFlight.acquire();
+                    } catch (final InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        throw new SpeedmentException("Interrupted while executing " + operation + ".", ex);
+                    }
+
+                    pending.removeIf(CompletableFuture::isDone);
+                    pending.add(CompletableFuture
+                        .runAsync(() -> write(counters, preparer.apply(chunk), writer), workers)
+                        .whenComplete((v, t) -> inFlight.release())
+                    );
+                }
+            } finally {
+                CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]))
+                    .exceptionally(t -> null)
+                    .join();
+            }
+
+            final Throwable t = failure.get();
+            if (t != null) {
+                throw failure(t);
+            }
+
+            return counters.processedEntities.get();
+        }
+
+        private <ENTITY> void write(
+            final Counters counters,
+            final List<ENTITY> chunk,
+            final ToLongFunction<List<ENTITY>> writer
+        ) {
+            for (int attempt = 0;; attempt++) {
+                try {
+                    final long count;
+                    if (transactionHandler == null) {
+                        count = writer.applyAsLong(chunk);
+                    } else {
+                        count = transactionHandler.createAndApply(tx -> {
+                            final long result = writer.applyAsLong(chunk);
+                            tx.commit();
+                            return result;
+                        });
+                    }
+
+                    counters.completedChunks.incrementAndGet();
+                    counters.processedEntities.addAndGet(count);
+                    progressListener.accept(counters.snapshot());
+                    return;
+                } catch (final RuntimeException ex) {
+                    if (attempt >= maxRetries || !isRetryable(ex) || failure.get() != null) {
+                        failure.compareAndSet(null, ex);
+                        throw ex;
+                    }
+                    counters.retries.incrementAndGet();
+                }
+            }
+        }
+
+        private boolean isRetryable(RuntimeException ex) {
+            // Without a transaction, the chunk might have been partially
+            // written, and non transient errors would only fail again
+            if (transactionHandler == null) {
+                return false;
+            }
+            for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+                if (cause instanceof SQLNonTransientException) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private SpeedmentException failure(Throwable cause) {
+            final Throwable first = failure.get() == null ? cause : failure.get();
+            if (first instanceof SpeedmentException) {
+                return (SpeedmentException) first;
+            } else {
+                return new SpeedmentException("Error while executing bulk operation.", first);
+            }
+        }
+    }
+
+    private static <ENTITY> Stream<ENTITY> filtered(
+        final Manager<ENTITY> manager,
+        final Stream<Predicate<ENTITY>> predicates
+    ) {
+        final Predicate<ENTITY> predicate = predicates
+            .reduce(Predicate::and)
+            .orElse(entity -> true);
+
+        return manager.stream().filter(predicate);
+    }
+
+    private static <ENTITY> ENTITY modify(
+        final ENTITY entity,
+        final List<Consumer<? super ENTITY>> consumers,
+        final List<Function<? super ENTITY, ? extends ENTITY>> mappers
+    ) {
+        consumers.forEach(consumer -> consumer.accept(entity));
+        ENTITY result = entity;
+        for (final Function<? super ENTITY, ? extends ENTITY> mapper : mappers) {
+            result = mapper.apply(result);
+        }
+        return result;
+    }
+
+    private static <ENTITY> long apply(List<ENTITY> chunk, Function<ENTITY, ENTITY> action) {
+        chunk.forEach(action::apply);
+        return chunk.size();
+    }
+
+    /**
+     * The progress of an operation, updated by the worker threads.
+     */
+    private static final class Counters {
+
+        private final Operation<?> operation;
+        private final AtomicLong completedChunks;
+        private final AtomicLong processedEntities;
+        private final AtomicLong retries;
+
+        private Counters(Operation<?> operation) {
+            this.operation = requireNonNull(operation);
+            this.completedChunks = new AtomicLong();
+            this.processedEntities = new AtomicLong();
+            this.retries = new AtomicLong();
+        }
+
+        private Progress snapshot() {
+            return new ProgressImpl(
+                operation,
+                completedChunks.get(),
+                processedEntities.get(),
+                retries.get()
+            );
+        }
+    }
+
+    private static final class ProgressImpl implements Progress {
+
+        private final Operation<?> operation;
+        private final long completedChunks;
+        private final long processedEntities;
+        private final long retries;
+
+        private ProgressImpl(
+            final Operation<?> operation,
+            final long completedChunks,
+            final long processedEntities,
+            final long retries
+        ) {
+            this.operation = operation;
+            this.completedChunks = completedChunks;
+            this.processedEntities = processedEntities;
+            this.retries = retries;
+        }
+
+        @Override
+        public Operation<?> operation() {
+            return operation;
+        }
+
+        @Override
+        public long getCompletedChunks() {
+            return completedChunks;
+        }
+
+        @Override
+        public long getProcessedEntities() {
+            return processedEntities;
+        }
+
+        @Override
+        public long getRetries() {
+            return retries;
+        }
+
+        @Override
+        public String toString() {
+            return "Progress{"
+                + "operation=" + operation
+                + ", completedChunks=" + completedChunks
+                + ", processedEntities=" + processedEntities
+                + ", retries=" + retries
+                + '}';
+        }
+    }
+}
@@ -34,12 +34,19 @@ import java.util.stream.Stream;
 public final class PersistOperationBuilderImpl<ENTITY> extends AbstractOperationBuilder<ENTITY> implements Builder.Persist<ENTITY> {
 
     private final List<Supplier<Stream<? extends ENTITY>>> generatorSuppliers;
+    private boolean bulkLoad;
 
     public PersistOperationBuilderImpl(Manager<ENTITY> manager, BulkOperationBuilder parent) {
         super(manager, parent);
         this.generatorSuppliers = new ArrayList<>();
     }
 
+    @Override
+    public Persist<ENTITY> bulkLoad() {
+        bulkLoad = true;
+        return this;
+    }
+
     @Override
     public Builder values(Supplier<Stream<? extends ENTITY>> generatorSupplier) {
         generatorSuppliers.add(generatorSupplier);
@@ -48,7 +55,7 @@ public final class PersistOperationBuilderImpl<ENTITY> extends AbstractOperation
 
     @Override
     Operation<ENTITY> buildCurrent() {
-        return new PersistOperationImpl<>(manager(), generatorSuppliers);
+        return new PersistOperationImpl<>(manager(), generatorSuppliers, bulkLoad);
     }
 
 }
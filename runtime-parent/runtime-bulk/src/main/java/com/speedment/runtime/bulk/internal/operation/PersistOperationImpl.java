@@ -32,13 +32,16 @@ import java.util.stream.Stream;
 public final class PersistOperationImpl<ENTITY> extends AbstractOperation<ENTITY> implements PersistOperation<ENTITY> {
 
     private final List<Supplier<Stream<? extends ENTITY>>> generatorSuppliers;
+    private final boolean bulkLoad;
 
     public PersistOperationImpl(
         final Manager<ENTITY> manager,
-        final List<Supplier<Stream<? extends ENTITY>>> generatorSuppliers
+        final List<Supplier<Stream<? extends ENTITY>>> generatorSuppliers,
+        final boolean bulkLoad
     ) {
         super(Type.PERSIST, manager);
         this.generatorSuppliers = new ArrayList<>(requireNonNull(generatorSuppliers));
+        this.bulkLoad = bulkLoad;
     }
 
     @Override
@@ -46,4 +49,9 @@ public final class PersistOperationImpl<ENTITY> extends AbstractOperation<ENTITY
         return generatorSuppliers.stream();
     }
 
+    @Override
+    public boolean isBulkLoad() {
+        return bulkLoad;
+    }
+
 }
@@ -26,8 +26,13 @@ import com.speedment.runtime.field.Field;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Stream;
 
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+
 /**
  *
  * @author Per Minborg
@@ -139,6 +144,19 @@ public class BuilderTest {
         printInfo(bo);
     }
 
+    @Test
+    public void testPersistBulkLoad() {
+        BulkOperation bo = BulkOperation.builder()
+            .persist(mgr).values(() -> Stream.of(new Point(1, 1)))
+            .persist(mgr).bulkLoad().values(() -> Stream.of(new Point(2, 2)))
+            .build();
+
+        final List<Boolean> bulkLoads = bo.operations()
+            .map(o -> ((PersistOperation<?>) o).isBulkLoad())
+            .collect(toList());
+        assertEquals(Arrays.asList(false, true), bulkLoads);
+    }
+
     private void printInfo(BulkOperation bo) {
         bo.operations().forEachOrdered(o -> {
             final Type type = o.type();
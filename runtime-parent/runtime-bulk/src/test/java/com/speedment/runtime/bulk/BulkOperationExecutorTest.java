@@ -0,0 +1,318 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.bulk;
+
+import com.speedment.runtime.config.identifier.TableIdentifier;
+import com.speedment.runtime.core.component.transaction.Isolation;
+import com.speedment.runtime.core.component.transaction.Transaction;
+import com.speedment.runtime.core.component.transaction.TransactionHandler;
+import com.speedment.runtime.core.exception.SpeedmentException;
+import com.speedment.runtime.core.manager.BulkLoadResult;
+import com.speedment.runtime.core.manager.BulkLoader;
+import com.speedment.runtime.core.manager.Manager;
+import com.speedment.runtime.core.manager.Persister;
+import com.speedment.runtime.core.manager.Remover;
+import com.speedment.runtime.core.manager.Updater;
+import com.speedment.runtime.field.Field;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ *
+ * @since 3.1.5
+ */
+public class BulkOperationExecutorTest {
+
+    private static final int SIZE = 10_000;
+
+    @Test
+    public void testPersistUpdateRemove() {
+        final ItemManager items = new ItemManager();
+        final BulkOperation bo = BulkOperation.builder()
+            .persist(items).values(() -> IntStream.range(0, SIZE).mapToObj(Item::new))
+            .update(items).where(i -> i.id % 2 == 0).set(i -> i.value++)
+            .remove(items).where(i -> i.id % 3 == 0)
+            .build();
+
+        final long affected = executor().build().execute(bo);
+
+        assertEquals(SIZE + SIZE / 2 + (SIZE + 2) / 3, affected);
+        assertEquals(SIZE - (SIZE + 2) / 3, items.rows.size());
+        items.rows.values().forEach(i -> {
+            assertFalse(i.id % 3 == 0);
+            assertEquals(i.id % 2 == 0 ? 1 : 0, i.value);
+        });
+    }
+
+    @Test
+    public void testBulkLoadPersistsInChunks() {
+        final ItemManager items = new ItemManager();
+        final BulkOperation bo = BulkOperation.builder()
+            .persist(items).bulkLoad().values(() -> IntStream.range(0, SIZE).mapToObj(Item::new))
+            .build();
+
+        assertEquals(SIZE, executor().build().execute(bo));
+        assertEquals(SIZE / 100, items.bulkLoads.get());
+        assertEquals(0, items.persists.get());
+        assertEquals(SIZE, items.rows.size());
+    }
+
+    @Test
+    public void testFailedChunkIsRetried() {
+        final AtomicBoolean failed = new AtomicBoolean();
+        final ItemManager items = new ItemManager() {
+            @Override
+            public Persister<Item> persister() {
+                final Persister<Item> persister = super.persister();
+                return item -> {
+                    if (item.id == SIZE / 2 && failed.compareAndSet(false, true)) {
+                        throw new SpeedmentException("Lost connection");
+                    }
+                    return persister.apply(item);
+                };
+            }
+        };
+        final BulkOperation bo = BulkOperation.builder()
+            .persist(items).values(() -> IntStream.range(0, SIZE).mapToObj(Item::new))
+            .build();
+
+        final AtomicLong retries = new AtomicLong();
+        final AtomicLong chunks = new AtomicLong();
+        final long affected = executor()
+            .withTransactionHandler(new ChunkTransactionHandler())
+            .withMaxRetries(1)
+            .withProgressListener(p -> {
+                retries.accumulateAndGet(p.getRetries(), Math::max);
+                chunks.incrementAndGet();
+            })
+            .build()
+            .execute(bo);
+
+        assertTrue(failed.get());
+        assertEquals(SIZE, affected);
+        assertEquals(SIZE, items.rows.size());
+        assertEquals(1, retries.get());
+        assertEquals(SIZE / 100, chunks.get());
+    }
+
+    @Test
+    public void testChunkIsNotRetriedWithoutTransactionHandler() {
+        final AtomicInteger failures = new AtomicInteger();
+        final ItemManager items = failingOnce(failures, new SpeedmentException("Lost connection"));
+        final BulkOperation bo = BulkOperation.builder()
+            .persist(items).values(() -> IntStream.range(0, SIZE).mapToObj(Item::new))
+            .build();
+
+        try {
+            executor().withMaxRetries(2).build().execute(bo);
+            fail("Expected a SpeedmentException");
+        } catch (final SpeedmentException ex) {
+            assertEquals("Lost connection", ex.getMessage());
+        }
+        assertEquals(1, failures.get());
+    }
+
+    @Test
+    public void testNonTransientFailureIsNotRetried() {
+        final AtomicInteger failures = new AtomicInteger();
+        final ItemManager items = failingOnce(failures, new SpeedmentException(
+            new SQLIntegrityConstraintViolationException("Duplicate entry")
+        ));
+        final BulkOperation bo = BulkOperation.builder()
+            .persist(items).values(() -> IntStream.range(0, SIZE).mapToObj(Item::new))
+            .build();
+
+        try {
+            executor()
+                .withTransactionHandler(new ChunkTransactionHandler())
+                .withMaxRetries(2)
+                .build()
+                .execute(bo);
+            fail("Expected a SpeedmentException");
+        } catch (final SpeedmentException ex) {
+            assertTrue(ex.getCause() instanceof SQLIntegrityConstraintViolationException);
+        }
+        assertEquals(1, failures.get());
+    }
+
+    @Test
+    public void testFailureSkipsLaterOperations() {
+        final ItemManager items = new ItemManager() {
+            @Override
+            public Persister<Item> persister() {
+                return item -> {
+                    throw new SpeedmentException("Constraint violation");
+                };
+            }
+        };
+        final BulkOperation bo = BulkOperation.builder()
+            .persist(items).values(() -> IntStream.range(0, SIZE).mapToObj(Item::new))
+            .remove(items)
+            .build();
+
+        try {
+            executor().withMaxRetries(1).build().execute(bo);
+            fail("Expected a SpeedmentException");
+        } catch (final SpeedmentException ex) {
+            assertEquals("Constraint violation", ex.getMessage());
+        }
+        assertEquals(0, items.removes.get());
+    }
+
+    private static ItemManager failingOnce(AtomicInteger failures, SpeedmentException failure) {
+        return new ItemManager() {
+            @Override
+            public Persister<Item> persister() {
+                final Persister<Item> persister = super.persister();
+                return item -> {
+                    if (item.id == SIZE / 2) {
+                        failures.incrementAndGet();
+                        throw failure;
+                    }
+                    return persister.apply(item);
+                };
+            }
+        };
+    }
+
+    private static BulkOperationExecutor.Builder executor() {
+        return BulkOperationExecutor.builder()
+            .withParallelism(4)
+            .withChunkSize(100);
+    }
+
+    /**
+     * A handler that runs each chunk directly, since the items are kept in
+     * memory and a failed chunk can safely be written again.
+     */
+    private static final class ChunkTransactionHandler implements TransactionHandler {
+
+        private final Transaction transaction = (Transaction) Proxy.newProxyInstance(
+            Transaction.class.getClassLoader(),
+            new Class<?>[] {Transaction.class},
+            (proxy, method, args) -> null
+        );
+
+        @Override
+        public void setIsolation(Isolation level) {}
+
+        @Override
+        public Isolation getIsolation() {
+            return Isolation.DEFAULT;
+        }
+
+        @Override
+        public <R> R createAndApply(Function<? super Transaction, ? extends R> mapper) {
+            return mapper.apply(transaction);
+        }
+    }
+
+    private static final class Item {
+
+        final int id;
+        int value;
+
+        private Item(int id) {
+            this.id = id;
+        }
+    }
+
+    private static class ItemManager implements Manager<Item> {
+
+        private final Map<Integer, Item> rows = new ConcurrentHashMap<>();
+        private final AtomicInteger persists = new AtomicInteger();
+        private final AtomicInteger bulkLoads = new AtomicInteger();
+        private final AtomicInteger removes = new AtomicInteger();
+
+        @Override
+        public TableIdentifier<Item> getTableIdentifier() {
+            return TableIdentifier.of("db", "schema", "item");
+        }
+
+        @Override
+        public Class<Item> getEntityClass() {
+            return Item.class;
+        }
+
+        @Override
+        public Stream<Field<Item>> fields() {
+            return Stream.empty();
+        }
+
+        @Override
+        public Stream<Field<Item>> primaryKeyFields() {
+            return Stream.empty();
+        }
+
+        @Override
+        public Stream<Item> stream() {
+            return rows.values().stream();
+        }
+
+        @Override
+        public Persister<Item> persister() {
+            return item -> {
+                persists.incrementAndGet();
+                rows.put(item.id, item);
+                return item;
+            };
+        }
+
+        @Override
+        public BulkLoader<Item> bulkLoader() {
+            return entities -> {
+                bulkLoads.incrementAndGet();
+                return BulkLoadResult.of(entities.mapToLong(item -> {
+                    rows.put(item.id, item);
+                    return 1;
+                }).sum());
+            };
+        }
+
+        @Override
+        public Updater<Item> updater() {
+            return item -> {
+                rows.put(item.id, item);
+                return item;
+            };
+        }
+
+        @Override
+        public Remover<Item> remover() {
+            return item -> {
+                removes.incrementAndGet();
+                rows.remove(item.id);
+                return item;
+            };
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.config.internal.binary;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static com.speedment.runtime.config.internal.binary.BinaryFormat.*;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Internal class that decodes a snapshot in the format described by
+ * {@link BinaryFormat}. Only the string pool offsets are read up front. Maps
+ * and lists are returned as lazy views that are decoded the first time they
+ * are accessed, and strings are decoded the first time they are referenced.
+ * <p>
+ * The underlying buffer is only accessed using absolute reads, which makes
+ * it safe to share a reader between threads.
+ *
+ * @since  3.1.5
+ */
+public final class BinaryDocumentReader {
+
+    private final ByteBuffer buffer;
+    private final int[] stringOffsets;
+    private final String[] strings;
+    private final int rootOffset;
+
+    /**
+     * Creates a new reader for the snapshot in the specified buffer. The
+     * buffer is expected to start at position zero.
+     *
+     * @param buffer  the snapshot
+     *
+     * @throws IllegalArgumentException  if the buffer does not contain a
+     *                                   snapshot of a supported version
+     */
+    public BinaryDocumentReader(ByteBuffer buffer) {
+        this.buffer = requireNonNull(buffer);
+
+        if (buffer.limit() < 12 || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException(
+                "The specified buffer does not contain a binary snapshot."
+            );
+        }
+
+        final int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw new IllegalArgumentException(
+                "Unsupported binary snapshot version " + version + "."
+            );
+        }
+
+        final int count = buffer.getInt(8);
+        this.stringOffsets = new int[count];
+        this.strings       = new String[count];
+
+        int pos = 12;
+        for (int i = 0; i < count; i++) {
+            stringOffsets[i] = pos;
+            pos += 4 + buffer.getInt(pos);
+        }
+
+        this.rootOffset = pos;
+    }
+
+    /**
+     * Returns the root value of the snapshot.
+     *
+     * @return  the root value
+     */
+    public Object root() {
+        return valueAt(rootOffset);
+    }
+
+    /**
+     * Decodes the value that has its tag at the specified offset. Maps and
+     * lists are not decoded but returned as lazy views.
+     *
+     * @param offset  the offset of the tag
+     * @return        the decoded value
+     */
+    Object valueAt(int offset) {
+        final byte tag = buffer.get(offset);
+        switch (tag) {
+            case NULL   : return null;
+            case TRUE   : return Boolean.TRUE;
+            case FALSE  : return Boolean.FALSE;
+            case INT    : return buffer.getInt(offset + 1);
+            case LONG   : return buffer.getLong(offset + 1);
+            case DOUBLE : return buffer.getDouble(offset + 1);
+            case STRING : return stringAt(buffer.getInt(offset + 1));
+            case MAP    : return new LazyBinaryMap(this, offset + 1);
+            case LIST   : return new LazyBinaryList(this, offset + 1);
+            default : throw new IllegalStateException(
+                "Unknown tag " + tag + " at offset " + offset + "."
+            );
+        }
+    }
+
+    /**
+     * Returns the offset of the value that follows the value that has its
+     * tag at the specified offset.
+     *
+     * @param offset  the offset of the tag
+     * @return        the offset of the next value
+     */
+    int skip(int offset) {
+        final byte tag = buffer.get(offset);
+        switch (tag) {
+            case NULL   : case TRUE : case FALSE : return offset + 1;
+            case INT    : case STRING : return offset + 5;
+            case LONG   : case DOUBLE : return offset + 9;
+            case MAP    : case LIST :
+                return offset + 1 + CONTAINER_HEADER_SIZE + buffer.getInt(offset + 1);
+            default : throw new IllegalStateException(
+                "Unknown tag " + tag + " at offset " + offset + "."
+            );
+        }
+    }
+
+    int intAt(int offset) {
+        return buffer.getInt(offset);
+    }
+
+    String stringAt(int index) {
+        final String cached = strings[index];
+        if (cached != null) {
+            return cached;
+        }
+
+        final int offset = stringOffsets[index];
+        final byte[] bytes = new byte[buffer.getInt(offset)];
+        final ByteBuffer view = buffer.duplicate();
+        view.position(offset + 4);
+        view.get(bytes);
+
+        // Racing threads will decode equal strings, which is harmless.
+        final String decoded = new String(bytes, StandardCharsets.UTF_8);
+        strings[index] = decoded;
+        return decoded;
+    }
+}
@@ -0,0 +1,170 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.config.internal.binary;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.speedment.runtime.config.internal.binary.BinaryFormat.*;
+
+/**
+ * Internal class that encodes a tree of maps, lists, strings, numbers and
+ * booleans into the format described by {@link BinaryFormat}.
+ *
+ * @since  3.1.5
+ */
+public final class BinaryDocumentWriter {
+
+    private final Map<String, Integer> pool;
+    private byte[] body;
+    private int length;
+
+    public BinaryDocumentWriter() {
+        this.pool = new LinkedHashMap<>();
+        this.body = new byte[4096];
+    }
+
+    /**
+     * Encodes the specified root value and returns the complete snapshot.
+     *
+     * @param root  the root value
+     * @return      the encoded snapshot
+     *
+     * @throws IllegalArgumentException  if the tree contains an unsupported
+     *                                   value type
+     */
+    public byte[] write(Object root) {
+        pool.clear();
+        length = 0;
+        writeValue(root);
+
+        final byte[][] strings = pool.keySet().stream()
+            .map(s -> s.getBytes(StandardCharsets.UTF_8))
+            .toArray(byte[][]::new);
+
+        int poolSize = 4;
+        for (final byte[] s : strings) {
+            poolSize += 4 + s.length;
+        }
+
+        final byte[] result = new byte[8 + poolSize + length];
+        int pos = putInt(result, 0, MAGIC);
+        pos = putInt(result, pos, VERSION);
+        pos = putInt(result, pos, strings.length);
+        for (final byte[] s : strings) {
+            pos = putInt(result, pos, s.length);
+            System.arraycopy(s, 0, result, pos, s.length);
+            pos += s.length;
+        }
+        System.arraycopy(body, 0, result, pos, length);
+        return result;
+    }
+
+    private void writeValue(Object value) {
+        if (value == null) {
+            writeByte(NULL);
+        } else if (value instanceof String) {
+            writeByte(STRING);
+            writeInt(indexOf((String) value));
+        } else if (value instanceof Boolean) {
+            writeByte((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof Integer
+               ||  value instanceof Short
+               ||  value instanceof Byte) {
+            writeByte(INT);
+            writeInt(((Number) value).intValue());
+        } else if (value instanceof Long) {
+            writeByte(LONG);
+            writeLong((Long) value);
+        } else if (value instanceof Double
+               ||  value instanceof Float) {
+            writeByte(DOUBLE);
+            writeLong(Double.doubleToLongBits(((Number) value).doubleValue()));
+        } else if (value instanceof Map) {
+            @SuppressWarnings("unchecked")
+            final Map<String, Object> map = (Map<String, Object>) value;
+            writeByte(MAP);
+            final int start = reserveContainerHeader();
+            for (final Map.Entry<String, Object> entry : map.entrySet()) {
+                writeInt(indexOf(entry.getKey()));
+                writeValue(entry.getValue());
+            }
+            completeContainerHeader(start, map.size());
+        } else if (value instanceof List) {
+            final List<?> list = (List<?>) value;
+            writeByte(LIST);
+            final int start = reserveContainerHeader();
+            for (final Object element : list) {
+                writeValue(element);
+            }
+            completeContainerHeader(start, list.size());
+        } else {
+            throw new IllegalArgumentException(
+                "Can't encode unsupported type '" + value.getClass() +
+                "' into a binary snapshot."
+            );
+        }
+    }
+
+    private int indexOf(String string) {
+        return pool.computeIfAbsent(string, s -> pool.size());
+    }
+
+    private int reserveContainerHeader() {
+        final int start = length;
+        ensureCapacity(CONTAINER_HEADER_SIZE);
+        length += CONTAINER_HEADER_SIZE;
+        return start;
+    }
+
+    private void completeContainerHeader(int start, int count) {
+        putInt(body, start, length - start - CONTAINER_HEADER_SIZE);
+        putInt(body, start + 4, count);
+    }
+
+    private void writeByte(byte b) {
+        ensureCapacity(1);
+        body[length++] = b;
+    }
+
+    private void writeInt(int value) {
+        ensureCapacity(4);
+        length = putInt(body, length, value);
+    }
+
+    private void writeLong(long value) {
+        writeInt((int) (value >>> 32));
+        writeInt((int) value);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > body.length) {
+            body = Arrays.copyOf(body, Math.max(body.length * 2, length + extra));
+        }
+    }
+
+    private static int putInt(byte[] array, int pos, int value) {
+        array[pos]     = (byte) (value >>> 24);
+        array[pos + 1] = (byte) (value >>> 16);
+        array[pos + 2] = (byte) (value >>> 8);
+        array[pos + 3] = (byte) value;
+        return pos + 4;
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.config.internal.binary;
+
+/**
+ * Constants describing the binary snapshot format of a configuration tree.
+ * <p>
+ * A snapshot consists of a header ({@link #MAGIC}, {@link #VERSION}), a
+ * string pool and a single root value. The string pool starts with the number
+ * of strings followed by each string as a length-prefixed UTF-8 sequence.
+ * Every value starts with a one-byte tag:
+ * <ul>
+ *     <li>{@link #NULL}, {@link #TRUE} and {@link #FALSE} have no payload,
+ *     <li>{@link #INT} is followed by a 4-byte integer,
+ *     <li>{@link #LONG} and {@link #DOUBLE} are followed by 8 bytes,
+ *     <li>{@link #STRING} is followed by a 4-byte index into the string pool,
+ *     <li>{@link #MAP} is followed by the byte length of the body, the number
+ *         of entries and then every entry as a string pool index and a value,
+ *     <li>{@link #LIST} is followed by the byte length of the body, the
+ *         number of elements and then every element value.
+ * </ul>
+ * Since maps and lists are prefixed with their byte length, a reader can skip
+ * over nested structures without decoding them.
+ * <p>
+ * All multi-byte values are stored in big-endian order.
+ *
+ * @since  3.1.5
+ */
+final class BinaryFormat {
+
+    static final int MAGIC   = 0x53504442; // SPDB
+    static final int VERSION = 1;
+
+    static final byte
+        NULL   = 0,
+        TRUE   = 1,
+        FALSE  = 2,
+        INT    = 3,
+        LONG   = 4,
+        DOUBLE = 5,
+        STRING = 6,
+        MAP    = 7,
+        LIST   = 8;
+
+    /**
+     * The number of bytes between the tag of a map or list and the first
+     * entry in its body (the byte length and the number of entries).
+     */
+    static final int CONTAINER_HEADER_SIZE = 8;
+
+    /**
+     * Utility classes should never be instantiated.
+     */
+    private BinaryFormat() {
+        throw new UnsupportedOperationException();
+    }
+}
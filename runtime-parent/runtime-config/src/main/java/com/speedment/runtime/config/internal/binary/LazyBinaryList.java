@@ -0,0 +1,104 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.config.internal.binary;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.speedment.runtime.config.internal.binary.BinaryFormat.CONTAINER_HEADER_SIZE;
+
+/**
+ * A list view of an encoded list in a binary snapshot. The elements are 
+ * decoded into a regular {@code ArrayList} the first time the list is 
+ * accessed. Elements that are maps or lists are in turn returned as lazy 
+ * views.
+ *
+ * @since  3.1.5
+ */
+final class LazyBinaryList extends AbstractList<Object> {
+
+    private final BinaryDocumentReader reader;
+    private final int offset;
+    private volatile List<Object> decoded;
+
+    /**
+     * Creates a new view of the list that has its body (the part that 
+     * follows the tag) at the specified offset.
+     *
+     * @param reader  the reader
+     * @param offset  the offset of the body
+     */
+    LazyBinaryList(BinaryDocumentReader reader, int offset) {
+        this.reader = reader;
+        this.offset = offset;
+    }
+
+    @Override
+    public int size() {
+        final List<Object> list = decoded;
+        return list == null ? reader.intAt(offset + 4) : list.size();
+    }
+
+    @Override
+    public Object get(int index) {
+        return decoded().get(index);
+    }
+
+    @Override
+    public Object set(int index, Object element) {
+        return decoded().set(index, element);
+    }
+
+    @Override
+    public void add(int index, Object element) {
+        modCount++;
+        decoded().add(index, element);
+    }
+
+    @Override
+    public Object remove(int index) {
+        modCount++;
+        return decoded().remove(index);
+    }
+
+    private List<Object> decoded() {
+        List<Object> list = decoded;
+        if (list == null) {
+            synchronized (this) {
+                list = decoded;
+                if (list == null) {
+                    decoded = list = decode();
+                }
+            }
+        }
+        return list;
+    }
+
+    private List<Object> decode() {
+        final int count = reader.intAt(offset + 4);
+        final List<Object> list = new ArrayList<>(count);
+
+        int pos = offset + CONTAINER_HEADER_SIZE;
+        for (int i = 0; i < count; i++) {
+            list.add(reader.valueAt(pos));
+            pos = reader.skip(pos);
+        }
+
+        return list;
+    }
+}
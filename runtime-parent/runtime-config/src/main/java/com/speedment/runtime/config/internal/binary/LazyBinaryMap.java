@@ -0,0 +1,123 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.config.internal.binary;
+
+import java.util.AbstractMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static com.speedment.runtime.config.internal.binary.BinaryFormat.CONTAINER_HEADER_SIZE;
+
+/**
+ * A map view of an encoded map in a binary snapshot. The entries are decoded
+ * into a regular {@code LinkedHashMap} the first time the map is accessed.
+ * Nested maps and lists are in turn returned as lazy views, which means that
+ * a subtree that is never accessed is never decoded.
+ * <p>
+ * Once decoded, the map behaves exactly like the map that would have been
+ * created by the JSON parser, including support for modifications.
+ *
+ * @since  3.1.5
+ */
+final class LazyBinaryMap extends AbstractMap<String, Object> {
+
+    private final BinaryDocumentReader reader;
+    private final int offset;
+    private volatile Map<String, Object> decoded;
+
+    /**
+     * Creates a new view of the map that has its body (the part that follows
+     * the tag) at the specified offset.
+     *
+     * @param reader  the reader
+     * @param offset  the offset of the body
+     */
+    LazyBinaryMap(BinaryDocumentReader reader, int offset) {
+        this.reader = reader;
+        this.offset = offset;
+    }
+
+    @Override
+    public int size() {
+        final Map<String, Object> map = decoded;
+        return map == null ? reader.intAt(offset + 4) : map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return decoded().containsKey(key);
+    }
+
+    @Override
+    public Object get(Object key) {
+        return decoded().get(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        return decoded().put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        return decoded().remove(key);
+    }
+
+    @Override
+    public void clear() {
+        decoded().clear();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return decoded().entrySet();
+    }
+
+    private Map<String, Object> decoded() {
+        Map<String, Object> map = decoded;
+        if (map == null) {
+            synchronized (this) {
+                map = decoded;
+                if (map == null) {
+                    decoded = map = decode();
+                }
+            }
+        }
+        return map;
+    }
+
+    private Map<String, Object> decode() {
+        final int count = reader.intAt(offset + 4);
+        final Map<String, Object> map = new LinkedHashMap<>();
+
+        int pos = offset + CONTAINER_HEADER_SIZE;
+        for (int i = 0; i < count; i++) {
+            final String key = reader.stringAt(reader.intAt(pos));
+            pos += 4;
+            map.put(key, reader.valueAt(pos));
+            pos = reader.skip(pos);
+        }
+
+        return map;
+    }
+}
@@ -0,0 +1,166 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.config.util;
+
+import com.speedment.runtime.config.Project;
+import com.speedment.runtime.config.exception.SpeedmentConfigException;
+import com.speedment.runtime.config.internal.ProjectImpl;
+import com.speedment.runtime.config.internal.binary.BinaryDocumentReader;
+import com.speedment.runtime.config.internal.binary.BinaryDocumentWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.UUID;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Utility methods for saving and loading a {@link Project} as a compact
+ * binary snapshot. The snapshot holds the same information as the JSON
+ * representation created by {@link DocumentTranscoder}. It is only meant to be
+ * used as a derived, read-optimized copy of the JSON file and not as the
+ * primary storage of the configuration.
+ * <p>
+ * When a snapshot is loaded, only the header is read. Every map and list in
+ * the tree is decoded the first time it is accessed, so a table that is never
+ * accessed in a session is never decoded.
+ *
+ * @since   3.1.5
+ */
+public final class BinaryDocumentTranscoder {
+
+    /**
+     * The file extension used for binary snapshots.
+     */
+    public static final String EXTENSION = ".bin";
+
+    /**
+     * Returns the binary snapshot representation of the specified project.
+     *
+     * @param project  the project
+     * @return         the binary representation
+     *
+     * @throws SpeedmentConfigException  if the project contains values that
+     *                                   can not be encoded
+     */
+    public static byte[] save(Project project)
+            throws SpeedmentConfigException {
+
+        requireNonNull(project);
+        try {
+            return new BinaryDocumentWriter().write(project.getData());
+        } catch (final IllegalArgumentException ex) {
+            throw new SpeedmentConfigException(ex);
+        }
+    }
+
+    /**
+     * Saves the project as a binary snapshot in the specified file.
+     *
+     * @param project   to save
+     * @param location  for the snapshot file
+     *
+     * @throws SpeedmentConfigException if the file could not be saved
+     */
+    public static void save(Project project, Path location)
+            throws SpeedmentConfigException {
+
+        try {
+            Files.write(location, save(project));
+        } catch (final IOException ex) {
+            throw new SpeedmentConfigException(
+                "Could not save binary snapshot to path '" + location + "'.", ex
+            );
+        }
+    }
+
+    /**
+     * Loads a new {@link Project} from the specified binary snapshot. The
+     * buffer must not be modified as long as the project is in use.
+     *
+     * @param buffer  the snapshot, starting at position zero
+     * @return        the loaded project
+     *
+     * @throws SpeedmentConfigException  if the snapshot couldn't be loaded
+     */
+    public static Project load(ByteBuffer buffer)
+            throws SpeedmentConfigException {
+
+        requireNonNull(buffer, "No buffer specified.");
+
+        try {
+            @SuppressWarnings("unchecked")
+            final Map<String, Object> data = (Map<String, Object>)
+                new BinaryDocumentReader(buffer).root();
+
+            if (!data.containsKey(Project.APP_ID)) {
+                data.put(Project.APP_ID, UUID.randomUUID().toString());
+            }
+
+            return new ProjectImpl(data);
+        } catch (final Exception ex) {
+            throw new SpeedmentConfigException(ex);
+        }
+    }
+
+    /**
+     * Loads a project from a binary snapshot file. The file is memory-mapped
+     * and decoded lazily.
+     *
+     * @param location  of the snapshot file
+     * @return          that was loaded
+     *
+     * @throws SpeedmentConfigException if the file could not be loaded
+     */
+    public static Project load(Path location)
+            throws SpeedmentConfigException {
+
+        try (final FileChannel channel = FileChannel.open(location, StandardOpenOption.READ)) {
+            return load(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (final IOException ex) {
+            throw new SpeedmentConfigException(
+                "Could not load binary snapshot from path '" + location + "'.", ex
+            );
+        }
+    }
+
+    /**
+     * Returns the location of the binary snapshot that belongs to the JSON
+     * file at the specified location. The snapshot is located in the same
+     * folder and has the same name but with the {@link #EXTENSION} extension.
+     *
+     * @param jsonLocation  the location of the JSON file
+     * @return              the location of the snapshot
+     */
+    public static Path snapshotLocation(Path jsonLocation) {
+        final String fileName = jsonLocation.getFileName().toString();
+        final int dot = fileName.lastIndexOf('.');
+        final String baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+        return jsonLocation.resolveSibling(baseName + EXTENSION);
+    }
+
+    /**
+     * Utility classes should never be instantiated.
+     */
+    private BinaryDocumentTranscoder() {
+        throw new UnsupportedOperationException();
+    }
+}
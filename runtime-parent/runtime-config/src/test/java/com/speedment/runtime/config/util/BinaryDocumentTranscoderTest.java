@@ -0,0 +1,147 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.config.util;
+
+import com.speedment.runtime.config.Column;
+import com.speedment.runtime.config.Project;
+import com.speedment.runtime.config.Schema;
+import com.speedment.runtime.config.Table;
+import com.speedment.runtime.config.internal.ProjectImpl;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @since 3.1.5
+ */
+public final class BinaryDocumentTranscoderTest extends AbstractDocumentTest {
+
+    @Test
+    public void testRoundTrip() {
+        project.getData().put(Project.APP_ID, "app-id");
+        project.getData().put("anInt", 42);
+        project.getData().put("aLong", 1L << 40);
+        project.getData().put("aDouble", 3.14);
+        project.getData().put("aNull", null);
+        
+        final Project loaded = load(project);
+        assertEquals(project.getData(), loaded.getData());
+        assertEquals(loaded.getData(), project.getData());
+        assertEquals(42, loaded.getAsInt("anInt").getAsInt());
+        assertEquals(1L << 40, loaded.getAsLong("aLong").getAsLong());
+        assertEquals(3.14, loaded.getAsDouble("aDouble").getAsDouble(), 0);
+    }
+
+    @Test
+    public void testChildren() {
+        final Project loaded = load(project);
+        
+        final List<String> tables = loaded.dbmses()
+            .flatMap(d -> d.schemas())
+            .flatMap(Schema::tables)
+            .map(Table::getName)
+            .collect(toList());
+        
+        assertEquals(4, tables.size());
+        assertEquals("Table A", tables.get(0));
+        
+        final List<String> columns = loaded.dbmses()
+            .flatMap(d -> d.schemas())
+            .flatMap(Schema::tables)
+            .flatMap(Table::columns)
+            .map(Column::getDatabaseType)
+            .collect(toList());
+        
+        assertEquals(8, columns.size());
+        assertEquals(Long.class.getName(), columns.get(0));
+    }
+
+    @Test
+    public void testMutation() {
+        final Project loaded = load(project);
+        final Table table = loaded.dbmses()
+            .flatMap(d -> d.schemas())
+            .flatMap(Schema::tables)
+            .findFirst().get();
+        
+        table.mutator().setName("Renamed");
+        table.mutator().addNewColumn().mutator().setName("Column A3");
+        
+        assertEquals("Renamed", table.getName());
+        assertEquals(3, table.columns().count());
+    }
+
+    @Test
+    public void testAppIdIsGenerated() {
+        assertFalse(project.getData().containsKey(Project.APP_ID));
+        final Project loaded = load(project);
+        assertTrue(loaded.getAppId() != null && !loaded.getAppId().isEmpty());
+    }
+
+    @Test
+    public void testStringsAreShared() {
+        final Map<String, Object> data = new LinkedHashMap<>();
+        data.put(Project.APP_ID, "a value that is repeated");
+        data.put(Project.NAME, "a value that is repeated");
+        
+        final Map<String, Object> twice = new LinkedHashMap<>(data);
+        twice.put("other", "a value that is repeated");
+        
+        final int once = BinaryDocumentTranscoder.save(new ProjectImpl(data)).length;
+        final int more = BinaryDocumentTranscoder.save(new ProjectImpl(twice)).length;
+        
+        // One additional key in the pool and one additional entry
+        assertEquals(once + (4 + "other".length()) + (4 + 5), more);
+    }
+
+    @Test
+    public void testFile() throws Exception {
+        final Path dir  = Files.createTempDirectory("speedment");
+        final Path json = dir.resolve("speedment.json");
+        final Path bin  = BinaryDocumentTranscoder.snapshotLocation(json);
+        
+        assertEquals(Paths.get("speedment.bin"), bin.getFileName());
+        
+        try {
+            BinaryDocumentTranscoder.save(project, bin);
+            final Project loaded = BinaryDocumentTranscoder.load(bin);
+            assertEquals(
+                project.getData().get(Project.DBMSES),
+                loaded.getData().get(Project.DBMSES)
+            );
+        } finally {
+            Files.deleteIfExists(bin);
+            Files.deleteIfExists(dir);
+        }
+    }
+    
+    private static Project load(Project project) {
+        return BinaryDocumentTranscoder.load(
+            ByteBuffer.wrap(BinaryDocumentTranscoder.save(project))
+        );
+    }
+}
@@ -21,6 +21,8 @@ import com.speedment.runtime.config.Column;
 import com.speedment.runtime.config.Dbms;
 import com.speedment.runtime.connector.mysql.internal.MySqlDbmsMetadataHandler;
 import com.speedment.runtime.connector.mysql.internal.MySqlDbmsOperationHandler;
+import com.speedment.runtime.connector.mysql.internal.MySqlTableStatisticsReader;
+import com.speedment.runtime.core.component.statistics.TableStatisticsReader;
 import com.speedment.runtime.core.db.*;
 import com.speedment.runtime.core.internal.db.AbstractDatabaseNamingConvention;
 import com.speedment.runtime.core.internal.db.AbstractDbmsType;
@@ -44,6 +46,7 @@ public final class MariaDbDbmsType extends AbstractDbmsType {
 
     private final MariaDbNamingConvention namingConvention;
     private final MariaDbConnectionUrlGenerator connectionUrlGenerator;
+    private final TableStatisticsReader statisticsReader;
 
     @Inject
     private MySqlDbmsMetadataHandler metadataHandler;
@@ -55,6 +58,7 @@ public final class MariaDbDbmsType extends AbstractDbmsType {
     private MariaDbDbmsType() {
         namingConvention = new MariaDbNamingConvention();
         connectionUrlGenerator = new MariaDbConnectionUrlGenerator();
+        statisticsReader = new MySqlTableStatisticsReader(super.getTableStatisticsReader());
     }
 
     @Override
@@ -102,6 +106,11 @@ public final class MariaDbDbmsType extends AbstractDbmsType {
         return operationHandler;
     }
 
+    @Override
+    public TableStatisticsReader getTableStatisticsReader() {
+        return statisticsReader;
+    }
+
     @Override
     public ConnectionUrlGenerator getConnectionUrlGenerator() {
         return connectionUrlGenerator;
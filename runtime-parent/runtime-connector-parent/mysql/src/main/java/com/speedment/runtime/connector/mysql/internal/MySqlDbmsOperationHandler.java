@@ -16,9 +16,23 @@
  */
 package com.speedment.runtime.connector.mysql.internal;
 
+import com.speedment.runtime.config.Dbms;
 import com.speedment.runtime.core.internal.db.AbstractDbmsOperationHandler;
+import com.speedment.runtime.core.internal.db.ConnectionInfo;
+import com.speedment.runtime.core.manager.BulkLoadResult;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 /**
  *
@@ -27,9 +41,135 @@ import java.sql.SQLException;
  */
 public final class MySqlDbmsOperationHandler extends AbstractDbmsOperationHandler {
 
+    private final Map<String, Boolean> bulkLoadSupported = new ConcurrentHashMap<>();
+
     @Override
     public void configureSelect(PreparedStatement statement) throws SQLException {
         statement.setFetchSize(Integer.MIN_VALUE); // Enable streaming ResultSet
     }
 
+    @Override
+    public boolean isBulkLoadSupported() {
+        return true;
+    }
+
+    @Override
+    public boolean isBulkLoadSupported(Dbms dbms) {
+        return bulkLoadSupported.getOrDefault(dbms.getId(), Boolean.TRUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The rows are loaded using {@code LOAD DATA LOCAL INFILE}, reading the
+     * rows from an input stream that renders them as they are consumed by the
+     * driver, so no temporary files are created. Rows that the server skips
+     * or modifies are reported as row errors.
+     * <p>
+     * Local infile must be allowed by both the JDBC driver and the server,
+     * which it is not by default. If the load is refused before any row has
+     * been read, a {@code SQLFeatureNotSupportedException} is thrown and
+     * {@link #isBulkLoadSupported(Dbms)} returns {@code false} for the dbms
+     * from then on, so that rows are persisted one by one instead.
+     */
+    @Override
+    public BulkLoadResult executeBulkLoad(
+        final Dbms dbms,
+        final String sqlTableReference,
+        final List<String> sqlColumnNames,
+        final Stream<Object[]> rows
+    ) throws SQLException {
+        try (final ConnectionInfo connectionInfo = newConnectionInfo(dbms)) {
+            final Connection connection = connectionInfo.connection();
+            final boolean[] binary = binaryColumns(connection, sqlTableReference, sqlColumnNames);
+            final String sql = loadDataStatement(sqlTableReference, sqlColumnNames, binary);
+
+            logOperation(LOGGER_PERSIST, sql, Collections.emptyList());
+
+            connectionInfo.ifNotInTransaction(c -> c.setAutoCommit(false));
+            final MySqlInfile.RowInputStream in = MySqlInfile.inputStream(rows.iterator(), binary);
+            try (final Statement statement = connection.createStatement()) {
+                MySqlLocalInfile.setInputStream(connection, statement, in);
+                final long count = statement.executeUpdate(sql);
+                final List<BulkLoadResult.RowError> rowErrors = MySqlLocalInfile.rowErrors(statement);
+                connectionInfo.ifNotInTransaction(Connection::commit);
+                return BulkLoadResult.of(count, rowErrors);
+            } catch (final SQLException ex) {
+                connectionInfo.ifNotInTransaction(Connection::rollback);
+                if (!in.isStarted() && MySqlLocalInfile.isDisabled(ex)) {
+                    bulkLoadSupported.put(dbms.getId(), Boolean.FALSE);
+                    throw new SQLFeatureNotSupportedException(
+                        "LOAD DATA LOCAL INFILE is not allowed by the JDBC driver or the server.", ex
+                    );
+                }
+                throw ex;
+            } catch (final RuntimeException ex) {
+                connectionInfo.ifNotInTransaction(Connection::rollback);
+                throw ex;
+            } finally {
+                in.close();
+            }
+        } finally {
+            rows.close();
+        }
+    }
+
+    private boolean[] binaryColumns(
+        final Connection connection,
+        final String sqlTableReference,
+        final List<String> sqlColumnNames
+    ) throws SQLException {
+        final String sql = "SELECT " + String.join(",", sqlColumnNames)
+            + " FROM " + sqlTableReference + " WHERE 1 = 0";
+
+        try (final Statement statement = connection.createStatement();
+             final ResultSet rs = statement.executeQuery(sql)) {
+
+            final ResultSetMetaData metaData = rs.getMetaData();
+            final boolean[] binary = new boolean[sqlColumnNames.size()];
+            for (int i = 0; i < binary.length; i++) {
+                switch (metaData.getColumnType(i + 1)) {
+                    case Types.BINARY:
+                    case Types.VARBINARY:
+                    case Types.LONGVARBINARY:
+                    case Types.BLOB:
+                        binary[i] = true;
+                        break;
+                    default:
+                        binary[i] = false;
+                }
+            }
+            return binary;
+        }
+    }
+
+    private String loadDataStatement(
+        final String sqlTableReference,
+        final List<String> sqlColumnNames,
+        final boolean[] binary
+    ) {
+        // Binary values are rendered as hexadecimal strings and decoded using
+        // user variables since the file is read using a character set.
+        final StringBuilder columns = new StringBuilder();
+        final StringBuilder assignments = new StringBuilder();
+        for (int i = 0; i < binary.length; i++) {
+            if (i > 0) {
+                columns.append(',');
+            }
+            if (binary[i]) {
+                final String variable = "@speedment_" + i;
+                columns.append(variable);
+                assignments
+                    .append(assignments.length() == 0 ? " SET " : ",")
+                    .append(sqlColumnNames.get(i))
+                    .append(" = UNHEX(").append(variable).append(')');
+            } else {
+                columns.append(sqlColumnNames.get(i));
+            }
+        }
+
+        return "LOAD DATA LOCAL INFILE 'speedment' INTO TABLE " + sqlTableReference
+            + " CHARACTER SET utf8mb4 (" + columns + ")" + assignments;
+    }
+
 }
@@ -19,6 +19,7 @@ package com.speedment.runtime.connector.mysql.internal;
 import com.speedment.common.injector.annotation.Inject;
 import com.speedment.runtime.config.Column;
 import com.speedment.runtime.config.Dbms;
+import com.speedment.runtime.core.component.statistics.TableStatisticsReader;
 import com.speedment.runtime.core.db.*;
 import com.speedment.runtime.core.internal.db.AbstractDatabaseNamingConvention;
 import com.speedment.runtime.core.internal.db.AbstractDbmsType;
@@ -45,6 +46,7 @@ public final class MySqlDbmsType extends AbstractDbmsType {
 
     private final MySqlNamingConvention namingConvention;
     private final MySqlConnectionUrlGenerator connectionUrlGenerator;
+    private final TableStatisticsReader statisticsReader;
 
     @Inject private MySqlDbmsMetadataHandler metadataHandler;
     @Inject private MySqlDbmsOperationHandler operationHandler;
@@ -53,6 +55,7 @@ public final class MySqlDbmsType extends AbstractDbmsType {
     private MySqlDbmsType() {
         namingConvention = new MySqlNamingConvention();
         connectionUrlGenerator = new MySqlConnectionUrlGenerator();
+        statisticsReader = new MySqlTableStatisticsReader(super.getTableStatisticsReader());
     }
 
     @Override
@@ -106,6 +109,11 @@ public final class MySqlDbmsType extends AbstractDbmsType {
         return operationHandler;
     }
 
+    @Override
+    public TableStatisticsReader getTableStatisticsReader() {
+        return statisticsReader;
+    }
+
     @Override
     public ConnectionUrlGenerator getConnectionUrlGenerator() {
         return connectionUrlGenerator;
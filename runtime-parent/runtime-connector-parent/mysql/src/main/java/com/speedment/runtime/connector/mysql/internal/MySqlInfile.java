@@ -0,0 +1,221 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.connector.mysql.internal;
+
+import com.speedment.runtime.core.exception.SpeedmentException;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.util.Iterator;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Renders rows in the default format of {@code LOAD DATA INFILE}. Values are
+ * separated by a tab and rows by a new line. Special characters are escaped
+ * with a backslash and {@code NULL} is written as {@code \N}. Values of binary
+ * columns are written as hexadecimal strings and are expected to be decoded
+ * using {@code UNHEX} in the statement.
+ *
+ * @since   3.1.5
+ */
+final class MySqlInfile {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * Returns an input stream that renders the specified rows lazily as they
+     * are read. The rendered text is encoded in UTF-8.
+     *
+     * @param rows    the values of each row in database types
+     * @param binary  for each column, if it is a binary column
+     * @return        the input stream
+     */
+    static RowInputStream inputStream(Iterator<Object[]> rows, boolean[] binary) {
+        return new RowInputStream(rows, binary);
+    }
+
+    /**
+     * Appends the specified row, terminated by a new line.
+     *
+     * @param str     the builder to append to
+     * @param row     the values of the row in database types
+     * @param binary  for each column, if it is a binary column
+     */
+    static void appendRow(StringBuilder str, Object[] row, boolean[] binary) {
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) {
+                str.append('\t');
+            }
+
+            final Object value = row[i];
+            if (value == null) {
+                str.append("\\N");
+            } else if (i < binary.length && binary[i]) {
+                appendHex(str, bytes(value));
+            } else {
+                appendEscaped(str, text(value));
+            }
+        }
+        str.append('\n');
+    }
+
+    private static void appendEscaped(StringBuilder str, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            switch (c) {
+                case '\\' : str.append("\\\\"); break;
+                case '\t' : str.append("\\t");  break;
+                case '\n' : str.append("\\n");  break;
+                case '\r' : str.append("\\r");  break;
+                case '\0' : str.append("\\0");  break;
+                default   : str.append(c);
+            }
+        }
+    }
+
+    private static void appendHex(StringBuilder str, byte[] bytes) {
+        for (final byte b : bytes) {
+            str.append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+        }
+    }
+
+    private static String text(Object value) {
+        try {
+            if (value instanceof Boolean) {
+                return (Boolean) value ? "1" : "0";
+            } else if (value instanceof BigDecimal) {
+                return ((BigDecimal) value).toPlainString();
+            } else if (value instanceof byte[]) {
+                return new String((byte[]) value, StandardCharsets.UTF_8);
+            } else if (value instanceof Blob) {
+                return new String(bytes(value), StandardCharsets.UTF_8);
+            } else if (value instanceof Clob) {
+                final Clob clob = (Clob) value;
+                return clob.getSubString(1, (int) clob.length());
+            } else {
+                return value.toString();
+            }
+        } catch (final SQLException ex) {
+            throw new SpeedmentException(ex);
+        }
+    }
+
+    private static byte[] bytes(Object value) {
+        try {
+            if (value instanceof byte[]) {
+                return (byte[]) value;
+            } else if (value instanceof Blob) {
+                final Blob blob = (Blob) value;
+                return blob.getBytes(1, (int) blob.length());
+            } else {
+                return text(value).getBytes(StandardCharsets.UTF_8);
+            }
+        } catch (final SQLException ex) {
+            throw new SpeedmentException(ex);
+        }
+    }
+
+    /**
+     * An input stream that renders rows as they are read. Rows are rendered
+     * in batches of about {@link #BATCH_SIZE} characters.
+     */
+    static final class RowInputStream extends InputStream {
+
+        private static final int BATCH_SIZE = 1 << 14;
+        private static final byte[] EMPTY = new byte[0];
+
+        private final Iterator<Object[]> rows;
+        private final boolean[] binary;
+        private final StringBuilder buffer;
+        private byte[] batch;
+        private int position;
+        private boolean started;
+
+        private RowInputStream(Iterator<Object[]> rows, boolean[] binary) {
+            this.rows   = requireNonNull(rows);
+            this.binary = requireNonNull(binary);
+            this.buffer = new StringBuilder(BATCH_SIZE + 256);
+            this.batch  = EMPTY;
+        }
+
+        @Override
+        public int read() {
+            if (!fill()) {
+                return -1;
+            }
+            return batch[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            } else if (!fill()) {
+                return -1;
+            }
+
+            final int count = Math.min(len, batch.length - position);
+            System.arraycopy(batch, position, b, off, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return batch.length - position;
+        }
+
+        /**
+         * Returns if any row has been requested by this stream.
+         *
+         * @return  if any row has been requested
+         */
+        boolean isStarted() {
+            return started;
+        }
+
+        @Override
+        public void close() {
+            buffer.setLength(0);
+            batch    = EMPTY;
+            position = 0;
+        }
+
+        private boolean fill() {
+            if (position < batch.length) {
+                return true;
+            }
+
+            started = true;
+            buffer.setLength(0);
+            while (buffer.length() < BATCH_SIZE && rows.hasNext()) {
+                appendRow(buffer, rows.next(), binary);
+            }
+
+            batch    = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            position = 0;
+            return batch.length > 0;
+        }
+    }
+
+    private MySqlInfile() {}
+}
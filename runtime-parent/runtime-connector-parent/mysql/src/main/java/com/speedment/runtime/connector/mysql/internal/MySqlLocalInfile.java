@@ -0,0 +1,189 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.connector.mysql.internal;
+
+import com.speedment.runtime.core.manager.BulkLoadResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Access to the hook of the MySQL and MariaDB JDBC drivers that lets a
+ * {@code LOAD DATA LOCAL INFILE} statement read its data from an
+ * {@link InputStream} instead of a file. The drivers are not compile time
+ * dependencies of the connector, so the hook is invoked using reflection on
+ * the classes of the driver that created the connection.
+ * <p>
+ * The driver must be configured to allow local infile, for example using
+ * {@code allowLoadLocalInfile=true} (MySQL) or {@code allowLocalInfile=true}
+ * (MariaDB), and so must the server using {@code local_infile}.
+ *
+ * @since   3.1.5
+ */
+final class MySqlLocalInfile {
+
+    private static final String[] STATEMENT_TYPES = {
+        "com.mysql.cj.jdbc.JdbcStatement",
+        "com.mysql.jdbc.Statement",
+        "org.mariadb.jdbc.MariaDbStatement"
+    };
+
+    private static final String SET_INPUT_STREAM = "setLocalInfileInputStream";
+
+    private static final Pattern ROW = Pattern.compile("\\b[Rr]ow (\\d+)");
+
+    private static final int ER_NOT_ALLOWED_COMMAND = 1148;
+    private static final int ER_CLIENT_LOCAL_FILES_DISABLED = 3948;
+
+    /**
+     * Sets the input stream that the next {@code LOAD DATA LOCAL INFILE}
+     * statement executed by the specified statement reads from.
+     *
+     * @param connection  the connection that created the statement
+     * @param statement   the statement
+     * @param in          the data in the format given by the statement
+     *
+     * @throws SQLException  if the driver does not support it
+     */
+    static void setInputStream(Connection connection, Statement statement, InputStream in) throws SQLException {
+        // The pool wraps the connection of the driver
+        final ClassLoader classLoader = connection.unwrap(Connection.class)
+            .getClass().getClassLoader();
+
+        for (final String typeName : STATEMENT_TYPES) {
+            final Class<?> type;
+            try {
+                type = Class.forName(typeName, false, classLoader);
+            } catch (final ClassNotFoundException ex) {
+                continue;
+            }
+
+            final Object driverStatement;
+            if (type.isInstance(statement)) {
+                driverStatement = statement;
+            } else if (statement.isWrapperFor(type)) {
+                driverStatement = statement.unwrap(type);
+            } else {
+                continue;
+            }
+
+            try {
+                final Method method = type.getMethod(SET_INPUT_STREAM, InputStream.class);
+                invoke(method, driverStatement, in);
+                return;
+            } catch (final NoSuchMethodException ex) {
+                throw notSupported(ex);
+            }
+        }
+
+        throw notSupported(null);
+    }
+
+    /**
+     * Returns the problems with individual rows that the server reported as
+     * warnings of the specified statement. Note that the number of warnings
+     * kept by the server is limited by {@code max_error_count}.
+     *
+     * @param statement  the statement that executed the load
+     * @return           the problems reported for individual rows
+     *
+     * @throws SQLException  if the warnings could not be read
+     */
+    static List<BulkLoadResult.RowError> rowErrors(Statement statement) throws SQLException {
+        final List<BulkLoadResult.RowError> errors = new ArrayList<>();
+        for (SQLWarning warning = statement.getWarnings();
+             warning != null;
+             warning = warning.getNextWarning()) {
+
+            final String message = warning.getMessage();
+            final Matcher matcher = ROW.matcher(message == null ? "" : message);
+            final long row = matcher.find() ? Long.parseLong(matcher.group(1)) : 0;
+            errors.add(BulkLoadResult.RowError.of(row, message));
+        }
+        return errors;
+    }
+
+    /**
+     * Returns if the specified exception means that local infile is disabled,
+     * either by the JDBC driver or by the server, or that the driver does not
+     * support reading the data from an input stream.
+     *
+     * @param ex  the exception thrown by the load
+     * @return    if local infile is disabled
+     */
+    static boolean isDisabled(SQLException ex) {
+        if (ex instanceof SQLFeatureNotSupportedException) {
+            return true;
+        }
+
+        switch (ex.getErrorCode()) {
+            case ER_NOT_ALLOWED_COMMAND :
+            case ER_CLIENT_LOCAL_FILES_DISABLED : return true;
+            default : break;
+        }
+
+        // The drivers refuse local infile using exceptions without an error
+        // code, for example when allowLoadLocalInfile is false
+        final String message = ex.getMessage() == null
+            ? "" : ex.getMessage().toLowerCase(Locale.ROOT);
+
+        return message.contains("local") && (
+            message.contains("disabled")
+            || message.contains("not allowed")
+            || message.contains("forbidden")
+        );
+    }
+
+    private static void invoke(Method method, Object instance, Object... args) throws SQLException {
+        try {
+            method.invoke(instance, args);
+        } catch (final InvocationTargetException ex) {
+            final Throwable cause = ex.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof IOException) {
+                throw new SQLException("Error while loading data: " + cause.getMessage(), cause);
+            } else {
+                throw new SQLException(cause);
+            }
+        } catch (final IllegalAccessException ex) {
+            throw notSupported(ex);
+        }
+    }
+
+    private static SQLException notSupported(Exception ex) {
+        return new SQLFeatureNotSupportedException(
+            "The local infile input stream of the JDBC driver is not available.", ex
+        );
+    }
+
+    private MySqlLocalInfile() {}
+}
@@ -0,0 +1,132 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.connector.mysql.internal;
+
+import com.speedment.runtime.config.Column;
+import com.speedment.runtime.config.Table;
+import com.speedment.runtime.config.trait.HasEnabled;
+import com.speedment.runtime.core.component.statistics.ColumnStatistics;
+import com.speedment.runtime.core.component.statistics.TableStatistics;
+import com.speedment.runtime.core.component.statistics.TableStatisticsReader;
+import com.speedment.runtime.core.db.DbmsType;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+
+import static com.speedment.runtime.core.internal.component.statistics.TableStatisticsUtil.leadingIndexColumns;
+import static com.speedment.runtime.core.internal.component.statistics.TableStatisticsUtil.readRanges;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A {@link TableStatisticsReader} for MySQL and MariaDB that reads the
+ * estimated row count and index cardinalities from
+ * {@code information_schema}. The range of each indexed column is read
+ * using {@code MIN} and {@code MAX}, which the database resolves from the
+ * index. Tables that the catalog has no row count for, such as views, are
+ * read using the fallback reader.
+ *
+ * @since   3.1.5
+ */
+public final class MySqlTableStatisticsReader implements TableStatisticsReader {
+
+    private static final String TABLE_ROWS =
+        "SELECT TABLE_ROWS FROM information_schema.TABLES " +
+        "WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?";
+
+    private static final String CARDINALITY =
+        "SELECT COLUMN_NAME, MAX(CARDINALITY) FROM information_schema.STATISTICS " +
+        "WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ? AND SEQ_IN_INDEX = 1 " +
+        "GROUP BY COLUMN_NAME";
+
+    private final TableStatisticsReader fallback;
+
+    public MySqlTableStatisticsReader(TableStatisticsReader fallback) {
+        this.fallback = requireNonNull(fallback);
+    }
+
+    @Override
+    public TableStatistics read(Connection connection, DbmsType dbmsType, Table table)
+    throws SQLException {
+        final String schemaName = table.getParentOrThrow().getName();
+        long rowCount = -1;
+
+        try (PreparedStatement ps = connection.prepareStatement(TABLE_ROWS)) {
+            ps.setString(1, schemaName);
+            ps.setString(2, table.getName());
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    rowCount = rs.getLong(1);
+                    if (rs.wasNull()) {
+                        rowCount = -1;
+                    }
+                }
+            }
+        }
+
+        if (rowCount < 0) {
+            return fallback.read(connection, dbmsType, table);
+        }
+
+        final Map<String, Long> cardinalities = new HashMap<>();
+        try (PreparedStatement ps = connection.prepareStatement(CARDINALITY)) {
+            ps.setString(1, schemaName);
+            ps.setString(2, table.getName());
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    final long cardinality = rs.getLong(2);
+                    if (!rs.wasNull()) {
+                        cardinalities.put(rs.getString(1), cardinality);
+                    }
+                }
+            }
+        }
+
+        final Map<String, Object[]> ranges = readRanges(
+            connection, dbmsType, table, leadingIndexColumns(table)
+        );
+
+        final List<ColumnStatistics> columns = new ArrayList<>();
+        for (final Column column : table.columns()
+                .filter(HasEnabled::test)
+                .collect(toList())) {
+
+            final Long cardinality = cardinalities.get(column.getName());
+            final Object[] range   = ranges.get(column.getName());
+            if (cardinality == null && range == null) {
+                continue;
+            }
+
+            columns.add(ColumnStatistics.of(column.getName(),
+                cardinality == null ? OptionalLong.empty() : OptionalLong.of(cardinality),
+                OptionalDouble.empty(),
+                range == null ? null : range[0],
+                range == null ? null : range[1]
+            ));
+        }
+
+        return TableStatistics.of(rowCount, columns);
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.connector.mysql.internal;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @since 3.1.5
+ */
+public class MySqlInfileTest {
+
+    private static final boolean[] TEXT = {false, false, false};
+
+    @Test
+    public void testAppendRowSeparatesValuesWithTabs() {
+        final StringBuilder str = new StringBuilder();
+        MySqlInfile.appendRow(str, new Object[] {1, "Harry", null}, TEXT);
+        assertEquals("1\tHarry\t\\N\n", str.toString());
+    }
+
+    @Test
+    public void testAppendRowEscapesSpecialCharacters() {
+        final StringBuilder str = new StringBuilder();
+        MySqlInfile.appendRow(str, new Object[] {"a\\b", "tab\there", "new\nline\r", "nul\0"}, new boolean[4]);
+        assertEquals("a\\\\b\ttab\\there\tnew\\nline\\r\tnul\\0\n", str.toString());
+    }
+
+    @Test
+    public void testAppendRowDistinguishesNullFromText() {
+        final StringBuilder str = new StringBuilder();
+        MySqlInfile.appendRow(str, new Object[] {"", "\\N", null}, TEXT);
+        assertEquals("\t\\\\N\t\\N\n", str.toString());
+    }
+
+    @Test
+    public void testAppendRowRendersNumbersAndBooleans() {
+        final StringBuilder str = new StringBuilder();
+        MySqlInfile.appendRow(str, new Object[] {true, false, new BigDecimal("1E+3")}, TEXT);
+        assertEquals("1\t0\t1000\n", str.toString());
+    }
+
+    @Test
+    public void testAppendRowRendersBinaryColumnsAsHex() {
+        final StringBuilder str = new StringBuilder();
+        MySqlInfile.appendRow(str,
+            new Object[] {new byte[] {0x00, 0x0a, (byte) 0xff}, new byte[0], null},
+            new boolean[] {true, true, true}
+        );
+        assertEquals("000aff\t\t\\N\n", str.toString());
+    }
+
+    @Test
+    public void testAppendRowRendersTextOfBinaryValuesInTextColumns() {
+        final StringBuilder str = new StringBuilder();
+        MySqlInfile.appendRow(str, new Object[] {"hare".getBytes(StandardCharsets.UTF_8)}, new boolean[1]);
+        assertEquals("hare\n", str.toString());
+    }
+
+    @Test
+    public void testInputStreamRendersAllRowsInUtf8() throws IOException {
+        final List<Object[]> rows = Arrays.asList(
+            new Object[] {1, "\u00c5sa"},
+            new Object[] {2, null}
+        );
+
+        final MySqlInfile.RowInputStream in = MySqlInfile.inputStream(rows.iterator(), TEXT);
+        assertFalse(in.isStarted());
+        assertEquals("1\t\u00c5sa\n2\t\\N\n", readAll(in));
+        assertTrue(in.isStarted());
+    }
+
+    @Test
+    public void testInputStreamOfNoRows() throws IOException {
+        final Iterator<Object[]> rows = Collections.emptyIterator();
+        final InputStream in = MySqlInfile.inputStream(rows, TEXT);
+        assertEquals(-1, in.read());
+        assertEquals(-1, in.read(new byte[1], 0, 1));
+    }
+
+    private static String readAll(InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[3];
+        int read;
+        while ((read = in.read(buffer, 0, buffer.length)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
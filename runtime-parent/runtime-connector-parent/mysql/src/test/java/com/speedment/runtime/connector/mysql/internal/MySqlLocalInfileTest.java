@@ -0,0 +1,74 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.connector.mysql.internal;
+
+import com.speedment.runtime.core.manager.BulkLoadResult;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ *
+ * @since 3.1.5
+ */
+public class MySqlLocalInfileTest {
+
+    @Test
+    public void testIsDisabled() {
+        assertTrue(MySqlLocalInfile.isDisabled(new SQLFeatureNotSupportedException()));
+        assertTrue(MySqlLocalInfile.isDisabled(new SQLException(
+            "The used command is not allowed with this MySQL version", "42000", 1148
+        )));
+        assertTrue(MySqlLocalInfile.isDisabled(new SQLException(
+            "Loading local data is disabled; this must be enabled on both the client and server sides", "42000", 3948
+        )));
+        assertTrue(MySqlLocalInfile.isDisabled(new SQLException(
+            "Server asked for stream in response to LOAD DATA LOCAL INFILE but functionality is disabled at client by 'allowLoadLocalInfile' being set to 'false'."
+        )));
+    }
+
+    @Test
+    public void testIsNotDisabled() {
+        assertFalse(MySqlLocalInfile.isDisabled(new SQLException(
+            "Table 'hares.hare' doesn't exist", "42S02", 1146
+        )));
+        assertFalse(MySqlLocalInfile.isDisabled(new SQLException()));
+    }
+
+    @Test
+    public void testRowErrors() throws SQLException {
+        final SQLWarning warning = new SQLWarning("Data truncated for column 'name' at row 3");
+        warning.setNextWarning(new SQLWarning("Something else"));
+
+        final Statement statement = mock(Statement.class);
+        when(statement.getWarnings()).thenReturn(warning);
+
+        final List<BulkLoadResult.RowError> errors = MySqlLocalInfile.rowErrors(statement);
+        assertEquals(2, errors.size());
+        assertEquals(3, errors.get(0).getRow());
+        assertEquals(0, errors.get(1).getRow());
+        assertEquals("Something else", errors.get(1).getMessage());
+    }
+}
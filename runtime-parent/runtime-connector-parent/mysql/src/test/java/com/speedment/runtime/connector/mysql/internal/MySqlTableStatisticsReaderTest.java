@@ -0,0 +1,172 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.connector.mysql.internal;
+
+import com.speedment.runtime.config.Column;
+import com.speedment.runtime.config.PrimaryKeyColumn;
+import com.speedment.runtime.config.Schema;
+import com.speedment.runtime.config.Table;
+import com.speedment.runtime.config.internal.ProjectImpl;
+import com.speedment.runtime.core.component.statistics.ColumnStatistics;
+import com.speedment.runtime.core.component.statistics.TableStatistics;
+import com.speedment.runtime.core.component.statistics.TableStatisticsReader;
+import com.speedment.runtime.core.db.DatabaseNamingConvention;
+import com.speedment.runtime.core.db.DbmsType;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.HashMap;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ *
+ * @since 3.1.5
+ */
+public class MySqlTableStatisticsReaderTest {
+
+    private static final TableStatistics FALLBACK =
+        TableStatistics.of(42, Collections.emptyList());
+
+    private Table table;
+    private DbmsType dbmsType;
+    private Connection connection;
+    private PreparedStatement tableRows;
+    private PreparedStatement cardinality;
+    private TableStatisticsReader reader;
+
+    @Before
+    public void setUp() throws Exception {
+        final Schema schema = new ProjectImpl(new HashMap<>()).mutator()
+            .addNewDbms().mutator().addNewSchema();
+        schema.mutator().setName("hares");
+        table = schema.mutator().addNewTable();
+        table.mutator().setName("hare");
+
+        final Column id = table.mutator().addNewColumn();
+        id.mutator().setName("id");
+        final Column name = table.mutator().addNewColumn();
+        name.mutator().setName("name");
+        final Column color = table.mutator().addNewColumn();
+        color.mutator().setName("color");
+        final PrimaryKeyColumn pk = table.mutator().addNewPrimaryKeyColumn();
+        pk.mutator().setName("id");
+
+        final DatabaseNamingConvention naming = mock(DatabaseNamingConvention.class);
+        when(naming.fullNameOf(table)).thenReturn("`hares`.`hare`");
+        when(naming.encloseField(anyString())).thenAnswer(i -> "`" + i.getArgument(0) + "`");
+        dbmsType = mock(DbmsType.class);
+        when(dbmsType.getDatabaseNamingConvention()).thenReturn(naming);
+
+        final Statement ranges = mock(Statement.class);
+        when(ranges.executeQuery("SELECT MIN(`id`), MAX(`id`) FROM `hares`.`hare`"))
+            .thenAnswer(i -> resultSet(new Object[] {1L, 1000L}));
+
+        tableRows = mock(PreparedStatement.class);
+        cardinality = mock(PreparedStatement.class);
+        connection = mock(Connection.class);
+        when(connection.prepareStatement(contains("TABLE_ROWS"))).thenReturn(tableRows);
+        when(connection.prepareStatement(contains("CARDINALITY"))).thenReturn(cardinality);
+        when(connection.createStatement()).thenReturn(ranges);
+
+        reader = new MySqlTableStatisticsReader((c, type, tbl) -> FALLBACK);
+    }
+
+    @Test
+    public void testTableWithIndexes() throws Exception {
+        when(tableRows.executeQuery()).thenAnswer(i -> resultSet(new Object[] {1000L}));
+        when(cardinality.executeQuery()).thenAnswer(i -> resultSet(
+            new Object[] {"id", 998L},
+            new Object[] {"name", 120L},
+            new Object[] {"color", null}
+        ));
+
+        final TableStatistics stats = reader.read(connection, dbmsType, table);
+        verify(tableRows).setString(1, "hares");
+        verify(tableRows).setString(2, "hare");
+        assertEquals(1000, stats.getRowCount());
+
+        final ColumnStatistics id = stats.getColumn("id").get();
+        assertEquals(998, id.getDistinctCount().getAsLong());
+        assertFalse(id.getNullFraction().isPresent());
+        assertEquals(1L, id.getMin().get());
+        assertEquals(1000L, id.getMax().get());
+
+        final ColumnStatistics name = stats.getColumn("name").get();
+        assertEquals(120, name.getDistinctCount().getAsLong());
+        assertFalse(name.getMin().isPresent());
+
+        // An index without a cardinality gives no statistics
+        assertFalse(stats.getColumn("color").isPresent());
+    }
+
+    @Test
+    public void testEmptyTable() throws Exception {
+        when(tableRows.executeQuery()).thenAnswer(i -> resultSet(new Object[] {0L}));
+        when(cardinality.executeQuery()).thenAnswer(i -> resultSet());
+
+        final TableStatistics stats = reader.read(connection, dbmsType, table);
+        assertNotSame(FALLBACK, stats);
+        assertEquals(0, stats.getRowCount());
+    }
+
+    @Test
+    public void testViewUsesFallback() throws Exception {
+        // Views have a TABLE_ROWS of NULL
+        when(tableRows.executeQuery()).thenAnswer(i -> resultSet(new Object[] {null}));
+        assertSame(FALLBACK, reader.read(connection, dbmsType, table));
+    }
+
+    @Test
+    public void testMissingTableUsesFallback() throws Exception {
+        when(tableRows.executeQuery()).thenAnswer(i -> resultSet());
+        assertSame(FALLBACK, reader.read(connection, dbmsType, table));
+    }
+
+    private static ResultSet resultSet(Object[]... rows) {
+        final int[] row = {-1};
+        final Object[] last = {null};
+        return (ResultSet) Proxy.newProxyInstance(
+            MySqlTableStatisticsReaderTest.class.getClassLoader(),
+            new Class<?>[] {ResultSet.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "next"      : return ++row[0] < rows.length;
+                    case "getString" :
+                    case "getObject" : return last[0] = rows[row[0]][(Integer) args[0] - 1];
+                    case "getLong"   :
+                        last[0] = rows[row[0]][(Integer) args[0] - 1];
+                        return last[0] == null ? 0L : last[0];
+                    case "wasNull"   : return last[0] == null;
+                    case "close"     : return null;
+                    default : throw new UnsupportedOperationException(method.getName());
+                }
+            }
+        );
+    }
+}
@@ -0,0 +1,52 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.connector.postgres;
+
+import com.speedment.runtime.connector.postgres.internal.PostgresLogicalDecodingReader;
+import com.speedment.runtime.core.component.changefeed.ChangeFeedReader;
+
+/**
+ * Factory methods for {@link ChangeFeedReader ChangeFeedReaders} that read
+ * changes from PostgreSQL.
+ *
+ * @since   3.1.5
+ */
+public final class PostgresChangeFeeds {
+
+    /**
+     * Returns a reader that reads changes from the specified logical
+     * replication slot. The slot must use the {@code test_decoding} plugin:
+     * <pre>{@code
+     *     SELECT pg_create_logical_replication_slot('speedment', 'test_decoding');
+     * }</pre>
+     * Changes remain in the slot until they are acknowledged, which requires
+     * PostgreSQL 11 or later. Since the slot is shared by all tables of the
+     * database, a position should only be acknowledged once the changes of
+     * every table read from the slot have been applied up to it.
+     * <p>
+     * Deleted rows only contain the columns of the replica identity of the
+     * table, by default the primary key.
+     *
+     * @param slotName  the name of the replication slot
+     * @return          the reader
+     */
+    public static ChangeFeedReader logicalDecoding(String slotName) {
+        return new PostgresLogicalDecodingReader(slotName);
+    }
+
+    private PostgresChangeFeeds() {}
+}
@@ -0,0 +1,180 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.connector.postgres.internal;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+/**
+ * Access to the copy API of the PostgreSQL JDBC driver. The driver is not a
+ * compile time dependency of the connector, so the API is invoked using
+ * reflection on the classes of the driver that created the connection.
+ *
+ * @since   3.1.5
+ */
+final class PostgresCopy {
+
+    private static final String
+        PG_CONNECTION  = "org.postgresql.PGConnection",
+        COPY_MANAGER   = "org.postgresql.copy.CopyManager",
+        COPY_OPERATION = "org.postgresql.copy.CopyOperation",
+        COPY_OUT       = "org.postgresql.copy.CopyOut";
+
+    /**
+     * Executes a {@code COPY ... FROM STDIN} statement, reading the data
+     * from the specified reader.
+     *
+     * @param connection  the connection to use
+     * @param sql         the copy statement
+     * @param reader      the data in the format given by the statement
+     * @return            the number of copied rows
+     *
+     * @throws SQLException  if the copy failed
+     */
+    static long copyIn(Connection connection, String sql, Reader reader) throws SQLException {
+        final Object copyManager = copyManager(connection);
+        final Method copyIn = method(copyManager, COPY_MANAGER, "copyIn", String.class, Reader.class);
+        return (Long) invoke(copyIn, copyManager, sql, reader);
+    }
+
+    /**
+     * Starts a {@code COPY ... TO STDOUT} statement. The rows are then pulled
+     * from the returned source one at a time.
+     *
+     * @param connection  the connection to use
+     * @param sql         the copy statement
+     * @return            the source of the data
+     *
+     * @throws SQLException  if the copy could not be started
+     */
+    static Source copyOut(Connection connection, String sql) throws SQLException {
+        final Object copyManager = copyManager(connection);
+        final Method copyOut = method(copyManager, COPY_MANAGER, "copyOut", String.class);
+        final Object operation = invoke(copyOut, copyManager, sql);
+        return new Source(
+            operation,
+            method(operation, COPY_OUT, "readFromCopy"),
+            method(operation, COPY_OPERATION, "isActive"),
+            method(operation, COPY_OPERATION, "cancelCopy")
+        );
+    }
+
+    /**
+     * An active {@code COPY ... TO STDOUT} operation.
+     */
+    static final class Source {
+
+        private final Object operation;
+        private final Method readFromCopy;
+        private final Method isActive;
+        private final Method cancelCopy;
+
+        private Source(Object operation, Method readFromCopy, Method isActive, Method cancelCopy) {
+            this.operation    = operation;
+            this.readFromCopy = readFromCopy;
+            this.isActive     = isActive;
+            this.cancelCopy   = cancelCopy;
+        }
+
+        /**
+         * Reads the next chunk of data, which is normally a single row.
+         *
+         * @return  the data, or {@code null} if the copy is complete
+         *
+         * @throws SQLException  if the data could not be read
+         */
+        byte[] read() throws SQLException {
+            return (byte[]) invoke(readFromCopy, operation);
+        }
+
+        /**
+         * Cancels the operation if it is still active.
+         *
+         * @throws SQLException  if the operation could not be cancelled
+         */
+        void cancel() throws SQLException {
+            if ((Boolean) invoke(isActive, operation)) {
+                invoke(cancelCopy, operation);
+            }
+        }
+    }
+
+    private static Object copyManager(Connection connection) throws SQLException {
+        // The pool wraps the connection of the driver
+        final Connection unwrapped = connection.unwrap(Connection.class);
+        final Class<?> pgConnection = driverClass(unwrapped, PG_CONNECTION);
+        final Object pg = pgConnection.isInstance(unwrapped)
+            ? unwrapped
+            : connection.unwrap(pgConnection);
+
+        try {
+            return invoke(pgConnection.getMethod("getCopyAPI"), pg);
+        } catch (final NoSuchMethodException ex) {
+            throw notSupported(ex);
+        }
+    }
+
+    private static Method method(Object instance, String className, String name, Class<?>... parameterTypes) throws SQLException {
+        // The methods are looked up in the public types of the driver since
+        // the implementing classes might not be accessible.
+        try {
+            return driverClass(instance, className).getMethod(name, parameterTypes);
+        } catch (final NoSuchMethodException ex) {
+            throw notSupported(ex);
+        }
+    }
+
+    private static Class<?> driverClass(Object instance, String className) throws SQLException {
+        try {
+            return Class.forName(className, false, instance.getClass().getClassLoader());
+        } catch (final ClassNotFoundException ex) {
+            throw notSupported(ex);
+        }
+    }
+
+    private static Object invoke(Method method, Object instance, Object... args) throws SQLException {
+        try {
+            return method.invoke(instance, args);
+        } catch (final InvocationTargetException ex) {
+            final Throwable cause = ex.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof IOException) {
+                throw new SQLException("Error while copying data: " + cause.getMessage(), cause);
+            } else {
+                throw new SQLException(cause);
+            }
+        } catch (final IllegalAccessException ex) {
+            throw notSupported(ex);
+        }
+    }
+
+    private static SQLException notSupported(Exception ex) {
+        return new SQLFeatureNotSupportedException(
+            "The copy API of the PostgreSQL JDBC driver is not available.", ex
+        );
+    }
+
+    private PostgresCopy() {}
+}
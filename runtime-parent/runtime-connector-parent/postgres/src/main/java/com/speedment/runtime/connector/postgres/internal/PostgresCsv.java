@@ -0,0 +1,242 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.connector.postgres.internal;
+
+import com.speedment.runtime.core.exception.SpeedmentException;
+
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Renders and parses rows in the CSV format used by {@code COPY} with
+ * {@code FORMAT csv}. Values are separated by a comma and quoted with double
+ * quotes. An unquoted empty value is {@code NULL}, while a quoted empty value
+ * is the empty string.
+ *
+ * @since   3.1.5
+ */
+final class PostgresCsv {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * Returns a reader that renders the specified rows lazily as they are
+     * read.
+     *
+     * @param rows  the values of each row in database types
+     * @return      the reader
+     */
+    static RowReader reader(Iterator<Object[]> rows) {
+        return new RowReader(rows);
+    }
+
+    /**
+     * Appends the specified row, terminated by a new line. Every value that
+     * is not {@code null} is quoted so that it never has to be inspected.
+     *
+     * @param str  the builder to append to
+     * @param row  the values of the row in database types
+     */
+    static void appendRow(StringBuilder str, Object[] row) {
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) {
+                str.append(',');
+            }
+
+            final Object value = row[i];
+            if (value != null) {
+                final String text = text(value);
+                str.append('"');
+                for (int j = 0; j < text.length(); j++) {
+                    final char c = text.charAt(j);
+                    if (c == '"') {
+                        str.append('"');
+                    }
+                    str.append(c);
+                }
+                str.append('"');
+            }
+        }
+        str.append('\n');
+    }
+
+    /**
+     * Parses a single row, with or without a terminating new line.
+     *
+     * @param line  the row
+     * @return      the values of the row as strings, with {@code null} for
+     *              {@code NULL}
+     */
+    static Object[] parseRow(CharSequence line) {
+        int end = line.length();
+        if (end > 0 && line.charAt(end - 1) == '\n') {
+            end--;
+        }
+
+        final List<Object> values = new ArrayList<>();
+        final StringBuilder value = new StringBuilder();
+        int i = 0;
+        while (true) {
+            if (i < end && line.charAt(i) == '"') {
+                value.setLength(0);
+                i++;
+                while (i < end) {
+                    final char c = line.charAt(i++);
+                    if (c == '"') {
+                        if (i < end && line.charAt(i) == '"') {
+                            value.append('"');
+                            i++;
+                        } else {
+                            break;
+                        }
+                    } else {
+                        value.append(c);
+                    }
+                }
+                values.add(value.toString());
+            } else {
+                final int start = i;
+                while (i < end && line.charAt(i) != ',') {
+                    i++;
+                }
+                values.add(i == start ? null : line.subSequence(start, i).toString());
+            }
+
+            if (i >= end) {
+                break;
+            }
+
+            i++; // Skip the separator
+            if (i == end) {
+                values.add(null);
+                break;
+            }
+        }
+
+        return values.toArray();
+    }
+
+    /**
+     * Returns {@code true} if the specified text ends with a complete row,
+     * meaning that it ends with a new line that is not quoted.
+     *
+     * @param text  the text
+     * @return      if the text ends with a complete row
+     */
+    static boolean isComplete(CharSequence text) {
+        final int length = text.length();
+        if (length == 0 || text.charAt(length - 1) != '\n') {
+            return false;
+        }
+
+        // Escaped quotes are doubled, so quoted text always has an even
+        // number of quotes once it is closed.
+        int quotes = 0;
+        for (int i = 0; i < length; i++) {
+            if (text.charAt(i) == '"') {
+                quotes++;
+            }
+        }
+        return quotes % 2 == 0;
+    }
+
+    private static String text(Object value) {
+        try {
+            if (value instanceof byte[]) {
+                return hex((byte[]) value);
+            } else if (value instanceof Blob) {
+                final Blob blob = (Blob) value;
+                return hex(blob.getBytes(1, (int) blob.length()));
+            } else if (value instanceof Clob) {
+                final Clob clob = (Clob) value;
+                return clob.getSubString(1, (int) clob.length());
+            } else {
+                return value.toString();
+            }
+        } catch (final SQLException ex) {
+            throw new SpeedmentException(ex);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        // The hexadecimal input format of bytea
+        final char[] chars = new char[2 + 2 * bytes.length];
+        chars[0] = '\\';
+        chars[1] = 'x';
+        for (int i = 0; i < bytes.length; i++) {
+            chars[2 + 2 * i] = HEX[(bytes[i] >> 4) & 0xF];
+            chars[3 + 2 * i] = HEX[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * A reader that renders rows as they are read. Rows are rendered in
+     * batches of about {@link #BATCH_SIZE} characters.
+     */
+    static final class RowReader extends Reader {
+
+        private static final int BATCH_SIZE = 1 << 14;
+
+        private final Iterator<Object[]> rows;
+        private final StringBuilder buffer;
+        private int position;
+
+        private RowReader(Iterator<Object[]> rows) {
+            this.rows   = requireNonNull(rows);
+            this.buffer = new StringBuilder(BATCH_SIZE + 256);
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+
+            if (position == buffer.length()) {
+                buffer.setLength(0);
+                position = 0;
+                while (buffer.length() < BATCH_SIZE && rows.hasNext()) {
+                    appendRow(buffer, rows.next());
+                }
+                if (buffer.length() == 0) {
+                    return -1;
+                }
+            }
+
+            final int count = Math.min(len, buffer.length() - position);
+            buffer.getChars(position, position + count, cbuf, off);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+            buffer.setLength(0);
+            position = 0;
+        }
+    }
+
+    private PostgresCsv() {}
+}
@@ -16,15 +16,27 @@
  */
 package com.speedment.runtime.connector.postgres.internal;
 
+import com.speedment.runtime.config.Dbms;
+import com.speedment.runtime.core.exception.SpeedmentException;
 import com.speedment.runtime.core.internal.db.AbstractDbmsOperationHandler;
+import com.speedment.runtime.core.internal.db.ConnectionInfo;
 import com.speedment.runtime.core.internal.manager.sql.SqlInsertStatement;
+import com.speedment.runtime.core.manager.BulkLoadResult;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  *
@@ -77,5 +89,103 @@ public final class PostgresDbmsOperationHandler extends AbstractDbmsOperationHan
     public void configureSelect(ResultSet resultSet) throws SQLException {
         resultSet.setFetchSize(FETCH_SIZE);
     }
+
+    @Override
+    public boolean isBulkLoadSupported() {
+        return true;
+    }
+
+    @Override
+    public BulkLoadResult executeBulkLoad(
+        final Dbms dbms,
+        final String sqlTableReference,
+        final List<String> sqlColumnNames,
+        final Stream<Object[]> rows
+    ) throws SQLException {
+        final String sql = "COPY " + sqlTableReference
+            + " (" + String.join(",", sqlColumnNames) + ")"
+            + " FROM STDIN WITH (FORMAT csv)";
+
+        logOperation(LOGGER_PERSIST, sql, Collections.emptyList());
+
+        try (final ConnectionInfo connectionInfo = newConnectionInfo(dbms);
+             final PostgresCsv.RowReader reader = PostgresCsv.reader(rows.iterator())) {
+
+            connectionInfo.ifNotInTransaction(c -> c.setAutoCommit(false));
+            try {
+                final long count = PostgresCopy.copyIn(connectionInfo.connection(), sql, reader);
+                connectionInfo.ifNotInTransaction(Connection::commit);
+                return BulkLoadResult.of(count);
+            } catch (final SQLException | RuntimeException ex) {
+                connectionInfo.ifNotInTransaction(Connection::rollback);
+                throw ex;
+            }
+        } finally {
+            rows.close();
+        }
+    }
+
+    @Override
+    public boolean isBulkExportSupported() {
+        return true;
+    }
+
+    @Override
+    public Stream<Object[]> executeBulkExport(Dbms dbms, String sql) {
+        final String copySql = "COPY (" + sql + ") TO STDOUT WITH (FORMAT csv)";
+        final ConnectionInfo connectionInfo = newConnectionInfo(dbms);
+
+        final PostgresCopy.Source source;
+        try {
+            source = PostgresCopy.copyOut(connectionInfo.connection(), copySql);
+        } catch (final SQLException ex) {
+            close(connectionInfo);
+            throw new SpeedmentException(ex);
+        }
+
+        final Spliterator<Object[]> spliterator = new Spliterators.AbstractSpliterator<Object[]>(
+            Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL
+        ) {
+            private final StringBuilder text = new StringBuilder();
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Object[]> action) {
+                // A row is normally received as a single chunk, but a chunk
+                // is only parsed once it ends with a complete row.
+                try {
+                    byte[] data;
+                    while ((data = source.read()) != null) {
+                        text.append(new String(data, StandardCharsets.UTF_8));
+                        if (PostgresCsv.isComplete(text)) {
+                            action.accept(PostgresCsv.parseRow(text));
+                            text.setLength(0);
+                            return true;
+                        }
+                    }
+                } catch (final SQLException ex) {
+                    throw new SpeedmentException(ex);
+                }
+                return false;
+            }
+        };
+
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                source.cancel();
+            } catch (final SQLException ex) {
+                throw new SpeedmentException(ex);
+            } finally {
+                close(connectionInfo);
+            }
+        });
+    }
+
+    private static void close(ConnectionInfo connectionInfo) {
+        try {
+            connectionInfo.close();
+        } catch (final SQLException ex) {
+            throw new SpeedmentException(ex);
+        }
+    }
     
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ package com.speedment.runtime.connector.postgres.internal;
 
 import com.speedment.common.injector.annotation.Inject;
 import com.speedment.runtime.config.Dbms;
+import com.speedment.runtime.core.component.statistics.TableStatisticsReader;
 import com.speedment.runtime.core.db.*;
 import com.speedment.runtime.core.db.metadata.TypeInfoMetaData;
 import com.speedment.runtime.core.internal.db.AbstractDatabaseNamingConvention;
@@ -45,6 +46,7 @@ public final class PostgresDbmsType extends AbstractDbmsType {
 
     private final PostgresNamingConvention namingConvention;
     private final PostgresConnectionUrlGenerator connectionUrlGenerator;
+    private final TableStatisticsReader statisticsReader;
 
     private @Inject
     PostgresDbmsMetadataHandler metadataHandler;
@@ -54,6 +56,7 @@ public final class PostgresDbmsType extends AbstractDbmsType {
     private PostgresDbmsType() {
         namingConvention = new PostgresNamingConvention();
         connectionUrlGenerator = new PostgresConnectionUrlGenerator();
+        statisticsReader = new PostgresTableStatisticsReader(super.getTableStatisticsReader());
     }
 
     @Override
@@ -101,6 +104,11 @@ public final class PostgresDbmsType extends AbstractDbmsType {
         return operationHandler;
     }
 
+    @Override
+    public TableStatisticsReader getTableStatisticsReader() {
+        return statisticsReader;
+    }
+
     @Override
     public ConnectionUrlGenerator getConnectionUrlGenerator() {
         return connectionUrlGenerator;
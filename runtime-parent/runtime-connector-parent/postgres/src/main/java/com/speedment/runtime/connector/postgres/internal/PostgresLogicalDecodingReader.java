@@ -0,0 +1,289 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.connector.postgres.internal;
+
+import com.speedment.runtime.config.Table;
+import com.speedment.runtime.core.component.changefeed.ChangeEvent;
+import com.speedment.runtime.core.component.changefeed.ChangeFeedReader;
+import com.speedment.runtime.core.component.changefeed.ChangeRecord;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link ChangeFeedReader} that reads the changes of a logical replication
+ * slot using the {@code test_decoding} output plugin. Changes are peeked, so
+ * they remain in the slot until they are acknowledged.
+ * <p>
+ * The slot returns transactions in the order they were committed, but the
+ * log sequence numbers of the changes within them follow the order they
+ * were written in, so a transaction that commits later can contain changes
+ * with lower numbers. The position of a change is therefore the log
+ * sequence number of the commit of its transaction, all changes of a
+ * transaction share it, and changes are always read a whole transaction at
+ * a time.
+ *
+ * @since   3.1.5
+ */
+public final class PostgresLogicalDecodingReader implements ChangeFeedReader {
+
+    private static final String COMMIT = "COMMIT";
+
+    private static final String READ_SQL =
+        "SELECT lsn::text, data FROM pg_logical_slot_peek_changes(?, NULL, NULL) "
+        + "WITH ORDINALITY AS c(lsn, xid, data, n) "
+        + "WHERE left(data, ?) = ? OR left(data, 6) = '" + COMMIT + "' "
+        + "ORDER BY n";
+
+    private static final String ACKNOWLEDGE_SQL =
+        "SELECT pg_replication_slot_advance(?, ?::pg_lsn)";
+
+    private static final String UNCHANGED_TOAST = "unchanged-toast-datum",
+                                NO_TUPLE        = "(no-tuple data)",
+                                OLD_KEY         = "old-key:",
+                                NEW_TUPLE       = "new-tuple:";
+
+    private final String slotName;
+
+    public PostgresLogicalDecodingReader(String slotName) {
+        this.slotName = requireNonNull(slotName);
+    }
+
+    @Override
+    public long read(
+            Connection connection,
+            Table table,
+            long after,
+            int maxRecords,
+            Consumer<ChangeRecord> consumer) throws SQLException {
+
+        final String prefix = "table "
+            + quoteIdentifier(table.getParentOrThrow().getName()) + "."
+            + quoteIdentifier(table.getName()) + ": ";
+
+        long position = after;
+        int read = 0;
+        try (final PreparedStatement ps = connection.prepareStatement(READ_SQL)) {
+            ps.setString(1, slotName);
+            ps.setInt(2, prefix.length());
+            ps.setString(3, prefix);
+
+            try (final ResultSet rs = ps.executeQuery()) {
+                // The changes of a transaction are buffered until its commit
+                // is seen, since they are only ordered by commit
+                final List<ChangeRecord> transaction = new ArrayList<>();
+                final List<String> changes = new ArrayList<>();
+
+                while (read < maxRecords && rs.next()) {
+                    final String data = rs.getString(2);
+                    if (!data.startsWith(COMMIT)) {
+                        changes.add(data.substring(prefix.length()));
+                        continue;
+                    }
+
+                    final long commit = parseLsn(rs.getString(1));
+                    if (commit > after && !changes.isEmpty()) {
+                        for (final String change : changes) {
+                            final ChangeRecord record = parseChange(commit, change);
+                            if (record != null) {
+                                transaction.add(record);
+                            }
+                        }
+
+                        transaction.forEach(consumer);
+                        read += transaction.size();
+                        position = commit;
+                    }
+
+                    transaction.clear();
+                    changes.clear();
+                }
+            }
+        }
+
+        return position;
+    }
+
+    @Override
+    public void acknowledge(Connection connection, Table table, long position) throws SQLException {
+        try (final PreparedStatement ps = connection.prepareStatement(ACKNOWLEDGE_SQL)) {
+            ps.setString(1, slotName);
+            ps.setString(2, formatLsn(position));
+            ps.executeQuery().close();
+        }
+    }
+
+    /**
+     * Parses a change in the format used by {@code test_decoding} with the
+     * table prefix removed, for example
+     * {@code INSERT: id[integer]:1 name[text]:'Harry'}.
+     *
+     * @param position  the position to give the record
+     * @param change    the change
+     * @return          the record, or {@code null} if the change is not an
+     *                  insert, update or delete
+     */
+    static ChangeRecord parseChange(long position, String change) {
+        final int colon = change.indexOf(':');
+        if (colon < 0) {
+            return null;
+        }
+
+        final ChangeEvent.Type type;
+        switch (change.substring(0, colon)) {
+            case "INSERT" : type = ChangeEvent.Type.INSERT; break;
+            case "UPDATE" : type = ChangeEvent.Type.UPDATE; break;
+            case "DELETE" : type = ChangeEvent.Type.DELETE; break;
+            default : return null; // For example TRUNCATE
+        }
+
+        return ChangeRecord.of(
+            position, type, parseTuple(change.substring(colon + 1))
+        );
+    }
+
+    /**
+     * Parses the columns of a change in the format used by
+     * {@code test_decoding}, for example
+     * {@code id[integer]:1 name[text]:'Harry'}. Values are returned as
+     * strings. Columns with unchanged TOAST values are left out.
+     *
+     * @param text  the columns
+     * @return      the values keyed by column name
+     */
+    static Map<String, Object> parseTuple(String text) {
+        String tuple = text.trim();
+        if (tuple.startsWith(OLD_KEY)) {
+            final int newTuple = tuple.indexOf(NEW_TUPLE);
+            tuple = newTuple < 0
+                ? tuple.substring(OLD_KEY.length())
+                : tuple.substring(newTuple + NEW_TUPLE.length());
+        }
+
+        if (tuple.trim().equals(NO_TUPLE)) {
+            return Collections.emptyMap();
+        }
+
+        final Map<String, Object> values = new LinkedHashMap<>();
+        final int length = tuple.length();
+        int i = 0;
+
+        while (i < length) {
+            while (i < length && tuple.charAt(i) == ' ') i++;
+            if (i >= length) break;
+
+            // The column name, possibly quoted
+            final String name;
+            if (tuple.charAt(i) == '"') {
+                final StringBuilder str = new StringBuilder();
+                i = readQuoted(tuple, i, '"', str);
+                name = str.toString();
+            } else {
+                final int start = i;
+                while (i < length && tuple.charAt(i) != '[') i++;
+                name = tuple.substring(start, i);
+            }
+
+            // The type name is not needed
+            final int typeEnd = tuple.indexOf("]:", i);
+            if (typeEnd < 0) {
+                throw new IllegalArgumentException(
+                    "Malformed change '" + text + "'."
+                );
+            }
+            i = typeEnd + 2;
+
+            // The value, either quoted, unquoted or null
+            if (i < length && tuple.charAt(i) == '\'') {
+                final StringBuilder str = new StringBuilder();
+                i = readQuoted(tuple, i, '\'', str);
+                values.put(name, str.toString());
+            } else {
+                final int start = i;
+                while (i < length && tuple.charAt(i) != ' ') i++;
+                final String value = tuple.substring(start, i);
+                if ("null".equals(value)) {
+                    values.put(name, null);
+                } else if (!UNCHANGED_TOAST.equals(value)) {
+                    values.put(name, value);
+                }
+            }
+        }
+
+        return values;
+    }
+
+    /**
+     * Converts a log sequence number like {@code 16/B374D848} into a long.
+     *
+     * @param lsn  the log sequence number
+     * @return     the position
+     */
+    static long parseLsn(String lsn) {
+        final int slash = lsn.indexOf('/');
+        return (Long.parseLong(lsn.substring(0, slash), 16) << 32)
+            | Long.parseLong(lsn.substring(slash + 1), 16);
+    }
+
+    /**
+     * Converts a position into a log sequence number like
+     * {@code 16/B374D848}.
+     *
+     * @param position  the position
+     * @return          the log sequence number
+     */
+    static String formatLsn(long position) {
+        return Long.toHexString(position >>> 32).toUpperCase() + "/"
+            + Long.toHexString(position & 0xFFFFFFFFL).toUpperCase();
+    }
+
+    private static int readQuoted(String text, int start, char quote, StringBuilder str) {
+        int i = start + 1;
+        while (i < text.length()) {
+            final char c = text.charAt(i++);
+            if (c == quote) {
+                if (i < text.length() && text.charAt(i) == quote) {
+                    str.append(quote);
+                    i++;
+                } else {
+                    return i;
+                }
+            } else {
+                str.append(c);
+            }
+        }
+        throw new IllegalArgumentException(
+            "Unterminated quote in '" + text + "'."
+        );
+    }
+
+    private static String quoteIdentifier(String name) {
+        return name.matches("[a-z_][a-z0-9_$]*")
+            ? name
+            : "\"" + name.replace("\"", "\"\"") + "\"";
+    }
+}
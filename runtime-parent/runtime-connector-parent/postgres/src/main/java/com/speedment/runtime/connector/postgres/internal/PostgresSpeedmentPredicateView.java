@@ -17,11 +17,23 @@
 package com.speedment.runtime.connector.postgres.internal;
 
 import com.speedment.runtime.core.db.FieldPredicateView;
+import com.speedment.runtime.core.db.SqlArrayParameter;
 import com.speedment.runtime.core.db.SqlPredicateFragment;
 import com.speedment.runtime.core.internal.manager.sql.AbstractFieldPredicateView;
 import com.speedment.runtime.field.predicate.FieldPredicate;
 import com.speedment.runtime.field.predicate.Inclusion;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
 import static com.speedment.runtime.field.util.PredicateOperandUtil.getFirstOperandAsRaw;
+import static com.speedment.runtime.field.util.PredicateOperandUtil.getFirstOperandAsRawSet;
 import static com.speedment.runtime.field.util.PredicateOperandUtil.getInclusionOperand;
 import static com.speedment.runtime.field.util.PredicateOperandUtil.getSecondOperand;
 import static java.util.Optional.of;
@@ -35,6 +47,31 @@ public class PostgresSpeedmentPredicateView extends AbstractFieldPredicateView i
 
     private static final String BYTEA_CAST = "::bytea";
 
+    /**
+     * The smallest IN-set that is bound as an array instead of one parameter
+     * per element.
+     */
+    private static final int MIN_ARRAY_SIZE = 32;
+
+    private static final Map<Class<?>, String> ARRAY_TYPES;
+
+    static {
+        final Map<Class<?>, String> types = new HashMap<>();
+        types.put(Boolean.class, "bool");
+        types.put(Short.class, "int2");
+        types.put(Integer.class, "int4");
+        types.put(Long.class, "int8");
+        types.put(Float.class, "float4");
+        types.put(Double.class, "float8");
+        types.put(BigDecimal.class, "numeric");
+        types.put(String.class, "text");
+        types.put(UUID.class, "uuid");
+        types.put(Date.class, "date");
+        types.put(Time.class, "time");
+        types.put(Timestamp.class, "timestamp");
+        ARRAY_TYPES = Collections.unmodifiableMap(types);
+    }
+
     // Info from:
     // http://stackoverflow.com/questions/23320945/postgresql-select-if-string-contains
     // We cannot use collation for PostgreSQL. See https://github.com/speedment/speedment/issues/401    
@@ -75,8 +112,38 @@ public class PostgresSpeedmentPredicateView extends AbstractFieldPredicateView i
 
     // PostgreSQL will use case sensitive string comparison by default for most operations
     // However, <, <=, > and >= is case insensitive and must be handled separately
-    // Because of this, the operations 'in', 'notIn', 'equal' and 'notEqual' are not overridden
+    // Because of this, the operations 'equal' and 'notEqual' are not overridden
+    // The operations 'in' and 'notIn' are only overridden to bind large sets
+    // as a single array parameter
     //
+
+    @Override
+    protected SqlPredicateFragment in(
+        final String cn,
+        final Class<?> dbType,
+        final FieldPredicate<?> model
+    ) {
+        final String arrayType = arrayTypeFor(dbType, model);
+        if (arrayType != null) {
+            return of(anyString(cn)).add(SqlArrayParameter.of(arrayType, getFirstOperandAsRawSet(model)));
+        } else {
+            return super.in(cn, dbType, model);
+        }
+    }
+
+    @Override
+    protected SqlPredicateFragment notIn(
+        final String cn,
+        final Class<?> dbType,
+        final FieldPredicate<?> model
+    ) {
+        final String arrayType = arrayTypeFor(dbType, model);
+        if (arrayType != null) {
+            return of(anyString(cn), true).add(SqlArrayParameter.of(arrayType, getFirstOperandAsRawSet(model)));
+        } else {
+            return super.notIn(cn, dbType, model);
+        }
+    }
     
     @Override
     protected SqlPredicateFragment lessOrEqual(
@@ -194,6 +261,25 @@ public class PostgresSpeedmentPredicateView extends AbstractFieldPredicateView i
         throw new IllegalArgumentException("Unknown Inclusion:" + inclusion);
     }
 
+    /**
+     * Returns the name of the PostgreSQL array type to bind the set of the
+     * specified IN-predicate as, or {@code null} if the set is too small to
+     * benefit from it or if the database type has no known array type. A
+     * statement that binds the whole set as a single array parameter is
+     * the same regardless of the size of the set, so PostgreSQL can reuse
+     * its plan.
+     */
+    private String arrayTypeFor(Class<?> dbType, FieldPredicate<?> model) {
+        if (getFirstOperandAsRawSet(model).size() < MIN_ARRAY_SIZE) {
+            return null;
+        }
+        return ARRAY_TYPES.get(dbType);
+    }
+
+    private String anyString(String cn) {
+        return "(" + cn + " = ANY (?))";
+    }
+
     private String lessOrEqualString(String cn) {
         return compare(cn, "<= ?");
     }
@@ -0,0 +1,142 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.connector.postgres.internal;
+
+import com.speedment.runtime.config.Column;
+import com.speedment.runtime.config.Table;
+import com.speedment.runtime.config.trait.HasEnabled;
+import com.speedment.runtime.core.component.statistics.ColumnStatistics;
+import com.speedment.runtime.core.component.statistics.TableStatistics;
+import com.speedment.runtime.core.component.statistics.TableStatisticsReader;
+import com.speedment.runtime.core.db.DbmsType;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+
+import static com.speedment.runtime.core.internal.component.statistics.TableStatisticsUtil.leadingIndexColumns;
+import static com.speedment.runtime.core.internal.component.statistics.TableStatisticsUtil.readRanges;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A {@link TableStatisticsReader} for PostgreSQL that reads the estimated row
+ * count from {@code pg_class} and the distinct count and null fraction of
+ * each column from {@code pg_stats}, as gathered by {@code ANALYZE}. The
+ * range of each indexed column is read using {@code MIN} and {@code MAX},
+ * which the database resolves from the index. Tables that have not been
+ * analyzed are read using the fallback reader.
+ *
+ * @since   3.1.5
+ */
+public final class PostgresTableStatisticsReader implements TableStatisticsReader {
+
+    private static final String RELTUPLES =
+        "SELECT c.reltuples FROM pg_catalog.pg_class c " +
+        "JOIN pg_catalog.pg_namespace n ON n.oid = c.relnamespace " +
+        "WHERE n.nspname = ? AND c.relname = ?";
+
+    private static final String PG_STATS =
+        "SELECT attname, null_frac, n_distinct FROM pg_catalog.pg_stats " +
+        "WHERE schemaname = ? AND tablename = ?";
+
+    private final TableStatisticsReader fallback;
+
+    public PostgresTableStatisticsReader(TableStatisticsReader fallback) {
+        this.fallback = requireNonNull(fallback);
+    }
+
+    @Override
+    public TableStatistics read(Connection connection, DbmsType dbmsType, Table table)
+    throws SQLException {
+        final String schemaName = table.getParentOrThrow().getName();
+        double rowCount = -1;
+
+        try (PreparedStatement ps = connection.prepareStatement(RELTUPLES)) {
+            ps.setString(1, schemaName);
+            ps.setString(2, table.getName());
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    rowCount = rs.getDouble(1);
+                }
+            }
+        }
+
+        final Map<String, ColumnStatistics> analyzed = new HashMap<>();
+        try (PreparedStatement ps = connection.prepareStatement(PG_STATS)) {
+            ps.setString(1, schemaName);
+            ps.setString(2, table.getName());
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    final String name      = rs.getString(1);
+                    final double nullFrac  = rs.getDouble(2);
+                    final double nDistinct = rs.getDouble(3);
+
+                    // A negative n_distinct is the number of distinct values
+                    // divided by the number of rows, negated.
+                    final OptionalLong distinct = nDistinct > 0
+                        ? OptionalLong.of(Math.round(nDistinct))
+                        : nDistinct < 0 && rowCount >= 0
+                            ? OptionalLong.of(Math.round(-nDistinct * rowCount))
+                            : OptionalLong.empty();
+
+                    analyzed.putIfAbsent(name, ColumnStatistics.of(
+                        name, distinct, OptionalDouble.of(nullFrac), null, null
+                    ));
+                }
+            }
+        }
+
+        // Before PostgreSQL 14, a table that has never been analyzed has a
+        // reltuples of 0 rather than -1.
+        if (rowCount < 0 || (rowCount == 0 && analyzed.isEmpty())) {
+            return fallback.read(connection, dbmsType, table);
+        }
+
+        final Map<String, Object[]> ranges = readRanges(
+            connection, dbmsType, table, leadingIndexColumns(table)
+        );
+
+        final List<ColumnStatistics> columns = new ArrayList<>();
+        for (final Column column : table.columns()
+                .filter(HasEnabled::test)
+                .collect(toList())) {
+
+            final ColumnStatistics stats = analyzed.get(column.getName());
+            final Object[] range         = ranges.get(column.getName());
+            if (stats == null && range == null) {
+                continue;
+            }
+
+            columns.add(ColumnStatistics.of(column.getName(),
+                stats == null ? OptionalLong.empty() : stats.getDistinctCount(),
+                stats == null ? OptionalDouble.empty() : stats.getNullFraction(),
+                range == null ? null : range[0],
+                range == null ? null : range[1]
+            ));
+        }
+
+        return TableStatistics.of(Math.round(rowCount), columns);
+    }
+}
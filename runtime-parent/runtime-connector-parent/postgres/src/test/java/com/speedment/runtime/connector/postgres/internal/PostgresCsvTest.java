@@ -0,0 +1,109 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.connector.postgres.internal;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @since 3.1.5
+ */
+public class PostgresCsvTest {
+
+    @Test
+    public void testAppendRowQuotesEveryValue() {
+        final StringBuilder str = new StringBuilder();
+        PostgresCsv.appendRow(str, new Object[] {1, "Harry", null, ""});
+        assertEquals("\"1\",\"Harry\",,\"\"\n", str.toString());
+    }
+
+    @Test
+    public void testAppendRowEscapesQuotes() {
+        final StringBuilder str = new StringBuilder();
+        PostgresCsv.appendRow(str, new Object[] {"say \"hi\", hare"});
+        assertEquals("\"say \"\"hi\"\", hare\"\n", str.toString());
+    }
+
+    @Test
+    public void testAppendRowRendersBytesAsHex() {
+        final StringBuilder str = new StringBuilder();
+        PostgresCsv.appendRow(str, new Object[] {new byte[] {0x0a, (byte) 0xff}});
+        assertEquals("\"\\x0aff\"\n", str.toString());
+    }
+
+    @Test
+    public void testParseRowDistinguishesNullFromEmpty() {
+        assertArrayEquals(new Object[] {null, "", "x", null}, PostgresCsv.parseRow(",\"\",x,\n"));
+        assertArrayEquals(new Object[] {null}, PostgresCsv.parseRow("\n"));
+        assertArrayEquals(new Object[] {""}, PostgresCsv.parseRow("\"\""));
+    }
+
+    @Test
+    public void testParseRowUnquotesValues() {
+        assertArrayEquals(
+            new Object[] {"1", "a,b", "say \"hi\"", "line\nbreak"},
+            PostgresCsv.parseRow("1,\"a,b\",\"say \"\"hi\"\"\",\"line\nbreak\"\n")
+        );
+    }
+
+    @Test
+    public void testRoundTrip() {
+        final Object[] row = {"plain", "", null, "\"", ",\n,", "2018-01-01 10:00:00+01"};
+        final StringBuilder str = new StringBuilder();
+        PostgresCsv.appendRow(str, row);
+        assertTrue(PostgresCsv.isComplete(str));
+        assertArrayEquals(row, PostgresCsv.parseRow(str));
+    }
+
+    @Test
+    public void testIsComplete() {
+        assertFalse(PostgresCsv.isComplete(""));
+        assertFalse(PostgresCsv.isComplete("1,2"));
+        assertTrue(PostgresCsv.isComplete("1,2\n"));
+        assertFalse("Quoted new line", PostgresCsv.isComplete("1,\"line\n"));
+        assertTrue(PostgresCsv.isComplete("1,\"line\nbreak\"\n"));
+        assertTrue(PostgresCsv.isComplete("\"say \"\"hi\"\"\"\n"));
+    }
+
+    @Test
+    public void testReaderRendersAllRows() throws IOException {
+        final List<Object[]> rows = Arrays.asList(
+            new Object[] {1, "a"},
+            new Object[] {2, null}
+        );
+
+        final StringBuilder str = new StringBuilder();
+        try (Reader reader = PostgresCsv.reader(rows.iterator())) {
+            final char[] buffer = new char[3];
+            int read;
+            while ((read = reader.read(buffer, 0, buffer.length)) != -1) {
+                str.append(buffer, 0, read);
+            }
+        }
+
+        assertEquals("\"1\",\"a\"\n\"2\",\n", str.toString());
+        assertEquals(-1, PostgresCsv.reader(Collections.<Object[]>emptyIterator()).read(new char[1], 0, 1));
+    }
+}
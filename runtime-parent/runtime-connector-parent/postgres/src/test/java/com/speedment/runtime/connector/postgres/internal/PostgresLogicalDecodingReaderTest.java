@@ -0,0 +1,170 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.connector.postgres.internal;
+
+import com.speedment.runtime.config.Dbms;
+import com.speedment.runtime.config.Schema;
+import com.speedment.runtime.config.Table;
+import com.speedment.runtime.config.internal.ProjectImpl;
+import com.speedment.runtime.core.component.changefeed.ChangeEvent;
+import com.speedment.runtime.core.component.changefeed.ChangeRecord;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ *
+ * @since 3.1.5
+ */
+public class PostgresLogicalDecodingReaderTest {
+
+    private static final String PREFIX = "table public.hare: ";
+
+    private Table table;
+    private List<String[]> slot;
+    private PreparedStatement statement;
+    private Connection connection;
+
+    @Before
+    public void setUp() throws Exception {
+        final Dbms dbms = new ProjectImpl(new HashMap<>()).mutator().addNewDbms();
+        final Schema schema = dbms.mutator().addNewSchema();
+        schema.mutator().setName("public");
+        table = schema.mutator().addNewTable();
+        table.mutator().setName("hare");
+
+        // Transaction 2 starts after transaction 1 but commits before it, so
+        // the slot returns it first even though the first change of
+        // transaction 1 has a lower log sequence number.
+        slot = new ArrayList<>();
+        slot.add(new String[] {"0/20", PREFIX + "INSERT: id[integer]:2 name[text]:'Henrietta'"});
+        slot.add(new String[] {"0/25", "COMMIT 2"});
+        slot.add(new String[] {"0/10", PREFIX + "INSERT: id[integer]:1 name[text]:'Harry'"});
+        slot.add(new String[] {"0/30", PREFIX + "UPDATE: id[integer]:1 name[text]:'Hoppy'"});
+        slot.add(new String[] {"0/40", "COMMIT 1"});
+        slot.add(new String[] {"0/48", "COMMIT 3"});
+
+        statement = mock(PreparedStatement.class);
+        when(statement.executeQuery()).thenAnswer(i -> resultSet(slot));
+
+        connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+    }
+
+    @Test
+    public void testReadsInCommitOrder() throws Exception {
+        final PostgresLogicalDecodingReader reader = new PostgresLogicalDecodingReader("speedment");
+        final List<ChangeRecord> records = new ArrayList<>();
+
+        final long first = reader.read(connection, table, 0, 1, records::add);
+        assertEquals(0x25, first);
+        assertEquals(Arrays.asList("INSERT 25 2 Henrietta"), describe(records));
+        verify(statement).setString(1, "speedment");
+        verify(statement).setString(3, PREFIX);
+
+        // The changes of transaction 1 are read even though the first one
+        // has a lower log sequence number than the commit of transaction 2
+        records.clear();
+        final long second = reader.read(connection, table, first, 1, records::add);
+        assertEquals(0x40, second);
+        assertEquals(
+            Arrays.asList("INSERT 40 1 Harry", "UPDATE 40 1 Hoppy"),
+            describe(records)
+        );
+
+        records.clear();
+        assertEquals(0x40, reader.read(connection, table, second, 1, records::add));
+        assertTrue(records.isEmpty());
+    }
+
+    @Test
+    public void testPositionNeverMovesBackwards() throws Exception {
+        final PostgresLogicalDecodingReader reader = new PostgresLogicalDecodingReader("speedment");
+        final List<ChangeRecord> records = new ArrayList<>();
+
+        assertEquals(0x40, reader.read(connection, table, 0, 10, records::add));
+        final List<Long> positions = records.stream()
+            .map(ChangeRecord::getPosition)
+            .collect(toList());
+
+        assertEquals(Arrays.asList(0x25L, 0x40L, 0x40L), positions);
+    }
+
+    @Test
+    public void testParseTuple() {
+        final Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("id", "1");
+        expected.put("first name", "Harry 'H'");
+        expected.put("age", null);
+
+        assertEquals(expected, PostgresLogicalDecodingReader.parseTuple(
+            "id[integer]:1 \"first name\"[text]:'Harry ''H''' age[integer]:null"
+        ));
+
+        final ChangeRecord delete = PostgresLogicalDecodingReader.parseChange(
+            7, "DELETE: id[integer]:1"
+        );
+        assertEquals(ChangeEvent.Type.DELETE, delete.getType());
+        assertNull(PostgresLogicalDecodingReader.parseChange(7, "TRUNCATE: (no-flags)"));
+    }
+
+    @Test
+    public void testLsn() {
+        assertEquals(0x16B374D848L, PostgresLogicalDecodingReader.parseLsn("16/B374D848"));
+        assertEquals("16/B374D848", PostgresLogicalDecodingReader.formatLsn(0x16B374D848L));
+    }
+
+    private static List<String> describe(List<ChangeRecord> records) {
+        return records.stream()
+            .map(r -> r.getType() + " " + Long.toHexString(r.getPosition())
+                + " " + r.getValues().get("id") + " " + r.getValues().get("name"))
+            .collect(toList());
+    }
+
+    private static ResultSet resultSet(List<String[]> rows) {
+        final int[] row = {-1};
+        return (ResultSet) Proxy.newProxyInstance(
+            PostgresLogicalDecodingReaderTest.class.getClassLoader(),
+            new Class<?>[] {ResultSet.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "next"      : return ++row[0] < rows.size();
+                    case "getString" : return rows.get(row[0])[(Integer) args[0] - 1];
+                    case "close"     : return null;
+                    default : throw new UnsupportedOperationException(method.getName());
+                }
+            }
+        );
+    }
+}
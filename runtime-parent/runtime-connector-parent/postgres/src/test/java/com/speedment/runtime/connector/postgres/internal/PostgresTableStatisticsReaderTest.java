@@ -0,0 +1,186 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.connector.postgres.internal;
+
+import com.speedment.runtime.config.Column;
+import com.speedment.runtime.config.PrimaryKeyColumn;
+import com.speedment.runtime.config.Schema;
+import com.speedment.runtime.config.Table;
+import com.speedment.runtime.config.internal.ProjectImpl;
+import com.speedment.runtime.core.component.statistics.ColumnStatistics;
+import com.speedment.runtime.core.component.statistics.TableStatistics;
+import com.speedment.runtime.core.component.statistics.TableStatisticsReader;
+import com.speedment.runtime.core.db.DatabaseNamingConvention;
+import com.speedment.runtime.core.db.DbmsType;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.HashMap;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ *
+ * @since 3.1.5
+ */
+public class PostgresTableStatisticsReaderTest {
+
+    private static final TableStatistics FALLBACK =
+        TableStatistics.of(42, Collections.emptyList());
+
+    private Table table;
+    private DbmsType dbmsType;
+    private Connection connection;
+    private PreparedStatement reltuples;
+    private PreparedStatement pgStats;
+    private TableStatisticsReader reader;
+
+    @Before
+    public void setUp() throws Exception {
+        final Schema schema = new ProjectImpl(new HashMap<>()).mutator()
+            .addNewDbms().mutator().addNewSchema();
+        schema.mutator().setName("public");
+        table = schema.mutator().addNewTable();
+        table.mutator().setName("hare");
+
+        final Column id = table.mutator().addNewColumn();
+        id.mutator().setName("id");
+        final Column name = table.mutator().addNewColumn();
+        name.mutator().setName("name");
+        final PrimaryKeyColumn pk = table.mutator().addNewPrimaryKeyColumn();
+        pk.mutator().setName("id");
+
+        final DatabaseNamingConvention naming = mock(DatabaseNamingConvention.class);
+        when(naming.fullNameOf(table)).thenReturn("\"public\".\"hare\"");
+        when(naming.encloseField(anyString())).thenAnswer(i -> "\"" + i.getArgument(0) + "\"");
+        dbmsType = mock(DbmsType.class);
+        when(dbmsType.getDatabaseNamingConvention()).thenReturn(naming);
+
+        final Statement ranges = mock(Statement.class);
+        when(ranges.executeQuery("SELECT MIN(\"id\"), MAX(\"id\") FROM \"public\".\"hare\""))
+            .thenAnswer(i -> resultSet(new Object[] {1, 1000}));
+
+        reltuples = mock(PreparedStatement.class);
+        pgStats = mock(PreparedStatement.class);
+        connection = mock(Connection.class);
+        when(connection.prepareStatement(contains("pg_class"))).thenReturn(reltuples);
+        when(connection.prepareStatement(contains("pg_stats"))).thenReturn(pgStats);
+        when(connection.createStatement()).thenReturn(ranges);
+
+        reader = new PostgresTableStatisticsReader((c, type, tbl) -> FALLBACK);
+    }
+
+    @Test
+    public void testAnalyzedTable() throws Exception {
+        when(reltuples.executeQuery()).thenAnswer(i -> resultSet(new Object[] {1000d}));
+        when(pgStats.executeQuery()).thenAnswer(i -> resultSet(
+            new Object[] {"id", 0d, -1d},
+            new Object[] {"name", 0.25, 150d}
+        ));
+
+        final TableStatistics stats = reader.read(connection, dbmsType, table);
+        assertEquals(1000, stats.getRowCount());
+
+        final ColumnStatistics id = stats.getColumn("id").get();
+        assertEquals(1000, id.getDistinctCount().getAsLong());
+        assertEquals(0d, id.getNullFraction().getAsDouble(), 1e-9);
+        assertEquals(1, id.getMin().get());
+        assertEquals(1000, id.getMax().get());
+
+        final ColumnStatistics name = stats.getColumn("name").get();
+        assertEquals(150, name.getDistinctCount().getAsLong());
+        assertEquals(0.25, name.getNullFraction().getAsDouble(), 1e-9);
+        assertFalse(name.getMin().isPresent());
+    }
+
+    @Test
+    public void testNegativeDistinctIsFractionOfRows() throws Exception {
+        when(reltuples.executeQuery()).thenAnswer(i -> resultSet(new Object[] {200d}));
+        when(pgStats.executeQuery()).thenAnswer(i -> resultSet(
+            new Object[] {"name", 0d, -0.5}
+        ));
+
+        final TableStatistics stats = reader.read(connection, dbmsType, table);
+        assertEquals(100, stats.getColumn("name").get().getDistinctCount().getAsLong());
+    }
+
+    @Test
+    public void testNeverAnalyzedUsesFallback() throws Exception {
+        when(reltuples.executeQuery()).thenAnswer(i -> resultSet(new Object[] {-1d}));
+        when(pgStats.executeQuery()).thenAnswer(i -> resultSet());
+        assertSame(FALLBACK, reader.read(connection, dbmsType, table));
+    }
+
+    @Test
+    public void testNeverAnalyzedBeforePostgres14UsesFallback() throws Exception {
+        when(reltuples.executeQuery()).thenAnswer(i -> resultSet(new Object[] {0d}));
+        when(pgStats.executeQuery()).thenAnswer(i -> resultSet());
+        assertSame(FALLBACK, reader.read(connection, dbmsType, table));
+    }
+
+    @Test
+    public void testAnalyzedEmptyTable() throws Exception {
+        when(reltuples.executeQuery()).thenAnswer(i -> resultSet(new Object[] {0d}));
+        when(pgStats.executeQuery()).thenAnswer(i -> resultSet(
+            new Object[] {"name", 0d, 0d}
+        ));
+
+        final TableStatistics stats = reader.read(connection, dbmsType, table);
+        assertNotSame(FALLBACK, stats);
+        assertEquals(0, stats.getRowCount());
+        assertFalse(stats.getColumn("name").get().getDistinctCount().isPresent());
+    }
+
+    @Test
+    public void testMissingRowCountUsesFallback() throws Exception {
+        when(reltuples.executeQuery()).thenAnswer(i -> resultSet());
+        when(pgStats.executeQuery()).thenAnswer(i -> resultSet(
+            new Object[] {"name", 0d, -0.5}
+        ));
+
+        // Without a row count, the table is read using the fallback
+        assertSame(FALLBACK, reader.read(connection, dbmsType, table));
+    }
+
+    private static ResultSet resultSet(Object[]... rows) {
+        final int[] row = {-1};
+        return (ResultSet) Proxy.newProxyInstance(
+            PostgresTableStatisticsReaderTest.class.getClassLoader(),
+            new Class<?>[] {ResultSet.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "next"      : return ++row[0] < rows.length;
+                    case "getObject" :
+                    case "getString" :
+                    case "getDouble" : return rows[row[0]][(Integer) args[0] - 1];
+                    case "close"     : return null;
+                    default : throw new UnsupportedOperationException(method.getName());
+                }
+            }
+        );
+    }
+}
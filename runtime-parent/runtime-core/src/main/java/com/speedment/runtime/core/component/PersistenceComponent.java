@@ -19,6 +19,8 @@ package com.speedment.runtime.core.component;
 import com.speedment.common.injector.annotation.InjectKey;
 import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.core.exception.SpeedmentException;
+import com.speedment.runtime.core.manager.BulkLoadResult;
+import com.speedment.runtime.core.manager.BulkLoader;
 import com.speedment.runtime.core.manager.Persister;
 import com.speedment.runtime.core.manager.Remover;
 import com.speedment.runtime.core.manager.Updater;
@@ -73,5 +75,29 @@ public interface PersistenceComponent {
      * @throws SpeedmentException  if it could not be created
      */
     <ENTITY> Remover<ENTITY> remover(TableIdentifier<ENTITY> tableIdentifier) throws SpeedmentException;
+
+    /**
+     * Creates and returns a {@link BulkLoader} that persists streams of
+     * entities to the specified table using the bulk load mechanism of the
+     * remote store, if there is one.
+     * <p>
+     * The default implementation returns a {@code BulkLoader} that persists
+     * the entities one by one using the
+     * {@link #persister(TableIdentifier) persister} of the table.
+     *
+     * @param <ENTITY>         the entity type
+     * @param tableIdentifier  identifier for the table to persist to
+     * @return                 the created {@link BulkLoader}
+     *
+     * @throws SpeedmentException  if it could not be created
+     * @since 3.1.5
+     */
+    default <ENTITY> BulkLoader<ENTITY> bulkLoader(TableIdentifier<ENTITY> tableIdentifier) throws SpeedmentException {
+        final Persister<ENTITY> persister = persister(tableIdentifier);
+        return entities -> BulkLoadResult.of(entities.mapToLong(entity -> {
+            persister.apply(entity);
+            return 1;
+        }).sum());
+    }
     
 }
\ No newline at end of file
@@ -20,7 +20,6 @@ import com.speedment.common.injector.annotation.InjectKey;
 import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.core.db.SqlFunction;
 import java.sql.ResultSet;
-import static javafx.scene.input.KeyCode.T;
 
 /**
  * An SqlAdapter provides a means to read entities from a RsultSet.
@@ -60,4 +59,21 @@ public interface SqlAdapter<ENTITY> {
      */
     SqlFunction<ResultSet, ENTITY> entityMapper(int offset);
 
+    /**
+     * Returns an entity mapper for this SqlAdapter that refills the same
+     * entity for every row instead of creating a new one. Every call to this
+     * method returns a new mapper with an entity of its own, so a mapper
+     * should only be used for a single {@code ResultSet}.
+     * <p>
+     * The default implementation returns {@link #entityMapper()}, which
+     * creates a new entity for every row.
+     *
+     * @return an entity mapper that reuses a single entity
+     *
+     * @since 3.1.5
+     */
+    default SqlFunction<ResultSet, ENTITY> reusingEntityMapper() {
+        return entityMapper();
+    }
+
 }
@@ -18,10 +18,14 @@ package com.speedment.runtime.core.component;
 
 import com.speedment.common.injector.annotation.InjectKey;
 import com.speedment.runtime.config.identifier.TableIdentifier;
+import com.speedment.runtime.core.manager.PrimitiveColumns;
 import com.speedment.runtime.core.stream.parallel.ParallelStrategy;
+import com.speedment.runtime.field.Field;
 import com.speedment.runtime.field.trait.HasComparableOperators;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static com.speedment.runtime.core.stream.parallel.ParallelStrategy.computeIntensityDefault;
@@ -59,6 +63,69 @@ public interface StreamSupplierComponent {
      */
     <ENTITY> Stream<ENTITY> stream(TableIdentifier<ENTITY> tableIdentifier, ParallelStrategy strategy);
 
+    /**
+     * Sequential stream over all entities where the same entity instance is
+     * refilled for every element. An entity is only valid until the next one
+     * is pulled from the stream.
+     * <p>
+     * The default implementation returns {@link #stream(TableIdentifier)}.
+     *
+     * @param <ENTITY>  entity type
+     * @param tableId   the identifier to use
+     * @return          a stream for the given entity class
+     *
+     * @since 3.1.5
+     */
+    default <ENTITY> Stream<ENTITY> streamWithReusedEntity(TableIdentifier<ENTITY> tableId) {
+        return stream(tableId);
+    }
+
+    /**
+     * Sequential stream over all entities that is read using the bulk export
+     * mechanism of the data source, if there is one. The stream must be
+     * closed.
+     * <p>
+     * The default implementation returns {@link #stream(TableIdentifier)}.
+     *
+     * @param <ENTITY>  entity type
+     * @param tableId   the identifier to use
+     * @return          a stream for the given entity class
+     *
+     * @since 3.1.5
+     */
+    default <ENTITY> Stream<ENTITY> bulkExport(TableIdentifier<ENTITY> tableId) {
+        return stream(tableId);
+    }
+
+    /**
+     * Reads the values of the specified columns of the rows that match all
+     * the specified predicates into primitive arrays.
+     * <p>
+     * The default implementation creates an entity for every row using
+     * {@link #stream(TableIdentifier)}.
+     *
+     * @param <ENTITY>    entity type
+     * @param tableId     the identifier to use
+     * @param fields      the fields of the columns to read
+     * @param predicates  the predicates that rows must match, or an empty
+     *                    list to read all rows
+     * @return            the values of the columns
+     *
+     * @throws IllegalArgumentException  if a field is not supported
+     * @since 3.1.5
+     */
+    default <ENTITY> PrimitiveColumns<ENTITY> columns(
+            TableIdentifier<ENTITY> tableId,
+            List<? extends Field<ENTITY>> fields,
+            List<? extends Predicate<? super ENTITY>> predicates) {
+
+        Stream<ENTITY> stream = stream(tableId);
+        for (final Predicate<? super ENTITY> predicate : predicates) {
+            stream = stream.filter(predicate);
+        }
+        return PrimitiveColumns.of(stream, fields);
+    }
+
     /**
      * Finds a particular entity in the source where the specified field has 
      * the specified value. This is a form of key-value lookup than can 
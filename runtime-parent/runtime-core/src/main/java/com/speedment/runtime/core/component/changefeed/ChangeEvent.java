@@ -0,0 +1,92 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.component.changefeed;
+
+import com.speedment.runtime.config.identifier.TableIdentifier;
+import com.speedment.runtime.core.internal.component.changefeed.ChangeEventImpl;
+
+/**
+ * A typed insert, update or delete of a single row, as delivered by a
+ * {@link ChangeFeed}.
+ * <p>
+ * For a {@link Type#DELETE DELETE}, some sources only know the primary key
+ * of the removed row. In that case all other fields of the entity have their
+ * default values.
+ *
+ * @param <ENTITY>  the entity type
+ *
+ * @since   3.1.5
+ */
+public interface ChangeEvent<ENTITY> {
+
+    /**
+     * The kind of change.
+     */
+    enum Type {
+        INSERT, UPDATE, DELETE
+    }
+
+    /**
+     * Returns the kind of change.
+     *
+     * @return  the type
+     */
+    Type getType();
+
+    /**
+     * Returns the entity as it was after an insert or an update, or as it was
+     * before a delete.
+     *
+     * @return  the entity
+     */
+    ENTITY getEntity();
+
+    /**
+     * Returns the position of this change in the feed. Passing this value to
+     * {@link ChangeFeed#poll(long, int, java.util.function.Consumer)} returns
+     * the changes that followed this one.
+     *
+     * @return  the position
+     */
+    long getPosition();
+
+    /**
+     * Returns the table that was changed.
+     *
+     * @return  the table identifier
+     */
+    TableIdentifier<ENTITY> getTableIdentifier();
+
+    /**
+     * Creates a new change event.
+     *
+     * @param <ENTITY>  the entity type
+     * @param table     the table that was changed
+     * @param type      the kind of change
+     * @param entity    the changed entity
+     * @param position  the position of the change
+     * @return          the new event
+     */
+    static <ENTITY> ChangeEvent<ENTITY> of(
+            TableIdentifier<ENTITY> table,
+            Type type,
+            ENTITY entity,
+            long position) {
+
+        return new ChangeEventImpl<>(table, type, entity, position);
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.component.changefeed;
+
+import com.speedment.runtime.config.identifier.TableIdentifier;
+
+import java.util.function.Consumer;
+
+/**
+ * A replayable feed of the changes made to the table of a manager. Changes
+ * are identified by their position, so a consumer that remembers the
+ * position of the last change it applied can resume from there, for
+ * example after a restart.
+ * <p>
+ * A typical use is to keep an in-memory view up to date by applying deltas
+ * instead of reloading the table:
+ * <pre>{@code
+ *     final ChangeFeed<Hare> feed = changeFeedComponent.feed(hares);
+ *     final ChangeFeed.Subscription subscription = feed.subscribe(0, event -> {
+ *         switch (event.getType()) {
+ *             case INSERT :
+ *             case UPDATE : view.put(event.getEntity().getId(), event.getEntity()); break;
+ *             case DELETE : view.remove(event.getEntity().getId()); break;
+ *         }
+ *     });
+ * }</pre>
+ *
+ * @param <ENTITY>  the entity type
+ *
+ * @since   3.1.5
+ */
+public interface ChangeFeed<ENTITY> {
+
+    /**
+     * Returns the table of this feed.
+     *
+     * @return  the table identifier
+     */
+    TableIdentifier<ENTITY> getTableIdentifier();
+
+    /**
+     * Reads at most {@code maxEvents} changes following the specified
+     * position and passes them to the consumer, in order. Changes that share
+     * a position are always read together, so more than {@code maxEvents}
+     * changes can be passed if the source gives all changes of a
+     * transaction the same position.
+     *
+     * @param after      the position of the last change already applied
+     * @param maxEvents  the maximum number of changes to read
+     * @param consumer   the consumer
+     * @return           the position of the last change passed to the
+     *                   consumer, or {@code after} if there were none
+     */
+    long poll(long after, int maxEvents, Consumer<? super ChangeEvent<ENTITY>> consumer);
+
+    /**
+     * Starts polling for changes following the specified position in the
+     * background and passes them to the consumer, in order, from a single
+     * thread. Each subscription polls from its own thread, so a slow
+     * consumer does not delay other subscriptions. If the consumer throws an
+     * exception, the change is delivered again in the next poll, together
+     * with any changes before it that share its position.
+     *
+     * @param after     the position of the last change already applied
+     * @param consumer  the consumer
+     * @return          the subscription
+     */
+    Subscription subscribe(long after, Consumer<? super ChangeEvent<ENTITY>> consumer);
+
+    /**
+     * Tells the source that changes up to and including the specified
+     * position have been applied by all consumers and may be discarded.
+     *
+     * @param position  the position of the last applied change
+     */
+    void acknowledge(long position);
+
+    /**
+     * A background subscription created by
+     * {@link ChangeFeed#subscribe(long, Consumer)}.
+     */
+    interface Subscription extends AutoCloseable {
+
+        /**
+         * Returns the position of the last change that was successfully
+         * passed to the consumer.
+         *
+         * @return  the position
+         */
+        long getPosition();
+
+        /**
+         * Stops polling. A poll that is in progress is completed first.
+         */
+        @Override
+        void close();
+    }
+}
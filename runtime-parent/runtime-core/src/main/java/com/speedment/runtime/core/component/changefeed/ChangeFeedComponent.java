@@ -0,0 +1,73 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.component.changefeed;
+
+import com.speedment.common.injector.annotation.InjectKey;
+import com.speedment.runtime.config.identifier.TableIdentifier;
+import com.speedment.runtime.core.manager.Manager;
+
+/**
+ * A component that provides {@link ChangeFeed change feeds} for the tables of
+ * the project, so that caches and snapshots can apply the changes made to a
+ * table instead of reloading it.
+ * <p>
+ * A {@link ChangeFeedReader} has to be installed for a dbms before feeds can
+ * be created for its tables:
+ * <pre>{@code
+ *     changeFeedComponent.install("db0", ChangeFeedReader.changelogTable("_changelog"));
+ * }</pre>
+ *
+ * @since   3.1.5
+ */
+@InjectKey(ChangeFeedComponent.class)
+public interface ChangeFeedComponent {
+
+    /**
+     * Installs the reader to use for the tables of the specified dbms,
+     * replacing any reader previously installed for it.
+     *
+     * @param dbmsId  the id of the dbms
+     * @param reader  the reader
+     */
+    void install(String dbmsId, ChangeFeedReader reader);
+
+    /**
+     * Returns the change feed of the specified table.
+     *
+     * @param <ENTITY>  the entity type
+     * @param table     the table identifier
+     * @return          the change feed
+     *
+     * @throws IllegalStateException  if no reader is installed for the dbms
+     *                                of the table
+     */
+    <ENTITY> ChangeFeed<ENTITY> feed(TableIdentifier<ENTITY> table);
+
+    /**
+     * Returns the change feed of the table of the specified manager.
+     *
+     * @param <ENTITY>  the entity type
+     * @param manager   the manager
+     * @return          the change feed
+     *
+     * @throws IllegalStateException  if no reader is installed for the dbms
+     *                                of the table
+     */
+    default <ENTITY> ChangeFeed<ENTITY> feed(Manager<ENTITY> manager) {
+        return feed(manager.getTableIdentifier());
+    }
+}
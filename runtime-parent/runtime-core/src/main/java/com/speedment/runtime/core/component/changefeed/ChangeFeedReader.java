@@ -0,0 +1,133 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.component.changefeed;
+
+import com.speedment.runtime.config.Table;
+import com.speedment.runtime.core.internal.component.changefeed.ChangelogTableReader;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * Reads the changes made to a table from a source maintained by the
+ * database. Connectors can provide readers for the change data capture
+ * mechanisms of their database, for example logical decoding in
+ * PostgreSQL. The portable {@link #changelogTable(String)} reader tails a
+ * changelog table maintained by triggers.
+ * <p>
+ * Readers are installed per dbms using
+ * {@link ChangeFeedComponent#install(String, ChangeFeedReader)}.
+ *
+ * @since   3.1.5
+ */
+public interface ChangeFeedReader {
+
+    /**
+     * Reads at most {@code maxRecords} changes to the specified table that
+     * have a position greater than {@code after}, in the order of their
+     * position. Changes that share a position, like the changes of one
+     * transaction in some readers, are always read together, even if that
+     * means reading more than {@code maxRecords} changes.
+     * <p>
+     * Positions must follow the order in which changes become visible, so
+     * that a change is never given a lower position than one that has
+     * already been read.
+     *
+     * @param connection  the connection to read from
+     * @param table       the table to read changes of
+     * @param after       the position of the last change already read
+     * @param maxRecords  the maximum number of changes to read
+     * @param consumer    the consumer to pass each change to
+     * @return            the position of the last change read, or
+     *                    {@code after} if there were no changes
+     *
+     * @throws SQLException  if the changes could not be read
+     */
+    long read(
+        Connection connection,
+        Table table,
+        long after,
+        int maxRecords,
+        Consumer<ChangeRecord> consumer
+    ) throws SQLException;
+
+    /**
+     * Tells the source that changes up to and including the specified
+     * position have been applied and may be discarded. Changes that have
+     * been acknowledged can not necessarily be read again.
+     * <p>
+     * The default implementation does nothing.
+     *
+     * @param connection  the connection to use
+     * @param table       the table
+     * @param position    the position of the last applied change
+     *
+     * @throws SQLException  if the source could not be updated
+     */
+    default void acknowledge(Connection connection, Table table, long position)
+    throws SQLException {}
+
+    /**
+     * Returns a reader that tails a changelog table in the same schema as the
+     * table, named as the table followed by the specified suffix. The
+     * changelog table must have the columns {@code changelog_position}, an
+     * increasing integer, and {@code changelog_operation}, one of
+     * {@code 'I'}, {@code 'U'} or {@code 'D'}, followed by the columns of the
+     * table. For example, in MySQL:
+     * <pre>{@code
+     *     CREATE TABLE hare_changelog (
+     *         changelog_position  BIGINT AUTO_INCREMENT PRIMARY KEY,
+     *         changelog_operation CHAR(1) NOT NULL,
+     *         id INT, name VARCHAR(45), color VARCHAR(45), age INT
+     *     );
+     *     CREATE TRIGGER hare_insert AFTER INSERT ON hare FOR EACH ROW
+     *         INSERT INTO hare_changelog (changelog_operation, id, name, color, age)
+     *         VALUES ('I', NEW.id, NEW.name, NEW.color, NEW.age);
+     * }</pre>
+     * Acknowledging a position deletes the rows up to that position from the
+     * changelog table.
+     * <p>
+     * Since positions are assigned before the writing transaction commits,
+     * the reader stops at a missing position and waits up to ten seconds for
+     * it to appear before assuming that its transaction was rolled back. Use
+     * {@link #changelogTable(String, Duration)} if transactions that write
+     * to the table can take longer than that.
+     *
+     * @param suffix  the suffix of the changelog table name
+     * @return        the reader
+     */
+    static ChangeFeedReader changelogTable(String suffix) {
+        return new ChangelogTableReader(suffix);
+    }
+
+    /**
+     * Returns a reader that tails a changelog table like
+     * {@link #changelogTable(String)}, waiting at most {@code gapTimeout}
+     * for a missing position to appear. Positions should be consecutive, as
+     * every missing position delays reading by up to the timeout. A
+     * transaction that commits after its gap has timed out is never read.
+     *
+     * @param suffix      the suffix of the changelog table name
+     * @param gapTimeout  how long to wait for a missing position
+     * @return            the reader
+     */
+    static ChangeFeedReader changelogTable(String suffix, Duration gapTimeout) {
+        return new ChangelogTableReader(suffix, gapTimeout.toMillis());
+    }
+}
@@ -0,0 +1,67 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.component.changefeed;
+
+import com.speedment.runtime.core.internal.component.changefeed.ChangeRecordImpl;
+
+import java.util.Map;
+
+/**
+ * An untyped change as read from the database by a {@link ChangeFeedReader}.
+ * The values of the row are keyed by the database name of the column. Values
+ * may be of any type that can be converted into the type expected by the
+ * entity mapper of the table, including {@code String} representations.
+ *
+ * @since   3.1.5
+ */
+public interface ChangeRecord {
+
+    /**
+     * Returns the position of this change in the source. Positions must be
+     * strictly increasing.
+     *
+     * @return  the position
+     */
+    long getPosition();
+
+    /**
+     * Returns the kind of change.
+     *
+     * @return  the type
+     */
+    ChangeEvent.Type getType();
+
+    /**
+     * Returns the values of the changed row, keyed by column name. Columns
+     * that are not known by the source are absent.
+     *
+     * @return  the column values
+     */
+    Map<String, Object> getValues();
+
+    /**
+     * Creates a new change record.
+     *
+     * @param position  the position of the change
+     * @param type      the kind of change
+     * @param values    the values of the changed row
+     * @return          the new record
+     */
+    static ChangeRecord of(long position, ChangeEvent.Type type, Map<String, Object> values) {
+        return new ChangeRecordImpl(position, type, values);
+    }
+}
@@ -17,7 +17,7 @@
 package com.speedment.runtime.core.component.sql;
 
 import com.speedment.runtime.core.internal.component.sql.MetricsImpl;
-import java.util.Set;
+import java.util.OptionalLong;
 
 /**
  *
@@ -73,6 +73,68 @@ public interface Metrics {
         return getSqlWhileCount() + getSqlOrderCount() + getSqlSkipCount() + getSqlLimitCount();
     }
 
+    /**
+     * Returns the estimated number of rows that the database will send to the
+     * JVM if the pipeline is optimized this way. Since every plan selects the
+     * same columns, this is proportional to the number of bytes transferred.
+     * <p>
+     * Estimates are only available if the optimizer knows the
+     * {@link SqlStreamOptimizerInfo#getTableStatistics() table statistics}.
+     *
+     * @return the estimated number of rows transferred, if known
+     */
+    default OptionalLong getEstimatedRowsTransferred() {
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Returns the estimated amount of work left for the JVM if the pipeline
+     * is optimized this way, expressed as the number of times an element is
+     * passed to a remaining stream action.
+     *
+     * @return the estimated JVM work, if known
+     */
+    default OptionalLong getEstimatedJvmWork() {
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Returns the estimated amount of work for the database if the pipeline
+     * is optimized this way, expressed like {@link #getEstimatedJvmWork()}.
+     * Work that is the same for every plan, like scanning the table, is left
+     * out, so this is the work of the sorting that is rendered as SQL.
+     *
+     * @return the estimated database work, if known
+     */
+    default OptionalLong getEstimatedDatabaseWork() {
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Returns a copy of this Metrics with the specified estimates.
+     *
+     * @param estimatedRowsTransferred the estimated number of rows transferred
+     * @param estimatedJvmWork the estimated JVM work
+     * @param estimatedDatabaseWork the estimated database work
+     * @return a copy of this Metrics with the specified estimates
+     */
+    default Metrics withEstimates(
+        final long estimatedRowsTransferred,
+        final long estimatedJvmWork,
+        final long estimatedDatabaseWork
+    ) {
+        return new MetricsImpl(
+            getPipelineReductions(),
+            getSqlWhileCount(),
+            getSqlOrderCount(),
+            getSqlSkipCount(),
+            getSqlLimitCount(),
+            estimatedRowsTransferred,
+            estimatedJvmWork,
+            estimatedDatabaseWork
+        );
+    }
+
     /**
      * Creates and returns a new Metrics.
      *
@@ -0,0 +1,149 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.component.sql;
+
+import com.speedment.common.injector.annotation.InjectKey;
+import com.speedment.runtime.config.identifier.TableIdentifier;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A component that caches the rows returned by SQL queries so that identical
+ * queries against a table do not have to be sent to the database again. A
+ * query is identified by its final SQL string and the values bound to it,
+ * which means that two streams with the same optimized pipeline and the same
+ * operands share the same cached result.
+ * <p>
+ * Caching is disabled by default and has to be enabled for each table that
+ * should use it, for an example:
+ * <pre>{@code
+ *     cache.enable(hares.getTableIdentifier());
+ * }</pre>
+ * The cached results of a table are invalidated every time an entity of that
+ * table is persisted, updated or removed through its manager. Results also
+ * expire after a configurable time to live, so that changes made by other
+ * applications eventually become visible. Queries executed within a
+ * transaction never use the cache.
+ * <p>
+ * Rows are stored as arrays of the values read by the entity mapper, indexed
+ * by column. Callers must not modify the returned arrays.
+ *
+ * @since   3.1.5
+ */
+@InjectKey(QueryResultCacheComponent.class)
+public interface QueryResultCacheComponent {
+
+    /**
+     * Enables caching of query results for the specified table.
+     *
+     * @param table  the table
+     */
+    void enable(TableIdentifier<?> table);
+
+    /**
+     * Disables caching of query results for the specified table and removes
+     * any results already cached for it.
+     *
+     * @param table  the table
+     */
+    void disable(TableIdentifier<?> table);
+
+    /**
+     * Returns {@code true} if caching of query results is enabled for the
+     * specified table.
+     *
+     * @param table  the table
+     * @return       {@code true} if enabled, else {@code false}
+     */
+    boolean isEnabled(TableIdentifier<?> table);
+
+    /**
+     * Removes all cached results for the specified table. This is called
+     * automatically when the table is modified through its manager.
+     *
+     * @param table  the table
+     */
+    void invalidate(TableIdentifier<?> table);
+
+    /**
+     * Removes all cached results for all tables.
+     */
+    void invalidateAll();
+
+    /**
+     * Returns the current version of the specified table. The version is
+     * incremented every time the results of the table are invalidated. The
+     * version should be read before a query is executed and then be passed to
+     * {@link #put(TableIdentifier, String, List, long, List)} so that a result
+     * is never cached if the table was modified while it was read.
+     *
+     * @param table  the table
+     * @return       the current version
+     */
+    long getVersion(TableIdentifier<?> table);
+
+    /**
+     * Returns the cached rows of the specified query, if any. If caching is
+     * not enabled for the table or if the current thread is in a
+     * transaction, an empty {@code Optional} is always returned.
+     *
+     * @param table   the table that is queried
+     * @param sql     the SQL string
+     * @param values  the values bound to the SQL string
+     * @return        the cached rows, or empty if not cached
+     */
+    Optional<List<Object[]>> get(TableIdentifier<?> table, String sql, List<?> values);
+
+    /**
+     * Caches the rows of the specified query. If the version of the table is
+     * no longer the specified version, if caching is not enabled for the
+     * table or if the current thread is in a transaction, the rows are not
+     * cached.
+     *
+     * @param table    the table that is queried
+     * @param sql      the SQL string
+     * @param values   the values bound to the SQL string
+     * @param version  the version of the table before the query was executed
+     * @param rows     the rows returned by the query
+     */
+    void put(TableIdentifier<?> table, String sql, List<?> values, long version, List<Object[]> rows);
+
+    /**
+     * Returns the number of times a query was found in the cache.
+     *
+     * @return  the number of hits
+     */
+    long getHits();
+
+    /**
+     * Returns the number of times a query for an enabled table was not found
+     * in the cache.
+     *
+     * @return  the number of misses
+     */
+    long getMisses();
+
+    /**
+     * Returns the number of cached results that have been removed to stay
+     * within the memory bound or because they expired. Results removed by
+     * {@link #invalidate(TableIdentifier) invalidation} are not counted.
+     *
+     * @return  the number of evictions
+     */
+    long getEvictions();
+}
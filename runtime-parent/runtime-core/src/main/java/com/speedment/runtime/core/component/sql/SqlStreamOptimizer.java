@@ -44,6 +44,27 @@ public interface SqlStreamOptimizer<ENTITY> {
      */
     <P extends Pipeline> Metrics metrics(P initialPipeline, DbmsType dbmsType);
 
+    /**
+     * Returns a metric of how well this optimizer can optimize the given
+     * pipeline, including {@link Metrics#getEstimatedRowsTransferred()
+     * estimates} of the cost of the plan if the
+     * {@link SqlStreamOptimizerInfo#getTableStatistics() table statistics}
+     * are known. When the estimates of all candidates are known, the
+     * optimizer with the lowest estimated cost is selected.
+     * <p>
+     * The default implementation returns
+     * {@link #metrics(Pipeline, DbmsType)} without estimates.
+     *
+     * @param <P> Pipeline type
+     * @param initialPipeline to optimize
+     * @param info about the SQL
+     * @return how well this optimizer can optimize the given pipeline
+     * @since 3.1.5
+     */
+    default <P extends Pipeline> Metrics metrics(P initialPipeline, SqlStreamOptimizerInfo<ENTITY> info) {
+        return metrics(initialPipeline, info.getDbmsType());
+    }
+
     /**
      * Returns an optimized pipeline, potentially by modifying the query.
      *
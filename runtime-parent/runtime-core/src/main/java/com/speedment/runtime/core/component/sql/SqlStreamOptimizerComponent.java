@@ -27,6 +27,21 @@ public interface SqlStreamOptimizerComponent {
 
     <ENTITY> SqlStreamOptimizer<ENTITY> get(Pipeline initialPipeline, DbmsType dbmsType);
 
+    /**
+     * Returns the optimizer to use for the specified pipeline. Unlike
+     * {@link #get(Pipeline, DbmsType)}, the candidates may estimate the cost
+     * of their plans using the table statistics of the info.
+     *
+     * @param <ENTITY> the entity type
+     * @param initialPipeline the pipeline to optimize
+     * @param info about the SQL
+     * @return the optimizer to use
+     * @since 3.1.5
+     */
+    default <ENTITY> SqlStreamOptimizer<ENTITY> get(Pipeline initialPipeline, SqlStreamOptimizerInfo<ENTITY> info) {
+        return get(initialPipeline, info.getDbmsType());
+    }
+
     <ENTITY> void install(SqlStreamOptimizer<ENTITY> sqlStreamOptimizer);
 
 }
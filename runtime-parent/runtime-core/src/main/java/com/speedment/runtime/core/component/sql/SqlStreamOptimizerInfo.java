@@ -21,12 +21,14 @@
  */
 package com.speedment.runtime.core.component.sql;
 
+import com.speedment.runtime.core.component.statistics.TableStatistics;
 import com.speedment.runtime.core.db.DbmsType;
 import com.speedment.runtime.core.internal.component.sql.SqlStreamOptimizerInfoImpl;
 import com.speedment.runtime.field.Field;
 import java.util.List;
-import java.util.function.BiFunction;
+import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.function.ToLongBiFunction;
 
 /**
@@ -87,6 +89,17 @@ public interface SqlStreamOptimizerInfo<ENTITY> {
      */
     Function<Field<ENTITY>, Class<?>> getSqlDatabaseTypeFunction();
 
+    /**
+     * Returns the statistics of the queried table, if they have been read.
+     * Optimizers can use them to estimate the cost of a plan.
+     *
+     * @return the statistics of the queried table
+     * @since 3.1.5
+     */
+    default Optional<TableStatistics> getTableStatistics() {
+        return Optional.empty();
+    }
+
     static <ENTITY> SqlStreamOptimizerInfo<ENTITY> of(
         final DbmsType dbmsType,
         final String sqlSelect,
@@ -94,6 +107,26 @@ public interface SqlStreamOptimizerInfo<ENTITY> {
         final ToLongBiFunction<String, List<Object>> counter,
         final Function<Field<ENTITY>, String> sqlColumnNamer,
         final Function<Field<ENTITY>, Class<?>> sqlDatabaseTypeFunction
+    ) {
+        return of(
+            dbmsType,
+            sqlSelect,
+            sqlSelectCount,
+            counter,
+            sqlColumnNamer,
+            sqlDatabaseTypeFunction,
+            Optional::empty
+        );
+    }
+
+    static <ENTITY> SqlStreamOptimizerInfo<ENTITY> of(
+        final DbmsType dbmsType,
+        final String sqlSelect,
+        final String sqlSelectCount,
+        final ToLongBiFunction<String, List<Object>> counter,
+        final Function<Field<ENTITY>, String> sqlColumnNamer,
+        final Function<Field<ENTITY>, Class<?>> sqlDatabaseTypeFunction,
+        final Supplier<Optional<TableStatistics>> tableStatistics
     ) {
         return new SqlStreamOptimizerInfoImpl<>(
             dbmsType,
@@ -101,7 +134,8 @@ public interface SqlStreamOptimizerInfo<ENTITY> {
             sqlSelectCount,
             counter,
             sqlColumnNamer,
-            sqlDatabaseTypeFunction
+            sqlDatabaseTypeFunction,
+            tableStatistics
         );
     }
 
@@ -0,0 +1,108 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.component.statistics;
+
+import com.speedment.runtime.core.internal.component.statistics.ColumnStatisticsImpl;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+
+/**
+ * Statistics about the values of a single column, as estimated by a
+ * {@link TableStatisticsReader}. Each figure is optional since not every
+ * source can provide it.
+ *
+ * @since   3.1.5
+ */
+public interface ColumnStatistics {
+
+    /**
+     * Returns the database name of the column.
+     *
+     * @return  the column name
+     */
+    String getColumnName();
+
+    /**
+     * Returns the estimated number of distinct non-null values in the column.
+     *
+     * @return  the distinct count, if known
+     */
+    OptionalLong getDistinctCount();
+
+    /**
+     * Returns the estimated fraction of rows where the column is null, a
+     * value between 0 and 1.
+     *
+     * @return  the null fraction, if known
+     */
+    OptionalDouble getNullFraction();
+
+    /**
+     * Returns the smallest value of the column.
+     *
+     * @return  the smallest value, if known
+     */
+    Optional<Object> getMin();
+
+    /**
+     * Returns the largest value of the column.
+     *
+     * @return  the largest value, if known
+     */
+    Optional<Object> getMax();
+
+    /**
+     * Returns the estimated fraction of rows that match a predicate testing
+     * the column for equality with a single value, assuming the values are
+     * evenly distributed.
+     *
+     * @return  the selectivity, if the distinct count is known
+     */
+    default OptionalDouble getEqualitySelectivity() {
+        final OptionalLong distinct = getDistinctCount();
+        if (distinct.isPresent() && distinct.getAsLong() > 0) {
+            return OptionalDouble.of(1d / distinct.getAsLong());
+        } else {
+            return OptionalDouble.empty();
+        }
+    }
+
+    /**
+     * Creates a new {@code ColumnStatistics}. Figures that are not known are
+     * passed as empty or {@code null}.
+     *
+     * @param columnName     the database name of the column
+     * @param distinctCount  the distinct count
+     * @param nullFraction   the null fraction
+     * @param min            the smallest value, or {@code null}
+     * @param max            the largest value, or {@code null}
+     * @return               the column statistics
+     */
+    static ColumnStatistics of(
+            String columnName,
+            OptionalLong distinctCount,
+            OptionalDouble nullFraction,
+            Object min,
+            Object max) {
+
+        return new ColumnStatisticsImpl(
+            columnName, distinctCount, nullFraction, min, max
+        );
+    }
+}
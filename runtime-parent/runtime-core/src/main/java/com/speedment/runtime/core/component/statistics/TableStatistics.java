@@ -0,0 +1,77 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.component.statistics;
+
+import com.speedment.runtime.core.internal.component.statistics.TableStatisticsImpl;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Statistics about the rows of a table, as estimated by a
+ * {@link TableStatisticsReader}. Figures read from a database catalog are
+ * only as accurate as the catalog was when it was last analyzed.
+ *
+ * @since   3.1.5
+ */
+public interface TableStatistics {
+
+    /**
+     * Returns the estimated number of rows in the table.
+     *
+     * @return  the row count
+     */
+    long getRowCount();
+
+    /**
+     * Returns the statistics of the column with the specified database name.
+     *
+     * @param columnName  the column name
+     * @return            the column statistics, if any were read
+     */
+    Optional<ColumnStatistics> getColumn(String columnName);
+
+    /**
+     * Returns the statistics of all the columns that statistics were read
+     * for.
+     *
+     * @return  stream of column statistics
+     */
+    Stream<ColumnStatistics> columns();
+
+    /**
+     * Returns the time when these statistics were read, in milliseconds since
+     * the epoch.
+     *
+     * @return  the time of reading
+     */
+    long getTimestamp();
+
+    /**
+     * Creates a new {@code TableStatistics} read at the current time.
+     *
+     * @param rowCount  the estimated number of rows
+     * @param columns   the statistics of the columns
+     * @return          the table statistics
+     */
+    static TableStatistics of(long rowCount, Collection<ColumnStatistics> columns) {
+        return new TableStatisticsImpl(
+            rowCount, columns, System.currentTimeMillis()
+        );
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.component.statistics;
+
+import com.speedment.common.injector.annotation.InjectKey;
+import com.speedment.runtime.config.identifier.TableIdentifier;
+import com.speedment.runtime.core.exception.SpeedmentException;
+import com.speedment.runtime.core.manager.Manager;
+
+import java.util.Optional;
+
+/**
+ * A component that keeps the {@link TableStatistics} of the tables of the
+ * project, so that optimizers can estimate the cost of a query instead of
+ * relying on fixed rules.
+ * <p>
+ * Statistics are read using {@link #refresh(TableIdentifier)}. If
+ * {@code statistics.readInBackground} is {@code true}, they are also read in
+ * the background the first time they are requested and read again once they
+ * are older than {@code statistics.maxAge} milliseconds. Until then, the
+ * previous statistics are returned. Reading in the background is disabled
+ * by default since, for databases that do not keep statistics of their own,
+ * every table is counted and sampled.
+ *
+ * @since   3.1.5
+ */
+@InjectKey(TableStatisticsComponent.class)
+public interface TableStatisticsComponent {
+
+    /**
+     * Installs the reader to use for the tables of the specified dbms,
+     * replacing the reader of its {@code DbmsType} and any reader previously
+     * installed for it. Statistics already read are kept until they expire.
+     *
+     * @param dbmsId  the id of the dbms
+     * @param reader  the reader
+     */
+    void install(String dbmsId, TableStatisticsReader reader);
+
+    /**
+     * Returns the statistics of the specified table. This method never
+     * blocks. If reading in the background is enabled and there are no
+     * statistics yet, or if they have expired, they are read in the
+     * background.
+     *
+     * @param table  the table identifier
+     * @return       the latest statistics read, or empty if none
+     */
+    Optional<TableStatistics> get(TableIdentifier<?> table);
+
+    /**
+     * Returns the statistics of the table of the specified manager. This
+     * method never blocks.
+     *
+     * @param manager  the manager
+     * @return         the latest statistics read, or empty if none
+     *
+     * @see #get(TableIdentifier)
+     */
+    default Optional<TableStatistics> get(Manager<?> manager) {
+        return get(manager.getTableIdentifier());
+    }
+
+    /**
+     * Reads the statistics of the specified table, waiting for the result.
+     *
+     * @param table  the table identifier
+     * @return       the statistics
+     *
+     * @throws SpeedmentException  if the statistics could not be read
+     */
+    TableStatistics refresh(TableIdentifier<?> table);
+
+    /**
+     * Discards the statistics of the specified table, for example after a
+     * bulk load has changed its contents.
+     *
+     * @param table  the table identifier
+     */
+    void invalidate(TableIdentifier<?> table);
+}
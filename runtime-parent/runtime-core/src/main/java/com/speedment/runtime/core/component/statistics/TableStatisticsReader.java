@@ -0,0 +1,67 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.component.statistics;
+
+import com.speedment.runtime.config.Table;
+import com.speedment.runtime.core.db.DbmsType;
+import com.speedment.runtime.core.internal.component.statistics.SamplingTableStatisticsReader;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Reads the statistics of a table from the database. Connectors provide
+ * readers that use the statistics the database keeps in its catalog, for
+ * example {@code pg_stats} in PostgreSQL. The portable
+ * {@link #sampling(int)} reader computes them from the rows of the table.
+ * <p>
+ * The reader of a dbms is by default the one returned by
+ * {@link DbmsType#getTableStatisticsReader()}. Another reader can be
+ * installed using
+ * {@link TableStatisticsComponent#install(String, TableStatisticsReader)}.
+ *
+ * @since   3.1.5
+ */
+@FunctionalInterface
+public interface TableStatisticsReader {
+
+    /**
+     * Reads the statistics of the specified table.
+     *
+     * @param connection  the connection to read from
+     * @param dbmsType    the type of the dbms of the table
+     * @param table       the table
+     * @return            the statistics
+     *
+     * @throws SQLException  if the statistics could not be read
+     */
+    TableStatistics read(Connection connection, DbmsType dbmsType, Table table)
+    throws SQLException;
+
+    /**
+     * Returns a reader that counts the rows of the table and computes the
+     * statistics of each enabled column from the first {@code sampleSize}
+     * rows returned by the database. The distinct count is extrapolated to
+     * the whole table if every sampled value was unique.
+     *
+     * @param sampleSize  the maximum number of rows to sample
+     * @return            the reader
+     */
+    static TableStatisticsReader sampling(int sampleSize) {
+        return new SamplingTableStatisticsReader(sampleSize);
+    }
+}
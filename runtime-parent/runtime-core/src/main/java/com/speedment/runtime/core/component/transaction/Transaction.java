@@ -17,6 +17,7 @@
 package com.speedment.runtime.core.component.transaction;
 
 import com.speedment.runtime.core.exception.TransactionException;
+import java.util.concurrent.Callable;
 
 /**
  *
@@ -67,6 +68,88 @@ public interface Transaction {
      * issued separated from this transaction's scope.
      */
     void detachCurrentThread();
+
+    /**
+     * Binds the current thread to this Transaction until the returned handle
+     * is closed. If the current thread is already bound to this Transaction,
+     * closing the handle does nothing.
+     * <p>
+     * EXAMPLE:
+     * <pre>
+     * {@code
+     *     executor.submit(() -> {
+     *         try (Transaction.Binding binding = tx.bind()) {
+     *             films.persist(film);
+     *         }
+     *     });
+     * }
+     * </pre>
+     *
+     * @return a handle that detaches the current thread when closed
+     * @throws IllegalStateException if the current thread is already
+     * associated with another Transaction within any transaction domain.
+     * @since 3.1.5
+     */
+    Binding bind();
+
+    /**
+     * Returns a task that runs the provided task with the thread that
+     * executes it bound to this Transaction. This can be used to let tasks
+     * submitted to an executor participate in this Transaction.
+     *
+     * @param task to wrap
+     * @return a task that is bound to this Transaction while running
+     * @since 3.1.5
+     */
+    default Runnable wrap(Runnable task) {
+        return () -> {
+            final Binding binding = bind();
+            try {
+                task.run();
+            } finally {
+                binding.close();
+            }
+        };
+    }
+
+    /**
+     * Returns a task that calls the provided task with the thread that
+     * executes it bound to this Transaction. This can be used to let tasks
+     * submitted to an executor participate in this Transaction.
+     *
+     * @param <V> the result type of the task
+     * @param task to wrap
+     * @return a task that is bound to this Transaction while running
+     * @since 3.1.5
+     */
+    default <V> Callable<V> wrap(Callable<V> task) {
+        return () -> {
+            final Binding binding = bind();
+            try {
+                return task.call();
+            } finally {
+                binding.close();
+            }
+        };
+    }
+
+    /**
+     * A handle of the association between a thread and a Transaction that
+     * is created by {@link #bind()}. The handle must be closed by the same
+     * thread that created it.
+     *
+     * @since 3.1.5
+     */
+    interface Binding extends AutoCloseable {
+
+        /**
+         * Detaches the thread that created this handle from the Transaction.
+         *
+         * @throws IllegalStateException if called by another thread
+         */
+        @Override
+        void close();
+    }
     
 //    /**
 //     * Closes this transaction, rolling back any uncommitted updates, detatching
@@ -17,7 +17,11 @@
 package com.speedment.runtime.core.component.transaction;
 
 import com.speedment.common.injector.annotation.InjectKey;
+import com.speedment.runtime.config.identifier.TableIdentifier;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 /**
@@ -52,6 +56,51 @@ public interface TransactionComponent {
      */
     <T> TransactionHandler creaateTransactionHandler(T dataSource); // <T extends TransactionCapable>
 
+    /**
+     * Creates and returns a new TransactionHandler for the single Dbms
+     * defined in the current Speedment Project that uses group commit.
+     *
+     * @param window the longest time to wait for other units to join a commit
+     * @param maxUnits the largest number of units to commit together
+     * @return a new group commit TransactionHandler
+     * @throws IllegalStateException if there is not exactly one Dbms defined in
+     * the current project.
+     * @see #createGroupCommitTransactionHandler(Object, Duration, int)
+     * @since 3.1.5
+     */
+    TransactionHandler createGroupCommitTransactionHandler(Duration window, int maxUnits);
+
+    /**
+     * Creates and returns a new TransactionHandler for the provided data
+     * source that uses group commit.
+     * <p>
+     * Units of work that are started from different threads within the
+     * given window are executed one at a time in a single shared
+     * transaction, each on its own thread and within its own savepoint. A
+     * unit that does not commit, or that rolls back or fails, only undoes its
+     * own changes. The shared transaction is committed once all the units
+     * have been executed, and {@code createAndApply} does not return before
+     * that commit has completed. If the shared commit fails, all the units
+     * fail.
+     * <p>
+     * Group commit trades the latency of a single unit (at most the window)
+     * for fewer commits when many small units are executed concurrently. It
+     * requires a transaction aware object that is a {@code java.sql.Connection}
+     * supporting savepoints. Since units in the same group are executed on
+     * the same connection, they can observe each other's uncommitted changes.
+     *
+     * @param <T> Type of the data source
+     * @param dataSource the data source for which transactions are consistent.
+     * @param window the longest time to wait for other units to join a commit
+     * @param maxUnits the largest number of units to commit together
+     * @return a new group commit TransactionHandler
+     * @throws IllegalArgumentException if this TransactionComponent cannot
+     * determine that the provided data source can be used with transactions.
+     * @throws NullPointerException if the provided data source is null.
+     * @since 3.1.5
+     */
+    <T> TransactionHandler createGroupCommitTransactionHandler(T dataSource, Duration window, int maxUnits);
+
     /**
      * Associates a certain data store class (e.g. Dbms) to some way of handling
      * an object that supports transactions (e.g. Connection) using a
@@ -98,6 +147,18 @@ public interface TransactionComponent {
      */
     Optional<Object> get(Thread thread);
 
+    /**
+     * Returns a transaction aware object (if any) for the current thread. This
+     * is equivalent to {@code get(Thread.currentThread())}, but implementations
+     * may be able to look it up faster.
+     *
+     * @return a transaction aware object (if any) for the current thread
+     * @since 3.1.5
+     */
+    default Optional<Object> current() {
+        return get(Thread.currentThread());
+    }
+
     /**
      * Removes the thread association to a transaction aware object (if
      * previously associated). If the thread was not previously associated, this
@@ -118,4 +179,41 @@ public interface TransactionComponent {
      */
     Stream<Thread> threads(Object txObject);
 
+    /**
+     * Records that the table with the provided identifier has been modified
+     * within the transaction of the provided transaction aware object. The
+     * recorded tables are passed to every
+     * {@link #addCompletionListener(Consumer) completion listener} the next
+     * time the transaction is committed or rolled back.
+     *
+     * @param txObject transaction aware object
+     * @param table the modified table
+     * @throws NullPointerException if txObject or table is null
+     * @since 3.1.5
+     */
+    default void addModifiedTable(Object txObject, TableIdentifier<?> table) {}
+
+    /**
+     * Adds a listener that is called with the tables that have been modified
+     * in a transaction each time that transaction is committed or rolled
+     * back. The listener is not called if no table was modified.
+     *
+     * @param listener to add
+     * @throws NullPointerException if listener is null
+     * @since 3.1.5
+     */
+    default void addCompletionListener(Consumer<? super Set<TableIdentifier<?>>> listener) {}
+
+    /**
+     * Notifies the completion listeners that the transaction of the provided
+     * transaction aware object has been committed or rolled back, and
+     * forgets the tables that were modified in it. This must be called
+     * before the transaction aware object is released.
+     *
+     * @param txObject transaction aware object
+     * @throws NullPointerException if txObject is null
+     * @since 3.1.5
+     */
+    default void complete(Object txObject) {}
+
 }
@@ -18,6 +18,7 @@ package com.speedment.runtime.core.db;
 
 import com.speedment.runtime.config.Dbms;
 import com.speedment.runtime.core.internal.manager.sql.SqlInsertStatement;
+import com.speedment.runtime.core.manager.BulkLoadResult;
 import com.speedment.runtime.core.stream.parallel.ParallelStrategy;
 import com.speedment.runtime.field.Field;
 import java.sql.*;
@@ -151,6 +152,104 @@ public interface DbmsOperationHandler {
      */
     void executeDelete(Dbms dbms, String sql, List<?> values) throws SQLException;
 
+    /**
+     * Returns if this handler can load rows into a table using
+     * {@link #executeBulkLoad(Dbms, String, List, Stream)}.
+     * <p>
+     * The default implementation returns {@code false}.
+     *
+     * @return if bulk loading is supported
+     * @since 3.1.5
+     */
+    default boolean isBulkLoadSupported() {
+        return false;
+    }
+
+    /**
+     * Returns if this handler can load rows into a table of the specified
+     * dbms using {@link #executeBulkLoad(Dbms, String, List, Stream)}. This
+     * can differ between databases of the same type, for example if bulk
+     * loading has to be allowed by the server.
+     * <p>
+     * The default implementation returns {@link #isBulkLoadSupported()}.
+     *
+     * @param dbms the dbms to load rows into
+     * @return if bulk loading is supported for the dbms
+     * @since 3.1.5
+     */
+    default boolean isBulkLoadSupported(Dbms dbms) {
+        return isBulkLoadSupported();
+    }
+
+    /**
+     * Loads the specified rows into a table using the bulk load mechanism of
+     * the database, for example {@code COPY ... FROM STDIN} in PostgreSQL.
+     * This is typically much faster than inserting the rows one by one, but
+     * generated keys are not returned.
+     * <p>
+     * If the current thread is in a transaction, the rows are loaded within
+     * that transaction.
+     *
+     * @param dbms the dbms to send it to
+     * @param sqlTableReference the full name of the table
+     * @param sqlColumnNames the enclosed names of the columns to load
+     * @param rows the values of each row in database types, ordered like the
+     * columns
+     * @return the number of loaded rows and any problems reported for
+     * individual rows
+     * @throws SQLFeatureNotSupportedException if bulk loading turned out not
+     * to be available before any row was read, in which case the rows may be
+     * inserted in another way
+     * @throws SQLException if the load failed
+     * @throws UnsupportedOperationException if bulk loading is not
+     * {@link #isBulkLoadSupported(Dbms) supported}
+     * @since 3.1.5
+     */
+    default BulkLoadResult executeBulkLoad(
+        Dbms dbms,
+        String sqlTableReference,
+        List<String> sqlColumnNames,
+        Stream<Object[]> rows
+    ) throws SQLException {
+        throw new UnsupportedOperationException(
+            getClass().getSimpleName() + " does not support bulk loading."
+        );
+    }
+
+    /**
+     * Returns if this handler can read rows using
+     * {@link #executeBulkExport(Dbms, String)}.
+     * <p>
+     * The default implementation returns {@code false}.
+     *
+     * @return if bulk export is supported
+     * @since 3.1.5
+     */
+    default boolean isBulkExportSupported() {
+        return false;
+    }
+
+    /**
+     * Reads the rows of the specified query using the bulk export mechanism
+     * of the database, for example {@code COPY ... TO STDOUT} in PostgreSQL.
+     * The values of each row are returned in their textual representation,
+     * or {@code null} for SQL {@code NULL}.
+     * <p>
+     * The returned stream holds a connection and must be closed.
+     *
+     * @param dbms the dbms to send it to
+     * @param sql the non-null SQL query to execute
+     * @return a stream of the values of each row
+     * @throws UnsupportedOperationException if bulk export is not
+     * {@link #isBulkExportSupported() supported}
+     * @since 3.1.5
+     */
+    default Stream<Object[]> executeBulkExport(Dbms dbms, String sql) {
+        throw new UnsupportedOperationException(
+            getClass().getSimpleName() + " does not support bulk export."
+        );
+    }
+
     /**
      * Constructs an object that implements the <code>Clob</code> interface. The
      * object returned initially contains no data. The
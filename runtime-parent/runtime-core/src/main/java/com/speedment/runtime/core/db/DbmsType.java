@@ -16,6 +16,8 @@
  */
 package com.speedment.runtime.core.db;
 
+import com.speedment.runtime.core.component.statistics.TableStatistics;
+import com.speedment.runtime.core.component.statistics.TableStatisticsReader;
 import com.speedment.runtime.core.db.metadata.TypeInfoMetaData;
 import com.speedment.runtime.config.Dbms;
 import com.speedment.runtime.config.Schema;
@@ -294,4 +296,16 @@ public interface DbmsType {
      */
     SortByNullOrderInsertion getSortByNullOrderInsertion();
 
+    /**
+     * Returns the reader to use for the {@link TableStatistics} of tables in
+     * this database type. By default, this method returns a reader that
+     * samples the first 10 000 rows of the table.
+     *
+     * @return the table statistics reader
+     * @since 3.1.5
+     */
+    default TableStatisticsReader getTableStatisticsReader() {
+        return TableStatisticsReader.sampling(10_000);
+    }
+
 }
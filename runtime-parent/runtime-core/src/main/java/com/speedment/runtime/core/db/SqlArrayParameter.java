@@ -0,0 +1,76 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.db;
+
+import com.speedment.runtime.core.internal.manager.sql.SqlArrayParameterImpl;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A value in a {@link SqlPredicateFragment} that is bound to a single
+ * parameter of a statement as an SQL array. This allows a database that
+ * supports arrays to use the same statement regardless of the number of
+ * elements, for an example {@code column = ANY (?)} instead of an
+ * {@code IN}-list with one parameter per element.
+ * <p>
+ * The array is created using
+ * {@link java.sql.Connection#createArrayOf(String, Object[])} when the
+ * statement is executed.
+ *
+ * @since   3.1.5
+ */
+public interface SqlArrayParameter {
+
+    /**
+     * Returns the SQL name of the element type, as expected by
+     * {@link java.sql.Connection#createArrayOf(String, Object[])}.
+     *
+     * @return  the element type name
+     */
+    String getTypeName();
+
+    /**
+     * Returns an unmodifiable list of the elements of the array.
+     *
+     * @return  the elements
+     */
+    List<Object> getElements();
+
+    /**
+     * Returns a new array parameter of the same type where every element has
+     * been mapped using the specified mapper. This is used to convert the
+     * elements into their database type.
+     *
+     * @param mapper  the element mapper
+     * @return        the new parameter
+     */
+    SqlArrayParameter map(Function<Object, Object> mapper);
+
+    /**
+     * Creates a new array parameter.
+     *
+     * @param typeName  the SQL name of the element type
+     * @param elements  the elements
+     * @return          the new parameter
+     */
+    static SqlArrayParameter of(String typeName, Collection<?> elements) {
+        return new SqlArrayParameterImpl(typeName, elements);
+    }
+
+}
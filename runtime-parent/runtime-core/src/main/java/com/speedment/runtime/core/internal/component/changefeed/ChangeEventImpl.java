@@ -0,0 +1,75 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.component.changefeed;
+
+import com.speedment.runtime.config.identifier.TableIdentifier;
+import com.speedment.runtime.core.component.changefeed.ChangeEvent;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Default implementation of the {@link ChangeEvent}-interface.
+ *
+ * @param <ENTITY>  the entity type
+ *
+ * @since   3.1.5
+ */
+public final class ChangeEventImpl<ENTITY> implements ChangeEvent<ENTITY> {
+
+    private final TableIdentifier<ENTITY> table;
+    private final Type type;
+    private final ENTITY entity;
+    private final long position;
+
+    public ChangeEventImpl(
+            TableIdentifier<ENTITY> table,
+            Type type,
+            ENTITY entity,
+            long position) {
+
+        this.table    = requireNonNull(table);
+        this.type     = requireNonNull(type);
+        this.entity   = requireNonNull(entity);
+        this.position = position;
+    }
+
+    @Override
+    public Type getType() {
+        return type;
+    }
+
+    @Override
+    public ENTITY getEntity() {
+        return entity;
+    }
+
+    @Override
+    public long getPosition() {
+        return position;
+    }
+
+    @Override
+    public TableIdentifier<ENTITY> getTableIdentifier() {
+        return table;
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeEvent{type=" + type + ", position=" + position
+            + ", entity=" + entity + "}";
+    }
+}
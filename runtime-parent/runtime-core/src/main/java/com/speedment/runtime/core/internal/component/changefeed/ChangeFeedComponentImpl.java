@@ -0,0 +1,155 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.component.changefeed;
+
+import com.speedment.common.injector.Injector;
+import com.speedment.common.injector.State;
+import com.speedment.common.injector.annotation.Config;
+import com.speedment.common.injector.annotation.ExecuteBefore;
+import com.speedment.common.injector.annotation.Inject;
+import com.speedment.runtime.config.Dbms;
+import com.speedment.runtime.config.Project;
+import com.speedment.runtime.config.Table;
+import com.speedment.runtime.config.identifier.TableIdentifier;
+import com.speedment.runtime.config.util.DocumentDbUtil;
+import com.speedment.runtime.core.component.ProjectComponent;
+import com.speedment.runtime.core.component.SqlAdapter;
+import com.speedment.runtime.core.component.changefeed.ChangeFeed;
+import com.speedment.runtime.core.component.changefeed.ChangeFeedComponent;
+import com.speedment.runtime.core.component.changefeed.ChangeFeedReader;
+import com.speedment.runtime.core.component.connectionpool.ConnectionPoolComponent;
+import com.speedment.runtime.core.db.SqlFunction;
+
+import java.sql.ResultSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Default implementation of the {@link ChangeFeedComponent}-interface.
+ * <p>
+ * Subscriptions poll every {@code changefeed.pollInterval} milliseconds and
+ * read at most {@code changefeed.batchSize} changes per query. Each
+ * subscription polls from a daemon thread of its own.
+ *
+ * @since   3.1.5
+ */
+public final class ChangeFeedComponentImpl implements ChangeFeedComponent {
+
+    @Config(name = "changefeed.pollInterval", value = "1000")
+    private long pollInterval;
+    @Config(name = "changefeed.batchSize", value = "1000")
+    private int batchSize;
+
+    @Inject
+    private ProjectComponent projectComponent;
+    @Inject
+    private ConnectionPoolComponent connectionPoolComponent;
+
+    private final Map<String, ChangeFeedReader> readers;
+    private final Map<TableIdentifier<?>, SqlFunction<ResultSet, ?>> entityMappers;
+    private final Set<ScheduledExecutorService> schedulers;
+
+    public ChangeFeedComponentImpl() {
+        this.readers       = new ConcurrentHashMap<>();
+        this.entityMappers = new ConcurrentHashMap<>();
+        this.schedulers    = ConcurrentHashMap.newKeySet();
+        this.pollInterval  = 1000;
+        this.batchSize     = 1000;
+    }
+
+    @ExecuteBefore(State.STARTED)
+    void collectEntityMappers(Injector injector) {
+        injector.stream(SqlAdapter.class)
+            .map(sa -> (SqlAdapter<?>) sa)
+            .forEach(this::putEntityMapper);
+    }
+
+    @ExecuteBefore(State.STOPPED)
+    void stop() {
+        schedulers.forEach(ScheduledExecutorService::shutdownNow);
+        schedulers.clear();
+    }
+
+    @Override
+    public void install(String dbmsId, ChangeFeedReader reader) {
+        readers.put(requireNonNull(dbmsId), requireNonNull(reader));
+    }
+
+    @Override
+    public <ENTITY> ChangeFeed<ENTITY> feed(TableIdentifier<ENTITY> table) {
+        requireNonNull(table);
+
+        final ChangeFeedReader reader = readers.get(table.getDbmsId());
+        if (reader == null) {
+            throw new IllegalStateException(
+                "No change feed reader is installed for dbms '"
+                + table.getDbmsId() + "'."
+            );
+        }
+
+        @SuppressWarnings("unchecked")
+        final SqlFunction<ResultSet, ENTITY> entityMapper =
+            (SqlFunction<ResultSet, ENTITY>) entityMappers.get(table);
+
+        if (entityMapper == null) {
+            throw new IllegalStateException(
+                "No SqlAdapter is installed for table " + table + "."
+            );
+        }
+
+        final Project project = projectComponent.getProject();
+        final Table tbl       = DocumentDbUtil.referencedTable(project, table);
+        final Dbms dbms       = DocumentDbUtil.referencedDbms(project, table);
+
+        return new ChangeFeedImpl<>(
+            table,
+            tbl,
+            entityMapper,
+            reader,
+            () -> connectionPoolComponent.getConnection(dbms),
+            () -> newScheduler(table),
+            pollInterval,
+            batchSize
+        );
+    }
+
+    private <ENTITY> void putEntityMapper(SqlAdapter<ENTITY> sqlAdapter) {
+        entityMappers.put(sqlAdapter.identifier(), sqlAdapter.entityMapper());
+    }
+
+    private ScheduledExecutorService newScheduler(TableIdentifier<?> table) {
+        // Schedulers of closed subscriptions are shut down already
+        schedulers.removeIf(ScheduledExecutorService::isShutdown);
+
+        final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(r -> {
+                final Thread t = new Thread(r,
+                    "speedment-changefeed-" + table.getTableId()
+                );
+                t.setDaemon(true);
+                return t;
+            });
+
+        schedulers.add(scheduler);
+        return scheduler;
+    }
+}
@@ -0,0 +1,235 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.component.changefeed;
+
+import com.speedment.common.logger.Logger;
+import com.speedment.common.logger.LoggerManager;
+import com.speedment.runtime.config.Column;
+import com.speedment.runtime.config.Table;
+import com.speedment.runtime.config.identifier.TableIdentifier;
+import com.speedment.runtime.core.component.changefeed.ChangeEvent;
+import com.speedment.runtime.core.component.changefeed.ChangeFeed;
+import com.speedment.runtime.core.component.changefeed.ChangeFeedReader;
+import com.speedment.runtime.core.component.changefeed.ChangeRecord;
+import com.speedment.runtime.core.db.SqlFunction;
+import com.speedment.runtime.core.db.SqlSupplier;
+import com.speedment.runtime.core.exception.SpeedmentException;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Default implementation of the {@link ChangeFeed}-interface. The values of
+ * each {@link ChangeRecord} are ordered like the enabled columns of the
+ * table, which is the order expected by the entity mapper of the table.
+ *
+ * @param <ENTITY>  the entity type
+ *
+ * @since   3.1.5
+ */
+final class ChangeFeedImpl<ENTITY> implements ChangeFeed<ENTITY> {
+
+    private static final Logger LOGGER = LoggerManager.getLogger(ChangeFeedImpl.class);
+
+    private final TableIdentifier<ENTITY> identifier;
+    private final Table table;
+    private final List<String> columnNames;
+    private final SqlFunction<ResultSet, ENTITY> entityMapper;
+    private final ChangeFeedReader reader;
+    private final SqlSupplier<Connection> connectionSupplier;
+    private final Supplier<ScheduledExecutorService> schedulerFactory;
+    private final long pollInterval;
+    private final int batchSize;
+
+    ChangeFeedImpl(
+            TableIdentifier<ENTITY> identifier,
+            Table table,
+            SqlFunction<ResultSet, ENTITY> entityMapper,
+            ChangeFeedReader reader,
+            SqlSupplier<Connection> connectionSupplier,
+            Supplier<ScheduledExecutorService> schedulerFactory,
+            long pollInterval,
+            int batchSize) {
+
+        this.identifier         = requireNonNull(identifier);
+        this.table              = requireNonNull(table);
+        this.entityMapper       = requireNonNull(entityMapper);
+        this.reader             = requireNonNull(reader);
+        this.connectionSupplier = requireNonNull(connectionSupplier);
+        this.schedulerFactory   = requireNonNull(schedulerFactory);
+        this.pollInterval       = pollInterval;
+        this.batchSize          = batchSize;
+        this.columnNames        = table.columns()
+            .filter(Column::isEnabled)
+            .map(Column::getName)
+            .collect(toList());
+    }
+
+    @Override
+    public TableIdentifier<ENTITY> getTableIdentifier() {
+        return identifier;
+    }
+
+    @Override
+    public long poll(long after, int maxEvents, Consumer<? super ChangeEvent<ENTITY>> consumer) {
+        requireNonNull(consumer);
+        try (final Connection connection = connectionSupplier.get()) {
+            return reader.read(connection, table, after, maxEvents,
+                record -> consumer.accept(toEvent(record))
+            );
+        } catch (final SQLException ex) {
+            throw new SpeedmentException(
+                "Error reading changes of table " + identifier + ".", ex
+            );
+        }
+    }
+
+    @Override
+    public Subscription subscribe(long after, Consumer<? super ChangeEvent<ENTITY>> consumer) {
+        final ScheduledExecutorService scheduler = schedulerFactory.get();
+        final SubscriptionImpl subscription = new SubscriptionImpl(after, requireNonNull(consumer), scheduler);
+        subscription.future = scheduler.scheduleWithFixedDelay(
+            subscription::poll, 0, pollInterval, TimeUnit.MILLISECONDS
+        );
+        return subscription;
+    }
+
+    @Override
+    public void acknowledge(long position) {
+        try (final Connection connection = connectionSupplier.get()) {
+            reader.acknowledge(connection, table, position);
+        } catch (final SQLException ex) {
+            throw new SpeedmentException(
+                "Error acknowledging changes of table " + identifier + ".", ex
+            );
+        }
+    }
+
+    private ChangeEvent<ENTITY> toEvent(ChangeRecord record) {
+        final Map<String, Object> values = record.getValues();
+        final Object[] row = new Object[columnNames.size()];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = valueOf(values, columnNames.get(i));
+        }
+
+        try {
+            return ChangeEvent.of(
+                identifier,
+                record.getType(),
+                entityMapper.apply(ColumnValueResultSet.of(row)),
+                record.getPosition()
+            );
+        } catch (final SQLException ex) {
+            throw new SpeedmentException(
+                "Error creating entity from " + record + " of table "
+                + identifier + ".", ex
+            );
+        }
+    }
+
+    private static Object valueOf(Map<String, Object> values, String columnName) {
+        final Object value = values.get(columnName);
+        if (value != null || values.containsKey(columnName)) {
+            return value;
+        }
+
+        // Some databases report names in a different case than the one used
+        // in the configuration.
+        return values.entrySet().stream()
+            .filter(e -> e.getKey().equalsIgnoreCase(columnName))
+            .map(Map.Entry::getValue)
+            .findFirst()
+            .orElse(null);
+    }
+
+    private final class SubscriptionImpl implements Subscription {
+
+        private final Consumer<? super ChangeEvent<ENTITY>> consumer;
+        private final ScheduledExecutorService scheduler;
+        private volatile long position;
+        private volatile ScheduledFuture<?> future;
+        private long pending;
+        private int delivered;
+
+        private SubscriptionImpl(
+                long position,
+                Consumer<? super ChangeEvent<ENTITY>> consumer,
+                ScheduledExecutorService scheduler) {
+
+            this.position  = position;
+            this.consumer  = consumer;
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        public long getPosition() {
+            return position;
+        }
+
+        @Override
+        public void close() {
+            final ScheduledFuture<?> f = future;
+            if (f != null) {
+                f.cancel(false);
+            }
+            scheduler.shutdown();
+        }
+
+        private void poll() {
+            try {
+                // Keep polling without delay as long as full batches are
+                // returned, so that a subscriber that falls behind catches up.
+                do {
+                    delivered = 0;
+                    pending   = position;
+                    position  = ChangeFeedImpl.this.poll(position, batchSize, this::deliver);
+                } while (delivered >= batchSize && !isClosed());
+            } catch (final RuntimeException ex) {
+                // The position is that of the last change delivered that does
+                // not share its position with the change that failed, so the
+                // next poll starts with the changes at the failed position.
+                LOGGER.error(ex, "Error polling changes of table %s.", identifier);
+            }
+        }
+
+        private void deliver(ChangeEvent<ENTITY> event) {
+            if (event.getPosition() != pending) {
+                // Every change at the previous position has been delivered
+                position = pending;
+            }
+            consumer.accept(event);
+            pending = event.getPosition();
+            delivered++;
+        }
+
+        private boolean isClosed() {
+            final ScheduledFuture<?> f = future;
+            return f != null && f.isCancelled();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.component.changefeed;
+
+import com.speedment.runtime.core.component.changefeed.ChangeEvent;
+import com.speedment.runtime.core.component.changefeed.ChangeRecord;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Default implementation of the {@link ChangeRecord}-interface.
+ *
+ * @since   3.1.5
+ */
+public final class ChangeRecordImpl implements ChangeRecord {
+
+    private final long position;
+    private final ChangeEvent.Type type;
+    private final Map<String, Object> values;
+
+    public ChangeRecordImpl(long position, ChangeEvent.Type type, Map<String, Object> values) {
+        this.position = position;
+        this.type     = requireNonNull(type);
+        this.values   = Collections.unmodifiableMap(new LinkedHashMap<>(values));
+    }
+
+    @Override
+    public long getPosition() {
+        return position;
+    }
+
+    @Override
+    public ChangeEvent.Type getType() {
+        return type;
+    }
+
+    @Override
+    public Map<String, Object> getValues() {
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeRecord{type=" + type + ", position=" + position
+            + ", values=" + values + "}";
+    }
+}
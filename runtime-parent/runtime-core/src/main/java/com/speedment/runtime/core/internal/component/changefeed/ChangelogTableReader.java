@@ -0,0 +1,189 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.component.changefeed;
+
+import com.speedment.runtime.config.Schema;
+import com.speedment.runtime.config.Table;
+import com.speedment.runtime.core.component.changefeed.ChangeEvent;
+import com.speedment.runtime.core.component.changefeed.ChangeFeedReader;
+import com.speedment.runtime.core.component.changefeed.ChangeRecord;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link ChangeFeedReader} that tails a changelog table maintained by
+ * triggers. See {@link ChangeFeedReader#changelogTable(String)} for the
+ * expected layout of the table.
+ * <p>
+ * Positions are assigned when a row is written, but rows only become
+ * visible when their transaction commits, so a position can be missing for
+ * a while after a higher one has become visible. Reading stops at such a gap
+ * until the missing position appears or the gap has been open for longer
+ * than the gap timeout, after which the position is assumed to belong to a
+ * transaction that was rolled back.
+ *
+ * @since   3.1.5
+ */
+public final class ChangelogTableReader implements ChangeFeedReader {
+
+    static final String POSITION  = "changelog_position";
+    static final String OPERATION = "changelog_operation";
+
+    static final long DEFAULT_GAP_TIMEOUT = 10_000;
+
+    private final String suffix;
+    private final long gapTimeout;
+    private final Map<String, Long> gaps;
+
+    public ChangelogTableReader(String suffix) {
+        this(suffix, DEFAULT_GAP_TIMEOUT);
+    }
+
+    public ChangelogTableReader(String suffix, long gapTimeout) {
+        this.suffix     = requireNonNull(suffix);
+        this.gapTimeout = gapTimeout;
+        this.gaps       = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public long read(
+            Connection connection,
+            Table table,
+            long after,
+            int maxRecords,
+            Consumer<ChangeRecord> consumer) throws SQLException {
+
+        final String quote = quoteOf(connection);
+        final String name  = changelogName(table, quote);
+        final String sql   = "SELECT * FROM " + name
+            + " WHERE " + quote + POSITION + quote + " > ?"
+            + " ORDER BY " + quote + POSITION + quote;
+
+        long position = after;
+        try (final PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setLong(1, after);
+            ps.setMaxRows(maxRecords);
+
+            try (final ResultSet rs = ps.executeQuery()) {
+                final ResultSetMetaData meta = rs.getMetaData();
+                final int columns = meta.getColumnCount();
+
+                while (rs.next()) {
+                    final Map<String, Object> values = new LinkedHashMap<>();
+                    ChangeEvent.Type type = null;
+                    long next = position;
+
+                    for (int i = 1; i <= columns; i++) {
+                        final String label = meta.getColumnLabel(i);
+                        if (POSITION.equalsIgnoreCase(label)) {
+                            next = rs.getLong(i);
+                        } else if (OPERATION.equalsIgnoreCase(label)) {
+                            type = typeOf(rs.getString(i));
+                        } else {
+                            values.put(label, rs.getObject(i));
+                        }
+                    }
+
+                    if (type == null) {
+                        throw new SQLException(
+                            "Changelog table of " + table.getName()
+                            + " has no column " + OPERATION + "."
+                        );
+                    }
+
+                    if (next > position + 1) {
+                        if (!isGapExpired(name, position + 1)) {
+                            break;
+                        }
+                    } else if (!gaps.isEmpty()) {
+                        // The missing position appeared before the timeout
+                        gaps.remove(name + "@" + next);
+                    }
+
+                    consumer.accept(ChangeRecord.of(next, type, values));
+                    position = next;
+                }
+            }
+        }
+
+        return position;
+    }
+
+    @Override
+    public void acknowledge(Connection connection, Table table, long position) throws SQLException {
+        final String quote = quoteOf(connection);
+        final String sql = "DELETE FROM " + changelogName(table, quote)
+            + " WHERE " + quote + POSITION + quote + " <= ?";
+
+        try (final PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setLong(1, position);
+            ps.executeUpdate();
+        }
+    }
+
+    /**
+     * Returns {@code true} if the specified position has been missing from
+     * the changelog for longer than the gap timeout. The time a gap was
+     * first seen is remembered until the gap has been passed.
+     *
+     * @param name      the quoted name of the changelog table
+     * @param missing   the first missing position
+     * @return          {@code true} if reading may continue past the gap
+     */
+    private boolean isGapExpired(String name, long missing) {
+        final String key = name + "@" + missing;
+        final long now = System.currentTimeMillis();
+        final long firstSeen = gaps.computeIfAbsent(key, k -> now);
+        if (now - firstSeen >= gapTimeout) {
+            gaps.remove(key);
+            return true;
+        }
+        return false;
+    }
+
+    private String changelogName(Table table, String quote) {
+        final Schema schema = table.getParentOrThrow();
+        return quote + schema.getName() + quote + "."
+            + quote + table.getName() + suffix + quote;
+    }
+
+    private static String quoteOf(Connection connection) throws SQLException {
+        final String quote = connection.getMetaData().getIdentifierQuoteString();
+        return quote == null || quote.trim().isEmpty() ? "" : quote;
+    }
+
+    private static ChangeEvent.Type typeOf(String operation) throws SQLException {
+        switch (operation == null ? "" : operation.trim().toUpperCase()) {
+            case "I" : return ChangeEvent.Type.INSERT;
+            case "U" : return ChangeEvent.Type.UPDATE;
+            case "D" : return ChangeEvent.Type.DELETE;
+            default  : throw new SQLException(
+                "Unknown changelog operation '" + operation + "'."
+            );
+        }
+    }
+}
@@ -0,0 +1,337 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.component.changefeed;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+
+/**
+ * A read-only {@code ResultSet} positioned on a single row of values, used to
+ * apply the entity mapper of a table to the values of a change or of a bulk
+ * export. Since the values may come from sources that only have a textual
+ * representation of a value, each value is converted into the return type of
+ * the getter that reads it.
+ * Only getters that take the index of the column are supported.
+ *
+ * @since   3.1.5
+ */
+public final class ColumnValueResultSet {
+
+    private static final Class<?>[] RESULT_SET = {ResultSet.class};
+
+    /**
+     * Returns a {@code ResultSet} that reads the specified values, indexed
+     * from 1.
+     *
+     * @param row  the values
+     * @return     the result set
+     */
+    public static ResultSet of(Object[] row) {
+        return (ResultSet) Proxy.newProxyInstance(
+            ColumnValueResultSet.class.getClassLoader(),
+            RESULT_SET,
+            new Handler(row)
+        );
+    }
+
+    private static final class Handler implements InvocationHandler {
+
+        private final Object[] row;
+        private boolean wasNull;
+
+        private Handler(Object[] row) {
+            this.row = row;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals"   : return proxy == args[0];
+                    case "hashCode" : return System.identityHashCode(proxy);
+                    default         : return "ColumnValueResultSet" + Arrays.toString(row);
+                }
+            }
+
+            switch (method.getName()) {
+                case "wasNull"  : return wasNull;
+                case "close"    : return null;
+                case "isClosed" : return false;
+            }
+
+            if (method.getName().startsWith("get")
+            &&  method.getParameterCount() > 0
+            &&  method.getParameterTypes()[0] == int.class) {
+                final int index = (Integer) args[0];
+                if (index < 1 || index > row.length) {
+                    throw new SQLException("Column index " + index + " is out of range.");
+                }
+
+                final Object value = row[index - 1];
+                wasNull = value == null;
+
+                final Class<?> type = method.getParameterCount() == 2
+                        && args[1] instanceof Class
+                    ? (Class<?>) args[1]
+                    : method.getReturnType();
+
+                return convert(value, type);
+            }
+
+            throw new SQLFeatureNotSupportedException(
+                "ResultSet." + method.getName() + " is not supported by ColumnValueResultSet."
+            );
+        }
+    }
+
+    /**
+     * Converts the specified value into the specified type. A {@code null}
+     * value is converted into the default value of the type.
+     *
+     * @param value  the value to convert, or {@code null}
+     * @param type   the type to convert to
+     * @return       the converted value
+     *
+     * @throws SQLException  if the value can not be converted
+     */
+    static Object convert(Object value, Class<?> type) throws SQLException {
+        if (value == null) {
+            return defaultValue(type);
+        } else if (type == Object.class || (type.isInstance(value) && !(value instanceof java.util.Date))) {
+            return value;
+        }
+
+        try {
+            if (type == String.class) {
+                return value instanceof byte[]
+                    ? new String((byte[]) value, StandardCharsets.UTF_8)
+                    : value.toString();
+            } else if (type == boolean.class || type == Boolean.class) {
+                return toBoolean(value);
+            } else if (type == byte.class || type == Byte.class) {
+                return toNumber(value).byteValue();
+            } else if (type == short.class || type == Short.class) {
+                return toNumber(value).shortValue();
+            } else if (type == int.class || type == Integer.class) {
+                return toNumber(value).intValue();
+            } else if (type == long.class || type == Long.class) {
+                return toNumber(value).longValue();
+            } else if (type == float.class || type == Float.class) {
+                return toNumber(value).floatValue();
+            } else if (type == double.class || type == Double.class) {
+                return toNumber(value).doubleValue();
+            } else if (type == BigDecimal.class) {
+                return toBigDecimal(value);
+            } else if (type == BigInteger.class) {
+                return toBigDecimal(value).toBigIntegerExact();
+            } else if (type == Timestamp.class) {
+                return toTimestamp(value);
+            } else if (type == Date.class) {
+                return value instanceof LocalDate
+                    ? Date.valueOf((LocalDate) value)
+                    : new Date(toTimestamp(value).getTime());
+            } else if (type == Time.class) {
+                return value instanceof LocalTime
+                    ? Time.valueOf((LocalTime) value)
+                    : value instanceof String
+                        ? Time.valueOf((String) value)
+                        : new Time(toTimestamp(value).getTime());
+            } else if (type == byte[].class) {
+                return toBytes(value);
+            } else if (type == LocalDate.class) {
+                return value instanceof String
+                    ? LocalDate.parse((String) value)
+                    : toTimestamp(value).toLocalDateTime().toLocalDate();
+            } else if (type == LocalTime.class) {
+                return value instanceof String
+                    ? LocalTime.parse((String) value)
+                    : toTimestamp(value).toLocalDateTime().toLocalTime();
+            } else if (type == LocalDateTime.class) {
+                return toTimestamp(value).toLocalDateTime();
+            } else if (type == Instant.class) {
+                return toTimestamp(value).toInstant();
+            }
+        } catch (final IllegalArgumentException | ArithmeticException ex) {
+            throw new SQLException(
+                "Value '" + value + "' can not be converted into " + type.getSimpleName() + ".", ex
+            );
+        }
+
+        if (type.isInstance(value)) {
+            return value;
+        }
+
+        throw new SQLException(
+            "Value of " + value.getClass().getSimpleName()
+            + " can not be converted into " + type.getSimpleName() + "."
+        );
+    }
+
+    private static boolean toBoolean(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        } else if (value instanceof Number) {
+            return ((Number) value).doubleValue() != 0;
+        } else {
+            switch (value.toString().trim().toLowerCase()) {
+                case "t" : case "true" : case "y" : case "yes" : case "on" : case "1" :
+                    return true;
+                case "f" : case "false" : case "n" : case "no" : case "off" : case "0" :
+                    return false;
+                default : throw new IllegalArgumentException(
+                    "'" + value + "' is not a boolean."
+                );
+            }
+        }
+    }
+
+    private static Number toNumber(Object value) {
+        if (value instanceof Number) {
+            return (Number) value;
+        } else if (value instanceof Boolean) {
+            return (Boolean) value ? 1 : 0;
+        } else {
+            return toBigDecimal(value);
+        }
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        } else if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        } else if (value instanceof Boolean) {
+            return (Boolean) value ? BigDecimal.ONE : BigDecimal.ZERO;
+        } else {
+            return new BigDecimal(value.toString().trim());
+        }
+    }
+
+    private static Timestamp toTimestamp(Object value) {
+        if (value instanceof java.util.Date) {
+            return new Timestamp(((java.util.Date) value).getTime());
+        } else if (value instanceof LocalDateTime) {
+            return Timestamp.valueOf((LocalDateTime) value);
+        } else if (value instanceof LocalDate) {
+            return Timestamp.valueOf(((LocalDate) value).atStartOfDay());
+        } else if (value instanceof Instant) {
+            return Timestamp.from((Instant) value);
+        } else if (value instanceof OffsetDateTime) {
+            return Timestamp.from(((OffsetDateTime) value).toInstant());
+        } else if (value instanceof ZonedDateTime) {
+            return Timestamp.from(((ZonedDateTime) value).toInstant());
+        } else if (value instanceof Number) {
+            return new Timestamp(((Number) value).longValue());
+        } else {
+            final String text = value.toString().trim().replace('T', ' ');
+            if (text.length() == 10) {
+                return Timestamp.valueOf(LocalDate.parse(text).atStartOfDay());
+            }
+
+            final int offset = offsetIndex(text);
+            if (offset < 0) {
+                return Timestamp.valueOf(text);
+            }
+
+            // A timestamp with a time zone, like '2018-01-01 10:00:00+01'
+            final String zone = text.substring(offset);
+            final OffsetDateTime dateTime = OffsetDateTime.of(
+                Timestamp.valueOf(text.substring(0, offset)).toLocalDateTime(),
+                "Z".equals(zone) ? ZoneOffset.UTC : ZoneOffset.of(zone)
+            );
+            return Timestamp.from(dateTime.toInstant());
+        }
+    }
+
+    /**
+     * Returns the index where the offset of the specified timestamp text
+     * starts, or {@code -1} if the text has no offset. The date part may
+     * contain '-' so the offset is only looked for in the time part.
+     *
+     * @param text  the timestamp text
+     * @return      the index of the offset or {@code -1}
+     */
+    private static int offsetIndex(String text) {
+        for (int i = text.length() - 1; i > 10; i--) {
+            final char c = text.charAt(i);
+            if (c == '+' || c == '-' || c == 'Z') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static byte[] toBytes(Object value) {
+        if (value instanceof byte[]) {
+            return ((byte[]) value).clone();
+        }
+
+        final String text = value.toString();
+        if (text.startsWith("\\x")) {
+            // The hexadecimal format used by PostgreSQL for bytea
+            final byte[] bytes = new byte[(text.length() - 2) / 2];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = (byte) Integer.parseInt(text.substring(2 + 2 * i, 4 + 2 * i), 16);
+            }
+            return bytes;
+        } else {
+            return text.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return null;
+        } else if (type == boolean.class) {
+            return false;
+        } else if (type == byte.class) {
+            return (byte) 0;
+        } else if (type == short.class) {
+            return (short) 0;
+        } else if (type == int.class) {
+            return 0;
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == float.class) {
+            return 0f;
+        } else if (type == double.class) {
+            return 0d;
+        } else {
+            return (char) 0;
+        }
+    }
+
+    private ColumnValueResultSet() {}
+}
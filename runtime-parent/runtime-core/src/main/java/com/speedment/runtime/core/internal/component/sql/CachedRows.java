@@ -0,0 +1,361 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.component.sql;
+
+import com.speedment.runtime.core.db.SqlFunction;
+import com.speedment.runtime.core.exception.SpeedmentException;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.temporal.TemporalAccessor;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Records the values that an entity mapper reads from a {@code ResultSet}
+ * into compact row arrays, and replays such rows to the same mapper later on.
+ * <p>
+ * Since the recorded value of a column is the value returned by the getter
+ * the mapper used, replaying a row returns exactly the same value without any
+ * type conversion. Only getters that take the index of the column are
+ * supported and only values that can safely outlive the {@code ResultSet}
+ * are recorded. Mutable values ({@code byte[]} and {@code java.util.Date})
+ * are copied both when they are recorded and when they are replayed, so an
+ * entity can never modify a cached row.
+ *
+ * @since   3.1.5
+ */
+final class CachedRows {
+
+    private static final Class<?>[] RESULT_SET = {ResultSet.class};
+
+    /**
+     * Returns a sequential stream of entities created by applying the
+     * specified mapper to each of the specified rows.
+     *
+     * @param <T>     the entity type
+     * @param rows    the recorded rows
+     * @param mapper  the entity mapper
+     * @return        stream of entities
+     */
+    static <T> Stream<T> replay(List<Object[]> rows, SqlFunction<ResultSet, T> mapper) {
+        requireNonNull(rows);
+        requireNonNull(mapper);
+        return rows.stream().map(row -> {
+            try {
+                return mapper.apply(resultSet(new Replayer(row)));
+            } catch (SQLException sqle) {
+                throw new SpeedmentException(sqle);
+            }
+        });
+    }
+
+    /**
+     * Returns a stream that invokes the specified action if the specified
+     * stream is consumed until its end. If the stream is split for parallel
+     * execution, the {@code onSplit} action is invoked instead and the end is
+     * no longer tracked.
+     *
+     * @param <T>         the element type
+     * @param stream      the stream to wrap
+     * @param onExhausted invoked once the last element has been consumed
+     * @param onSplit     invoked if the stream is split
+     * @return            the wrapped stream
+     */
+    static <T> Stream<T> onExhausted(Stream<T> stream, Runnable onExhausted, Runnable onSplit) {
+        final Spliterator<T> spliterator = new ExhaustionSpliterator<>(
+            stream.spliterator(), onExhausted, onSplit
+        );
+        return StreamSupport.stream(spliterator, stream.isParallel())
+            .onClose(stream::close);
+    }
+
+    /**
+     * An entity mapper that records the values read by another mapper.
+     *
+     * @param <T>  the entity type
+     */
+    static final class Recorder<T> implements SqlFunction<ResultSet, T> {
+
+        private final SqlFunction<ResultSet, T> mapper;
+        private final int maxRows;
+        private final List<Object[]> rows;
+        private ResultSet source, proxy;
+        private Object[] current;
+        private int columns;
+        private volatile boolean abandoned;
+
+        Recorder(SqlFunction<ResultSet, T> mapper, int maxRows) {
+            this.mapper  = requireNonNull(mapper);
+            this.maxRows = maxRows;
+            this.rows    = new ArrayList<>();
+        }
+
+        @Override
+        public T apply(ResultSet resultSet) throws SQLException {
+            if (abandoned) {
+                return mapper.apply(resultSet);
+            }
+
+            if (proxy == null || source != resultSet) {
+                source  = resultSet;
+                columns = resultSet.getMetaData().getColumnCount();
+                proxy   = resultSet(new RecordingHandler(this, resultSet));
+            }
+
+            current = new Object[columns];
+            final T entity = mapper.apply(proxy);
+            if (!abandoned) {
+                rows.add(current);
+                if (rows.size() > maxRows) {
+                    abandon();
+                }
+            }
+            current = null;
+            return entity;
+        }
+
+        /**
+         * Stops recording and discards the rows recorded so far.
+         */
+        void abandon() {
+            abandoned = true;
+            rows.clear();
+        }
+
+        /**
+         * Returns the recorded rows, or an empty {@code Optional} if the
+         * recording was abandoned.
+         *
+         * @return  the recorded rows
+         */
+        Optional<List<Object[]>> rows() {
+            return abandoned ? Optional.empty() : Optional.of(rows);
+        }
+
+        private void record(int columnIndex, Object value) {
+            if (current == null || columnIndex < 1 || columnIndex > current.length) {
+                abandon();
+            } else {
+                current[columnIndex - 1] = value;
+            }
+        }
+    }
+
+    private static final class RecordingHandler implements InvocationHandler {
+
+        private final Recorder<?> recorder;
+        private final ResultSet resultSet;
+
+        private RecordingHandler(Recorder<?> recorder, ResultSet resultSet) {
+            this.recorder  = recorder;
+            this.resultSet = resultSet;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            final Object result;
+            try {
+                result = method.invoke(resultSet, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+
+            if (isColumnGetter(method)) {
+                if (args[0] instanceof Integer && isCacheable(result)) {
+                    // The result is handed to the mapper, so a mutable value
+                    // is copied to keep the recorded row intact
+                    recorder.record(
+                        (Integer) args[0],
+                        resultSet.wasNull() ? null : copy(result)
+                    );
+                } else {
+                    recorder.abandon();
+                }
+            }
+
+            return result;
+        }
+    }
+
+    private static final class Replayer implements InvocationHandler {
+
+        private final Object[] row;
+        private boolean wasNull;
+
+        private Replayer(Object[] row) {
+            this.row = row;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals"   : return proxy == args[0];
+                    case "hashCode" : return System.identityHashCode(proxy);
+                    default         : return "CachedRow" + Arrays.toString(row);
+                }
+            }
+
+            switch (method.getName()) {
+                case "wasNull"  : return wasNull;
+                case "close"    : return null;
+                case "isClosed" : return false;
+            }
+
+            if (isColumnGetter(method) && args[0] instanceof Integer) {
+                final int index = (Integer) args[0];
+                if (index < 1 || index > row.length) {
+                    throw new SQLException("Column index " + index + " is out of range.");
+                }
+
+                final Object value = row[index - 1];
+                wasNull = value == null;
+                return wasNull ? defaultValue(method.getReturnType()) : copy(value);
+            }
+
+            throw new SQLFeatureNotSupportedException(
+                "ResultSet." + method.getName() + " is not supported for cached rows."
+            );
+        }
+    }
+
+    private static final class ExhaustionSpliterator<T> implements Spliterator<T> {
+
+        private final Spliterator<T> inner;
+        private final Runnable onExhausted, onSplit;
+        private boolean done;
+
+        private ExhaustionSpliterator(Spliterator<T> inner, Runnable onExhausted, Runnable onSplit) {
+            this.inner       = requireNonNull(inner);
+            this.onExhausted = requireNonNull(onExhausted);
+            this.onSplit     = requireNonNull(onSplit);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (inner.tryAdvance(action)) {
+                return true;
+            } else {
+                exhausted();
+                return false;
+            }
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            inner.forEachRemaining(action);
+            exhausted();
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            final Spliterator<T> prefix = inner.trySplit();
+            if (prefix != null && !done) {
+                done = true;
+                onSplit.run();
+            }
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return inner.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return inner.characteristics();
+        }
+
+        private void exhausted() {
+            if (!done) {
+                done = true;
+                onExhausted.run();
+            }
+        }
+    }
+
+    private static ResultSet resultSet(InvocationHandler handler) {
+        return (ResultSet) Proxy.newProxyInstance(
+            CachedRows.class.getClassLoader(), RESULT_SET, handler
+        );
+    }
+
+    private static boolean isColumnGetter(Method method) {
+        return method.getName().startsWith("get")
+            && method.getParameterCount() > 0
+            && (method.getParameterTypes()[0] == int.class
+             || method.getParameterTypes()[0] == String.class);
+    }
+
+    private static boolean isCacheable(Object value) {
+        return value == null
+            || value instanceof Number
+            || value instanceof String
+            || value instanceof Boolean
+            || value instanceof Character
+            || value instanceof Date
+            || value instanceof UUID
+            || value instanceof TemporalAccessor
+            || value instanceof Enum
+            || value instanceof byte[];
+    }
+
+    private static Object copy(Object value) {
+        if (value instanceof byte[]) {
+            return ((byte[]) value).clone();
+        } else if (value instanceof Date) {
+            return ((Date) value).clone();
+        } else {
+            return value;
+        }
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return null;
+        } else if (type == boolean.class) {
+            return false;
+        } else if (type == byte.class) {
+            return (byte) 0;
+        } else if (type == short.class) {
+            return (short) 0;
+        } else if (type == int.class) {
+            return 0;
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == float.class) {
+            return 0f;
+        } else if (type == double.class) {
+            return 0d;
+        } else {
+            return (char) 0;
+        }
+    }
+
+    private CachedRows() {}
+}
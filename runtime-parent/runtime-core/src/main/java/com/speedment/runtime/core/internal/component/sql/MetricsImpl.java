@@ -18,6 +18,7 @@ package com.speedment.runtime.core.internal.component.sql;
 
 import static com.speedment.common.invariant.IntRangeUtil.requireNonNegative;
 import com.speedment.runtime.core.component.sql.Metrics;
+import java.util.OptionalLong;
 
 /**
  *
@@ -30,6 +31,9 @@ public class MetricsImpl implements Metrics {
     private final int sqlOrderCount;
     private final int sqlSkipCount;
     private final int sqlLimitCount;
+    private final long estimatedRowsTransferred;
+    private final long estimatedJvmWork;
+    private final long estimatedDatabaseWork;
 
     public MetricsImpl(
         final int pipelineReductions,
@@ -37,12 +41,32 @@ public class MetricsImpl implements Metrics {
         final int sqlOrderCount,
         final int sqlSkipCount,
         final int sqlLimitCount
+    ) {
+        this(pipelineReductions, sqlWhileCount, sqlOrderCount, sqlSkipCount, sqlLimitCount, -1, -1, -1);
+    }
+
+    /**
+     * Creates a new MetricsImpl. A negative estimate means that it is not
+     * known.
+     */
+    public MetricsImpl(
+        final int pipelineReductions,
+        final int sqlWhileCount,
+        final int sqlOrderCount,
+        final int sqlSkipCount,
+        final int sqlLimitCount,
+        final long estimatedRowsTransferred,
+        final long estimatedJvmWork,
+        final long estimatedDatabaseWork
     ) {
         this.pipelineReductions = requireNonNegative(pipelineReductions);
         this.sqlWhileCount = requireNonNegative(sqlWhileCount);
         this.sqlOrderCount = requireNonNegative(sqlOrderCount);
         this.sqlSkipCount = requireNonNegative(sqlSkipCount);
-        this.sqlLimitCount = requireNonNegative(sqlSkipCount);
+        this.sqlLimitCount = requireNonNegative(sqlLimitCount);
+        this.estimatedRowsTransferred = estimatedRowsTransferred;
+        this.estimatedJvmWork = estimatedJvmWork;
+        this.estimatedDatabaseWork = estimatedDatabaseWork;
     }
 
     @Override
@@ -70,14 +94,38 @@ public class MetricsImpl implements Metrics {
         return sqlLimitCount;
     }
 
+    @Override
+    public OptionalLong getEstimatedRowsTransferred() {
+        return estimatedRowsTransferred < 0
+            ? OptionalLong.empty()
+            : OptionalLong.of(estimatedRowsTransferred);
+    }
+
+    @Override
+    public OptionalLong getEstimatedJvmWork() {
+        return estimatedJvmWork < 0
+            ? OptionalLong.empty()
+            : OptionalLong.of(estimatedJvmWork);
+    }
+
+    @Override
+    public OptionalLong getEstimatedDatabaseWork() {
+        return estimatedDatabaseWork < 0
+            ? OptionalLong.empty()
+            : OptionalLong.of(estimatedDatabaseWork);
+    }
+
     @Override
     public String toString() {
-        return String.format("Metrics {pipelineReductions = %d, sqlWhileCount = %d, sqlOrderCount = %d, sqlSkipCount = %d, sqlLimitCount = %d}",
+        return String.format("Metrics {pipelineReductions = %d, sqlWhileCount = %d, sqlOrderCount = %d, sqlSkipCount = %d, sqlLimitCount = %d, estimatedRowsTransferred = %d, estimatedJvmWork = %d, estimatedDatabaseWork = %d}",
             getPipelineReductions(),
             getSqlWhileCount(),
             getSqlOrderCount(),
             getSqlSkipCount(),
-            getSqlLimitCount()
+            getSqlLimitCount(),
+            estimatedRowsTransferred,
+            estimatedJvmWork,
+            estimatedDatabaseWork
         );
     }
 
@@ -94,7 +142,10 @@ public class MetricsImpl implements Metrics {
             && this.getSqlWhileCount() == that.getSqlWhileCount()
             && this.getSqlOrderCount() == that.getSqlOrderCount()
             && this.getSqlSkipCount() == that.getSqlSkipCount()
-            && this.getSqlLimitCount() == that.getSqlLimitCount();
+            && this.getSqlLimitCount() == that.getSqlLimitCount()
+            && this.getEstimatedRowsTransferred().equals(that.getEstimatedRowsTransferred())
+            && this.getEstimatedJvmWork().equals(that.getEstimatedJvmWork())
+            && this.getEstimatedDatabaseWork().equals(that.getEstimatedDatabaseWork());
     }
 
     @Override
@@ -105,6 +156,9 @@ public class MetricsImpl implements Metrics {
         hash += 33 * getSqlOrderCount();
         hash += 33 * getSqlSkipCount();
         hash += 33 * getSqlLimitCount();
+        hash += 33 * getEstimatedRowsTransferred().hashCode();
+        hash += 33 * getEstimatedJvmWork().hashCode();
+        hash += 33 * getEstimatedDatabaseWork().hashCode();
         return hash;
     }
 
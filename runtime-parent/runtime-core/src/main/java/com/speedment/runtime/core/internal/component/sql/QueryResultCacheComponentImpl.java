@@ -0,0 +1,291 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.component.sql;
+
+import com.speedment.common.injector.State;
+import com.speedment.common.injector.annotation.Config;
+import com.speedment.common.injector.annotation.ExecuteBefore;
+import com.speedment.common.injector.annotation.Inject;
+import com.speedment.runtime.config.identifier.TableIdentifier;
+import com.speedment.runtime.core.component.sql.QueryResultCacheComponent;
+import com.speedment.runtime.core.component.transaction.TransactionComponent;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Default implementation of the {@link QueryResultCacheComponent}-interface.
+ * <p>
+ * Results are kept in least-recently-used order. The memory used is bounded
+ * by the total number of values in all cached rows, configured by
+ * {@code queryResultCache.maxValues}. Results are discarded after the number
+ * of milliseconds configured by {@code queryResultCache.timeToLive}.
+ * <p>
+ * Tables modified within a transaction are invalidated once more when the
+ * transaction is committed or rolled back, since other threads may have
+ * cached the rows as they were before the commit.
+ *
+ * @since   3.1.5
+ */
+public final class QueryResultCacheComponentImpl implements QueryResultCacheComponent {
+
+    @Config(name = "queryResultCache.maxValues", value = "1000000")
+    private int maxValues;
+    @Config(name = "queryResultCache.timeToLive", value = "60000")
+    private long timeToLive;
+
+    @Inject
+    private TransactionComponent transactionComponent;
+
+    private final Set<TableIdentifier<?>> enabled;
+    private final Map<TableIdentifier<?>, AtomicLong> versions;
+    private final LinkedHashMap<Key, Result> results;
+    private final Map<TableIdentifier<?>, Set<Key>> keysByTable;
+    private final LongAdder hits, misses, evictions;
+    private long size;
+
+    public QueryResultCacheComponentImpl() {
+        this.enabled     = ConcurrentHashMap.newKeySet();
+        this.versions    = new ConcurrentHashMap<>();
+        this.results     = new LinkedHashMap<>(16, 0.75f, true);
+        this.keysByTable = new HashMap<>();
+        this.hits        = new LongAdder();
+        this.misses      = new LongAdder();
+        this.evictions   = new LongAdder();
+        this.maxValues   = 1_000_000;
+        this.timeToLive  = 60_000;
+    }
+
+    @ExecuteBefore(State.STARTED)
+    void invalidateOnTransactionCompletion(TransactionComponent transactions) {
+        transactions.addCompletionListener(tables -> tables.forEach(this::invalidate));
+    }
+
+    @Override
+    public void enable(TableIdentifier<?> table) {
+        enabled.add(requireNonNull(table));
+    }
+
+    @Override
+    public void disable(TableIdentifier<?> table) {
+        enabled.remove(requireNonNull(table));
+        invalidate(table);
+    }
+
+    @Override
+    public boolean isEnabled(TableIdentifier<?> table) {
+        return enabled.contains(requireNonNull(table));
+    }
+
+    @Override
+    public void invalidate(TableIdentifier<?> table) {
+        requireNonNull(table);
+        version(table).incrementAndGet();
+        synchronized (results) {
+            final Set<Key> keys = keysByTable.remove(table);
+            if (keys != null) {
+                for (final Key key : keys) {
+                    final Result removed = results.remove(key);
+                    if (removed != null) {
+                        size -= removed.size;
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        versions.values().forEach(AtomicLong::incrementAndGet);
+        synchronized (results) {
+            results.clear();
+            keysByTable.clear();
+            size = 0;
+        }
+    }
+
+    @Override
+    public long getVersion(TableIdentifier<?> table) {
+        return version(requireNonNull(table)).get();
+    }
+
+    @Override
+    public Optional<List<Object[]>> get(TableIdentifier<?> table, String sql, List<?> values) {
+        if (!isActive(table)) {
+            return Optional.empty();
+        }
+
+        final Key key = new Key(table, sql, values);
+        synchronized (results) {
+            final Result result = results.get(key);
+            if (result != null) {
+                if (result.expires - System.currentTimeMillis() > 0) {
+                    hits.increment();
+                    return Optional.of(result.rows);
+                } else {
+                    remove(key);
+                    evictions.increment();
+                }
+            }
+        }
+
+        misses.increment();
+        return Optional.empty();
+    }
+
+    @Override
+    public void put(TableIdentifier<?> table, String sql, List<?> values, long version, List<Object[]> rows) {
+        requireNonNull(rows);
+        if (!isActive(table)) {
+            return;
+        }
+
+        final Key key = new Key(table, sql, values);
+        final Result result = new Result(
+            rows, System.currentTimeMillis() + timeToLive
+        );
+
+        if (result.size > maxValues) {
+            return;
+        }
+
+        synchronized (results) {
+            // Checked while holding the lock so that an invalidation can
+            // not happen between the check and the insertion.
+            if (version(table).get() != version) {
+                return;
+            }
+
+            final Result previous = results.put(key, result);
+            if (previous != null) {
+                size -= previous.size;
+            }
+            size += result.size;
+            keysByTable.computeIfAbsent(table, t -> new HashSet<>()).add(key);
+
+            final Iterator<Map.Entry<Key, Result>> it = results.entrySet().iterator();
+            while (size > maxValues && it.hasNext()) {
+                final Map.Entry<Key, Result> eldest = it.next();
+                it.remove();
+                size -= eldest.getValue().size;
+                final Set<Key> keys = keysByTable.get(eldest.getKey().table);
+                keys.remove(eldest.getKey());
+                if (keys.isEmpty()) {
+                    keysByTable.remove(eldest.getKey().table);
+                }
+                evictions.increment();
+            }
+        }
+    }
+
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    private boolean isActive(TableIdentifier<?> table) {
+        return isEnabled(table) && (transactionComponent == null
+            || !transactionComponent.current().isPresent());
+    }
+
+    private AtomicLong version(TableIdentifier<?> table) {
+        return versions.computeIfAbsent(table, t -> new AtomicLong());
+    }
+
+    private void remove(Key key) {
+        final Result removed = results.remove(key);
+        if (removed != null) {
+            size -= removed.size;
+            final Set<Key> keys = keysByTable.get(key.table);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    keysByTable.remove(key.table);
+                }
+            }
+        }
+    }
+
+    private static final class Key {
+
+        private final TableIdentifier<?> table;
+        private final String sql;
+        private final List<?> values;
+        private final int hashCode;
+
+        private Key(TableIdentifier<?> table, String sql, List<?> values) {
+            this.table    = requireNonNull(table);
+            this.sql      = requireNonNull(sql);
+            this.values   = new ArrayList<>(values); // Values may be modified later
+            this.hashCode = Objects.hash(table, sql, this.values);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key that = (Key) obj;
+            return hashCode == that.hashCode
+                && table.equals(that.table)
+                && sql.equals(that.sql)
+                && values.equals(that.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class Result {
+
+        private final List<Object[]> rows;
+        private final long expires;
+        private final long size;
+
+        private Result(List<Object[]> rows, long expires) {
+            this.rows    = Collections.unmodifiableList(new ArrayList<>(rows));
+            this.expires = expires;
+
+            // Every row is counted as at least one value so that results
+            // without any columns are bounded as well
+            long values = 0;
+            for (final Object[] row : rows) {
+                values += Math.max(1, row.length);
+            }
+            this.size = values;
+        }
+    }
+}
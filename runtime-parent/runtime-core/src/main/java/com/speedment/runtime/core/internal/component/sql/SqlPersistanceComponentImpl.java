@@ -26,8 +26,11 @@ import com.speedment.runtime.core.component.ManagerComponent;
 import com.speedment.runtime.core.component.ProjectComponent;
 import com.speedment.runtime.core.component.SqlAdapter;
 import com.speedment.runtime.core.component.resultset.ResultSetMapperComponent;
+import com.speedment.runtime.core.component.sql.QueryResultCacheComponent;
 import com.speedment.runtime.core.component.sql.SqlPersistenceComponent;
+import com.speedment.runtime.core.component.transaction.TransactionComponent;
 import com.speedment.runtime.core.exception.SpeedmentException;
+import com.speedment.runtime.core.manager.BulkLoader;
 import com.speedment.runtime.core.manager.Persister;
 import com.speedment.runtime.core.manager.Remover;
 import com.speedment.runtime.core.manager.Updater;
@@ -55,6 +58,10 @@ public final class SqlPersistanceComponentImpl implements SqlPersistenceComponen
     private ManagerComponent managerComponent;
     @Inject
     private ResultSetMapperComponent resultSetMapperComponent;
+    @Inject
+    private QueryResultCacheComponent queryResultCacheComponent;
+    @Inject
+    private TransactionComponent transactionComponent;
 
     @ExecuteBefore(STARTED)
     void startStreamSuppliers(final Injector injector) {
@@ -76,17 +83,56 @@ public final class SqlPersistanceComponentImpl implements SqlPersistenceComponen
 
     @Override
     public <ENTITY> Persister<ENTITY> persister(TableIdentifier<ENTITY> tableIdentifier) throws SpeedmentException {
-        return entity -> getPersistence(tableIdentifier).persist(entity);
+        return entity -> {
+            try {
+                return getPersistence(tableIdentifier).persist(entity);
+            } finally {
+                invalidate(tableIdentifier);
+            }
+        };
+    }
+
+    @Override
+    public <ENTITY> BulkLoader<ENTITY> bulkLoader(TableIdentifier<ENTITY> tableIdentifier) throws SpeedmentException {
+        return entities -> {
+            try {
+                return getPersistence(tableIdentifier).bulkLoad(entities);
+            } finally {
+                invalidate(tableIdentifier);
+            }
+        };
     }
 
     @Override
     public <ENTITY> Updater<ENTITY> updater(TableIdentifier<ENTITY> tableIdentifier) throws SpeedmentException {
-        return entity -> getPersistence(tableIdentifier).update(entity);
+        return entity -> {
+            try {
+                return getPersistence(tableIdentifier).update(entity);
+            } finally {
+                invalidate(tableIdentifier);
+            }
+        };
     }
 
     @Override
     public <ENTITY> Remover<ENTITY> remover(TableIdentifier<ENTITY> tableIdentifier) throws SpeedmentException {
-        return entity -> getPersistence(tableIdentifier).remove(entity);
+        return entity -> {
+            try {
+                return getPersistence(tableIdentifier).remove(entity);
+            } finally {
+                invalidate(tableIdentifier);
+            }
+        };
+    }
+
+    private void invalidate(TableIdentifier<?> tableIdentifier) {
+        queryResultCacheComponent.invalidate(tableIdentifier);
+
+        // Other threads may cache the rows as they were before the write
+        // until the transaction ends, so invalidate again at that point
+        transactionComponent.current().ifPresent(txObject ->
+            transactionComponent.addModifiedTable(txObject, tableIdentifier)
+        );
     }
 
     private <ENTITY> SqlPersistence<ENTITY> getPersistence(TableIdentifier<ENTITY> tableIdentifier) {
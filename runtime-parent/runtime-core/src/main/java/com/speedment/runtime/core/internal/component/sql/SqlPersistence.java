@@ -18,6 +18,9 @@ package com.speedment.runtime.core.internal.component.sql;
 
 import com.speedment.runtime.core.component.sql.SqlPersistenceComponent;
 import com.speedment.runtime.core.exception.SpeedmentException;
+import com.speedment.runtime.core.manager.BulkLoadResult;
+
+import java.util.stream.Stream;
 
 /**
  * The common interface for table specific persisting handlers that is managed 
@@ -40,6 +43,19 @@ interface SqlPersistence<ENTITY> {
      */
     ENTITY persist(ENTITY entity) throws SpeedmentException;
 
+    /**
+     * Persists all the specified entities in the table managed by this
+     * handler using the bulk load mechanism of the database, if it has one.
+     * Values of generated columns are not set in the entities.
+     *
+     * @param entities  the entities to persist
+     * @return          the number of persisted entities and any problems
+     *                  reported for individual rows
+     *
+     * @throws SpeedmentException  if the entities could not be persisted
+     */
+    BulkLoadResult bulkLoad(Stream<? extends ENTITY> entities) throws SpeedmentException;
+
     /**
      * Updates the specified entity in the table managed by this handler.
      * 
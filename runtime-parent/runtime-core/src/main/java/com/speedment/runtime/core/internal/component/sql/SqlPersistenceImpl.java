@@ -31,12 +31,15 @@ import com.speedment.runtime.core.db.DbmsColumnHandler;
 import com.speedment.runtime.core.db.DbmsOperationHandler;
 import com.speedment.runtime.core.db.DbmsType;
 import com.speedment.runtime.core.exception.SpeedmentException;
+import com.speedment.runtime.core.manager.BulkLoadResult;
 import com.speedment.runtime.core.manager.Manager;
 import com.speedment.runtime.core.util.DatabaseUtil;
 import com.speedment.runtime.field.Field;
 import com.speedment.runtime.typemapper.TypeMapper;
 
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -46,11 +49,15 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.speedment.common.invariant.NullUtil.requireNonNulls;
 import static com.speedment.runtime.config.util.DocumentUtil.Name.DATABASE_NAME;
 import static java.util.Comparator.comparing;
+import static java.util.Comparator.comparingInt;
 import static java.util.Objects.requireNonNull;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
@@ -85,6 +92,8 @@ final class SqlPersistenceImpl<ENTITY> implements SqlPersistence<ENTITY> {
     private final List<GeneratedFieldSupport<ENTITY, ?>> generatedFieldSupports;
     private final List<Field<ENTITY>> generatedFields;
     private final Map<Field<ENTITY>, Column> columnsByFields;
+    private final List<Field<ENTITY>> bulkLoadFields;
+    private final List<String> bulkLoadColumnNames;
 
 
     public SqlPersistenceImpl(
@@ -148,6 +157,18 @@ final class SqlPersistenceImpl<ENTITY> implements SqlPersistence<ENTITY> {
         
         this.generatedFields = generatedFieldSupports.stream()
             .map(GeneratedFieldSupport::getField).collect(toList());
+
+        this.bulkLoadFields = columnsByFields.entrySet().stream()
+            .filter(e -> includedInInsert.test(e.getValue()))
+            .sorted(comparingInt(e -> e.getValue().getOrdinalPosition()))
+            .map(Map.Entry::getKey)
+            .collect(toList());
+
+        this.bulkLoadColumnNames = bulkLoadFields.stream()
+            .map(columnsByFields::get)
+            .map(Column::getName)
+            .map(naming::encloseField)
+            .collect(toList());
     }
     
     @Override
@@ -165,6 +186,40 @@ final class SqlPersistenceImpl<ENTITY> implements SqlPersistence<ENTITY> {
         }
     }
     
+    @Override
+    public BulkLoadResult bulkLoad(Stream<? extends ENTITY> entities) throws SpeedmentException {
+        if (!operationHandler.isBulkLoadSupported(dbms)) {
+            return persistEach(entities.iterator());
+        }
+
+        final Iterator<? extends ENTITY> iterator = entities.iterator();
+        try {
+            return operationHandler.executeBulkLoad(
+                dbms,
+                sqlTableReference,
+                bulkLoadColumnNames,
+                StreamSupport.stream(spliteratorUnknownSize(iterator, ORDERED), false)
+                    .map(this::toDatabaseRow)
+            );
+        } catch (final SQLFeatureNotSupportedException ex) {
+            // No entity has been consumed, so they can be persisted instead
+            return persistEach(iterator);
+        } catch (final SQLException ex) {
+            throw new SpeedmentException(ex);
+        } finally {
+            entities.close();
+        }
+    }
+
+    private BulkLoadResult persistEach(Iterator<? extends ENTITY> entities) {
+        long count = 0;
+        while (entities.hasNext()) {
+            persist(entities.next());
+            count++;
+        }
+        return BulkLoadResult.of(count);
+    }
+
     @Override
     public ENTITY update(ENTITY entity) throws SpeedmentException {
         assertHasPrimaryKeyColumns();
@@ -223,6 +278,14 @@ final class SqlPersistenceImpl<ENTITY> implements SqlPersistence<ENTITY> {
         };
     }
     
+    private Object[] toDatabaseRow(ENTITY entity) {
+        final Object[] row = new Object[bulkLoadFields.size()];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = toDatabaseType(bulkLoadFields.get(i), entity);
+        }
+        return row;
+    }
+
     private <F extends Field<ENTITY>> Object toDatabaseType(F field, ENTITY entity) {
         final Object javaValue = field.getter().apply(entity);
         
@@ -21,18 +21,47 @@ import com.speedment.common.logger.Logger;
 import com.speedment.common.logger.LoggerManager;
 import com.speedment.runtime.core.ApplicationBuilder;
 import com.speedment.runtime.core.component.sql.*;
+import com.speedment.runtime.core.component.statistics.TableStatistics;
 import com.speedment.runtime.core.db.AsynchronousQueryResult;
 import com.speedment.runtime.core.db.DbmsType;
+import com.speedment.runtime.core.internal.component.sql.optimizer.CostEstimator;
 import com.speedment.runtime.core.internal.component.sql.optimizer.FilterSortedSkipOptimizer;
 import com.speedment.runtime.core.internal.component.sql.optimizer.InitialFilterOptimizer;
+import com.speedment.runtime.core.internal.component.sql.optimizer.PipelineShape;
 import com.speedment.runtime.core.stream.Pipeline;
 import java.util.Comparator;
 import static java.util.Comparator.comparingInt;
+import static java.util.Collections.emptySet;
 import java.util.List;
+import java.util.Map;
 import static java.util.Objects.requireNonNull;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
+ * The optimizer to use is selected by the {@link PipelineShape} of the
+ * pipeline and the {@link DbmsType}, and the selection is cached so that the
+ * metrics of the installed optimizers are only evaluated once for every
+ * distinct shape. Optimizers are therefore expected to compute their metrics
+ * without estimates from the shape of the pipeline only.
+ * <p>
+ * If the table statistics are known and the plans compete, the plan with the
+ * lowest estimated cost is selected instead, where a row transferred from the
+ * database costs as much as {@value #ROW_TRANSFER_COST} elements passed to a
+ * stream action or compared by a sort. Such selections are not cached, since
+ * the estimates depend on values that the shape leaves out, like the operands
+ * of predicates and the number of elements to skip.
+ * <p>
+ * With the optimizers that are installed by default, a plan that renders more
+ * of the pipeline as SQL never has a higher estimated cost, so their
+ * estimates can not change the selection. Plans therefore only compete if no
+ * candidate renders the whole pipeline as SQL and an installed optimizer that
+ * overrides {@link SqlStreamOptimizer#metrics(Pipeline, SqlStreamOptimizerInfo)}
+ * can reduce the pipeline.
  *
  * @author Per Minborg
  */
@@ -42,20 +71,42 @@ public final class SqlStreamOptimizerComponentImpl implements SqlStreamOptimizer
 
     private static final SqlStreamOptimizer<?> FALL_BACK = new FallbackStreamOptimizer<>();
 
+    private static final int MAX_CACHED_SELECTIONS = 1024;
+
+    /**
+     * The cost of transferring a row from the database, relative to passing
+     * an element to a stream action in the JVM.
+     */
+    private static final int ROW_TRANSFER_COST = 10;
+
     private final List<SqlStreamOptimizer<?>> optimizers;
+    private final Set<SqlStreamOptimizer<?>> estimating;
+    private final Map<DbmsType, Map<PipelineShape, Selection>> selections;
 
     public SqlStreamOptimizerComponentImpl() {
         this.optimizers = new CopyOnWriteArrayList<>();
-        install(new InitialFilterOptimizer<>());
-        install(new FilterSortedSkipOptimizer<>());
+        this.estimating = ConcurrentHashMap.newKeySet();
+        this.selections = new ConcurrentHashMap<>();
+        // The estimates of these never change the selection
+        optimizers.add(new InitialFilterOptimizer<>());
+        optimizers.add(new FilterSortedSkipOptimizer<>());
     }
 
     @Override
     public <ENTITY> SqlStreamOptimizer<ENTITY> get(Pipeline initialPipeline, DbmsType dbmsType) {
+        return get(initialPipeline, dbmsType, null);
+    }
+
+    @Override
+    public <ENTITY> SqlStreamOptimizer<ENTITY> get(Pipeline initialPipeline, SqlStreamOptimizerInfo<ENTITY> info) {
+        return get(initialPipeline, info.getDbmsType(), info);
+    }
+
+    private <ENTITY> SqlStreamOptimizer<ENTITY> get(Pipeline initialPipeline, DbmsType dbmsType, SqlStreamOptimizerInfo<ENTITY> info) {
         if (DEBUG.isEqualOrHigherThan(LOGGER_STREAM_OPTIMIZER.getLevel())) {
             LOGGER_STREAM_OPTIMIZER.debug("Evaluating %s pipeline: %s", initialPipeline.isParallel() ? "parallel" : "sequential", initialPipeline.toString());
         }
-        final SqlStreamOptimizer<ENTITY> result = getHelper(initialPipeline, dbmsType);
+        final SqlStreamOptimizer<ENTITY> result = getCached(initialPipeline, dbmsType, info);
         if (DEBUG.isEqualOrHigherThan(LOGGER_STREAM_OPTIMIZER.getLevel())) {
             LOGGER_STREAM_OPTIMIZER.debug("Selected: %s", result.getClass().getSimpleName());
         }
@@ -66,23 +117,81 @@ public final class SqlStreamOptimizerComponentImpl implements SqlStreamOptimizer
         = comparingInt(Metrics::getPipelineReductions)
             .thenComparing(comparingInt(Metrics::getSqlCount).reversed());
 
-    private <ENTITY> SqlStreamOptimizer<ENTITY> getHelper(Pipeline initialPipeline, DbmsType dbmsType) {
-        @SuppressWarnings("unchecked")
-        SqlStreamOptimizer<ENTITY> result = (SqlStreamOptimizer<ENTITY>) FALL_BACK;
+    private <ENTITY> SqlStreamOptimizer<ENTITY> getCached(Pipeline initialPipeline, DbmsType dbmsType, SqlStreamOptimizerInfo<ENTITY> info) {
         if (initialPipeline.isEmpty()) {
+            @SuppressWarnings("unchecked")
+            final SqlStreamOptimizer<ENTITY> result = (SqlStreamOptimizer<ENTITY>) FALL_BACK;
             return result;
         }
 
+        final Map<PipelineShape, Selection> cache
+            = selections.computeIfAbsent(dbmsType, $ -> new ConcurrentHashMap<>());
+        final PipelineShape shape = PipelineShape.of(initialPipeline);
+
+        Selection selection = cache.get(shape);
+        if (selection == null) {
+            selection = select(initialPipeline, dbmsType);
+            if (cache.size() < MAX_CACHED_SELECTIONS) {
+                cache.put(shape, selection);
+            }
+        }
+
+        if (selection.isCompeting() && info != null) {
+            final Optional<TableStatistics> statistics = info.getTableStatistics();
+            if (statistics.isPresent()) {
+                return getHelper(initialPipeline, info, statistics.get());
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        final SqlStreamOptimizer<ENTITY> result = (SqlStreamOptimizer<ENTITY>) selection.getOptimizer();
+        return result;
+    }
+
+    private Selection select(Pipeline initialPipeline, DbmsType dbmsType) {
+        SqlStreamOptimizer<?> result = FALL_BACK;
         Metrics metric = Metrics.empty();
+        boolean competing = false;
+
+        for (int i = optimizers.size() - 1; i >= 0; i--) {
+            final SqlStreamOptimizer<?> candidate = optimizers.get(i);
+            final Metrics candidateMetric = candidate.metrics(initialPipeline, dbmsType);
+            if (DEBUG.isEqualOrHigherThan(LOGGER_STREAM_OPTIMIZER.getLevel())) {
+                LOGGER_STREAM_OPTIMIZER.debug("Candidate: %-30s : %s ", candidate.getClass().getSimpleName(), candidateMetric);
+            }
+            if (candidateMetric.getPipelineReductions() == Integer.MAX_VALUE) {
+                return new Selection(candidate, false);
+            }
+            if (candidateMetric.getPipelineReductions() > 0 && estimating.contains(candidate)) {
+                competing = true;
+            }
+            if (isBetter(candidateMetric, metric)) {
+                metric = candidateMetric;
+                result = candidate;
+            }
+        }
+        return new Selection(result, competing);
+    }
+
+    private <ENTITY> SqlStreamOptimizer<ENTITY> getHelper(
+        final Pipeline initialPipeline,
+        final SqlStreamOptimizerInfo<ENTITY> info,
+        final TableStatistics statistics
+    ) {
+        @SuppressWarnings("unchecked")
+        SqlStreamOptimizer<ENTITY> result = (SqlStreamOptimizer<ENTITY>) FALL_BACK;
+
+        // The fall back plan streams the whole table
+        Metrics metric = CostEstimator.estimate(Metrics.empty(), initialPipeline, emptySet(), statistics);
+
         for (int i = optimizers.size() - 1; i >= 0; i--) {
             @SuppressWarnings("unchecked")
             final SqlStreamOptimizer<ENTITY> candidate = (SqlStreamOptimizer<ENTITY>) optimizers.get(i);
-            final Metrics candidateMetric = candidate.metrics(initialPipeline, dbmsType);
+            final Metrics candidateMetric = candidate.metrics(initialPipeline, info);
             if (DEBUG.isEqualOrHigherThan(LOGGER_STREAM_OPTIMIZER.getLevel())) {
                 LOGGER_STREAM_OPTIMIZER.debug("Candidate: %-30s : %s ", candidate.getClass().getSimpleName(), candidateMetric);
             }
-            if (METRICS_COMPARATOR.compare(candidateMetric, metric) > 0) {
-//            if (candidateMetric.getPipelineReductions() > metric.getPipelineReductions()) {
+            if (isBetter(candidateMetric, metric)) {
                 metric = candidateMetric;
                 result = candidate;
                 if (metric.getPipelineReductions() == Integer.MAX_VALUE) {
@@ -93,10 +202,71 @@ public final class SqlStreamOptimizerComponentImpl implements SqlStreamOptimizer
         return result;
     }
 
+    /**
+     * Returns {@code true} if the candidate metrics are better than the
+     * current. If both have estimates, the one with the lowest estimated cost
+     * is better. Otherwise, the one with the most pipeline reductions is.
+     */
+    static boolean isBetter(Metrics candidate, Metrics current) {
+        final OptionalDouble candidateCost = cost(candidate);
+        final OptionalDouble currentCost = cost(current);
+        if (candidateCost.isPresent() && currentCost.isPresent()) {
+            final int comparison = Double.compare(candidateCost.getAsDouble(), currentCost.getAsDouble());
+            if (comparison != 0) {
+                return comparison < 0;
+            }
+        }
+        return METRICS_COMPARATOR.compare(candidate, current) > 0;
+    }
+
+    private static OptionalDouble cost(Metrics metrics) {
+        final OptionalLong rows = metrics.getEstimatedRowsTransferred();
+        final OptionalLong work = metrics.getEstimatedJvmWork();
+        if (rows.isPresent() && work.isPresent()) {
+            return OptionalDouble.of((double) rows.getAsLong() * ROW_TRANSFER_COST
+                + work.getAsLong()
+                + metrics.getEstimatedDatabaseWork().orElse(0));
+        }
+        return OptionalDouble.empty();
+    }
+
     @Override
     public <ENTITY> void install(SqlStreamOptimizer<ENTITY> sqlStreamOptimizer) {
         requireNonNull(sqlStreamOptimizer);
         optimizers.add(sqlStreamOptimizer);
+        if (isEstimating(sqlStreamOptimizer)) {
+            estimating.add(sqlStreamOptimizer);
+        }
+        selections.clear();
+    }
+
+    private static boolean isEstimating(SqlStreamOptimizer<?> optimizer) {
+        try {
+            return optimizer.getClass()
+                .getMethod("metrics", Pipeline.class, SqlStreamOptimizerInfo.class)
+                .getDeclaringClass() != SqlStreamOptimizer.class;
+        } catch (final NoSuchMethodException ex) {
+            return true;
+        }
+    }
+
+    private static final class Selection {
+
+        private final SqlStreamOptimizer<?> optimizer;
+        private final boolean competing;
+
+        private Selection(SqlStreamOptimizer<?> optimizer, boolean competing) {
+            this.optimizer = requireNonNull(optimizer);
+            this.competing = competing;
+        }
+
+        private SqlStreamOptimizer<?> getOptimizer() {
+            return optimizer;
+        }
+
+        private boolean isCompeting() {
+            return competing;
+        }
     }
 
     private static class FallbackStreamOptimizer<ENTITY> implements SqlStreamOptimizer<ENTITY> {
@@ -17,11 +17,14 @@
 package com.speedment.runtime.core.internal.component.sql;
 
 import com.speedment.runtime.core.component.sql.SqlStreamOptimizerInfo;
+import com.speedment.runtime.core.component.statistics.TableStatistics;
 import com.speedment.runtime.core.db.DbmsType;
 import com.speedment.runtime.field.Field;
 import java.util.List;
 import static java.util.Objects.requireNonNull;
+import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.function.ToLongBiFunction;
 
 /**
@@ -36,6 +39,7 @@ public final class SqlStreamOptimizerInfoImpl<ENTITY> implements SqlStreamOptimi
     private final ToLongBiFunction<String, List<Object>> counter;
     private final Function<Field<ENTITY>, String> sqlColumnNamer;
     private final Function<Field<ENTITY>, Class<?>> sqlDatabaseTypeFunction;
+    private final Supplier<Optional<TableStatistics>> tableStatistics;
 
     public SqlStreamOptimizerInfoImpl(
         final DbmsType dbmsType,
@@ -43,7 +47,8 @@ public final class SqlStreamOptimizerInfoImpl<ENTITY> implements SqlStreamOptimi
         final String sqlSelectCount,
         final ToLongBiFunction<String, List<Object>> counter,
         final Function<Field<ENTITY>, String> sqlColumnNamer,
-        final Function<Field<ENTITY>, Class<?>> sqlDatabaseTypeFunction
+        final Function<Field<ENTITY>, Class<?>> sqlDatabaseTypeFunction,
+        final Supplier<Optional<TableStatistics>> tableStatistics
     ) {
         this.dbmsType = requireNonNull(dbmsType);
         this.sqlSelect = requireNonNull(sqlSelect);
@@ -51,6 +56,7 @@ public final class SqlStreamOptimizerInfoImpl<ENTITY> implements SqlStreamOptimi
         this.counter = requireNonNull(counter);
         this.sqlColumnNamer = requireNonNull(sqlColumnNamer);
         this.sqlDatabaseTypeFunction = requireNonNull(sqlDatabaseTypeFunction);
+        this.tableStatistics = requireNonNull(tableStatistics);
     }
 
     @Override
@@ -83,4 +89,9 @@ public final class SqlStreamOptimizerInfoImpl<ENTITY> implements SqlStreamOptimi
         return sqlDatabaseTypeFunction;
     }
 
+    @Override
+    public Optional<TableStatistics> getTableStatistics() {
+        return tableStatistics.get();
+    }
+
 }
@@ -17,10 +17,14 @@
 package com.speedment.runtime.core.internal.component.sql;
 
 import com.speedment.runtime.core.component.sql.SqlStreamSupplierComponent;
+import com.speedment.runtime.core.manager.PrimitiveColumns;
 import com.speedment.runtime.core.stream.parallel.ParallelStrategy;
+import com.speedment.runtime.field.Field;
 import com.speedment.runtime.field.trait.HasComparableOperators;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 /**
@@ -42,6 +46,35 @@ interface SqlStreamSupplier<ENTITY> {
      * @return                  the entity stream
      */
     Stream<ENTITY> stream(ParallelStrategy parallelStrategy);
+
+    /**
+     * Produces a sequential stream over the entities in the managed table
+     * where a single entity instance is refilled for every row.
+     *
+     * @return  the entity stream
+     */
+    Stream<ENTITY> streamWithReusedEntity();
+
+    /**
+     * Produces a sequential stream over all entities in the managed table
+     * that is read using the bulk export mechanism of the database, if there
+     * is one. The stream must be closed.
+     *
+     * @return  the entity stream
+     */
+    Stream<ENTITY> bulkExport();
+
+    /**
+     * Reads the values of the specified columns of the rows that match all
+     * the specified predicates into primitive arrays.
+     *
+     * @param fields      the fields of the columns to read
+     * @param predicates  the predicates that rows must match
+     * @return            the values of the columns
+     */
+    PrimitiveColumns<ENTITY> columns(
+        List<? extends Field<ENTITY>> fields,
+        List<? extends Predicate<? super ENTITY>> predicates);
     
     /**
      * Finds a particular entity based on an ordinary key-value search. This is
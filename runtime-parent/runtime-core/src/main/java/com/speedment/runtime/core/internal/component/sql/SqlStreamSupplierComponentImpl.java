@@ -25,15 +25,22 @@ import com.speedment.runtime.core.component.DbmsHandlerComponent;
 import com.speedment.runtime.core.component.ManagerComponent;
 import com.speedment.runtime.core.component.ProjectComponent;
 import com.speedment.runtime.core.component.SqlAdapter;
+import com.speedment.runtime.core.component.sql.QueryResultCacheComponent;
 import com.speedment.runtime.core.component.sql.SqlStreamOptimizerComponent;
 import com.speedment.runtime.core.component.sql.SqlStreamSupplierComponent;
 import com.speedment.runtime.core.component.sql.override.SqlStreamTerminatorComponent;
+import com.speedment.runtime.core.component.statistics.TableStatisticsComponent;
 import com.speedment.runtime.core.db.SqlFunction;
+import com.speedment.runtime.core.manager.PrimitiveColumns;
 import com.speedment.runtime.core.stream.parallel.ParallelStrategy;
+import com.speedment.runtime.field.Field;
 import java.sql.ResultSet;
+import java.util.List;
 import java.util.Map;
 import static java.util.Objects.requireNonNull;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 /**
@@ -48,6 +55,8 @@ public final class SqlStreamSupplierComponentImpl implements SqlStreamSupplierCo
     private final Map<TableIdentifier<?>, SqlStreamSupplier<?>> supportMap;
     @Config(name = "allowStreamIteratorAndSpliterator", value = "false")
     private boolean allowStreamIteratorAndSpliterator;
+    @Config(name = "queryResultCache.maxRows", value = "10000")
+    private int maxCachedRows;
 
     public SqlStreamSupplierComponentImpl() {
         this.supportMap = new ConcurrentHashMap<>();
@@ -61,20 +70,27 @@ public final class SqlStreamSupplierComponentImpl implements SqlStreamSupplierCo
         final DbmsHandlerComponent dbmsHandlerComponent,
         final ManagerComponent managerComponent,
         final SqlStreamOptimizerComponent sqlStreamOptimizerComponent,
-        final SqlStreamTerminatorComponent sqlStreamTerminatorComponent
+        final SqlStreamTerminatorComponent sqlStreamTerminatorComponent,
+        final QueryResultCacheComponent queryResultCacheComponent
     ) {
+        final Optional<TableStatisticsComponent> tableStatisticsComponent
+            = injector.get(TableStatisticsComponent.class);
 
         injector.stream(SqlAdapter.class)
             .forEach(sa -> {
                 final SqlStreamSupplier<Object> supplier = new SqlStreamSupplierImpl<>(
                     (TableIdentifier<Object>) sa.identifier(),
                     (SqlFunction<ResultSet, Object>) sa.entityMapper(),
+                    () -> (SqlFunction<ResultSet, Object>) sa.reusingEntityMapper(),
                     projectComponent,
                     dbmsHandlerComponent,
                     managerComponent,
                     sqlStreamOptimizerComponent,
                     sqlStreamTerminatorComponent,
-                    allowStreamIteratorAndSpliterator
+                    queryResultCacheComponent,
+                    () -> tableStatisticsComponent.flatMap(tsc -> tsc.get(sa.identifier())),
+                    allowStreamIteratorAndSpliterator,
+                    maxCachedRows
                 );
                 supportMap.put(sa.identifier(), supplier);
             });
@@ -86,6 +102,25 @@ public final class SqlStreamSupplierComponentImpl implements SqlStreamSupplierCo
         return supplier.stream(parallelStrategy);
     }
 
+    @Override
+    public <ENTITY> Stream<ENTITY> streamWithReusedEntity(TableIdentifier<ENTITY> tableIdentifier) {
+        return getStreamSupplier(tableIdentifier).streamWithReusedEntity();
+    }
+
+    @Override
+    public <ENTITY> Stream<ENTITY> bulkExport(TableIdentifier<ENTITY> tableIdentifier) {
+        return getStreamSupplier(tableIdentifier).bulkExport();
+    }
+
+    @Override
+    public <ENTITY> PrimitiveColumns<ENTITY> columns(
+            TableIdentifier<ENTITY> tableIdentifier,
+            List<? extends Field<ENTITY>> fields,
+            List<? extends Predicate<? super ENTITY>> predicates) {
+
+        return getStreamSupplier(tableIdentifier).columns(fields, predicates);
+    }
+
     private <ENTITY> SqlStreamSupplier<ENTITY> getStreamSupplier(TableIdentifier<ENTITY> tableIdentifier) {
         @SuppressWarnings("unchecked")
         final SqlStreamSupplier<ENTITY> streamSupplier = (SqlStreamSupplier<ENTITY>) supportMap.get(tableIdentifier);
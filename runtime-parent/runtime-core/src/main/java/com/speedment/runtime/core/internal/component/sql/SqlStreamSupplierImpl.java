@@ -30,34 +30,49 @@ import com.speedment.runtime.core.ApplicationBuilder;
 import com.speedment.runtime.core.component.DbmsHandlerComponent;
 import com.speedment.runtime.core.component.ManagerComponent;
 import com.speedment.runtime.core.component.ProjectComponent;
+import com.speedment.runtime.core.component.sql.QueryResultCacheComponent;
 import com.speedment.runtime.core.component.sql.SqlStreamOptimizerComponent;
 import com.speedment.runtime.core.component.sql.SqlStreamOptimizerInfo;
 import com.speedment.runtime.core.component.sql.override.SqlStreamTerminatorComponent;
+import com.speedment.runtime.core.component.statistics.TableStatistics;
 import com.speedment.runtime.core.db.AsynchronousQueryResult;
 import com.speedment.runtime.core.db.DatabaseNamingConvention;
+import com.speedment.runtime.core.db.DbmsOperationHandler;
 import com.speedment.runtime.core.db.DbmsType;
 import com.speedment.runtime.core.db.SqlFunction;
 import com.speedment.runtime.core.exception.SpeedmentException;
+import com.speedment.runtime.core.internal.component.changefeed.ColumnValueResultSet;
+import com.speedment.runtime.core.internal.manager.PrimitiveColumnsImpl;
 import com.speedment.runtime.core.internal.manager.sql.SqlStreamTerminator;
 import com.speedment.runtime.core.internal.stream.builder.ReferenceStreamBuilder;
 import com.speedment.runtime.core.internal.stream.builder.pipeline.PipelineImpl;
+import com.speedment.runtime.core.internal.stream.builder.streamterminator.StreamTerminatorUtil;
 import com.speedment.runtime.core.manager.Manager;
+import com.speedment.runtime.core.manager.PrimitiveColumns;
 import com.speedment.runtime.core.stream.parallel.ParallelStrategy;
 import com.speedment.runtime.core.util.DatabaseUtil;
 import com.speedment.runtime.field.Field;
 import com.speedment.runtime.field.trait.HasComparableOperators;
+import com.speedment.runtime.typemapper.TypeMapper;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.BaseStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.speedment.runtime.config.util.DocumentDbUtil.isSame;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
 /**
@@ -70,7 +85,14 @@ final class SqlStreamSupplierImpl<ENTITY> implements SqlStreamSupplier<ENTITY> {
 
     private static final Logger LOGGER_SELECT = LoggerManager.getLogger(ApplicationBuilder.LogType.STREAM.getLoggerName()); // Hold an extra reference to this logger
 
+    private static final Set<Class<?>> NUMERIC_DATABASE_TYPES = new HashSet<>(Arrays.asList(
+        Byte.class, Short.class, Integer.class, Long.class,
+        Float.class, Double.class, BigDecimal.class, BigInteger.class
+    ));
+
+    private final TableIdentifier<ENTITY> tableId;
     private final SqlFunction<ResultSet, ENTITY> entityMapper;
+    private final Supplier<SqlFunction<ResultSet, ENTITY>> reusingEntityMappers;
     private final Dbms dbms;
     private final DbmsType dbmsType;
     private final Map<ColumnIdentifier<ENTITY>, String> columnNameMap;
@@ -80,27 +102,38 @@ final class SqlStreamSupplierImpl<ENTITY> implements SqlStreamSupplier<ENTITY> {
     private final String sqlTableReference;
     private final SqlStreamOptimizerComponent sqlStreamOptimizerComponent;
     private final SqlStreamTerminatorComponent sqlStreamTerminatorComponent;
+    private final QueryResultCacheComponent queryResultCacheComponent;
+    private final Supplier<Optional<TableStatistics>> tableStatistics;
     private final boolean allowIteratorAndSpliterator;
+    private final int maxCachedRows;
 
     SqlStreamSupplierImpl(
         final TableIdentifier<ENTITY> tableId,
         final SqlFunction<ResultSet, ENTITY> entityMapper,
+        final Supplier<SqlFunction<ResultSet, ENTITY>> reusingEntityMappers,
         final ProjectComponent projectComponent,
         final DbmsHandlerComponent dbmsHandlerComponent,
         final ManagerComponent managerComponent,
         final SqlStreamOptimizerComponent sqlStreamOptimizerComponent,
         final SqlStreamTerminatorComponent sqlStreamTerminatorComponent,
-        final boolean allowIteratorAndSpliterator
+        final QueryResultCacheComponent queryResultCacheComponent,
+        final Supplier<Optional<TableStatistics>> tableStatistics,
+        final boolean allowIteratorAndSpliterator,
+        final int maxCachedRows
     ) {
-        requireNonNull(tableId);
         requireNonNull(projectComponent);
         requireNonNull(dbmsHandlerComponent);
         requireNonNull(managerComponent);
 
+        this.tableId = requireNonNull(tableId);
         this.entityMapper = requireNonNull(entityMapper);
+        this.reusingEntityMappers = requireNonNull(reusingEntityMappers);
         this.sqlStreamOptimizerComponent = requireNonNull(sqlStreamOptimizerComponent);
         this.sqlStreamTerminatorComponent = requireNonNull(sqlStreamTerminatorComponent);
+        this.queryResultCacheComponent = requireNonNull(queryResultCacheComponent);
+        this.tableStatistics = requireNonNull(tableStatistics);
         this.allowIteratorAndSpliterator = allowIteratorAndSpliterator;
+        this.maxCachedRows = maxCachedRows;
 
         final Project project = projectComponent.getProject();
         final Table table = DocumentDbUtil.referencedTable(project, tableId);
@@ -154,12 +187,45 @@ final class SqlStreamSupplierImpl<ENTITY> implements SqlStreamSupplier<ENTITY> {
 
     @Override
     public Stream<ENTITY> stream(ParallelStrategy parallelStrategy) {
+        return stream(entityMapper, parallelStrategy);
+    }
+
+    @Override
+    public Stream<ENTITY> streamWithReusedEntity() {
+        // The ResultSet must never be split since that would buffer several
+        // rows, all referring to the same entity.
+        return stream(reusingEntityMappers.get(), NonSplittingStrategy.INSTANCE);
+    }
+
+    @Override
+    public Stream<ENTITY> bulkExport() {
+        final DbmsOperationHandler operationHandler = dbmsType.getOperationHandler();
+        if (!operationHandler.isBulkExportSupported()) {
+            return stream(entityMapper, NonSplittingStrategy.INSTANCE);
+        }
+
+        // The textual values of each row are converted by the same mapper
+        // that reads a regular ResultSet.
+        return operationHandler.executeBulkExport(dbms, sqlSelect)
+            .map(row -> {
+                try {
+                    return entityMapper.apply(ColumnValueResultSet.of(row));
+                } catch (final SQLException sqle) {
+                    throw new SpeedmentException(sqle);
+                }
+            });
+    }
+
+    private Stream<ENTITY> stream(
+            SqlFunction<ResultSet, ENTITY> mapper,
+            ParallelStrategy parallelStrategy) {
+
         final AsynchronousQueryResult<ENTITY> asynchronousQueryResult
             = dbmsType.getOperationHandler().executeQueryAsync(
                 dbms,
                 sqlSelect,
                 Collections.emptyList(),
-                entityMapper,
+                mapper,
                 parallelStrategy
             );
 
@@ -169,7 +235,8 @@ final class SqlStreamSupplierImpl<ENTITY> implements SqlStreamSupplier<ENTITY> {
             sqlSelectCount,
             this::executeAndGetLong,
             this::sqlColumnNamer,
-            this::sqlDatabaseTypeFunction
+            this::sqlDatabaseTypeFunction,
+            tableStatistics
         );
 
         final SqlStreamTerminator<ENTITY> terminator = new SqlStreamTerminator<>(
@@ -181,7 +248,7 @@ final class SqlStreamSupplierImpl<ENTITY> implements SqlStreamSupplier<ENTITY> {
         );
 
         final Supplier<BaseStream<?, ?>> initialSupplier
-            = () -> asynchronousQueryResult.stream();
+            = () -> cachedStream(asynchronousQueryResult, parallelStrategy);
 
         final Stream<ENTITY> result = new ReferenceStreamBuilder<>(
             new PipelineImpl<>(initialSupplier),
@@ -194,6 +261,68 @@ final class SqlStreamSupplierImpl<ENTITY> implements SqlStreamSupplier<ENTITY> {
         return result;
     }
 
+    @Override
+    public PrimitiveColumns<ENTITY> columns(
+            List<? extends Field<ENTITY>> fields,
+            List<? extends Predicate<? super ENTITY>> predicates) {
+
+        final PrimitiveColumnsImpl.Builder<ENTITY> builder = new PrimitiveColumnsImpl.Builder<>(fields);
+
+        // Columns that go through a custom type mapper and predicates that
+        // can not be rendered as SQL require entities to be created.
+        if (!fields.stream().allMatch(this::isReadableAsPrimitive)
+        ||  !predicates.stream().allMatch(StreamTerminatorUtil::isContainingOnlyFieldPredicate)) {
+            Stream<ENTITY> stream = stream(ParallelStrategy.computeIntensityDefault());
+            for (final Predicate<? super ENTITY> predicate : predicates) {
+                stream = stream.filter(predicate);
+            }
+            try (final Stream<ENTITY> entities = stream) {
+                entities.forEachOrdered(builder::addEntity);
+            }
+            return builder.build();
+        }
+
+        final StringBuilder sql = new StringBuilder("SELECT ")
+            .append(fields.stream().map(this::sqlColumnNamer).collect(joining(",")))
+            .append(" FROM ").append(sqlTableReference);
+
+        final List<Object> values = new ArrayList<>();
+        if (!predicates.isEmpty()) {
+            @SuppressWarnings("unchecked")
+            final List<Predicate<ENTITY>> casted = predicates.stream()
+                .map(p -> (Predicate<ENTITY>) p)
+                .collect(toList());
+
+            final StreamTerminatorUtil.RenderResult rr = StreamTerminatorUtil.renderSqlWhere(
+                dbmsType,
+                this::sqlColumnNamer,
+                this::sqlDatabaseTypeFunction,
+                casted
+            );
+
+            sql.append(" WHERE ").append(rr.getSql());
+            values.addAll(rr.getValues());
+        }
+
+        LOGGER_SELECT.debug("%s, values:%s", sql, values);
+        try (final AsynchronousQueryResult<Boolean> query = dbmsType.getOperationHandler()
+            .executeQueryAsync(
+                dbms,
+                sql.toString(),
+                values,
+                rs -> {
+                    builder.readRow(rs);
+                    return Boolean.TRUE;
+                },
+                NonSplittingStrategy.INSTANCE
+            )) {
+
+            query.stream().forEach(ignored -> {});
+        }
+
+        return builder.build();
+    }
+
     @Override
     public <V extends Comparable<? super V>> Optional<ENTITY> findAny(HasComparableOperators<ENTITY, V> field, V value) {
         return stream(ParallelStrategy.computeIntensityDefault())
@@ -206,12 +335,128 @@ final class SqlStreamSupplierImpl<ENTITY> implements SqlStreamSupplier<ENTITY> {
     }
 
     public long executeAndGetLong(String sql, List<Object> values) {
+        final boolean cached = queryResultCacheComponent.isEnabled(tableId);
+        final long version = cached ? queryResultCacheComponent.getVersion(tableId) : 0;
+        if (cached) {
+            final Optional<List<Object[]>> rows = queryResultCacheComponent.get(tableId, sql, values);
+            if (rows.isPresent()) {
+                return (Long) rows.get().get(0)[0];
+            }
+        }
+
         LOGGER_SELECT.debug("%s, values:%s", sql, values);
-        return dbmsType.getOperationHandler().executeQuery(dbms,
+        final long result = dbmsType.getOperationHandler().executeQuery(dbms,
             sql,
             values,
             rs -> rs.getLong(1)
         ).findAny().get();
+
+        if (cached) {
+            queryResultCacheComponent.put(tableId, sql, values, version,
+                Collections.singletonList(new Object[] {result})
+            );
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a stream of the entities of the specified query. If the query
+     * result cache is enabled for this table, the rows are read from the cache
+     * if possible, and otherwise recorded so that they can be cached once
+     * the stream has been consumed until its end.
+     *
+     * <p>
+     * Replayed rows are split in the same way as the {@code ResultSet}
+     * would have been, so that a stream that reuses a single entity is
+     * never split even if its rows come from the cache.
+     *
+     * @param query             the query, with its final SQL and values set
+     * @param parallelStrategy  the strategy the query was created with
+     * @return                  stream of entities
+     */
+    private Stream<ENTITY> cachedStream(
+            AsynchronousQueryResult<ENTITY> query,
+            ParallelStrategy parallelStrategy) {
+
+        if (!queryResultCacheComponent.isEnabled(tableId)) {
+            return query.stream();
+        }
+
+        final String sql = query.getSql();
+        final List<?> values = new ArrayList<>(query.getValues());
+        final long version = queryResultCacheComponent.getVersion(tableId);
+
+        final Optional<List<Object[]>> rows = queryResultCacheComponent.get(tableId, sql, values);
+        if (rows.isPresent()) {
+            LOGGER_SELECT.debug("%s, values:%s (cached)", sql, values);
+            final Stream<ENTITY> replayed = CachedRows.replay(rows.get(), query.getRsMapper());
+            if (parallelStrategy == NonSplittingStrategy.INSTANCE) {
+                return StreamSupport.stream(
+                    parallelStrategy.spliteratorUnknownSize(replayed.iterator(), Spliterator.ORDERED),
+                    false
+                );
+            }
+            return replayed;
+        }
+
+        final CachedRows.Recorder<ENTITY> recorder = new CachedRows.Recorder<>(
+            query.getRsMapper(), maxCachedRows
+        );
+
+        query.setRsMapper(recorder);
+        return CachedRows.onExhausted(
+            query.stream(),
+            () -> recorder.rows().ifPresent(recorded ->
+                queryResultCacheComponent.put(tableId, sql, values, version, recorded)
+            ),
+            recorder::abandon
+        );
+    }
+
+    private static final class NonSplittingStrategy implements ParallelStrategy {
+
+        private static final ParallelStrategy INSTANCE = new NonSplittingStrategy();
+
+        @Override
+        public <T> Spliterator<T> spliteratorUnknownSize(Iterator<? extends T> iterator, int characteristics) {
+            return new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, characteristics) {
+                @Override
+                public boolean tryAdvance(Consumer<? super T> action) {
+                    if (iterator.hasNext()) {
+                        action.accept(iterator.next());
+                        return true;
+                    } else {
+                        return false;
+                    }
+                }
+
+                @Override
+                public void forEachRemaining(Consumer<? super T> action) {
+                    iterator.forEachRemaining(action);
+                }
+
+                @Override
+                public Spliterator<T> trySplit() {
+                    return null;
+                }
+            };
+        }
+    }
+
+    private boolean isReadableAsPrimitive(Field<ENTITY> field) {
+        if (!PrimitiveColumnsImpl.Builder.isSupported(field)
+        ||  !columnNameMap.containsKey(field.identifier())) {
+            return false;
+        }
+
+        final TypeMapper<?, ?> typeMapper = field.typeMapper();
+        if (!(TypeMapper.identity().getClass().isInstance(typeMapper)
+        ||    TypeMapper.primitive().getClass().isInstance(typeMapper))) {
+            return false;
+        }
+
+        return NUMERIC_DATABASE_TYPES.contains(sqlDatabaseTypeFunction(field));
     }
 
     private String sqlColumnNamer(Field<ENTITY> field) {
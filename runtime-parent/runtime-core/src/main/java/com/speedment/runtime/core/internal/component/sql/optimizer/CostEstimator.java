@@ -0,0 +1,275 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.component.sql.optimizer;
+
+import com.speedment.common.tuple.Tuple;
+import com.speedment.runtime.core.component.sql.Metrics;
+import com.speedment.runtime.core.component.statistics.ColumnStatistics;
+import com.speedment.runtime.core.component.statistics.TableStatistics;
+import com.speedment.runtime.core.internal.stream.builder.action.reference.DropWhileAction;
+import com.speedment.runtime.core.internal.stream.builder.action.trait.HasLimit;
+import com.speedment.runtime.core.internal.stream.builder.action.trait.HasPredicate;
+import com.speedment.runtime.core.internal.stream.builder.action.trait.HasSkip;
+import com.speedment.runtime.core.stream.Pipeline;
+import com.speedment.runtime.core.stream.action.Action;
+import com.speedment.runtime.core.stream.action.Property;
+import com.speedment.runtime.core.stream.action.Verb;
+import com.speedment.runtime.field.predicate.CombinedPredicate;
+import com.speedment.runtime.field.predicate.FieldPredicate;
+import com.speedment.runtime.field.predicate.PredicateType;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static com.speedment.runtime.core.util.StaticClassUtil.instanceNotAllowed;
+
+/**
+ * Estimates the cost of a plan using the {@link TableStatistics} of the
+ * queried table. A plan is described by the set of actions in the pipeline
+ * that are rendered as SQL. The estimates are:
+ * <ul>
+ *   <li>the number of rows the database sends to the JVM, which is the row
+ *       count reduced by the selectivity of the pushed down predicates and
+ *       by a pushed down skip and limit;
+ *   <li>the JVM work, which is the number of elements passed to each of the
+ *       remaining actions, plus {@code n log n} for a sort;
+ *   <li>the database work, which is {@code n log n} for a pushed down sort.
+ *       Scanning the table costs the same for every plan and is left out.
+ * </ul>
+ * The selectivity of a predicate on a column is derived from its distinct
+ * count, null fraction and range if known. Otherwise, the usual fixed
+ * guesses are used, for example one third for a comparison.
+ *
+ * @since  3.1.5
+ */
+public final class CostEstimator {
+
+    private static final double DEFAULT_EQUALITY   = 0.1;
+    private static final double DEFAULT_NULL       = 0.1;
+    private static final double DEFAULT_COMPARISON = 1d / 3;
+    private static final double DEFAULT_BETWEEN    = 0.25;
+    private static final double DEFAULT_PATTERN    = 0.1;
+    private static final double DEFAULT_OPAQUE     = 0.5;
+
+    /**
+     * Returns a copy of the specified metrics with the estimated rows
+     * transferred and JVM work of a plan that renders the specified actions
+     * of the pipeline as SQL.
+     *
+     * @param metrics     the metrics of the plan
+     * @param pipeline    the pipeline
+     * @param pushedDown  the actions that are rendered as SQL, compared by
+     *                    identity
+     * @param statistics  the statistics of the queried table
+     * @return            the metrics with estimates
+     */
+    public static Metrics estimate(
+            Metrics metrics,
+            Pipeline pipeline,
+            Set<Action<?, ?>> pushedDown,
+            TableStatistics statistics) {
+
+        double rows = statistics.getRowCount();
+        double databaseWork = 0;
+        for (final Action<?, ?> action : pipeline) {
+            if (pushedDown.contains(action)) {
+                databaseWork += sortWork(action, rows);
+                rows = apply(action, rows, statistics);
+            }
+        }
+
+        final double transferred = rows;
+        double work = 0;
+        for (final Action<?, ?> action : pipeline) {
+            if (!pushedDown.contains(action)) {
+                work += rows + sortWork(action, rows);
+                rows = apply(action, rows, statistics);
+            }
+        }
+
+        return metrics.withEstimates(
+            Math.round(transferred),
+            Math.round(work),
+            Math.round(databaseWork)
+        );
+    }
+
+    private static double sortWork(Action<?, ?> action, double rows) {
+        return action.is(Verb.SET, Property.SORTED) && rows > 1
+            ? rows * Math.log(rows) / Math.log(2)
+            : 0;
+    }
+
+    /**
+     * Returns the estimated fraction of rows that the specified predicate
+     * holds for.
+     *
+     * @param predicate   the predicate
+     * @param statistics  the statistics of the queried table
+     * @return            the selectivity, between 0 and 1
+     */
+    public static double selectivity(Predicate<?> predicate, TableStatistics statistics) {
+        if (predicate instanceof FieldPredicate) {
+            return selectivity((FieldPredicate<?>) predicate, statistics);
+        } else if (predicate instanceof CombinedPredicate) {
+            final CombinedPredicate<?> combined = (CombinedPredicate<?>) predicate;
+            if (combined.getType() == CombinedPredicate.Type.AND) {
+                return combined.stream()
+                    .mapToDouble(p -> selectivity(p, statistics))
+                    .reduce(1, (a, b) -> a * b);
+            } else {
+                return 1 - combined.stream()
+                    .mapToDouble(p -> 1 - selectivity(p, statistics))
+                    .reduce(1, (a, b) -> a * b);
+            }
+        } else {
+            return DEFAULT_OPAQUE;
+        }
+    }
+
+    private static double apply(Action<?, ?> action, double rows, TableStatistics statistics) {
+        if (action instanceof HasPredicate) {
+            final double selectivity = selectivity(
+                ((HasPredicate<?>) action).getPredicate(), statistics
+            );
+
+            // dropWhile() keeps the elements after the prefix that matches
+            return rows * (action instanceof DropWhileAction
+                ? 1 - selectivity : selectivity);
+        } else if (action instanceof HasSkip) {
+            return Math.max(0, rows - ((HasSkip) action).getSkip());
+        } else if (action instanceof HasLimit) {
+            return Math.min(rows, ((HasLimit) action).getLimit());
+        } else {
+            return rows;
+        }
+    }
+
+    private static double selectivity(FieldPredicate<?> predicate, TableStatistics statistics) {
+        final ColumnStatistics column = statistics
+            .getColumn(predicate.getField().identifier().getColumnId())
+            .orElse(null);
+
+        return selectivity(predicate.getPredicateType(), predicate, column);
+    }
+
+    private static double selectivity(
+            PredicateType type,
+            FieldPredicate<?> predicate,
+            ColumnStatistics column) {
+
+        switch (type) {
+            case ALWAYS_TRUE  : return 1;
+            case ALWAYS_FALSE : return 0;
+
+            case IS_NULL : return nullFraction(column);
+
+            case EQUAL :
+            case EQUAL_IGNORE_CASE : return equality(column);
+
+            case IN : {
+                final Object operand = operand(predicate, 0);
+                final int size = operand instanceof Set ? ((Set<?>) operand).size() : 1;
+                return Math.min(1, size * equality(column));
+            }
+
+            case GREATER_THAN :
+            case GREATER_OR_EQUAL : {
+                final double below = fractionBelow(column, operand(predicate, 0));
+                return Double.isNaN(below) ? DEFAULT_COMPARISON : 1 - below;
+            }
+
+            case LESS_THAN :
+            case LESS_OR_EQUAL : {
+                final double below = fractionBelow(column, operand(predicate, 0));
+                return Double.isNaN(below) ? DEFAULT_COMPARISON : below;
+            }
+
+            case BETWEEN : {
+                final double from = fractionBelow(column, operand(predicate, 0));
+                final double to   = fractionBelow(column, operand(predicate, 1));
+                return Double.isNaN(from) || Double.isNaN(to)
+                    ? DEFAULT_BETWEEN
+                    : Math.max(0, to - from);
+            }
+
+            case STARTS_WITH :
+            case STARTS_WITH_IGNORE_CASE :
+            case ENDS_WITH :
+            case ENDS_WITH_IGNORE_CASE :
+            case CONTAINS :
+            case CONTAINS_IGNORE_CASE :
+            case IS_EMPTY : return DEFAULT_PATTERN;
+
+            // The remaining types are the negations of the types above
+            default : return 1 - selectivity(type.negate(), predicate, column);
+        }
+    }
+
+    private static double nullFraction(ColumnStatistics column) {
+        return column == null
+            ? DEFAULT_NULL
+            : column.getNullFraction().orElse(DEFAULT_NULL);
+    }
+
+    private static double equality(ColumnStatistics column) {
+        return column == null
+            ? DEFAULT_EQUALITY
+            : column.getEqualitySelectivity().orElse(DEFAULT_EQUALITY);
+    }
+
+    private static Object operand(FieldPredicate<?> predicate, int index) {
+        if (predicate instanceof Tuple) {
+            final Tuple tuple = (Tuple) predicate;
+            return index < tuple.degree() ? tuple.get(index) : null;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the fraction of the range of the column that is below the
+     * specified value, assuming that values are evenly distributed. If the
+     * range is unknown or not numeric, {@code NaN} is returned.
+     */
+    private static double fractionBelow(ColumnStatistics column, Object value) {
+        if (column == null || !(value instanceof Number)) {
+            return Double.NaN;
+        }
+
+        final Object min = column.getMin().orElse(null);
+        final Object max = column.getMax().orElse(null);
+        if (!(min instanceof Number) || !(max instanceof Number)) {
+            return Double.NaN;
+        }
+
+        final double lo = ((Number) min).doubleValue();
+        final double hi = ((Number) max).doubleValue();
+        final double v  = ((Number) value).doubleValue();
+        if (hi <= lo) {
+            return v < lo ? 0 : 1;
+        }
+
+        return Math.max(0, Math.min(1, (v - lo) / (hi - lo)));
+    }
+
+    /**
+     * Utility classes should not be instantiated.
+     */
+    private CostEstimator() {
+        instanceNotAllowed(getClass());
+    }
+}
@@ -16,16 +16,20 @@
  */
 package com.speedment.runtime.core.internal.component.sql.optimizer;
 
+import com.speedment.common.tuple.Tuple;
 import com.speedment.runtime.config.identifier.ColumnIdentifier;
 import com.speedment.runtime.core.component.sql.Metrics;
 import com.speedment.runtime.core.component.sql.SqlStreamOptimizer;
 import com.speedment.runtime.core.component.sql.SqlStreamOptimizerInfo;
 import com.speedment.runtime.core.db.AsynchronousQueryResult;
 import com.speedment.runtime.core.db.DbmsType;
+import com.speedment.runtime.core.internal.stream.builder.action.reference.DropWhileAction;
 import com.speedment.runtime.core.internal.stream.builder.action.reference.FilterAction;
 import com.speedment.runtime.core.internal.stream.builder.action.reference.LimitAction;
 import com.speedment.runtime.core.internal.stream.builder.action.reference.SkipAction;
 import com.speedment.runtime.core.internal.stream.builder.action.reference.SortedComparatorAction;
+import com.speedment.runtime.core.internal.stream.builder.action.reference.TakeWhileAction;
+import com.speedment.runtime.core.internal.stream.builder.action.trait.HasPredicate;
 import com.speedment.runtime.core.internal.stream.builder.streamterminator.StreamTerminatorUtil;
 import com.speedment.runtime.core.internal.stream.builder.streamterminator.StreamTerminatorUtil.RenderResult;
 import com.speedment.runtime.core.stream.Pipeline;
@@ -33,8 +37,13 @@ import com.speedment.runtime.core.stream.action.Action;
 import com.speedment.runtime.field.comparator.CombinedComparator;
 import com.speedment.runtime.field.comparator.FieldComparator;
 import com.speedment.runtime.field.comparator.NullOrder;
+import com.speedment.runtime.field.predicate.CombinedPredicate;
+import com.speedment.runtime.field.predicate.FieldPredicate;
+import com.speedment.runtime.field.predicate.PredicateType;
+import com.speedment.runtime.typemapper.TypeMapper;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -43,6 +52,7 @@ import static com.speedment.runtime.core.db.DbmsType.SkipLimitSupport.NONE;
 import static com.speedment.runtime.core.db.DbmsType.SkipLimitSupport.ONLY_AFTER_SORTED;
 import static com.speedment.runtime.core.internal.stream.builder.streamterminator.StreamTerminatorUtil.isContainingOnlyFieldPredicate;
 import static com.speedment.runtime.core.internal.stream.builder.streamterminator.StreamTerminatorUtil.isSortedActionWithFieldPredicate;
+import static java.util.Collections.singletonList;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 
@@ -51,38 +61,64 @@ import static java.util.stream.Collectors.toList;
  * <ul>
  *   <li> a) Zero or more filter() operations
  *   <li> b) Zero or more sorted() operations
- *   <li> c) Zero or more skip() operations
- *   <li> d) Zero or more limit() operations
+ *   <li> c) Zero or more takeWhile() or dropWhile() operations
+ *   <li> d) Zero or more skip() operations
+ *   <li> e) Zero or more limit() operations
  * </ul>
  *
- * <em>No other operations</em> must be in the sequence a-d or within the
- * individual items a-d. <em>All</em> parameters in a and b must be obtained via
- * fields. Failure to any of these rules will make the Optimizer reject
+ * <em>No other operations</em> must be in the sequence a-e or within the
+ * individual items a-e. <em>All</em> parameters in a, b and c must be obtained
+ * via fields. Failure to any of these rules will make the Optimizer reject
  * optimization. Steps a) and b) may swap places.
  *
- * Thus, this optimizer can handle a (FILTER*, SORTED*, SKIP*, LIMIT*) or
- * (SORTED*, LIMIT*, SKIP*, LIMIT*) pattern where all non-primitive parameters
- * are all Field derived
+ * Thus, this optimizer can handle a (FILTER*, SORTED*, WHILE*, SKIP*, LIMIT*)
+ * or (SORTED*, FILTER*, WHILE*, SKIP*, LIMIT*) pattern where all
+ * non-primitive parameters are all Field derived
+ * <p>
+ * A takeWhile() or dropWhile() operation is only accepted if its predicate
+ * compares the field that the stream is primarily sorted on, so that the
+ * predicate holds for a prefix of the sorted stream, and if no nulls are
+ * sorted before the other values. Under those conditions, takeWhile(p) selects
+ * the same elements as a {@code WHERE p} clause and dropWhile(p) the same
+ * elements as {@code WHERE (NOT p OR column IS NULL)}.
+ * <p>
+ * The rendered SQL is cached by the {@link PipelineShape} of the pipeline, so
+ * that a pipeline with a previously seen shape only has to bind its operands
+ * to the cached SQL.
  *
  * @author Per Minborg
  * @param <ENTITY> entity type
  */
 public final class FilterSortedSkipOptimizer<ENTITY> implements SqlStreamOptimizer<ENTITY> {
 
+    private static final int MAX_CACHED_PLANS = 1024;
+
+    private static final Set<PredicateType> COMPARISONS = EnumSet.of(
+        PredicateType.LESS_THAN,
+        PredicateType.LESS_OR_EQUAL,
+        PredicateType.GREATER_THAN,
+        PredicateType.GREATER_OR_EQUAL
+    );
+
+    private final Map<PlanKey, Plan> plans = new ConcurrentHashMap<>();
+
     private final FilterOperation FILTER_OPERATION = new FilterOperation();
     private final SortedOperation SORTED_OPERATION = new SortedOperation();
     private final SkipOperation SKIP_OPERATION = new SkipOperation();
     private final LimitOperation LIMIT_OPERATION = new LimitOperation();
+    private final WhileOperation WHILE_OPERATION = new WhileOperation();
 
     private final List<Operation<ENTITY>> FILTER_SORTED_SKIP_LIMIT_PATH = Arrays.asList(
         FILTER_OPERATION,
         SORTED_OPERATION,
+        WHILE_OPERATION,
         SKIP_OPERATION,
         LIMIT_OPERATION
     );
     private final List<Operation<ENTITY>> SORTED_FILTER_SKIP_LIMIT_PATH = Arrays.asList(
         SORTED_OPERATION,
         FILTER_OPERATION,
+        WHILE_OPERATION,
         SKIP_OPERATION,
         LIMIT_OPERATION
     );
@@ -102,6 +138,7 @@ public final class FilterSortedSkipOptimizer<ENTITY> implements SqlStreamOptimiz
         traverse(initialPipeline,
             $ -> filterCounter.incrementAndGet(),
             $ -> orderCounter.incrementAndGet(),
+            $ -> filterCounter.incrementAndGet(), // takeWhile and dropWhile are rendered as filters
             $ -> skipCounter.incrementAndGet(),
             $ -> limitCounter.incrementAndGet()
         );
@@ -123,6 +160,31 @@ public final class FilterSortedSkipOptimizer<ENTITY> implements SqlStreamOptimiz
         );
     }
 
+    @Override
+    public <P extends Pipeline> Metrics metrics(P initialPipeline, SqlStreamOptimizerInfo<ENTITY> info) {
+        requireNonNull(info);
+        final DbmsType dbmsType = info.getDbmsType();
+        final Metrics metrics = metrics(initialPipeline, dbmsType);
+        if (metrics.getPipelineReductions() == 0) {
+            return metrics;
+        }
+
+        return info.getTableStatistics()
+            .map(statistics -> {
+                final Set<Action<?, ?>> pushedDown = Collections.newSetFromMap(new IdentityHashMap<>());
+                final boolean skipLimit = dbmsType.getSkipLimitSupport() != NONE;
+                traverse(initialPipeline,
+                    pushedDown::add,
+                    pushedDown::add,
+                    w -> pushedDown.add((Action<?, ?>) w),
+                    skipLimit ? pushedDown::add : $ -> {},
+                    skipLimit ? pushedDown::add : $ -> {}
+                );
+                return CostEstimator.estimate(metrics, initialPipeline, pushedDown, statistics);
+            })
+            .orElse(metrics);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <P extends Pipeline> P optimize(
@@ -135,14 +197,23 @@ public final class FilterSortedSkipOptimizer<ENTITY> implements SqlStreamOptimiz
         requireNonNull(query);
         final DbmsType dbmsType = info.getDbmsType();
         final DbmsType.SkipLimitSupport skipLimitSupport = dbmsType.getSkipLimitSupport();
+
+        final PlanKey key = new PlanKey(info.getSqlSelect(), dbmsType, PipelineShape.of(initialPipeline));
+        final Plan plan = plans.get(key);
+        if (plan != null) {
+            return plan.apply(initialPipeline, dbmsType, query);
+        }
+
         final List<FilterAction<ENTITY>> filters = new ArrayList<>();
         final List<SortedComparatorAction<ENTITY>> sorteds = new ArrayList<>();
+        final List<HasPredicate<ENTITY>> whiles = new ArrayList<>();
         final List<SkipAction<ENTITY>> skips = new ArrayList<>();
         final List<LimitAction<ENTITY>> limits = new ArrayList<>();
 
-        traverse(initialPipeline, filters::add, sorteds::add, skips::add, limits::add);
+        traverse(initialPipeline, filters::add, sorteds::add, whiles::add, skips::add, limits::add);
 
         final List<Object> values = new ArrayList<>();
+        final List<String> conditions = new ArrayList<>();
         final StringBuilder sql = new StringBuilder();
 
         sql.append(info.getSqlSelect());
@@ -161,10 +232,37 @@ public final class FilterSortedSkipOptimizer<ENTITY> implements SqlStreamOptimiz
                 predicates
             );
 
-            sql.append(" WHERE ").append(rr.getSql());
+            conditions.add(rr.getSql());
+            values.addAll(rr.getValues());
+        }
+
+        for (final HasPredicate<ENTITY> whileAction : whiles) {
+            @SuppressWarnings("unchecked")
+            final FieldPredicate<ENTITY> predicate = (FieldPredicate<ENTITY>) whileAction.getPredicate();
+
+            final RenderResult rr = StreamTerminatorUtil.renderSqlWhere(
+                dbmsType,
+                info.getSqlColumnNamer(),
+                info.getSqlDatabaseTypeFunction(),
+                singletonList(predicate)
+            );
+
+            if (whileAction instanceof TakeWhileAction) {
+                conditions.add(rr.getSql());
+            } else {
+                // The elements that are not dropped include the nulls that
+                // are sorted last
+                conditions.add("(NOT (" + rr.getSql() + ") OR "
+                    + info.getSqlColumnNamer().apply(predicate.getField())
+                    + " IS NULL)");
+            }
             values.addAll(rr.getValues());
         }
 
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+
         if (!sorteds.isEmpty()) {
 
             final List<FieldComparator<ENTITY>> fieldComparators = new ArrayList<>();
@@ -235,16 +333,23 @@ public final class FilterSortedSkipOptimizer<ENTITY> implements SqlStreamOptimiz
             }
         }
 
+        final int consumed = filters.size() + sorteds.size() + whiles.size() + skips.size() + limits.size();
+        final int removed = skipLimitSupport == NONE
+            ? filters.size() + sorteds.size() + whiles.size()
+            : consumed;
+
+        cache(key, sql.toString(), values, filters, whiles, consumed, removed);
+
         final String finalSql;
         if (skipLimitSupport == NONE) {
             finalSql = sql.toString();
-            initialPipeline.removeIf(a -> filters.contains(a) || sorteds.contains(a));
+            initialPipeline.removeIf(a -> filters.contains(a) || sorteds.contains(a) || whiles.contains(a));
         } else {
             final long sumSkip = skips.stream().mapToLong(SkipAction::getSkip).sum();
             final long minLimit = limits.stream().mapToLong(LimitAction::getLimit).min().orElse(Long.MAX_VALUE);
             finalSql = dbmsType
                 .applySkipLimit(sql.toString(), values, sumSkip, minLimit);
-            initialPipeline.removeIf(a -> filters.contains(a) || sorteds.contains(a) || skips.contains(a) || limits.contains(a));
+            initialPipeline.removeIf(a -> filters.contains(a) || sorteds.contains(a) || whiles.contains(a) || skips.contains(a) || limits.contains(a));
         }
 
         query.setSql(finalSql);
@@ -253,9 +358,53 @@ public final class FilterSortedSkipOptimizer<ENTITY> implements SqlStreamOptimiz
         return initialPipeline;
     }
 
+    private void cache(
+        final PlanKey key,
+        final String sql,
+        final List<Object> values,
+        final List<FilterAction<ENTITY>> filters,
+        final List<HasPredicate<ENTITY>> whiles,
+        final int consumed,
+        final int removed
+    ) {
+        if (plans.size() >= MAX_CACHED_PLANS) {
+            return;
+        }
+
+        // The plan can only be reused if binding the operands gives the same
+        // values as the FieldPredicateView did when the SQL was rendered
+        final List<Object> boundValues = new ArrayList<>();
+        filters.forEach(f -> bindValues(f.getPredicate(), boundValues));
+        whiles.forEach(w -> bindValues(w.getPredicate(), boundValues));
+        if (boundValues.equals(values)) {
+            plans.putIfAbsent(key, new Plan(sql, consumed, removed));
+        }
+    }
+
+    private static void bindValues(Predicate<?> predicate, List<Object> values) {
+        if (predicate instanceof FieldPredicate) {
+            final FieldPredicate<?> fieldPredicate = (FieldPredicate<?>) predicate;
+            if (fieldPredicate instanceof Tuple) {
+                @SuppressWarnings("unchecked")
+                final TypeMapper<Object, Object> tm = (TypeMapper<Object, Object>) fieldPredicate.getField().typeMapper();
+                ((Tuple) fieldPredicate).stream().forEachOrdered(operand -> {
+                    if (operand instanceof Set) {
+                        ((Set<?>) operand).forEach(o -> values.add(tm.toDatabaseType(o)));
+                    } else {
+                        values.add(tm.toDatabaseType(operand));
+                    }
+                });
+            }
+        } else if (predicate instanceof CombinedPredicate) {
+            ((CombinedPredicate<?>) predicate).stream()
+                .forEachOrdered(p -> bindValues(p, values));
+        }
+    }
+
     private void traverse(Pipeline pipeline,
         final Consumer<? super FilterAction<ENTITY>> filterConsumer,
         final Consumer<? super SortedComparatorAction<ENTITY>> sortedConsumer,
+        final Consumer<? super HasPredicate<ENTITY>> whileConsumer,
         final Consumer<? super SkipAction<ENTITY>> skipConsumer,
         final Consumer<? super LimitAction<ENTITY>> limitConsumer
     ) {
@@ -263,15 +412,15 @@ public final class FilterSortedSkipOptimizer<ENTITY> implements SqlStreamOptimiz
             return;
         }
 
-        final Consumers<ENTITY> consumers = new Consumers<>(filterConsumer, sortedConsumer, skipConsumer, limitConsumer);
+        final Consumers<ENTITY> consumers = new Consumers<>(filterConsumer, sortedConsumer, whileConsumer, skipConsumer, limitConsumer);
 
         final Action<?, ?> firstAction = pipeline.getFirst();
 
         // The path is the way we can walk the stream pipeline
         // and still satisfy the requirement on this optimizer
         // There are two paths:
-        //   Sorted*,Filter*,Skip*,Limit*
-        //   Filter*,Sorted*,Skip*,Limit*
+        //   Sorted*,Filter*,While*,Skip*,Limit*
+        //   Filter*,Sorted*,While*,Skip*,Limit*
         // If there are other operations types in between, the optimizer will not kick in
         final List<Operation<ENTITY>> path;
         if (firstAction instanceof SortedComparatorAction) {
@@ -282,75 +431,80 @@ public final class FilterSortedSkipOptimizer<ENTITY> implements SqlStreamOptimiz
 
         // Keeps track on where we are in the path
         // Start with the first operation type (i.e. either SORTED or FILTER)
-        Operation<ENTITY> operation = path.get(0);
+        int position = 0;
+
+        // The comparator that decides the order of the stream so far
+        FieldComparator<?> primaryOrder = null;
 
         for (Action<?, ?> action : pipeline) {
 
-            // Are we on the first operation type in the path
-            if (operation == path.get(0)) {
-                // Check if the current stream action is of the first operational type (e.g. SORTED)
-                if (operation.is(action)) {
-                    // If so, consume the stream action (e.g. increase a counter or put it in a list)
-                    operation.consume(action, consumers);
-                    continue;
-                } else {
-                    // Check if the current stream action is of the second operational type (e.g. FILTER)
-                    if (path.get(1).is(action)) {
-                        // Move the operation state to the second operational type
-                        operation = path.get(1);
-                    } else {
-                        if (path.get(2).is(action)) {
-                            operation = path.get(2);
-                        } else {
-                            if (path.get(3).is(action)) {
-                                operation = path.get(3);
-                            } else {
-                                return;
-                            }
-                        }
-                    }
-                }
+            // Move forward in the path until we find the operation type of
+            // the current stream action. We can never go back in the path.
+            while (position < path.size() && !path.get(position).is(action)) {
+                position++;
             }
-
-            // The same principle as above but starting at the second operation type in the path
-            if (operation == path.get(1)) {
-                if (operation.is(action)) {
-                    operation.consume(action, consumers);
-                    continue;
-                } else {
-                    if (path.get(2).is(action)) {
-                        operation = path.get(2);
-                    } else {
-                        if (path.get(3).is(action)) {
-                            operation = path.get(3);
-                        } else {
-                            return;
-                        }
-                    }
-                }
+            if (position == path.size()) {
+                return;
             }
 
-            if (operation == path.get(2)) {
-                if (operation.is(action)) {
-                    operation.consume(action, consumers);
-                    continue;
-                } else {
-                    if (path.get(3).is(action)) {
-                        operation = path.get(3);
-                    } else {
-                        return;
-                    }
-                }
+            final Operation<ENTITY> operation = path.get(position);
+            if (operation == WHILE_OPERATION && !isBoundedBy(action, primaryOrder)) {
+                return;
             }
-
-            if (operation == path.get(3)) {
-                if (operation.is(action)) {
-                    operation.consume(action, consumers);
-                    continue;
-                } else {
-                    return;
-                }
+            if (operation == SORTED_OPERATION) {
+                primaryOrder = primaryComparator(action);
             }
+
+            // Consume the stream action (e.g. increase a counter or put it in a list)
+            operation.consume(action, consumers);
+        }
+    }
+
+    private static FieldComparator<?> primaryComparator(Action<?, ?> sortedAction) {
+        final Comparator<?> comparator = ((SortedComparatorAction<?>) sortedAction).getComparator();
+        if (comparator instanceof CombinedComparator) {
+            return ((CombinedComparator<?>) comparator).stream()
+                .findFirst()
+                .orElse(null);
+        }
+        return (FieldComparator<?>) comparator;
+    }
+
+    /**
+     * Returns {@code true} if the predicate of the specified takeWhile or
+     * dropWhile action is true for a prefix of a stream that is sorted
+     * using the specified comparator, and false for the rest of it.
+     */
+    private static boolean isBoundedBy(Action<?, ?> whileAction, FieldComparator<?> primaryOrder) {
+        if (primaryOrder == null) {
+            return false;
+        }
+
+        final FieldPredicate<?> predicate = (FieldPredicate<?>) ((HasPredicate<?>) whileAction).getPredicate();
+        if (!predicate.getField().identifier().equals(primaryOrder.getField().identifier())) {
+            return false;
+        }
+
+        final boolean isReversed = primaryOrder.isReversed();
+        final NullOrder effectiveNullOrder = isReversed
+            ? primaryOrder.getNullOrder().reversed()
+            : primaryOrder.getNullOrder();
+
+        // Nulls never match a comparison, so if they come first the stream
+        // is not split into a prefix and a suffix
+        if (effectiveNullOrder == NullOrder.FIRST) {
+            return false;
+        }
+
+        switch (predicate.getPredicateType()) {
+            case LESS_THAN:
+            case LESS_OR_EQUAL:
+                return !isReversed;
+            case GREATER_THAN:
+            case GREATER_OR_EQUAL:
+                return isReversed;
+            default:
+                return false;
         }
     }
 
@@ -367,17 +521,20 @@ public final class FilterSortedSkipOptimizer<ENTITY> implements SqlStreamOptimiz
 
         private final Consumer<? super FilterAction<ENTITY>> filterConsumer;
         private final Consumer<? super SortedComparatorAction<ENTITY>> sortedConsumer;
+        private final Consumer<? super HasPredicate<ENTITY>> whileConsumer;
         private final Consumer<? super SkipAction<ENTITY>> skipConsumer;
         private final Consumer<? super LimitAction<ENTITY>> limitConsumer;
 
         public Consumers(
             final Consumer<? super FilterAction<ENTITY>> filterConsumer,
             final Consumer<? super SortedComparatorAction<ENTITY>> sortedConsumer,
+            final Consumer<? super HasPredicate<ENTITY>> whileConsumer,
             final Consumer<? super SkipAction<ENTITY>> skipConsumer,
             final Consumer<? super LimitAction<ENTITY>> limitConsumer
         ) {
             this.filterConsumer = requireNonNull(filterConsumer);
             this.sortedConsumer = requireNonNull(sortedConsumer);;
+            this.whileConsumer = requireNonNull(whileConsumer);
             this.skipConsumer = requireNonNull(skipConsumer);
             this.limitConsumer = requireNonNull(limitConsumer);
         }
@@ -390,6 +547,10 @@ public final class FilterSortedSkipOptimizer<ENTITY> implements SqlStreamOptimiz
             return sortedConsumer;
         }
 
+        public Consumer<? super HasPredicate<ENTITY>> getWhileConsumer() {
+            return whileConsumer;
+        }
+
         public Consumer<? super SkipAction<ENTITY>> getSkipConsumer() {
             return skipConsumer;
         }
@@ -440,6 +601,32 @@ public final class FilterSortedSkipOptimizer<ENTITY> implements SqlStreamOptimiz
 
     }
 
+    private class WhileOperation implements Operation<ENTITY> {
+
+        @Override
+        public boolean is(Action<?, ?> action) {
+            if (action instanceof TakeWhileAction || action instanceof DropWhileAction) {
+                final Predicate<?> predicate = ((HasPredicate<?>) action).getPredicate();
+                if (predicate instanceof FieldPredicate) {
+                    @SuppressWarnings("unchecked")
+                    final FieldPredicate<ENTITY> fieldPredicate = (FieldPredicate<ENTITY>) predicate;
+                    return COMPARISONS.contains(fieldPredicate.getPredicateType())
+                        && isContainingOnlyFieldPredicate(fieldPredicate)
+                        && !(fieldPredicate instanceof Tuple && ((Tuple) fieldPredicate).stream().anyMatch(Objects::isNull));
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void consume(Action<?, ?> action, Consumers<ENTITY> consumers) {
+            @SuppressWarnings("unchecked")
+            final HasPredicate<ENTITY> whileAction = (HasPredicate<ENTITY>) action;
+            consumers.getWhileConsumer().accept(whileAction);
+        }
+
+    }
+
     private class SkipOperation implements Operation<ENTITY> {
 
         @Override
@@ -472,4 +659,96 @@ public final class FilterSortedSkipOptimizer<ENTITY> implements SqlStreamOptimiz
 
     }
 
+    private static final class PlanKey {
+
+        private final String sqlSelect;
+        private final DbmsType dbmsType;
+        private final PipelineShape shape;
+
+        private PlanKey(String sqlSelect, DbmsType dbmsType, PipelineShape shape) {
+            this.sqlSelect = requireNonNull(sqlSelect);
+            this.dbmsType = requireNonNull(dbmsType);
+            this.shape = requireNonNull(shape);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof PlanKey)) {
+                return false;
+            }
+            final PlanKey that = (PlanKey) obj;
+            return dbmsType == that.dbmsType
+                && shape.equals(that.shape)
+                && sqlSelect.equals(that.sqlSelect);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = sqlSelect.hashCode();
+            result = 31 * result + dbmsType.hashCode();
+            result = 31 * result + shape.hashCode();
+            return result;
+        }
+    }
+
+    /**
+     * The rendered SQL (without skip and limit) for a particular shape. Since
+     * the optimized actions always are in the beginning of the pipeline, it
+     * is enough to remember how many actions were consumed and removed.
+     */
+    private static final class Plan {
+
+        private final String sql;
+        private final int consumed;
+        private final int removed;
+
+        private Plan(String sql, int consumed, int removed) {
+            this.sql = sql;
+            this.consumed = consumed;
+            this.removed = removed;
+        }
+
+        private <ENTITY, P extends Pipeline> P apply(
+            final P pipeline,
+            final DbmsType dbmsType,
+            final AsynchronousQueryResult<ENTITY> query
+        ) {
+            final List<Object> values = new ArrayList<>();
+            long sumSkip = 0;
+            long minLimit = Long.MAX_VALUE;
+
+            int index = 0;
+            for (final Action<?, ?> action : pipeline) {
+                if (index++ == consumed) {
+                    break;
+                }
+                if (action instanceof FilterAction
+                 || action instanceof TakeWhileAction
+                 || action instanceof DropWhileAction) {
+                    bindValues(((HasPredicate<?>) action).getPredicate(), values);
+                } else if (action instanceof SkipAction) {
+                    sumSkip += ((SkipAction<?>) action).getSkip();
+                } else if (action instanceof LimitAction) {
+                    minLimit = Math.min(minLimit, ((LimitAction<?>) action).getLimit());
+                }
+            }
+
+            if (dbmsType.getSkipLimitSupport() == NONE) {
+                query.setSql(sql);
+            } else {
+                query.setSql(dbmsType.applySkipLimit(sql, values, sumSkip, minLimit));
+            }
+            query.setValues(values);
+
+            for (int i = 0; i < removed; i++) {
+                pipeline.removeFirst();
+            }
+
+            return pipeline;
+        }
+    }
+
 }
@@ -27,8 +27,11 @@ import static com.speedment.runtime.core.internal.stream.builder.streamterminato
 import com.speedment.runtime.core.stream.Pipeline;
 import com.speedment.runtime.core.stream.action.Action;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import static java.util.Objects.requireNonNull;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -55,6 +58,23 @@ public final class InitialFilterOptimizer<ENTITY> implements SqlStreamOptimizer<
         return Metrics.of(filterCounter.get(), filterCounter.get(), 0, 0, 0);
     }
 
+    @Override
+    public <P extends Pipeline> Metrics metrics(P initialPipeline, SqlStreamOptimizerInfo<ENTITY> info) {
+        requireNonNull(info);
+        final Metrics metrics = metrics(initialPipeline, info.getDbmsType());
+        if (metrics.getPipelineReductions() == 0) {
+            return metrics;
+        }
+
+        return info.getTableStatistics()
+            .map(statistics -> {
+                final Set<Action<?, ?>> pushedDown = Collections.newSetFromMap(new IdentityHashMap<>());
+                traverse(initialPipeline, pushedDown::add);
+                return CostEstimator.estimate(metrics, initialPipeline, pushedDown, statistics);
+            })
+            .orElse(metrics);
+    }
+
     @Override
     public <P extends Pipeline> P optimize(
         final P initialPipeline,
@@ -0,0 +1,174 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.component.sql.optimizer;
+
+import com.speedment.common.tuple.Tuple;
+import com.speedment.runtime.core.internal.stream.builder.action.reference.DropWhileAction;
+import com.speedment.runtime.core.internal.stream.builder.action.reference.FilterAction;
+import com.speedment.runtime.core.internal.stream.builder.action.reference.SortedComparatorAction;
+import com.speedment.runtime.core.internal.stream.builder.action.reference.TakeWhileAction;
+import com.speedment.runtime.core.internal.stream.builder.action.trait.HasPredicate;
+import com.speedment.runtime.core.stream.Pipeline;
+import com.speedment.runtime.core.stream.action.Action;
+import com.speedment.runtime.field.Field;
+import com.speedment.runtime.field.comparator.CombinedComparator;
+import com.speedment.runtime.field.comparator.FieldComparator;
+import com.speedment.runtime.field.predicate.CombinedPredicate;
+import com.speedment.runtime.field.predicate.FieldPredicate;
+import com.speedment.runtime.field.predicate.PredicateType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static com.speedment.runtime.field.util.PredicateOperandUtil.getInclusionOperand;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The structural shape of a {@link Pipeline}. Two pipelines have the same
+ * shape if they consist of the same types of actions, filter on the same
+ * fields using the same types of predicates and sort on the same fields in the
+ * same order.
+ * <p>
+ * Literal operands are not part of the shape. The only exceptions are the
+ * properties of an operand that change how a predicate is rendered, namely if
+ * an operand is {@code null}, the size of an {@code IN}-set and the
+ * inclusion of a {@code BETWEEN}-predicate.
+ * <p>
+ * Shapes are immutable and are intended to be used as keys in a cache.
+ *
+ * @since  3.1.5
+ */
+public final class PipelineShape {
+
+    private enum Marker {
+        OPAQUE, OPERAND, NULL_OPERAND, COMBINED, END
+    }
+
+    private final Object[] elements;
+    private final int hashCode;
+
+    /**
+     * Returns the shape of the specified pipeline.
+     *
+     * @param pipeline  the pipeline
+     * @return          the shape
+     */
+    public static PipelineShape of(Pipeline pipeline) {
+        requireNonNull(pipeline);
+        final List<Object> elements = new ArrayList<>();
+        for (final Action<?, ?> action : pipeline) {
+            elements.add(action.getClass());
+            if (action instanceof FilterAction
+             || action instanceof TakeWhileAction
+             || action instanceof DropWhileAction) {
+                addPredicate(elements, ((HasPredicate<?>) action).getPredicate());
+            } else if (action instanceof SortedComparatorAction) {
+                addComparator(elements, ((SortedComparatorAction<?>) action).getComparator());
+            }
+        }
+        return new PipelineShape(elements.toArray());
+    }
+
+    private PipelineShape(Object[] elements) {
+        this.elements = elements;
+        this.hashCode = Arrays.hashCode(elements);
+    }
+
+    private static void addPredicate(List<Object> elements, Predicate<?> predicate) {
+        if (predicate instanceof FieldPredicate) {
+            final FieldPredicate<?> fieldPredicate = (FieldPredicate<?>) predicate;
+            final PredicateType predicateType = fieldPredicate.getPredicateType();
+            elements.add(predicateType);
+            addField(elements, fieldPredicate.getField());
+
+            if (fieldPredicate instanceof Tuple) {
+                final Tuple tuple = (Tuple) fieldPredicate;
+                for (int i = 0; i < tuple.degree(); i++) {
+                    final Object operand = tuple.get(i);
+                    if (operand == null) {
+                        elements.add(Marker.NULL_OPERAND);
+                    } else if (operand instanceof Set) {
+                        elements.add(((Set<?>) operand).size());
+                    } else {
+                        elements.add(Marker.OPERAND);
+                    }
+                }
+            }
+
+            if (predicateType == PredicateType.BETWEEN
+             || predicateType == PredicateType.NOT_BETWEEN) {
+                elements.add(getInclusionOperand(fieldPredicate));
+            }
+        } else if (predicate instanceof CombinedPredicate) {
+            final CombinedPredicate<?> combinedPredicate = (CombinedPredicate<?>) predicate;
+            elements.add(combinedPredicate.getType());
+            combinedPredicate.stream().forEachOrdered(p -> addPredicate(elements, p));
+            elements.add(Marker.END);
+        } else {
+            elements.add(Marker.OPAQUE);
+        }
+    }
+
+    private static void addComparator(List<Object> elements, Comparator<?> comparator) {
+        if (comparator instanceof FieldComparator) {
+            final FieldComparator<?> fieldComparator = (FieldComparator<?>) comparator;
+            addField(elements, fieldComparator.getField());
+            elements.add(fieldComparator.isReversed());
+            elements.add(fieldComparator.getNullOrder());
+        } else if (comparator instanceof CombinedComparator) {
+            elements.add(Marker.COMBINED);
+            ((CombinedComparator<?>) comparator).stream()
+                .forEachOrdered(c -> addComparator(elements, c));
+            elements.add(Marker.END);
+        } else {
+            elements.add(Marker.OPAQUE);
+        }
+    }
+
+    private static void addField(List<Object> elements, Field<?> field) {
+        elements.add(field.identifier());
+        // The ordering decides if a predicate or comparator can be optimized
+        elements.add(field.typeMapper().getOrdering());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof PipelineShape)) {
+            return false;
+        }
+        final PipelineShape that = (PipelineShape) obj;
+        return hashCode == that.hashCode
+            && Arrays.equals(elements, that.elements);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return "PipelineShape" + Arrays.toString(elements);
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.component.statistics;
+
+import com.speedment.runtime.core.component.statistics.ColumnStatistics;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Default implementation of {@link ColumnStatistics}.
+ *
+ * @since   3.1.5
+ */
+public final class ColumnStatisticsImpl implements ColumnStatistics {
+
+    private final String columnName;
+    private final OptionalLong distinctCount;
+    private final OptionalDouble nullFraction;
+    private final Object min;
+    private final Object max;
+
+    public ColumnStatisticsImpl(
+            String columnName,
+            OptionalLong distinctCount,
+            OptionalDouble nullFraction,
+            Object min,
+            Object max) {
+
+        this.columnName    = requireNonNull(columnName);
+        this.distinctCount = requireNonNull(distinctCount);
+        this.nullFraction  = requireNonNull(nullFraction);
+        this.min           = min;
+        this.max           = max;
+    }
+
+    @Override
+    public String getColumnName() {
+        return columnName;
+    }
+
+    @Override
+    public OptionalLong getDistinctCount() {
+        return distinctCount;
+    }
+
+    @Override
+    public OptionalDouble getNullFraction() {
+        return nullFraction;
+    }
+
+    @Override
+    public Optional<Object> getMin() {
+        return Optional.ofNullable(min);
+    }
+
+    @Override
+    public Optional<Object> getMax() {
+        return Optional.ofNullable(max);
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnStatistics{columnName=" + columnName
+            + ", distinctCount=" + distinctCount
+            + ", nullFraction=" + nullFraction
+            + ", min=" + min
+            + ", max=" + max + "}";
+    }
+}
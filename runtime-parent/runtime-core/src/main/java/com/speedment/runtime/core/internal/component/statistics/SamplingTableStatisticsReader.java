@@ -0,0 +1,184 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.component.statistics;
+
+import com.speedment.runtime.config.Column;
+import com.speedment.runtime.config.Table;
+import com.speedment.runtime.config.trait.HasEnabled;
+import com.speedment.runtime.core.component.statistics.ColumnStatistics;
+import com.speedment.runtime.core.component.statistics.TableStatistics;
+import com.speedment.runtime.core.component.statistics.TableStatisticsReader;
+import com.speedment.runtime.core.db.DatabaseNamingConvention;
+import com.speedment.runtime.core.db.DbmsType;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.Set;
+
+import static com.speedment.common.invariant.IntRangeUtil.requirePositive;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A {@link TableStatisticsReader} that computes the statistics of a table
+ * from a sample of its rows.
+ *
+ * @since   3.1.5
+ */
+public final class SamplingTableStatisticsReader implements TableStatisticsReader {
+
+    private final int sampleSize;
+
+    public SamplingTableStatisticsReader(int sampleSize) {
+        this.sampleSize = requirePositive(sampleSize);
+    }
+
+    @Override
+    public TableStatistics read(Connection connection, DbmsType dbmsType, Table table)
+    throws SQLException {
+        final long rowCount = TableStatisticsUtil.countRows(connection, dbmsType, table);
+        final List<Column> columns = table.columns()
+            .filter(HasEnabled::test)
+            .collect(toList());
+
+        final List<ColumnStatistics> statistics = new ArrayList<>();
+        if (columns.isEmpty()) {
+            return TableStatistics.of(rowCount, statistics);
+        }
+
+        final DatabaseNamingConvention naming = dbmsType.getDatabaseNamingConvention();
+        final List<Object> params = new ArrayList<>();
+        final String sql = dbmsType.applySkipLimit(
+            columns.stream()
+                .map(c -> naming.encloseField(c.getName()))
+                .collect(joining(", ", "SELECT ", " FROM " + naming.fullNameOf(table))),
+            params, 0, sampleSize
+        );
+
+        final List<Sample> samples = columns.stream()
+            .map(c -> new Sample(c.getName()))
+            .collect(toList());
+
+        long sampled = 0;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < params.size(); i++) {
+                statement.setObject(i + 1, params.get(i));
+            }
+            statement.setMaxRows(sampleSize);
+
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    for (int i = 0; i < samples.size(); i++) {
+                        samples.get(i).accept(rs.getObject(i + 1));
+                    }
+                    sampled++;
+                }
+            }
+        }
+
+        for (final Sample sample : samples) {
+            statistics.add(sample.toStatistics(sampled, rowCount));
+        }
+
+        return TableStatistics.of(rowCount, statistics);
+    }
+
+    /**
+     * The values of a single column seen so far.
+     */
+    private static final class Sample {
+
+        private final String columnName;
+        private final Set<Object> distinct;
+        private long nulls;
+        private boolean comparable;
+        private Comparable<Object> min, max;
+
+        private Sample(String columnName) {
+            this.columnName = columnName;
+            this.distinct   = new HashSet<>();
+            this.comparable = true;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void accept(Object value) {
+            if (value == null) {
+                nulls++;
+                return;
+            }
+
+            if (value instanceof byte[]) {
+                distinct.add(ByteBuffer.wrap(((byte[]) value).clone()));
+                comparable = false;
+                return;
+            }
+
+            distinct.add(value);
+
+            if (comparable) {
+                if (value instanceof Comparable) {
+                    final Comparable<Object> c = (Comparable<Object>) value;
+                    try {
+                        if (min == null || c.compareTo(min) < 0) min = c;
+                        if (max == null || c.compareTo(max) > 0) max = c;
+                    } catch (final ClassCastException ex) {
+                        comparable = false;
+                    }
+                } else {
+                    comparable = false;
+                }
+            }
+        }
+
+        private ColumnStatistics toStatistics(long sampled, long rowCount) {
+            if (sampled == 0) {
+                return ColumnStatistics.of(columnName,
+                    OptionalLong.empty(), OptionalDouble.empty(), null, null
+                );
+            }
+
+            final long nonNull = sampled - nulls;
+            final long distinctCount;
+
+            // If the whole table was not sampled and every value was
+            // unique, the column is most likely unique in the table as well.
+            if (sampled < rowCount && nonNull > 0 && distinct.size() == nonNull) {
+                distinctCount = Math.round((double) nonNull * rowCount / sampled);
+            } else {
+                distinctCount = distinct.size();
+            }
+
+            // The sample is not ordered, so unless it covers the whole
+            // table its min and max are not the range of the column.
+            final boolean range = comparable && sampled >= rowCount;
+            return ColumnStatistics.of(columnName,
+                OptionalLong.of(distinctCount),
+                OptionalDouble.of((double) nulls / sampled),
+                range ? min : null,
+                range ? max : null
+            );
+        }
+    }
+}
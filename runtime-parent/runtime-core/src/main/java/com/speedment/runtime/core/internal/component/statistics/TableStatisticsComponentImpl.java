@@ -0,0 +1,188 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.component.statistics;
+
+import com.speedment.common.injector.State;
+import com.speedment.common.injector.annotation.Config;
+import com.speedment.common.injector.annotation.ExecuteBefore;
+import com.speedment.common.injector.annotation.Inject;
+import com.speedment.common.logger.Logger;
+import com.speedment.common.logger.LoggerManager;
+import com.speedment.runtime.config.Dbms;
+import com.speedment.runtime.config.Project;
+import com.speedment.runtime.config.Table;
+import com.speedment.runtime.config.identifier.TableIdentifier;
+import com.speedment.runtime.config.util.DocumentDbUtil;
+import com.speedment.runtime.core.component.DbmsHandlerComponent;
+import com.speedment.runtime.core.component.ProjectComponent;
+import com.speedment.runtime.core.component.connectionpool.ConnectionPoolComponent;
+import com.speedment.runtime.core.component.statistics.TableStatistics;
+import com.speedment.runtime.core.component.statistics.TableStatisticsComponent;
+import com.speedment.runtime.core.component.statistics.TableStatisticsReader;
+import com.speedment.runtime.core.db.DbmsType;
+import com.speedment.runtime.core.exception.SpeedmentException;
+import com.speedment.runtime.core.util.DatabaseUtil;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Default implementation of the {@link TableStatisticsComponent}-interface.
+ * <p>
+ * Statistics are only read in the background if
+ * {@code statistics.readInBackground} is set to {@code true}.
+ * <p>
+ * Statistics are read on a single background thread, one table at a time,
+ * so that reading them never competes with the application for more than
+ * one connection.
+ *
+ * @since   3.1.5
+ */
+public final class TableStatisticsComponentImpl implements TableStatisticsComponent {
+
+    private static final Logger LOGGER =
+        LoggerManager.getLogger(TableStatisticsComponentImpl.class);
+
+    @Config(name = "statistics.maxAge", value = "600000")
+    private long maxAge;
+    @Config(name = "statistics.readInBackground", value = "false")
+    private boolean readInBackground;
+
+    @Inject
+    private ProjectComponent projectComponent;
+    @Inject
+    private DbmsHandlerComponent dbmsHandlerComponent;
+    @Inject
+    private ConnectionPoolComponent connectionPoolComponent;
+
+    private final Map<String, TableStatisticsReader> readers;
+    private final Map<TableIdentifier<?>, Entry> entries;
+    private final Set<TableIdentifier<?>> reading;
+    private final ExecutorService executor;
+
+    public TableStatisticsComponentImpl() {
+        this.readers  = new ConcurrentHashMap<>();
+        this.entries  = new ConcurrentHashMap<>();
+        this.reading  = ConcurrentHashMap.newKeySet();
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            final Thread t = new Thread(r, "speedment-statistics");
+            t.setDaemon(true);
+            return t;
+        });
+        this.maxAge   = 600_000;
+    }
+
+    @ExecuteBefore(State.STOPPED)
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public void install(String dbmsId, TableStatisticsReader reader) {
+        readers.put(requireNonNull(dbmsId), requireNonNull(reader));
+    }
+
+    @Override
+    public Optional<TableStatistics> get(TableIdentifier<?> table) {
+        requireNonNull(table);
+
+        final Entry entry = entries.get(table);
+        if (readInBackground && (entry == null || System.currentTimeMillis() - entry.attempted >= maxAge)) {
+            readInBackground(table);
+        }
+
+        return entry == null ? Optional.empty() : Optional.ofNullable(entry.statistics);
+    }
+
+    @Override
+    public TableStatistics refresh(TableIdentifier<?> table) {
+        requireNonNull(table);
+
+        final Project project = projectComponent.getProject();
+        final Table tbl       = DocumentDbUtil.referencedTable(project, table);
+        final Dbms dbms       = DocumentDbUtil.referencedDbms(project, table);
+        final DbmsType type   = DatabaseUtil.dbmsTypeOf(dbmsHandlerComponent, dbms);
+
+        final TableStatisticsReader reader = Optional
+            .ofNullable(readers.get(table.getDbmsId()))
+            .orElseGet(type::getTableStatisticsReader);
+
+        final TableStatistics statistics;
+        try (Connection connection = connectionPoolComponent.getConnection(dbms)) {
+            statistics = reader.read(connection, type, tbl);
+        } catch (final SQLException ex) {
+            throw new SpeedmentException(
+                "Error reading the statistics of table " + table + ".", ex
+            );
+        }
+
+        entries.put(table, new Entry(statistics, System.currentTimeMillis()));
+        return statistics;
+    }
+
+    @Override
+    public void invalidate(TableIdentifier<?> table) {
+        entries.remove(requireNonNull(table));
+    }
+
+    private void readInBackground(TableIdentifier<?> table) {
+        if (!reading.add(table)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    refresh(table);
+                } catch (final RuntimeException ex) {
+                    LOGGER.warn(ex, "Could not read the statistics of table %s.", table);
+
+                    // Keep the old statistics, but wait until they expire
+                    // again before making another attempt.
+                    entries.compute(table, (k, old) -> new Entry(
+                        old == null ? null : old.statistics,
+                        System.currentTimeMillis()
+                    ));
+                } finally {
+                    reading.remove(table);
+                }
+            });
+        } catch (final RuntimeException ex) {
+            reading.remove(table);
+            throw ex;
+        }
+    }
+
+    private static final class Entry {
+
+        private final TableStatistics statistics;
+        private final long attempted;
+
+        private Entry(TableStatistics statistics, long attempted) {
+            this.statistics = statistics;
+            this.attempted  = attempted;
+        }
+    }
+}
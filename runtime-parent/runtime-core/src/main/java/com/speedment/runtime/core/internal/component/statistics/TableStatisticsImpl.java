@@ -0,0 +1,78 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.component.statistics;
+
+import com.speedment.runtime.core.component.statistics.ColumnStatistics;
+import com.speedment.runtime.core.component.statistics.TableStatistics;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.speedment.common.invariant.LongRangeUtil.requireNonNegative;
+
+/**
+ * Default implementation of {@link TableStatistics}.
+ *
+ * @since   3.1.5
+ */
+public final class TableStatisticsImpl implements TableStatistics {
+
+    private final long rowCount;
+    private final Map<String, ColumnStatistics> columns;
+    private final long timestamp;
+
+    public TableStatisticsImpl(
+            long rowCount,
+            Collection<ColumnStatistics> columns,
+            long timestamp) {
+
+        this.rowCount  = requireNonNegative(rowCount);
+        this.columns   = new LinkedHashMap<>();
+        this.timestamp = timestamp;
+        columns.forEach(c -> this.columns.put(c.getColumnName(), c));
+    }
+
+    @Override
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public Optional<ColumnStatistics> getColumn(String columnName) {
+        return Optional.ofNullable(columns.get(columnName));
+    }
+
+    @Override
+    public Stream<ColumnStatistics> columns() {
+        return columns.values().stream();
+    }
+
+    @Override
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "TableStatistics{rowCount=" + rowCount
+            + ", columns=" + columns.values()
+            + ", timestamp=" + timestamp + "}";
+    }
+}
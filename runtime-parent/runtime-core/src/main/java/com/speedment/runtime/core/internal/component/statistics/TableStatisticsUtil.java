@@ -0,0 +1,158 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.component.statistics;
+
+import com.speedment.runtime.config.Column;
+import com.speedment.runtime.config.Index;
+import com.speedment.runtime.config.Table;
+import com.speedment.runtime.config.trait.HasEnabled;
+import com.speedment.runtime.config.trait.HasOrdinalPosition;
+import com.speedment.runtime.core.db.DatabaseNamingConvention;
+import com.speedment.runtime.core.db.DbmsType;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.speedment.runtime.core.util.StaticClassUtil.instanceNotAllowed;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Utility methods shared by the {@code TableStatisticsReader}
+ * implementations.
+ *
+ * @since   3.1.5
+ */
+public final class TableStatisticsUtil {
+
+    /**
+     * Counts the rows of the specified table.
+     *
+     * @param connection  the connection to use
+     * @param dbmsType    the type of the dbms
+     * @param table       the table
+     * @return            the number of rows
+     *
+     * @throws SQLException  if the rows could not be counted
+     */
+    public static long countRows(
+            Connection connection,
+            DbmsType dbmsType,
+            Table table) throws SQLException {
+
+        final String sql = "SELECT COUNT(*) FROM "
+            + dbmsType.getDatabaseNamingConvention().fullNameOf(table);
+
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    /**
+     * Returns the enabled columns that are the first column of the primary
+     * key or of an index of the specified table. The smallest and largest
+     * values of these columns can be read without scanning the table.
+     *
+     * @param table  the table
+     * @return       the leading index columns
+     */
+    public static List<Column> leadingIndexColumns(Table table) {
+        final Stream<Optional<? extends Column>> primaryKey = table
+            .primaryKeyColumns()
+            .min(Comparator.comparingInt(HasOrdinalPosition::getOrdinalPosition))
+            .map(pkc -> Stream.<Optional<? extends Column>>of(pkc.findColumn()))
+            .orElseGet(Stream::empty);
+
+        final Stream<Optional<? extends Column>> indexes = table.indexes()
+            .filter(HasEnabled::test)
+            .map(Index::indexColumns)
+            .map(ics -> ics.min(Comparator.comparingInt(HasOrdinalPosition::getOrdinalPosition)))
+            .filter(Optional::isPresent)
+            .map(ic -> ic.get().findColumn());
+
+        return Stream.concat(primaryKey, indexes)
+            .filter(Optional::isPresent)
+            .<Column>map(Optional::get)
+            .filter(HasEnabled::test)
+            .collect(toMap(Column::getName, c -> c, (a, b) -> a, LinkedHashMap::new))
+            .values().stream()
+            .collect(toList());
+    }
+
+    /**
+     * Reads the smallest and largest value of each of the specified columns
+     * using a single query. The values are returned as two-element arrays
+     * keyed by the database name of the column.
+     *
+     * @param connection  the connection to use
+     * @param dbmsType    the type of the dbms
+     * @param table       the table
+     * @param columns     the columns to read the range of
+     * @return            the ranges keyed by column name
+     *
+     * @throws SQLException  if the ranges could not be read
+     */
+    public static Map<String, Object[]> readRanges(
+            Connection connection,
+            DbmsType dbmsType,
+            Table table,
+            List<Column> columns) throws SQLException {
+
+        final Map<String, Object[]> ranges = new HashMap<>();
+        if (columns.isEmpty()) {
+            return ranges;
+        }
+
+        final DatabaseNamingConvention naming = dbmsType.getDatabaseNamingConvention();
+        final String sql = columns.stream()
+            .map(c -> naming.encloseField(c.getName()))
+            .map(c -> "MIN(" + c + "), MAX(" + c + ")")
+            .collect(joining(", ", "SELECT ", " FROM " + naming.fullNameOf(table)));
+
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            if (rs.next()) {
+                for (int i = 0; i < columns.size(); i++) {
+                    ranges.put(columns.get(i).getName(), new Object[] {
+                        rs.getObject(2 * i + 1),
+                        rs.getObject(2 * i + 2)
+                    });
+                }
+            }
+        }
+
+        return ranges;
+    }
+
+    /**
+     * Utility classes should not be instantiated.
+     */
+    private TableStatisticsUtil() {
+        instanceNotAllowed(getClass());
+    }
+}
@@ -0,0 +1,398 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.component.transaction;
+
+import com.speedment.common.logger.Logger;
+import com.speedment.common.logger.LoggerManager;
+import com.speedment.runtime.core.ApplicationBuilder;
+import com.speedment.runtime.core.component.transaction.DataSourceHandler;
+import com.speedment.runtime.core.component.transaction.Isolation;
+import com.speedment.runtime.core.component.transaction.Transaction;
+import com.speedment.runtime.core.component.transaction.TransactionComponent;
+import com.speedment.runtime.core.component.transaction.TransactionHandler;
+import com.speedment.runtime.core.exception.TransactionException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link TransactionHandler} that lets concurrent transactions share a
+ * single database transaction so that they can be made durable with a
+ * single commit.
+ * <p>
+ * The first thread that calls {@link #createAndApply(Function)} opens a
+ * group and waits for other threads to join it during the configured
+ * window, or until the group holds the maximum number of units. The units
+ * of a group are executed one at a time on their own threads. Each unit is
+ * isolated from the others by a savepoint, so that a unit that fails or
+ * does not commit its work is rolled back without affecting the rest of the
+ * group. When all units have been executed, the group is committed and
+ * every thread returns. If the group commit fails, every unit in the group
+ * fails with a {@link TransactionException}.
+ * <p>
+ * A unit that calls {@link #createAndApply(Function)} on the same handler
+ * does not join a group, since the group can not end before the unit does.
+ * The nested transaction is instead executed directly on the thread of the
+ * unit, isolated by a savepoint of its own, and becomes part of the unit.
+ *
+ * @since 3.1.5
+ */
+final class GroupCommitTransactionHandler implements TransactionHandler {
+
+    private static final Logger TRANSACTION_LOGGER = LoggerManager.getLogger(ApplicationBuilder.LogType.TRANSACTION.getLoggerName());
+
+    private final TransactionComponent txComponent;
+    private final Object dataSource;
+    private final DataSourceHandler<Object, Object> dataSourceHandler;
+    private final long windowNanos;
+    private final int maxUnits;
+    private final Object lock;
+    private final ThreadLocal<Group> executing;
+    private volatile Isolation isolation;
+    private Group open; // Guarded by lock
+
+    GroupCommitTransactionHandler(
+        final TransactionComponent txComponent,
+        final Object dataSource,
+        final DataSourceHandler<Object, Object> dataSourceHandler,
+        final Duration window,
+        final int maxUnits
+    ) {
+        this.txComponent = requireNonNull(txComponent);
+        this.dataSource = requireNonNull(dataSource);
+        this.dataSourceHandler = requireNonNull(dataSourceHandler);
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("The window must not be negative: " + window);
+        }
+        if (maxUnits < 1) {
+            throw new IllegalArgumentException("The maximum number of units must be positive: " + maxUnits);
+        }
+        this.windowNanos = window.toNanos();
+        this.maxUnits = maxUnits;
+        this.lock = new Object();
+        this.executing = new ThreadLocal<>();
+        this.isolation = Isolation.DEFAULT;
+    }
+
+    @Override
+    public void setIsolation(Isolation level) {
+        this.isolation = requireNonNull(level);
+    }
+
+    @Override
+    public Isolation getIsolation() {
+        return isolation;
+    }
+
+    @Override
+    public <R> R createAndApply(Function<? super Transaction, ? extends R> mapper) throws TransactionException {
+        requireNonNull(mapper);
+
+        final Group executingGroup = executing.get();
+        if (executingGroup != null) {
+            return executeNested(executingGroup, mapper);
+        }
+
+        final Group group;
+        final boolean leader;
+        synchronized (lock) {
+            leader = open == null;
+            if (leader) {
+                open = new Group();
+            }
+            group = open;
+            if (++group.units == maxUnits) {
+                close(group);
+            }
+        }
+
+        if (leader) {
+            begin(group);
+            awaitWindow(group);
+        } else {
+            await(() -> group.started);
+        }
+
+        R result = null;
+        RuntimeException failure = group.beginFailure;
+        if (failure == null) {
+            group.executing.lock();
+            try {
+                result = execute(group, mapper);
+            } catch (RuntimeException e) {
+                failure = e;
+            } finally {
+                group.executing.unlock();
+            }
+        }
+
+        synchronized (lock) {
+            group.executed++;
+            lock.notifyAll();
+        }
+
+        if (leader) {
+            await(() -> group.executed == group.units);
+            end(group);
+        } else {
+            await(() -> group.ended);
+        }
+
+        if (failure != null) {
+            throw failure instanceof TransactionException
+                ? (TransactionException) failure
+                : new TransactionException("Error while invoking transaction for object :" + group.txObject, failure);
+        }
+        if (group.commitFailure != null) {
+            throw new TransactionException("Group commit of " + group.units + " units failed for object :" + group.txObject, group.commitFailure);
+        }
+        return result;
+    }
+
+    private void begin(Group group) {
+        Object txObject = null;
+        try {
+            txObject = dataSourceHandler.extractor().apply(dataSource); // e.g. obtains a Connection
+            if (!(txObject instanceof Connection)) {
+                throw new TransactionException(
+                    "Group commit requires a " + Connection.class.getName()
+                    + " but the data source provided " + txObject
+                );
+            }
+            group.oldIsolation = setAndGetIsolation(txObject, isolation);
+            dataSourceHandler.beginner().accept(txObject); // e.g. con.setAutocommit(false)
+            group.txObject = txObject;
+        } catch (RuntimeException e) {
+            if (txObject != null) {
+                dataSourceHandler.closer().accept(txObject);
+            }
+            group.beginFailure = e instanceof TransactionException
+                ? e
+                : new TransactionException("Unable to begin group transaction", e);
+        }
+        synchronized (lock) {
+            group.started = true;
+            lock.notifyAll();
+        }
+    }
+
+    private <R> R execute(Group group, Function<? super Transaction, ? extends R> mapper) {
+        final Thread currentThread = Thread.currentThread();
+        final GroupTransaction tx = new GroupTransaction((Connection) group.txObject);
+        txComponent.put(currentThread, group.txObject);
+        executing.set(group);
+        try {
+            return mapper.apply(tx);
+        } finally {
+            executing.remove();
+            txComponent.remove(currentThread);
+            tx.discard(); // Always discard data that was not committed by the unit
+        }
+    }
+
+    private <R> R executeNested(Group group, Function<? super Transaction, ? extends R> mapper) {
+        // The thread is already bound to the transaction object of the group
+        final GroupTransaction tx = new GroupTransaction((Connection) group.txObject);
+        try {
+            return mapper.apply(tx);
+        } catch (TransactionException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new TransactionException("Error while invoking transaction for object :" + group.txObject, e);
+        } finally {
+            tx.discard(); // Always discard data that was not committed by the nested unit
+        }
+    }
+
+    private void end(Group group) {
+        final Object txObject = group.txObject;
+        if (txObject != null) {
+            try {
+                dataSourceHandler.committer().accept(txObject);
+                TRANSACTION_LOGGER.debug("Group of %d units committed on transaction object %s", group.units, txObject);
+            } catch (RuntimeException e) {
+                group.commitFailure = e;
+            } finally {
+                try {
+                    dataSourceHandler.rollbacker().accept(txObject);
+                } finally {
+                    txComponent.complete(txObject);
+                }
+                dataSourceHandler.closer().accept(txObject); // e.g. con.setAutocommit(true); con.close();
+                setAndGetIsolation(txObject, group.oldIsolation);
+            }
+        }
+        synchronized (lock) {
+            group.ended = true;
+            lock.notifyAll();
+        }
+    }
+
+    private void awaitWindow(Group group) {
+        final long deadline = System.nanoTime() + windowNanos;
+        boolean interrupted = false;
+        synchronized (lock) {
+            long remaining;
+            while (!group.closed && (remaining = deadline - System.nanoTime()) > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    break;
+                }
+            }
+            if (!group.closed) {
+                close(group);
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void await(Condition condition) {
+        boolean interrupted = false;
+        synchronized (lock) {
+            while (!condition.isMet()) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    // The group can not be left half way, so keep waiting
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void close(Group group) {
+        // Called while holding the lock
+        group.closed = true;
+        if (open == group) {
+            open = null;
+        }
+        lock.notifyAll();
+    }
+
+    private Isolation setAndGetIsolation(Object txObject, Isolation isolation) {
+        if (Isolation.DEFAULT != isolation) {
+            return dataSourceHandler.isolationConfigurator().apply(txObject, isolation);
+        } else {
+            return Isolation.DEFAULT;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Condition {
+        boolean isMet(); // Called while holding the lock
+    }
+
+    private static final class Group {
+
+        private final ReentrantLock executing = new ReentrantLock();
+
+        // Guarded by the lock of the handler
+        private int units;
+        private int executed;
+        private boolean closed;
+        private boolean started;
+        private boolean ended;
+
+        // Written before started or ended is set
+        private Object txObject;
+        private Isolation oldIsolation;
+        private RuntimeException beginFailure;
+        private RuntimeException commitFailure;
+    }
+
+    /**
+     * The transaction of a single unit in a group. Committing only marks the
+     * work done so far as part of the group, which is made durable when the
+     * group is committed.
+     */
+    private final class GroupTransaction implements Transaction {
+
+        private final Connection connection;
+        private Savepoint savepoint;
+
+        private GroupTransaction(Connection connection) {
+            this.connection = connection;
+            this.savepoint = setSavepoint();
+        }
+
+        @Override
+        public void commit() {
+            final Savepoint previous = savepoint;
+            savepoint = setSavepoint();
+            release(previous);
+        }
+
+        @Override
+        public void rollback() {
+            try {
+                connection.rollback(savepoint);
+            } catch (SQLException sqle) {
+                throw new TransactionException("Unable to rollback to savepoint", sqle);
+            }
+        }
+
+        @Override
+        public void attachCurrentThread() {
+            txComponent.put(Thread.currentThread(), connection);
+        }
+
+        @Override
+        public void detachCurrentThread() {
+            txComponent.remove(Thread.currentThread());
+        }
+
+        @Override
+        public Binding bind() {
+            return TransactionImpl.bind(txComponent, connection);
+        }
+
+        private void discard() {
+            rollback();
+            release(savepoint);
+        }
+
+        private Savepoint setSavepoint() {
+            try {
+                return connection.setSavepoint();
+            } catch (SQLException sqle) {
+                throw new TransactionException("Unable to set savepoint", sqle);
+            }
+        }
+
+        private void release(Savepoint savepoint) {
+            try {
+                connection.releaseSavepoint(savepoint);
+            } catch (SQLException sqle) {
+                // Not all databases support releasing savepoints and they are
+                // released anyhow when the group ends
+                TRANSACTION_LOGGER.debug("Unable to release savepoint: %s", sqle.getMessage());
+            }
+        }
+    }
+}
@@ -21,6 +21,7 @@ import static com.speedment.common.injector.State.STARTED;
 import com.speedment.common.injector.annotation.ExecuteBefore;
 import com.speedment.common.injector.annotation.WithState;
 import com.speedment.runtime.config.Dbms;
+import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.core.component.ProjectComponent;
 import com.speedment.runtime.core.component.connectionpool.ConnectionPoolComponent;
 import com.speedment.runtime.core.component.connectionpool.PoolableConnection;
@@ -31,12 +32,14 @@ import com.speedment.runtime.core.component.transaction.TransactionComponent;
 import com.speedment.runtime.core.component.transaction.TransactionHandler;
 import com.speedment.runtime.core.exception.TransactionException;
 import java.sql.SQLException;
-import java.util.HashSet;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import static java.util.Objects.requireNonNull;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -51,8 +54,12 @@ import java.util.stream.Stream;
 public class TransactionComponentImpl implements TransactionComponent {
 
     private final Map<Class<?>, DataSourceHandler<Object, Object>> dataSourceHandlers;
-    private final Map<Thread, Object> txObjects;
+    private final ThreadLocal<Binding> currentBinding;
+    private final Map<Thread, Binding> bindings;
+    private final Map<Thread, Binding> foreignBindings;
     private final Map<Object, Set<Thread>> threadSets;
+    private final Map<Object, Set<TableIdentifier<?>>> modifiedTables;
+    private final List<Consumer<? super Set<TableIdentifier<?>>>> completionListeners;
     private Dbms singleDbms;
 
     @ExecuteBefore(STARTED)
@@ -88,8 +95,12 @@ public class TransactionComponentImpl implements TransactionComponent {
 
     public TransactionComponentImpl() {
         this.dataSourceHandlers = new ConcurrentHashMap<>();
-        this.txObjects = new ConcurrentHashMap<>();
+        this.currentBinding = new ThreadLocal<>();
+        this.bindings = new ConcurrentHashMap<>();
+        this.foreignBindings = new ConcurrentHashMap<>();
         this.threadSets = new ConcurrentHashMap<>();
+        this.modifiedTables = new ConcurrentHashMap<>();
+        this.completionListeners = new CopyOnWriteArrayList<>();
     }
 
     @Override
@@ -105,6 +116,19 @@ public class TransactionComponentImpl implements TransactionComponent {
         return new TransactionHandlerImpl(this, dataSource, findMapping(dataSource));
     }
 
+    @Override
+    public TransactionHandler createGroupCommitTransactionHandler(Duration window, int maxUnits) {
+        if (singleDbms == null) {
+            throw new IllegalStateException("This project does not contain exactly one Dbms.");
+        }
+        return createGroupCommitTransactionHandler(singleDbms, window, maxUnits);
+    }
+
+    @Override
+    public <T> TransactionHandler createGroupCommitTransactionHandler(T dataSource, Duration window, int maxUnits) {
+        return new GroupCommitTransactionHandler(this, dataSource, findMapping(dataSource), window, maxUnits);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <D, T> void putDataSourceHandler(Class<D> dataSourceClass, DataSourceHandler<D, T> dataSourceHandler) {
@@ -113,32 +137,74 @@ public class TransactionComponentImpl implements TransactionComponent {
 
     @Override
     public void put(Thread thread, Object txObject) {
-        if (txObjects.putIfAbsent(thread, txObject) != null) {
+        final Binding binding = new Binding(requireNonNull(txObject));
+        if (bindings.putIfAbsent(requireNonNull(thread), binding) != null) {
             throw new IllegalStateException(
                 String.format("There is already a txObject associated with thread %s ", thread)
             );
         }
-        threadSets.computeIfAbsent(
-            txObject,
-            (Object k) -> new HashSet<>()
-        ).add(thread);
+        if (thread == Thread.currentThread()) {
+            currentBinding.set(binding);
+        } else {
+            // Picked up by the thread the next time it looks for its binding
+            foreignBindings.put(thread, binding);
+        }
+        threadSets.compute(txObject, (Object k, Set<Thread> threads) -> {
+            final Set<Thread> result = threads == null ? ConcurrentHashMap.newKeySet() : threads;
+            result.add(thread);
+            return result;
+        });
     }
 
     @Override
     public Optional<Object> get(Thread thread) {
-        return Optional.ofNullable(txObjects.get(requireNonNull(thread)));
+        if (requireNonNull(thread) == Thread.currentThread()) {
+            return current();
+        }
+        return Optional.ofNullable(bindings.get(thread)).map(b -> b.txObject);
+    }
+
+    @Override
+    public Optional<Object> current() {
+        // The binding of the current thread is kept in a thread local, so
+        // that looking it up does not touch any state shared between threads
+        final Binding binding = currentBinding.get();
+        if (binding != null) {
+            if (!binding.removed) {
+                return Optional.of(binding.txObject);
+            }
+            currentBinding.remove(); // Removed by another thread
+        }
+
+        if (foreignBindings.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final Binding foreign = foreignBindings.remove(Thread.currentThread());
+        if (foreign == null || foreign.removed) {
+            return Optional.empty();
+        }
+        currentBinding.set(foreign);
+        return Optional.of(foreign.txObject);
     }
 
     @Override
     public void remove(Thread thread) {
-        final Object removedTxObject = txObjects.remove(requireNonNull(thread));
-        if (removedTxObject != null) {
-            final Set<Thread> threadSet = threadSets.get(removedTxObject);
-            threadSet.remove(thread);
-            if (threadSet.isEmpty()) {
-                // Clean up 
-                threadSets.remove(removedTxObject);
+        final Binding removed = bindings.remove(requireNonNull(thread));
+        if (removed != null) {
+            removed.removed = true;
+            if (thread == Thread.currentThread()) {
+                currentBinding.remove();
+            } else {
+                // The thread local of the other thread can not be cleared from
+                // here. Since the binding is marked as removed, the thread
+                // drops it the next time it looks up its binding.
+                foreignBindings.remove(thread, removed);
             }
+            threadSets.computeIfPresent(removed.txObject, (Object k, Set<Thread> threads) -> {
+                threads.remove(thread);
+                return threads.isEmpty() ? null : threads; // Clean up
+            });
         }
     }
 
@@ -149,6 +215,26 @@ public class TransactionComponentImpl implements TransactionComponent {
             .orElse(Stream.empty());
     }
 
+    @Override
+    public void addModifiedTable(Object txObject, TableIdentifier<?> table) {
+        requireNonNull(table);
+        modifiedTables.computeIfAbsent(requireNonNull(txObject), k -> ConcurrentHashMap.newKeySet())
+            .add(table);
+    }
+
+    @Override
+    public void addCompletionListener(Consumer<? super Set<TableIdentifier<?>>> listener) {
+        completionListeners.add(requireNonNull(listener));
+    }
+
+    @Override
+    public void complete(Object txObject) {
+        final Set<TableIdentifier<?>> tables = modifiedTables.remove(requireNonNull(txObject));
+        if (tables != null && !tables.isEmpty()) {
+            completionListeners.forEach(listener -> listener.accept(tables));
+        }
+    }
+
     private DataSourceHandler<Object, Object> findMapping(Object dataSource) {
         final Class<?> originalClass = dataSource.getClass();
         {
@@ -183,6 +269,19 @@ public class TransactionComponentImpl implements TransactionComponent {
         );
     }
 
+    /**
+     * The association between a thread and a transaction aware object.
+     */
+    private static final class Binding {
+
+        private final Object txObject;
+        private volatile boolean removed;
+
+        private Binding(Object txObject) {
+            this.txObject = txObject;
+        }
+    }
+
     private <T> Consumer<T> wrapSqlException(SqlConsumer<T> sqlConsumer, String label) {
         return (T t) -> {
             try {
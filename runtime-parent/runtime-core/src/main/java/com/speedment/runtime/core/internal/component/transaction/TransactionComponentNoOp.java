@@ -20,6 +20,7 @@ import com.speedment.runtime.core.component.transaction.DataSourceHandler;
 import com.speedment.runtime.core.component.transaction.TransactionBundle;
 import com.speedment.runtime.core.component.transaction.TransactionComponent;
 import com.speedment.runtime.core.component.transaction.TransactionHandler;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -42,6 +43,16 @@ public class TransactionComponentNoOp implements TransactionComponent {
         throw createException();
     }
 
+    @Override
+    public TransactionHandler createGroupCommitTransactionHandler(Duration window, int maxUnits) {
+        throw createException();
+    }
+
+    @Override
+    public <T> TransactionHandler createGroupCommitTransactionHandler(T dataSource, Duration window, int maxUnits) {
+        throw createException();
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <D, T> void putDataSourceHandler(Class<D> dataSourceClass, DataSourceHandler<D, T> dataSourceHandler) {
@@ -58,6 +69,11 @@ public class TransactionComponentNoOp implements TransactionComponent {
         return Optional.empty();
     }
 
+    @Override
+    public Optional<Object> current() {
+        return Optional.empty();
+    }
+
     @Override
     public void remove(Thread thread) {
     }
@@ -78,7 +78,11 @@ public class TransactionHandlerImpl implements TransactionHandler {
             // Executed in the finally block : dataSourceHandler.rollbacker().accept(txObject); // Automatically rollback if there is an exception
             throw new TransactionException("Error while invoking transaction for object :" + txObject, e);
         } finally {
-            dataSourceHandler.rollbacker().accept(txObject); // Always rollback() implicitly and discard uncommitted data
+            try {
+                dataSourceHandler.rollbacker().accept(txObject); // Always rollback() implicitly and discard uncommitted data
+            } finally {
+                txComponent.complete(txObject);
+            }
             dataSourceHandler.closer().accept(txObject); // e.g. con.setAutocommit(true); con.close();
             setAndGetIsolation(txObject, oldIsolation);
             txComponent.remove(currentThread);
@@ -21,6 +21,8 @@ import com.speedment.runtime.core.component.transaction.Transaction;
 import com.speedment.runtime.core.component.transaction.TransactionComponent;
 import com.speedment.runtime.core.exception.TransactionException;
 import static java.util.Objects.requireNonNull;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  *
@@ -44,12 +46,20 @@ public class TransactionImpl implements Transaction {
 
     @Override
     public void commit() throws TransactionException {
-        dataSourceHandler.committer().accept(txObject);
+        try {
+            dataSourceHandler.committer().accept(txObject);
+        } finally {
+            txComponent.complete(txObject);
+        }
     }
 
     @Override
     public void rollback() throws TransactionException {
-        dataSourceHandler.rollbacker().accept(txObject);
+        try {
+            dataSourceHandler.rollbacker().accept(txObject);
+        } finally {
+            txComponent.complete(txObject);
+        }
     }
 
     @Override
@@ -62,4 +72,38 @@ public class TransactionImpl implements Transaction {
         txComponent.remove(Thread.currentThread());
     }
 
+    @Override
+    public Binding bind() {
+        return bind(txComponent, txObject);
+    }
+
+    /**
+     * Binds the current thread to the provided transaction aware object
+     * until the returned handle is closed.
+     *
+     * @param txComponent the component that keeps track of bindings
+     * @param txObject the transaction aware object
+     * @return a handle that detaches the current thread when closed
+     */
+    static Binding bind(TransactionComponent txComponent, Object txObject) {
+        final Thread thread = Thread.currentThread();
+        final Optional<Object> previous = txComponent.get(thread);
+        if (previous.isPresent() && previous.get() == txObject) {
+            return () -> {};
+        }
+
+        txComponent.put(thread, txObject);
+        final AtomicBoolean closed = new AtomicBoolean();
+        return () -> {
+            if (Thread.currentThread() != thread) {
+                throw new IllegalStateException(String.format(
+                    "The binding must be closed by thread %s that created it.", thread
+                ));
+            }
+            if (closed.compareAndSet(false, true)) {
+                txComponent.remove(thread);
+            }
+        };
+    }
+
 }
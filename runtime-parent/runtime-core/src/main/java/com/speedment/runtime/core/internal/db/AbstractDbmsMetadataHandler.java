@@ -16,6 +16,7 @@
  */
 package com.speedment.runtime.core.internal.db;
 
+import com.speedment.common.injector.annotation.Config;
 import com.speedment.common.injector.annotation.ExecuteBefore;
 import com.speedment.common.injector.annotation.Inject;
 import com.speedment.common.logger.Logger;
@@ -43,6 +44,10 @@ import java.sql.*;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
@@ -75,6 +80,15 @@ public abstract class AbstractDbmsMetadataHandler implements DbmsMetadataHandler
     @Inject private ProjectComponent projectComponent;
     @Inject private JavaTypeMap javaTypeMap;
 
+    /**
+     * The maximum number of tables that have their metadata (columns, 
+     * indexes, foreign keys and primary keys) read concurrently, each one 
+     * using a separate pooled connection. If zero, the tasks are scheduled on 
+     * the common {@code ForkJoinPool} as before.
+     */
+    @Config(name = "metadata.parallelism", value = "0")
+    private int metadataParallelism;
+
     private Map<Class<? extends Document>, AtomicLong> timers;
 
     protected AbstractDbmsMetadataHandler() {
@@ -130,9 +144,15 @@ public abstract class AbstractDbmsMetadataHandler implements DbmsMetadataHandler
                 "Could not find Dbms document in copy."
             ));
 
+        final Optional<ExecutorService> dedicatedExecutor = newMetadataExecutor();
+        final Executor executor = dedicatedExecutor
+            .<Executor>map(e -> e)
+            .orElseGet(ForkJoinPool::commonPool);
+
         return readSchemaMetadata(
-            projectCopy, dbmsCopy, filterCriteria, progress
+            projectCopy, dbmsCopy, filterCriteria, progress, executor
         ).whenCompleteAsync((project, ex) -> {
+            dedicatedExecutor.ifPresent(ExecutorService::shutdown);
             progress.setProgress(ProgressMeasure.DONE);
             if (ex != null) {
                 progress.setCurrentAction("Error!");
@@ -171,9 +191,10 @@ public abstract class AbstractDbmsMetadataHandler implements DbmsMetadataHandler
         final Project project,
         final Dbms dbms,
         final Predicate<String> filterCriteria,
-        final ProgressMeasure progress
+        final ProgressMeasure progress,
+        final Executor executor
     ) {
-        requireNonNulls(project, dbms, filterCriteria, progress);
+        requireNonNulls(project, dbms, filterCriteria, progress, executor);
 
         final DbmsType dbmsType = dbmsTypeOf(dbmsHandlerComponent, dbms);
         final String action = actionName(dbms);
@@ -201,7 +222,7 @@ public abstract class AbstractDbmsMetadataHandler implements DbmsMetadataHandler
                 }
 
                 return sqlTypeMapping;
-            });
+            }, executor);
 
         // Task that downloads the schemas from the database
         final CompletableFuture<Void> schemasTask = CompletableFuture.runAsync(() -> {
@@ -231,7 +252,7 @@ public abstract class AbstractDbmsMetadataHandler implements DbmsMetadataHandler
                     "Error reading metadata from result set.", sqle
                 );
             }
-        });
+        }, executor);
 
         // Task that downloads the catalogs from the database
         final CompletableFuture<Void> catalogsTask = CompletableFuture.runAsync(() -> {
@@ -260,7 +281,7 @@ public abstract class AbstractDbmsMetadataHandler implements DbmsMetadataHandler
                     "Error reading metadata from result set.", sqle
                 );
             }
-        });
+        }, executor);
 
         // Create a new task that will execute once the schemas and the catalogs 
         // have been loaded independently of each other.
@@ -271,7 +292,7 @@ public abstract class AbstractDbmsMetadataHandler implements DbmsMetadataHandler
             @SuppressWarnings({"unchecked", "rawtypes"})
             final CompletableFuture<Schema>[] tablesTask
                 = dbms.schemas()
-                .map(schema -> tables(sqlTypeMappingTask, dbms, schema, progress))
+                .map(schema -> tables(sqlTypeMappingTask, dbms, schema, progress, executor))
                 .toArray(s -> (CompletableFuture<Schema>[]) new CompletableFuture[s]);
 
             return CompletableFuture.allOf(tablesTask)
@@ -289,8 +310,8 @@ public abstract class AbstractDbmsMetadataHandler implements DbmsMetadataHandler
                             "An exception occured while the tables were loading.", ex
                         );
                     }
-                });
-        });
+                }, executor);
+        }, executor);
     }
 
     private String readSchemaName(ResultSet rs, DbmsType dbmsType) throws SQLException {
@@ -309,7 +330,31 @@ public abstract class AbstractDbmsMetadataHandler implements DbmsMetadataHandler
     }
 
     protected CompletableFuture<Schema> tables(CompletableFuture<Map<String, Class<?>>> sqlTypeMapping, Dbms dbms, Schema schema, ProgressMeasure progressListener) {
-        requireNonNulls(sqlTypeMapping, dbms, schema, progressListener);
+        return tables(sqlTypeMapping, dbms, schema, progressListener, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Reads all the tables in the specified schema and then schedules one
+     * task per table on the given executor that reads the columns, indexes, 
+     * foreign keys and primary keys of that table. Every task leases its own 
+     * connection from the connection pool, so the number of concurrent 
+     * metadata connections is bounded by the parallelism of the executor.
+     *
+     * @param sqlTypeMapping    task that produces the sql type mapping
+     * @param dbms              the dbms
+     * @param schema            the schema to populate
+     * @param progressListener  the progress listener
+     * @param executor          the executor to schedule table tasks on
+     * @return                  future that completes when the schema is read
+     */
+    protected CompletableFuture<Schema> tables(
+            final CompletableFuture<Map<String, Class<?>>> sqlTypeMapping,
+            final Dbms dbms,
+            final Schema schema,
+            final ProgressMeasure progressListener,
+            final Executor executor) {
+        
+        requireNonNulls(sqlTypeMapping, dbms, schema, progressListener, executor);
         
         // If the wrapped task has already been cancelled, there is no point in going on.
         if (sqlTypeMapping.isCancelled()) {
@@ -373,8 +418,8 @@ public abstract class AbstractDbmsMetadataHandler implements DbmsMetadataHandler
                 } catch (final SQLException ex) {
                     throw new SpeedmentException(ex);
                 }
-            })).toArray(CompletableFuture[]::new)
-        ).thenApplyAsync(v -> schema);
+            }, executor)).toArray(CompletableFuture[]::new)
+        ).thenApplyAsync(v -> schema, executor);
     }
 
     protected void columns(
@@ -858,6 +903,19 @@ public abstract class AbstractDbmsMetadataHandler implements DbmsMetadataHandler
         }
     }
     
+    private Optional<ExecutorService> newMetadataExecutor() {
+        if (metadataParallelism <= 0) {
+            return Optional.empty();
+        }
+        
+        final AtomicInteger threadNo = new AtomicInteger();
+        return Optional.of(Executors.newFixedThreadPool(metadataParallelism, r -> {
+            final Thread t = new Thread(r, "speedment-metadata-" + threadNo.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }));
+    }
+    
     private Connection getConnection(Dbms dbms) {
         return connectionPoolComponent.getConnection(dbms);
     }
@@ -80,10 +80,7 @@ public abstract class AbstractDbmsOperationHandler implements DbmsOperationHandl
             configureSelect(ps);
             connectionInfo.ifNotInTransaction(c -> c.setAutoCommit(false));
             try {
-                int i = 1;
-                for (final Object o : values) {
-                    ps.setObject(i++, o);
-                }
+                StatementParameters.bind(ps, values);
                 try (final ResultSet rs = ps.executeQuery()) {
                     configureSelect(rs);
 
@@ -143,6 +140,19 @@ public abstract class AbstractDbmsOperationHandler implements DbmsOperationHandl
         execute(dbms, singletonList(sqlDeleteStatement));
     }
 
+    /**
+     * Returns a new {@link ConnectionInfo} for the specified dbms. If the
+     * current thread is in a transaction, the connection of that transaction
+     * is used.
+     *
+     * @param dbms the dbms to connect to
+     * @return a new ConnectionInfo that must be closed
+     * @since 3.1.5
+     */
+    protected ConnectionInfo newConnectionInfo(Dbms dbms) {
+        return new ConnectionInfo(dbms, connectionPoolComponent, transactionComponent);
+    }
+
     protected void logOperation(Logger logger, final String sql, final List<?> values) {
         logger.debug("%s, values:%s", sql, values);
     }
@@ -267,10 +277,7 @@ public abstract class AbstractDbmsOperationHandler implements DbmsOperationHandl
 
     protected void handleSqlStatement(Dbms dbms, Connection conn, SqlInsertStatement sqlStatement) throws SQLException {
         try (final PreparedStatement ps = conn.prepareStatement(sqlStatement.getSql(), Statement.RETURN_GENERATED_KEYS)) {
-            int i = 1;
-            for (Object o : sqlStatement.getValues()) {
-                ps.setObject(i++, o);
-            }
+            StatementParameters.bind(ps, sqlStatement.getValues());
             ps.executeUpdate();
 
             handleGeneratedKeys(ps, sqlStatement);
@@ -296,10 +303,7 @@ public abstract class AbstractDbmsOperationHandler implements DbmsOperationHandl
 
     private void handleSqlStatementHelper(Connection conn, SqlStatement sqlStatement) throws SQLException {
         try (final PreparedStatement ps = conn.prepareStatement(sqlStatement.getSql(), Statement.NO_GENERATED_KEYS)) {
-            int i = 1;
-            for (Object o : sqlStatement.getValues()) {
-                ps.setObject(i++, o);
-            }
+            StatementParameters.bind(ps, sqlStatement.getValues());
             ps.executeUpdate();
         }
     }
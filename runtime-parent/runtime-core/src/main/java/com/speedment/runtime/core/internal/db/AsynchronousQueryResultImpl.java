@@ -92,10 +92,7 @@ public final class AsynchronousQueryResultImpl<T> implements AsynchronousQueryRe
 
             //System.out.format("*** PreparedStatement: fetchDirection %d, fetchSize %d%n", ps.getFetchDirection(), ps.getFetchSize());
 
-            int i = 1;
-            for (final Object o : getValues()) {
-                ps.setObject(i++, o);
-            }
+            StatementParameters.bind(ps, getValues());
             rs = ps.executeQuery();
             resultSetConfigurator.accept(rs);
 
@@ -40,7 +40,7 @@ public final class ConnectionInfo implements AutoCloseable {
         final TransactionComponent transactionComponent
     ) {
         if (transactionComponent != null) {
-            final Optional<Object> txObject = transactionComponent.get(Thread.currentThread());
+            final Optional<Object> txObject = transactionComponent.current();
             if (txObject.isPresent()) {
                 final Object o = txObject.get();
                 if (o instanceof Connection) {
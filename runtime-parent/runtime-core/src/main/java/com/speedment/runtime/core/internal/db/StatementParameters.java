@@ -0,0 +1,57 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.db;
+
+import com.speedment.runtime.core.db.SqlArrayParameter;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+
+/**
+ * Binds values to the parameters of a {@code PreparedStatement}.
+ *
+ * @since   3.1.5
+ */
+final class StatementParameters {
+
+    /**
+     * Binds the specified values to the parameters of the statement, starting
+     * with the first parameter. {@link SqlArrayParameter SQL arrays} are
+     * created using the connection of the statement.
+     *
+     * @param ps      the statement
+     * @param values  the values to bind
+     * @throws SQLException  if a value could not be bound
+     */
+    static void bind(PreparedStatement ps, Collection<?> values) throws SQLException {
+        int i = 1;
+        for (final Object o : values) {
+            if (o instanceof SqlArrayParameter) {
+                final SqlArrayParameter array = (SqlArrayParameter) o;
+                ps.setArray(i++, ps.getConnection().createArrayOf(
+                    array.getTypeName(),
+                    array.getElements().toArray()
+                ));
+            } else {
+                ps.setObject(i++, o);
+            }
+        }
+    }
+
+    private StatementParameters() {}
+}
@@ -0,0 +1,83 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.manager;
+
+import com.speedment.runtime.core.manager.BulkLoadResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Default implementation of {@link BulkLoadResult}.
+ *
+ * @since   3.1.5
+ */
+public final class BulkLoadResultImpl implements BulkLoadResult {
+
+    private final long loadedRows;
+    private final List<RowError> rowErrors;
+
+    public BulkLoadResultImpl(long loadedRows, List<RowError> rowErrors) {
+        this.loadedRows = loadedRows;
+        this.rowErrors  = unmodifiableList(new ArrayList<>(rowErrors));
+    }
+
+    @Override
+    public long getLoadedRows() {
+        return loadedRows;
+    }
+
+    @Override
+    public List<RowError> getRowErrors() {
+        return rowErrors;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkLoadResult{loadedRows=" + loadedRows
+            + ", rowErrors=" + rowErrors + "}";
+    }
+
+    public static final class RowErrorImpl implements RowError {
+
+        private final long row;
+        private final String message;
+
+        public RowErrorImpl(long row, String message) {
+            this.row     = row;
+            this.message = requireNonNull(message);
+        }
+
+        @Override
+        public long getRow() {
+            return row;
+        }
+
+        @Override
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return row == 0 ? message : "row " + row + ": " + message;
+        }
+    }
+}
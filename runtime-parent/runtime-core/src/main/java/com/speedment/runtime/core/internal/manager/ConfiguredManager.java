@@ -18,13 +18,17 @@ package com.speedment.runtime.core.internal.manager;
 
 import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.core.component.StreamSupplierComponent;
+import com.speedment.runtime.core.manager.BulkLoader;
 import com.speedment.runtime.core.manager.Manager;
 import com.speedment.runtime.core.manager.Persister;
+import com.speedment.runtime.core.manager.PrimitiveColumns;
 import com.speedment.runtime.core.manager.Remover;
 import com.speedment.runtime.core.manager.Updater;
 import com.speedment.runtime.core.stream.parallel.ParallelStrategy;
 import com.speedment.runtime.field.Field;
 
+import java.util.List;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
@@ -81,11 +85,41 @@ public final class ConfiguredManager<ENTITY> implements Manager<ENTITY> {
         );
     }
 
+    @Override
+    public Stream<ENTITY> streamWithReusedEntity() {
+        // Streams with a reused entity are never split, so the parallel
+        // strategy does not apply.
+        return manager.streamWithReusedEntity();
+    }
+
+    @Override
+    public Stream<ENTITY> bulkExport() {
+        return manager.bulkExport();
+    }
+
+    @Override
+    public PrimitiveColumns<ENTITY> columns(List<? extends Field<ENTITY>> fields) {
+        return manager.columns(fields);
+    }
+
+    @Override
+    public PrimitiveColumns<ENTITY> columns(
+            Predicate<? super ENTITY> predicate,
+            List<? extends Field<ENTITY>> fields) {
+
+        return manager.columns(predicate, fields);
+    }
+
     @Override
     public Persister<ENTITY> persister() {
         return manager.persister();
     }
 
+    @Override
+    public BulkLoader<ENTITY> bulkLoader() {
+        return manager.bulkLoader();
+    }
+
     @Override
     public Updater<ENTITY> updater() {
         return manager.updater();
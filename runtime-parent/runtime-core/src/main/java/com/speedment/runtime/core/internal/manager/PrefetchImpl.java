@@ -0,0 +1,159 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.manager;
+
+import com.speedment.runtime.config.identifier.ColumnIdentifier;
+import com.speedment.runtime.config.identifier.TableIdentifier;
+import com.speedment.runtime.core.manager.Manager;
+import com.speedment.runtime.core.manager.Prefetch;
+import com.speedment.runtime.field.Field;
+import com.speedment.runtime.field.method.BatchedFinder;
+import com.speedment.runtime.field.method.FindFrom;
+import com.speedment.runtime.field.method.Getter;
+import com.speedment.runtime.field.trait.HasFinder;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static com.speedment.common.invariant.IntRangeUtil.requirePositive;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Default implementation of the {@link Prefetch} interface. The stream is
+ * joined with the {@link BatchedFinder} of each foreign key field and the
+ * referenced entities are kept by the value of the foreign key.
+ *
+ * @param <ENTITY>  the entity type
+ *
+ * @since   3.1.5
+ */
+public final class PrefetchImpl<ENTITY> implements Prefetch<ENTITY> {
+
+    /**
+     * The number of kept entities at which the entities of a field are
+     * discarded. Discarded entities are fetched again if needed.
+     */
+    private static final int MAX_KEPT = 1 << 16;
+
+    private final Supplier<Stream<ENTITY>> streamSupplier;
+    private final Map<ColumnIdentifier<ENTITY>, Prefetched<ENTITY, ?>> prefetched;
+    private int chunkSize;
+
+    public PrefetchImpl(Supplier<Stream<ENTITY>> streamSupplier) {
+        this.streamSupplier = requireNonNull(streamSupplier);
+        this.prefetched     = new LinkedHashMap<>();
+        this.chunkSize      = 1_000;
+    }
+
+    @Override
+    public <FK_ENTITY> Prefetch<ENTITY> prefetch(
+            HasFinder<ENTITY, FK_ENTITY> fkField,
+            Manager<FK_ENTITY> foreignManager) {
+
+        prefetched.put(fkField.identifier(), new Prefetched<>(
+            fkField, foreignManager.finderBy(fkField)
+        ));
+        return this;
+    }
+
+    @Override
+    public Prefetch<ENTITY> withChunkSize(int chunkSize) {
+        this.chunkSize = requirePositive(chunkSize);
+        return this;
+    }
+
+    @Override
+    public Stream<ENTITY> stream() {
+        Stream<ENTITY> stream = streamSupplier.get();
+        for (final Prefetched<ENTITY, ?> p : prefetched.values()) {
+            stream = p.attach(stream, chunkSize);
+        }
+        return stream;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <FK_ENTITY> FindFrom<ENTITY, FK_ENTITY> finder(HasFinder<ENTITY, FK_ENTITY> fkField) {
+        final Prefetched<ENTITY, ?> p = prefetched.get(fkField.identifier());
+        if (p == null) {
+            throw new IllegalArgumentException(
+                "The field " + fkField.identifier().getColumnId() +
+                " is not prefetched."
+            );
+        }
+        return (FindFrom<ENTITY, FK_ENTITY>) p;
+    }
+
+    /**
+     * The referenced entities of a single foreign key field.
+     */
+    private static final class Prefetched<ENTITY, FK_ENTITY>
+    implements FindFrom<ENTITY, FK_ENTITY> {
+
+        private final Getter<ENTITY> key;
+        private final FindFrom<ENTITY, FK_ENTITY> finder;
+        private final Map<Object, FK_ENTITY> kept;
+
+        private Prefetched(HasFinder<ENTITY, FK_ENTITY> fkField, FindFrom<ENTITY, FK_ENTITY> finder) {
+            this.key    = fkField.getter();
+            this.finder = requireNonNull(finder);
+            this.kept   = new HashMap<>();
+        }
+
+        private Stream<ENTITY> attach(Stream<ENTITY> stream, int chunkSize) {
+            return finder.batched(chunkSize).join(stream, (entity, fk) -> {
+                if (fk != null) {
+                    if (kept.size() >= MAX_KEPT) {
+                        kept.clear();
+                    }
+                    kept.put(key.apply(entity), fk);
+                }
+                return entity;
+            });
+        }
+
+        @Override
+        public FK_ENTITY apply(ENTITY entity) {
+            final Object value = key.apply(entity);
+            final FK_ENTITY fk = value == null ? null : kept.get(value);
+            return fk == null ? finder.apply(entity) : fk;
+        }
+
+        @Override
+        public Field<ENTITY> getSourceField() {
+            return finder.getSourceField();
+        }
+
+        @Override
+        public Field<FK_ENTITY> getTargetField() {
+            return finder.getTargetField();
+        }
+
+        @Override
+        public TableIdentifier<FK_ENTITY> getTableIdentifier() {
+            return finder.getTableIdentifier();
+        }
+
+        @Override
+        public BatchedFinder<ENTITY, FK_ENTITY> batched(int chunkSize) {
+            return finder.batched(chunkSize);
+        }
+    }
+}
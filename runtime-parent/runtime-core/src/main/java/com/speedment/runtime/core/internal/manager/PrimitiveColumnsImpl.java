@@ -0,0 +1,255 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.manager;
+
+import com.speedment.runtime.core.manager.PrimitiveColumns;
+import com.speedment.runtime.field.DoubleField;
+import com.speedment.runtime.field.Field;
+import com.speedment.runtime.field.IntField;
+import com.speedment.runtime.field.LongField;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Default implementation of the {@link PrimitiveColumns}-interface.
+ *
+ * @param <ENTITY>  the entity type
+ *
+ * @since   3.1.5
+ */
+public final class PrimitiveColumnsImpl<ENTITY> implements PrimitiveColumns<ENTITY> {
+
+    private final List<Field<ENTITY>> fields;
+    private final Object[] values;
+    private final BitSet[] nulls;
+    private final int size;
+
+    private PrimitiveColumnsImpl(List<Field<ENTITY>> fields, Object[] values, BitSet[] nulls, int size) {
+        this.fields = Collections.unmodifiableList(fields);
+        this.values = values;
+        this.nulls  = nulls;
+        this.size   = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public List<Field<ENTITY>> fields() {
+        return fields;
+    }
+
+    @Override
+    public long[] getLongs(LongField<ENTITY, ?> field) {
+        return (long[]) values[indexOf(field)];
+    }
+
+    @Override
+    public int[] getInts(IntField<ENTITY, ?> field) {
+        return (int[]) values[indexOf(field)];
+    }
+
+    @Override
+    public double[] getDoubles(DoubleField<ENTITY, ?> field) {
+        return (double[]) values[indexOf(field)];
+    }
+
+    @Override
+    public BitSet getNulls(Field<ENTITY> field) {
+        return (BitSet) nulls[indexOf(field)].clone();
+    }
+
+    @Override
+    public boolean isNull(Field<ENTITY> field, int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+        }
+        return nulls[indexOf(field)].get(row);
+    }
+
+    @Override
+    public String toString() {
+        return "PrimitiveColumns{size=" + size + ", fields=" + fields.size() + "}";
+    }
+
+    private int indexOf(Field<ENTITY> field) {
+        requireNonNull(field);
+        for (int i = 0; i < fields.size(); i++) {
+            if (fields.get(i).identifier().equals(field.identifier())) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException(
+            "Column " + field.identifier().getColumnId() + " was not requested."
+        );
+    }
+
+    /**
+     * Fills the arrays of a {@link PrimitiveColumns} one row at a time. This
+     * class is not thread safe.
+     *
+     * @param <ENTITY>  the entity type
+     */
+    public static final class Builder<ENTITY> {
+
+        private static final int LONG = 0, INT = 1, DOUBLE = 2;
+        private static final int INITIAL_CAPACITY = 256;
+
+        private final List<Field<ENTITY>> fields;
+        private final int[] kinds;
+        private final Object[] values;
+        private final BitSet[] nulls;
+        private int size, capacity;
+
+        public Builder(List<? extends Field<ENTITY>> fields) {
+            this.fields   = new ArrayList<>(fields);
+            this.kinds    = new int[fields.size()];
+            this.values   = new Object[fields.size()];
+            this.nulls    = new BitSet[fields.size()];
+            this.capacity = INITIAL_CAPACITY;
+
+            if (this.fields.isEmpty()) {
+                throw new IllegalArgumentException("At least one field must be specified.");
+            }
+
+            for (int i = 0; i < kinds.length; i++) {
+                kinds[i] = kindOf(this.fields.get(i));
+                nulls[i] = new BitSet();
+                switch (kinds[i]) {
+                    case LONG : values[i] = new long[capacity]; break;
+                    case INT  : values[i] = new int[capacity]; break;
+                    default   : values[i] = new double[capacity]; break;
+                }
+            }
+        }
+
+        /**
+         * Returns {@code true} if the specified field can be stored in a
+         * {@link PrimitiveColumns}.
+         *
+         * @param field  the field
+         * @return       {@code true} if supported
+         */
+        public static boolean isSupported(Field<?> field) {
+            return field instanceof LongField
+                || field instanceof IntField
+                || field instanceof DoubleField;
+        }
+
+        /**
+         * Reads one row from the specified {@code ResultSet}, where the
+         * columns are in the same order as the fields, starting at index 1.
+         *
+         * @param rs  the result set, positioned on a row
+         * @throws SQLException  if a value could not be read
+         */
+        public void readRow(ResultSet rs) throws SQLException {
+            ensureCapacity();
+            for (int i = 0; i < kinds.length; i++) {
+                switch (kinds[i]) {
+                    case LONG   : ((long[]) values[i])[size]   = rs.getLong(i + 1); break;
+                    case INT    : ((int[]) values[i])[size]    = rs.getInt(i + 1); break;
+                    default     : ((double[]) values[i])[size] = rs.getDouble(i + 1); break;
+                }
+                if (rs.wasNull()) {
+                    nulls[i].set(size);
+                }
+            }
+            size++;
+        }
+
+        /**
+         * Adds one row with the values of the fields of the specified entity.
+         *
+         * @param entity  the entity
+         */
+        public void addEntity(ENTITY entity) {
+            ensureCapacity();
+            for (int i = 0; i < kinds.length; i++) {
+                final Number value = (Number) fields.get(i).getter().apply(entity);
+                if (value == null) {
+                    nulls[i].set(size);
+                } else {
+                    switch (kinds[i]) {
+                        case LONG   : ((long[]) values[i])[size]   = value.longValue(); break;
+                        case INT    : ((int[]) values[i])[size]    = value.intValue(); break;
+                        default     : ((double[]) values[i])[size] = value.doubleValue(); break;
+                    }
+                }
+            }
+            size++;
+        }
+
+        /**
+         * Returns the columns built so far. The builder must not be used
+         * afterwards.
+         *
+         * @return  the columns
+         */
+        public PrimitiveColumns<ENTITY> build() {
+            for (int i = 0; i < kinds.length; i++) {
+                values[i] = trim(values[i], kinds[i], size);
+            }
+            return new PrimitiveColumnsImpl<>(fields, values, nulls, size);
+        }
+
+        private void ensureCapacity() {
+            if (size == capacity) {
+                if (capacity == Integer.MAX_VALUE - 8) {
+                    throw new IllegalStateException("Too many rows.");
+                }
+                capacity = (int) Math.min(Integer.MAX_VALUE - 8, capacity * 2L);
+                for (int i = 0; i < kinds.length; i++) {
+                    values[i] = trim(values[i], kinds[i], capacity);
+                }
+            }
+        }
+
+        private static Object trim(Object array, int kind, int length) {
+            switch (kind) {
+                case LONG : return Arrays.copyOf((long[]) array, length);
+                case INT  : return Arrays.copyOf((int[]) array, length);
+                default   : return Arrays.copyOf((double[]) array, length);
+            }
+        }
+
+        private static int kindOf(Field<?> field) {
+            if (field instanceof LongField) {
+                return LONG;
+            } else if (field instanceof IntField) {
+                return INT;
+            } else if (field instanceof DoubleField) {
+                return DOUBLE;
+            } else {
+                throw new IllegalArgumentException(
+                    "Column " + field.identifier().getColumnId()
+                    + " is not a long, int or double column."
+                );
+            }
+        }
+    }
+}
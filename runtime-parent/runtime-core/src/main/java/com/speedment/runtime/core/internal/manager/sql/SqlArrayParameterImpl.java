@@ -0,0 +1,86 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.manager.sql;
+
+import com.speedment.runtime.core.db.SqlArrayParameter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Default implementation of the {@link SqlArrayParameter} interface.
+ *
+ * @since   3.1.5
+ */
+public final class SqlArrayParameterImpl implements SqlArrayParameter {
+
+    private final String typeName;
+    private final List<Object> elements;
+
+    public SqlArrayParameterImpl(String typeName, Collection<?> elements) {
+        this.typeName = requireNonNull(typeName);
+        this.elements = unmodifiableList(new ArrayList<>(elements));
+    }
+
+    @Override
+    public String getTypeName() {
+        return typeName;
+    }
+
+    @Override
+    public List<Object> getElements() {
+        return elements;
+    }
+
+    @Override
+    public SqlArrayParameter map(Function<Object, Object> mapper) {
+        requireNonNull(mapper);
+        return new SqlArrayParameterImpl(
+            typeName,
+            elements.stream().map(mapper).collect(toList())
+        );
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof SqlArrayParameter)) {
+            return false;
+        }
+        final SqlArrayParameter that = (SqlArrayParameter) obj;
+        return typeName.equals(that.getTypeName())
+            && elements.equals(that.getElements());
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * typeName.hashCode() + elements.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return typeName + elements;
+    }
+}
@@ -92,7 +92,7 @@ public final class SqlStreamTerminator<ENTITY> implements StreamTerminator {
     @Override
     public <P extends Pipeline> P optimize(final P initialPipeline) {
         requireNonNull(initialPipeline);
-        final SqlStreamOptimizer<ENTITY> optimizer = sqlStreamOptimizerComponent.get(initialPipeline, info.getDbmsType());
+        final SqlStreamOptimizer<ENTITY> optimizer = sqlStreamOptimizerComponent.get(initialPipeline, info);
         return optimizer.optimize(initialPipeline, info, asynchronousQueryResult);
     }
 
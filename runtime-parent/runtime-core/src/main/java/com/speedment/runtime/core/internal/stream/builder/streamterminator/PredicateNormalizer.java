@@ -0,0 +1,437 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.stream.builder.streamterminator;
+
+import com.speedment.runtime.field.Field;
+import com.speedment.runtime.field.internal.predicate.AlwaysFalsePredicate;
+import com.speedment.runtime.field.predicate.CombinedPredicate;
+import com.speedment.runtime.field.predicate.FieldPredicate;
+import com.speedment.runtime.field.predicate.Inclusion;
+import com.speedment.runtime.field.predicate.PredicateType;
+import com.speedment.runtime.field.trait.HasComparableOperators;
+
+import java.time.temporal.Temporal;
+import java.util.*;
+import java.util.function.Predicate;
+
+import static com.speedment.runtime.field.util.PredicateOperandUtil.*;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Simplifies trees of {@link CombinedPredicate CombinedPredicates} before they
+ * are rendered into SQL. The following rewrites are made:
+ * <ul>
+ *     <li>Nested combinations of the same type are flattened, so that
+ *         {@code a.and(b.and(c))} becomes {@code AND(a, b, c)};
+ *     <li>{@code EQUAL} and {@code IN} predicates on the same field in an
+ *         {@code OR} are merged into a single {@code IN} predicate;
+ *     <li>{@code NOT_EQUAL} and {@code NOT_IN} predicates on the same field
+ *         in an {@code AND} are merged into a single {@code NOT_IN}
+ *         predicate;
+ *     <li>Ranges on the same field in an {@code AND} that can not both be
+ *         satisfied are folded into an {@code ALWAYS_FALSE} predicate;
+ *     <li>{@code ALWAYS_TRUE} and {@code ALWAYS_FALSE} operands are removed
+ *         or short-circuit the combination they are part of.
+ * </ul>
+ * Predicates that are not {@link FieldPredicate FieldPredicates} are left as
+ * they are. The values of the predicates are never reordered, so a predicate
+ * that can not be simplified renders the same SQL as before.
+ * <p>
+ * Ranges are only folded for numbers and dates, since the ordering of
+ * strings depends on the collation of the database.
+ *
+ * @since   3.1.5
+ */
+final class PredicateNormalizer {
+
+    private static final Set<PredicateType> RANGE_TYPES = EnumSet.of(
+        PredicateType.EQUAL,
+        PredicateType.GREATER_THAN,
+        PredicateType.GREATER_OR_EQUAL,
+        PredicateType.LESS_THAN,
+        PredicateType.LESS_OR_EQUAL,
+        PredicateType.BETWEEN
+    );
+
+    /**
+     * Returns a simplified predicate that is equivalent to the specified one.
+     * If nothing could be simplified, the same instance is returned.
+     *
+     * @param <ENTITY>   the entity type
+     * @param predicate  the predicate to simplify
+     * @return           the simplified predicate
+     */
+    static <ENTITY> Predicate<ENTITY> normalize(Predicate<ENTITY> predicate) {
+        requireNonNull(predicate);
+        if (!(predicate instanceof CombinedPredicate)) {
+            return predicate;
+        }
+
+        final CombinedPredicate<ENTITY> combined = (CombinedPredicate<ENTITY>) predicate;
+        final CombinedPredicate.Type type = combined.getType();
+        final boolean and = type == CombinedPredicate.Type.AND;
+
+        // Normalize and flatten the children
+        final List<Predicate<ENTITY>> children = new ArrayList<>(combined.size());
+        combined.stream().forEachOrdered(p -> {
+            @SuppressWarnings("unchecked")
+            final Predicate<ENTITY> child = normalize((Predicate<ENTITY>) p);
+            if (child instanceof CombinedPredicate
+            && ((CombinedPredicate<ENTITY>) child).getType() == type) {
+                ((CombinedPredicate<ENTITY>) child).stream().forEachOrdered(c -> {
+                    @SuppressWarnings("unchecked")
+                    final Predicate<ENTITY> casted = (Predicate<ENTITY>) c;
+                    children.add(casted);
+                });
+            } else {
+                children.add(child);
+            }
+        });
+
+        // Remove neutral constants and short-circuit on absorbing ones
+        final PredicateType neutral  = and ? PredicateType.ALWAYS_TRUE : PredicateType.ALWAYS_FALSE;
+        final PredicateType absorbing = and ? PredicateType.ALWAYS_FALSE : PredicateType.ALWAYS_TRUE;
+        final List<Predicate<ENTITY>> remaining = new ArrayList<>(children.size());
+        for (final Predicate<ENTITY> child : children) {
+            if (isOfType(child, absorbing)) {
+                return child;
+            } else if (!isOfType(child, neutral)) {
+                remaining.add(child);
+            }
+        }
+
+        if (remaining.isEmpty()) {
+            return children.get(0);
+        }
+
+        final List<Predicate<ENTITY>> merged = and
+            ? mergeSets(remaining, PredicateType.NOT_EQUAL, PredicateType.NOT_IN, false)
+            : mergeSets(remaining, PredicateType.EQUAL, PredicateType.IN, true);
+
+        if (and) {
+            final Predicate<ENTITY> contradiction = findContradiction(merged);
+            if (contradiction != null) {
+                return contradiction;
+            }
+        }
+
+        if (merged.size() == 1) {
+            return merged.get(0);
+        } else if (isSameAs(merged, combined)) {
+            return combined;
+        } else {
+            final List<Predicate<? super ENTITY>> result = new ArrayList<>(merged);
+            return and ? CombinedPredicate.and(result) : CombinedPredicate.or(result);
+        }
+    }
+
+    /**
+     * Merges all predicates of the {@code single} or {@code set} type that
+     * operate on the same field into a single predicate of the {@code set}
+     * type. The merged predicate takes the place of the first predicate on
+     * that field and the values keep the order they were given in.
+     */
+    private static <ENTITY> List<Predicate<ENTITY>> mergeSets(
+            final List<Predicate<ENTITY>> predicates,
+            final PredicateType single,
+            final PredicateType set,
+            final boolean in) {
+
+        final Map<Field<ENTITY>, Set<Object>> values = new LinkedHashMap<>();
+        final Map<Field<ENTITY>, Integer> counts = new HashMap<>();
+        for (final Predicate<ENTITY> predicate : predicates) {
+            final Set<?> operands = mergeableOperands(predicate, single, set);
+            if (operands != null) {
+                final Field<ENTITY> field = ((FieldPredicate<ENTITY>) predicate).getField();
+                values.computeIfAbsent(field, f -> new LinkedHashSet<>()).addAll(operands);
+                counts.merge(field, 1, Integer::sum);
+            }
+        }
+
+        if (counts.values().stream().allMatch(c -> c < 2)) {
+            return predicates;
+        }
+
+        final List<Predicate<ENTITY>> result = new ArrayList<>(predicates.size());
+        final Set<Field<ENTITY>> added = new HashSet<>();
+        for (final Predicate<ENTITY> predicate : predicates) {
+            if (mergeableOperands(predicate, single, set) == null) {
+                result.add(predicate);
+            } else {
+                final Field<ENTITY> field = ((FieldPredicate<ENTITY>) predicate).getField();
+                if (counts.get(field) < 2) {
+                    result.add(predicate);
+                } else if (added.add(field)) {
+                    @SuppressWarnings("unchecked")
+                    final HasComparableOperators<ENTITY, ?> comparable =
+                        (HasComparableOperators<ENTITY, ?>) field;
+                    result.add(setPredicate(comparable, values.get(field), in));
+                }
+            }
+        }
+
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <ENTITY, V extends Comparable<? super V>> Predicate<ENTITY> setPredicate(
+            final HasComparableOperators<ENTITY, V> field,
+            final Set<Object> operands,
+            final boolean in) {
+
+        final Set<V> values = (Set<V>) (Set<?>) operands;
+        return in ? field.in(values) : field.notIn(values);
+    }
+
+    /**
+     * Returns the operands of the specified predicate as a set if it can be
+     * merged with other predicates on the same field, else {@code null}.
+     */
+    private static Set<?> mergeableOperands(
+            final Predicate<?> predicate,
+            final PredicateType single,
+            final PredicateType set) {
+
+        if (!(predicate instanceof FieldPredicate)) {
+            return null;
+        }
+
+        final FieldPredicate<?> fieldPredicate = (FieldPredicate<?>) predicate;
+        if (!(fieldPredicate.getField() instanceof HasComparableOperators)) {
+            return null;
+        }
+
+        final Set<?> operands;
+        if (fieldPredicate.getPredicateType() == single) {
+            operands = Collections.singleton(getFirstOperandAsRaw(fieldPredicate));
+        } else if (fieldPredicate.getPredicateType() == set) {
+            operands = getFirstOperandAsRawSet(fieldPredicate);
+        } else {
+            return null;
+        }
+
+        return operands.stream().anyMatch(Objects::isNull) ? null : operands;
+    }
+
+    /**
+     * Returns an {@code ALWAYS_FALSE} predicate if the ranges of any field in
+     * the specified conjunction can not be satisfied at the same time, else
+     * {@code null}.
+     */
+    private static <ENTITY> Predicate<ENTITY> findContradiction(
+            final List<Predicate<ENTITY>> predicates) {
+
+        final Map<Field<ENTITY>, Range> ranges = new LinkedHashMap<>();
+        for (final Predicate<ENTITY> predicate : predicates) {
+            if (!(predicate instanceof FieldPredicate)) {
+                continue;
+            }
+
+            final FieldPredicate<ENTITY> fieldPredicate = (FieldPredicate<ENTITY>) predicate;
+            if (!RANGE_TYPES.contains(fieldPredicate.getPredicateType())) {
+                continue;
+            }
+
+            final Range range = ranges.computeIfAbsent(
+                fieldPredicate.getField(), f -> new Range()
+            );
+
+            if (!range.add(fieldPredicate)) {
+                ranges.put(fieldPredicate.getField(), Range.INVALID);
+            }
+        }
+
+        for (final Map.Entry<Field<ENTITY>, Range> entry : ranges.entrySet()) {
+            if (entry.getValue().isEmpty()) {
+                return new AlwaysFalsePredicate<>(entry.getKey());
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean isOfType(Predicate<?> predicate, PredicateType type) {
+        return predicate instanceof FieldPredicate
+            && ((FieldPredicate<?>) predicate).getPredicateType() == type;
+    }
+
+    private static <ENTITY> boolean isSameAs(
+            final List<Predicate<ENTITY>> predicates,
+            final CombinedPredicate<ENTITY> combined) {
+
+        if (predicates.size() != combined.size()) {
+            return false;
+        }
+
+        final Iterator<Predicate<ENTITY>> it = predicates.iterator();
+        return combined.stream().allMatch(p -> it.next() == p);
+    }
+
+    /**
+     * The bounds that a single field must satisfy in a conjunction.
+     */
+    private static final class Range {
+
+        /**
+         * A range that could not be evaluated and is never considered empty.
+         */
+        private static final Range INVALID = new Range();
+
+        private Class<?> type;
+        private Comparable<Object> lower, upper, equal;
+        private boolean lowerInclusive, upperInclusive;
+        private boolean conflictingEquals;
+
+        /**
+         * Adds the bounds of the specified predicate to this range. If the
+         * operands can not be compared with the previous ones, {@code false}
+         * is returned.
+         */
+        boolean add(FieldPredicate<?> predicate) {
+            if (this == INVALID) {
+                return false;
+            }
+
+            switch (predicate.getPredicateType()) {
+                case EQUAL : {
+                    final Comparable<Object> value = operand(getFirstOperandAsRaw(predicate));
+                    if (value == null) return false;
+                    if (equal != null && value.compareTo(equal) != 0) {
+                        conflictingEquals = true;
+                    }
+                    equal = value;
+                    return true;
+                }
+                case GREATER_THAN     : return addLower(getFirstOperandAsRaw(predicate), false);
+                case GREATER_OR_EQUAL : return addLower(getFirstOperandAsRaw(predicate), true);
+                case LESS_THAN        : return addUpper(getFirstOperandAsRaw(predicate), false);
+                case LESS_OR_EQUAL    : return addUpper(getFirstOperandAsRaw(predicate), true);
+                case BETWEEN : {
+                    final Inclusion inclusion = getInclusionOperand(predicate);
+                    return inclusion != null
+                        && addLower(getFirstOperandAsRaw(predicate), inclusion.isStartInclusive())
+                        && addUpper(getSecondOperand(predicate), inclusion.isEndInclusive());
+                }
+                default : return false;
+            }
+        }
+
+        boolean isEmpty() {
+            if (this == INVALID) {
+                return false;
+            }
+
+            if (conflictingEquals) {
+                return true;
+            }
+
+            if (lower != null && upper != null) {
+                final int c = lower.compareTo(upper);
+                if (c > 0 || (c == 0 && !(lowerInclusive && upperInclusive))) {
+                    return true;
+                }
+            }
+
+            if (equal != null) {
+                if (lower != null) {
+                    final int c = equal.compareTo(lower);
+                    if (c < 0 || (c == 0 && !lowerInclusive)) {
+                        return true;
+                    }
+                }
+
+                if (upper != null) {
+                    final int c = equal.compareTo(upper);
+                    if (c > 0 || (c == 0 && !upperInclusive)) {
+                        return true;
+                    }
+                }
+            }
+
+            return false;
+        }
+
+        private boolean addLower(Object operand, boolean inclusive) {
+            final Comparable<Object> value = operand(operand);
+            if (value == null) {
+                return false;
+            }
+
+            if (lower == null) {
+                lower = value;
+                lowerInclusive = inclusive;
+            } else {
+                final int c = value.compareTo(lower);
+                if (c > 0 || (c == 0 && !inclusive)) {
+                    lower = value;
+                    lowerInclusive = inclusive;
+                }
+            }
+
+            return true;
+        }
+
+        private boolean addUpper(Object operand, boolean inclusive) {
+            final Comparable<Object> value = operand(operand);
+            if (value == null) {
+                return false;
+            }
+
+            if (upper == null) {
+                upper = value;
+                upperInclusive = inclusive;
+            } else {
+                final int c = value.compareTo(upper);
+                if (c < 0 || (c == 0 && !inclusive)) {
+                    upper = value;
+                    upperInclusive = inclusive;
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * Returns the operand as a comparable if it has the same class as
+         * all previous operands of this range, else {@code null}.
+         */
+        @SuppressWarnings("unchecked")
+        private Comparable<Object> operand(Object operand) {
+            if (!(operand instanceof Comparable)
+            || !(operand instanceof Number
+                || operand instanceof Date
+                || operand instanceof Temporal)) {
+                return null;
+            }
+
+            if (operand instanceof Double && ((Double) operand).isNaN()
+            ||  operand instanceof Float && ((Float) operand).isNaN()) {
+                return null;
+            }
+
+            if (type == null) {
+                type = operand.getClass();
+            } else if (type != operand.getClass()) {
+                return null;
+            }
+
+            return (Comparable<Object>) operand;
+        }
+    }
+
+    private PredicateNormalizer() {}
+}
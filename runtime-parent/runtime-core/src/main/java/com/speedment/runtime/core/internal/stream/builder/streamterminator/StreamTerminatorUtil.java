@@ -20,6 +20,7 @@ import com.speedment.runtime.core.component.sql.SqlStreamOptimizerInfo;
 import com.speedment.runtime.core.db.AsynchronousQueryResult;
 import com.speedment.runtime.core.db.DbmsType;
 import com.speedment.runtime.core.db.FieldPredicateView;
+import com.speedment.runtime.core.db.SqlArrayParameter;
 import com.speedment.runtime.core.db.SqlPredicateFragment;
 import com.speedment.runtime.core.internal.stream.builder.action.reference.FilterAction;
 import com.speedment.runtime.core.internal.stream.builder.action.reference.SortedComparatorAction;
@@ -169,7 +170,7 @@ public final class StreamTerminatorUtil {
             final TypeMapper<Object, Object> tm = (TypeMapper<Object, Object>) referenceFieldTrait.typeMapper();
 
             fragments.get(i).objects()
-                .map(tm::toDatabaseType)
+                .map(o -> toDatabaseType(tm, o))
                 .forEach(values::add);
         }
 
@@ -222,7 +223,25 @@ public final class StreamTerminatorUtil {
         final StringBuilder sql = new StringBuilder();
         final List<Object> values = new ArrayList<>();
         final AtomicInteger cnt = new AtomicInteger();
-        predicates.forEach(predicate -> {
+
+        // If the conjunction of all the predicates can be simplified into a
+        // single predicate (for an example if it can never be true), only
+        // that predicate is rendered. Otherwise each predicate is simplified
+        // on its own so that the structure of the WHERE clause is kept.
+        final Predicate<ENTITY> conjunction = PredicateNormalizer.normalize(
+            CombinedPredicate.and(new ArrayList<Predicate<? super ENTITY>>(predicates))
+        );
+
+        final List<Predicate<ENTITY>> normalized;
+        if (predicates.size() > 1 && !(conjunction instanceof CombinedPredicate)) {
+            normalized = Collections.singletonList(conjunction);
+        } else {
+            normalized = predicates.stream()
+                .map(PredicateNormalizer::normalize)
+                .collect(toList());
+        }
+
+        normalized.forEach(predicate -> {
             if (cnt.getAndIncrement() != 0) {
                 sql.append(" AND ");
             }
@@ -231,6 +250,14 @@ public final class StreamTerminatorUtil {
         return new RenderResultImpl(sql.toString(), values);
     }
 
+    private static Object toDatabaseType(TypeMapper<Object, Object> tm, Object value) {
+        if (value instanceof SqlArrayParameter) {
+            return ((SqlArrayParameter) value).map(tm::toDatabaseType);
+        } else {
+            return tm.toDatabaseType(value);
+        }
+    }
+
     private static <T extends Pipeline, ENTITY> void renderSqlWhileHelper(
         final FieldPredicateView spv,
         final Function<Field<ENTITY>, String> columnNamer,
@@ -247,7 +274,7 @@ public final class StreamTerminatorUtil {
             final TypeMapper<Object, Object> tm = (TypeMapper<Object, Object>) referenceFieldTrait.typeMapper();
 
             sql.append(fragment.getSql());
-            fragment.objects().map(tm::toDatabaseType).forEachOrdered(values::add);
+            fragment.objects().map(o -> toDatabaseType(tm, o)).forEachOrdered(values::add);
         } else if (predicate instanceof CombinedPredicate) {
             final CombinedPredicate<ENTITY> combinedPredicate = (CombinedPredicate<ENTITY>) predicate;
             final StringBuilder internalSql = new StringBuilder();
@@ -26,10 +26,15 @@ import com.speedment.runtime.core.component.PersistenceComponent;
 import com.speedment.runtime.core.component.ProjectComponent;
 import com.speedment.runtime.core.component.StreamSupplierComponent;
 import com.speedment.runtime.core.stream.parallel.ParallelStrategy;
+import com.speedment.runtime.field.Field;
 
+import java.util.List;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static com.speedment.common.injector.State.INITIALIZED;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -54,6 +59,7 @@ public abstract class AbstractManager<ENTITY> implements Manager<ENTITY> {
     private @Inject StreamSupplierComponent streamSupplierComponent;
 
     private Persister<ENTITY> persister;
+    private BulkLoader<ENTITY> bulkLoader;
     private Updater<ENTITY> updater;
     private Remover<ENTITY> remover;
 
@@ -76,6 +82,7 @@ public abstract class AbstractManager<ENTITY> implements Manager<ENTITY> {
         final TableIdentifier<ENTITY> tableId = getTableIdentifier();
 
         this.persister = persistenceComponent.persister(tableId);
+        this.bulkLoader = persistenceComponent.bulkLoader(tableId);
         this.updater   = persistenceComponent.updater(tableId);
         this.remover   = persistenceComponent.remover(tableId);
     }
@@ -108,11 +115,49 @@ public abstract class AbstractManager<ENTITY> implements Manager<ENTITY> {
         );
     }
 
+    @Override
+    public Stream<ENTITY> streamWithReusedEntity() {
+        return streamSupplierComponent.streamWithReusedEntity(
+            getTableIdentifier()
+        );
+    }
+
+    @Override
+    public Stream<ENTITY> bulkExport() {
+        return streamSupplierComponent.bulkExport(getTableIdentifier());
+    }
+
+    @Override
+    public PrimitiveColumns<ENTITY> columns(List<? extends Field<ENTITY>> fields) {
+        return streamSupplierComponent.columns(
+            getTableIdentifier(),
+            fields,
+            emptyList()
+        );
+    }
+
+    @Override
+    public PrimitiveColumns<ENTITY> columns(
+            Predicate<? super ENTITY> predicate,
+            List<? extends Field<ENTITY>> fields) {
+
+        return streamSupplierComponent.columns(
+            getTableIdentifier(),
+            fields,
+            singletonList(predicate)
+        );
+    }
+
     @Override
     public Persister<ENTITY> persister() {
         return persister;
     }
 
+    @Override
+    public BulkLoader<ENTITY> bulkLoader() {
+        return bulkLoader;
+    }
+
     @Override
     public Updater<ENTITY> updater() {
         return updater;
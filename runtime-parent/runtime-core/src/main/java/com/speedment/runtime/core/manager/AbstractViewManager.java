@@ -24,11 +24,16 @@ import com.speedment.runtime.core.component.ManagerComponent;
 import com.speedment.runtime.core.component.ProjectComponent;
 import com.speedment.runtime.core.component.StreamSupplierComponent;
 import com.speedment.runtime.core.stream.parallel.ParallelStrategy;
+import com.speedment.runtime.field.Field;
 
+import java.util.List;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static com.speedment.common.injector.State.INITIALIZED;
 import static java.lang.String.format;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -75,11 +80,49 @@ public abstract class AbstractViewManager<ENTITY> implements Manager<ENTITY> {
         );
     }
 
+    @Override
+    public Stream<ENTITY> streamWithReusedEntity() {
+        return streamSupplierComponent.streamWithReusedEntity(
+            getTableIdentifier()
+        );
+    }
+
+    @Override
+    public Stream<ENTITY> bulkExport() {
+        return streamSupplierComponent.bulkExport(getTableIdentifier());
+    }
+
+    @Override
+    public PrimitiveColumns<ENTITY> columns(List<? extends Field<ENTITY>> fields) {
+        return streamSupplierComponent.columns(
+            getTableIdentifier(),
+            fields,
+            emptyList()
+        );
+    }
+
+    @Override
+    public PrimitiveColumns<ENTITY> columns(
+            Predicate<? super ENTITY> predicate,
+            List<? extends Field<ENTITY>> fields) {
+
+        return streamSupplierComponent.columns(
+            getTableIdentifier(),
+            fields,
+            singletonList(predicate)
+        );
+    }
+
     @Override
     public Persister<ENTITY> persister() {
         throw readonlyException();
     }
 
+    @Override
+    public BulkLoader<ENTITY> bulkLoader() {
+        throw readonlyException();
+    }
+
     @Override
     public Updater<ENTITY> updater() {
         throw readonlyException();
@@ -0,0 +1,111 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.manager;
+
+import com.speedment.runtime.core.internal.manager.BulkLoadResultImpl;
+
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * The result of a {@link BulkLoader}. Some data stores load the rows they
+ * can and report problems with individual rows, for example values that
+ * had to be truncated or rows that were skipped because of a duplicate key.
+ * Such problems are available as {@link #getRowErrors() row errors}.
+ *
+ * @since   3.1.5
+ */
+public interface BulkLoadResult {
+
+    /**
+     * Returns the number of rows that were loaded.
+     *
+     * @return  the number of loaded rows
+     */
+    long getLoadedRows();
+
+    /**
+     * Returns the problems reported for individual rows. The data store may
+     * limit the number of reported problems.
+     *
+     * @return  the row errors, in the order they were reported
+     */
+    List<RowError> getRowErrors();
+
+    /**
+     * Returns if any problems were reported for individual rows.
+     *
+     * @return  if there are row errors
+     */
+    default boolean hasRowErrors() {
+        return !getRowErrors().isEmpty();
+    }
+
+    /**
+     * Creates a result without any row errors.
+     *
+     * @param loadedRows  the number of loaded rows
+     * @return            the result
+     */
+    static BulkLoadResult of(long loadedRows) {
+        return new BulkLoadResultImpl(loadedRows, emptyList());
+    }
+
+    /**
+     * Creates a result with the specified row errors.
+     *
+     * @param loadedRows  the number of loaded rows
+     * @param rowErrors   the row errors
+     * @return            the result
+     */
+    static BulkLoadResult of(long loadedRows, List<RowError> rowErrors) {
+        return new BulkLoadResultImpl(loadedRows, rowErrors);
+    }
+
+    /**
+     * A problem with an individual row of a bulk load.
+     */
+    interface RowError {
+
+        /**
+         * Returns the position of the row in the loaded stream, starting
+         * from 1, or 0 if the data store did not report the row.
+         *
+         * @return  the row, or 0 if unknown
+         */
+        long getRow();
+
+        /**
+         * Returns the message reported by the data store.
+         *
+         * @return  the message
+         */
+        String getMessage();
+
+        /**
+         * Creates a new row error.
+         *
+         * @param row      the row, or 0 if unknown
+         * @param message  the message
+         * @return         the row error
+         */
+        static RowError of(long row, String message) {
+            return new BulkLoadResultImpl.RowErrorImpl(row, message);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.manager;
+
+import com.speedment.runtime.core.exception.SpeedmentException;
+
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * An action that takes a stream of entities and persists all of them to a
+ * data store using the bulk load mechanism of the data store, if it has one.
+ * Entities are not updated with the values of auto-generated columns.
+ *
+ * @param <ENTITY>  the entity type
+ *
+ * @since   3.1.5
+ */
+@FunctionalInterface
+public interface BulkLoader<ENTITY> extends Function<Stream<? extends ENTITY>, BulkLoadResult> {
+
+    /**
+     * Persists all the entities in the data store. Rows that the data store
+     * rejects or modifies without failing the entire load are reported in the
+     * returned result.
+     *
+     * @param entities  the entities to persist
+     * @return          the result of the load
+     *
+     * @throws SpeedmentException  if the load failed
+     */
+    @Override
+    BulkLoadResult apply(Stream<? extends ENTITY> entities) throws SpeedmentException;
+}
@@ -18,15 +18,25 @@ package com.speedment.runtime.core.manager;
 
 import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.core.exception.SpeedmentException;
+import com.speedment.runtime.field.DoubleField;
 import com.speedment.runtime.field.Field;
+import com.speedment.runtime.field.IntField;
+import com.speedment.runtime.field.LongField;
 import com.speedment.runtime.field.method.BackwardFinder;
 import com.speedment.runtime.field.method.FindFrom;
 import com.speedment.runtime.field.trait.HasFinder;
 import com.speedment.runtime.field.trait.HasNullableFinder;
 
+import java.util.List;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
+import static java.util.Collections.singletonList;
+
 /**
  * A Manager is responsible for abstracting away an Entity's data source CRUD
  * operations. Entity sources can be RDBMSes, files or other data sources.
@@ -184,6 +194,208 @@ public interface Manager<ENTITY> {
      */
     Stream<ENTITY> stream();
 
+    /**
+     * Creates and returns a new sequential {@link Stream} over all entities in
+     * the underlying data source, where the same mutable entity instance is
+     * refilled for every row instead of a new entity being created. This
+     * removes the allocation of one entity per row, which is useful for large
+     * scans that are reduced into aggregates:
+     * <pre>{@code
+     *     final LongSummaryStatistics stats = hares.streamWithReusedEntity()
+     *         .filter(Hare.COLOR.equal("Gray"))
+     *         .mapToLong(Hare::getAge)
+     *         .summaryStatistics();
+     * }</pre>
+     * An entity is only valid until the next entity is pulled from the
+     * stream. Callers that retain an entity, for an example by collecting,
+     * sorting or buffering the stream, must copy it first. The stream must
+     * not be made parallel.
+     * <p>
+     * The default implementation returns {@link #stream()}.
+     *
+     * @return a new stream over all entities in this table, reusing one
+     *         entity instance
+     *
+     * @throws SpeedmentException if an error occurs during a Terminal Operation
+     * (e.g. an SqlException is thrown by the underlying database)
+     *
+     * @see #stream()
+     * @since 3.1.5
+     */
+    default Stream<ENTITY> streamWithReusedEntity() {
+        return stream();
+    }
+
+    /**
+     * Creates and returns a new sequential {@link Stream} over all entities in
+     * the underlying data source that is read using the bulk export mechanism
+     * of the database, for an example {@code COPY ... TO STDOUT} in
+     * PostgreSQL. This is faster than {@link #stream()} for exporting entire
+     * tables, but no part of the stream pipeline is rendered as SQL, so
+     * filters are applied in the JVM.
+     * <p>
+     * The stream holds a connection until it is closed, so it should be used
+     * in a try-with-resources statement.
+     * <p>
+     * The default implementation returns {@link #stream()}.
+     *
+     * @return a new stream over all entities in this table
+     *
+     * @throws SpeedmentException if an error occurs during a Terminal Operation
+     * (e.g. an SqlException is thrown by the underlying database)
+     *
+     * @see #bulkLoad(Stream)
+     * @since 3.1.5
+     */
+    default Stream<ENTITY> bulkExport() {
+        return stream();
+    }
+
+    /**
+     * Reads the values of the specified columns of all rows into primitive
+     * arrays, one per column, without creating any entities:
+     * <pre>{@code
+     *     final PrimitiveColumns<Sale> sales = saleManager.columns(
+     *         Arrays.asList(Sale.CUSTOMER_ID, Sale.AMOUNT)
+     *     );
+     *     final long[] customers = sales.getLongs(Sale.CUSTOMER_ID);
+     *     final double[] amounts = sales.getDoubles(Sale.AMOUNT);
+     * }</pre>
+     * Only {@link LongField LongFields}, {@link IntField IntFields} and
+     * {@link DoubleField DoubleFields} are supported.
+     * <p>
+     * The default implementation creates an entity for every row using
+     * {@link #stream()}.
+     *
+     * @param fields  the fields of the columns to read
+     * @return        the values of the columns
+     *
+     * @throws IllegalArgumentException  if a field is not supported
+     * @throws SpeedmentException        if the values could not be read
+     * @since 3.1.5
+     */
+    default PrimitiveColumns<ENTITY> columns(List<? extends Field<ENTITY>> fields) {
+        return PrimitiveColumns.of(stream(), fields);
+    }
+
+    /**
+     * Reads the values of the specified columns of the rows that match the
+     * specified predicate into primitive arrays, one per column, without
+     * creating any entities. If the predicate can not be rendered as SQL,
+     * entities are created and filtered instead.
+     * <p>
+     * The default implementation creates an entity for every row using
+     * {@link #stream()}.
+     *
+     * @param predicate  the predicate that rows must match
+     * @param fields     the fields of the columns to read
+     * @return           the values of the columns
+     *
+     * @throws IllegalArgumentException  if a field is not supported
+     * @throws SpeedmentException        if the values could not be read
+     * @see #columns(List)
+     * @since 3.1.5
+     */
+    default PrimitiveColumns<ENTITY> columns(
+            Predicate<? super ENTITY> predicate,
+            List<? extends Field<ENTITY>> fields) {
+
+        return PrimitiveColumns.of(stream().filter(predicate), fields);
+    }
+
+    /**
+     * Returns the values of the specified column of all rows, skipping
+     * {@code null} values. No entities are created.
+     *
+     * @param field  the field of the column
+     * @return       stream of values
+     *
+     * @throws SpeedmentException  if the values could not be read
+     * @see #columns(List)
+     * @since 3.1.5
+     */
+    default LongStream longs(LongField<ENTITY, ?> field) {
+        return columns(singletonList(field)).longs(field);
+    }
+
+    /**
+     * Returns the values of the specified column of the rows that match the
+     * specified predicate, skipping {@code null} values.
+     *
+     * @param field      the field of the column
+     * @param predicate  the predicate that rows must match
+     * @return           the values
+     *
+     * @throws SpeedmentException  if the values could not be read
+     * @see #columns(Predicate, List)
+     * @since 3.1.5
+     */
+    default long[] longs(LongField<ENTITY, ?> field, Predicate<? super ENTITY> predicate) {
+        return columns(predicate, singletonList(field)).longs(field).toArray();
+    }
+
+    /**
+     * Returns the values of the specified column of all rows, skipping
+     * {@code null} values. No entities are created.
+     *
+     * @param field  the field of the column
+     * @return       stream of values
+     *
+     * @throws SpeedmentException  if the values could not be read
+     * @see #columns(List)
+     * @since 3.1.5
+     */
+    default IntStream ints(IntField<ENTITY, ?> field) {
+        return columns(singletonList(field)).ints(field);
+    }
+
+    /**
+     * Returns the values of the specified column of the rows that match the
+     * specified predicate, skipping {@code null} values.
+     *
+     * @param field      the field of the column
+     * @param predicate  the predicate that rows must match
+     * @return           the values
+     *
+     * @throws SpeedmentException  if the values could not be read
+     * @see #columns(Predicate, List)
+     * @since 3.1.5
+     */
+    default int[] ints(IntField<ENTITY, ?> field, Predicate<? super ENTITY> predicate) {
+        return columns(predicate, singletonList(field)).ints(field).toArray();
+    }
+
+    /**
+     * Returns the values of the specified column of all rows, skipping
+     * {@code null} values. No entities are created.
+     *
+     * @param field  the field of the column
+     * @return       stream of values
+     *
+     * @throws SpeedmentException  if the values could not be read
+     * @see #columns(List)
+     * @since 3.1.5
+     */
+    default DoubleStream doubles(DoubleField<ENTITY, ?> field) {
+        return columns(singletonList(field)).doubles(field);
+    }
+
+    /**
+     * Returns the values of the specified column of the rows that match the
+     * specified predicate, skipping {@code null} values.
+     *
+     * @param field      the field of the column
+     * @param predicate  the predicate that rows must match
+     * @return           the values
+     *
+     * @throws SpeedmentException  if the values could not be read
+     * @see #columns(Predicate, List)
+     * @since 3.1.5
+     */
+    default double[] doubles(DoubleField<ENTITY, ?> field, Predicate<? super ENTITY> predicate) {
+        return columns(predicate, singletonList(field)).doubles(field).toArray();
+    }
+
     /**
      * Persists the provided entity to the underlying database and returns a
      * potentially updated entity. If the persistence fails for any reason, an
@@ -219,6 +431,53 @@ public interface Manager<ENTITY> {
      */
     Persister<ENTITY> persister();
 
+    /**
+     * Persists all the provided entities to the underlying database using the
+     * bulk load mechanism of the database, for an example
+     * {@code COPY ... FROM STDIN} in PostgreSQL. This is much faster than
+     * persisting the entities one by one, but the entities are not updated
+     * with the values of auto generated columns. If bulk loading is not
+     * supported by the database, or is disabled in it or in the JDBC driver,
+     * the entities are persisted one by one instead.
+     * <p>
+     * If the current thread is in a transaction, the entities are persisted
+     * within that transaction. Use {@link #bulkLoader()} to also get the
+     * problems that the database reported for individual rows.
+     *
+     * @param entities to persist
+     * @return the number of persisted entities
+     *
+     * @throws SpeedmentException if the underlying database throws an exception
+     * (e.g. SQLException)
+     *
+     * @see #bulkExport()
+     * @since 3.1.5
+     */
+    default long bulkLoad(Stream<? extends ENTITY> entities) throws SpeedmentException {
+        return bulkLoader().apply(entities).getLoadedRows();
+    }
+
+    /**
+     * Returns a {@link BulkLoader} that when its
+     * {@link BulkLoader#apply(Stream)} method is called, will persist the
+     * entities the same way as {@link #bulkLoad(Stream)} and return the
+     * number of loaded rows together with any problems that the database
+     * reported for individual rows.
+     * <p>
+     * The default implementation returns a {@code BulkLoader} that persists
+     * the entities one by one using the {@link #persister()}.
+     *
+     * @return a BulkLoader
+     * @since 3.1.5
+     */
+    default BulkLoader<ENTITY> bulkLoader() {
+        final Persister<ENTITY> persister = persister();
+        return entities -> BulkLoadResult.of(entities.mapToLong(entity -> {
+            persister.apply(entity);
+            return 1;
+        }).sum());
+    }
+
     /**
      * Updates the provided entity in the underlying database and returns a
      * potentially updated entity. If the update fails for any reason, an
@@ -280,6 +539,31 @@ public interface Manager<ENTITY> {
      */
     Remover<ENTITY> remover();
 
+    /**
+     * Returns a {@link Prefetch} of all entities in this manager where the
+     * entities referenced through the specified foreign key field are fetched
+     * eagerly from the specified manager, using one query per chunk of
+     * entities instead of one query per entity. More foreign key fields can
+     * be added using {@link Prefetch#prefetch(HasFinder, Manager)}.
+     * <p>
+     * Use {@link Prefetch#of(java.util.function.Supplier)} to prefetch the
+     * referenced entities of a filtered stream.
+     *
+     * @param <FK_ENTITY> the type of the referenced entity
+     *
+     * @param fkField the foreign key field of this manager's entities
+     * @param foreignManager the manager of the referenced entities
+     * @return a Prefetch of all entities in this manager
+     *
+     * @since 3.1.5
+     */
+    default <FK_ENTITY> Prefetch<ENTITY> prefetch(
+        HasFinder<ENTITY, FK_ENTITY> fkField,
+        Manager<FK_ENTITY> foreignManager) {
+
+        return Prefetch.of(this::stream).prefetch(fkField, foreignManager);
+    }
+
     /**
      * Returns a Function that, when it is applied, will produce an equivalent
      * result as if {@link #finderByNullable(HasNullableFinder)} was called.
@@ -0,0 +1,113 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.manager;
+
+import com.speedment.runtime.core.internal.manager.PrefetchImpl;
+import com.speedment.runtime.field.method.FindFrom;
+import com.speedment.runtime.field.trait.HasFinder;
+
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A stream of entities where the entities referenced through a number of
+ * foreign key fields are fetched eagerly. The referenced entities are
+ * fetched for a chunk of entities at a time using a single query per chunk
+ * and foreign key, and are then available in memory through the
+ * {@link #finder(HasFinder) finders} of this object:
+ * <pre>{@code
+ *     final Prefetch<Foo> foos = fooManager
+ *         .prefetch(Foo.CUSTOMER_ID, customerManager)
+ *         .prefetch(Foo.PRODUCT_ID, productManager);
+ *
+ *     final FindFrom<Foo, Customer> customer = foos.finder(Foo.CUSTOMER_ID);
+ *     final FindFrom<Foo, Product> product = foos.finder(Foo.PRODUCT_ID);
+ *
+ *     try (Stream<Foo> stream = foos.stream()) {
+ *         stream.forEach(foo -> export(foo, customer.apply(foo), product.apply(foo)));
+ *     }
+ * }</pre>
+ * An object graph can therefore be exported using a number of queries that
+ * depends on the number of chunks rather than on the number of rows.
+ * <p>
+ * Instances are not thread-safe.
+ *
+ * @param <ENTITY>  the entity type
+ *
+ * @since   3.1.5
+ */
+public interface Prefetch<ENTITY> {
+
+    /**
+     * Specifies that the entities referenced through the specified foreign
+     * key field should be fetched eagerly from the specified manager.
+     *
+     * @param <FK_ENTITY>       the referenced entity type
+     * @param fkField           the foreign key field
+     * @param foreignManager    the manager of the referenced entities
+     * @return                  this object
+     */
+    <FK_ENTITY> Prefetch<ENTITY> prefetch(
+        HasFinder<ENTITY, FK_ENTITY> fkField,
+        Manager<FK_ENTITY> foreignManager
+    );
+
+    /**
+     * Sets the maximum number of entities for which referenced entities are
+     * fetched using a single query. The default value is 1 000.
+     *
+     * @param chunkSize  the maximum number of entities in a chunk
+     * @return           this object
+     */
+    Prefetch<ENTITY> withChunkSize(int chunkSize);
+
+    /**
+     * Returns a new stream of the entities. The referenced entities of each
+     * chunk are fetched before the first entity of the chunk is produced.
+     *
+     * @return  a new stream of the entities
+     */
+    Stream<ENTITY> stream();
+
+    /**
+     * Returns a {@link FindFrom} for the specified foreign key field that
+     * returns the referenced entity from memory if it has been fetched by
+     * the {@link #stream()} of this object. Otherwise the entity is fetched
+     * using a query of its own.
+     *
+     * @param <FK_ENTITY>  the referenced entity type
+     * @param fkField      the foreign key field
+     * @return             the finder
+     *
+     * @throws IllegalArgumentException  if the field has not been specified
+     *                                   using {@link #prefetch}
+     */
+    <FK_ENTITY> FindFrom<ENTITY, FK_ENTITY> finder(HasFinder<ENTITY, FK_ENTITY> fkField);
+
+    /**
+     * Creates a new {@code Prefetch} for the entities of the specified stream
+     * supplier.
+     *
+     * @param <ENTITY>        the entity type
+     * @param streamSupplier  supplier of the entities, for example a
+     *                        filtered stream from a manager
+     * @return                the new {@code Prefetch}
+     */
+    static <ENTITY> Prefetch<ENTITY> of(Supplier<Stream<ENTITY>> streamSupplier) {
+        return new PrefetchImpl<>(streamSupplier);
+    }
+}
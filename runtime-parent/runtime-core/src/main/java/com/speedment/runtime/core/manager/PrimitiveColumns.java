@@ -0,0 +1,193 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.manager;
+
+import com.speedment.runtime.core.internal.manager.PrimitiveColumnsImpl;
+import com.speedment.runtime.field.DoubleField;
+import com.speedment.runtime.field.Field;
+import com.speedment.runtime.field.IntField;
+import com.speedment.runtime.field.LongField;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * The values of a number of columns of a table, stored as one primitive
+ * array per column instead of as entities. Each row has the same index in
+ * all arrays. Whether a value is {@code null} is kept in a separate bitmap
+ * per column, and the array holds {@code 0} at that index.
+ * <p>
+ * Only {@link LongField LongFields}, {@link IntField IntFields} and
+ * {@link DoubleField DoubleFields} are supported. Instances are obtained
+ * through {@link Manager#columns(List)}.
+ *
+ * @param <ENTITY>  the entity type
+ *
+ * @since   3.1.5
+ */
+public interface PrimitiveColumns<ENTITY> {
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return  the number of rows
+     */
+    int size();
+
+    /**
+     * Returns the fields of the columns, in the order they were requested.
+     *
+     * @return  the fields
+     */
+    List<Field<ENTITY>> fields();
+
+    /**
+     * Returns the values of the specified column. The array is not copied and
+     * must not be modified.
+     *
+     * @param field  the field of the column
+     * @return       the values, with {@code 0} for {@code null}
+     *
+     * @throws IllegalArgumentException  if the column was not requested
+     */
+    long[] getLongs(LongField<ENTITY, ?> field);
+
+    /**
+     * Returns the values of the specified column. The array is not copied and
+     * must not be modified.
+     *
+     * @param field  the field of the column
+     * @return       the values, with {@code 0} for {@code null}
+     *
+     * @throws IllegalArgumentException  if the column was not requested
+     */
+    int[] getInts(IntField<ENTITY, ?> field);
+
+    /**
+     * Returns the values of the specified column. The array is not copied and
+     * must not be modified.
+     *
+     * @param field  the field of the column
+     * @return       the values, with {@code 0} for {@code null}
+     *
+     * @throws IllegalArgumentException  if the column was not requested
+     */
+    double[] getDoubles(DoubleField<ENTITY, ?> field);
+
+    /**
+     * Returns a copy of the bitmap of the rows where the specified column is
+     * {@code null}.
+     *
+     * @param field  the field of the column
+     * @return       the null bitmap
+     *
+     * @throws IllegalArgumentException  if the column was not requested
+     */
+    BitSet getNulls(Field<ENTITY> field);
+
+    /**
+     * Returns {@code true} if the specified column is {@code null} in the
+     * specified row.
+     *
+     * @param field  the field of the column
+     * @param row    the index of the row
+     * @return       {@code true} if null, else {@code false}
+     *
+     * @throws IllegalArgumentException  if the column was not requested
+     */
+    boolean isNull(Field<ENTITY> field, int row);
+
+    /**
+     * Returns a stream of the values of the specified column that are not
+     * {@code null}.
+     *
+     * @param field  the field of the column
+     * @return       stream of values
+     *
+     * @throws IllegalArgumentException  if the column was not requested
+     */
+    default LongStream longs(LongField<ENTITY, ?> field) {
+        final long[] values = getLongs(field);
+        final BitSet nulls = getNulls(field);
+        return nulls.isEmpty()
+            ? LongStream.of(values)
+            : IntStream.range(0, size()).filter(i -> !nulls.get(i)).mapToLong(i -> values[i]);
+    }
+
+    /**
+     * Returns a stream of the values of the specified column that are not
+     * {@code null}.
+     *
+     * @param field  the field of the column
+     * @return       stream of values
+     *
+     * @throws IllegalArgumentException  if the column was not requested
+     */
+    default IntStream ints(IntField<ENTITY, ?> field) {
+        final int[] values = getInts(field);
+        final BitSet nulls = getNulls(field);
+        return nulls.isEmpty()
+            ? IntStream.of(values)
+            : IntStream.range(0, size()).filter(i -> !nulls.get(i)).map(i -> values[i]);
+    }
+
+    /**
+     * Returns a stream of the values of the specified column that are not
+     * {@code null}.
+     *
+     * @param field  the field of the column
+     * @return       stream of values
+     *
+     * @throws IllegalArgumentException  if the column was not requested
+     */
+    default DoubleStream doubles(DoubleField<ENTITY, ?> field) {
+        final double[] values = getDoubles(field);
+        final BitSet nulls = getNulls(field);
+        return nulls.isEmpty()
+            ? DoubleStream.of(values)
+            : IntStream.range(0, size()).filter(i -> !nulls.get(i)).mapToDouble(i -> values[i]);
+    }
+
+    /**
+     * Creates the columns by reading the values of the specified fields from
+     * each of the specified entities.
+     *
+     * @param <ENTITY>  the entity type
+     * @param entities  the entities
+     * @param fields    the fields of the columns
+     * @return          the columns
+     *
+     * @throws IllegalArgumentException  if a field is not supported
+     */
+    static <ENTITY> PrimitiveColumns<ENTITY> of(
+            Stream<? extends ENTITY> entities,
+            List<? extends Field<ENTITY>> fields) {
+
+        final PrimitiveColumnsImpl.Builder<ENTITY> builder =
+            new PrimitiveColumnsImpl.Builder<>(fields);
+
+        try (final Stream<? extends ENTITY> s = entities) {
+            s.forEachOrdered(builder::addEntity);
+        }
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,310 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.component.changefeed;
+
+import com.speedment.runtime.config.Column;
+import com.speedment.runtime.config.Dbms;
+import com.speedment.runtime.config.Schema;
+import com.speedment.runtime.config.Table;
+import com.speedment.runtime.config.identifier.TableIdentifier;
+import com.speedment.runtime.config.internal.ProjectImpl;
+import com.speedment.runtime.core.component.changefeed.ChangeEvent;
+import com.speedment.runtime.core.component.changefeed.ChangeFeed;
+import com.speedment.runtime.core.component.changefeed.ChangeFeedReader;
+import com.speedment.runtime.core.component.changefeed.ChangeRecord;
+import com.speedment.runtime.core.db.SqlFunction;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @since 3.1.5
+ */
+public class ChangeFeedImplTest {
+
+    private static final TableIdentifier<String> IDENTIFIER =
+        TableIdentifier.of("db0", "schema", "hare");
+
+    private static final SqlFunction<ResultSet, String> MAPPER = rs -> {
+        final int id = rs.getInt(1);
+        final String name = rs.getString(2);
+        final int age = rs.getInt(3);
+        return id + ":" + name + ":" + (rs.wasNull() ? "null" : Integer.toString(age));
+    };
+
+    private Table table;
+    private List<ChangeRecord> log;
+    private AtomicInteger acknowledged;
+    private List<ScheduledExecutorService> schedulers;
+
+    @Before
+    public void setUp() {
+        final Dbms dbms = new ProjectImpl(new HashMap<>()).mutator().addNewDbms();
+        final Schema schema = dbms.mutator().addNewSchema();
+        schema.mutator().setName("schema");
+        table = schema.mutator().addNewTable();
+        table.mutator().setName("hare");
+        addColumn("id", true);
+        addColumn("secret", false);
+        addColumn("name", true);
+        addColumn("age", true);
+
+        log = new ArrayList<>();
+        log.add(record(3, ChangeEvent.Type.INSERT, "1", "Harry", "3"));
+        log.add(record(5, ChangeEvent.Type.UPDATE, "1", "Harry", "4"));
+        log.add(record(8, ChangeEvent.Type.INSERT, "2", "Henrietta", null));
+        log.add(record(9, ChangeEvent.Type.DELETE, "1", null, null));
+
+        acknowledged = new AtomicInteger(-1);
+        schedulers = new CopyOnWriteArrayList<>();
+    }
+
+    @After
+    public void tearDown() {
+        schedulers.forEach(ScheduledExecutorService::shutdownNow);
+    }
+
+    @Test
+    public void testPoll() {
+        final ChangeFeed<String> feed = feed(new StubReader());
+        final List<ChangeEvent<String>> events = new ArrayList<>();
+
+        final long position = feed.poll(0, 2, events::add);
+        assertEquals(5, position);
+        assertEquals(
+            asList("INSERT 3 1:Harry:3", "UPDATE 5 1:Harry:4"),
+            events.stream().map(ChangeFeedImplTest::describe).collect(toList())
+        );
+
+        events.clear();
+        assertEquals(9, feed.poll(position, 10, events::add));
+        assertEquals(
+            asList("INSERT 8 2:Henrietta:null", "DELETE 9 1:null:null"),
+            events.stream().map(ChangeFeedImplTest::describe).collect(toList())
+        );
+        assertTrue(events.stream().allMatch(e -> e.getTableIdentifier() == IDENTIFIER));
+
+        events.clear();
+        assertEquals(9, feed.poll(9, 10, events::add));
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    public void testColumnNamesIgnoreCase() {
+        log.clear();
+        final Map<String, Object> values = new LinkedHashMap<>();
+        values.put("ID", 7);
+        values.put("NAME", "Hoppy");
+        values.put("AGE", 2L);
+        log.add(ChangeRecord.of(1, ChangeEvent.Type.INSERT, values));
+
+        final List<String> entities = new ArrayList<>();
+        feed(new StubReader()).poll(0, 10, e -> entities.add(e.getEntity()));
+        assertEquals(asList("7:Hoppy:2"), entities);
+    }
+
+    @Test
+    public void testAcknowledge() {
+        feed(new StubReader()).acknowledge(5);
+        assertEquals(5, acknowledged.get());
+    }
+
+    @Test
+    public void testSubscribeRetriesFailedChange() throws InterruptedException {
+        final ChangeFeed<String> feed = feed(new StubReader());
+        final List<Long> delivered = new CopyOnWriteArrayList<>();
+        final AtomicInteger attempts = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(1);
+
+        final Consumer<ChangeEvent<String>> consumer = event -> {
+            if (event.getPosition() == 8 && attempts.getAndIncrement() == 0) {
+                throw new IllegalStateException("Simulated failure");
+            }
+            delivered.add(event.getPosition());
+            if (event.getPosition() == 9) {
+                done.countDown();
+            }
+        };
+
+        try (final ChangeFeed.Subscription subscription = feed.subscribe(3, consumer)) {
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+
+            // The position is updated once the consumer has returned
+            for (int i = 0; i < 1000 && subscription.getPosition() != 9; i++) {
+                Thread.sleep(10);
+            }
+            assertEquals(9, subscription.getPosition());
+        }
+
+        assertEquals(2, attempts.get());
+        assertEquals(asList(5L, 8L, 9L), delivered);
+    }
+
+    @Test
+    public void testSubscribeRetriesChangesSharingPosition() throws InterruptedException {
+        log.clear();
+        log.add(record(3, ChangeEvent.Type.INSERT, "1", "Harry", "3"));
+        log.add(record(7, ChangeEvent.Type.UPDATE, "1", "Harry", "4"));
+        log.add(record(7, ChangeEvent.Type.INSERT, "2", "Henrietta", "1"));
+        log.add(record(9, ChangeEvent.Type.DELETE, "1", null, null));
+
+        final ChangeFeed<String> feed = feed(new StubReader());
+        final List<String> delivered = new CopyOnWriteArrayList<>();
+        final AtomicInteger attempts = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(1);
+
+        final Consumer<ChangeEvent<String>> consumer = event -> {
+            if (event.getEntity().startsWith("2:") && attempts.getAndIncrement() == 0) {
+                throw new IllegalStateException("Simulated failure");
+            }
+            delivered.add(describe(event));
+            if (event.getPosition() == 9) {
+                done.countDown();
+            }
+        };
+
+        try (final ChangeFeed.Subscription subscription = feed.subscribe(0, consumer)) {
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+        }
+
+        // The first change at position 7 was delivered, but the position
+        // can not be advanced to 7 until the second one has been as well.
+        assertEquals(
+            asList(
+                "INSERT 3 1:Harry:3",
+                "UPDATE 7 1:Harry:4",
+                "UPDATE 7 1:Harry:4",
+                "INSERT 7 2:Henrietta:1",
+                "DELETE 9 1:null:null"
+            ),
+            delivered
+        );
+    }
+
+    @Test
+    public void testSlowSubscriberDoesNotDelayOthers() throws InterruptedException {
+        final ChangeFeed<String> feed = feed(new StubReader());
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(1);
+
+        final ChangeFeed.Subscription slow = feed.subscribe(0, event -> {
+            try {
+                release.await();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        final ChangeFeed.Subscription fast = feed.subscribe(0, event -> {
+            if (event.getPosition() == 9) {
+                done.countDown();
+            }
+        });
+
+        try {
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            slow.close();
+            fast.close();
+        }
+
+        assertEquals(2, schedulers.size());
+        assertTrue(schedulers.stream().allMatch(ScheduledExecutorService::isShutdown));
+    }
+
+    private ChangeFeed<String> feed(ChangeFeedReader reader) {
+        return new ChangeFeedImpl<>(
+            IDENTIFIER, table, MAPPER, reader, () -> null, this::newScheduler, 10, 2
+        );
+    }
+
+    private ScheduledExecutorService newScheduler() {
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        schedulers.add(scheduler);
+        return scheduler;
+    }
+
+    private void addColumn(String name, boolean enabled) {
+        final Column column = table.mutator().addNewColumn();
+        column.mutator().setName(name);
+        column.mutator().setEnabled(enabled);
+    }
+
+    private static ChangeRecord record(long position, ChangeEvent.Type type, String id, String name, String age) {
+        final Map<String, Object> values = new LinkedHashMap<>();
+        values.put("id", id);
+        values.put("secret", "ignored");
+        if (type != ChangeEvent.Type.DELETE) {
+            values.put("name", name);
+            values.put("age", age);
+        }
+        return ChangeRecord.of(position, type, values);
+    }
+
+    private static String describe(ChangeEvent<String> event) {
+        return event.getType() + " " + event.getPosition() + " " + event.getEntity();
+    }
+
+    @SafeVarargs
+    private static <T> List<T> asList(T... values) {
+        return java.util.Arrays.asList(values);
+    }
+
+    private final class StubReader implements ChangeFeedReader {
+
+        @Override
+        public long read(Connection connection, Table tbl, long after, int maxRecords, Consumer<ChangeRecord> consumer) {
+            assertSame(table, tbl);
+            long position = after;
+            int count = 0;
+            for (final ChangeRecord record : log) {
+                // Changes that share a position are always read together
+                if (record.getPosition() > after
+                && (count++ < maxRecords || record.getPosition() == position)) {
+                    consumer.accept(record);
+                    position = record.getPosition();
+                }
+            }
+            return position;
+        }
+
+        @Override
+        public void acknowledge(Connection connection, Table tbl, long position) {
+            acknowledged.set((int) position);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.component.changefeed;
+
+import com.speedment.runtime.config.Dbms;
+import com.speedment.runtime.config.Schema;
+import com.speedment.runtime.config.Table;
+import com.speedment.runtime.config.internal.ProjectImpl;
+import com.speedment.runtime.core.component.changefeed.ChangeRecord;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ *
+ * @since 3.1.5
+ */
+public class ChangelogTableReaderTest {
+
+    private static final String[] LABELS = {
+        ChangelogTableReader.POSITION, ChangelogTableReader.OPERATION, "id"
+    };
+
+    private Table table;
+    private List<Object[]> changelog;
+    private Connection connection;
+
+    @Before
+    public void setUp() throws Exception {
+        final Dbms dbms = new ProjectImpl(new HashMap<>()).mutator().addNewDbms();
+        final Schema schema = dbms.mutator().addNewSchema();
+        schema.mutator().setName("schema");
+        table = schema.mutator().addNewTable();
+        table.mutator().setName("hare");
+
+        changelog = new ArrayList<>();
+
+        final DatabaseMetaData meta = mock(DatabaseMetaData.class);
+        when(meta.getIdentifierQuoteString()).thenReturn("`");
+
+        connection = mock(Connection.class);
+        when(connection.getMetaData()).thenReturn(meta);
+        when(connection.prepareStatement(
+            "SELECT * FROM `schema`.`hare_changelog` "
+            + "WHERE `changelog_position` > ? ORDER BY `changelog_position`"
+        )).thenAnswer(i -> statement());
+    }
+
+    @Test
+    public void testRead() throws Exception {
+        commit(1, 2, 3);
+        final ChangelogTableReader reader = new ChangelogTableReader("_changelog");
+
+        final List<ChangeRecord> records = new ArrayList<>();
+        assertEquals(2, reader.read(connection, table, 0, 2, records::add));
+        assertEquals(Arrays.asList(1L, 2L), positions(records));
+        assertEquals(1, records.get(0).getValues().get("id"));
+
+        records.clear();
+        assertEquals(3, reader.read(connection, table, 2, 2, records::add));
+        assertEquals(Arrays.asList(3L), positions(records));
+    }
+
+    @Test
+    public void testWaitsForTransactionCommittingOutOfOrder() throws Exception {
+        // The transaction that wrote position 3 has not committed yet when
+        // the one that wrote position 4 has.
+        commit(1, 2, 4);
+        final ChangelogTableReader reader = new ChangelogTableReader("_changelog");
+
+        final List<ChangeRecord> records = new ArrayList<>();
+        assertEquals(2, reader.read(connection, table, 0, 10, records::add));
+        assertEquals(Arrays.asList(1L, 2L), positions(records));
+
+        records.clear();
+        assertEquals(2, reader.read(connection, table, 2, 10, records::add));
+        assertTrue(records.isEmpty());
+
+        commit(3);
+        assertEquals(4, reader.read(connection, table, 2, 10, records::add));
+        assertEquals(Arrays.asList(3L, 4L), positions(records));
+    }
+
+    @Test
+    public void testSkipsGapAfterTimeout() throws Exception {
+        // Position 2 belongs to a transaction that was rolled back
+        commit(1, 3);
+        final ChangelogTableReader reader = new ChangelogTableReader("_changelog", 50);
+
+        final List<ChangeRecord> records = new ArrayList<>();
+        assertEquals(1, reader.read(connection, table, 0, 10, records::add));
+        assertEquals(Arrays.asList(1L), positions(records));
+
+        Thread.sleep(100);
+
+        records.clear();
+        assertEquals(3, reader.read(connection, table, 1, 10, records::add));
+        assertEquals(Arrays.asList(3L), positions(records));
+    }
+
+    private void commit(long... positions) {
+        for (final long position : positions) {
+            changelog.add(new Object[] {position, "I", (int) position});
+        }
+        changelog.sort((a, b) -> Long.compare((Long) a[0], (Long) b[0]));
+    }
+
+    private PreparedStatement statement() throws Exception {
+        final AtomicLong after = new AtomicLong();
+        final int[] maxRows = {Integer.MAX_VALUE};
+
+        final PreparedStatement ps = mock(PreparedStatement.class);
+        doAnswer(i -> {
+            after.set(i.getArgument(1));
+            return null;
+        }).when(ps).setLong(anyInt(), anyLong());
+        doAnswer(i -> {
+            maxRows[0] = i.getArgument(0);
+            return null;
+        }).when(ps).setMaxRows(anyInt());
+        when(ps.executeQuery()).thenAnswer(i -> resultSet(
+            changelog.stream()
+                .filter(row -> (Long) row[0] > after.get())
+                .limit(maxRows[0])
+                .collect(toList())
+        ));
+        return ps;
+    }
+
+    private static ResultSet resultSet(List<Object[]> rows) {
+        final int[] row = {-1};
+        final ResultSetMetaData meta = (ResultSetMetaData) Proxy.newProxyInstance(
+            ChangelogTableReaderTest.class.getClassLoader(),
+            new Class<?>[] {ResultSetMetaData.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getColumnCount" : return LABELS.length;
+                    case "getColumnLabel" : return LABELS[(Integer) args[0] - 1];
+                    default : throw new UnsupportedOperationException(method.getName());
+                }
+            }
+        );
+
+        return (ResultSet) Proxy.newProxyInstance(
+            ChangelogTableReaderTest.class.getClassLoader(),
+            new Class<?>[] {ResultSet.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "next"        : return ++row[0] < rows.size();
+                    case "getMetaData" : return meta;
+                    case "getObject"   :
+                    case "getLong"     :
+                    case "getString"   : return rows.get(row[0])[(Integer) args[0] - 1];
+                    case "close"       : return null;
+                    default : throw new UnsupportedOperationException(method.getName());
+                }
+            }
+        );
+    }
+
+    private static List<Long> positions(List<ChangeRecord> records) {
+        return records.stream().map(ChangeRecord::getPosition).collect(toList());
+    }
+}
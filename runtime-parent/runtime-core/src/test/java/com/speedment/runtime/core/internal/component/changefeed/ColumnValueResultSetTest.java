@@ -0,0 +1,108 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.component.changefeed;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @since 3.1.5
+ */
+public class ColumnValueResultSetTest {
+
+    @Test
+    public void testConvertsStrings() throws SQLException {
+        final ResultSet rs = ColumnValueResultSet.of(new Object[] {
+            "42", "12345678901", "t", "1.5", "2018-02-03 04:05:06", "2018-02-03", "\\x0aff"
+        });
+
+        assertEquals(42, rs.getInt(1));
+        assertEquals(12345678901L, rs.getLong(2));
+        assertTrue(rs.getBoolean(3));
+        assertEquals(new BigDecimal("1.5"), rs.getBigDecimal(4));
+        assertEquals(1.5, rs.getDouble(4), 0);
+        assertEquals(Timestamp.valueOf("2018-02-03 04:05:06"), rs.getTimestamp(5));
+        assertEquals(java.sql.Date.valueOf("2018-02-03"), rs.getDate(6));
+        assertEquals(LocalDate.of(2018, 2, 3), rs.getObject(6, LocalDate.class));
+        assertArrayEquals(new byte[] {0x0a, (byte) 0xff}, rs.getBytes(7));
+        assertFalse(rs.wasNull());
+    }
+
+    @Test
+    public void testConvertsTimestampsWithOffset() throws SQLException {
+        final ResultSet rs = ColumnValueResultSet.of(new Object[] {
+            "2018-01-01 10:00:00+01", "2018-01-01 10:00:00.25-05:30", "2018-01-01T09:00:00Z"
+        });
+
+        assertEquals(Instant.parse("2018-01-01T09:00:00Z"), rs.getTimestamp(1).toInstant());
+        assertEquals(Instant.parse("2018-01-01T15:30:00.25Z"), rs.getTimestamp(2).toInstant());
+        assertEquals(Instant.parse("2018-01-01T09:00:00Z"), rs.getObject(3, Instant.class));
+    }
+
+    @Test
+    public void testConvertsObjects() throws SQLException {
+        final LocalDateTime time = LocalDateTime.of(2018, 2, 3, 4, 5, 6);
+        final ResultSet rs = ColumnValueResultSet.of(new Object[] {
+            7L, true, time, 3
+        });
+
+        assertEquals(7, rs.getInt(1));
+        assertEquals("7", rs.getString(1));
+        assertEquals(1, rs.getInt(2));
+        assertEquals(Timestamp.valueOf(time), rs.getTimestamp(3));
+        assertEquals(Integer.valueOf(3), rs.getObject(4));
+        assertEquals(Long.valueOf(3), rs.getObject(4, Long.class));
+    }
+
+    @Test
+    public void testNulls() throws SQLException {
+        final ResultSet rs = ColumnValueResultSet.of(new Object[] {null, "x"});
+
+        assertEquals(0, rs.getInt(1));
+        assertTrue(rs.wasNull());
+        assertNull(rs.getString(1));
+        assertTrue(rs.wasNull());
+        assertEquals("x", rs.getString(2));
+        assertFalse(rs.wasNull());
+    }
+
+    @Test(expected = SQLException.class)
+    public void testInvalidNumber() throws SQLException {
+        ColumnValueResultSet.of(new Object[] {"abc"}).getInt(1);
+    }
+
+    @Test(expected = SQLException.class)
+    public void testIndexOutOfRange() throws SQLException {
+        ColumnValueResultSet.of(new Object[] {1}).getInt(2);
+    }
+
+    @Test(expected = SQLFeatureNotSupportedException.class)
+    public void testLabelsNotSupported() throws SQLException {
+        ColumnValueResultSet.of(new Object[] {1}).getInt("id");
+    }
+}
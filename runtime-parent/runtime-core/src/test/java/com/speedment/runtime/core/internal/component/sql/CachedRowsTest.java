@@ -0,0 +1,192 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.component.sql;
+
+import com.speedment.runtime.core.db.SqlFunction;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @since 3.1.5
+ */
+public class CachedRowsTest {
+
+    private static final SqlFunction<ResultSet, String> MAPPER = rs -> {
+        final int id = rs.getInt(1);
+        final String name = rs.getString(2);
+        final long age = rs.getLong(3);
+        return id + ":" + name + ":" + (rs.wasNull() ? "null" : Long.toString(age));
+    };
+
+    @Test
+    public void testRecordAndReplay() throws Exception {
+        final ResultSet rs = resultSet(
+            new Object[] {1, "a", 10L},
+            new Object[] {2, null, null}
+        );
+
+        final CachedRows.Recorder<String> recorder = new CachedRows.Recorder<>(MAPPER, 10);
+        final List<String> expected = Arrays.asList(
+            recorder.apply(next(rs)),
+            recorder.apply(next(rs))
+        );
+
+        assertEquals(Arrays.asList("1:a:10", "2:null:null"), expected);
+
+        final List<Object[]> rows = recorder.rows().get();
+        assertEquals(2, rows.size());
+        assertEquals(expected, CachedRows.replay(rows, MAPPER).collect(toList()));
+    }
+
+    @Test
+    public void testTooManyRowsAreNotRecorded() throws Exception {
+        final ResultSet rs = resultSet(
+            new Object[] {1, "a", 10L},
+            new Object[] {2, "b", 20L}
+        );
+
+        final CachedRows.Recorder<String> recorder = new CachedRows.Recorder<>(MAPPER, 1);
+        recorder.apply(next(rs));
+        assertTrue(recorder.rows().isPresent());
+        recorder.apply(next(rs));
+        assertFalse(recorder.rows().isPresent());
+    }
+
+    @Test
+    public void testColumnLabelsAreNotRecorded() throws Exception {
+        final ResultSet rs = resultSet(new Object[] {1, "a", 10L});
+        final CachedRows.Recorder<String> recorder = new CachedRows.Recorder<>(
+            r -> r.getString("name"), 10
+        );
+        recorder.apply(next(rs));
+        assertFalse(recorder.rows().isPresent());
+    }
+
+    @Test
+    public void testMutableValuesAreCopied() {
+        final Timestamp timestamp = new Timestamp(0);
+        final List<Object[]> rows = Arrays.<Object[]>asList(new Object[] {timestamp});
+        final Timestamp replayed = CachedRows.replay(rows, rs -> rs.getTimestamp(1))
+            .findFirst().get();
+
+        assertEquals(timestamp, replayed);
+        assertNotSame(timestamp, replayed);
+    }
+
+    @Test
+    public void testRecordedValuesAreCopied() throws Exception {
+        final ResultSet rs = resultSet(new Object[] {new byte[] {1, 2, 3}});
+        final CachedRows.Recorder<byte[]> recorder = new CachedRows.Recorder<>(
+            r -> r.getBytes(1), 10
+        );
+
+        final byte[] mapped = recorder.apply(next(rs));
+        mapped[0] = 42;
+
+        final byte[] replayed = CachedRows.replay(recorder.rows().get(), r -> r.getBytes(1))
+            .findFirst().get();
+        assertArrayEquals(new byte[] {1, 2, 3}, replayed);
+    }
+
+    @Test
+    public void testUnsupportedMethod() {
+        final List<Object[]> rows = Arrays.<Object[]>asList(new Object[] {1});
+        try {
+            CachedRows.replay(rows, ResultSet::getRow).findFirst();
+            fail("Expected an exception");
+        } catch (RuntimeException ex) {
+            assertTrue(ex.getCause() instanceof SQLFeatureNotSupportedException);
+        }
+    }
+
+    @Test
+    public void testOnExhausted() {
+        final AtomicBoolean exhausted = new AtomicBoolean();
+        final AtomicBoolean split = new AtomicBoolean();
+
+        CachedRows.onExhausted(Stream.of(1, 2, 3), () -> exhausted.set(true), () -> split.set(true))
+            .findFirst();
+        assertFalse(exhausted.get());
+
+        assertEquals(3, CachedRows.onExhausted(Stream.of(1, 2, 3), () -> exhausted.set(true), () -> split.set(true))
+            .collect(Collectors.toList()).size());
+        assertTrue(exhausted.get());
+        assertFalse(split.get());
+    }
+
+    private static ResultSet next(ResultSet rs) throws Exception {
+        assertTrue(rs.next());
+        return rs;
+    }
+
+    private static ResultSet resultSet(Object[]... rows) {
+        final ResultSetMetaData metaData = (ResultSetMetaData) Proxy.newProxyInstance(
+            CachedRowsTest.class.getClassLoader(),
+            new Class<?>[] {ResultSetMetaData.class},
+            (proxy, method, args) -> rows[0].length
+        );
+
+        final int[] row = {-1};
+        final boolean[] wasNull = {false};
+        return (ResultSet) Proxy.newProxyInstance(
+            CachedRowsTest.class.getClassLoader(),
+            new Class<?>[] {ResultSet.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "next"        : return ++row[0] < rows.length;
+                    case "getMetaData" : return metaData;
+                    case "wasNull"     : return wasNull[0];
+                    case "getString"   :
+                        if (args[0] instanceof String) {
+                            wasNull[0] = false;
+                            return rows[row[0]][1];
+                        }
+                        return column(rows[row[0]], (Integer) args[0], method.getReturnType(), wasNull);
+                    case "getInt"      :
+                    case "getLong"     :
+                    case "getBytes"    :
+                        return column(rows[row[0]], (Integer) args[0], method.getReturnType(), wasNull);
+                    default : throw new UnsupportedOperationException(method.getName());
+                }
+            }
+        );
+    }
+
+    private static Object column(Object[] row, int index, Class<?> type, boolean[] wasNull) {
+        final Object value = row[index - 1];
+        wasNull[0] = value == null;
+        if (value == null) {
+            return type == int.class ? (Object) 0
+                : type == long.class ? (Object) 0L : null;
+        }
+        return value;
+    }
+}
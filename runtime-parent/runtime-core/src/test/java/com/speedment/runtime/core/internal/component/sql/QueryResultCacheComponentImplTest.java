@@ -0,0 +1,157 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.component.sql;
+
+import com.speedment.runtime.config.identifier.TableIdentifier;
+import com.speedment.runtime.core.internal.component.transaction.TransactionComponentImpl;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @since 3.1.5
+ */
+public class QueryResultCacheComponentImplTest {
+
+    private static final TableIdentifier<?> HARE = TableIdentifier.of("db", "schema", "hare");
+    private static final TableIdentifier<?> CARROT = TableIdentifier.of("db", "schema", "carrot");
+    private static final String SQL = "SELECT `id` FROM `hare` WHERE (`id` > ?)";
+
+    private QueryResultCacheComponentImpl cache;
+
+    @Before
+    public void setUp() {
+        cache = new QueryResultCacheComponentImpl();
+        cache.enable(HARE);
+        cache.enable(CARROT);
+    }
+
+    @Test
+    public void testDisabledTable() {
+        cache.disable(HARE);
+        cache.put(HARE, SQL, singletonList(1), cache.getVersion(HARE), rows(3));
+        assertFalse(cache.get(HARE, SQL, singletonList(1)).isPresent());
+        assertEquals(0, cache.getMisses());
+    }
+
+    @Test
+    public void testHitAndMiss() {
+        assertFalse(cache.get(HARE, SQL, singletonList(1)).isPresent());
+        cache.put(HARE, SQL, singletonList(1), cache.getVersion(HARE), rows(3));
+
+        assertEquals(3, cache.get(HARE, SQL, singletonList(1)).get().size());
+        assertFalse(cache.get(HARE, SQL, singletonList(2)).isPresent());
+        assertFalse(cache.get(CARROT, SQL, singletonList(1)).isPresent());
+
+        assertEquals(1, cache.getHits());
+        assertEquals(3, cache.getMisses());
+    }
+
+    @Test
+    public void testInvalidatedWhenTransactionCompletes() {
+        final TransactionComponentImpl transactions = new TransactionComponentImpl();
+        cache.invalidateOnTransactionCompletion(transactions);
+        final Object txObject = new Object();
+
+        // A write within the transaction has invalidated the table when it
+        // was executed, after which another thread caches the old rows
+        transactions.addModifiedTable(txObject, HARE);
+        cache.put(HARE, SQL, singletonList(1), cache.getVersion(HARE), rows(3));
+        cache.put(CARROT, SQL, singletonList(1), cache.getVersion(CARROT), rows(3));
+        assertTrue(cache.get(HARE, SQL, singletonList(1)).isPresent());
+
+        transactions.complete(txObject);
+        assertFalse(cache.get(HARE, SQL, singletonList(1)).isPresent());
+        assertTrue(cache.get(CARROT, SQL, singletonList(1)).isPresent());
+
+        // The modified tables are forgotten once the transaction completes
+        cache.put(HARE, SQL, singletonList(1), cache.getVersion(HARE), rows(3));
+        transactions.complete(txObject);
+        assertTrue(cache.get(HARE, SQL, singletonList(1)).isPresent());
+    }
+
+    @Test
+    public void testInvalidate() {
+        cache.put(HARE, SQL, singletonList(1), cache.getVersion(HARE), rows(3));
+        cache.put(CARROT, SQL, singletonList(1), cache.getVersion(CARROT), rows(3));
+        cache.invalidate(HARE);
+
+        assertFalse(cache.get(HARE, SQL, singletonList(1)).isPresent());
+        assertTrue(cache.get(CARROT, SQL, singletonList(1)).isPresent());
+        assertEquals(0, cache.getEvictions());
+    }
+
+    @Test
+    public void testStaleVersionIsNotCached() {
+        final long version = cache.getVersion(HARE);
+        cache.invalidate(HARE);
+        cache.put(HARE, SQL, singletonList(1), version, rows(3));
+        assertFalse(cache.get(HARE, SQL, singletonList(1)).isPresent());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() throws Exception {
+        setField("maxValues", 10);
+
+        cache.put(HARE, SQL, singletonList(1), cache.getVersion(HARE), rows(4));
+        cache.put(HARE, SQL, singletonList(2), cache.getVersion(HARE), rows(4));
+        assertTrue(cache.get(HARE, SQL, singletonList(1)).isPresent());
+
+        cache.put(HARE, SQL, singletonList(3), cache.getVersion(HARE), rows(4));
+        assertTrue(cache.get(HARE, SQL, singletonList(1)).isPresent());
+        assertFalse(cache.get(HARE, SQL, singletonList(2)).isPresent());
+        assertTrue(cache.get(HARE, SQL, singletonList(3)).isPresent());
+        assertEquals(1, cache.getEvictions());
+
+        cache.put(HARE, SQL, singletonList(4), cache.getVersion(HARE), rows(11));
+        assertFalse(cache.get(HARE, SQL, singletonList(4)).isPresent());
+    }
+
+    @Test
+    public void testExpiredResultIsEvicted() throws Exception {
+        setField("timeToLive", -1L);
+        cache.put(HARE, SQL, singletonList(1), cache.getVersion(HARE), rows(1));
+        assertFalse(cache.get(HARE, SQL, singletonList(1)).isPresent());
+        assertEquals(1, cache.getEvictions());
+    }
+
+    @Test
+    public void testValuesAreCopied() {
+        final List<Object> values = Arrays.asList(1, 2);
+        cache.put(HARE, SQL, values, cache.getVersion(HARE), rows(1));
+        values.set(0, 3);
+        assertTrue(cache.get(HARE, SQL, Arrays.asList(1, 2)).isPresent());
+        assertFalse(cache.get(HARE, SQL, values).isPresent());
+    }
+
+    private static List<Object[]> rows(int count) {
+        return Collections.nCopies(count, new Object[] {1});
+    }
+
+    private void setField(String name, Object value) throws Exception {
+        final java.lang.reflect.Field field = QueryResultCacheComponentImpl.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(cache, value);
+    }
+}
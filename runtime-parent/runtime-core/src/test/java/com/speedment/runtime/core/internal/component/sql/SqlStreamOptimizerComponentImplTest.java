@@ -0,0 +1,208 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.component.sql;
+
+import com.speedment.runtime.core.component.sql.Metrics;
+import com.speedment.runtime.core.component.sql.SqlStreamOptimizer;
+import com.speedment.runtime.core.component.sql.SqlStreamOptimizerInfo;
+import com.speedment.runtime.core.component.statistics.ColumnStatistics;
+import com.speedment.runtime.core.component.statistics.TableStatistics;
+import com.speedment.runtime.core.db.AsynchronousQueryResult;
+import com.speedment.runtime.core.db.DbmsType;
+import com.speedment.runtime.core.internal.component.sql.optimizer.FilterSortedSkipOptimizer;
+import com.speedment.runtime.core.internal.stream.builder.action.reference.FilterAction;
+import com.speedment.runtime.core.internal.stream.builder.action.reference.LimitAction;
+import com.speedment.runtime.core.internal.stream.builder.pipeline.PipelineImpl;
+import com.speedment.runtime.core.stream.Pipeline;
+import com.speedment.runtime.test_support.MockDbmsType;
+import com.speedment.runtime.test_support.MockEntity;
+import com.speedment.runtime.test_support.MockEntityUtil;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.function.Predicate;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * @since 3.1.5
+ */
+public class SqlStreamOptimizerComponentImplTest {
+
+    private static final DbmsType DBMS_TYPE = new MockDbmsType();
+
+    private static final TableStatistics STATISTICS = TableStatistics.of(1000, asList(
+        ColumnStatistics.of("id", OptionalLong.of(100), OptionalDouble.of(0), 0, 100)
+    ));
+
+    private SqlStreamOptimizerComponentImpl instance;
+    private GreedyOptimizer greedy;
+
+    @Before
+    public void setUp() {
+        instance = new SqlStreamOptimizerComponentImpl();
+        greedy = new GreedyOptimizer();
+        instance.install(greedy);
+    }
+
+    @Test
+    public void testIsBetter() {
+        final Metrics more = Metrics.of(3, 1, 1, 0, 1);
+        final Metrics fewer = Metrics.of(1, 1, 0, 0, 0);
+        assertTrue(SqlStreamOptimizerComponentImpl.isBetter(more, fewer));
+        assertFalse(SqlStreamOptimizerComponentImpl.isBetter(
+            more.withEstimates(100, 0, 0), fewer.withEstimates(10, 0, 0)
+        ));
+        assertTrue(SqlStreamOptimizerComponentImpl.isBetter(
+            more.withEstimates(10, 0, 0), fewer.withEstimates(10, 5, 0)
+        ));
+        assertFalse(SqlStreamOptimizerComponentImpl.isBetter(
+            more.withEstimates(10, 0, 20), fewer.withEstimates(10, 5, 0)
+        ));
+    }
+
+    @Test
+    public void testSelectsOnReductionsWithoutStatistics() {
+        assertSame(greedy, instance.get(pipeline(), info(Optional.empty())));
+    }
+
+    @Test
+    public void testSelectsOnCostWithStatistics() {
+        final SqlStreamOptimizer<MockEntity> selected = instance.get(pipeline(), info(Optional.of(STATISTICS)));
+        assertEquals(FilterSortedSkipOptimizer.class, selected.getClass());
+
+        // A selection made on cost is not reused without statistics
+        assertSame(greedy, instance.get(pipeline(), info(Optional.empty())));
+    }
+
+    @Test
+    public void testSelectionOnCostDependsOnOperands() {
+        final SqlStreamOptimizer<MockEntity> selective
+            = instance.get(pipeline(MockEntity.ID.greaterThan(50)), info(Optional.of(STATISTICS)));
+        assertNotSame(greedy, selective);
+
+        // Every row matches, so no plan transfers fewer rows than the greedy
+        // one, even though the pipeline has the same shape as above
+        final SqlStreamOptimizer<MockEntity> unselective
+            = instance.get(pipeline(MockEntity.ID.greaterThan(-1)), info(Optional.of(STATISTICS)));
+        assertSame(greedy, unselective);
+    }
+
+    @Test
+    public void testDefaultOptimizersDoNotEstimateCosts() {
+        final SqlStreamOptimizerComponentImpl defaults = new SqlStreamOptimizerComponentImpl();
+        final TableStatistics statistics = mock(TableStatistics.class);
+
+        final SqlStreamOptimizer<MockEntity> first = defaults.get(pipeline(), info(Optional.of(statistics)));
+        final SqlStreamOptimizer<MockEntity> second = defaults.get(pipeline(), info(Optional.of(statistics)));
+        assertEquals(FilterSortedSkipOptimizer.class, first.getClass());
+        assertSame(first, second);
+        verifyZeroInteractions(statistics);
+    }
+
+    @Test
+    public void testOptimizerWithoutEstimatesDoesNotEstimateCosts() {
+        final CountingOptimizer counting = new CountingOptimizer();
+        final SqlStreamOptimizerComponentImpl component = new SqlStreamOptimizerComponentImpl();
+        component.install(counting);
+        final TableStatistics statistics = mock(TableStatistics.class);
+
+        assertSame(counting, component.get(pipeline(), info(Optional.of(statistics))));
+        assertSame(counting, component.get(pipeline(), info(Optional.of(statistics))));
+        assertEquals(1, counting.evaluations);
+        verifyZeroInteractions(statistics);
+    }
+
+    private static Pipeline pipeline(Predicate<MockEntity> predicate) {
+        final PipelineImpl<?> pipeline = new PipelineImpl<>(() -> MockEntityUtil.stream(2));
+        pipeline.add(new FilterAction<>(predicate));
+        return pipeline;
+    }
+
+    private static Pipeline pipeline() {
+        final PipelineImpl<?> pipeline = new PipelineImpl<>(() -> MockEntityUtil.stream(2));
+        pipeline.add(new FilterAction<>(MockEntity.ID.equal(1)));
+        pipeline.add(new LimitAction<>(5));
+        return pipeline;
+    }
+
+    private static SqlStreamOptimizerInfo<MockEntity> info(Optional<TableStatistics> statistics) {
+        return SqlStreamOptimizerInfo.of(
+            DBMS_TYPE,
+            "SELECT id, name from mock_entity",
+            "SELECT count(*) from mock_entity",
+            (sql, l) -> 1L,
+            f -> f.identifier().getColumnId(),
+            f -> Object.class,
+            () -> statistics
+        );
+    }
+
+    /**
+     * An optimizer without estimates that counts how many times its metrics
+     * are evaluated.
+     */
+    private static final class CountingOptimizer implements SqlStreamOptimizer<MockEntity> {
+
+        private int evaluations;
+
+        @Override
+        public <P extends Pipeline> Metrics metrics(P initialPipeline, DbmsType dbmsType) {
+            evaluations++;
+            return Metrics.of(10, 0, 0, 0, 0);
+        }
+
+        @Override
+        public <P extends Pipeline> P optimize(P initialPipeline, SqlStreamOptimizerInfo<MockEntity> info, AsynchronousQueryResult<MockEntity> query) {
+            return initialPipeline;
+        }
+    }
+
+    /**
+     * An optimizer that claims to reduce many actions, but whose plan
+     * transfers the whole table.
+     */
+    private static final class GreedyOptimizer implements SqlStreamOptimizer<MockEntity> {
+
+        @Override
+        public <P extends Pipeline> Metrics metrics(P initialPipeline, DbmsType dbmsType) {
+            return Metrics.of(10, 0, 0, 0, 0);
+        }
+
+        @Override
+        public <P extends Pipeline> Metrics metrics(P initialPipeline, SqlStreamOptimizerInfo<MockEntity> info) {
+            final Metrics metrics = metrics(initialPipeline, info.getDbmsType());
+            return info.getTableStatistics()
+                .map(s -> metrics.withEstimates(s.getRowCount(), 0, 0))
+                .orElse(metrics);
+        }
+
+        @Override
+        public <P extends Pipeline> P optimize(P initialPipeline, SqlStreamOptimizerInfo<MockEntity> info, AsynchronousQueryResult<MockEntity> query) {
+            return initialPipeline;
+        }
+    }
+}
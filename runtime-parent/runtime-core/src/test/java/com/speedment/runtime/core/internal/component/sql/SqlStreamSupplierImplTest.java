@@ -0,0 +1,406 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.component.sql;
+
+import com.speedment.runtime.config.Column;
+import com.speedment.runtime.config.Dbms;
+import com.speedment.runtime.config.Project;
+import com.speedment.runtime.config.Schema;
+import com.speedment.runtime.config.Table;
+import com.speedment.runtime.config.identifier.TableIdentifier;
+import com.speedment.runtime.config.internal.ProjectImpl;
+import com.speedment.runtime.core.component.DbmsHandlerComponent;
+import com.speedment.runtime.core.component.ManagerComponent;
+import com.speedment.runtime.core.component.ProjectComponent;
+import com.speedment.runtime.core.component.sql.QueryResultCacheComponent;
+import com.speedment.runtime.core.db.AsynchronousQueryResult;
+import com.speedment.runtime.core.db.DatabaseNamingConvention;
+import com.speedment.runtime.core.db.DbmsOperationHandler;
+import com.speedment.runtime.core.db.DbmsType;
+import com.speedment.runtime.core.db.SqlFunction;
+import com.speedment.runtime.core.internal.component.sql.override.SqlStreamTerminatorComponentImpl;
+import com.speedment.runtime.core.internal.stream.StreamUtil;
+import com.speedment.runtime.core.manager.Manager;
+import com.speedment.runtime.core.stream.parallel.ParallelStrategy;
+import com.speedment.runtime.core.manager.PrimitiveColumns;
+import com.speedment.runtime.field.IntField;
+import com.speedment.runtime.test_support.MockEntity;
+import com.speedment.runtime.test_support.MockSpeedmentPredicateView;
+import com.speedment.runtime.typemapper.TypeMapper;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ *
+ * @since 3.1.5
+ */
+public class SqlStreamSupplierImplTest {
+
+    private static final TableIdentifier<MockEntity> TABLE =
+        MockEntity.ID.identifier().asTableIdentifier();
+
+    private static final Object[][] ROWS = {
+        {1, "Harry"},
+        {2, "Henrietta"},
+        {3, "Hoppy"}
+    };
+
+    private ProjectComponent projectComponent;
+    private DbmsHandlerComponent dbmsHandlerComponent;
+    private ManagerComponent managerComponent;
+    private List<ParallelStrategy> strategies;
+    private List<String> sqls;
+    private List<List<?>> values;
+    private AtomicInteger reusingMappers;
+    private SqlStreamSupplierImpl<MockEntity> supplier;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        final Project project = new ProjectImpl(new HashMap<>());
+        final Dbms dbms = project.mutator().addNewDbms();
+        dbms.mutator().setName(TABLE.getDbmsId());
+        dbms.mutator().setTypeName("Mock");
+        final Schema schema = dbms.mutator().addNewSchema();
+        schema.mutator().setName(TABLE.getSchemaId());
+        final Table table = schema.mutator().addNewTable();
+        table.mutator().setName(TABLE.getTableId());
+        addColumn(table, MockEntity.ID.identifier().getColumnId(), Integer.class);
+        addColumn(table, MockEntity.NAME.identifier().getColumnId(), String.class);
+
+        projectComponent = mock(ProjectComponent.class);
+        when(projectComponent.getProject()).thenReturn(project);
+
+        final DatabaseNamingConvention naming = mock(DatabaseNamingConvention.class);
+        when(naming.encloseField(anyString())).thenAnswer(i -> i.getArgument(0));
+        when(naming.fullNameOf(any(Table.class))).thenReturn(TABLE.getTableId());
+
+        strategies = new ArrayList<>();
+        sqls       = new ArrayList<>();
+        values     = new ArrayList<>();
+        final DbmsOperationHandler operationHandler = mock(DbmsOperationHandler.class);
+        when(operationHandler.executeQueryAsync(any(), anyString(), anyList(), any(), any()))
+            .thenAnswer(i -> {
+                sqls.add(i.getArgument(1));
+                values.add(new ArrayList<>(i.getArgument(2)));
+                strategies.add(i.getArgument(4));
+                return new StubQueryResult<>(
+                    i.getArgument(1), i.getArgument(3), i.getArgument(4)
+                );
+            });
+
+        final DbmsType dbmsType = mock(DbmsType.class);
+        when(dbmsType.getDatabaseNamingConvention()).thenReturn(naming);
+        when(dbmsType.getOperationHandler()).thenReturn(operationHandler);
+        when(dbmsType.getFieldPredicateView()).thenReturn(new MockSpeedmentPredicateView());
+
+        dbmsHandlerComponent = mock(DbmsHandlerComponent.class);
+        when(dbmsHandlerComponent.findByName("Mock")).thenReturn(Optional.of(dbmsType));
+
+        final Manager<MockEntity> manager = mock(Manager.class);
+        when(manager.getTableIdentifier()).thenReturn(TABLE);
+        when(manager.fields()).thenAnswer(i -> Stream.of(MockEntity.ID, MockEntity.NAME));
+
+        managerComponent = mock(ManagerComponent.class);
+        when(managerComponent.stream()).thenAnswer(i -> Stream.of(manager));
+
+        reusingMappers = new AtomicInteger();
+        supplier = newSupplier(mock(QueryResultCacheComponent.class), false);
+    }
+
+    private SqlStreamSupplierImpl<MockEntity> newSupplier(
+            QueryResultCacheComponent queryResultCacheComponent,
+            boolean allowIteratorAndSpliterator) {
+
+        return new SqlStreamSupplierImpl<>(
+            TABLE,
+            rs -> new MockEntity(rs.getInt(1)).setName(rs.getString(2)),
+            () -> {
+                reusingMappers.incrementAndGet();
+                final MockEntity entity = new MockEntity(0);
+                return rs -> entity.setId(rs.getInt(1)).setName(rs.getString(2));
+            },
+            projectComponent,
+            dbmsHandlerComponent,
+            managerComponent,
+            new SqlStreamOptimizerComponentImpl(),
+            new SqlStreamTerminatorComponentImpl(),
+            queryResultCacheComponent,
+            Optional::empty,
+            allowIteratorAndSpliterator,
+            10_000
+        );
+    }
+
+    @Test
+    public void testReusedEntityIsRefilledForEachRow() {
+        final List<String> seen = new ArrayList<>();
+        final List<MockEntity> entities;
+        try (final Stream<MockEntity> stream = supplier.streamWithReusedEntity()) {
+            entities = stream
+                .peek(e -> seen.add(e.getId() + ":" + e.getName()))
+                .collect(toList());
+        }
+
+        assertEquals(Arrays.asList("1:Harry", "2:Henrietta", "3:Hoppy"), seen);
+        assertEquals(ROWS.length, entities.size());
+        assertTrue(entities.stream().allMatch(e -> e == entities.get(0)));
+        assertEquals(1, reusingMappers.get());
+
+        // Every stream gets a mapper, and thereby an entity, of its own
+        final MockEntity other;
+        try (final Stream<MockEntity> stream = supplier.streamWithReusedEntity()) {
+            other = stream.findFirst().get();
+        }
+        assertEquals(2, reusingMappers.get());
+        assertNotSame(entities.get(0), other);
+    }
+
+    @Test
+    public void testReusedEntityStreamIsNeverSplit() {
+        final List<String> seen = new ArrayList<>();
+        try (final Stream<MockEntity> stream = supplier.streamWithReusedEntity()) {
+            stream.parallel().forEach(e -> seen.add(e.getId() + ":" + e.getName()));
+        }
+        assertEquals(Arrays.asList("1:Harry", "2:Henrietta", "3:Hoppy"), seen);
+
+        assertEquals(1, strategies.size());
+        final Iterator<Integer> iterator = Arrays.asList(1, 2, 3, 4, 5).iterator();
+        final Spliterator<Integer> spliterator =
+            strategies.get(0).spliteratorUnknownSize(iterator, Spliterator.ORDERED);
+        assertNull(spliterator.trySplit());
+    }
+
+    @Test
+    public void testCachedReusedEntityStreamIsNeverSplit() {
+        final QueryResultCacheComponent cache = mock(QueryResultCacheComponent.class);
+        when(cache.isEnabled(TABLE)).thenReturn(true);
+        when(cache.get(any(), anyString(), anyList()))
+            .thenReturn(Optional.of(Arrays.asList(ROWS)));
+
+        final SqlStreamSupplierImpl<MockEntity> cached = newSupplier(cache, true);
+
+        final List<String> seen = new ArrayList<>();
+        try (final Stream<MockEntity> stream = cached.streamWithReusedEntity()) {
+            stream.parallel().forEach(e -> seen.add(e.getId() + ":" + e.getName()));
+        }
+        assertEquals(Arrays.asList("1:Harry", "2:Henrietta", "3:Hoppy"), seen);
+
+        try (final Stream<MockEntity> stream = cached.streamWithReusedEntity()) {
+            assertNull(stream.parallel().spliterator().trySplit());
+        }
+
+        // Streams that create an entity per row may still be split
+        try (final Stream<MockEntity> stream = cached.stream(ParallelStrategy.computeIntensityDefault())) {
+            assertNotNull(stream.parallel().spliterator().trySplit());
+        }
+    }
+
+    @Test
+    public void testRegularStreamCreatesEntityPerRow() {
+        final List<MockEntity> entities;
+        try (final Stream<MockEntity> stream = supplier.stream(ParallelStrategy.computeIntensityDefault())) {
+            entities = stream.collect(toList());
+        }
+
+        assertEquals(ROWS.length, entities.stream().distinct().count());
+        assertEquals(0, reusingMappers.get());
+    }
+
+    @Test
+    public void testColumnsAreSelectedInSql() {
+        final PrimitiveColumns<MockEntity> columns = supplier.columns(
+            singletonList(MockEntity.ID),
+            singletonList(MockEntity.ID.greaterThan(1))
+        );
+
+        assertEquals(singletonList("SELECT id FROM mock_entity WHERE (id > ?)"), sqls);
+        assertEquals(singletonList(singletonList(1)), values);
+        assertNull(strategies.get(0)
+            .spliteratorUnknownSize(Arrays.asList(1, 2).iterator(), Spliterator.ORDERED)
+            .trySplit());
+
+        // The stubbed database returns every row regardless of the WHERE clause
+        assertArrayEquals(new int[] {1, 2, 3}, columns.getInts(MockEntity.ID));
+        assertEquals(0, reusingMappers.get());
+    }
+
+    @Test
+    public void testColumnsWithoutPredicatesHaveNoWhere() {
+        final PrimitiveColumns<MockEntity> columns = supplier.columns(
+            singletonList(MockEntity.ID), emptyList()
+        );
+
+        assertEquals(singletonList("SELECT id FROM mock_entity"), sqls);
+        assertEquals(singletonList(emptyList()), values);
+        assertArrayEquals(new int[] {1, 2, 3}, columns.getInts(MockEntity.ID));
+    }
+
+    @Test
+    public void testColumnsWithCustomTypeMapperReadEntities() {
+        final IntField<MockEntity, Integer> negatedId = IntField.create(
+            MockEntity.ID.identifier(),
+            MockEntity::getId,
+            MockEntity::setId,
+            new NegatingTypeMapper(),
+            true
+        );
+
+        final PrimitiveColumns<MockEntity> columns = supplier.columns(
+            singletonList(negatedId), emptyList()
+        );
+
+        assertEquals(singletonList("SELECT id,name FROM mock_entity"), sqls);
+        assertArrayEquals(new int[] {1, 2, 3}, columns.getInts(negatedId));
+    }
+
+    @Test
+    public void testColumnsWithNonFieldPredicateReadEntities() {
+        final PrimitiveColumns<MockEntity> columns = supplier.columns(
+            singletonList(MockEntity.ID),
+            singletonList((Predicate<MockEntity>) e -> e.getId() > 1)
+        );
+
+        assertEquals(singletonList("SELECT id,name FROM mock_entity"), sqls);
+        assertEquals(singletonList(emptyList()), values);
+        assertArrayEquals(new int[] {2, 3}, columns.getInts(MockEntity.ID));
+    }
+
+    private static void addColumn(Table table, String name, Class<?> databaseType) {
+        final Column column = table.mutator().addNewColumn();
+        column.mutator().setName(name);
+        column.mutator().setDatabaseType(databaseType);
+    }
+
+    private static ResultSet resultSet() {
+        final int[] row = {-1};
+        return (ResultSet) Proxy.newProxyInstance(
+            SqlStreamSupplierImplTest.class.getClassLoader(),
+            new Class<?>[] {ResultSet.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "next"      : return ++row[0] < ROWS.length;
+                    case "getInt"    :
+                    case "getString" : return ROWS[row[0]][(Integer) args[0] - 1];
+                    case "wasNull"   : return false;
+                    case "close"     : return null;
+                    default : throw new UnsupportedOperationException(method.getName());
+                }
+            }
+        );
+    }
+
+    private static final class NegatingTypeMapper implements TypeMapper<Integer, Integer> {
+
+        @Override
+        public String getLabel() {
+            return "Negated Integer";
+        }
+
+        @Override
+        public Type getJavaType(Column column) {
+            return int.class;
+        }
+
+        @Override
+        public Integer toJavaType(Column column, Class<?> entityType, Integer value) {
+            return value == null ? null : -value;
+        }
+
+        @Override
+        public Integer toDatabaseType(Integer value) {
+            return value == null ? null : -value;
+        }
+    }
+
+    private static final class StubQueryResult<T> implements AsynchronousQueryResult<T> {
+
+        private final ParallelStrategy parallelStrategy;
+        private String sql;
+        private List<?> values;
+        private SqlFunction<ResultSet, T> rsMapper;
+
+        private StubQueryResult(String sql, SqlFunction<ResultSet, T> rsMapper, ParallelStrategy parallelStrategy) {
+            this.sql              = sql;
+            this.values           = new ArrayList<>();
+            this.rsMapper         = rsMapper;
+            this.parallelStrategy = parallelStrategy;
+        }
+
+        @Override
+        public Stream<T> stream() {
+            return StreamUtil.asStream(resultSet(), rsMapper, parallelStrategy);
+        }
+
+        @Override
+        public void close() {}
+
+        @Override
+        public String getSql() {
+            return sql;
+        }
+
+        @Override
+        public void setSql(String sql) {
+            this.sql = sql;
+        }
+
+        @Override
+        public List<?> getValues() {
+            return values;
+        }
+
+        @Override
+        public void setValues(List<?> values) {
+            this.values = values;
+        }
+
+        @Override
+        public SqlFunction<ResultSet, T> getRsMapper() {
+            return rsMapper;
+        }
+
+        @Override
+        public void setRsMapper(SqlFunction<ResultSet, T> rsMapper) {
+            this.rsMapper = rsMapper;
+        }
+    }
+}
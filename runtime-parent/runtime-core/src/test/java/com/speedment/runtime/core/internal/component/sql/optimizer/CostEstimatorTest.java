@@ -0,0 +1,109 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.component.sql.optimizer;
+
+import com.speedment.runtime.core.component.sql.Metrics;
+import com.speedment.runtime.core.component.statistics.ColumnStatistics;
+import com.speedment.runtime.core.component.statistics.TableStatistics;
+import com.speedment.runtime.core.internal.stream.builder.action.reference.FilterAction;
+import com.speedment.runtime.core.internal.stream.builder.action.reference.LimitAction;
+import com.speedment.runtime.core.internal.stream.builder.action.reference.SortedComparatorAction;
+import com.speedment.runtime.core.internal.stream.builder.pipeline.PipelineImpl;
+import com.speedment.runtime.core.stream.Pipeline;
+import com.speedment.runtime.core.stream.action.Action;
+import com.speedment.runtime.test_support.MockEntity;
+import com.speedment.runtime.test_support.MockEntityUtil;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.stream.Stream;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ *
+ * @since 3.1.5
+ */
+public class CostEstimatorTest {
+
+    private static final TableStatistics STATISTICS = TableStatistics.of(1000, asList(
+        ColumnStatistics.of("id", OptionalLong.of(100), OptionalDouble.of(0), 0, 100)
+    ));
+
+    @Test
+    public void testSelectivity() {
+        assertEquals(0.01, CostEstimator.selectivity(MockEntity.ID.equal(1), STATISTICS), 1e-9);
+        assertEquals(0.99, CostEstimator.selectivity(MockEntity.ID.notEqual(1), STATISTICS), 1e-9);
+        assertEquals(0.03, CostEstimator.selectivity(MockEntity.ID.in(1, 2, 3), STATISTICS), 1e-9);
+        assertEquals(0.25, CostEstimator.selectivity(MockEntity.ID.greaterThan(75), STATISTICS), 1e-9);
+        assertEquals(0.75, CostEstimator.selectivity(MockEntity.ID.lessThan(75), STATISTICS), 1e-9);
+        assertEquals(0.5, CostEstimator.selectivity(MockEntity.ID.between(20, 70), STATISTICS), 1e-9);
+
+        // Without statistics for the column, fixed guesses are used
+        assertEquals(0.1, CostEstimator.selectivity(MockEntity.NAME.equal("a"), STATISTICS), 1e-9);
+        assertEquals(1d / 3, CostEstimator.selectivity(MockEntity.NAME.greaterThan("a"), STATISTICS), 1e-9);
+        assertEquals(0.9, CostEstimator.selectivity(MockEntity.NAME.notStartsWith("a"), STATISTICS), 1e-9);
+
+        assertEquals(0.001, CostEstimator.selectivity(
+            MockEntity.ID.equal(1).and(MockEntity.NAME.equal("a")), STATISTICS), 1e-9);
+        assertEquals(0.109, CostEstimator.selectivity(
+            MockEntity.ID.equal(1).or(MockEntity.NAME.equal("a")), STATISTICS), 1e-9);
+    }
+
+    @Test
+    public void testEstimate() {
+        final FilterAction<MockEntity> filter = new FilterAction<>(MockEntity.ID.equal(1));
+        final SortedComparatorAction<MockEntity> sorted = new SortedComparatorAction<>(MockEntity.NAME.comparator());
+        final LimitAction<MockEntity> limit = new LimitAction<>(5);
+        final Pipeline pipeline = pipelineOf(filter, sorted, limit);
+
+        final Metrics all = CostEstimator.estimate(Metrics.empty(), pipeline, pushedDown(), STATISTICS);
+        assertEquals(1000L, all.getEstimatedRowsTransferred().getAsLong());
+        assertEquals(1000L + 10 + Math.round(10 * Math.log(10) / Math.log(2)) + 10,
+            all.getEstimatedJvmWork().getAsLong());
+        assertEquals(0L, all.getEstimatedDatabaseWork().getAsLong());
+
+        final Metrics filtered = CostEstimator.estimate(Metrics.empty(), pipeline, pushedDown(filter), STATISTICS);
+        assertEquals(10L, filtered.getEstimatedRowsTransferred().getAsLong());
+
+        final Metrics none = CostEstimator.estimate(Metrics.empty(), pipeline, pushedDown(filter, sorted, limit), STATISTICS);
+        assertEquals(5L, none.getEstimatedRowsTransferred().getAsLong());
+        assertEquals(0L, none.getEstimatedJvmWork().getAsLong());
+
+        // The sort is moved to the database rather than avoided
+        assertEquals(Math.round(10 * Math.log(10) / Math.log(2)),
+            none.getEstimatedDatabaseWork().getAsLong());
+    }
+
+    private static Set<Action<?, ?>> pushedDown(Action<?, ?>... actions) {
+        final Set<Action<?, ?>> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.addAll(asList(actions));
+        return set;
+    }
+
+    private static Pipeline pipelineOf(Action<?, ?>... actions) {
+        return Stream.of(actions)
+            .collect(
+                () -> new PipelineImpl<>(() -> MockEntityUtil.stream(2)),
+                PipelineImpl::addLast,
+                (a, b) -> b.stream().forEachOrdered(a::add)
+            );
+    }
+}
@@ -0,0 +1,251 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.component.sql.optimizer;
+
+import com.speedment.runtime.core.component.sql.SqlStreamOptimizerInfo;
+import com.speedment.runtime.core.db.AsynchronousQueryResult;
+import com.speedment.runtime.core.db.DbmsType;
+import com.speedment.runtime.core.internal.db.AsynchronousQueryResultImpl;
+import com.speedment.runtime.core.internal.stream.builder.action.reference.FilterAction;
+import com.speedment.runtime.core.internal.stream.builder.action.reference.LimitAction;
+import com.speedment.runtime.core.internal.stream.builder.action.reference.PeekAction;
+import com.speedment.runtime.core.internal.stream.builder.action.reference.SkipAction;
+import com.speedment.runtime.core.internal.stream.builder.action.reference.SortedComparatorAction;
+import com.speedment.runtime.core.internal.stream.builder.pipeline.PipelineImpl;
+import com.speedment.runtime.core.stream.Pipeline;
+import com.speedment.runtime.core.stream.action.Action;
+import com.speedment.runtime.core.stream.parallel.ParallelStrategy;
+import com.speedment.runtime.test_support.MockDbmsType;
+import com.speedment.runtime.test_support.MockEntity;
+import com.speedment.runtime.test_support.MockEntityUtil;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.BaseStream;
+import java.util.stream.Stream;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @since 3.1.5
+ */
+public class FilterSortedSkipOptimizer_PlanCacheTest {
+
+    private static final DbmsType DBMS_TYPE = new MockDbmsType();
+    private static final Supplier<BaseStream<?, ?>> STREAM_SUPPLIER = () -> MockEntityUtil.stream(2);
+
+    private FilterSortedSkipOptimizer<MockEntity> instance;
+    private SqlStreamOptimizerInfo<MockEntity> sqlStreamOptimizerInfo;
+    private AtomicInteger renderedColumns;
+
+    @Before
+    public void setUp() {
+        instance = new FilterSortedSkipOptimizer<>();
+        renderedColumns = new AtomicInteger();
+        sqlStreamOptimizerInfo = SqlStreamOptimizerInfo.of(
+            DBMS_TYPE,
+            "SELECT id, name from mock_entity",
+            "SELECT count(*) from mock_entity",
+            (sql, l) -> 1L,
+            f -> {
+                renderedColumns.incrementAndGet();
+                return f.identifier().getColumnId();
+            },
+            f -> Object.class
+        );
+    }
+
+    @Test
+    public void testShapeIgnoresOperands() {
+        assertEquals(
+            PipelineShape.of(pipelineOf(new FilterAction<>(MockEntity.ID.equal(1)), new SkipAction<>(1))),
+            PipelineShape.of(pipelineOf(new FilterAction<>(MockEntity.ID.equal(2)), new SkipAction<>(7)))
+        );
+        assertEquals(
+            PipelineShape.of(pipelineOf(new FilterAction<>(MockEntity.ID.in(1, 2)))),
+            PipelineShape.of(pipelineOf(new FilterAction<>(MockEntity.ID.in(3, 4))))
+        );
+    }
+
+    @Test
+    public void testShapeDependsOnStructure() {
+        final Pipeline equal = pipelineOf(new FilterAction<>(MockEntity.ID.equal(1)));
+        assertNotEquals(PipelineShape.of(equal), PipelineShape.of(pipelineOf(new FilterAction<>(MockEntity.ID.notEqual(1)))));
+        assertNotEquals(PipelineShape.of(equal), PipelineShape.of(pipelineOf(new FilterAction<>(MockEntity.NAME.equal("1")))));
+        assertNotEquals(PipelineShape.of(equal), PipelineShape.of(pipelineOf(new FilterAction<>(MockEntity.ID.equal(1)), new SkipAction<>(1))));
+        assertNotEquals(
+            PipelineShape.of(pipelineOf(new FilterAction<>(MockEntity.ID.in(1, 2)))),
+            PipelineShape.of(pipelineOf(new FilterAction<>(MockEntity.ID.in(1, 2, 3))))
+        );
+        assertNotEquals(
+            PipelineShape.of(pipelineOf(new SortedComparatorAction<>(MockEntity.NAME.comparator()))),
+            PipelineShape.of(pipelineOf(new SortedComparatorAction<>(MockEntity.NAME.comparator().reversed())))
+        );
+    }
+
+    @Test
+    public void testRebindsOperands() {
+        final Result first = optimize(instance,
+            new FilterAction<>(MockEntity.ID.between(1, 10)),
+            new SortedComparatorAction<>(MockEntity.NAME.comparator()),
+            new SkipAction<>(1),
+            new LimitAction<>(5)
+        );
+        final Result second = optimize(instance,
+            new FilterAction<>(MockEntity.ID.between(20, 30)),
+            new SortedComparatorAction<>(MockEntity.NAME.comparator()),
+            new SkipAction<>(2),
+            new LimitAction<>(3)
+        );
+        final Result expected = optimize(new FilterSortedSkipOptimizer<>(),
+            new FilterAction<>(MockEntity.ID.between(20, 30)),
+            new SortedComparatorAction<>(MockEntity.NAME.comparator()),
+            new SkipAction<>(2),
+            new LimitAction<>(3)
+        );
+
+        assertEquals(first.sql, second.sql);
+        assertEquals(expected, second);
+    }
+
+    @Test
+    public void testSameShapeIsServedFromCache() {
+        optimize(instance,
+            new FilterAction<>(MockEntity.ID.equal(1)),
+            new SortedComparatorAction<>(MockEntity.NAME.comparator())
+        );
+        final int rendered = renderedColumns.get();
+        assertTrue(rendered > 0);
+
+        optimize(instance,
+            new FilterAction<>(MockEntity.ID.equal(2)),
+            new SortedComparatorAction<>(MockEntity.NAME.comparator())
+        );
+        assertEquals(rendered, renderedColumns.get());
+
+        // A pipeline of another shape is rendered
+        optimize(instance,
+            new FilterAction<>(MockEntity.ID.notEqual(2)),
+            new SortedComparatorAction<>(MockEntity.NAME.comparator())
+        );
+        assertTrue(renderedColumns.get() > rendered);
+    }
+
+    @Test
+    public void testRebindsCombinedPredicates() {
+        optimize(instance,
+            new FilterAction<>(MockEntity.ID.equal(1).or(MockEntity.NAME.in("a", "b"))),
+            new PeekAction<>(e -> {})
+        );
+        final Result second = optimize(instance,
+            new FilterAction<>(MockEntity.ID.equal(2).or(MockEntity.NAME.in("c", "d"))),
+            new PeekAction<>(e -> {})
+        );
+        final Result expected = optimize(new FilterSortedSkipOptimizer<>(),
+            new FilterAction<>(MockEntity.ID.equal(2).or(MockEntity.NAME.in("c", "d"))),
+            new PeekAction<>(e -> {})
+        );
+
+        assertEquals(expected, second);
+        assertEquals(1, second.remaining.size());
+    }
+
+    @Test
+    public void testOnlyConsumesLeadingActions() {
+        optimize(instance,
+            new SkipAction<>(1),
+            new FilterAction<>(MockEntity.ID.equal(1))
+        );
+        final Result second = optimize(instance,
+            new SkipAction<>(2),
+            new FilterAction<>(MockEntity.ID.equal(2))
+        );
+        final Result expected = optimize(new FilterSortedSkipOptimizer<>(),
+            new SkipAction<>(2),
+            new FilterAction<>(MockEntity.ID.equal(2))
+        );
+
+        assertEquals(expected, second);
+        assertEquals(Arrays.asList(FilterAction.class), second.remaining);
+    }
+
+    private Result optimize(FilterSortedSkipOptimizer<MockEntity> optimizer, Action<?, ?>... actions) {
+        final AsynchronousQueryResult<MockEntity> query = new AsynchronousQueryResultImpl<>(
+            "SELECT id, name from mock_entity",
+            new ArrayList<>(),
+            (rs) -> new MockEntity(1),
+            () -> null,
+            ParallelStrategy.computeIntensityDefault(),
+            (st) -> {
+            },
+            (rs) -> {
+            }
+        );
+        final Pipeline pipeline = optimizer.optimize(pipelineOf(actions), sqlStreamOptimizerInfo, query);
+        return new Result(query.getSql(), query.getValues(), pipeline);
+    }
+
+    private Pipeline pipelineOf(Action<?, ?>... actions) {
+        return Stream.of(actions)
+            .collect(
+                () -> new PipelineImpl<>(STREAM_SUPPLIER),
+                PipelineImpl::addLast,
+                (a, b) -> b.stream().forEachOrdered(a::add)
+            );
+    }
+
+    private static final class Result {
+
+        private final String sql;
+        private final List<?> values;
+        private final List<Class<?>> remaining;
+
+        private Result(String sql, List<?> values, Pipeline pipeline) {
+            this.sql = sql;
+            this.values = new ArrayList<>(values);
+            this.remaining = pipeline.stream().map(Object::getClass).collect(toList());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Result)) {
+                return false;
+            }
+            final Result that = (Result) obj;
+            return sql.equals(that.sql)
+                && values.equals(that.values)
+                && remaining.equals(that.remaining);
+        }
+
+        @Override
+        public int hashCode() {
+            return sql.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Result {sql=%s, values=%s, remaining=%s}", sql, values, remaining);
+        }
+    }
+
+}
@@ -0,0 +1,216 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.component.sql.optimizer;
+
+import com.speedment.runtime.core.component.sql.SqlStreamOptimizerInfo;
+import com.speedment.runtime.core.db.AsynchronousQueryResult;
+import com.speedment.runtime.core.db.DbmsType;
+import com.speedment.runtime.core.internal.db.AsynchronousQueryResultImpl;
+import com.speedment.runtime.core.internal.stream.builder.action.reference.DropWhileAction;
+import com.speedment.runtime.core.internal.stream.builder.action.reference.FilterAction;
+import com.speedment.runtime.core.internal.stream.builder.action.reference.LimitAction;
+import com.speedment.runtime.core.internal.stream.builder.action.reference.SortedComparatorAction;
+import com.speedment.runtime.core.internal.stream.builder.action.reference.TakeWhileAction;
+import com.speedment.runtime.core.internal.stream.builder.pipeline.PipelineImpl;
+import com.speedment.runtime.core.stream.Pipeline;
+import com.speedment.runtime.core.stream.action.Action;
+import com.speedment.runtime.core.stream.parallel.ParallelStrategy;
+import com.speedment.runtime.test_support.MockDbmsType;
+import com.speedment.runtime.test_support.MockEntity;
+import com.speedment.runtime.test_support.MockEntityUtil;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.BaseStream;
+import java.util.stream.Stream;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @since 3.1.5
+ */
+public class FilterSortedSkipOptimizer_WhileTest {
+
+    private static final DbmsType DBMS_TYPE = new MockDbmsType();
+    private static final Supplier<BaseStream<?, ?>> STREAM_SUPPLIER = () -> MockEntityUtil.stream(2);
+
+    private FilterSortedSkipOptimizer<MockEntity> instance;
+    private SqlStreamOptimizerInfo<MockEntity> sqlStreamOptimizerInfo;
+
+    @Before
+    public void setUp() {
+        instance = new FilterSortedSkipOptimizer<>();
+        sqlStreamOptimizerInfo = SqlStreamOptimizerInfo.of(
+            DBMS_TYPE,
+            "SELECT id, name from mock_entity",
+            "SELECT count(*) from mock_entity",
+            (sql, l) -> 1L,
+            f -> f.identifier().getColumnId(),
+            f -> Object.class
+        );
+    }
+
+    @Test
+    public void testTakeWhileOnSortedField() {
+        final Result result = optimize(
+            new FilterAction<>(MockEntity.ID.greaterThan(0)),
+            new SortedComparatorAction<>(MockEntity.NAME.comparator()),
+            new TakeWhileAction<>(MockEntity.NAME.lessThan("m")),
+            new LimitAction<>(10)
+        );
+
+        assertTrue(result.sql, result.sql.contains(" WHERE "));
+        assertTrue(result.sql, result.sql.contains(" AND "));
+        assertTrue(result.sql, result.sql.contains(" ORDER BY "));
+        assertEquals(Arrays.asList(0, "m"), result.values.subList(0, 2));
+        assertEquals(Collections.emptyList(), result.remaining);
+    }
+
+    @Test
+    public void testDropWhileKeepsNulls() {
+        final Result result = optimize(
+            new SortedComparatorAction<>(MockEntity.NAME.comparator()),
+            new DropWhileAction<>(MockEntity.NAME.lessThan("m"))
+        );
+
+        assertTrue(result.sql, result.sql.contains("NOT ("));
+        assertTrue(result.sql, result.sql.contains("name IS NULL"));
+        assertEquals(Arrays.asList("m"), result.values);
+        assertEquals(Collections.emptyList(), result.remaining);
+    }
+
+    @Test
+    public void testDescendingOrder() {
+        final Result result = optimize(
+            new SortedComparatorAction<>(MockEntity.NAME.comparatorNullFieldsFirst().reversed()),
+            new TakeWhileAction<>(MockEntity.NAME.greaterOrEqual("m"))
+        );
+
+        assertEquals(Collections.emptyList(), result.remaining);
+    }
+
+    @Test
+    public void testRejectsWhileThatIsNotAPrefix() {
+        // Wrong direction
+        assertEquals(
+            Arrays.asList(TakeWhileAction.class),
+            optimize(
+                new SortedComparatorAction<>(MockEntity.NAME.comparator()),
+                new TakeWhileAction<>(MockEntity.NAME.greaterThan("m"))
+            ).remaining
+        );
+
+        // Nulls are sorted first
+        assertEquals(
+            Arrays.asList(TakeWhileAction.class),
+            optimize(
+                new SortedComparatorAction<>(MockEntity.NAME.comparatorNullFieldsFirst()),
+                new TakeWhileAction<>(MockEntity.NAME.lessThan("m"))
+            ).remaining
+        );
+
+        // Not sorted on the same field
+        assertEquals(
+            Arrays.asList(DropWhileAction.class),
+            optimize(
+                new SortedComparatorAction<>(MockEntity.ID.comparator()),
+                new DropWhileAction<>(MockEntity.NAME.lessThan("m"))
+            ).remaining
+        );
+
+        // Not sorted at all
+        assertEquals(
+            Arrays.asList(TakeWhileAction.class),
+            optimize(new TakeWhileAction<>(MockEntity.ID.lessThan(1))).remaining
+        );
+
+        // Not a comparison
+        assertEquals(
+            Arrays.asList(TakeWhileAction.class),
+            optimize(
+                new SortedComparatorAction<>(MockEntity.ID.comparator()),
+                new TakeWhileAction<>(MockEntity.ID.notEqual(1))
+            ).remaining
+        );
+    }
+
+    @Test
+    public void testRebindsOperands() {
+        optimize(
+            new SortedComparatorAction<>(MockEntity.ID.comparator()),
+            new TakeWhileAction<>(MockEntity.ID.lessThan(5))
+        );
+        final Result second = optimize(
+            new SortedComparatorAction<>(MockEntity.ID.comparator()),
+            new TakeWhileAction<>(MockEntity.ID.lessThan(7))
+        );
+
+        instance = new FilterSortedSkipOptimizer<>();
+        final Result expected = optimize(
+            new SortedComparatorAction<>(MockEntity.ID.comparator()),
+            new TakeWhileAction<>(MockEntity.ID.lessThan(7))
+        );
+
+        assertEquals(expected.sql, second.sql);
+        assertEquals(expected.values, second.values);
+        assertEquals(Arrays.asList(7), second.values);
+    }
+
+    private Result optimize(Action<?, ?>... actions) {
+        final AsynchronousQueryResult<MockEntity> query = new AsynchronousQueryResultImpl<>(
+            "SELECT id, name from mock_entity",
+            new ArrayList<>(),
+            (rs) -> new MockEntity(1),
+            () -> null,
+            ParallelStrategy.computeIntensityDefault(),
+            (st) -> {
+            },
+            (rs) -> {
+            }
+        );
+        final Pipeline pipeline = instance.optimize(pipelineOf(actions), sqlStreamOptimizerInfo, query);
+        return new Result(query.getSql(), query.getValues(), pipeline);
+    }
+
+    private Pipeline pipelineOf(Action<?, ?>... actions) {
+        return Stream.of(actions)
+            .collect(
+                () -> new PipelineImpl<>(STREAM_SUPPLIER),
+                PipelineImpl::addLast,
+                (a, b) -> b.stream().forEachOrdered(a::add)
+            );
+    }
+
+    private static final class Result {
+
+        private final String sql;
+        private final List<?> values;
+        private final List<Class<?>> remaining;
+
+        private Result(String sql, List<?> values, Pipeline pipeline) {
+            this.sql = sql;
+            this.values = new ArrayList<>(values);
+            this.remaining = pipeline.stream().map(Object::getClass).collect(toList());
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.component.statistics;
+
+import com.speedment.runtime.config.Column;
+import com.speedment.runtime.core.component.statistics.ColumnStatistics;
+import com.speedment.runtime.core.component.statistics.TableStatistics;
+import com.speedment.runtime.core.component.statistics.TableStatisticsReader;
+import com.speedment.runtime.core.db.DatabaseNamingConvention;
+import com.speedment.runtime.core.db.DbmsType;
+import com.speedment.runtime.core.internal.util.document.AbstractDocumentTest;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ *
+ * @since 3.1.5
+ */
+public class TableStatisticsReaderTest extends AbstractDocumentTest {
+
+    @Test
+    public void testLeadingIndexColumns() {
+        assertEquals(
+            Arrays.asList("Column A1", "Column A2"),
+            TableStatisticsUtil.leadingIndexColumns(tableA).stream()
+                .map(Column::getName)
+                .collect(toList())
+        );
+    }
+
+    @Test
+    public void testSampling() throws Exception {
+        final TableStatistics stats = sample(1000L);
+
+        assertEquals(1000L, stats.getRowCount());
+
+        final ColumnStatistics a1 = stats.getColumn("Column A1").get();
+        assertEquals(1000L, a1.getDistinctCount().getAsLong());
+        assertEquals(0d, a1.getNullFraction().getAsDouble(), 1e-9);
+        assertEquals(0.001, a1.getEqualitySelectivity().getAsDouble(), 1e-9);
+
+        // The sample is only part of the table, so the range is unknown
+        assertFalse(a1.getMin().isPresent());
+        assertFalse(a1.getMax().isPresent());
+
+        final ColumnStatistics a2 = stats.getColumn("Column A2").get();
+        assertEquals(1L, a2.getDistinctCount().getAsLong());
+        assertEquals(1d / 3, a2.getNullFraction().getAsDouble(), 1e-9);
+        assertFalse(a2.getMin().isPresent());
+        assertFalse(a2.getMax().isPresent());
+    }
+
+    @Test
+    public void testSamplingWholeTable() throws Exception {
+        final TableStatistics stats = sample(3L);
+
+        assertEquals(3L, stats.getRowCount());
+
+        final ColumnStatistics a1 = stats.getColumn("Column A1").get();
+        assertEquals(3L, a1.getDistinctCount().getAsLong());
+        assertEquals(1L, a1.getMin().get());
+        assertEquals(3L, a1.getMax().get());
+
+        final ColumnStatistics a2 = stats.getColumn("Column A2").get();
+        assertEquals(10, a2.getMin().get());
+        assertEquals(10, a2.getMax().get());
+    }
+
+    private TableStatistics sample(long rowCount) throws Exception {
+        final DatabaseNamingConvention naming = mock(DatabaseNamingConvention.class);
+        when(naming.fullNameOf(tableA)).thenReturn("`Table A`");
+        when(naming.encloseField(anyString())).thenAnswer(i -> "`" + i.getArgument(0) + "`");
+
+        final DbmsType dbmsType = mock(DbmsType.class);
+        when(dbmsType.getDatabaseNamingConvention()).thenReturn(naming);
+        when(dbmsType.applySkipLimit(anyString(), anyList(), anyLong(), anyLong()))
+            .thenAnswer(i -> i.getArgument(0) + " LIMIT " + i.getArgument(3));
+
+        final Statement count = mock(Statement.class);
+        final ResultSet countRs = resultSet(new Object[] {rowCount});
+        when(count.executeQuery("SELECT COUNT(*) FROM `Table A`")).thenReturn(countRs);
+
+        final PreparedStatement sample = mock(PreparedStatement.class);
+        final ResultSet sampleRs = resultSet(
+            new Object[] {1L, 10},
+            new Object[] {2L, 10},
+            new Object[] {3L, null}
+        );
+        when(sample.executeQuery()).thenReturn(sampleRs);
+
+        final Connection connection = mock(Connection.class);
+        when(connection.createStatement()).thenReturn(count);
+        when(connection.prepareStatement(
+            "SELECT `Column A1`, `Column A2` FROM `Table A` LIMIT 3"
+        )).thenReturn(sample);
+
+        return TableStatisticsReader.sampling(3).read(connection, dbmsType, tableA);
+    }
+
+    private static ResultSet resultSet(Object[]... rows) {
+        final int[] row = {-1};
+        return (ResultSet) Proxy.newProxyInstance(
+            TableStatisticsReaderTest.class.getClassLoader(),
+            new Class<?>[] {ResultSet.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "next"      : return ++row[0] < rows.length;
+                    case "getObject" :
+                    case "getLong"   : return rows[row[0]][(Integer) args[0] - 1];
+                    case "close"     : return null;
+                    default : throw new UnsupportedOperationException(method.getName());
+                }
+            }
+        );
+    }
+}
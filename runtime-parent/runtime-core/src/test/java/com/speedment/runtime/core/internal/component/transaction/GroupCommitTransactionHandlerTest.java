@@ -0,0 +1,273 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.component.transaction;
+
+import com.speedment.runtime.config.identifier.TableIdentifier;
+import com.speedment.runtime.core.component.transaction.DataSourceHandler;
+import com.speedment.runtime.core.component.transaction.Transaction;
+import com.speedment.runtime.core.component.transaction.TransactionHandler;
+import com.speedment.runtime.core.exception.TransactionException;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Savepoint;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.singleton;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @since 3.1.5
+ */
+public class GroupCommitTransactionHandlerTest {
+
+    private static final int UNITS = 32;
+
+    private TransactionComponentImpl txComponent;
+    private AtomicInteger connections;
+    private AtomicInteger commits;
+    private AtomicInteger savepoints;
+    private AtomicInteger savepointRollbacks;
+
+    @Before
+    public void setUp() {
+        txComponent = new TransactionComponentImpl();
+        connections = new AtomicInteger();
+        commits = new AtomicInteger();
+        savepoints = new AtomicInteger();
+        savepointRollbacks = new AtomicInteger();
+        txComponent.putDataSourceHandler(Database.class, DataSourceHandler.<Database, Connection>of(
+            Database::connect,
+            (c, isolation) -> isolation,
+            c -> {},
+            c -> commits.incrementAndGet(),
+            c -> {},
+            c -> {}
+        ));
+    }
+
+    @Test
+    public void testUnitsShareCommits() throws Exception {
+        final TransactionHandler handler = txComponent.createGroupCommitTransactionHandler(
+            new Database(), Duration.ofMillis(50), UNITS
+        );
+
+        final AtomicInteger executed = new AtomicInteger();
+        final List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < UNITS; i++) {
+            tasks.add(() -> handler.createAndApply(tx -> {
+                assertTrue(txComponent.current().isPresent());
+                executed.incrementAndGet();
+                tx.commit();
+                return null;
+            }));
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(UNITS);
+        try {
+            for (final Future<Object> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(UNITS, executed.get());
+        assertTrue("Expected fewer commits than units but was " + commits.get(), commits.get() < UNITS);
+        assertEquals(connections.get(), commits.get());
+        assertFalse(txComponent.current().isPresent());
+    }
+
+    @Test
+    public void testFailingUnitIsRolledBack() {
+        final TransactionHandler handler = txComponent.createGroupCommitTransactionHandler(
+            new Database(), Duration.ZERO, 1
+        );
+
+        try {
+            handler.createAndAccept(tx -> {
+                throw new IllegalStateException("Boom");
+            });
+            fail("Expected an exception");
+        } catch (TransactionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+
+        assertEquals(1, savepoints.get());
+        assertEquals(1, savepointRollbacks.get());
+        assertEquals(1, commits.get());
+        assertFalse(txComponent.current().isPresent());
+    }
+
+    @Test
+    public void testModifiedTablesAreReportedOnCompletion() {
+        final TableIdentifier<?> table = TableIdentifier.of("db", "schema", "table");
+        final List<Set<TableIdentifier<?>>> completed = new CopyOnWriteArrayList<>();
+        txComponent.addCompletionListener(completed::add);
+
+        final Object txObject = new Object();
+        final Transaction tx = new TransactionImpl(txComponent, txObject, noOpHandler());
+        tx.commit();
+        assertTrue("Nothing was modified", completed.isEmpty());
+
+        txComponent.addModifiedTable(txObject, table);
+        tx.commit();
+        assertEquals(singleton(table), completed.get(0));
+
+        txComponent.addModifiedTable(txObject, table);
+        tx.rollback();
+        assertEquals(2, completed.size());
+
+        final TransactionHandler handler = txComponent.createGroupCommitTransactionHandler(
+            new Database(), Duration.ZERO, 1
+        );
+        handler.createAndAccept(unit -> {
+            txComponent.addModifiedTable(txComponent.current().get(), table);
+            // Rolling back a unit only rolls back to its savepoint
+            unit.rollback();
+            assertEquals(2, completed.size());
+        });
+        assertEquals(3, completed.size());
+    }
+
+    @Test(timeout = 10_000)
+    public void testNestedUnitRunsInline() {
+        final TransactionHandler handler = txComponent.createGroupCommitTransactionHandler(
+            new Database(), Duration.ofMillis(50), UNITS
+        );
+
+        final Object nested = handler.createAndApply(tx -> {
+            final Object txObject = txComponent.current().get();
+            return handler.createAndApply(nestedTx -> {
+                assertSame(txObject, txComponent.current().get());
+                nestedTx.commit();
+                return "nested";
+            });
+        });
+
+        assertEquals("nested", nested);
+        assertEquals(1, connections.get());
+        assertEquals(1, commits.get());
+        assertFalse(txComponent.current().isPresent());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaxUnits() {
+        txComponent.createGroupCommitTransactionHandler(new Database(), Duration.ZERO, 0);
+    }
+
+    @Test
+    public void testBindAndWrap() throws Exception {
+        final Object txObject = new Object();
+        final Transaction tx = new TransactionImpl(txComponent, txObject, noOpHandler());
+
+        assertFalse(txComponent.current().isPresent());
+        final Transaction.Binding binding = tx.bind();
+        try {
+            assertEquals(Optional.of(txObject), txComponent.current());
+            final Transaction.Binding nested = tx.bind();
+            try {
+                assertEquals(Optional.of(txObject), txComponent.current());
+            } finally {
+                nested.close();
+            }
+            assertEquals(Optional.of(txObject), txComponent.current());
+        } finally {
+            binding.close();
+        }
+        assertFalse(txComponent.current().isPresent());
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertEquals(
+                Optional.of(txObject),
+                executor.submit(tx.wrap(() -> txComponent.current())).get(10, TimeUnit.SECONDS)
+            );
+            assertEquals(
+                Optional.empty(),
+                executor.submit(() -> txComponent.current()).get(10, TimeUnit.SECONDS)
+            );
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testBindingClosedByOtherThread() throws Throwable {
+        final Transaction tx = new TransactionImpl(txComponent, new Object(), noOpHandler());
+        final Transaction.Binding binding = tx.bind();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(binding::close).get(10, TimeUnit.SECONDS);
+        } catch (java.util.concurrent.ExecutionException e) {
+            throw e.getCause();
+        } finally {
+            executor.shutdown();
+            binding.close();
+        }
+    }
+
+    private static DataSourceHandler<Object, Object> noOpHandler() {
+        return DataSourceHandler.of(o -> o, (o, isolation) -> isolation, o -> {}, o -> {}, o -> {}, o -> {});
+    }
+
+    private final class Database {
+
+        private Connection connect() {
+            connections.incrementAndGet();
+            return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "setSavepoint": {
+                            savepoints.incrementAndGet();
+                            return Proxy.newProxyInstance(
+                                Savepoint.class.getClassLoader(),
+                                new Class<?>[]{Savepoint.class},
+                                (p, m, a) -> null
+                            );
+                        }
+                        case "rollback": {
+                            if (args != null && args.length == 1) {
+                                savepointRollbacks.incrementAndGet();
+                            }
+                            return null;
+                        }
+                        case "hashCode": return System.identityHashCode(proxy);
+                        case "equals": return proxy == args[0];
+                        default: return null;
+                    }
+                }
+            );
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.component.transaction;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @since 3.1.5
+ */
+public class TransactionComponentImplTest {
+
+    private TransactionComponentImpl txComponent;
+    private ExecutorService executor;
+    private Thread worker;
+
+    @Before
+    public void setUp() throws Exception {
+        txComponent = new TransactionComponentImpl();
+        executor = Executors.newSingleThreadExecutor();
+        worker = executor.submit(Thread::currentThread).get();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testPutFromOtherThreadIsPickedUp() throws Exception {
+        final Object txObject = new Object();
+        txComponent.put(worker, txObject);
+
+        assertEquals(Optional.of(txObject), txComponent.get(worker));
+        assertEquals(Optional.of(txObject), executor.submit(txComponent::current).get());
+        assertFalse(txComponent.current().isPresent());
+    }
+
+    @Test
+    public void testRemoveFromOtherThreadClearsCurrent() throws Exception {
+        final Object txObject = new Object();
+        executor.submit(() -> txComponent.put(Thread.currentThread(), txObject)).get();
+        assertEquals(Optional.of(txObject), executor.submit(txComponent::current).get());
+
+        txComponent.remove(worker);
+
+        assertFalse(txComponent.get(worker).isPresent());
+        assertFalse(executor.submit(txComponent::current).get().isPresent());
+        assertEquals(0, txComponent.threads(txObject).count());
+    }
+
+    @Test
+    public void testPutAfterRemoveFromOtherThreadReplacesCurrent() throws Exception {
+        final Object first = new Object();
+        final Object second = new Object();
+        executor.submit(() -> txComponent.put(Thread.currentThread(), first)).get();
+        assertEquals(Optional.of(first), executor.submit(txComponent::current).get());
+
+        txComponent.remove(worker);
+        txComponent.put(worker, second);
+
+        assertEquals(Optional.of(second), executor.submit(txComponent::current).get());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testPutTwice() {
+        txComponent.put(worker, new Object());
+        txComponent.put(worker, new Object());
+    }
+}
@@ -0,0 +1,190 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.manager;
+
+import com.speedment.runtime.config.identifier.ColumnIdentifier;
+import com.speedment.runtime.config.identifier.TableIdentifier;
+import com.speedment.runtime.core.manager.Manager;
+import com.speedment.runtime.core.manager.Persister;
+import com.speedment.runtime.core.manager.Prefetch;
+import com.speedment.runtime.core.manager.Remover;
+import com.speedment.runtime.core.manager.Updater;
+import com.speedment.runtime.field.Field;
+import com.speedment.runtime.field.IntField;
+import com.speedment.runtime.field.IntForeignKeyField;
+import com.speedment.runtime.field.method.FindFrom;
+import com.speedment.runtime.typemapper.TypeMapper;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ *
+ * @since 3.1.5
+ */
+public class PrefetchImplTest {
+
+    private static final IntField<Customer, Integer> CUSTOMER_ID = IntField.create(
+        ColumnIdentifier.of("db", "shop", "customer", "id"),
+        Customer::getId, (c, v) -> {}, TypeMapper.identity(), true
+    );
+
+    private static final IntForeignKeyField<Purchase, Integer, Customer> PURCHASE_CUSTOMER_ID = IntForeignKeyField.create(
+        ColumnIdentifier.of("db", "shop", "purchase", "customer_id"),
+        Purchase::getCustomerId, (p, v) -> {}, CUSTOMER_ID, TypeMapper.identity(), false
+    );
+
+    private final ListManager<Customer> customers = new ListManager<>(
+        TableIdentifier.of("db", "shop", "customer"),
+        IntStream.range(0, 200).mapToObj(Customer::new).collect(Collectors.toList())
+    );
+
+    private final ListManager<Purchase> purchases = new ListManager<>(
+        TableIdentifier.of("db", "shop", "purchase"),
+        IntStream.range(0, 5_000).mapToObj(i -> new Purchase(i, i % 200)).collect(Collectors.toList())
+    );
+
+    @Test
+    public void testFinderHitsMemory() {
+        final Prefetch<Purchase> prefetch = purchases
+            .prefetch(PURCHASE_CUSTOMER_ID, customers)
+            .withChunkSize(1_000);
+        final FindFrom<Purchase, Customer> customer = prefetch.finder(PURCHASE_CUSTOMER_ID);
+
+        final List<String> result;
+        try (Stream<Purchase> stream = prefetch.stream()) {
+            result = stream
+                .map(p -> p.getId() + ":" + customer.apply(p).getId())
+                .collect(Collectors.toList());
+        }
+
+        assertEquals(5_000, result.size());
+        assertEquals("4321:121", result.get(4321));
+        assertEquals(1, purchases.queries.get());
+        // All customers are referenced by the first chunk
+        assertEquals(1, customers.queries.get());
+    }
+
+    @Test
+    public void testFinderFallsBackToQuery() {
+        final Prefetch<Purchase> prefetch = Prefetch.of(purchases::stream)
+            .prefetch(PURCHASE_CUSTOMER_ID, customers);
+
+        final Purchase purchase = purchases.rows.get(17);
+        final Customer customer = prefetch.finder(PURCHASE_CUSTOMER_ID).apply(purchase);
+
+        assertSame(customers.rows.get(17), customer);
+        assertEquals(1, customers.queries.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFinderOfOtherField() {
+        Prefetch.of(purchases::stream).finder(PURCHASE_CUSTOMER_ID);
+    }
+
+    private static final class Customer {
+
+        private final int id;
+
+        Customer(int id) {
+            this.id = id;
+        }
+
+        int getId() {
+            return id;
+        }
+    }
+
+    private static final class Purchase {
+
+        private final int id;
+        private final int customerId;
+
+        Purchase(int id, int customerId) {
+            this.id = id;
+            this.customerId = customerId;
+        }
+
+        int getId() {
+            return id;
+        }
+
+        int getCustomerId() {
+            return customerId;
+        }
+    }
+
+    private static final class ListManager<ENTITY> implements Manager<ENTITY> {
+
+        private final TableIdentifier<ENTITY> identifier;
+        private final List<ENTITY> rows;
+        private final AtomicInteger queries = new AtomicInteger();
+
+        ListManager(TableIdentifier<ENTITY> identifier, List<ENTITY> rows) {
+            this.identifier = identifier;
+            this.rows = rows;
+        }
+
+        @Override
+        public TableIdentifier<ENTITY> getTableIdentifier() {
+            return identifier;
+        }
+
+        @Override
+        public Class<ENTITY> getEntityClass() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Stream<Field<ENTITY>> fields() {
+            return Stream.empty();
+        }
+
+        @Override
+        public Stream<Field<ENTITY>> primaryKeyFields() {
+            return Stream.empty();
+        }
+
+        @Override
+        public Stream<ENTITY> stream() {
+            queries.incrementAndGet();
+            return rows.stream();
+        }
+
+        @Override
+        public Persister<ENTITY> persister() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Updater<ENTITY> updater() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Remover<ENTITY> remover() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
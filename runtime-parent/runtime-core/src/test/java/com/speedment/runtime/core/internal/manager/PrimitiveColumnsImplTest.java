@@ -0,0 +1,103 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.manager;
+
+import com.speedment.runtime.core.manager.PrimitiveColumns;
+import com.speedment.runtime.test_support.MockEntity;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @since 3.1.5
+ */
+public class PrimitiveColumnsImplTest {
+
+    @Test
+    public void testFromEntities() {
+        final PrimitiveColumns<MockEntity> columns = PrimitiveColumns.of(
+            IntStream.range(0, 1000).mapToObj(MockEntity::new),
+            Collections.singletonList(MockEntity.ID)
+        );
+
+        assertEquals(1000, columns.size());
+        assertEquals(1000, columns.getInts(MockEntity.ID).length);
+        assertEquals(999 * 1000 / 2, columns.ints(MockEntity.ID).sum());
+        assertTrue(columns.getNulls(MockEntity.ID).isEmpty());
+    }
+
+    @Test
+    public void testFromResultSet() throws SQLException {
+        final PrimitiveColumnsImpl.Builder<MockEntity> builder =
+            new PrimitiveColumnsImpl.Builder<>(Collections.singletonList(MockEntity.ID));
+
+        for (final Integer value : Arrays.asList(3, null, 5)) {
+            builder.readRow(resultSet(value));
+        }
+
+        final PrimitiveColumns<MockEntity> columns = builder.build();
+        assertEquals(3, columns.size());
+        assertArrayEquals(new int[] {3, 0, 5}, columns.getInts(MockEntity.ID));
+        assertTrue(columns.isNull(MockEntity.ID, 1));
+        assertFalse(columns.isNull(MockEntity.ID, 2));
+        assertArrayEquals(new int[] {3, 5}, columns.ints(MockEntity.ID).toArray());
+
+        final BitSet nulls = columns.getNulls(MockEntity.ID);
+        nulls.clear();
+        assertTrue("The bitmap must be a copy", columns.isNull(MockEntity.ID, 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedField() {
+        PrimitiveColumns.of(
+            Stream.<MockEntity>empty(),
+            Collections.singletonList(MockEntity.NAME)
+        );
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFieldNotRequested() {
+        PrimitiveColumns.of(
+            Stream.<MockEntity>empty(),
+            Collections.singletonList(MockEntity.ID)
+        ).getNulls(MockEntity.NAME);
+    }
+
+    private static ResultSet resultSet(Integer value) {
+        return (ResultSet) Proxy.newProxyInstance(
+            ResultSet.class.getClassLoader(),
+            new Class<?>[] {ResultSet.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getInt"  : return value == null ? 0 : value;
+                    case "wasNull" : return value == null;
+                    default : throw new UnsupportedOperationException(method.getName());
+                }
+            }
+        );
+    }
+}
@@ -0,0 +1,157 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.core.internal.stream.builder.streamterminator;
+
+import com.speedment.runtime.field.internal.predicate.AlwaysTruePredicate;
+import com.speedment.runtime.field.predicate.CombinedPredicate;
+import com.speedment.runtime.field.predicate.FieldPredicate;
+import com.speedment.runtime.field.predicate.PredicateType;
+import com.speedment.runtime.field.util.PredicateOperandUtil;
+import com.speedment.runtime.test_support.MockEntity;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static com.speedment.runtime.core.internal.stream.builder.streamterminator.PredicateNormalizer.normalize;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @since 3.1.5
+ */
+public class PredicateNormalizerTest {
+
+    @Test
+    public void testFieldPredicateIsUnchanged() {
+        final Predicate<MockEntity> p = MockEntity.ID.greaterThan(1);
+        assertSame(p, normalize(p));
+    }
+
+    @Test
+    public void testUnchangedCombinationIsSameInstance() {
+        final Predicate<MockEntity> p = MockEntity.ID.greaterThan(1)
+            .and(MockEntity.NAME.equal("a"));
+        assertSame(p, normalize(p));
+    }
+
+    @Test
+    public void testFlatten() {
+        final Predicate<MockEntity> p = CombinedPredicate.and(
+            MockEntity.ID.greaterThan(1),
+            MockEntity.NAME.startsWith("a").and(MockEntity.NAME.endsWith("b"))
+        );
+        final CombinedPredicate<MockEntity> n = combined(normalize(p));
+        assertEquals(CombinedPredicate.Type.AND, n.getType());
+        assertEquals(3, n.size());
+    }
+
+    @Test
+    public void testMergeEqualsIntoIn() {
+        final Predicate<MockEntity> p = MockEntity.ID.equal(3)
+            .or(MockEntity.NAME.equal("a"))
+            .or(MockEntity.ID.equal(1))
+            .or(MockEntity.ID.in(2, 3));
+
+        final CombinedPredicate<MockEntity> n = combined(normalize(p));
+        assertEquals(CombinedPredicate.Type.OR, n.getType());
+        assertEquals(2, n.size());
+
+        final FieldPredicate<?> in = field(n.stream().findFirst().get());
+        assertEquals(PredicateType.IN, in.getPredicateType());
+        assertEquals(
+            Arrays.asList(3, 1, 2),
+            new ArrayList<>(PredicateOperandUtil.getFirstOperandAsRawSet(in))
+        );
+    }
+
+    @Test
+    public void testMergeNotEqualsIntoNotIn() {
+        final Predicate<MockEntity> p = MockEntity.NAME.notEqual("a")
+            .and(MockEntity.NAME.notEqual("b"));
+
+        final FieldPredicate<?> n = field(normalize(p));
+        assertEquals(PredicateType.NOT_IN, n.getPredicateType());
+        assertEquals(2, PredicateOperandUtil.getFirstOperandAsRawSet(n).size());
+
+        final List<MockEntity> entities = Arrays.asList(
+            new MockEntity(1).setName("a"),
+            new MockEntity(2).setName("b"),
+            new MockEntity(3).setName("c")
+        );
+        entities.forEach(e -> assertEquals(p.test(e), normalize(p).test(e)));
+    }
+
+    @Test
+    public void testEqualsAreNotMergedInAnd() {
+        final Predicate<MockEntity> p = MockEntity.ID.equal(1)
+            .and(MockEntity.NAME.equal("a"));
+        assertSame(p, normalize(p));
+    }
+
+    @Test
+    public void testFoldContradictoryRanges() {
+        assertAlwaysFalse(MockEntity.ID.greaterThan(5).and(MockEntity.ID.lessThan(3)));
+        assertAlwaysFalse(MockEntity.ID.greaterThan(5).and(MockEntity.ID.lessOrEqual(5)));
+        assertAlwaysFalse(MockEntity.ID.equal(1).and(MockEntity.ID.equal(2)));
+        assertAlwaysFalse(MockEntity.ID.between(1, 5).and(MockEntity.ID.equal(5)));
+        assertAlwaysFalse(MockEntity.ID.between(1, 5).and(MockEntity.ID.greaterOrEqual(7)));
+    }
+
+    @Test
+    public void testKeepSatisfiableRanges() {
+        assertNotAlwaysFalse(MockEntity.ID.greaterOrEqual(5).and(MockEntity.ID.lessOrEqual(5)));
+        assertNotAlwaysFalse(MockEntity.ID.between(1, 5).and(MockEntity.ID.equal(1)));
+        assertNotAlwaysFalse(MockEntity.ID.greaterThan(5).and(MockEntity.NAME.lessThan("a")));
+        assertNotAlwaysFalse(MockEntity.NAME.greaterThan("b").and(MockEntity.NAME.lessThan("a")));
+    }
+
+    @Test
+    public void testConstants() {
+        final Predicate<MockEntity> gt = MockEntity.ID.greaterThan(1);
+        assertSame(gt, normalize(gt.and(new AlwaysTruePredicate<>(MockEntity.ID))));
+
+        final Predicate<MockEntity> or = gt.or(MockEntity.ID.greaterThan(5).and(MockEntity.ID.lessThan(3)));
+        assertSame(gt, normalize(or));
+
+        assertAlwaysFalse(gt.and(MockEntity.ID.equal(1).and(MockEntity.ID.equal(2))));
+    }
+
+    private static void assertAlwaysFalse(Predicate<MockEntity> predicate) {
+        final Predicate<MockEntity> n = normalize(predicate);
+        assertTrue(n instanceof FieldPredicate);
+        assertEquals(PredicateType.ALWAYS_FALSE, field(n).getPredicateType());
+    }
+
+    private static void assertNotAlwaysFalse(Predicate<MockEntity> predicate) {
+        final Predicate<MockEntity> n = normalize(predicate);
+        assertFalse(n instanceof FieldPredicate
+            && field(n).getPredicateType() == PredicateType.ALWAYS_FALSE);
+    }
+
+    private static CombinedPredicate<MockEntity> combined(Predicate<MockEntity> predicate) {
+        assertTrue(predicate instanceof CombinedPredicate);
+        return (CombinedPredicate<MockEntity>) predicate;
+    }
+
+    private static FieldPredicate<?> field(Predicate<?> predicate) {
+        assertTrue(predicate instanceof FieldPredicate);
+        return (FieldPredicate<?>) predicate;
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.field.internal.method;
+
+import com.speedment.runtime.field.method.BatchedFinder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.speedment.common.invariant.IntRangeUtil.requirePositive;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Base class for the {@link BatchedFinder} implementations. The source
+ * entities are read in chunks. The foreign entities of all keys in a chunk
+ * that are not already cached are fetched using a single filtered stream
+ * before the results of the chunk are produced.
+ *
+ * @param <ENTITY>     the source entity
+ * @param <FK_ENTITY>  the target entity
+ * @param <C>          the type of the cache of foreign entities
+ *
+ * @since  3.1.5
+ */
+abstract class AbstractBatchedFinder<ENTITY, FK_ENTITY, C>
+implements BatchedFinder<ENTITY, FK_ENTITY> {
+
+    /**
+     * The number of cached keys at which the cache is cleared before the
+     * next chunk is fetched.
+     */
+    static final int MAX_CACHED_KEYS = 1 << 16;
+
+    private final Supplier<Stream<FK_ENTITY>> streamSupplier;
+    private final int chunkSize;
+
+    AbstractBatchedFinder(Supplier<Stream<FK_ENTITY>> streamSupplier, int chunkSize) {
+        this.streamSupplier = requireNonNull(streamSupplier);
+        this.chunkSize      = requirePositive(chunkSize);
+    }
+
+    @Override
+    public final <R> Stream<R> join(
+            Stream<? extends ENTITY> entities,
+            BiFunction<? super ENTITY, ? super FK_ENTITY, ? extends R> combiner) {
+
+        requireNonNull(combiner);
+        final Iterator<? extends ENTITY> iterator = entities.iterator();
+        final C cache = newCache();
+
+        final Spliterator<R> spliterator = new Spliterators.AbstractSpliterator<R>(
+                Long.MAX_VALUE, Spliterator.ORDERED) {
+
+            private Iterator<R> results = Collections.emptyIterator();
+
+            @Override
+            public boolean tryAdvance(Consumer<? super R> action) {
+                while (!results.hasNext()) {
+                    if (!iterator.hasNext()) {
+                        return false;
+                    }
+
+                    final List<ENTITY> chunk = new ArrayList<>(chunkSize);
+                    while (chunk.size() < chunkSize && iterator.hasNext()) {
+                        chunk.add(iterator.next());
+                    }
+
+                    fetch(cache, chunk);
+
+                    final List<R> combined = new ArrayList<>(chunk.size());
+                    for (final ENTITY entity : chunk) {
+                        forEachMatch(cache, entity, fk ->
+                            combined.add(combiner.apply(entity, fk))
+                        );
+                    }
+                    results = combined.iterator();
+                }
+
+                action.accept(results.next());
+                return true;
+            }
+        };
+
+        return StreamSupport.stream(spliterator, false).onClose(entities::close);
+    }
+
+    /**
+     * Creates a new, empty cache for a call to {@link #join}.
+     *
+     * @return  the cache
+     */
+    abstract C newCache();
+
+    /**
+     * Fetches the foreign entities of every entity in the chunk that is not
+     * already in the cache and adds them to the cache.
+     *
+     * @param cache  the cache
+     * @param chunk  the source entities
+     */
+    abstract void fetch(C cache, List<ENTITY> chunk);
+
+    /**
+     * Calls the specified action for every cached foreign entity of the
+     * specified entity.
+     *
+     * @param cache   the cache
+     * @param entity  the source entity
+     * @param action  the action
+     */
+    abstract void forEachMatch(C cache, ENTITY entity, Consumer<? super FK_ENTITY> action);
+
+    /**
+     * Calls the specified action for every foreign entity that matches the
+     * specified predicate.
+     *
+     * @param predicate  the predicate, typically an {@code in}-predicate
+     * @param action     the action
+     */
+    final void forEachFetched(Predicate<FK_ENTITY> predicate, Consumer<? super FK_ENTITY> action) {
+        try (final Stream<FK_ENTITY> stream = streamSupplier.get()) {
+            stream.filter(predicate).forEachOrdered(action);
+        }
+    }
+}
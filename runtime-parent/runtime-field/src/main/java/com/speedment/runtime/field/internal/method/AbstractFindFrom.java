@@ -18,11 +18,15 @@ package com.speedment.runtime.field.internal.method;
 
 import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.field.Field;
+import com.speedment.runtime.field.exception.SpeedmentFieldException;
+import com.speedment.runtime.field.method.BatchedFinder;
 import com.speedment.runtime.field.method.FindFrom;
 import com.speedment.runtime.field.trait.HasComparableOperators;
 import com.speedment.runtime.field.trait.HasFinder;
 
+import java.util.function.LongFunction;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
@@ -79,4 +83,56 @@ abstract class AbstractFindFrom<
     protected final Stream<FK_ENTITY> stream() {
         return streamSupplier.get();
     }
+
+    @Override
+    public BatchedFinder<ENTITY, FK_ENTITY> batched(int chunkSize) {
+        return new ReferenceKeyBatchedFinder<>(
+            this,
+            streamSupplier,
+            chunkSize,
+            entity -> sourceValue(entity),
+            fk -> targetValue(fk),
+            target::in
+        );
+    }
+
+    /**
+     * Returns a {@code BatchedFinder} that caches the foreign entities by the
+     * integral value of the column.
+     *
+     * @param chunkSize  the maximum number of entities in each chunk
+     * @param sourceKey  getter for the key of a source entity
+     * @param targetKey  getter for the key of a foreign entity
+     * @param boxer      converts a key to the wrapper type of the column
+     * @return           the batched finder
+     */
+    final BatchedFinder<ENTITY, FK_ENTITY> batched(
+            int chunkSize,
+            ToLongFunction<ENTITY> sourceKey,
+            ToLongFunction<FK_ENTITY> targetKey,
+            LongFunction<V> boxer) {
+
+        return new LongKeyBatchedFinder<>(
+            this, streamSupplier, chunkSize, sourceKey, targetKey, boxer, target::in
+        );
+    }
+
+    final SpeedmentFieldException notFound(Object value) {
+        return new SpeedmentFieldException(
+            "Error! Could not find any entities in table '" +
+            getTableIdentifier() +
+            "' with '" + getTargetField().identifier().getColumnId() +
+            "' = '" + value + "'."
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private V sourceValue(ENTITY entity) {
+        return (V) source.getter().apply(entity);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V targetValue(FK_ENTITY entity) {
+        return (V) target.getter().apply(entity);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,103 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.field.internal.method;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A batched {@code BackwardFinder}. The foreign entities are grouped by the
+ * key they reference, so each source entity can be combined with any number
+ * of foreign entities.
+ *
+ * @param <ENTITY>     the source entity
+ * @param <FK_ENTITY>  the target entity
+ * @param <T>          the wrapper type of the column
+ *
+ * @since  3.1.5
+ */
+final class BackwardBatchedFinder<ENTITY, FK_ENTITY, T>
+extends AbstractBatchedFinder<ENTITY, FK_ENTITY, Map<T, List<FK_ENTITY>>> {
+
+    private final Function<ENTITY, T> sourceKey;
+    private final Function<FK_ENTITY, T> targetKey;
+    private final Function<Collection<T>, Predicate<FK_ENTITY>> in;
+
+    BackwardBatchedFinder(
+            Supplier<Stream<FK_ENTITY>> streamSupplier,
+            int chunkSize,
+            Function<ENTITY, T> sourceKey,
+            Function<FK_ENTITY, T> targetKey,
+            Function<Collection<T>, Predicate<FK_ENTITY>> in) {
+
+        super(streamSupplier, chunkSize);
+        this.sourceKey = requireNonNull(sourceKey);
+        this.targetKey = requireNonNull(targetKey);
+        this.in        = requireNonNull(in);
+    }
+
+    @Override
+    Map<T, List<FK_ENTITY>> newCache() {
+        return new HashMap<>();
+    }
+
+    @Override
+    void fetch(Map<T, List<FK_ENTITY>> cache, List<ENTITY> chunk) {
+        if (cache.size() > MAX_CACHED_KEYS) {
+            cache.clear();
+        }
+
+        final Set<T> missing = new HashSet<>();
+        for (final ENTITY entity : chunk) {
+            final T key = sourceKey.apply(entity);
+            if (key != null && !cache.containsKey(key)) {
+                missing.add(key);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            // Keys without any foreign entities are cached as well
+            missing.forEach(key -> cache.put(key, new ArrayList<>()));
+            forEachFetched(in.apply(missing), fk -> {
+                final List<FK_ENTITY> found = cache.get(targetKey.apply(fk));
+                if (found != null) {
+                    found.add(fk);
+                }
+            });
+        }
+    }
+
+    @Override
+    void forEachMatch(Map<T, List<FK_ENTITY>> cache, ENTITY entity, Consumer<? super FK_ENTITY> action) {
+        final T key = sourceKey.apply(entity);
+        if (key != null) {
+            cache.get(key).forEach(action);
+        }
+    }
+}
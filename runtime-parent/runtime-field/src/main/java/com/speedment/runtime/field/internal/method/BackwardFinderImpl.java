@@ -19,6 +19,7 @@ package com.speedment.runtime.field.internal.method;
 import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.field.Field;
 import com.speedment.runtime.field.method.BackwardFinder;
+import com.speedment.runtime.field.method.BatchedFinder;
 import com.speedment.runtime.field.trait.HasComparableOperators;
 import com.speedment.runtime.field.trait.HasFinder;
 
@@ -80,4 +81,16 @@ implements BackwardFinder<ENTITY, FK_ENTITY> {
             return streamSupplier.get().filter(getField().equal(value));
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public BatchedFinder<ENTITY, FK_ENTITY> batched(int chunkSize) {
+        return new BackwardBatchedFinder<>(
+            streamSupplier,
+            chunkSize,
+            entity -> (T) getField().getReferencedField().getter().apply(entity),
+            fk -> (T) getField().getter().apply(fk),
+            getField()::in
+        );
+    }
+}
@@ -21,6 +21,8 @@ import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.field.ByteField;
 import com.speedment.runtime.field.ByteForeignKeyField;
 import com.speedment.runtime.field.exception.SpeedmentFieldException;
+import com.speedment.runtime.field.method.BatchedFinder;
+import com.speedment.runtime.field.method.ByteGetter;
 
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -56,4 +58,16 @@ public final class FindFromByte<ENTITY, FK_ENTITY> extends AbstractFindFrom<ENTI
                 "' = '" + value + "'."
             ));
     }
-}
\ No newline at end of file
+
+    @Override
+    public BatchedFinder<ENTITY, FK_ENTITY> batched(int chunkSize) {
+        final ByteGetter<ENTITY> source = getSourceField().getter();
+        final ByteGetter<FK_ENTITY> target = getTargetField().getter();
+        return batched(
+            chunkSize,
+            entity -> source.applyAsByte(entity),
+            fk -> target.applyAsByte(fk),
+            key -> (byte) key
+        );
+    }
+}
@@ -21,6 +21,8 @@ import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.field.CharField;
 import com.speedment.runtime.field.CharForeignKeyField;
 import com.speedment.runtime.field.exception.SpeedmentFieldException;
+import com.speedment.runtime.field.method.BatchedFinder;
+import com.speedment.runtime.field.method.CharGetter;
 
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -56,4 +58,16 @@ public final class FindFromChar<ENTITY, FK_ENTITY> extends AbstractFindFrom<ENTI
                 "' = '" + value + "'."
             ));
     }
-}
\ No newline at end of file
+
+    @Override
+    public BatchedFinder<ENTITY, FK_ENTITY> batched(int chunkSize) {
+        final CharGetter<ENTITY> source = getSourceField().getter();
+        final CharGetter<FK_ENTITY> target = getTargetField().getter();
+        return batched(
+            chunkSize,
+            entity -> source.applyAsChar(entity),
+            fk -> target.applyAsChar(fk),
+            key -> (char) key
+        );
+    }
+}
@@ -21,6 +21,8 @@ import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.field.IntField;
 import com.speedment.runtime.field.IntForeignKeyField;
 import com.speedment.runtime.field.exception.SpeedmentFieldException;
+import com.speedment.runtime.field.method.BatchedFinder;
+import com.speedment.runtime.field.method.IntGetter;
 
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -56,4 +58,16 @@ public final class FindFromInt<ENTITY, FK_ENTITY> extends AbstractFindFrom<ENTIT
                 "' = '" + value + "'."
             ));
     }
-}
\ No newline at end of file
+
+    @Override
+    public BatchedFinder<ENTITY, FK_ENTITY> batched(int chunkSize) {
+        final IntGetter<ENTITY> source = getSourceField().getter();
+        final IntGetter<FK_ENTITY> target = getTargetField().getter();
+        return batched(
+            chunkSize,
+            entity -> source.applyAsInt(entity),
+            fk -> target.applyAsInt(fk),
+            key -> (int) key
+        );
+    }
+}
@@ -21,6 +21,8 @@ import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.field.LongField;
 import com.speedment.runtime.field.LongForeignKeyField;
 import com.speedment.runtime.field.exception.SpeedmentFieldException;
+import com.speedment.runtime.field.method.BatchedFinder;
+import com.speedment.runtime.field.method.LongGetter;
 
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -56,4 +58,16 @@ public final class FindFromLong<ENTITY, FK_ENTITY> extends AbstractFindFrom<ENTI
                 "' = '" + value + "'."
             ));
     }
-}
\ No newline at end of file
+
+    @Override
+    public BatchedFinder<ENTITY, FK_ENTITY> batched(int chunkSize) {
+        final LongGetter<ENTITY> source = getSourceField().getter();
+        final LongGetter<FK_ENTITY> target = getTargetField().getter();
+        return batched(
+            chunkSize,
+            entity -> source.applyAsLong(entity),
+            fk -> target.applyAsLong(fk),
+            key -> key
+        );
+    }
+}
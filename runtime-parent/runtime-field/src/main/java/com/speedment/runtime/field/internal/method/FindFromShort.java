@@ -21,6 +21,8 @@ import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.field.ShortField;
 import com.speedment.runtime.field.ShortForeignKeyField;
 import com.speedment.runtime.field.exception.SpeedmentFieldException;
+import com.speedment.runtime.field.method.BatchedFinder;
+import com.speedment.runtime.field.method.ShortGetter;
 
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -56,4 +58,16 @@ public final class FindFromShort<ENTITY, FK_ENTITY> extends AbstractFindFrom<ENT
                 "' = '" + value + "'."
             ));
     }
-}
\ No newline at end of file
+
+    @Override
+    public BatchedFinder<ENTITY, FK_ENTITY> batched(int chunkSize) {
+        final ShortGetter<ENTITY> source = getSourceField().getter();
+        final ShortGetter<FK_ENTITY> target = getTargetField().getter();
+        return batched(
+            chunkSize,
+            entity -> source.applyAsShort(entity),
+            fk -> target.applyAsShort(fk),
+            key -> (short) key
+        );
+    }
+}
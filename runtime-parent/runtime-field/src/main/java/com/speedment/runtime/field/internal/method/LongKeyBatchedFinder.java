@@ -0,0 +1,108 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.field.internal.method;
+
+import com.speedment.runtime.field.internal.util.LongObjMap;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A batched {@code FindFrom} for columns with an integral type. The foreign
+ * entities are cached in a {@link LongObjMap} so that looking up the foreign
+ * entity of a source entity neither boxes the key nor computes a hash code
+ * of a wrapper.
+ *
+ * @param <ENTITY>     the source entity
+ * @param <FK_ENTITY>  the target entity
+ * @param <V>          the wrapper type of the column
+ *
+ * @since  3.1.5
+ */
+final class LongKeyBatchedFinder<ENTITY, FK_ENTITY, V>
+extends AbstractBatchedFinder<ENTITY, FK_ENTITY, LongObjMap<FK_ENTITY>> {
+
+    private final AbstractFindFrom<ENTITY, FK_ENTITY, ?, ?, ?> finder;
+    private final ToLongFunction<ENTITY> sourceKey;
+    private final ToLongFunction<FK_ENTITY> targetKey;
+    private final LongFunction<V> boxer;
+    private final Function<Collection<V>, Predicate<FK_ENTITY>> in;
+
+    LongKeyBatchedFinder(
+            AbstractFindFrom<ENTITY, FK_ENTITY, ?, ?, ?> finder,
+            Supplier<Stream<FK_ENTITY>> streamSupplier,
+            int chunkSize,
+            ToLongFunction<ENTITY> sourceKey,
+            ToLongFunction<FK_ENTITY> targetKey,
+            LongFunction<V> boxer,
+            Function<Collection<V>, Predicate<FK_ENTITY>> in) {
+
+        super(streamSupplier, chunkSize);
+        this.finder    = requireNonNull(finder);
+        this.sourceKey = requireNonNull(sourceKey);
+        this.targetKey = requireNonNull(targetKey);
+        this.boxer     = requireNonNull(boxer);
+        this.in        = requireNonNull(in);
+    }
+
+    @Override
+    LongObjMap<FK_ENTITY> newCache() {
+        return new LongObjMap<>();
+    }
+
+    @Override
+    void fetch(LongObjMap<FK_ENTITY> cache, List<ENTITY> chunk) {
+        if (cache.size() > MAX_CACHED_KEYS) {
+            cache.clear();
+        }
+
+        final Set<V> missing = new HashSet<>();
+        for (final ENTITY entity : chunk) {
+            final long key = sourceKey.applyAsLong(entity);
+            if (!cache.containsKey(key)) {
+                missing.add(boxer.apply(key));
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            forEachFetched(in.apply(missing), fk ->
+                cache.put(targetKey.applyAsLong(fk), fk)
+            );
+        }
+    }
+
+    @Override
+    void forEachMatch(LongObjMap<FK_ENTITY> cache, ENTITY entity, Consumer<? super FK_ENTITY> action) {
+        final long key = sourceKey.applyAsLong(entity);
+        final FK_ENTITY fk = cache.get(key);
+        if (fk == null) {
+            throw finder.notFound(boxer.apply(key));
+        }
+        action.accept(fk);
+    }
+}
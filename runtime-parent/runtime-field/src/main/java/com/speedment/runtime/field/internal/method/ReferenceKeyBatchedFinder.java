@@ -0,0 +1,105 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.field.internal.method;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A batched {@code FindFrom} for columns with any comparable type. Source
+ * entities with a {@code null} key are combined with {@code null}.
+ *
+ * @param <ENTITY>     the source entity
+ * @param <FK_ENTITY>  the target entity
+ * @param <V>          the wrapper type of the column
+ *
+ * @since  3.1.5
+ */
+final class ReferenceKeyBatchedFinder<ENTITY, FK_ENTITY, V>
+extends AbstractBatchedFinder<ENTITY, FK_ENTITY, Map<V, FK_ENTITY>> {
+
+    private final AbstractFindFrom<ENTITY, FK_ENTITY, ?, ?, ?> finder;
+    private final Function<ENTITY, V> sourceKey;
+    private final Function<FK_ENTITY, V> targetKey;
+    private final Function<Collection<V>, Predicate<FK_ENTITY>> in;
+
+    ReferenceKeyBatchedFinder(
+            AbstractFindFrom<ENTITY, FK_ENTITY, ?, ?, ?> finder,
+            Supplier<Stream<FK_ENTITY>> streamSupplier,
+            int chunkSize,
+            Function<ENTITY, V> sourceKey,
+            Function<FK_ENTITY, V> targetKey,
+            Function<Collection<V>, Predicate<FK_ENTITY>> in) {
+
+        super(streamSupplier, chunkSize);
+        this.finder    = requireNonNull(finder);
+        this.sourceKey = requireNonNull(sourceKey);
+        this.targetKey = requireNonNull(targetKey);
+        this.in        = requireNonNull(in);
+    }
+
+    @Override
+    Map<V, FK_ENTITY> newCache() {
+        return new HashMap<>();
+    }
+
+    @Override
+    void fetch(Map<V, FK_ENTITY> cache, List<ENTITY> chunk) {
+        if (cache.size() > MAX_CACHED_KEYS) {
+            cache.clear();
+        }
+
+        final Set<V> missing = new HashSet<>();
+        for (final ENTITY entity : chunk) {
+            final V key = sourceKey.apply(entity);
+            if (key != null && !cache.containsKey(key)) {
+                missing.add(key);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            forEachFetched(in.apply(missing), fk ->
+                cache.put(targetKey.apply(fk), fk)
+            );
+        }
+    }
+
+    @Override
+    void forEachMatch(Map<V, FK_ENTITY> cache, ENTITY entity, Consumer<? super FK_ENTITY> action) {
+        final V key = sourceKey.apply(entity);
+        if (key == null) {
+            action.accept(null);
+        } else {
+            final FK_ENTITY fk = cache.get(key);
+            if (fk == null) {
+                throw finder.notFound(key);
+            }
+            action.accept(fk);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.field.internal.util;
+
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A hash map from primitive {@code long} keys to values. The keys and the
+ * values are stored in two parallel arrays using open addressing with linear
+ * probing, so neither looking up nor adding a key boxes the key or allocates
+ * an entry.
+ * <p>
+ * Values can not be {@code null} since an empty slot is represented by a
+ * {@code null} value. Keys can be added or replaced but not removed
+ * individually. Instances are not thread-safe.
+ *
+ * @param <V>  the value type
+ *
+ * @since  3.1.5
+ */
+public final class LongObjMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int threshold;
+
+    /**
+     * Creates a new, empty map.
+     */
+    public LongObjMap() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Returns the number of keys in this map.
+     *
+     * @return  the number of keys
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if the specified key has a value in this map.
+     *
+     * @param key  the key
+     * @return     {@code true} if the key is present
+     */
+    public boolean containsKey(long key) {
+        return values[indexOf(key)] != null;
+    }
+
+    /**
+     * Returns the value of the specified key, or {@code null} if the key is
+     * not present.
+     *
+     * @param key  the key
+     * @return     the value or {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        return (V) values[indexOf(key)];
+    }
+
+    /**
+     * Sets the value of the specified key, replacing any existing value.
+     *
+     * @param key    the key
+     * @param value  the new non-null value
+     */
+    public void put(long key, V value) {
+        requireNonNull(value);
+        final int index = indexOf(key);
+        if (values[index] == null) {
+            keys[index] = key;
+            values[index] = value;
+            if (++size > threshold) {
+                resize();
+            }
+        } else {
+            values[index] = value;
+        }
+    }
+
+    /**
+     * Removes all keys from this map, keeping the allocated capacity.
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    private int indexOf(long key) {
+        int index = hash(key) & mask;
+        while (values[index] != null && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void resize() {
+        final long[] oldKeys = keys;
+        final Object[] oldValues = values;
+        allocate(oldKeys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int index = hash(oldKeys[i]) & mask;
+                while (values[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys      = new long[capacity];
+        values    = new Object[capacity];
+        mask      = capacity - 1;
+        threshold = (capacity >> 1) + (capacity >> 2); // 75 %
+    }
+
+    private static int hash(long key) {
+        // Keys are often consecutive, so the bits are spread to avoid long
+        // runs of occupied slots.
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -19,6 +19,7 @@ package com.speedment.runtime.field.method;
 import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.field.trait.HasFinder;
 
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -64,4 +65,32 @@ public interface BackwardFinder<ENTITY, FK_ENTITY>
      * @return  target (foreign) table identifier
      */
     TableIdentifier<FK_ENTITY> getTableIdentifier();
+
+    /**
+     * Returns a {@link BatchedFinder} that finds the foreign entities of a
+     * whole stream of entities using one query per chunk of entities instead
+     * of one query per entity.
+     * <p>
+     * The default implementation applies this finder to one entity at a
+     * time.
+     *
+     * @param chunkSize  the maximum number of entities in each chunk
+     * @return           the batched finder
+     * @since 3.1.5
+     */
+    default BatchedFinder<ENTITY, FK_ENTITY> batched(int chunkSize) {
+        return new BatchedFinder<ENTITY, FK_ENTITY>() {
+            @Override
+            public <R> Stream<R> join(
+                    Stream<? extends ENTITY> entities,
+                    BiFunction<? super ENTITY, ? super FK_ENTITY, ? extends R> combiner) {
+                return entities.flatMap(entity -> {
+                    final Stream<FK_ENTITY> found = apply(entity);
+                    return found == null
+                        ? null
+                        : found.map(fk -> combiner.apply(entity, fk));
+                });
+            }
+        };
+    }
 }
\ No newline at end of file
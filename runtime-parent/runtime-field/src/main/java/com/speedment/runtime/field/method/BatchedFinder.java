@@ -0,0 +1,63 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.field.method;
+
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+/**
+ * A finder that resolves the foreign entities of a whole stream of entities
+ * at once instead of one entity at a time. The entities are read in chunks
+ * and the foreign entities of each chunk are fetched using a single stream
+ * filtered on all the keys of the chunk, which in a SQL database becomes a
+ * single {@code WHERE key IN (...)} query instead of one query per entity.
+ * <p>
+ * Foreign entities that have already been fetched are cached for the
+ * duration of the returned stream, so an entity that is referenced many
+ * times is only fetched once.
+ * <p>
+ * Example:
+ * {@code
+ *      ORDER_LINE_ORDER_ID.finder(orders.getTableIdentifier(), orders::stream)
+ *          .batched(1_000)
+ *          .join(orderLines.stream(), (line, order) -> ...)
+ *          .forEach(...);
+ * }
+ *
+ * @param <ENTITY>     the source entity
+ * @param <FK_ENTITY>  the target entity
+ *
+ * @since  3.1.5
+ */
+public interface BatchedFinder<ENTITY, FK_ENTITY> {
+
+    /**
+     * Returns a stream with the result of the specified combiner for every
+     * entity in the specified stream and every foreign entity it references.
+     * The order of the entities is preserved. Closing the returned stream
+     * closes the specified stream.
+     *
+     * @param <R>       the result type
+     * @param entities  the source entities
+     * @param combiner  combines an entity with a foreign entity
+     * @return          the combined results
+     */
+    <R> Stream<R> join(
+        Stream<? extends ENTITY> entities,
+        BiFunction<? super ENTITY, ? super FK_ENTITY, ? extends R> combiner
+    );
+}
@@ -19,7 +19,9 @@ package com.speedment.runtime.field.method;
 import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.field.Field;
 
+import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * A handle for a find-operation that can be replaced runtime to optimize a 
@@ -74,4 +76,27 @@ public interface FindFrom<ENTITY, FK_ENTITY> extends Function<ENTITY, FK_ENTITY>
      */
     TableIdentifier<FK_ENTITY> getTableIdentifier();
 
+    /**
+     * Returns a {@link BatchedFinder} that finds the foreign entities of a
+     * whole stream of entities using one query per chunk of entities instead
+     * of one query per entity.
+     * <p>
+     * The default implementation applies this finder to one entity at a
+     * time.
+     *
+     * @param chunkSize  the maximum number of entities in each chunk
+     * @return           the batched finder
+     * @since 3.1.5
+     */
+    default BatchedFinder<ENTITY, FK_ENTITY> batched(int chunkSize) {
+        return new BatchedFinder<ENTITY, FK_ENTITY>() {
+            @Override
+            public <R> Stream<R> join(
+                    Stream<? extends ENTITY> entities,
+                    BiFunction<? super ENTITY, ? super FK_ENTITY, ? extends R> combiner) {
+                return entities.map(entity -> combiner.apply(entity, apply(entity)));
+            }
+        };
+    }
+
 }
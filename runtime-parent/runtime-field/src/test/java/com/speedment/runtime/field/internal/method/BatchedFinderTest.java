@@ -0,0 +1,177 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.field.internal.method;
+
+import com.speedment.runtime.config.identifier.ColumnIdentifier;
+import com.speedment.runtime.config.identifier.TableIdentifier;
+import com.speedment.runtime.field.LongField;
+import com.speedment.runtime.field.LongForeignKeyField;
+import com.speedment.runtime.field.exception.SpeedmentFieldException;
+import com.speedment.runtime.field.method.BatchedFinder;
+import com.speedment.runtime.typemapper.TypeMapper;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ *
+ * @since 3.1.5
+ */
+public final class BatchedFinderTest {
+
+    private static final LongField<Order, Long> ORDER_ID = LongField.create(
+        ColumnIdentifier.of("db", "shop", "order", "id"),
+        Order::getId, (o, v) -> {}, TypeMapper.identity(), true
+    );
+
+    private static final LongForeignKeyField<Line, Long, Order> LINE_ORDER_ID = LongForeignKeyField.create(
+        ColumnIdentifier.of("db", "shop", "line", "order_id"),
+        Line::getOrderId, (l, v) -> {}, ORDER_ID, TypeMapper.identity(), false
+    );
+
+    private static final TableIdentifier<Order> ORDER = TableIdentifier.of("db", "shop", "order");
+    private static final TableIdentifier<Line> LINE = TableIdentifier.of("db", "shop", "line");
+
+    private final List<Order> orders = LongStream.range(0, 100)
+        .mapToObj(Order::new)
+        .collect(Collectors.toList());
+
+    // Ten lines per order, with the orders repeating every 50 lines
+    private final List<Line> lines = IntStream.range(0, 1_000)
+        .mapToObj(i -> new Line(i, i % 50 + (i / 500) * 50))
+        .collect(Collectors.toList());
+
+    @Test
+    public void testFindFromUsesOneQueryPerChunk() {
+        final AtomicInteger queries = new AtomicInteger();
+        final BatchedFinder<Line, Order> finder = LINE_ORDER_ID
+            .finder(ORDER, counting(orders, queries))
+            .batched(100);
+
+        final List<String> expected = lines.stream()
+            .map(l -> l.getId() + "->" + l.getOrderId())
+            .collect(Collectors.toList());
+        final List<String> actual = finder
+            .join(lines.stream(), (l, o) -> l.getId() + "->" + o.getId())
+            .collect(Collectors.toList());
+
+        assertEquals(expected, actual);
+        // Orders 0-49 are fetched by the first chunk and 50-99 by the sixth
+        assertEquals(2, queries.get());
+    }
+
+    @Test
+    public void testFindFromIsLazy() {
+        final AtomicInteger queries = new AtomicInteger();
+        final long count = LINE_ORDER_ID
+            .finder(ORDER, counting(orders, queries))
+            .batched(10)
+            .join(lines.stream(), (l, o) -> o)
+            .limit(15)
+            .count();
+
+        assertEquals(15, count);
+        assertEquals(2, queries.get());
+    }
+
+    @Test
+    public void testFindFromMissingEntity() {
+        final List<Order> some = orders.subList(0, 10);
+        try {
+            LINE_ORDER_ID.finder(ORDER, some::stream)
+                .batched(100)
+                .join(lines.stream(), (l, o) -> o)
+                .forEach(o -> {});
+            fail("Expected a SpeedmentFieldException");
+        } catch (final SpeedmentFieldException ex) {
+            assertEquals(
+                "Error! Could not find any entities in table '" + ORDER +
+                "' with 'id' = '10'.",
+                ex.getMessage()
+            );
+        }
+    }
+
+    @Test
+    public void testBackwardFinder() {
+        final AtomicInteger queries = new AtomicInteger();
+        final BatchedFinder<Order, Line> finder = new BackwardFinderImpl<>(
+            LINE_ORDER_ID, LINE, counting(lines, queries)
+        ).batched(30);
+
+        final List<String> expected = new ArrayList<>();
+        orders.forEach(o -> lines.stream()
+            .filter(l -> l.getOrderId() == o.getId())
+            .forEach(l -> expected.add(o.getId() + "<-" + l.getId()))
+        );
+        final List<String> actual = finder
+            .join(orders.stream(), (o, l) -> o.getId() + "<-" + l.getId())
+            .collect(Collectors.toList());
+
+        assertEquals(expected, actual);
+        assertEquals(4, queries.get());
+    }
+
+    private static <T> Supplier<Stream<T>> counting(List<T> list, AtomicInteger queries) {
+        return () -> {
+            queries.incrementAndGet();
+            return list.stream();
+        };
+    }
+
+    private static final class Order {
+
+        private final long id;
+
+        Order(long id) {
+            this.id = id;
+        }
+
+        long getId() {
+            return id;
+        }
+    }
+
+    private static final class Line {
+
+        private final long id;
+        private final long orderId;
+
+        Line(long id, long orderId) {
+            this.id = id;
+            this.orderId = orderId;
+        }
+
+        long getId() {
+            return id;
+        }
+
+        long getOrderId() {
+            return orderId;
+        }
+    }
+}
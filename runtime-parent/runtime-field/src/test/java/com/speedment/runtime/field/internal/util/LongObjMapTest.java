@@ -0,0 +1,66 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.field.internal.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @since 3.1.5
+ */
+public final class LongObjMapTest {
+
+    @Test
+    public void testPutAndGet() {
+        final LongObjMap<String> map = new LongObjMap<>();
+        for (long key = -1_000; key < 1_000; key++) {
+            map.put(key * 31, "v" + key);
+        }
+
+        assertEquals(2_000, map.size());
+        for (long key = -1_000; key < 1_000; key++) {
+            assertTrue(map.containsKey(key * 31));
+            assertEquals("v" + key, map.get(key * 31));
+        }
+        assertFalse(map.containsKey(1));
+        assertNull(map.get(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testReplaceAndClear() {
+        final LongObjMap<String> map = new LongObjMap<>();
+        map.put(0, "a");
+        map.put(0, "b");
+        map.put(Long.MIN_VALUE, "c");
+
+        assertEquals(2, map.size());
+        assertEquals("b", map.get(0));
+        assertEquals("c", map.get(Long.MIN_VALUE));
+
+        map.clear();
+        assertEquals(0, map.size());
+        assertNull(map.get(0));
+
+        map.put(0, "d");
+        assertEquals("d", map.get(0));
+    }
+}
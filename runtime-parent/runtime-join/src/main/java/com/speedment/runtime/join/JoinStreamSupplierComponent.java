@@ -35,4 +35,5 @@ public interface JoinStreamSupplierComponent
             HasCreateJoin7,
             HasCreateJoin8,
             HasCreateJoin9,
-            HasCreateJoin10 {}
+            HasCreateJoin10,
+            HasCreateFlatJoin {}
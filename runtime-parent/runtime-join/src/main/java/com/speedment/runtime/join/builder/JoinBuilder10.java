@@ -4,8 +4,10 @@ import com.speedment.common.function.Function10;
 import com.speedment.common.tuple.Tuple;
 import com.speedment.common.tuple.TuplesOfNullables;
 import com.speedment.common.tuple.nullable.Tuple10OfNullables;
+import com.speedment.common.tuple.view.Tuple10View;
 import com.speedment.runtime.join.Join;
 import com.speedment.runtime.join.trait.HasDefaultBuild;
+import com.speedment.runtime.join.trait.HasFlatBuild;
 import com.speedment.runtime.join.trait.HasWhere;
 
 /**
@@ -28,7 +30,8 @@ import com.speedment.runtime.join.trait.HasWhere;
  */
 public interface JoinBuilder10<T0, T1, T2, T3, T4, T5, T6, T7, T8, T9>
     extends HasWhere<T9, JoinBuilder10<T0, T1, T2, T3, T4, T5, T6, T7, T8, T9>>,
-            HasDefaultBuild<Tuple10OfNullables<T0, T1, T2, T3, T4, T5, T6, T7, T8, T9>> {
+            HasDefaultBuild<Tuple10OfNullables<T0, T1, T2, T3, T4, T5, T6, T7, T8, T9>>,
+            HasFlatBuild<Tuple10View<T0, T1, T2, T3, T4, T5, T6, T7, T8, T9>> {
 
     @Override
     default Join<Tuple10OfNullables<T0, T1, T2, T3, T4, T5, T6, T7, T8, T9>> build() {
@@ -3,10 +3,12 @@ package com.speedment.runtime.join.builder;
 import com.speedment.common.tuple.Tuple;
 import com.speedment.common.tuple.TuplesOfNullables;
 import com.speedment.common.tuple.nullable.Tuple2OfNullables;
+import com.speedment.common.tuple.view.Tuple2View;
 import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.field.trait.HasComparableOperators;
 import com.speedment.runtime.join.Join;
 import com.speedment.runtime.join.trait.HasDefaultBuild;
+import com.speedment.runtime.join.trait.HasFlatBuild;
 import com.speedment.runtime.join.trait.HasJoins;
 import com.speedment.runtime.join.trait.HasOnPredicates;
 import com.speedment.runtime.join.trait.HasWhere;
@@ -26,7 +28,8 @@ import java.util.function.BiFunction;
 public interface JoinBuilder2<T0, T1>
     extends HasJoins<JoinBuilder2.AfterJoin<T0, T1, ?>, JoinBuilder3<T0, T1, ?>>,
             HasWhere<T1, JoinBuilder2<T0, T1>>,
-            HasDefaultBuild<Tuple2OfNullables<T0, T1>> {
+            HasDefaultBuild<Tuple2OfNullables<T0, T1>>,
+            HasFlatBuild<Tuple2View<T0, T1>> {
 
     @Override
     <T2> AfterJoin<T0, T1, T2> innerJoinOn(HasComparableOperators<T2, ?> joinedField);
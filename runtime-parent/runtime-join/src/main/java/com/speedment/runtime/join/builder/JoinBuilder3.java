@@ -4,10 +4,12 @@ import com.speedment.common.function.TriFunction;
 import com.speedment.common.tuple.Tuple;
 import com.speedment.common.tuple.TuplesOfNullables;
 import com.speedment.common.tuple.nullable.Tuple3OfNullables;
+import com.speedment.common.tuple.view.Tuple3View;
 import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.field.trait.HasComparableOperators;
 import com.speedment.runtime.join.Join;
 import com.speedment.runtime.join.trait.HasDefaultBuild;
+import com.speedment.runtime.join.trait.HasFlatBuild;
 import com.speedment.runtime.join.trait.HasJoins;
 import com.speedment.runtime.join.trait.HasOnPredicates;
 import com.speedment.runtime.join.trait.HasWhere;
@@ -26,7 +28,8 @@ import com.speedment.runtime.join.trait.HasWhere;
 public interface JoinBuilder3<T0, T1, T2>
     extends HasJoins<JoinBuilder3.AfterJoin<T0, T1, T2, ?>, JoinBuilder4<T0, T1, T2, ?>>,
             HasWhere<T2, JoinBuilder3<T0, T1, T2>>,
-            HasDefaultBuild<Tuple3OfNullables<T0, T1, T2>> {
+            HasDefaultBuild<Tuple3OfNullables<T0, T1, T2>>,
+            HasFlatBuild<Tuple3View<T0, T1, T2>> {
 
     @Override
     <T3> AfterJoin<T0, T1, T2, T3> innerJoinOn(HasComparableOperators<T3, ?> joinedField);
@@ -4,10 +4,12 @@ import com.speedment.common.function.QuadFunction;
 import com.speedment.common.tuple.Tuple;
 import com.speedment.common.tuple.TuplesOfNullables;
 import com.speedment.common.tuple.nullable.Tuple4OfNullables;
+import com.speedment.common.tuple.view.Tuple4View;
 import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.field.trait.HasComparableOperators;
 import com.speedment.runtime.join.Join;
 import com.speedment.runtime.join.trait.HasDefaultBuild;
+import com.speedment.runtime.join.trait.HasFlatBuild;
 import com.speedment.runtime.join.trait.HasJoins;
 import com.speedment.runtime.join.trait.HasOnPredicates;
 import com.speedment.runtime.join.trait.HasWhere;
@@ -27,7 +29,8 @@ import com.speedment.runtime.join.trait.HasWhere;
 public interface JoinBuilder4<T0, T1, T2, T3>
     extends HasJoins<JoinBuilder4.AfterJoin<T0, T1, T2, T3, ?>, JoinBuilder5<T0, T1, T2, T3, ?>>,
             HasWhere<T3, JoinBuilder4<T0, T1, T2, T3>>,
-            HasDefaultBuild<Tuple4OfNullables<T0, T1, T2, T3>> {
+            HasDefaultBuild<Tuple4OfNullables<T0, T1, T2, T3>>,
+            HasFlatBuild<Tuple4View<T0, T1, T2, T3>> {
 
     @Override
     <T4> AfterJoin<T0, T1, T2, T3, T4> innerJoinOn(HasComparableOperators<T4, ?> joinedField);
@@ -4,10 +4,12 @@ import com.speedment.common.function.Function5;
 import com.speedment.common.tuple.Tuple;
 import com.speedment.common.tuple.TuplesOfNullables;
 import com.speedment.common.tuple.nullable.Tuple5OfNullables;
+import com.speedment.common.tuple.view.Tuple5View;
 import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.field.trait.HasComparableOperators;
 import com.speedment.runtime.join.Join;
 import com.speedment.runtime.join.trait.HasDefaultBuild;
+import com.speedment.runtime.join.trait.HasFlatBuild;
 import com.speedment.runtime.join.trait.HasJoins;
 import com.speedment.runtime.join.trait.HasOnPredicates;
 import com.speedment.runtime.join.trait.HasWhere;
@@ -28,7 +30,8 @@ import com.speedment.runtime.join.trait.HasWhere;
 public interface JoinBuilder5<T0, T1, T2, T3, T4>
     extends HasJoins<JoinBuilder5.AfterJoin<T0, T1, T2, T3, T4, ?>, JoinBuilder6<T0, T1, T2, T3, T4, ?>>,
             HasWhere<T4, JoinBuilder5<T0, T1, T2, T3, T4>>,
-            HasDefaultBuild<Tuple5OfNullables<T0, T1, T2, T3, T4>> {
+            HasDefaultBuild<Tuple5OfNullables<T0, T1, T2, T3, T4>>,
+            HasFlatBuild<Tuple5View<T0, T1, T2, T3, T4>> {
 
     @Override
     <T5> AfterJoin<T0, T1, T2, T3, T4, T5> innerJoinOn(HasComparableOperators<T5, ?> joinedField);
@@ -4,10 +4,12 @@ import com.speedment.common.function.Function6;
 import com.speedment.common.tuple.Tuple;
 import com.speedment.common.tuple.TuplesOfNullables;
 import com.speedment.common.tuple.nullable.Tuple6OfNullables;
+import com.speedment.common.tuple.view.Tuple6View;
 import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.field.trait.HasComparableOperators;
 import com.speedment.runtime.join.Join;
 import com.speedment.runtime.join.trait.HasDefaultBuild;
+import com.speedment.runtime.join.trait.HasFlatBuild;
 import com.speedment.runtime.join.trait.HasJoins;
 import com.speedment.runtime.join.trait.HasOnPredicates;
 import com.speedment.runtime.join.trait.HasWhere;
@@ -29,7 +31,8 @@ import com.speedment.runtime.join.trait.HasWhere;
 public interface JoinBuilder6<T0, T1, T2, T3, T4, T5>
     extends HasJoins<JoinBuilder6.AfterJoin<T0, T1, T2, T3, T4, T5, ?>, JoinBuilder7<T0, T1, T2, T3, T4, T5, ?>>,
             HasWhere<T5, JoinBuilder6<T0, T1, T2, T3, T4, T5>>,
-            HasDefaultBuild<Tuple6OfNullables<T0, T1, T2, T3, T4, T5>> {
+            HasDefaultBuild<Tuple6OfNullables<T0, T1, T2, T3, T4, T5>>,
+            HasFlatBuild<Tuple6View<T0, T1, T2, T3, T4, T5>> {
 
     @Override
     <T6> AfterJoin<T0, T1, T2, T3, T4, T5, T6> innerJoinOn(HasComparableOperators<T6, ?> joinedField);
@@ -4,10 +4,12 @@ import com.speedment.common.function.Function7;
 import com.speedment.common.tuple.Tuple;
 import com.speedment.common.tuple.TuplesOfNullables;
 import com.speedment.common.tuple.nullable.Tuple7OfNullables;
+import com.speedment.common.tuple.view.Tuple7View;
 import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.field.trait.HasComparableOperators;
 import com.speedment.runtime.join.Join;
 import com.speedment.runtime.join.trait.HasDefaultBuild;
+import com.speedment.runtime.join.trait.HasFlatBuild;
 import com.speedment.runtime.join.trait.HasJoins;
 import com.speedment.runtime.join.trait.HasOnPredicates;
 import com.speedment.runtime.join.trait.HasWhere;
@@ -30,7 +32,8 @@ import com.speedment.runtime.join.trait.HasWhere;
 public interface JoinBuilder7<T0, T1, T2, T3, T4, T5, T6>
     extends HasJoins<JoinBuilder7.AfterJoin<T0, T1, T2, T3, T4, T5, T6, ?>, JoinBuilder8<T0, T1, T2, T3, T4, T5, T6, ?>>,
             HasWhere<T6, JoinBuilder7<T0, T1, T2, T3, T4, T5, T6>>,
-            HasDefaultBuild<Tuple7OfNullables<T0, T1, T2, T3, T4, T5, T6>> {
+            HasDefaultBuild<Tuple7OfNullables<T0, T1, T2, T3, T4, T5, T6>>,
+            HasFlatBuild<Tuple7View<T0, T1, T2, T3, T4, T5, T6>> {
 
     @Override
     <T7> AfterJoin<T0, T1, T2, T3, T4, T5, T6, T7> innerJoinOn(HasComparableOperators<T7, ?> joinedField);
@@ -4,10 +4,12 @@ import com.speedment.common.function.Function8;
 import com.speedment.common.tuple.Tuple;
 import com.speedment.common.tuple.TuplesOfNullables;
 import com.speedment.common.tuple.nullable.Tuple8OfNullables;
+import com.speedment.common.tuple.view.Tuple8View;
 import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.field.trait.HasComparableOperators;
 import com.speedment.runtime.join.Join;
 import com.speedment.runtime.join.trait.HasDefaultBuild;
+import com.speedment.runtime.join.trait.HasFlatBuild;
 import com.speedment.runtime.join.trait.HasJoins;
 import com.speedment.runtime.join.trait.HasOnPredicates;
 import com.speedment.runtime.join.trait.HasWhere;
@@ -31,7 +33,8 @@ import com.speedment.runtime.join.trait.HasWhere;
 public interface JoinBuilder8<T0, T1, T2, T3, T4, T5, T6, T7>
     extends HasJoins<JoinBuilder8.AfterJoin<T0, T1, T2, T3, T4, T5, T6, T7, ?>, JoinBuilder9<T0, T1, T2, T3, T4, T5, T6, T7, ?>>,
             HasWhere<T7, JoinBuilder8<T0, T1, T2, T3, T4, T5, T6, T7>>,
-            HasDefaultBuild<Tuple8OfNullables<T0, T1, T2, T3, T4, T5, T6, T7>> {
+            HasDefaultBuild<Tuple8OfNullables<T0, T1, T2, T3, T4, T5, T6, T7>>,
+            HasFlatBuild<Tuple8View<T0, T1, T2, T3, T4, T5, T6, T7>> {
 
     @Override
     <T8> AfterJoin<T0, T1, T2, T3, T4, T5, T6, T7, T8> innerJoinOn(HasComparableOperators<T8, ?> joinedField);
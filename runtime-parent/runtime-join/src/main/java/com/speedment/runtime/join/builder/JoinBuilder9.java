@@ -4,10 +4,12 @@ import com.speedment.common.function.Function9;
 import com.speedment.common.tuple.Tuple;
 import com.speedment.common.tuple.TuplesOfNullables;
 import com.speedment.common.tuple.nullable.Tuple9OfNullables;
+import com.speedment.common.tuple.view.Tuple9View;
 import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.field.trait.HasComparableOperators;
 import com.speedment.runtime.join.Join;
 import com.speedment.runtime.join.trait.HasDefaultBuild;
+import com.speedment.runtime.join.trait.HasFlatBuild;
 import com.speedment.runtime.join.trait.HasJoins;
 import com.speedment.runtime.join.trait.HasOnPredicates;
 import com.speedment.runtime.join.trait.HasWhere;
@@ -32,7 +34,8 @@ import com.speedment.runtime.join.trait.HasWhere;
 public interface JoinBuilder9<T0, T1, T2, T3, T4, T5, T6, T7, T8>
     extends HasJoins<JoinBuilder9.AfterJoin<T0, T1, T2, T3, T4, T5, T6, T7, T8, ?>, JoinBuilder10<T0, T1, T2, T3, T4, T5, T6, T7, T8, ?>>,
             HasWhere<T8, JoinBuilder9<T0, T1, T2, T3, T4, T5, T6, T7, T8>>,
-            HasDefaultBuild<Tuple9OfNullables<T0, T1, T2, T3, T4, T5, T6, T7, T8>> {
+            HasDefaultBuild<Tuple9OfNullables<T0, T1, T2, T3, T4, T5, T6, T7, T8>>,
+            HasFlatBuild<Tuple9View<T0, T1, T2, T3, T4, T5, T6, T7, T8>> {
 
     @Override
     <T9> AfterJoin<T0, T1, T2, T3, T4, T5, T6, T7, T8, T9> innerJoinOn(HasComparableOperators<T9, ?> joinedField);
@@ -17,6 +17,7 @@
 package com.speedment.runtime.join.internal.component.join;
 
 import com.speedment.common.function.Function10;
+import com.speedment.common.tuple.view.Tuple10View;
 import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.join.Join;
 import com.speedment.runtime.join.builder.JoinBuilder10;
@@ -36,6 +37,11 @@ final class JoinBuilder10Impl<T0, T1, T2, T3, T4, T5, T6, T7, T8, T9>
         super(previousStage, current);
     }
 
+    @Override
+    public Join<Tuple10View<T0, T1, T2, T3, T4, T5, T6, T7, T8, T9>> buildFlat() {
+        return streamSuppler().createFlatJoin(stages(), Tuple10View::of);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> Join<T> build(Function10<T0, T1, T2, T3, T4, T5, T6, T7, T8, T9, T> constructor) {
@@ -16,6 +16,7 @@
  */
 package com.speedment.runtime.join.internal.component.join;
 
+import com.speedment.common.tuple.view.Tuple2View;
 import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.field.trait.HasComparableOperators;
 import com.speedment.runtime.join.Join;
@@ -74,6 +75,11 @@ final class JoinBuilder2Impl<T0, T1>
 
     }
 
+    @Override
+    public Join<Tuple2View<T0, T1>> buildFlat() {
+        return streamSuppler().createFlatJoin(stages(), Tuple2View::of);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> Join<T> build(BiFunction<T0, T1, T> constructor) {
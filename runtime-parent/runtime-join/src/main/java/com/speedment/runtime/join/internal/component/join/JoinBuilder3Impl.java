@@ -17,6 +17,7 @@
 package com.speedment.runtime.join.internal.component.join;
 
 import com.speedment.common.function.TriFunction;
+import com.speedment.common.tuple.view.Tuple3View;
 import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.field.trait.HasComparableOperators;
 import com.speedment.runtime.join.Join;
@@ -73,6 +74,11 @@ final class JoinBuilder3Impl<T0, T1, T2>
         }
     }
 
+    @Override
+    public Join<Tuple3View<T0, T1, T2>> buildFlat() {
+        return streamSuppler().createFlatJoin(stages(), Tuple3View::of);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> Join<T> build(TriFunction<T0, T1, T2, T> constructor) {
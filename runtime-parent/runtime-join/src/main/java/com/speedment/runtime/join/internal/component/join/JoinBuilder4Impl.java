@@ -17,6 +17,7 @@
 package com.speedment.runtime.join.internal.component.join;
 
 import com.speedment.common.function.QuadFunction;
+import com.speedment.common.tuple.view.Tuple4View;
 import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.field.trait.HasComparableOperators;
 import com.speedment.runtime.join.Join;
@@ -74,6 +75,11 @@ final class JoinBuilder4Impl<T0, T1, T2, T3>
 
     }
 
+    @Override
+    public Join<Tuple4View<T0, T1, T2, T3>> buildFlat() {
+        return streamSuppler().createFlatJoin(stages(), Tuple4View::of);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> Join<T> build(QuadFunction<T0, T1, T2, T3, T> constructor) {
@@ -17,6 +17,7 @@
 package com.speedment.runtime.join.internal.component.join;
 
 import com.speedment.common.function.Function5;
+import com.speedment.common.tuple.view.Tuple5View;
 import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.field.trait.HasComparableOperators;
 import com.speedment.runtime.join.Join;
@@ -74,6 +75,11 @@ final class JoinBuilder5Impl<T0, T1, T2, T3, T4>
 
     }
 
+    @Override
+    public Join<Tuple5View<T0, T1, T2, T3, T4>> buildFlat() {
+        return streamSuppler().createFlatJoin(stages(), Tuple5View::of);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> Join<T> build(Function5<T0, T1, T2, T3, T4, T> constructor) {
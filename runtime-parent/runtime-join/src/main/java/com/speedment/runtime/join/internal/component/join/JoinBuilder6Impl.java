@@ -17,6 +17,7 @@
 package com.speedment.runtime.join.internal.component.join;
 
 import com.speedment.common.function.Function6;
+import com.speedment.common.tuple.view.Tuple6View;
 import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.field.trait.HasComparableOperators;
 import com.speedment.runtime.join.Join;
@@ -76,6 +77,11 @@ final class JoinBuilder6Impl<T0, T1, T2, T3, T4, T5>
 
     }
 
+    @Override
+    public Join<Tuple6View<T0, T1, T2, T3, T4, T5>> buildFlat() {
+        return streamSuppler().createFlatJoin(stages(), Tuple6View::of);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> Join<T> build(Function6<T0, T1, T2, T3, T4, T5, T> constructor) {
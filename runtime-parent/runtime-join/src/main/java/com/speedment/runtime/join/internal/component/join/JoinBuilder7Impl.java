@@ -17,6 +17,7 @@
 package com.speedment.runtime.join.internal.component.join;
 
 import com.speedment.common.function.Function7;
+import com.speedment.common.tuple.view.Tuple7View;
 import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.field.trait.HasComparableOperators;
 import com.speedment.runtime.join.Join;
@@ -76,6 +77,11 @@ final class JoinBuilder7Impl<T0, T1, T2, T3, T4, T5, T6>
 
     }
 
+    @Override
+    public Join<Tuple7View<T0, T1, T2, T3, T4, T5, T6>> buildFlat() {
+        return streamSuppler().createFlatJoin(stages(), Tuple7View::of);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> Join<T> build(Function7<T0, T1, T2, T3, T4, T5, T6, T> constructor) {
@@ -17,6 +17,7 @@
 package com.speedment.runtime.join.internal.component.join;
 
 import com.speedment.common.function.Function8;
+import com.speedment.common.tuple.view.Tuple8View;
 import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.field.trait.HasComparableOperators;
 import com.speedment.runtime.join.Join;
@@ -76,6 +77,11 @@ final class JoinBuilder8Impl<T0, T1, T2, T3, T4, T5, T6, T7>
 
     }
 
+    @Override
+    public Join<Tuple8View<T0, T1, T2, T3, T4, T5, T6, T7>> buildFlat() {
+        return streamSuppler().createFlatJoin(stages(), Tuple8View::of);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> Join<T> build(Function8<T0, T1, T2, T3, T4, T5, T6, T7, T> constructor) {
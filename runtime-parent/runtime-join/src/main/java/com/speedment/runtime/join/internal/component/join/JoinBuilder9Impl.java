@@ -17,6 +17,7 @@
 package com.speedment.runtime.join.internal.component.join;
 
 import com.speedment.common.function.Function9;
+import com.speedment.common.tuple.view.Tuple9View;
 import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.field.trait.HasComparableOperators;
 import com.speedment.runtime.join.Join;
@@ -76,6 +77,11 @@ final class JoinBuilder9Impl<T0, T1, T2, T3, T4, T5, T6, T7, T8>
 
     }
 
+    @Override
+    public Join<Tuple9View<T0, T1, T2, T3, T4, T5, T6, T7, T8>> buildFlat() {
+        return streamSuppler().createFlatJoin(stages(), Tuple9View::of);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> Join<T> build(Function9<T0, T1, T2, T3, T4, T5, T6, T7, T8, T> constructor) {
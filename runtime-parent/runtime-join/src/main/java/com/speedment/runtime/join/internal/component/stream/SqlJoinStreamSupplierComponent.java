@@ -20,6 +20,7 @@ import com.speedment.common.function.*;
 import com.speedment.common.injector.Injector;
 import com.speedment.common.injector.annotation.Config;
 import com.speedment.common.injector.annotation.Execute;
+import com.speedment.common.tuple.view.RowBuffer;
 import com.speedment.runtime.config.Project;
 import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.core.component.DbmsHandlerComponent;
@@ -27,6 +28,7 @@ import com.speedment.runtime.core.component.ProjectComponent;
 import com.speedment.runtime.core.component.SqlAdapter;
 import com.speedment.runtime.join.Join;
 import com.speedment.runtime.join.JoinStreamSupplierComponent;
+import com.speedment.runtime.join.internal.component.stream.sql.SqlCreateFlatJoin;
 import com.speedment.runtime.join.internal.component.stream.sql.SqlHasCreateJoin10;
 import com.speedment.runtime.join.internal.component.stream.sql.SqlHasCreateJoin2;
 import com.speedment.runtime.join.internal.component.stream.sql.SqlHasCreateJoin3;
@@ -42,6 +44,7 @@ import com.speedment.runtime.join.trait.*;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toMap;
 
@@ -62,6 +65,7 @@ public class SqlJoinStreamSupplierComponent
     private HasCreateJoin8 join8Creator;
     private HasCreateJoin9 join9Creator;
     private HasCreateJoin10 join10Creator;
+    private HasCreateFlatJoin flatJoinCreator;
 
     @Config(name = "allowStreamIteratorAndSpliterator", value = "false")
     private boolean allowStreamIteratorAndSpliterator;
@@ -91,6 +95,7 @@ public class SqlJoinStreamSupplierComponent
         join8Creator = new SqlHasCreateJoin8(dbmsHandlerComponent, project, this::sqlAdapterMapper, allowStreamIteratorAndSpliterator);
         join9Creator = new SqlHasCreateJoin9(dbmsHandlerComponent, project, this::sqlAdapterMapper, allowStreamIteratorAndSpliterator);
         join10Creator = new SqlHasCreateJoin10(dbmsHandlerComponent, project, this::sqlAdapterMapper, allowStreamIteratorAndSpliterator);
+        flatJoinCreator = new SqlCreateFlatJoin(dbmsHandlerComponent, project, this::sqlAdapterMapper, allowStreamIteratorAndSpliterator);
     }
 
     @Override
@@ -223,6 +228,14 @@ public class SqlJoinStreamSupplierComponent
         return join10Creator.createJoin(stages, constructor, t0, t1, t2, t3, t4, t5, t6, t7, t8, t9);
     }
 
+    @Override
+    public <T> Join<T> createFlatJoin(
+        final List<Stage<?>> stages,
+        final Function<RowBuffer, T> viewConstructor
+    ) {
+        return flatJoinCreator.createFlatJoin(stages, viewConstructor);
+    }
+
 
     private <ENTITY> SqlAdapter<ENTITY> sqlAdapterMapper(TableIdentifier<ENTITY> identifier) {
         @SuppressWarnings("unchecked")
@@ -27,6 +27,7 @@ import static com.speedment.runtime.join.internal.component.stream.sql.JoinSqlUt
 import com.speedment.runtime.join.stage.Stage;
 import java.sql.ResultSet;
 import java.util.List;
+import java.util.function.Supplier;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -68,4 +69,17 @@ abstract class AbstractSqlHasCreateJoin {
         );
     }
 
+    /**
+     * Creates a new Join where the {@code rsMapperSupplier} is invoked once
+     * every time a stream is created. This allows mappers that hold state
+     * to be used without that state being shared between streams.
+     */
+    <T> Join<T> newJoin(final List<Stage<?>> stages, final Supplier<SqlFunction<ResultSet, T>> rsMapperSupplier) {
+        requireNonNull(stages);
+        requireNonNull(rsMapperSupplier);
+        return new JoinImpl<>(
+            () -> JoinSqlUtil.stream(dbmsHandlerComponent, project, stages, rsMapperSupplier.get(), allowStreamIteratorAndSpliterator)
+        );
+    }
+
 }
@@ -0,0 +1,110 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.join.internal.component.stream.sql;
+
+import com.speedment.common.tuple.view.RowBuffer;
+import com.speedment.runtime.config.Project;
+import com.speedment.runtime.core.component.DbmsHandlerComponent;
+import com.speedment.runtime.core.db.SqlFunction;
+import com.speedment.runtime.core.exception.SpeedmentException;
+import com.speedment.runtime.join.Join;
+import com.speedment.runtime.join.internal.component.stream.SqlAdapterMapper;
+import com.speedment.runtime.join.stage.Stage;
+import com.speedment.runtime.join.trait.HasCreateFlatJoin;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Function;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Creates joins where every row is represented by the same view over a
+ * {@link RowBuffer}. The entities of a row are only mapped from the
+ * {@code ResultSet} when they are requested through the view.
+ *
+ * @since 3.1.5
+ */
+public final class SqlCreateFlatJoin
+    extends AbstractSqlHasCreateJoin
+    implements HasCreateFlatJoin {
+
+    public SqlCreateFlatJoin(
+        final DbmsHandlerComponent dbmsHandlerComponent,
+        final Project project,
+        final SqlAdapterMapper sqlAdapterMapper,
+        final boolean allowStreamIteratorAndSpliterator
+    ) {
+        super(dbmsHandlerComponent, project, sqlAdapterMapper, allowStreamIteratorAndSpliterator);
+    }
+
+    @Override
+    public <T> Join<T> createFlatJoin(
+        final List<Stage<?>> stages,
+        final Function<RowBuffer, T> viewConstructor
+    ) {
+        requireNonNull(stages);
+        requireNonNull(viewConstructor);
+
+        @SuppressWarnings("unchecked")
+        final SqlFunction<ResultSet, ?>[] rsMappers = new SqlFunction[stages.size()];
+        for (int i = 0; i < rsMappers.length; i++) {
+            rsMappers[i] = rsMapper(stages, i, stages.get(i).identifier());
+        }
+
+        return newJoin(stages, () -> new FlatRowMapper<>(rsMappers, viewConstructor));
+    }
+
+    /**
+     * Mapper that is created for each stream. It advances the buffer for
+     * every row and returns the same view every time.
+     */
+    private static final class FlatRowMapper<T> implements SqlFunction<ResultSet, T> {
+
+        private final SqlFunction<ResultSet, ?>[] rsMappers;
+        private final RowBuffer buffer;
+        private final T view;
+        private ResultSet current;
+
+        private FlatRowMapper(
+            final SqlFunction<ResultSet, ?>[] rsMappers,
+            final Function<RowBuffer, T> viewConstructor
+        ) {
+            this.rsMappers = rsMappers;
+            this.buffer    = new RowBuffer(rsMappers.length, this::load);
+            this.view      = requireNonNull(viewConstructor.apply(buffer));
+        }
+
+        @Override
+        public T apply(ResultSet rs) {
+            current = rs;
+            buffer.advance();
+            return view;
+        }
+
+        private Object load(int index) {
+            try {
+                return rsMappers[index].apply(current);
+            } catch (final SQLException ex) {
+                throw new SpeedmentException(
+                    "Unable to read element " + index + " of the current row. "
+                    + "Rows must be copied to be used after the stream "
+                    + "has advanced.", ex
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.join.trait;
+
+import com.speedment.common.tuple.view.RowBuffer;
+import com.speedment.runtime.join.Join;
+import com.speedment.runtime.join.stage.Stage;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ *
+ * @since 3.1.5
+ */
+public interface HasCreateFlatJoin {
+
+    /**
+     * Creates and returns a new Join object using the provided {@code pipeline}
+     * whereby elements in the returned Join's {@link Join#stream() } method
+     * are views over a single {@link RowBuffer} that is reused for every row
+     * in the result set. The provided {@code viewConstructor} is invoked once
+     * for each stream and the view it returns is then emitted for every row.
+     * <p>
+     * The slot with index {@code n} in the buffer holds the entity from the
+     * n:th stage in the pipeline and is only decoded if it is accessed.
+     * <p>
+     * The default implementation throws an
+     * {@code UnsupportedOperationException}.
+     *
+     * @param <T> stream type in returned Join object's stream method
+     * @param stages pipeline with information on the joined tables
+     * @param viewConstructor to be applied once per stream to create the view
+     * @return a new Join object
+     *
+     * @throws NullPointerException if any of the provided arguments are
+     * {@code null}
+     * @throws UnsupportedOperationException if flat joins are not supported
+     */
+    default <T> Join<T> createFlatJoin(
+        List<Stage<?>> stages,
+        Function<RowBuffer, T> viewConstructor
+    ) {
+        throw new UnsupportedOperationException(
+            getClass().getSimpleName() + " does not support flat joins."
+        );
+    }
+}
@@ -0,0 +1,50 @@
+/**
+ *
+ * Copyright (c) 2006-2018, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.runtime.join.trait;
+
+import com.speedment.common.tuple.view.TupleView;
+import com.speedment.runtime.join.Join;
+
+/**
+ *
+ * @param <R> RETURN TYPE
+ *
+ * @since 3.1.5
+ */
+public interface HasFlatBuild<R extends TupleView> {
+
+    /**
+     * Creates and returns a new Join object where elements in the Join object's
+     * stream method are flat {@link TupleView views} over a row buffer that is
+     * reused for every row. No tuple is allocated per row and an entity is
+     * only created once the corresponding getter is called.
+     * <p>
+     * A view is only valid until the stream advances to the next row. Call
+     * {@link TupleView#copy()} on every element that is to be retained, for
+     * example before collecting, sorting or buffering the elements. The
+     * stream should not be made parallel unless every element is copied
+     * first.
+     *
+     * @return a new Join object where elements in the Join object's stream
+     * method are reused row views
+     *
+     * @throws IllegalStateException if fields that are added via the {@code on()
+     * } method refers to tables that are not a part of the join.
+     */
+    Join<R> buildFlat();
+
+}
@@ -132,6 +132,21 @@ public final class JoinBuilderTest {
 
     }
 
+    @Test
+    public void testBuildFlat() {
+        bldr.crossJoin(E1Manager.IDENTIFIER)
+            .crossJoin(E2Manager.IDENTIFIER)
+            .buildFlat();
+
+        final List<Stage<?>> expected = expectedOf(
+            entry(E0Manager.IDENTIFIER, noOp()),
+            entry(E1Manager.IDENTIFIER, setJoinTypeTo(JoinType.CROSS_JOIN)),
+            entry(E2Manager.IDENTIFIER, setJoinTypeTo(JoinType.CROSS_JOIN))
+        );
+
+        assertStagesEquals(expected, ss.stages());
+    }
+
     @Test
     public void testLeftJoin() {
         bldr.leftJoinOn(E1.ID1).equal(E0.ID0)
@@ -17,6 +17,7 @@
 package com.speedment.runtime.join.internal.component.join.test_support;
 
 import com.speedment.common.function.*;
+import com.speedment.common.tuple.view.RowBuffer;
 import com.speedment.runtime.config.identifier.TableIdentifier;
 import com.speedment.runtime.join.Join;
 import com.speedment.runtime.join.JoinStreamSupplierComponent;
@@ -34,6 +35,7 @@ import com.speedment.runtime.join.internal.component.join.test_support.JoinTestU
 import com.speedment.runtime.join.stage.Stage;
 import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
@@ -239,6 +241,12 @@ public class MockEmptyJoinStreamSupplierComponent implements JoinStreamSupplierC
         return empty();
     }
 
+    @Override
+    public <T> Join<T> createFlatJoin(List<Stage<?>> stages, Function<RowBuffer, T> viewConstructor) {
+        set(stages, viewConstructor, null, null, null, null, null, null, null, null, null, null);
+        return empty();
+    }
+
     public List<Stage<?>> stages() {
         return stages;
     }